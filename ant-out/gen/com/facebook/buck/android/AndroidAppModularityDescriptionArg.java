@@ -0,0 +1,868 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.core.description.arg.BuildRuleArg;
+import com.facebook.buck.core.description.arg.ConstructorArg;
+import com.facebook.buck.core.description.arg.HasApplicationModuleBlacklist;
+import com.facebook.buck.core.description.arg.HasDeclaredDeps;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.UnconfiguredBuildTarget;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.rules.query.Query;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code AndroidAppModularityDescriptionArg.builder()}.
+ */
+@Generated(from = "AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class AndroidAppModularityDescriptionArg
+    implements AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg {
+  private final ImmutableMap<String, ImmutableList<BuildTarget>> applicationModuleConfigs;
+  private final @Nullable ImmutableMap<String, ImmutableList<String>> applicationModuleDependencies;
+  private final ImmutableSet<BuildTarget> noDx;
+  private final boolean shouldIncludeClasses;
+  private final boolean shouldIncludeLibraries;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final @Nullable UnconfiguredBuildTarget defaultTargetPlatform;
+  private final ImmutableList<UnconfiguredBuildTarget> compatibleWith;
+  private final String name;
+  private final ImmutableSortedSet<BuildTarget> deps;
+  private final @Nullable List<Query> applicationModuleBlacklist;
+
+  private AndroidAppModularityDescriptionArg(AndroidAppModularityDescriptionArg.Builder builder) {
+    this.applicationModuleConfigs = builder.applicationModuleConfigs.build();
+    this.applicationModuleDependencies = builder.applicationModuleDependencies;
+    this.noDx = builder.noDx.build();
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.defaultTargetPlatform = builder.defaultTargetPlatform;
+    this.compatibleWith = builder.compatibleWith.build();
+    this.name = builder.name;
+    this.deps = builder.deps.build();
+    this.applicationModuleBlacklist = builder.applicationModuleBlacklist;
+    if (builder.shouldIncludeClassesIsSet()) {
+      initShim.setShouldIncludeClasses(builder.shouldIncludeClasses);
+    }
+    if (builder.shouldIncludeLibrariesIsSet()) {
+      initShim.setShouldIncludeLibraries(builder.shouldIncludeLibraries);
+    }
+    this.shouldIncludeClasses = initShim.getShouldIncludeClasses();
+    this.shouldIncludeLibraries = initShim.getShouldIncludeLibraries();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg", generator = "Immutables")
+  private final class InitShim {
+    private byte shouldIncludeClassesBuildStage = STAGE_UNINITIALIZED;
+    private boolean shouldIncludeClasses;
+
+    boolean getShouldIncludeClasses() {
+      if (shouldIncludeClassesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (shouldIncludeClassesBuildStage == STAGE_UNINITIALIZED) {
+        shouldIncludeClassesBuildStage = STAGE_INITIALIZING;
+        this.shouldIncludeClasses = getShouldIncludeClassesInitialize();
+        shouldIncludeClassesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.shouldIncludeClasses;
+    }
+
+    void setShouldIncludeClasses(boolean shouldIncludeClasses) {
+      this.shouldIncludeClasses = shouldIncludeClasses;
+      shouldIncludeClassesBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte shouldIncludeLibrariesBuildStage = STAGE_UNINITIALIZED;
+    private boolean shouldIncludeLibraries;
+
+    boolean getShouldIncludeLibraries() {
+      if (shouldIncludeLibrariesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (shouldIncludeLibrariesBuildStage == STAGE_UNINITIALIZED) {
+        shouldIncludeLibrariesBuildStage = STAGE_INITIALIZING;
+        this.shouldIncludeLibraries = getShouldIncludeLibrariesInitialize();
+        shouldIncludeLibrariesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.shouldIncludeLibraries;
+    }
+
+    void setShouldIncludeLibraries(boolean shouldIncludeLibraries) {
+      this.shouldIncludeLibraries = shouldIncludeLibraries;
+      shouldIncludeLibrariesBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (shouldIncludeClassesBuildStage == STAGE_INITIALIZING) attributes.add("shouldIncludeClasses");
+      if (shouldIncludeLibrariesBuildStage == STAGE_INITIALIZING) attributes.add("shouldIncludeLibraries");
+      return "Cannot build AndroidAppModularityDescriptionArg, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  private boolean getShouldIncludeClassesInitialize() {
+    return AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg.super.getShouldIncludeClasses();
+  }
+
+  private boolean getShouldIncludeLibrariesInitialize() {
+    return AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg.super.getShouldIncludeLibraries();
+  }
+
+  /**
+   * @return The value of the {@code applicationModuleConfigs} attribute
+   */
+  @Override
+  public ImmutableMap<String, ImmutableList<BuildTarget>> getApplicationModuleConfigs() {
+    return applicationModuleConfigs;
+  }
+
+  /**
+   * @return The value of the {@code applicationModuleDependencies} attribute
+   */
+  @Override
+  public Optional<ImmutableMap<String, ImmutableList<String>>> getApplicationModuleDependencies() {
+    return Optional.ofNullable(applicationModuleDependencies);
+  }
+
+  /**
+   * @return The value of the {@code noDx} attribute
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getNoDx() {
+    return noDx;
+  }
+
+  /**
+   * @return The value of the {@code shouldIncludeClasses} attribute
+   */
+  @Override
+  public boolean getShouldIncludeClasses() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getShouldIncludeClasses()
+        : this.shouldIncludeClasses;
+  }
+
+  /**
+   * @return The value of the {@code shouldIncludeLibraries} attribute
+   */
+  @Override
+  public boolean getShouldIncludeLibraries() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getShouldIncludeLibraries()
+        : this.shouldIncludeLibraries;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * The name of build target default "new" platform: it is used when a platform is not specified
+   * either globally or in a target which used this target as a dependency.
+   * <p>The value is a build target, but we specify it as string, because this function is not
+   * actually called, but the attr is fetched by name from the raw (unconfigured) target node.
+   */
+  @Override
+  public Optional<UnconfiguredBuildTarget> getDefaultTargetPlatform() {
+    return Optional.ofNullable(defaultTargetPlatform);
+  }
+
+  /**
+   *A list of {@code config_setting} a target is compatible with. 
+   */
+  @Override
+  public ImmutableList<UnconfiguredBuildTarget> getCompatibleWith() {
+    return compatibleWith;
+  }
+
+  /**
+   *Each rule has a name 
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * @return The value of the {@code applicationModuleBlacklist} attribute
+   */
+  @Override
+  public Optional<List<Query>> getApplicationModuleBlacklist() {
+    return Optional.ofNullable(applicationModuleBlacklist);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AndroidAppModularityDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AndroidAppModularityDescriptionArg
+        && equalTo((AndroidAppModularityDescriptionArg) another);
+  }
+
+  private boolean equalTo(AndroidAppModularityDescriptionArg another) {
+    return applicationModuleConfigs.equals(another.applicationModuleConfigs)
+        && Objects.equals(applicationModuleDependencies, another.applicationModuleDependencies)
+        && noDx.equals(another.noDx)
+        && shouldIncludeClasses == another.shouldIncludeClasses
+        && shouldIncludeLibraries == another.shouldIncludeLibraries
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && Objects.equals(defaultTargetPlatform, another.defaultTargetPlatform)
+        && compatibleWith.equals(another.compatibleWith)
+        && name.equals(another.name)
+        && deps.equals(another.deps)
+        && Objects.equals(applicationModuleBlacklist, another.applicationModuleBlacklist);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code applicationModuleConfigs}, {@code applicationModuleDependencies}, {@code noDx}, {@code shouldIncludeClasses}, {@code shouldIncludeLibraries}, {@code licenses}, {@code labels}, {@code defaultTargetPlatform}, {@code compatibleWith}, {@code name}, {@code deps}, {@code applicationModuleBlacklist}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + applicationModuleConfigs.hashCode();
+    h += (h << 5) + Objects.hashCode(applicationModuleDependencies);
+    h += (h << 5) + noDx.hashCode();
+    h += (h << 5) + Booleans.hashCode(shouldIncludeClasses);
+    h += (h << 5) + Booleans.hashCode(shouldIncludeLibraries);
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + Objects.hashCode(defaultTargetPlatform);
+    h += (h << 5) + compatibleWith.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + Objects.hashCode(applicationModuleBlacklist);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AndroidAppModularityDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AndroidAppModularityDescriptionArg")
+        .omitNullValues()
+        .add("applicationModuleConfigs", applicationModuleConfigs)
+        .add("applicationModuleDependencies", applicationModuleDependencies)
+        .add("noDx", noDx)
+        .add("shouldIncludeClasses", shouldIncludeClasses)
+        .add("shouldIncludeLibraries", shouldIncludeLibraries)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("defaultTargetPlatform", defaultTargetPlatform)
+        .add("compatibleWith", compatibleWith)
+        .add("name", name)
+        .add("deps", deps)
+        .add("applicationModuleBlacklist", applicationModuleBlacklist)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link AndroidAppModularityDescriptionArg AndroidAppModularityDescriptionArg}.
+   * @return A new AndroidAppModularityDescriptionArg builder
+   */
+  public static AndroidAppModularityDescriptionArg.Builder builder() {
+    return new AndroidAppModularityDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AndroidAppModularityDescriptionArg AndroidAppModularityDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private static final long OPT_BIT_SHOULD_INCLUDE_CLASSES = 0x1L;
+    private static final long OPT_BIT_SHOULD_INCLUDE_LIBRARIES = 0x2L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private ImmutableMap.Builder<String, ImmutableList<BuildTarget>> applicationModuleConfigs = ImmutableMap.builder();
+    private @Nullable ImmutableMap<String, ImmutableList<String>> applicationModuleDependencies;
+    private ImmutableSet.Builder<BuildTarget> noDx = ImmutableSet.builder();
+    private boolean shouldIncludeClasses;
+    private boolean shouldIncludeLibraries;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private @Nullable UnconfiguredBuildTarget defaultTargetPlatform;
+    private ImmutableList.Builder<UnconfiguredBuildTarget> compatibleWith = ImmutableList.builder();
+    private @Nullable String name;
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+    private @Nullable List<Query> applicationModuleBlacklist;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasApplicationModuleBlacklist} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasApplicationModuleBlacklist instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.BuildRuleArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(BuildRuleArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.ConstructorArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(ConstructorArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AndroidAppModularityDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AndroidAppModularityDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAndroidAppModularityDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof HasApplicationModuleBlacklist) {
+        HasApplicationModuleBlacklist instance = (HasApplicationModuleBlacklist) object;
+        Optional<List<Query>> applicationModuleBlacklistOptional = instance.getApplicationModuleBlacklist();
+        if (applicationModuleBlacklistOptional.isPresent()) {
+          setApplicationModuleBlacklist(applicationModuleBlacklistOptional);
+        }
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+      if (object instanceof BuildRuleArg) {
+        BuildRuleArg instance = (BuildRuleArg) object;
+        addAllLicenses(instance.getLicenses());
+        addAllCompatibleWith(instance.getCompatibleWith());
+        addAllLabels(instance.getLabels());
+        Optional<UnconfiguredBuildTarget> defaultTargetPlatformOptional = instance.getDefaultTargetPlatform();
+        if (defaultTargetPlatformOptional.isPresent()) {
+          setDefaultTargetPlatform(defaultTargetPlatformOptional);
+        }
+      }
+      if (object instanceof ConstructorArg) {
+        ConstructorArg instance = (ConstructorArg) object;
+        setName(instance.getName());
+      }
+      if (object instanceof AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg) {
+        AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg instance = (AndroidAppModularityDescription.AbstractAndroidAppModularityDescriptionArg) object;
+        setShouldIncludeClasses(instance.getShouldIncludeClasses());
+        setShouldIncludeLibraries(instance.getShouldIncludeLibraries());
+        putAllApplicationModuleConfigs(instance.getApplicationModuleConfigs());
+        addAllNoDx(instance.getNoDx());
+        Optional<ImmutableMap<String, ImmutableList<String>>> applicationModuleDependenciesOptional = instance.getApplicationModuleDependencies();
+        if (applicationModuleDependenciesOptional.isPresent()) {
+          setApplicationModuleDependencies(applicationModuleDependenciesOptional);
+        }
+      }
+    }
+
+    /**
+     * Put one entry to the {@link AndroidAppModularityDescriptionArg#getApplicationModuleConfigs() applicationModuleConfigs} map.
+     * @param key The key in the applicationModuleConfigs map
+     * @param value The associated value in the applicationModuleConfigs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putApplicationModuleConfigs(String key, ImmutableList<BuildTarget> value) {
+      this.applicationModuleConfigs.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AndroidAppModularityDescriptionArg#getApplicationModuleConfigs() applicationModuleConfigs} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putApplicationModuleConfigs(Map.Entry<String, ? extends ImmutableList<BuildTarget>> entry) {
+      this.applicationModuleConfigs.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AndroidAppModularityDescriptionArg#getApplicationModuleConfigs() applicationModuleConfigs} map. Nulls are not permitted
+     * @param entries The entries that will be added to the applicationModuleConfigs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setApplicationModuleConfigs(Map<String, ? extends ImmutableList<BuildTarget>> entries) {
+      this.applicationModuleConfigs = ImmutableMap.builder();
+      return putAllApplicationModuleConfigs(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AndroidAppModularityDescriptionArg#getApplicationModuleConfigs() applicationModuleConfigs} map. Nulls are not permitted
+     * @param entries The entries that will be added to the applicationModuleConfigs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllApplicationModuleConfigs(Map<String, ? extends ImmutableList<BuildTarget>> entries) {
+      this.applicationModuleConfigs.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAppModularityDescriptionArg#getApplicationModuleDependencies() applicationModuleDependencies} to applicationModuleDependencies.
+     * @param applicationModuleDependencies The value for applicationModuleDependencies
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setApplicationModuleDependencies(ImmutableMap<String, ImmutableList<String>> applicationModuleDependencies) {
+      this.applicationModuleDependencies = Objects.requireNonNull(applicationModuleDependencies, "applicationModuleDependencies");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAppModularityDescriptionArg#getApplicationModuleDependencies() applicationModuleDependencies} to applicationModuleDependencies.
+     * @param applicationModuleDependencies The value for applicationModuleDependencies
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setApplicationModuleDependencies(Optional<? extends ImmutableMap<String, ImmutableList<String>>> applicationModuleDependencies) {
+      this.applicationModuleDependencies = applicationModuleDependencies.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidAppModularityDescriptionArg#getNoDx() noDx} set.
+     * @param element A noDx element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addNoDx(BuildTarget element) {
+      this.noDx.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidAppModularityDescriptionArg#getNoDx() noDx} set.
+     * @param elements An array of noDx elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addNoDx(BuildTarget... elements) {
+      this.noDx.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidAppModularityDescriptionArg#getNoDx() noDx} set.
+     * @param elements An iterable of noDx elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNoDx(Iterable<? extends BuildTarget> elements) {
+      this.noDx = ImmutableSet.builder();
+      return addAllNoDx(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidAppModularityDescriptionArg#getNoDx() noDx} set.
+     * @param elements An iterable of noDx elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllNoDx(Iterable<? extends BuildTarget> elements) {
+      this.noDx.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidAppModularityDescriptionArg#getShouldIncludeClasses() shouldIncludeClasses} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidAppModularityDescriptionArg#getShouldIncludeClasses() shouldIncludeClasses}.</em>
+     * @param shouldIncludeClasses The value for shouldIncludeClasses 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setShouldIncludeClasses(boolean shouldIncludeClasses) {
+      this.shouldIncludeClasses = shouldIncludeClasses;
+      optBits |= OPT_BIT_SHOULD_INCLUDE_CLASSES;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidAppModularityDescriptionArg#getShouldIncludeLibraries() shouldIncludeLibraries} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidAppModularityDescriptionArg#getShouldIncludeLibraries() shouldIncludeLibraries}.</em>
+     * @param shouldIncludeLibraries The value for shouldIncludeLibraries 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setShouldIncludeLibraries(boolean shouldIncludeLibraries) {
+      this.shouldIncludeLibraries = shouldIncludeLibraries;
+      optBits |= OPT_BIT_SHOULD_INCLUDE_LIBRARIES;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidAppModularityDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidAppModularityDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidAppModularityDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidAppModularityDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidAppModularityDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidAppModularityDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidAppModularityDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidAppModularityDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAppModularityDescriptionArg#getDefaultTargetPlatform() defaultTargetPlatform} to defaultTargetPlatform.
+     * @param defaultTargetPlatform The value for defaultTargetPlatform
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultTargetPlatform(UnconfiguredBuildTarget defaultTargetPlatform) {
+      this.defaultTargetPlatform = Objects.requireNonNull(defaultTargetPlatform, "defaultTargetPlatform");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAppModularityDescriptionArg#getDefaultTargetPlatform() defaultTargetPlatform} to defaultTargetPlatform.
+     * @param defaultTargetPlatform The value for defaultTargetPlatform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultTargetPlatform(Optional<? extends UnconfiguredBuildTarget> defaultTargetPlatform) {
+      this.defaultTargetPlatform = defaultTargetPlatform.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidAppModularityDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param element A compatibleWith element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCompatibleWith(UnconfiguredBuildTarget element) {
+      this.compatibleWith.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidAppModularityDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An array of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCompatibleWith(UnconfiguredBuildTarget... elements) {
+      this.compatibleWith.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidAppModularityDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An iterable of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCompatibleWith(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.compatibleWith = ImmutableList.builder();
+      return addAllCompatibleWith(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidAppModularityDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An iterable of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllCompatibleWith(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.compatibleWith.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidAppModularityDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidAppModularityDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidAppModularityDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidAppModularityDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidAppModularityDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAppModularityDescriptionArg#getApplicationModuleBlacklist() applicationModuleBlacklist} to applicationModuleBlacklist.
+     * @param applicationModuleBlacklist The value for applicationModuleBlacklist
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setApplicationModuleBlacklist(List<Query> applicationModuleBlacklist) {
+      this.applicationModuleBlacklist = Objects.requireNonNull(applicationModuleBlacklist, "applicationModuleBlacklist");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAppModularityDescriptionArg#getApplicationModuleBlacklist() applicationModuleBlacklist} to applicationModuleBlacklist.
+     * @param applicationModuleBlacklist The value for applicationModuleBlacklist
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setApplicationModuleBlacklist(Optional<? extends List<Query>> applicationModuleBlacklist) {
+      this.applicationModuleBlacklist = applicationModuleBlacklist.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AndroidAppModularityDescriptionArg AndroidAppModularityDescriptionArg}.
+     * @return An immutable instance of AndroidAppModularityDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AndroidAppModularityDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AndroidAppModularityDescriptionArg(this);
+    }
+
+    private boolean shouldIncludeClassesIsSet() {
+      return (optBits & OPT_BIT_SHOULD_INCLUDE_CLASSES) != 0;
+    }
+
+    private boolean shouldIncludeLibrariesIsSet() {
+      return (optBits & OPT_BIT_SHOULD_INCLUDE_LIBRARIES) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build AndroidAppModularityDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,824 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.core.description.arg.BuildRuleArg;
+import com.facebook.buck.core.description.arg.ConstructorArg;
+import com.facebook.buck.core.description.arg.HasDeclaredDeps;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.UnconfiguredBuildTarget;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.jvm.java.MaybeRequiredForSourceOnlyAbiArg;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code AndroidPrebuiltAarDescriptionArg.builder()}.
+ */
+@Generated(from = "AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class AndroidPrebuiltAarDescriptionArg
+    implements AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg {
+  private final SourcePath aar;
+  private final @Nullable SourcePath sourceJar;
+  private final @Nullable String javadocUrl;
+  private final @Nullable String mavenCoords;
+  private final boolean requiredForSourceOnlyAbi;
+  private final boolean useSystemLibraryLoader;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final @Nullable UnconfiguredBuildTarget defaultTargetPlatform;
+  private final ImmutableList<UnconfiguredBuildTarget> compatibleWith;
+  private final String name;
+  private final ImmutableSortedSet<BuildTarget> deps;
+
+  private AndroidPrebuiltAarDescriptionArg(AndroidPrebuiltAarDescriptionArg.Builder builder) {
+    this.aar = builder.aar;
+    this.sourceJar = builder.sourceJar;
+    this.javadocUrl = builder.javadocUrl;
+    this.mavenCoords = builder.mavenCoords;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.defaultTargetPlatform = builder.defaultTargetPlatform;
+    this.compatibleWith = builder.compatibleWith.build();
+    this.name = builder.name;
+    this.deps = builder.deps.build();
+    if (builder.requiredForSourceOnlyAbiIsSet()) {
+      initShim.setRequiredForSourceOnlyAbi(builder.requiredForSourceOnlyAbi);
+    }
+    if (builder.useSystemLibraryLoaderIsSet()) {
+      initShim.setUseSystemLibraryLoader(builder.useSystemLibraryLoader);
+    }
+    this.requiredForSourceOnlyAbi = initShim.getRequiredForSourceOnlyAbi();
+    this.useSystemLibraryLoader = initShim.isUseSystemLibraryLoader();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg", generator = "Immutables")
+  private final class InitShim {
+    private byte requiredForSourceOnlyAbiBuildStage = STAGE_UNINITIALIZED;
+    private boolean requiredForSourceOnlyAbi;
+
+    boolean getRequiredForSourceOnlyAbi() {
+      if (requiredForSourceOnlyAbiBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (requiredForSourceOnlyAbiBuildStage == STAGE_UNINITIALIZED) {
+        requiredForSourceOnlyAbiBuildStage = STAGE_INITIALIZING;
+        this.requiredForSourceOnlyAbi = getRequiredForSourceOnlyAbiInitialize();
+        requiredForSourceOnlyAbiBuildStage = STAGE_INITIALIZED;
+      }
+      return this.requiredForSourceOnlyAbi;
+    }
+
+    void setRequiredForSourceOnlyAbi(boolean requiredForSourceOnlyAbi) {
+      this.requiredForSourceOnlyAbi = requiredForSourceOnlyAbi;
+      requiredForSourceOnlyAbiBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte useSystemLibraryLoaderBuildStage = STAGE_UNINITIALIZED;
+    private boolean useSystemLibraryLoader;
+
+    boolean isUseSystemLibraryLoader() {
+      if (useSystemLibraryLoaderBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (useSystemLibraryLoaderBuildStage == STAGE_UNINITIALIZED) {
+        useSystemLibraryLoaderBuildStage = STAGE_INITIALIZING;
+        this.useSystemLibraryLoader = isUseSystemLibraryLoaderInitialize();
+        useSystemLibraryLoaderBuildStage = STAGE_INITIALIZED;
+      }
+      return this.useSystemLibraryLoader;
+    }
+
+    void setUseSystemLibraryLoader(boolean useSystemLibraryLoader) {
+      this.useSystemLibraryLoader = useSystemLibraryLoader;
+      useSystemLibraryLoaderBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (requiredForSourceOnlyAbiBuildStage == STAGE_INITIALIZING) attributes.add("requiredForSourceOnlyAbi");
+      if (useSystemLibraryLoaderBuildStage == STAGE_INITIALIZING) attributes.add("useSystemLibraryLoader");
+      return "Cannot build AndroidPrebuiltAarDescriptionArg, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  private boolean getRequiredForSourceOnlyAbiInitialize() {
+    return AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg.super.getRequiredForSourceOnlyAbi();
+  }
+
+  private boolean isUseSystemLibraryLoaderInitialize() {
+    return AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg.super.isUseSystemLibraryLoader();
+  }
+
+  /**
+   * @return The value of the {@code aar} attribute
+   */
+  @Override
+  public SourcePath getAar() {
+    return aar;
+  }
+
+  /**
+   * @return The value of the {@code sourceJar} attribute
+   */
+  @Override
+  public Optional<SourcePath> getSourceJar() {
+    return Optional.ofNullable(sourceJar);
+  }
+
+  /**
+   * @return The value of the {@code javadocUrl} attribute
+   */
+  @Override
+  public Optional<String> getJavadocUrl() {
+    return Optional.ofNullable(javadocUrl);
+  }
+
+  /**
+   * @return The value of the {@code mavenCoords} attribute
+   */
+  @Override
+  public Optional<String> getMavenCoords() {
+    return Optional.ofNullable(mavenCoords);
+  }
+
+  /**
+   * @return The value of the {@code requiredForSourceOnlyAbi} attribute
+   */
+  @Override
+  public boolean getRequiredForSourceOnlyAbi() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getRequiredForSourceOnlyAbi()
+        : this.requiredForSourceOnlyAbi;
+  }
+
+  /**
+   * If an AAR bundles a native .so as well as java code that uses System.loadLibrary() to
+   * dynamically link this so, then we need to disable some optimizations for these libraries,
+   * namely native exopackage code, SoMerge, and ReLinker
+   */
+  @Override
+  public boolean isUseSystemLibraryLoader() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isUseSystemLibraryLoader()
+        : this.useSystemLibraryLoader;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * The name of build target default "new" platform: it is used when a platform is not specified
+   * either globally or in a target which used this target as a dependency.
+   * <p>The value is a build target, but we specify it as string, because this function is not
+   * actually called, but the attr is fetched by name from the raw (unconfigured) target node.
+   */
+  @Override
+  public Optional<UnconfiguredBuildTarget> getDefaultTargetPlatform() {
+    return Optional.ofNullable(defaultTargetPlatform);
+  }
+
+  /**
+   *A list of {@code config_setting} a target is compatible with. 
+   */
+  @Override
+  public ImmutableList<UnconfiguredBuildTarget> getCompatibleWith() {
+    return compatibleWith;
+  }
+
+  /**
+   *Each rule has a name 
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AndroidPrebuiltAarDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AndroidPrebuiltAarDescriptionArg
+        && equalTo((AndroidPrebuiltAarDescriptionArg) another);
+  }
+
+  private boolean equalTo(AndroidPrebuiltAarDescriptionArg another) {
+    return aar.equals(another.aar)
+        && Objects.equals(sourceJar, another.sourceJar)
+        && Objects.equals(javadocUrl, another.javadocUrl)
+        && Objects.equals(mavenCoords, another.mavenCoords)
+        && requiredForSourceOnlyAbi == another.requiredForSourceOnlyAbi
+        && useSystemLibraryLoader == another.useSystemLibraryLoader
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && Objects.equals(defaultTargetPlatform, another.defaultTargetPlatform)
+        && compatibleWith.equals(another.compatibleWith)
+        && name.equals(another.name)
+        && deps.equals(another.deps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code aar}, {@code sourceJar}, {@code javadocUrl}, {@code mavenCoords}, {@code requiredForSourceOnlyAbi}, {@code useSystemLibraryLoader}, {@code licenses}, {@code labels}, {@code defaultTargetPlatform}, {@code compatibleWith}, {@code name}, {@code deps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + aar.hashCode();
+    h += (h << 5) + Objects.hashCode(sourceJar);
+    h += (h << 5) + Objects.hashCode(javadocUrl);
+    h += (h << 5) + Objects.hashCode(mavenCoords);
+    h += (h << 5) + Booleans.hashCode(requiredForSourceOnlyAbi);
+    h += (h << 5) + Booleans.hashCode(useSystemLibraryLoader);
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + Objects.hashCode(defaultTargetPlatform);
+    h += (h << 5) + compatibleWith.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + deps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AndroidPrebuiltAarDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AndroidPrebuiltAarDescriptionArg")
+        .omitNullValues()
+        .add("aar", aar)
+        .add("sourceJar", sourceJar)
+        .add("javadocUrl", javadocUrl)
+        .add("mavenCoords", mavenCoords)
+        .add("requiredForSourceOnlyAbi", requiredForSourceOnlyAbi)
+        .add("useSystemLibraryLoader", useSystemLibraryLoader)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("defaultTargetPlatform", defaultTargetPlatform)
+        .add("compatibleWith", compatibleWith)
+        .add("name", name)
+        .add("deps", deps)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link AndroidPrebuiltAarDescriptionArg AndroidPrebuiltAarDescriptionArg}.
+   * @return A new AndroidPrebuiltAarDescriptionArg builder
+   */
+  public static AndroidPrebuiltAarDescriptionArg.Builder builder() {
+    return new AndroidPrebuiltAarDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AndroidPrebuiltAarDescriptionArg AndroidPrebuiltAarDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_AAR = 0x1L;
+    private static final long INIT_BIT_NAME = 0x2L;
+    private static final long OPT_BIT_REQUIRED_FOR_SOURCE_ONLY_ABI = 0x1L;
+    private static final long OPT_BIT_USE_SYSTEM_LIBRARY_LOADER = 0x2L;
+    private long initBits = 0x3L;
+    private long optBits;
+
+    private @Nullable SourcePath aar;
+    private @Nullable SourcePath sourceJar;
+    private @Nullable String javadocUrl;
+    private @Nullable String mavenCoords;
+    private boolean requiredForSourceOnlyAbi;
+    private boolean useSystemLibraryLoader;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private @Nullable UnconfiguredBuildTarget defaultTargetPlatform;
+    private ImmutableList.Builder<UnconfiguredBuildTarget> compatibleWith = ImmutableList.builder();
+    private @Nullable String name;
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AndroidPrebuiltAarDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AndroidPrebuiltAarDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAndroidPrebuiltAarDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.BuildRuleArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(BuildRuleArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.ConstructorArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(ConstructorArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.jvm.java.MaybeRequiredForSourceOnlyAbiArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(MaybeRequiredForSourceOnlyAbiArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      @Var long bits = 0;
+      if (object instanceof AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg) {
+        AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg instance = (AndroidPrebuiltAarDescription.AbstractAndroidPrebuiltAarDescriptionArg) object;
+        Optional<String> mavenCoordsOptional = instance.getMavenCoords();
+        if (mavenCoordsOptional.isPresent()) {
+          setMavenCoords(mavenCoordsOptional);
+        }
+        setUseSystemLibraryLoader(instance.isUseSystemLibraryLoader());
+        setAar(instance.getAar());
+        Optional<SourcePath> sourceJarOptional = instance.getSourceJar();
+        if (sourceJarOptional.isPresent()) {
+          setSourceJar(sourceJarOptional);
+        }
+        Optional<String> javadocUrlOptional = instance.getJavadocUrl();
+        if (javadocUrlOptional.isPresent()) {
+          setJavadocUrl(javadocUrlOptional);
+        }
+        if ((bits & 0x1L) == 0) {
+          setRequiredForSourceOnlyAbi(instance.getRequiredForSourceOnlyAbi());
+          bits |= 0x1L;
+        }
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+      if (object instanceof BuildRuleArg) {
+        BuildRuleArg instance = (BuildRuleArg) object;
+        addAllLicenses(instance.getLicenses());
+        addAllCompatibleWith(instance.getCompatibleWith());
+        addAllLabels(instance.getLabels());
+        Optional<UnconfiguredBuildTarget> defaultTargetPlatformOptional = instance.getDefaultTargetPlatform();
+        if (defaultTargetPlatformOptional.isPresent()) {
+          setDefaultTargetPlatform(defaultTargetPlatformOptional);
+        }
+      }
+      if (object instanceof ConstructorArg) {
+        ConstructorArg instance = (ConstructorArg) object;
+        setName(instance.getName());
+      }
+      if (object instanceof MaybeRequiredForSourceOnlyAbiArg) {
+        MaybeRequiredForSourceOnlyAbiArg instance = (MaybeRequiredForSourceOnlyAbiArg) object;
+        if ((bits & 0x1L) == 0) {
+          setRequiredForSourceOnlyAbi(instance.getRequiredForSourceOnlyAbi());
+          bits |= 0x1L;
+        }
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidPrebuiltAarDescriptionArg#getAar() aar} attribute.
+     * @param aar The value for aar 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAar(SourcePath aar) {
+      this.aar = Objects.requireNonNull(aar, "aar");
+      initBits &= ~INIT_BIT_AAR;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidPrebuiltAarDescriptionArg#getSourceJar() sourceJar} to sourceJar.
+     * @param sourceJar The value for sourceJar
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSourceJar(SourcePath sourceJar) {
+      this.sourceJar = Objects.requireNonNull(sourceJar, "sourceJar");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidPrebuiltAarDescriptionArg#getSourceJar() sourceJar} to sourceJar.
+     * @param sourceJar The value for sourceJar
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSourceJar(Optional<? extends SourcePath> sourceJar) {
+      this.sourceJar = sourceJar.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidPrebuiltAarDescriptionArg#getJavadocUrl() javadocUrl} to javadocUrl.
+     * @param javadocUrl The value for javadocUrl
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setJavadocUrl(String javadocUrl) {
+      this.javadocUrl = Objects.requireNonNull(javadocUrl, "javadocUrl");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidPrebuiltAarDescriptionArg#getJavadocUrl() javadocUrl} to javadocUrl.
+     * @param javadocUrl The value for javadocUrl
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setJavadocUrl(Optional<String> javadocUrl) {
+      this.javadocUrl = javadocUrl.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidPrebuiltAarDescriptionArg#getMavenCoords() mavenCoords} to mavenCoords.
+     * @param mavenCoords The value for mavenCoords
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMavenCoords(String mavenCoords) {
+      this.mavenCoords = Objects.requireNonNull(mavenCoords, "mavenCoords");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidPrebuiltAarDescriptionArg#getMavenCoords() mavenCoords} to mavenCoords.
+     * @param mavenCoords The value for mavenCoords
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMavenCoords(Optional<String> mavenCoords) {
+      this.mavenCoords = mavenCoords.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidPrebuiltAarDescriptionArg#getRequiredForSourceOnlyAbi() requiredForSourceOnlyAbi} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidPrebuiltAarDescriptionArg#getRequiredForSourceOnlyAbi() requiredForSourceOnlyAbi}.</em>
+     * @param requiredForSourceOnlyAbi The value for requiredForSourceOnlyAbi 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRequiredForSourceOnlyAbi(boolean requiredForSourceOnlyAbi) {
+      this.requiredForSourceOnlyAbi = requiredForSourceOnlyAbi;
+      optBits |= OPT_BIT_REQUIRED_FOR_SOURCE_ONLY_ABI;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidPrebuiltAarDescriptionArg#isUseSystemLibraryLoader() useSystemLibraryLoader} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidPrebuiltAarDescriptionArg#isUseSystemLibraryLoader() useSystemLibraryLoader}.</em>
+     * @param useSystemLibraryLoader The value for useSystemLibraryLoader 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setUseSystemLibraryLoader(boolean useSystemLibraryLoader) {
+      this.useSystemLibraryLoader = useSystemLibraryLoader;
+      optBits |= OPT_BIT_USE_SYSTEM_LIBRARY_LOADER;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidPrebuiltAarDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidPrebuiltAarDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidPrebuiltAarDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidPrebuiltAarDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidPrebuiltAarDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidPrebuiltAarDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidPrebuiltAarDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidPrebuiltAarDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidPrebuiltAarDescriptionArg#getDefaultTargetPlatform() defaultTargetPlatform} to defaultTargetPlatform.
+     * @param defaultTargetPlatform The value for defaultTargetPlatform
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultTargetPlatform(UnconfiguredBuildTarget defaultTargetPlatform) {
+      this.defaultTargetPlatform = Objects.requireNonNull(defaultTargetPlatform, "defaultTargetPlatform");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidPrebuiltAarDescriptionArg#getDefaultTargetPlatform() defaultTargetPlatform} to defaultTargetPlatform.
+     * @param defaultTargetPlatform The value for defaultTargetPlatform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultTargetPlatform(Optional<? extends UnconfiguredBuildTarget> defaultTargetPlatform) {
+      this.defaultTargetPlatform = defaultTargetPlatform.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidPrebuiltAarDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param element A compatibleWith element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCompatibleWith(UnconfiguredBuildTarget element) {
+      this.compatibleWith.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidPrebuiltAarDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An array of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCompatibleWith(UnconfiguredBuildTarget... elements) {
+      this.compatibleWith.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidPrebuiltAarDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An iterable of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCompatibleWith(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.compatibleWith = ImmutableList.builder();
+      return addAllCompatibleWith(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidPrebuiltAarDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An iterable of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllCompatibleWith(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.compatibleWith.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidPrebuiltAarDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidPrebuiltAarDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidPrebuiltAarDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidPrebuiltAarDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidPrebuiltAarDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AndroidPrebuiltAarDescriptionArg AndroidPrebuiltAarDescriptionArg}.
+     * @return An immutable instance of AndroidPrebuiltAarDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AndroidPrebuiltAarDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AndroidPrebuiltAarDescriptionArg(this);
+    }
+
+    private boolean requiredForSourceOnlyAbiIsSet() {
+      return (optBits & OPT_BIT_REQUIRED_FOR_SOURCE_ONLY_ABI) != 0;
+    }
+
+    private boolean useSystemLibraryLoaderIsSet() {
+      return (optBits & OPT_BIT_USE_SYSTEM_LIBRARY_LOADER) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_AAR) != 0) attributes.add("aar");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build AndroidPrebuiltAarDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
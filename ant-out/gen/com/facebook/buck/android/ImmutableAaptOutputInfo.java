@@ -0,0 +1,132 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AaptOutputInfo}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableAaptOutputInfo.of()}.
+ */
+@Generated(from = "AaptOutputInfo", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableAaptOutputInfo extends AaptOutputInfo {
+  private final SourcePath pathToRDotTxt;
+  private final SourcePath primaryResourcesApkPath;
+  private final SourcePath androidManifestXml;
+  private final SourcePath aaptGeneratedProguardConfigFile;
+
+  private ImmutableAaptOutputInfo(
+      SourcePath pathToRDotTxt,
+      SourcePath primaryResourcesApkPath,
+      SourcePath androidManifestXml,
+      SourcePath aaptGeneratedProguardConfigFile) {
+    this.pathToRDotTxt = Objects.requireNonNull(pathToRDotTxt, "pathToRDotTxt");
+    this.primaryResourcesApkPath = Objects.requireNonNull(primaryResourcesApkPath, "primaryResourcesApkPath");
+    this.androidManifestXml = Objects.requireNonNull(androidManifestXml, "androidManifestXml");
+    this.aaptGeneratedProguardConfigFile = Objects.requireNonNull(aaptGeneratedProguardConfigFile, "aaptGeneratedProguardConfigFile");
+  }
+
+  /**
+   * @return The value of the {@code pathToRDotTxt} attribute
+   */
+  @Override
+  public SourcePath getPathToRDotTxt() {
+    return pathToRDotTxt;
+  }
+
+  /**
+   * @return The value of the {@code primaryResourcesApkPath} attribute
+   */
+  @Override
+  public SourcePath getPrimaryResourcesApkPath() {
+    return primaryResourcesApkPath;
+  }
+
+  /**
+   * @return The value of the {@code androidManifestXml} attribute
+   */
+  @Override
+  public SourcePath getAndroidManifestXml() {
+    return androidManifestXml;
+  }
+
+  /**
+   * @return The value of the {@code aaptGeneratedProguardConfigFile} attribute
+   */
+  @Override
+  public SourcePath getAaptGeneratedProguardConfigFile() {
+    return aaptGeneratedProguardConfigFile;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableAaptOutputInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableAaptOutputInfo
+        && equalTo((ImmutableAaptOutputInfo) another);
+  }
+
+  private boolean equalTo(ImmutableAaptOutputInfo another) {
+    return pathToRDotTxt.equals(another.pathToRDotTxt)
+        && primaryResourcesApkPath.equals(another.primaryResourcesApkPath)
+        && androidManifestXml.equals(another.androidManifestXml)
+        && aaptGeneratedProguardConfigFile.equals(another.aaptGeneratedProguardConfigFile);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code pathToRDotTxt}, {@code primaryResourcesApkPath}, {@code androidManifestXml}, {@code aaptGeneratedProguardConfigFile}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + pathToRDotTxt.hashCode();
+    h += (h << 5) + primaryResourcesApkPath.hashCode();
+    h += (h << 5) + androidManifestXml.hashCode();
+    h += (h << 5) + aaptGeneratedProguardConfigFile.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AaptOutputInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AaptOutputInfo")
+        .omitNullValues()
+        .add("pathToRDotTxt", pathToRDotTxt)
+        .add("primaryResourcesApkPath", primaryResourcesApkPath)
+        .add("androidManifestXml", androidManifestXml)
+        .add("aaptGeneratedProguardConfigFile", aaptGeneratedProguardConfigFile)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code AaptOutputInfo} instance.
+   * @param pathToRDotTxt The value for the {@code pathToRDotTxt} attribute
+   * @param primaryResourcesApkPath The value for the {@code primaryResourcesApkPath} attribute
+   * @param androidManifestXml The value for the {@code androidManifestXml} attribute
+   * @param aaptGeneratedProguardConfigFile The value for the {@code aaptGeneratedProguardConfigFile} attribute
+   * @return An immutable AaptOutputInfo instance
+   */
+  public static ImmutableAaptOutputInfo of(SourcePath pathToRDotTxt, SourcePath primaryResourcesApkPath, SourcePath androidManifestXml, SourcePath aaptGeneratedProguardConfigFile) {
+    return new ImmutableAaptOutputInfo(pathToRDotTxt, primaryResourcesApkPath, androidManifestXml, aaptGeneratedProguardConfigFile);
+  }
+}
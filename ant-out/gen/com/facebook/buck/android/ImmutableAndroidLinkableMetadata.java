@@ -0,0 +1,119 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.android.apkmodule.APKModule;
+import com.facebook.buck.android.toolchain.ndk.TargetCpuType;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AndroidLinkableMetadata}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableAndroidLinkableMetadata.of()}.
+ */
+@Generated(from = "AndroidLinkableMetadata", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableAndroidLinkableMetadata
+    implements AndroidLinkableMetadata {
+  private final String soName;
+  private final TargetCpuType targetCpuType;
+  private final APKModule apkModule;
+
+  private ImmutableAndroidLinkableMetadata(
+      String soName,
+      TargetCpuType targetCpuType,
+      APKModule apkModule) {
+    this.soName = Objects.requireNonNull(soName, "soName");
+    this.targetCpuType = Objects.requireNonNull(targetCpuType, "targetCpuType");
+    this.apkModule = Objects.requireNonNull(apkModule, "apkModule");
+  }
+
+  /**
+   * @return The value of the {@code soName} attribute
+   */
+  @Override
+  public String getSoName() {
+    return soName;
+  }
+
+  /**
+   * @return The value of the {@code targetCpuType} attribute
+   */
+  @Override
+  public TargetCpuType getTargetCpuType() {
+    return targetCpuType;
+  }
+
+  /**
+   * @return The value of the {@code apkModule} attribute
+   */
+  @Override
+  public APKModule getApkModule() {
+    return apkModule;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableAndroidLinkableMetadata} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableAndroidLinkableMetadata
+        && equalTo((ImmutableAndroidLinkableMetadata) another);
+  }
+
+  private boolean equalTo(ImmutableAndroidLinkableMetadata another) {
+    return soName.equals(another.soName)
+        && targetCpuType.equals(another.targetCpuType)
+        && apkModule.equals(another.apkModule);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code soName}, {@code targetCpuType}, {@code apkModule}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + soName.hashCode();
+    h += (h << 5) + targetCpuType.hashCode();
+    h += (h << 5) + apkModule.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AndroidLinkableMetadata} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AndroidLinkableMetadata")
+        .omitNullValues()
+        .add("soName", soName)
+        .add("targetCpuType", targetCpuType)
+        .add("apkModule", apkModule)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code AndroidLinkableMetadata} instance.
+   * @param soName The value for the {@code soName} attribute
+   * @param targetCpuType The value for the {@code targetCpuType} attribute
+   * @param apkModule The value for the {@code apkModule} attribute
+   * @return An immutable AndroidLinkableMetadata instance
+   */
+  public static ImmutableAndroidLinkableMetadata of(String soName, TargetCpuType targetCpuType, APKModule apkModule) {
+    return new ImmutableAndroidLinkableMetadata(soName, targetCpuType, apkModule);
+  }
+}
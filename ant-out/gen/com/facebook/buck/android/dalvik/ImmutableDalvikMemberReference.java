@@ -0,0 +1,99 @@
+package com.facebook.buck.android.dalvik;
+
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link DalvikMemberReference}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableDalvikMemberReference.of()}.
+ */
+@Generated(from = "DalvikMemberReference", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableDalvikMemberReference
+    extends DalvikMemberReference {
+  private final String className;
+  private final String memberName;
+  private final String descriptor;
+
+  private ImmutableDalvikMemberReference(String className, String memberName, String descriptor) {
+    this.className = Objects.requireNonNull(className, "className");
+    this.memberName = Objects.requireNonNull(memberName, "memberName");
+    this.descriptor = Objects.requireNonNull(descriptor, "descriptor");
+  }
+
+  /**
+   * @return The value of the {@code className} attribute
+   */
+  @Override
+  String getClassName() {
+    return className;
+  }
+
+  /**
+   * @return The value of the {@code memberName} attribute
+   */
+  @Override
+  String getMemberName() {
+    return memberName;
+  }
+
+  /**
+   * @return The value of the {@code descriptor} attribute
+   */
+  @Override
+  String getDescriptor() {
+    return descriptor;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableDalvikMemberReference} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableDalvikMemberReference
+        && equalTo((ImmutableDalvikMemberReference) another);
+  }
+
+  private boolean equalTo(ImmutableDalvikMemberReference another) {
+    return className.equals(another.className)
+        && memberName.equals(another.memberName)
+        && descriptor.equals(another.descriptor);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code className}, {@code memberName}, {@code descriptor}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + className.hashCode();
+    h += (h << 5) + memberName.hashCode();
+    h += (h << 5) + descriptor.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code DalvikMemberReference} instance.
+   * @param className The value for the {@code className} attribute
+   * @param memberName The value for the {@code memberName} attribute
+   * @param descriptor The value for the {@code descriptor} attribute
+   * @return An immutable DalvikMemberReference instance
+   */
+  public static ImmutableDalvikMemberReference of(String className, String memberName, String descriptor) {
+    return new ImmutableDalvikMemberReference(className, memberName, descriptor);
+  }
+}
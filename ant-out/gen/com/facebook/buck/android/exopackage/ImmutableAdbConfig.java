@@ -0,0 +1,165 @@
+package com.facebook.buck.android.exopackage;
+
+import com.facebook.buck.core.config.BuckConfig;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AdbConfig}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableAdbConfig.of()}.
+ */
+@Generated(from = "AdbConfig", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableAdbConfig extends AdbConfig {
+  private final BuckConfig delegate;
+
+  private ImmutableAdbConfig(BuckConfig delegate) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate");
+  }
+
+  /**
+   * @return The value of the {@code delegate} attribute
+   */
+  @Override
+  public BuckConfig getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableAdbConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableAdbConfig
+        && equalTo((ImmutableAdbConfig) another);
+  }
+
+  private boolean equalTo(ImmutableAdbConfig another) {
+    return delegate.equals(another.delegate);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code delegate}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + delegate.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AdbConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AdbConfig")
+        .omitNullValues()
+        .add("delegate", delegate)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long RESTART_ADB_ON_FAILURE_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean restartAdbOnFailure;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AdbConfig#getRestartAdbOnFailure() restartAdbOnFailure} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code restartAdbOnFailure} attribute
+   */
+  @Override
+  public boolean getRestartAdbOnFailure() {
+    if ((lazyInitBitmap & RESTART_ADB_ON_FAILURE_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & RESTART_ADB_ON_FAILURE_LAZY_INIT_BIT) == 0) {
+          this.restartAdbOnFailure = super.getRestartAdbOnFailure();
+          lazyInitBitmap |= RESTART_ADB_ON_FAILURE_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return restartAdbOnFailure;
+  }
+
+  private static final long ADB_RAPID_INSTALL_TYPES_LAZY_INIT_BIT = 0x2L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableList<String> adbRapidInstallTypes;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AdbConfig#getAdbRapidInstallTypes() adbRapidInstallTypes} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code adbRapidInstallTypes} attribute
+   */
+  @Override
+  public ImmutableList<String> getAdbRapidInstallTypes() {
+    if ((lazyInitBitmap & ADB_RAPID_INSTALL_TYPES_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & ADB_RAPID_INSTALL_TYPES_LAZY_INIT_BIT) == 0) {
+          this.adbRapidInstallTypes = Objects.requireNonNull(super.getAdbRapidInstallTypes(), "adbRapidInstallTypes");
+          lazyInitBitmap |= ADB_RAPID_INSTALL_TYPES_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return adbRapidInstallTypes;
+  }
+
+  private static final long MULTI_INSTALL_MODE_LAZY_INIT_BIT = 0x4L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean multiInstallMode;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AdbConfig#getMultiInstallMode() multiInstallMode} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code multiInstallMode} attribute
+   */
+  @Override
+  public boolean getMultiInstallMode() {
+    if ((lazyInitBitmap & MULTI_INSTALL_MODE_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & MULTI_INSTALL_MODE_LAZY_INIT_BIT) == 0) {
+          this.multiInstallMode = super.getMultiInstallMode();
+          lazyInitBitmap |= MULTI_INSTALL_MODE_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return multiInstallMode;
+  }
+
+  /**
+   * Construct a new immutable {@code AdbConfig} instance.
+   * @param delegate The value for the {@code delegate} attribute
+   * @return An immutable AdbConfig instance
+   */
+  public static ImmutableAdbConfig of(BuckConfig delegate) {
+    return new ImmutableAdbConfig(delegate);
+  }
+}
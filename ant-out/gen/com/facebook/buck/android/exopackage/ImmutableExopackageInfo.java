@@ -0,0 +1,276 @@
+package com.facebook.buck.android.exopackage;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ExopackageInfo}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new ExopackageInfo.Builder()}.
+ */
+@Generated(from = "ExopackageInfo", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableExopackageInfo extends ExopackageInfo {
+  private final @Nullable ExopackageInfo.DexInfo dexInfo;
+  private final @Nullable ImmutableList<ExopackageInfo.DexInfo> moduleInfo;
+  private final @Nullable ExopackageInfo.NativeLibsInfo nativeLibsInfo;
+  private final @Nullable ExopackageInfo.ResourcesInfo resourcesInfo;
+
+  private ImmutableExopackageInfo(ImmutableExopackageInfo.Builder builder) {
+    this.dexInfo = builder.dexInfo;
+    this.moduleInfo = builder.moduleInfo;
+    this.nativeLibsInfo = builder.nativeLibsInfo;
+    this.resourcesInfo = builder.resourcesInfo;
+  }
+
+  /**
+   * @return The value of the {@code dexInfo} attribute
+   */
+  @Override
+  public Optional<ExopackageInfo.DexInfo> getDexInfo() {
+    return Optional.ofNullable(dexInfo);
+  }
+
+  /**
+   * @return The value of the {@code moduleInfo} attribute
+   */
+  @Override
+  public Optional<ImmutableList<ExopackageInfo.DexInfo>> getModuleInfo() {
+    return Optional.ofNullable(moduleInfo);
+  }
+
+  /**
+   * @return The value of the {@code nativeLibsInfo} attribute
+   */
+  @Override
+  public Optional<ExopackageInfo.NativeLibsInfo> getNativeLibsInfo() {
+    return Optional.ofNullable(nativeLibsInfo);
+  }
+
+  /**
+   * @return The value of the {@code resourcesInfo} attribute
+   */
+  @Override
+  public Optional<ExopackageInfo.ResourcesInfo> getResourcesInfo() {
+    return Optional.ofNullable(resourcesInfo);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableExopackageInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableExopackageInfo
+        && equalTo((ImmutableExopackageInfo) another);
+  }
+
+  private boolean equalTo(ImmutableExopackageInfo another) {
+    return Objects.equals(dexInfo, another.dexInfo)
+        && Objects.equals(moduleInfo, another.moduleInfo)
+        && Objects.equals(nativeLibsInfo, another.nativeLibsInfo)
+        && Objects.equals(resourcesInfo, another.resourcesInfo);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code dexInfo}, {@code moduleInfo}, {@code nativeLibsInfo}, {@code resourcesInfo}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(dexInfo);
+    h += (h << 5) + Objects.hashCode(moduleInfo);
+    h += (h << 5) + Objects.hashCode(nativeLibsInfo);
+    h += (h << 5) + Objects.hashCode(resourcesInfo);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ExopackageInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ExopackageInfo")
+        .omitNullValues()
+        .add("dexInfo", dexInfo)
+        .add("moduleInfo", moduleInfo)
+        .add("nativeLibsInfo", nativeLibsInfo)
+        .add("resourcesInfo", resourcesInfo)
+        .toString();
+  }
+
+
+  private static ImmutableExopackageInfo validate(ImmutableExopackageInfo instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Builds instances of type {@link ExopackageInfo ExopackageInfo}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "ExopackageInfo", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private @Nullable ExopackageInfo.DexInfo dexInfo;
+    private @Nullable ImmutableList<ExopackageInfo.DexInfo> moduleInfo;
+    private @Nullable ExopackageInfo.NativeLibsInfo nativeLibsInfo;
+    private @Nullable ExopackageInfo.ResourcesInfo resourcesInfo;
+
+    /**
+     * Creates a builder for {@link ExopackageInfo ExopackageInfo} instances.
+     */
+    public Builder() {
+      if (!(this instanceof ExopackageInfo.Builder)) {
+        throw new UnsupportedOperationException("Use: new ExopackageInfo.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ExopackageInfo} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExopackageInfo.Builder from(ExopackageInfo instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<ExopackageInfo.DexInfo> dexInfoOptional = instance.getDexInfo();
+      if (dexInfoOptional.isPresent()) {
+        setDexInfo(dexInfoOptional);
+      }
+      Optional<ImmutableList<ExopackageInfo.DexInfo>> moduleInfoOptional = instance.getModuleInfo();
+      if (moduleInfoOptional.isPresent()) {
+        setModuleInfo(moduleInfoOptional);
+      }
+      Optional<ExopackageInfo.NativeLibsInfo> nativeLibsInfoOptional = instance.getNativeLibsInfo();
+      if (nativeLibsInfoOptional.isPresent()) {
+        setNativeLibsInfo(nativeLibsInfoOptional);
+      }
+      Optional<ExopackageInfo.ResourcesInfo> resourcesInfoOptional = instance.getResourcesInfo();
+      if (resourcesInfoOptional.isPresent()) {
+        setResourcesInfo(resourcesInfoOptional);
+      }
+      return (ExopackageInfo.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ExopackageInfo#getDexInfo() dexInfo} to dexInfo.
+     * @param dexInfo The value for dexInfo
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExopackageInfo.Builder setDexInfo(ExopackageInfo.DexInfo dexInfo) {
+      this.dexInfo = Objects.requireNonNull(dexInfo, "dexInfo");
+      return (ExopackageInfo.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ExopackageInfo#getDexInfo() dexInfo} to dexInfo.
+     * @param dexInfo The value for dexInfo
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExopackageInfo.Builder setDexInfo(Optional<? extends ExopackageInfo.DexInfo> dexInfo) {
+      this.dexInfo = dexInfo.orElse(null);
+      return (ExopackageInfo.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ExopackageInfo#getModuleInfo() moduleInfo} to moduleInfo.
+     * @param moduleInfo The value for moduleInfo
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExopackageInfo.Builder setModuleInfo(ImmutableList<ExopackageInfo.DexInfo> moduleInfo) {
+      this.moduleInfo = Objects.requireNonNull(moduleInfo, "moduleInfo");
+      return (ExopackageInfo.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ExopackageInfo#getModuleInfo() moduleInfo} to moduleInfo.
+     * @param moduleInfo The value for moduleInfo
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExopackageInfo.Builder setModuleInfo(Optional<? extends ImmutableList<ExopackageInfo.DexInfo>> moduleInfo) {
+      this.moduleInfo = moduleInfo.orElse(null);
+      return (ExopackageInfo.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ExopackageInfo#getNativeLibsInfo() nativeLibsInfo} to nativeLibsInfo.
+     * @param nativeLibsInfo The value for nativeLibsInfo
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExopackageInfo.Builder setNativeLibsInfo(ExopackageInfo.NativeLibsInfo nativeLibsInfo) {
+      this.nativeLibsInfo = Objects.requireNonNull(nativeLibsInfo, "nativeLibsInfo");
+      return (ExopackageInfo.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ExopackageInfo#getNativeLibsInfo() nativeLibsInfo} to nativeLibsInfo.
+     * @param nativeLibsInfo The value for nativeLibsInfo
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExopackageInfo.Builder setNativeLibsInfo(Optional<? extends ExopackageInfo.NativeLibsInfo> nativeLibsInfo) {
+      this.nativeLibsInfo = nativeLibsInfo.orElse(null);
+      return (ExopackageInfo.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ExopackageInfo#getResourcesInfo() resourcesInfo} to resourcesInfo.
+     * @param resourcesInfo The value for resourcesInfo
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExopackageInfo.Builder setResourcesInfo(ExopackageInfo.ResourcesInfo resourcesInfo) {
+      this.resourcesInfo = Objects.requireNonNull(resourcesInfo, "resourcesInfo");
+      return (ExopackageInfo.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ExopackageInfo#getResourcesInfo() resourcesInfo} to resourcesInfo.
+     * @param resourcesInfo The value for resourcesInfo
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExopackageInfo.Builder setResourcesInfo(Optional<? extends ExopackageInfo.ResourcesInfo> resourcesInfo) {
+      this.resourcesInfo = resourcesInfo.orElse(null);
+      return (ExopackageInfo.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link ExopackageInfo ExopackageInfo}.
+     * @return An immutable instance of ExopackageInfo
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ExopackageInfo build() {
+      return ImmutableExopackageInfo.validate(new ImmutableExopackageInfo(this));
+    }
+  }
+}
@@ -0,0 +1,269 @@
+package com.facebook.buck.android.toolchain;
+
+import com.facebook.buck.core.toolchain.tool.Tool;
+import com.facebook.buck.core.toolchain.toolprovider.ToolProvider;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AndroidPlatformTarget}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableAndroidPlatformTarget.of()}.
+ */
+@Generated(from = "AndroidPlatformTarget", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableAndroidPlatformTarget
+    extends AndroidPlatformTarget {
+  private final String platformName;
+  private final Path androidJar;
+  private final ImmutableList<Path> bootclasspathEntries;
+  private final Supplier<Tool> aaptExecutable;
+  private final ToolProvider aapt2ToolProvider;
+  private final Path adbExecutable;
+  private final Path aidlExecutable;
+  private final Path zipalignExecutable;
+  private final Path dxExecutable;
+  private final Path androidFrameworkIdlFile;
+  private final Path proguardJar;
+  private final Path proguardConfig;
+  private final Path optimizedProguardConfig;
+
+  private ImmutableAndroidPlatformTarget(
+      String platformName,
+      Path androidJar,
+      Iterable<? extends Path> bootclasspathEntries,
+      Supplier<Tool> aaptExecutable,
+      ToolProvider aapt2ToolProvider,
+      Path adbExecutable,
+      Path aidlExecutable,
+      Path zipalignExecutable,
+      Path dxExecutable,
+      Path androidFrameworkIdlFile,
+      Path proguardJar,
+      Path proguardConfig,
+      Path optimizedProguardConfig) {
+    this.platformName = Objects.requireNonNull(platformName, "platformName");
+    this.androidJar = Objects.requireNonNull(androidJar, "androidJar");
+    this.bootclasspathEntries = ImmutableList.copyOf(bootclasspathEntries);
+    this.aaptExecutable = Objects.requireNonNull(aaptExecutable, "aaptExecutable");
+    this.aapt2ToolProvider = Objects.requireNonNull(aapt2ToolProvider, "aapt2ToolProvider");
+    this.adbExecutable = Objects.requireNonNull(adbExecutable, "adbExecutable");
+    this.aidlExecutable = Objects.requireNonNull(aidlExecutable, "aidlExecutable");
+    this.zipalignExecutable = Objects.requireNonNull(zipalignExecutable, "zipalignExecutable");
+    this.dxExecutable = Objects.requireNonNull(dxExecutable, "dxExecutable");
+    this.androidFrameworkIdlFile = Objects.requireNonNull(androidFrameworkIdlFile, "androidFrameworkIdlFile");
+    this.proguardJar = Objects.requireNonNull(proguardJar, "proguardJar");
+    this.proguardConfig = Objects.requireNonNull(proguardConfig, "proguardConfig");
+    this.optimizedProguardConfig = Objects.requireNonNull(optimizedProguardConfig, "optimizedProguardConfig");
+  }
+
+  /**
+   * @return The value of the {@code platformName} attribute
+   */
+  @Override
+  public String getPlatformName() {
+    return platformName;
+  }
+
+  /**
+   * @return The value of the {@code androidJar} attribute
+   */
+  @Override
+  public Path getAndroidJar() {
+    return androidJar;
+  }
+
+  /**
+   * @return The value of the {@code bootclasspathEntries} attribute
+   */
+  @Override
+  public ImmutableList<Path> getBootclasspathEntries() {
+    return bootclasspathEntries;
+  }
+
+  /**
+   * @return The value of the {@code aaptExecutable} attribute
+   */
+  @Override
+  public Supplier<Tool> getAaptExecutable() {
+    return aaptExecutable;
+  }
+
+  /**
+   * @return The value of the {@code aapt2ToolProvider} attribute
+   */
+  @Override
+  public ToolProvider getAapt2ToolProvider() {
+    return aapt2ToolProvider;
+  }
+
+  /**
+   * @return The value of the {@code adbExecutable} attribute
+   */
+  @Override
+  public Path getAdbExecutable() {
+    return adbExecutable;
+  }
+
+  /**
+   * @return The value of the {@code aidlExecutable} attribute
+   */
+  @Override
+  public Path getAidlExecutable() {
+    return aidlExecutable;
+  }
+
+  /**
+   * @return The value of the {@code zipalignExecutable} attribute
+   */
+  @Override
+  public Path getZipalignExecutable() {
+    return zipalignExecutable;
+  }
+
+  /**
+   * @return The value of the {@code dxExecutable} attribute
+   */
+  @Override
+  public Path getDxExecutable() {
+    return dxExecutable;
+  }
+
+  /**
+   * @return The value of the {@code androidFrameworkIdlFile} attribute
+   */
+  @Override
+  public Path getAndroidFrameworkIdlFile() {
+    return androidFrameworkIdlFile;
+  }
+
+  /**
+   * @return The value of the {@code proguardJar} attribute
+   */
+  @Override
+  public Path getProguardJar() {
+    return proguardJar;
+  }
+
+  /**
+   * @return The value of the {@code proguardConfig} attribute
+   */
+  @Override
+  public Path getProguardConfig() {
+    return proguardConfig;
+  }
+
+  /**
+   * @return The value of the {@code optimizedProguardConfig} attribute
+   */
+  @Override
+  public Path getOptimizedProguardConfig() {
+    return optimizedProguardConfig;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableAndroidPlatformTarget} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableAndroidPlatformTarget
+        && equalTo((ImmutableAndroidPlatformTarget) another);
+  }
+
+  private boolean equalTo(ImmutableAndroidPlatformTarget another) {
+    return platformName.equals(another.platformName)
+        && androidJar.equals(another.androidJar)
+        && bootclasspathEntries.equals(another.bootclasspathEntries)
+        && aaptExecutable.equals(another.aaptExecutable)
+        && aapt2ToolProvider.equals(another.aapt2ToolProvider)
+        && adbExecutable.equals(another.adbExecutable)
+        && aidlExecutable.equals(another.aidlExecutable)
+        && zipalignExecutable.equals(another.zipalignExecutable)
+        && dxExecutable.equals(another.dxExecutable)
+        && androidFrameworkIdlFile.equals(another.androidFrameworkIdlFile)
+        && proguardJar.equals(another.proguardJar)
+        && proguardConfig.equals(another.proguardConfig)
+        && optimizedProguardConfig.equals(another.optimizedProguardConfig);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code platformName}, {@code androidJar}, {@code bootclasspathEntries}, {@code aaptExecutable}, {@code aapt2ToolProvider}, {@code adbExecutable}, {@code aidlExecutable}, {@code zipalignExecutable}, {@code dxExecutable}, {@code androidFrameworkIdlFile}, {@code proguardJar}, {@code proguardConfig}, {@code optimizedProguardConfig}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + platformName.hashCode();
+    h += (h << 5) + androidJar.hashCode();
+    h += (h << 5) + bootclasspathEntries.hashCode();
+    h += (h << 5) + aaptExecutable.hashCode();
+    h += (h << 5) + aapt2ToolProvider.hashCode();
+    h += (h << 5) + adbExecutable.hashCode();
+    h += (h << 5) + aidlExecutable.hashCode();
+    h += (h << 5) + zipalignExecutable.hashCode();
+    h += (h << 5) + dxExecutable.hashCode();
+    h += (h << 5) + androidFrameworkIdlFile.hashCode();
+    h += (h << 5) + proguardJar.hashCode();
+    h += (h << 5) + proguardConfig.hashCode();
+    h += (h << 5) + optimizedProguardConfig.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code AndroidPlatformTarget} instance.
+   * @param platformName The value for the {@code platformName} attribute
+   * @param androidJar The value for the {@code androidJar} attribute
+   * @param bootclasspathEntries The value for the {@code bootclasspathEntries} attribute
+   * @param aaptExecutable The value for the {@code aaptExecutable} attribute
+   * @param aapt2ToolProvider The value for the {@code aapt2ToolProvider} attribute
+   * @param adbExecutable The value for the {@code adbExecutable} attribute
+   * @param aidlExecutable The value for the {@code aidlExecutable} attribute
+   * @param zipalignExecutable The value for the {@code zipalignExecutable} attribute
+   * @param dxExecutable The value for the {@code dxExecutable} attribute
+   * @param androidFrameworkIdlFile The value for the {@code androidFrameworkIdlFile} attribute
+   * @param proguardJar The value for the {@code proguardJar} attribute
+   * @param proguardConfig The value for the {@code proguardConfig} attribute
+   * @param optimizedProguardConfig The value for the {@code optimizedProguardConfig} attribute
+   * @return An immutable AndroidPlatformTarget instance
+   */
+  public static ImmutableAndroidPlatformTarget of(String platformName, Path androidJar, List<Path> bootclasspathEntries, Supplier<Tool> aaptExecutable, ToolProvider aapt2ToolProvider, Path adbExecutable, Path aidlExecutable, Path zipalignExecutable, Path dxExecutable, Path androidFrameworkIdlFile, Path proguardJar, Path proguardConfig, Path optimizedProguardConfig) {
+    return of(platformName, androidJar, (Iterable<? extends Path>) bootclasspathEntries, aaptExecutable, aapt2ToolProvider, adbExecutable, aidlExecutable, zipalignExecutable, dxExecutable, androidFrameworkIdlFile, proguardJar, proguardConfig, optimizedProguardConfig);
+  }
+
+  /**
+   * Construct a new immutable {@code AndroidPlatformTarget} instance.
+   * @param platformName The value for the {@code platformName} attribute
+   * @param androidJar The value for the {@code androidJar} attribute
+   * @param bootclasspathEntries The value for the {@code bootclasspathEntries} attribute
+   * @param aaptExecutable The value for the {@code aaptExecutable} attribute
+   * @param aapt2ToolProvider The value for the {@code aapt2ToolProvider} attribute
+   * @param adbExecutable The value for the {@code adbExecutable} attribute
+   * @param aidlExecutable The value for the {@code aidlExecutable} attribute
+   * @param zipalignExecutable The value for the {@code zipalignExecutable} attribute
+   * @param dxExecutable The value for the {@code dxExecutable} attribute
+   * @param androidFrameworkIdlFile The value for the {@code androidFrameworkIdlFile} attribute
+   * @param proguardJar The value for the {@code proguardJar} attribute
+   * @param proguardConfig The value for the {@code proguardConfig} attribute
+   * @param optimizedProguardConfig The value for the {@code optimizedProguardConfig} attribute
+   * @return An immutable AndroidPlatformTarget instance
+   */
+  public static ImmutableAndroidPlatformTarget of(String platformName, Path androidJar, Iterable<? extends Path> bootclasspathEntries, Supplier<Tool> aaptExecutable, ToolProvider aapt2ToolProvider, Path adbExecutable, Path aidlExecutable, Path zipalignExecutable, Path dxExecutable, Path androidFrameworkIdlFile, Path proguardJar, Path proguardConfig, Path optimizedProguardConfig) {
+    return new ImmutableAndroidPlatformTarget(platformName, androidJar, bootclasspathEntries, aaptExecutable, aapt2ToolProvider, adbExecutable, aidlExecutable, zipalignExecutable, dxExecutable, androidFrameworkIdlFile, proguardJar, proguardConfig, optimizedProguardConfig);
+  }
+}
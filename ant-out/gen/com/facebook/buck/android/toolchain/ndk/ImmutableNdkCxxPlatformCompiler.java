@@ -0,0 +1,117 @@
+package com.facebook.buck.android.toolchain.ndk;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link NdkCxxPlatformCompiler}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableNdkCxxPlatformCompiler.of()}.
+ */
+@Generated(from = "NdkCxxPlatformCompiler", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableNdkCxxPlatformCompiler
+    implements NdkCxxPlatformCompiler {
+  private final NdkCompilerType type;
+  private final String version;
+  private final String gccVersion;
+
+  private ImmutableNdkCxxPlatformCompiler(
+      NdkCompilerType type,
+      String version,
+      String gccVersion) {
+    this.type = Objects.requireNonNull(type, "type");
+    this.version = Objects.requireNonNull(version, "version");
+    this.gccVersion = Objects.requireNonNull(gccVersion, "gccVersion");
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public NdkCompilerType getType() {
+    return type;
+  }
+
+  /**
+   * @return The value of the {@code version} attribute
+   */
+  @Override
+  public String getVersion() {
+    return version;
+  }
+
+  /**
+   * @return The value of the {@code gccVersion} attribute
+   */
+  @Override
+  public String getGccVersion() {
+    return gccVersion;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableNdkCxxPlatformCompiler} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableNdkCxxPlatformCompiler
+        && equalTo((ImmutableNdkCxxPlatformCompiler) another);
+  }
+
+  private boolean equalTo(ImmutableNdkCxxPlatformCompiler another) {
+    return type.equals(another.type)
+        && version.equals(another.version)
+        && gccVersion.equals(another.gccVersion);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code type}, {@code version}, {@code gccVersion}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + type.hashCode();
+    h += (h << 5) + version.hashCode();
+    h += (h << 5) + gccVersion.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code NdkCxxPlatformCompiler} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("NdkCxxPlatformCompiler")
+        .omitNullValues()
+        .add("type", type)
+        .add("version", version)
+        .add("gccVersion", gccVersion)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code NdkCxxPlatformCompiler} instance.
+   * @param type The value for the {@code type} attribute
+   * @param version The value for the {@code version} attribute
+   * @param gccVersion The value for the {@code gccVersion} attribute
+   * @return An immutable NdkCxxPlatformCompiler instance
+   */
+  public static ImmutableNdkCxxPlatformCompiler of(NdkCompilerType type, String version, String gccVersion) {
+    return new ImmutableNdkCxxPlatformCompiler(type, version, gccVersion);
+  }
+}
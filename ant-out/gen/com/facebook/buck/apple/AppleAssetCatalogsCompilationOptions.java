@@ -0,0 +1,568 @@
+package com.facebook.buck.apple;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ *Argument type for asset_catalogs_compilation_options used in apple_bundle 
+ */
+@Generated(from = "AbstractAppleAssetCatalogsCompilationOptions", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class AppleAssetCatalogsCompilationOptions
+    extends AbstractAppleAssetCatalogsCompilationOptions {
+  private final boolean notices;
+  private final boolean warnings;
+  private final boolean errors;
+  private final boolean compressPngs;
+  private final AbstractAppleAssetCatalogsCompilationOptions.Optimization optimization;
+  private final AbstractAppleAssetCatalogsCompilationOptions.OutputFormat outputFormat;
+  private final ImmutableList<String> extraFlags;
+
+  private AppleAssetCatalogsCompilationOptions(AppleAssetCatalogsCompilationOptions.Builder builder) {
+    if (builder.noticesIsSet()) {
+      initShim.setNotices(builder.notices);
+    }
+    if (builder.warningsIsSet()) {
+      initShim.setWarnings(builder.warnings);
+    }
+    if (builder.errorsIsSet()) {
+      initShim.setErrors(builder.errors);
+    }
+    if (builder.compressPngsIsSet()) {
+      initShim.setCompressPngs(builder.compressPngs);
+    }
+    if (builder.optimization != null) {
+      initShim.setOptimization(builder.optimization);
+    }
+    if (builder.outputFormat != null) {
+      initShim.setOutputFormat(builder.outputFormat);
+    }
+    if (builder.extraFlagsIsSet()) {
+      initShim.setExtraFlags(builder.extraFlags.build());
+    }
+    this.notices = initShim.getNotices();
+    this.warnings = initShim.getWarnings();
+    this.errors = initShim.getErrors();
+    this.compressPngs = initShim.getCompressPngs();
+    this.optimization = initShim.getOptimization();
+    this.outputFormat = initShim.getOutputFormat();
+    this.extraFlags = initShim.getExtraFlags();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "AbstractAppleAssetCatalogsCompilationOptions", generator = "Immutables")
+  private final class InitShim {
+    private byte noticesBuildStage = STAGE_UNINITIALIZED;
+    private boolean notices;
+
+    boolean getNotices() {
+      if (noticesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (noticesBuildStage == STAGE_UNINITIALIZED) {
+        noticesBuildStage = STAGE_INITIALIZING;
+        this.notices = AppleAssetCatalogsCompilationOptions.super.getNotices();
+        noticesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.notices;
+    }
+
+    void setNotices(boolean notices) {
+      this.notices = notices;
+      noticesBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte warningsBuildStage = STAGE_UNINITIALIZED;
+    private boolean warnings;
+
+    boolean getWarnings() {
+      if (warningsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (warningsBuildStage == STAGE_UNINITIALIZED) {
+        warningsBuildStage = STAGE_INITIALIZING;
+        this.warnings = AppleAssetCatalogsCompilationOptions.super.getWarnings();
+        warningsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.warnings;
+    }
+
+    void setWarnings(boolean warnings) {
+      this.warnings = warnings;
+      warningsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte errorsBuildStage = STAGE_UNINITIALIZED;
+    private boolean errors;
+
+    boolean getErrors() {
+      if (errorsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (errorsBuildStage == STAGE_UNINITIALIZED) {
+        errorsBuildStage = STAGE_INITIALIZING;
+        this.errors = AppleAssetCatalogsCompilationOptions.super.getErrors();
+        errorsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.errors;
+    }
+
+    void setErrors(boolean errors) {
+      this.errors = errors;
+      errorsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte compressPngsBuildStage = STAGE_UNINITIALIZED;
+    private boolean compressPngs;
+
+    boolean getCompressPngs() {
+      if (compressPngsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (compressPngsBuildStage == STAGE_UNINITIALIZED) {
+        compressPngsBuildStage = STAGE_INITIALIZING;
+        this.compressPngs = AppleAssetCatalogsCompilationOptions.super.getCompressPngs();
+        compressPngsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.compressPngs;
+    }
+
+    void setCompressPngs(boolean compressPngs) {
+      this.compressPngs = compressPngs;
+      compressPngsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte optimizationBuildStage = STAGE_UNINITIALIZED;
+    private AbstractAppleAssetCatalogsCompilationOptions.Optimization optimization;
+
+    AbstractAppleAssetCatalogsCompilationOptions.Optimization getOptimization() {
+      if (optimizationBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (optimizationBuildStage == STAGE_UNINITIALIZED) {
+        optimizationBuildStage = STAGE_INITIALIZING;
+        this.optimization = Objects.requireNonNull(AppleAssetCatalogsCompilationOptions.super.getOptimization(), "optimization");
+        optimizationBuildStage = STAGE_INITIALIZED;
+      }
+      return this.optimization;
+    }
+
+    void setOptimization(AbstractAppleAssetCatalogsCompilationOptions.Optimization optimization) {
+      this.optimization = optimization;
+      optimizationBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte outputFormatBuildStage = STAGE_UNINITIALIZED;
+    private AbstractAppleAssetCatalogsCompilationOptions.OutputFormat outputFormat;
+
+    AbstractAppleAssetCatalogsCompilationOptions.OutputFormat getOutputFormat() {
+      if (outputFormatBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (outputFormatBuildStage == STAGE_UNINITIALIZED) {
+        outputFormatBuildStage = STAGE_INITIALIZING;
+        this.outputFormat = Objects.requireNonNull(AppleAssetCatalogsCompilationOptions.super.getOutputFormat(), "outputFormat");
+        outputFormatBuildStage = STAGE_INITIALIZED;
+      }
+      return this.outputFormat;
+    }
+
+    void setOutputFormat(AbstractAppleAssetCatalogsCompilationOptions.OutputFormat outputFormat) {
+      this.outputFormat = outputFormat;
+      outputFormatBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte extraFlagsBuildStage = STAGE_UNINITIALIZED;
+    private ImmutableList<String> extraFlags;
+
+    ImmutableList<String> getExtraFlags() {
+      if (extraFlagsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (extraFlagsBuildStage == STAGE_UNINITIALIZED) {
+        extraFlagsBuildStage = STAGE_INITIALIZING;
+        this.extraFlags = Objects.requireNonNull(AppleAssetCatalogsCompilationOptions.super.getExtraFlags(), "extraFlags");
+        extraFlagsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.extraFlags;
+    }
+
+    void setExtraFlags(ImmutableList<String> extraFlags) {
+      this.extraFlags = extraFlags;
+      extraFlagsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (noticesBuildStage == STAGE_INITIALIZING) attributes.add("notices");
+      if (warningsBuildStage == STAGE_INITIALIZING) attributes.add("warnings");
+      if (errorsBuildStage == STAGE_INITIALIZING) attributes.add("errors");
+      if (compressPngsBuildStage == STAGE_INITIALIZING) attributes.add("compressPngs");
+      if (optimizationBuildStage == STAGE_INITIALIZING) attributes.add("optimization");
+      if (outputFormatBuildStage == STAGE_INITIALIZING) attributes.add("outputFormat");
+      if (extraFlagsBuildStage == STAGE_INITIALIZING) attributes.add("extraFlags");
+      return "Cannot build AppleAssetCatalogsCompilationOptions, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code notices} attribute
+   */
+  @Override
+  public boolean getNotices() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getNotices()
+        : this.notices;
+  }
+
+  /**
+   * @return The value of the {@code warnings} attribute
+   */
+  @Override
+  public boolean getWarnings() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getWarnings()
+        : this.warnings;
+  }
+
+  /**
+   * @return The value of the {@code errors} attribute
+   */
+  @Override
+  public boolean getErrors() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getErrors()
+        : this.errors;
+  }
+
+  /**
+   * @return The value of the {@code compressPngs} attribute
+   */
+  @Override
+  public boolean getCompressPngs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getCompressPngs()
+        : this.compressPngs;
+  }
+
+  /**
+   * @return The value of the {@code optimization} attribute
+   */
+  @Override
+  public AbstractAppleAssetCatalogsCompilationOptions.Optimization getOptimization() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getOptimization()
+        : this.optimization;
+  }
+
+  /**
+   * @return The value of the {@code outputFormat} attribute
+   */
+  @Override
+  public AbstractAppleAssetCatalogsCompilationOptions.OutputFormat getOutputFormat() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getOutputFormat()
+        : this.outputFormat;
+  }
+
+  /**
+   * @return The value of the {@code extraFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getExtraFlags() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getExtraFlags()
+        : this.extraFlags;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AppleAssetCatalogsCompilationOptions} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AppleAssetCatalogsCompilationOptions
+        && equalTo((AppleAssetCatalogsCompilationOptions) another);
+  }
+
+  private boolean equalTo(AppleAssetCatalogsCompilationOptions another) {
+    return notices == another.notices
+        && warnings == another.warnings
+        && errors == another.errors
+        && compressPngs == another.compressPngs
+        && optimization.equals(another.optimization)
+        && outputFormat.equals(another.outputFormat)
+        && extraFlags.equals(another.extraFlags);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code notices}, {@code warnings}, {@code errors}, {@code compressPngs}, {@code optimization}, {@code outputFormat}, {@code extraFlags}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Booleans.hashCode(notices);
+    h += (h << 5) + Booleans.hashCode(warnings);
+    h += (h << 5) + Booleans.hashCode(errors);
+    h += (h << 5) + Booleans.hashCode(compressPngs);
+    h += (h << 5) + optimization.hashCode();
+    h += (h << 5) + outputFormat.hashCode();
+    h += (h << 5) + extraFlags.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AppleAssetCatalogsCompilationOptions} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleAssetCatalogsCompilationOptions")
+        .omitNullValues()
+        .add("notices", notices)
+        .add("warnings", warnings)
+        .add("errors", errors)
+        .add("compressPngs", compressPngs)
+        .add("optimization", optimization)
+        .add("outputFormat", outputFormat)
+        .add("extraFlags", extraFlags)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link AppleAssetCatalogsCompilationOptions AppleAssetCatalogsCompilationOptions}.
+   * @return A new AppleAssetCatalogsCompilationOptions builder
+   */
+  public static AppleAssetCatalogsCompilationOptions.Builder builder() {
+    return new AppleAssetCatalogsCompilationOptions.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AppleAssetCatalogsCompilationOptions AppleAssetCatalogsCompilationOptions}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractAppleAssetCatalogsCompilationOptions", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long OPT_BIT_NOTICES = 0x1L;
+    private static final long OPT_BIT_WARNINGS = 0x2L;
+    private static final long OPT_BIT_ERRORS = 0x4L;
+    private static final long OPT_BIT_COMPRESS_PNGS = 0x8L;
+    private static final long OPT_BIT_EXTRA_FLAGS = 0x10L;
+    private long optBits;
+
+    private boolean notices;
+    private boolean warnings;
+    private boolean errors;
+    private boolean compressPngs;
+    private @Nullable AbstractAppleAssetCatalogsCompilationOptions.Optimization optimization;
+    private @Nullable AbstractAppleAssetCatalogsCompilationOptions.OutputFormat outputFormat;
+    private ImmutableList.Builder<String> extraFlags = ImmutableList.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AppleAssetCatalogsCompilationOptions} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AppleAssetCatalogsCompilationOptions instance) {
+      return from((AbstractAppleAssetCatalogsCompilationOptions) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAppleAssetCatalogsCompilationOptions} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractAppleAssetCatalogsCompilationOptions instance) {
+      Objects.requireNonNull(instance, "instance");
+      setNotices(instance.getNotices());
+      setWarnings(instance.getWarnings());
+      setErrors(instance.getErrors());
+      setCompressPngs(instance.getCompressPngs());
+      setOptimization(instance.getOptimization());
+      setOutputFormat(instance.getOutputFormat());
+      addAllExtraFlags(instance.getExtraFlags());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleAssetCatalogsCompilationOptions#getNotices() notices} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleAssetCatalogsCompilationOptions#getNotices() notices}.</em>
+     * @param notices The value for notices 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNotices(boolean notices) {
+      this.notices = notices;
+      optBits |= OPT_BIT_NOTICES;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleAssetCatalogsCompilationOptions#getWarnings() warnings} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleAssetCatalogsCompilationOptions#getWarnings() warnings}.</em>
+     * @param warnings The value for warnings 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setWarnings(boolean warnings) {
+      this.warnings = warnings;
+      optBits |= OPT_BIT_WARNINGS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleAssetCatalogsCompilationOptions#getErrors() errors} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleAssetCatalogsCompilationOptions#getErrors() errors}.</em>
+     * @param errors The value for errors 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setErrors(boolean errors) {
+      this.errors = errors;
+      optBits |= OPT_BIT_ERRORS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleAssetCatalogsCompilationOptions#getCompressPngs() compressPngs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleAssetCatalogsCompilationOptions#getCompressPngs() compressPngs}.</em>
+     * @param compressPngs The value for compressPngs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCompressPngs(boolean compressPngs) {
+      this.compressPngs = compressPngs;
+      optBits |= OPT_BIT_COMPRESS_PNGS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleAssetCatalogsCompilationOptions#getOptimization() optimization} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleAssetCatalogsCompilationOptions#getOptimization() optimization}.</em>
+     * @param optimization The value for optimization 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setOptimization(AbstractAppleAssetCatalogsCompilationOptions.Optimization optimization) {
+      this.optimization = Objects.requireNonNull(optimization, "optimization");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleAssetCatalogsCompilationOptions#getOutputFormat() outputFormat} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleAssetCatalogsCompilationOptions#getOutputFormat() outputFormat}.</em>
+     * @param outputFormat The value for outputFormat 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setOutputFormat(AbstractAppleAssetCatalogsCompilationOptions.OutputFormat outputFormat) {
+      this.outputFormat = Objects.requireNonNull(outputFormat, "outputFormat");
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleAssetCatalogsCompilationOptions#getExtraFlags() extraFlags} list.
+     * @param element A extraFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExtraFlags(String element) {
+      this.extraFlags.add(element);
+      optBits |= OPT_BIT_EXTRA_FLAGS;
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleAssetCatalogsCompilationOptions#getExtraFlags() extraFlags} list.
+     * @param elements An array of extraFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExtraFlags(String... elements) {
+      this.extraFlags.add(elements);
+      optBits |= OPT_BIT_EXTRA_FLAGS;
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleAssetCatalogsCompilationOptions#getExtraFlags() extraFlags} list.
+     * @param elements An iterable of extraFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExtraFlags(Iterable<String> elements) {
+      this.extraFlags = ImmutableList.builder();
+      return addAllExtraFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleAssetCatalogsCompilationOptions#getExtraFlags() extraFlags} list.
+     * @param elements An iterable of extraFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllExtraFlags(Iterable<String> elements) {
+      this.extraFlags.addAll(elements);
+      optBits |= OPT_BIT_EXTRA_FLAGS;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AppleAssetCatalogsCompilationOptions AppleAssetCatalogsCompilationOptions}.
+     * @return An immutable instance of AppleAssetCatalogsCompilationOptions
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AppleAssetCatalogsCompilationOptions build() {
+      return new AppleAssetCatalogsCompilationOptions(this);
+    }
+
+    private boolean noticesIsSet() {
+      return (optBits & OPT_BIT_NOTICES) != 0;
+    }
+
+    private boolean warningsIsSet() {
+      return (optBits & OPT_BIT_WARNINGS) != 0;
+    }
+
+    private boolean errorsIsSet() {
+      return (optBits & OPT_BIT_ERRORS) != 0;
+    }
+
+    private boolean compressPngsIsSet() {
+      return (optBits & OPT_BIT_COMPRESS_PNGS) != 0;
+    }
+
+    private boolean extraFlagsIsSet() {
+      return (optBits & OPT_BIT_EXTRA_FLAGS) != 0;
+    }
+  }
+}
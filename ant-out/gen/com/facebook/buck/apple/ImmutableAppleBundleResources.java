@@ -0,0 +1,351 @@
+package com.facebook.buck.apple;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AppleBundleResources}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new AppleBundleResources.Builder()}.
+ */
+@Generated(from = "AppleBundleResources", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableAppleBundleResources extends AppleBundleResources {
+  private final ImmutableSet<SourcePathWithAppleBundleDestination> resourceDirs;
+  private final ImmutableSet<SourcePathWithAppleBundleDestination> dirsContainingResourceDirs;
+  private final ImmutableSet<SourcePathWithAppleBundleDestination> resourceFiles;
+  private final ImmutableSet<SourcePath> resourceVariantFiles;
+
+  private ImmutableAppleBundleResources(ImmutableAppleBundleResources.Builder builder) {
+    this.resourceDirs = builder.resourceDirs.build();
+    this.dirsContainingResourceDirs = builder.dirsContainingResourceDirs.build();
+    this.resourceFiles = builder.resourceFiles.build();
+    this.resourceVariantFiles = builder.resourceVariantFiles.build();
+  }
+
+  /**
+   * @return The value of the {@code resourceDirs} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePathWithAppleBundleDestination> getResourceDirs() {
+    return resourceDirs;
+  }
+
+  /**
+   * @return The value of the {@code dirsContainingResourceDirs} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePathWithAppleBundleDestination> getDirsContainingResourceDirs() {
+    return dirsContainingResourceDirs;
+  }
+
+  /**
+   * @return The value of the {@code resourceFiles} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePathWithAppleBundleDestination> getResourceFiles() {
+    return resourceFiles;
+  }
+
+  /**
+   * @return The value of the {@code resourceVariantFiles} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getResourceVariantFiles() {
+    return resourceVariantFiles;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableAppleBundleResources} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableAppleBundleResources
+        && equalTo((ImmutableAppleBundleResources) another);
+  }
+
+  private boolean equalTo(ImmutableAppleBundleResources another) {
+    return resourceDirs.equals(another.resourceDirs)
+        && dirsContainingResourceDirs.equals(another.dirsContainingResourceDirs)
+        && resourceFiles.equals(another.resourceFiles)
+        && resourceVariantFiles.equals(another.resourceVariantFiles);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code resourceDirs}, {@code dirsContainingResourceDirs}, {@code resourceFiles}, {@code resourceVariantFiles}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + resourceDirs.hashCode();
+    h += (h << 5) + dirsContainingResourceDirs.hashCode();
+    h += (h << 5) + resourceFiles.hashCode();
+    h += (h << 5) + resourceVariantFiles.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AppleBundleResources} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleBundleResources")
+        .omitNullValues()
+        .add("resourceDirs", resourceDirs)
+        .add("dirsContainingResourceDirs", dirsContainingResourceDirs)
+        .add("resourceFiles", resourceFiles)
+        .add("resourceVariantFiles", resourceVariantFiles)
+        .toString();
+  }
+
+  /**
+   * Builds instances of type {@link AppleBundleResources AppleBundleResources}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AppleBundleResources", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private ImmutableSet.Builder<SourcePathWithAppleBundleDestination> resourceDirs = ImmutableSet.builder();
+    private ImmutableSet.Builder<SourcePathWithAppleBundleDestination> dirsContainingResourceDirs = ImmutableSet.builder();
+    private ImmutableSet.Builder<SourcePathWithAppleBundleDestination> resourceFiles = ImmutableSet.builder();
+    private ImmutableSet.Builder<SourcePath> resourceVariantFiles = ImmutableSet.builder();
+
+    /**
+     * Creates a builder for {@link AppleBundleResources AppleBundleResources} instances.
+     */
+    public Builder() {
+      if (!(this instanceof AppleBundleResources.Builder)) {
+        throw new UnsupportedOperationException("Use: new AppleBundleResources.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AppleBundleResources} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleBundleResources.Builder from(AppleBundleResources instance) {
+      Objects.requireNonNull(instance, "instance");
+      addAllResourceDirs(instance.getResourceDirs());
+      addAllDirsContainingResourceDirs(instance.getDirsContainingResourceDirs());
+      addAllResourceFiles(instance.getResourceFiles());
+      addAllResourceVariantFiles(instance.getResourceVariantFiles());
+      return (AppleBundleResources.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link AppleBundleResources#getResourceDirs() resourceDirs} set.
+     * @param element A resourceDirs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleBundleResources.Builder addResourceDirs(SourcePathWithAppleBundleDestination element) {
+      this.resourceDirs.add(element);
+      return (AppleBundleResources.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleResources#getResourceDirs() resourceDirs} set.
+     * @param elements An array of resourceDirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleBundleResources.Builder addResourceDirs(SourcePathWithAppleBundleDestination... elements) {
+      this.resourceDirs.add(elements);
+      return (AppleBundleResources.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleBundleResources#getResourceDirs() resourceDirs} set.
+     * @param elements An iterable of resourceDirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleBundleResources.Builder setResourceDirs(Iterable<? extends SourcePathWithAppleBundleDestination> elements) {
+      this.resourceDirs = ImmutableSet.builder();
+      return addAllResourceDirs(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleResources#getResourceDirs() resourceDirs} set.
+     * @param elements An iterable of resourceDirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleBundleResources.Builder addAllResourceDirs(Iterable<? extends SourcePathWithAppleBundleDestination> elements) {
+      this.resourceDirs.addAll(elements);
+      return (AppleBundleResources.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link AppleBundleResources#getDirsContainingResourceDirs() dirsContainingResourceDirs} set.
+     * @param element A dirsContainingResourceDirs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleBundleResources.Builder addDirsContainingResourceDirs(SourcePathWithAppleBundleDestination element) {
+      this.dirsContainingResourceDirs.add(element);
+      return (AppleBundleResources.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleResources#getDirsContainingResourceDirs() dirsContainingResourceDirs} set.
+     * @param elements An array of dirsContainingResourceDirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleBundleResources.Builder addDirsContainingResourceDirs(SourcePathWithAppleBundleDestination... elements) {
+      this.dirsContainingResourceDirs.add(elements);
+      return (AppleBundleResources.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleBundleResources#getDirsContainingResourceDirs() dirsContainingResourceDirs} set.
+     * @param elements An iterable of dirsContainingResourceDirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleBundleResources.Builder setDirsContainingResourceDirs(Iterable<? extends SourcePathWithAppleBundleDestination> elements) {
+      this.dirsContainingResourceDirs = ImmutableSet.builder();
+      return addAllDirsContainingResourceDirs(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleResources#getDirsContainingResourceDirs() dirsContainingResourceDirs} set.
+     * @param elements An iterable of dirsContainingResourceDirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleBundleResources.Builder addAllDirsContainingResourceDirs(Iterable<? extends SourcePathWithAppleBundleDestination> elements) {
+      this.dirsContainingResourceDirs.addAll(elements);
+      return (AppleBundleResources.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link AppleBundleResources#getResourceFiles() resourceFiles} set.
+     * @param element A resourceFiles element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleBundleResources.Builder addResourceFiles(SourcePathWithAppleBundleDestination element) {
+      this.resourceFiles.add(element);
+      return (AppleBundleResources.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleResources#getResourceFiles() resourceFiles} set.
+     * @param elements An array of resourceFiles elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleBundleResources.Builder addResourceFiles(SourcePathWithAppleBundleDestination... elements) {
+      this.resourceFiles.add(elements);
+      return (AppleBundleResources.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleBundleResources#getResourceFiles() resourceFiles} set.
+     * @param elements An iterable of resourceFiles elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleBundleResources.Builder setResourceFiles(Iterable<? extends SourcePathWithAppleBundleDestination> elements) {
+      this.resourceFiles = ImmutableSet.builder();
+      return addAllResourceFiles(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleResources#getResourceFiles() resourceFiles} set.
+     * @param elements An iterable of resourceFiles elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleBundleResources.Builder addAllResourceFiles(Iterable<? extends SourcePathWithAppleBundleDestination> elements) {
+      this.resourceFiles.addAll(elements);
+      return (AppleBundleResources.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link AppleBundleResources#getResourceVariantFiles() resourceVariantFiles} set.
+     * @param element A resourceVariantFiles element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleBundleResources.Builder addResourceVariantFiles(SourcePath element) {
+      this.resourceVariantFiles.add(element);
+      return (AppleBundleResources.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleResources#getResourceVariantFiles() resourceVariantFiles} set.
+     * @param elements An array of resourceVariantFiles elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleBundleResources.Builder addResourceVariantFiles(SourcePath... elements) {
+      this.resourceVariantFiles.add(elements);
+      return (AppleBundleResources.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleBundleResources#getResourceVariantFiles() resourceVariantFiles} set.
+     * @param elements An iterable of resourceVariantFiles elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleBundleResources.Builder setResourceVariantFiles(Iterable<? extends SourcePath> elements) {
+      this.resourceVariantFiles = ImmutableSet.builder();
+      return addAllResourceVariantFiles(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleResources#getResourceVariantFiles() resourceVariantFiles} set.
+     * @param elements An iterable of resourceVariantFiles elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleBundleResources.Builder addAllResourceVariantFiles(Iterable<? extends SourcePath> elements) {
+      this.resourceVariantFiles.addAll(elements);
+      return (AppleBundleResources.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link AppleBundleResources AppleBundleResources}.
+     * @return An immutable instance of AppleBundleResources
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AppleBundleResources build() {
+      return new ImmutableAppleBundleResources(this);
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package com.facebook.buck.apple;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AppleConfig.ApplePackageConfig}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableApplePackageConfig.of()}.
+ */
+@Generated(from = "AppleConfig.ApplePackageConfig", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableApplePackageConfig
+    implements AppleConfig.ApplePackageConfig {
+  private final String command;
+  private final String extension;
+
+  private ImmutableApplePackageConfig(String command, String extension) {
+    this.command = Objects.requireNonNull(command, "command");
+    this.extension = Objects.requireNonNull(extension, "extension");
+  }
+
+  /**
+   * @return The value of the {@code command} attribute
+   */
+  @Override
+  public String getCommand() {
+    return command;
+  }
+
+  /**
+   * @return The value of the {@code extension} attribute
+   */
+  @Override
+  public String getExtension() {
+    return extension;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableApplePackageConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableApplePackageConfig
+        && equalTo((ImmutableApplePackageConfig) another);
+  }
+
+  private boolean equalTo(ImmutableApplePackageConfig another) {
+    return command.equals(another.command)
+        && extension.equals(another.extension);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code command}, {@code extension}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + command.hashCode();
+    h += (h << 5) + extension.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ApplePackageConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ApplePackageConfig")
+        .omitNullValues()
+        .add("command", command)
+        .add("extension", extension)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ApplePackageConfig} instance.
+   * @param command The value for the {@code command} attribute
+   * @param extension The value for the {@code extension} attribute
+   * @return An immutable ApplePackageConfig instance
+   */
+  public static ImmutableApplePackageConfig of(String command, String extension) {
+    return new ImmutableApplePackageConfig(command, extension);
+  }
+}
@@ -0,0 +1,130 @@
+package com.facebook.buck.apple;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.Flavor;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link MultiarchFileInfo}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableMultiarchFileInfo.of()}.
+ */
+@Generated(from = "MultiarchFileInfo", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableMultiarchFileInfo extends MultiarchFileInfo {
+  private final BuildTarget fatTarget;
+  private final ImmutableList<BuildTarget> thinTargets;
+  private final Flavor representativePlatformFlavor;
+
+  private ImmutableMultiarchFileInfo(
+      BuildTarget fatTarget,
+      Iterable<? extends BuildTarget> thinTargets,
+      Flavor representativePlatformFlavor) {
+    this.fatTarget = Objects.requireNonNull(fatTarget, "fatTarget");
+    this.thinTargets = ImmutableList.copyOf(thinTargets);
+    this.representativePlatformFlavor = Objects.requireNonNull(representativePlatformFlavor, "representativePlatformFlavor");
+  }
+
+  /**
+   * @return The value of the {@code fatTarget} attribute
+   */
+  @Override
+  public BuildTarget getFatTarget() {
+    return fatTarget;
+  }
+
+  /**
+   * @return The value of the {@code thinTargets} attribute
+   */
+  @Override
+  public ImmutableList<BuildTarget> getThinTargets() {
+    return thinTargets;
+  }
+
+  /**
+   * @return The value of the {@code representativePlatformFlavor} attribute
+   */
+  @Override
+  public Flavor getRepresentativePlatformFlavor() {
+    return representativePlatformFlavor;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableMultiarchFileInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableMultiarchFileInfo
+        && equalTo((ImmutableMultiarchFileInfo) another);
+  }
+
+  private boolean equalTo(ImmutableMultiarchFileInfo another) {
+    return fatTarget.equals(another.fatTarget)
+        && thinTargets.equals(another.thinTargets)
+        && representativePlatformFlavor.equals(another.representativePlatformFlavor);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code fatTarget}, {@code thinTargets}, {@code representativePlatformFlavor}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + fatTarget.hashCode();
+    h += (h << 5) + thinTargets.hashCode();
+    h += (h << 5) + representativePlatformFlavor.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code MultiarchFileInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("MultiarchFileInfo")
+        .omitNullValues()
+        .add("fatTarget", fatTarget)
+        .add("thinTargets", thinTargets)
+        .add("representativePlatformFlavor", representativePlatformFlavor)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code MultiarchFileInfo} instance.
+   * @param fatTarget The value for the {@code fatTarget} attribute
+   * @param thinTargets The value for the {@code thinTargets} attribute
+   * @param representativePlatformFlavor The value for the {@code representativePlatformFlavor} attribute
+   * @return An immutable MultiarchFileInfo instance
+   */
+  public static ImmutableMultiarchFileInfo of(BuildTarget fatTarget, ImmutableList<BuildTarget> thinTargets, Flavor representativePlatformFlavor) {
+    return of(fatTarget, (Iterable<? extends BuildTarget>) thinTargets, representativePlatformFlavor);
+  }
+
+  /**
+   * Construct a new immutable {@code MultiarchFileInfo} instance.
+   * @param fatTarget The value for the {@code fatTarget} attribute
+   * @param thinTargets The value for the {@code thinTargets} attribute
+   * @param representativePlatformFlavor The value for the {@code representativePlatformFlavor} attribute
+   * @return An immutable MultiarchFileInfo instance
+   */
+  public static ImmutableMultiarchFileInfo of(BuildTarget fatTarget, Iterable<? extends BuildTarget> thinTargets, Flavor representativePlatformFlavor) {
+    return new ImmutableMultiarchFileInfo(fatTarget, thinTargets, representativePlatformFlavor);
+  }
+}
@@ -0,0 +1,164 @@
+package com.facebook.buck.apple;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AppleTestDescription.TestHostInfo}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableTestHostInfo.of()}.
+ */
+@Generated(from = "AppleTestDescription.TestHostInfo", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableTestHostInfo implements AppleTestDescription.TestHostInfo {
+  private final AppleBundle testHostApp;
+  private final @Nullable AppleBundle uiTestTargetApp;
+  private final @Nullable SourcePath testHostAppBinarySourcePath;
+  private final @Nullable SourcePath uiTestTargetAppBinarySourcePath;
+  private final ImmutableSet<BuildTarget> blacklist;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableTestHostInfo(
+      AppleBundle testHostApp,
+      Optional<? extends AppleBundle> uiTestTargetApp,
+      Optional<? extends SourcePath> testHostAppBinarySourcePath,
+      Optional<? extends SourcePath> uiTestTargetAppBinarySourcePath,
+      Iterable<? extends BuildTarget> blacklist) {
+    this.testHostApp = Objects.requireNonNull(testHostApp, "testHostApp");
+    this.uiTestTargetApp = uiTestTargetApp.orElse(null);
+    this.testHostAppBinarySourcePath = testHostAppBinarySourcePath.orElse(null);
+    this.uiTestTargetAppBinarySourcePath = uiTestTargetAppBinarySourcePath.orElse(null);
+    this.blacklist = ImmutableSet.copyOf(blacklist);
+  }
+
+  /**
+   * @return The value of the {@code testHostApp} attribute
+   */
+  @Override
+  public AppleBundle getTestHostApp() {
+    return testHostApp;
+  }
+
+  /**
+   * @return The value of the {@code uiTestTargetApp} attribute
+   */
+  @Override
+  public Optional<AppleBundle> getUiTestTargetApp() {
+    return Optional.ofNullable(uiTestTargetApp);
+  }
+
+  /**
+   * @return The value of the {@code testHostAppBinarySourcePath} attribute
+   */
+  @Override
+  public Optional<SourcePath> getTestHostAppBinarySourcePath() {
+    return Optional.ofNullable(testHostAppBinarySourcePath);
+  }
+
+  /**
+   * @return The value of the {@code uiTestTargetAppBinarySourcePath} attribute
+   */
+  @Override
+  public Optional<SourcePath> getUiTestTargetAppBinarySourcePath() {
+    return Optional.ofNullable(uiTestTargetAppBinarySourcePath);
+  }
+
+  /**
+   * @return The value of the {@code blacklist} attribute
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getBlacklist() {
+    return blacklist;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableTestHostInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableTestHostInfo
+        && equalTo((ImmutableTestHostInfo) another);
+  }
+
+  private boolean equalTo(ImmutableTestHostInfo another) {
+    return testHostApp.equals(another.testHostApp)
+        && Objects.equals(uiTestTargetApp, another.uiTestTargetApp)
+        && Objects.equals(testHostAppBinarySourcePath, another.testHostAppBinarySourcePath)
+        && Objects.equals(uiTestTargetAppBinarySourcePath, another.uiTestTargetAppBinarySourcePath)
+        && blacklist.equals(another.blacklist);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code testHostApp}, {@code uiTestTargetApp}, {@code testHostAppBinarySourcePath}, {@code uiTestTargetAppBinarySourcePath}, {@code blacklist}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + testHostApp.hashCode();
+    h += (h << 5) + Objects.hashCode(uiTestTargetApp);
+    h += (h << 5) + Objects.hashCode(testHostAppBinarySourcePath);
+    h += (h << 5) + Objects.hashCode(uiTestTargetAppBinarySourcePath);
+    h += (h << 5) + blacklist.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code TestHostInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("TestHostInfo")
+        .omitNullValues()
+        .add("testHostApp", testHostApp)
+        .add("uiTestTargetApp", uiTestTargetApp)
+        .add("testHostAppBinarySourcePath", testHostAppBinarySourcePath)
+        .add("uiTestTargetAppBinarySourcePath", uiTestTargetAppBinarySourcePath)
+        .add("blacklist", blacklist)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code TestHostInfo} instance.
+   * @param testHostApp The value for the {@code testHostApp} attribute
+   * @param uiTestTargetApp The value for the {@code uiTestTargetApp} attribute
+   * @param testHostAppBinarySourcePath The value for the {@code testHostAppBinarySourcePath} attribute
+   * @param uiTestTargetAppBinarySourcePath The value for the {@code uiTestTargetAppBinarySourcePath} attribute
+   * @param blacklist The value for the {@code blacklist} attribute
+   * @return An immutable TestHostInfo instance
+   */
+  public static ImmutableTestHostInfo of(AppleBundle testHostApp, Optional<AppleBundle> uiTestTargetApp, Optional<SourcePath> testHostAppBinarySourcePath, Optional<SourcePath> uiTestTargetAppBinarySourcePath, ImmutableSet<BuildTarget> blacklist) {
+    return of(testHostApp, uiTestTargetApp, testHostAppBinarySourcePath, uiTestTargetAppBinarySourcePath, (Iterable<? extends BuildTarget>) blacklist);
+  }
+
+  /**
+   * Construct a new immutable {@code TestHostInfo} instance.
+   * @param testHostApp The value for the {@code testHostApp} attribute
+   * @param uiTestTargetApp The value for the {@code uiTestTargetApp} attribute
+   * @param testHostAppBinarySourcePath The value for the {@code testHostAppBinarySourcePath} attribute
+   * @param uiTestTargetAppBinarySourcePath The value for the {@code uiTestTargetAppBinarySourcePath} attribute
+   * @param blacklist The value for the {@code blacklist} attribute
+   * @return An immutable TestHostInfo instance
+   */
+  public static ImmutableTestHostInfo of(AppleBundle testHostApp, Optional<? extends AppleBundle> uiTestTargetApp, Optional<? extends SourcePath> testHostAppBinarySourcePath, Optional<? extends SourcePath> uiTestTargetAppBinarySourcePath, Iterable<? extends BuildTarget> blacklist) {
+    return new ImmutableTestHostInfo(testHostApp, uiTestTargetApp, testHostAppBinarySourcePath, uiTestTargetAppBinarySourcePath, blacklist);
+  }
+}
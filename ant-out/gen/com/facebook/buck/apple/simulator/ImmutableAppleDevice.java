@@ -0,0 +1,370 @@
+package com.facebook.buck.apple.simulator;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AppleDevice}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableAppleDevice.of()}.
+ */
+@Generated(from = "AppleDevice", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableAppleDevice implements AppleDevice {
+  private final String name;
+  private final String udid;
+  private final String state;
+  private final String type;
+  private final String os_version;
+  private final String architecture;
+  private transient final String host;
+  private transient final int port;
+  private transient final boolean is_local;
+
+  private ImmutableAppleDevice(
+      String name,
+      String udid,
+      String state,
+      String type,
+      String os_version,
+      String architecture) {
+    this.name = Objects.requireNonNull(name, "name");
+    this.udid = Objects.requireNonNull(udid, "udid");
+    this.state = Objects.requireNonNull(state, "state");
+    this.type = Objects.requireNonNull(type, "type");
+    this.os_version = Objects.requireNonNull(os_version, "os_version");
+    this.architecture = Objects.requireNonNull(architecture, "architecture");
+    this.host = initShim.getHost();
+    this.port = initShim.getPort();
+    this.is_local = initShim.getIs_local();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "AppleDevice", generator = "Immutables")
+  private final class InitShim {
+    private byte hostBuildStage = STAGE_UNINITIALIZED;
+    private String host;
+
+    String getHost() {
+      if (hostBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (hostBuildStage == STAGE_UNINITIALIZED) {
+        hostBuildStage = STAGE_INITIALIZING;
+        this.host = Objects.requireNonNull(getHostInitialize(), "host");
+        hostBuildStage = STAGE_INITIALIZED;
+      }
+      return this.host;
+    }
+
+    private byte portBuildStage = STAGE_UNINITIALIZED;
+    private int port;
+
+    int getPort() {
+      if (portBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (portBuildStage == STAGE_UNINITIALIZED) {
+        portBuildStage = STAGE_INITIALIZING;
+        this.port = getPortInitialize();
+        portBuildStage = STAGE_INITIALIZED;
+      }
+      return this.port;
+    }
+
+    private byte is_localBuildStage = STAGE_UNINITIALIZED;
+    private boolean is_local;
+
+    boolean getIs_local() {
+      if (is_localBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (is_localBuildStage == STAGE_UNINITIALIZED) {
+        is_localBuildStage = STAGE_INITIALIZING;
+        this.is_local = getIs_localInitialize();
+        is_localBuildStage = STAGE_INITIALIZED;
+      }
+      return this.is_local;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (hostBuildStage == STAGE_INITIALIZING) attributes.add("host");
+      if (portBuildStage == STAGE_INITIALIZING) attributes.add("port");
+      if (is_localBuildStage == STAGE_INITIALIZING) attributes.add("is_local");
+      return "Cannot build AppleDevice, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  private String getHostInitialize() {
+    return AppleDevice.super.getHost();
+  }
+
+  private int getPortInitialize() {
+    return AppleDevice.super.getPort();
+  }
+
+  private boolean getIs_localInitialize() {
+    return AppleDevice.super.getIs_local();
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @JsonProperty
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code udid} attribute
+   */
+  @JsonProperty
+  @Override
+  public String getUdid() {
+    return udid;
+  }
+
+  /**
+   * @return The value of the {@code state} attribute
+   */
+  @JsonProperty
+  @Override
+  public String getState() {
+    return state;
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @JsonProperty
+  @Override
+  public String getType() {
+    return type;
+  }
+
+  /**
+   * @return The value of the {@code os_version} attribute
+   */
+  @JsonProperty
+  @Override
+  public String getOs_version() {
+    return os_version;
+  }
+
+  /**
+   * @return The value of the {@code architecture} attribute
+   */
+  @JsonProperty
+  @Override
+  public String getArchitecture() {
+    return architecture;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code host} attribute
+   */
+  @JsonProperty
+  @Override
+  public String getHost() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getHost()
+        : this.host;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code port} attribute
+   */
+  @JsonProperty
+  @Override
+  public int getPort() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPort()
+        : this.port;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code is_local} attribute
+   */
+  @JsonProperty
+  @Override
+  public boolean getIs_local() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getIs_local()
+        : this.is_local;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableAppleDevice} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableAppleDevice
+        && equalTo((ImmutableAppleDevice) another);
+  }
+
+  private boolean equalTo(ImmutableAppleDevice another) {
+    return name.equals(another.name)
+        && udid.equals(another.udid)
+        && state.equals(another.state)
+        && type.equals(another.type)
+        && os_version.equals(another.os_version)
+        && architecture.equals(another.architecture)
+        && host.equals(another.host)
+        && port == another.port
+        && is_local == another.is_local;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code name}, {@code udid}, {@code state}, {@code type}, {@code os_version}, {@code architecture}, {@code host}, {@code port}, {@code is_local}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + udid.hashCode();
+    h += (h << 5) + state.hashCode();
+    h += (h << 5) + type.hashCode();
+    h += (h << 5) + os_version.hashCode();
+    h += (h << 5) + architecture.hashCode();
+    h += (h << 5) + host.hashCode();
+    h += (h << 5) + port;
+    h += (h << 5) + Booleans.hashCode(is_local);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AppleDevice} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleDevice")
+        .omitNullValues()
+        .add("name", name)
+        .add("udid", udid)
+        .add("state", state)
+        .add("type", type)
+        .add("os_version", os_version)
+        .add("architecture", architecture)
+        .add("host", host)
+        .add("port", port)
+        .add("is_local", is_local)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "AppleDevice", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json implements AppleDevice {
+    @Nullable String name;
+    @Nullable String udid;
+    @Nullable String state;
+    @Nullable String type;
+    @Nullable String os_version;
+    @Nullable String architecture;
+    @JsonProperty
+    public void setName(String name) {
+      this.name = name;
+    }
+    @JsonProperty
+    public void setUdid(String udid) {
+      this.udid = udid;
+    }
+    @JsonProperty
+    public void setState(String state) {
+      this.state = state;
+    }
+    @JsonProperty
+    public void setType(String type) {
+      this.type = type;
+    }
+    @JsonProperty
+    public void setOs_version(String os_version) {
+      this.os_version = os_version;
+    }
+    @JsonProperty
+    public void setArchitecture(String architecture) {
+      this.architecture = architecture;
+    }
+    @Override
+    public String getName() { throw new UnsupportedOperationException(); }
+    @Override
+    public String getUdid() { throw new UnsupportedOperationException(); }
+    @Override
+    public String getState() { throw new UnsupportedOperationException(); }
+    @Override
+    public String getType() { throw new UnsupportedOperationException(); }
+    @Override
+    public String getOs_version() { throw new UnsupportedOperationException(); }
+    @Override
+    public String getArchitecture() { throw new UnsupportedOperationException(); }
+    @JsonIgnore
+    @Override
+    public String getHost() { throw new UnsupportedOperationException(); }
+    @JsonIgnore
+    @Override
+    public int getPort() { throw new UnsupportedOperationException(); }
+    @JsonIgnore
+    @Override
+    public boolean getIs_local() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ImmutableAppleDevice fromJson(Json json) {
+    ImmutableAppleDevice instance = ImmutableAppleDevice.of(json.name, json.udid, json.state, json.type, json.os_version, json.architecture);
+    return instance;
+  }
+
+  /**
+   * Construct a new immutable {@code AppleDevice} instance.
+   * @param name The value for the {@code name} attribute
+   * @param udid The value for the {@code udid} attribute
+   * @param state The value for the {@code state} attribute
+   * @param type The value for the {@code type} attribute
+   * @param os_version The value for the {@code os_version} attribute
+   * @param architecture The value for the {@code architecture} attribute
+   * @return An immutable AppleDevice instance
+   */
+  public static ImmutableAppleDevice of(String name, String udid, String state, String type, String os_version, String architecture) {
+    return new ImmutableAppleDevice(name, udid, state, type, os_version, architecture);
+  }
+}
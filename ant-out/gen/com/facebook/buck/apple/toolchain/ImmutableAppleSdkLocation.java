@@ -0,0 +1,87 @@
+package com.facebook.buck.apple.toolchain;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AppleSdkLocation}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableAppleSdkLocation.of()}.
+ */
+@Generated(from = "AppleSdkLocation", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableAppleSdkLocation implements AppleSdkLocation {
+  private final ImmutableMap<AppleSdk, AppleSdkPaths> appleSdkPaths;
+
+  private ImmutableAppleSdkLocation(
+      Map<? extends AppleSdk, ? extends AppleSdkPaths> appleSdkPaths) {
+    this.appleSdkPaths = ImmutableMap.copyOf(appleSdkPaths);
+  }
+
+  /**
+   * @return The value of the {@code appleSdkPaths} attribute
+   */
+  @Override
+  public ImmutableMap<AppleSdk, AppleSdkPaths> getAppleSdkPaths() {
+    return appleSdkPaths;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableAppleSdkLocation} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableAppleSdkLocation
+        && equalTo((ImmutableAppleSdkLocation) another);
+  }
+
+  private boolean equalTo(ImmutableAppleSdkLocation another) {
+    return appleSdkPaths.equals(another.appleSdkPaths);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code appleSdkPaths}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + appleSdkPaths.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AppleSdkLocation} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleSdkLocation")
+        .omitNullValues()
+        .add("appleSdkPaths", appleSdkPaths)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code AppleSdkLocation} instance.
+   * @param appleSdkPaths The value for the {@code appleSdkPaths} attribute
+   * @return An immutable AppleSdkLocation instance
+   */
+  public static ImmutableAppleSdkLocation of(Map<? extends AppleSdk, ? extends AppleSdkPaths> appleSdkPaths) {
+    return new ImmutableAppleSdkLocation(appleSdkPaths);
+  }
+}
@@ -0,0 +1,167 @@
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.artifact_cache.config.ArtifactCacheMode;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CacheResult}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCacheResult.of()}.
+ */
+@Generated(from = "CacheResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCacheResult extends CacheResult {
+  private final CacheResultType type;
+  private final @Nullable String cacheSource;
+  private final @Nullable ArtifactCacheMode cacheMode;
+  private final @Nullable String cacheError;
+  private final @Nullable ImmutableMap<String, String> metadata;
+  private final @Nullable Long artifactSizeBytes;
+  private final @Nullable String twoLevelContentHashKey;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableCacheResult(
+      CacheResultType type,
+      Optional<String> cacheSource,
+      Optional<? extends ArtifactCacheMode> cacheMode,
+      Optional<String> cacheError,
+      Optional<? extends ImmutableMap<String, String>> metadata,
+      Optional<Long> artifactSizeBytes,
+      Optional<String> twoLevelContentHashKey) {
+    this.type = Objects.requireNonNull(type, "type");
+    this.cacheSource = cacheSource.orElse(null);
+    this.cacheMode = cacheMode.orElse(null);
+    this.cacheError = cacheError.orElse(null);
+    this.metadata = metadata.orElse(null);
+    this.artifactSizeBytes = artifactSizeBytes.orElse(null);
+    this.twoLevelContentHashKey = twoLevelContentHashKey.orElse(null);
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public CacheResultType getType() {
+    return type;
+  }
+
+  /**
+   * @return The value of the {@code cacheSource} attribute
+   */
+  @Override
+  protected Optional<String> cacheSource() {
+    return Optional.ofNullable(cacheSource);
+  }
+
+  /**
+   * @return The value of the {@code cacheMode} attribute
+   */
+  @Override
+  public Optional<ArtifactCacheMode> cacheMode() {
+    return Optional.ofNullable(cacheMode);
+  }
+
+  /**
+   * @return The value of the {@code cacheError} attribute
+   */
+  @Override
+  public Optional<String> cacheError() {
+    return Optional.ofNullable(cacheError);
+  }
+
+  /**
+   * @return The value of the {@code metadata} attribute
+   */
+  @Override
+  public Optional<ImmutableMap<String, String>> metadata() {
+    return Optional.ofNullable(metadata);
+  }
+
+  /**
+   * @return The value of the {@code artifactSizeBytes} attribute
+   */
+  @Override
+  public Optional<Long> artifactSizeBytes() {
+    return Optional.ofNullable(artifactSizeBytes);
+  }
+
+  /**
+   * @return The value of the {@code twoLevelContentHashKey} attribute
+   */
+  @Override
+  public Optional<String> twoLevelContentHashKey() {
+    return Optional.ofNullable(twoLevelContentHashKey);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCacheResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCacheResult
+        && equalTo((ImmutableCacheResult) another);
+  }
+
+  private boolean equalTo(ImmutableCacheResult another) {
+    return type.equals(another.type)
+        && Objects.equals(cacheSource, another.cacheSource)
+        && Objects.equals(cacheMode, another.cacheMode)
+        && Objects.equals(cacheError, another.cacheError)
+        && Objects.equals(metadata, another.metadata)
+        && Objects.equals(artifactSizeBytes, another.artifactSizeBytes)
+        && Objects.equals(twoLevelContentHashKey, another.twoLevelContentHashKey);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code type}, {@code cacheSource}, {@code cacheMode}, {@code cacheError}, {@code metadata}, {@code artifactSizeBytes}, {@code twoLevelContentHashKey}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + type.hashCode();
+    h += (h << 5) + Objects.hashCode(cacheSource);
+    h += (h << 5) + Objects.hashCode(cacheMode);
+    h += (h << 5) + Objects.hashCode(cacheError);
+    h += (h << 5) + Objects.hashCode(metadata);
+    h += (h << 5) + Objects.hashCode(artifactSizeBytes);
+    h += (h << 5) + Objects.hashCode(twoLevelContentHashKey);
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code CacheResult} instance.
+   * @param type The value for the {@code type} attribute
+   * @param cacheSource The value for the {@code cacheSource} attribute
+   * @param cacheMode The value for the {@code cacheMode} attribute
+   * @param cacheError The value for the {@code cacheError} attribute
+   * @param metadata The value for the {@code metadata} attribute
+   * @param artifactSizeBytes The value for the {@code artifactSizeBytes} attribute
+   * @param twoLevelContentHashKey The value for the {@code twoLevelContentHashKey} attribute
+   * @return An immutable CacheResult instance
+   */
+  public static ImmutableCacheResult of(CacheResultType type, Optional<String> cacheSource, Optional<? extends ArtifactCacheMode> cacheMode, Optional<String> cacheError, Optional<? extends ImmutableMap<String, String>> metadata, Optional<Long> artifactSizeBytes, Optional<String> twoLevelContentHashKey) {
+    return validate(new ImmutableCacheResult(type, cacheSource, cacheMode, cacheError, metadata, artifactSizeBytes, twoLevelContentHashKey));
+  }
+
+
+  private static ImmutableCacheResult validate(ImmutableCacheResult instance) {
+    instance.check();
+    return instance;
+  }
+}
@@ -0,0 +1,95 @@
+package com.facebook.buck.artifact_cache;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractAsynchronousCache.MultiFetchResult}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableMultiFetchResult.of()}.
+ */
+@Generated(from = "AbstractAsynchronousCache.MultiFetchResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableMultiFetchResult
+    implements AbstractAsynchronousCache.MultiFetchResult {
+  private final ImmutableList<AbstractAsynchronousCache.FetchResult> results;
+
+  private ImmutableMultiFetchResult(Iterable<? extends AbstractAsynchronousCache.FetchResult> results) {
+    this.results = ImmutableList.copyOf(results);
+  }
+
+  /**
+   * @return The value of the {@code results} attribute
+   */
+  @Override
+  public ImmutableList<AbstractAsynchronousCache.FetchResult> getResults() {
+    return results;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableMultiFetchResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableMultiFetchResult
+        && equalTo((ImmutableMultiFetchResult) another);
+  }
+
+  private boolean equalTo(ImmutableMultiFetchResult another) {
+    return results.equals(another.results);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code results}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + results.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code MultiFetchResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("MultiFetchResult")
+        .omitNullValues()
+        .add("results", results)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code MultiFetchResult} instance.
+   * @param results The value for the {@code results} attribute
+   * @return An immutable MultiFetchResult instance
+   */
+  public static ImmutableMultiFetchResult of(ImmutableList<AbstractAsynchronousCache.FetchResult> results) {
+    return of((Iterable<? extends AbstractAsynchronousCache.FetchResult>) results);
+  }
+
+  /**
+   * Construct a new immutable {@code MultiFetchResult} instance.
+   * @param results The value for the {@code results} attribute
+   * @return An immutable MultiFetchResult instance
+   */
+  public static ImmutableMultiFetchResult of(Iterable<? extends AbstractAsynchronousCache.FetchResult> results) {
+    return new ImmutableMultiFetchResult(results);
+  }
+}
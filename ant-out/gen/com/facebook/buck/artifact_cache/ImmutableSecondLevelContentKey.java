@@ -0,0 +1,165 @@
+package com.facebook.buck.artifact_cache;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link SecondLevelContentKey}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new SecondLevelContentKey.Builder()}.
+ */
+@Generated(from = "SecondLevelContentKey", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableSecondLevelContentKey
+    extends SecondLevelContentKey {
+  private final SecondLevelContentKey.Type type;
+  private final String key;
+
+  private ImmutableSecondLevelContentKey(ImmutableSecondLevelContentKey.Builder builder) {
+    this.type = builder.type;
+    this.key = builder.key;
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public SecondLevelContentKey.Type getType() {
+    return type;
+  }
+
+  /**
+   * @return The value of the {@code key} attribute
+   */
+  @Override
+  public String getKey() {
+    return key;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableSecondLevelContentKey} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableSecondLevelContentKey
+        && equalTo((ImmutableSecondLevelContentKey) another);
+  }
+
+  private boolean equalTo(ImmutableSecondLevelContentKey another) {
+    return type.equals(another.type)
+        && key.equals(another.key);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code type}, {@code key}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + type.hashCode();
+    h += (h << 5) + key.hashCode();
+    return h;
+  }
+
+  /**
+   * Builds instances of type {@link SecondLevelContentKey SecondLevelContentKey}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "SecondLevelContentKey", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private static final long INIT_BIT_TYPE = 0x1L;
+    private static final long INIT_BIT_KEY = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable SecondLevelContentKey.Type type;
+    private @Nullable String key;
+
+    /**
+     * Creates a builder for {@link SecondLevelContentKey SecondLevelContentKey} instances.
+     */
+    public Builder() {
+      if (!(this instanceof SecondLevelContentKey.Builder)) {
+        throw new UnsupportedOperationException("Use: new SecondLevelContentKey.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code SecondLevelContentKey} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SecondLevelContentKey.Builder from(SecondLevelContentKey instance) {
+      Objects.requireNonNull(instance, "instance");
+      setType(instance.getType());
+      setKey(instance.getKey());
+      return (SecondLevelContentKey.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link SecondLevelContentKey#getType() type} attribute.
+     * @param type The value for type 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SecondLevelContentKey.Builder setType(SecondLevelContentKey.Type type) {
+      this.type = Objects.requireNonNull(type, "type");
+      initBits &= ~INIT_BIT_TYPE;
+      return (SecondLevelContentKey.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link SecondLevelContentKey#getKey() key} attribute.
+     * @param key The value for key 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SecondLevelContentKey.Builder setKey(String key) {
+      this.key = Objects.requireNonNull(key, "key");
+      initBits &= ~INIT_BIT_KEY;
+      return (SecondLevelContentKey.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link SecondLevelContentKey SecondLevelContentKey}.
+     * @return An immutable instance of SecondLevelContentKey
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public SecondLevelContentKey build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ImmutableSecondLevelContentKey(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_TYPE) != 0) attributes.add("type");
+      if ((initBits & INIT_BIT_KEY) != 0) attributes.add("key");
+      return "Cannot build SecondLevelContentKey, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,232 @@
+package com.facebook.buck.artifact_cache;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractAsynchronousCache.StoreResult}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ImmutableStoreResult.builder()}.
+ */
+@Generated(from = "AbstractAsynchronousCache.StoreResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableStoreResult
+    implements AbstractAsynchronousCache.StoreResult {
+  private final @Nullable Long requestSizeBytes;
+  private final @Nullable String artifactContentHash;
+  private final @Nullable Boolean wasStoreSuccessful;
+
+  private ImmutableStoreResult(ImmutableStoreResult.Builder builder) {
+    this.requestSizeBytes = builder.requestSizeBytes;
+    this.artifactContentHash = builder.artifactContentHash;
+    this.wasStoreSuccessful = builder.wasStoreSuccessful;
+  }
+
+  /**
+   * @return The value of the {@code requestSizeBytes} attribute
+   */
+  @Override
+  public Optional<Long> getRequestSizeBytes() {
+    return Optional.ofNullable(requestSizeBytes);
+  }
+
+  /**
+   * @return The value of the {@code artifactContentHash} attribute
+   */
+  @Override
+  public Optional<String> getArtifactContentHash() {
+    return Optional.ofNullable(artifactContentHash);
+  }
+
+  /**
+   * @return The value of the {@code wasStoreSuccessful} attribute
+   */
+  @Override
+  public Optional<Boolean> getWasStoreSuccessful() {
+    return Optional.ofNullable(wasStoreSuccessful);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableStoreResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableStoreResult
+        && equalTo((ImmutableStoreResult) another);
+  }
+
+  private boolean equalTo(ImmutableStoreResult another) {
+    return Objects.equals(requestSizeBytes, another.requestSizeBytes)
+        && Objects.equals(artifactContentHash, another.artifactContentHash)
+        && Objects.equals(wasStoreSuccessful, another.wasStoreSuccessful);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code requestSizeBytes}, {@code artifactContentHash}, {@code wasStoreSuccessful}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(requestSizeBytes);
+    h += (h << 5) + Objects.hashCode(artifactContentHash);
+    h += (h << 5) + Objects.hashCode(wasStoreSuccessful);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code StoreResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("StoreResult")
+        .omitNullValues()
+        .add("requestSizeBytes", requestSizeBytes)
+        .add("artifactContentHash", artifactContentHash)
+        .add("wasStoreSuccessful", wasStoreSuccessful)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link AbstractAsynchronousCache.StoreResult StoreResult}.
+   * @return A new StoreResult builder
+   */
+  public static ImmutableStoreResult.Builder builder() {
+    return new ImmutableStoreResult.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AbstractAsynchronousCache.StoreResult StoreResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractAsynchronousCache.StoreResult", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private @Nullable Long requestSizeBytes;
+    private @Nullable String artifactContentHash;
+    private @Nullable Boolean wasStoreSuccessful;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code StoreResult} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AbstractAsynchronousCache.StoreResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<Long> requestSizeBytesOptional = instance.getRequestSizeBytes();
+      if (requestSizeBytesOptional.isPresent()) {
+        setRequestSizeBytes(requestSizeBytesOptional);
+      }
+      Optional<String> artifactContentHashOptional = instance.getArtifactContentHash();
+      if (artifactContentHashOptional.isPresent()) {
+        setArtifactContentHash(artifactContentHashOptional);
+      }
+      Optional<Boolean> wasStoreSuccessfulOptional = instance.getWasStoreSuccessful();
+      if (wasStoreSuccessfulOptional.isPresent()) {
+        setWasStoreSuccessful(wasStoreSuccessfulOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAsynchronousCache.StoreResult#getRequestSizeBytes() requestSizeBytes} to requestSizeBytes.
+     * @param requestSizeBytes The value for requestSizeBytes
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRequestSizeBytes(long requestSizeBytes) {
+      this.requestSizeBytes = requestSizeBytes;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAsynchronousCache.StoreResult#getRequestSizeBytes() requestSizeBytes} to requestSizeBytes.
+     * @param requestSizeBytes The value for requestSizeBytes
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRequestSizeBytes(Optional<Long> requestSizeBytes) {
+      this.requestSizeBytes = requestSizeBytes.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAsynchronousCache.StoreResult#getArtifactContentHash() artifactContentHash} to artifactContentHash.
+     * @param artifactContentHash The value for artifactContentHash
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setArtifactContentHash(String artifactContentHash) {
+      this.artifactContentHash = Objects.requireNonNull(artifactContentHash, "artifactContentHash");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAsynchronousCache.StoreResult#getArtifactContentHash() artifactContentHash} to artifactContentHash.
+     * @param artifactContentHash The value for artifactContentHash
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setArtifactContentHash(Optional<String> artifactContentHash) {
+      this.artifactContentHash = artifactContentHash.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAsynchronousCache.StoreResult#getWasStoreSuccessful() wasStoreSuccessful} to wasStoreSuccessful.
+     * @param wasStoreSuccessful The value for wasStoreSuccessful
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setWasStoreSuccessful(boolean wasStoreSuccessful) {
+      this.wasStoreSuccessful = wasStoreSuccessful;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAsynchronousCache.StoreResult#getWasStoreSuccessful() wasStoreSuccessful} to wasStoreSuccessful.
+     * @param wasStoreSuccessful The value for wasStoreSuccessful
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setWasStoreSuccessful(Optional<Boolean> wasStoreSuccessful) {
+      this.wasStoreSuccessful = wasStoreSuccessful.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AbstractAsynchronousCache.StoreResult StoreResult}.
+     * @return An immutable instance of StoreResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AbstractAsynchronousCache.StoreResult build() {
+      return new ImmutableStoreResult(this);
+    }
+  }
+}
@@ -0,0 +1,551 @@
+package com.facebook.buck.artifact_cache.config;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link HttpCacheEntry}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ImmutableHttpCacheEntry.builder()}.
+ */
+@Generated(from = "HttpCacheEntry", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableHttpCacheEntry extends HttpCacheEntry {
+  private final URI url;
+  private final int connectTimeoutSeconds;
+  private final int readTimeoutSeconds;
+  private final int writeTimeoutSeconds;
+  private final ImmutableMap<String, String> readHeaders;
+  private final ImmutableMap<String, String> writeHeaders;
+  private final CacheReadMode cacheReadMode;
+  private final ImmutableSet<String> blacklistedWifiSsids;
+  private final String errorMessageFormat;
+  private final int errorMessageLimit;
+  private final @Nullable Long maxStoreSize;
+
+  private ImmutableHttpCacheEntry(ImmutableHttpCacheEntry.Builder builder) {
+    this.url = builder.url;
+    this.connectTimeoutSeconds = builder.connectTimeoutSeconds;
+    this.readTimeoutSeconds = builder.readTimeoutSeconds;
+    this.writeTimeoutSeconds = builder.writeTimeoutSeconds;
+    this.readHeaders = builder.readHeaders.build();
+    this.writeHeaders = builder.writeHeaders.build();
+    this.cacheReadMode = builder.cacheReadMode;
+    this.blacklistedWifiSsids = builder.blacklistedWifiSsids.build();
+    this.errorMessageFormat = builder.errorMessageFormat;
+    this.errorMessageLimit = builder.errorMessageLimit;
+    this.maxStoreSize = builder.maxStoreSize;
+  }
+
+  /**
+   * @return The value of the {@code url} attribute
+   */
+  @Override
+  public URI getUrl() {
+    return url;
+  }
+
+  /**
+   * @return The value of the {@code connectTimeoutSeconds} attribute
+   */
+  @Override
+  public int getConnectTimeoutSeconds() {
+    return connectTimeoutSeconds;
+  }
+
+  /**
+   * @return The value of the {@code readTimeoutSeconds} attribute
+   */
+  @Override
+  public int getReadTimeoutSeconds() {
+    return readTimeoutSeconds;
+  }
+
+  /**
+   * @return The value of the {@code writeTimeoutSeconds} attribute
+   */
+  @Override
+  public int getWriteTimeoutSeconds() {
+    return writeTimeoutSeconds;
+  }
+
+  /**
+   * @return The value of the {@code readHeaders} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getReadHeaders() {
+    return readHeaders;
+  }
+
+  /**
+   * @return The value of the {@code writeHeaders} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getWriteHeaders() {
+    return writeHeaders;
+  }
+
+  /**
+   * @return The value of the {@code cacheReadMode} attribute
+   */
+  @Override
+  public CacheReadMode getCacheReadMode() {
+    return cacheReadMode;
+  }
+
+  /**
+   * @return The value of the {@code blacklistedWifiSsids} attribute
+   */
+  @Override
+  protected ImmutableSet<String> getBlacklistedWifiSsids() {
+    return blacklistedWifiSsids;
+  }
+
+  /**
+   * @return The value of the {@code errorMessageFormat} attribute
+   */
+  @Override
+  public String getErrorMessageFormat() {
+    return errorMessageFormat;
+  }
+
+  /**
+   * @return The value of the {@code errorMessageLimit} attribute
+   */
+  @Override
+  public int getErrorMessageLimit() {
+    return errorMessageLimit;
+  }
+
+  /**
+   * @return The value of the {@code maxStoreSize} attribute
+   */
+  @Override
+  public Optional<Long> getMaxStoreSize() {
+    return Optional.ofNullable(maxStoreSize);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableHttpCacheEntry} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableHttpCacheEntry
+        && equalTo((ImmutableHttpCacheEntry) another);
+  }
+
+  private boolean equalTo(ImmutableHttpCacheEntry another) {
+    return url.equals(another.url)
+        && connectTimeoutSeconds == another.connectTimeoutSeconds
+        && readTimeoutSeconds == another.readTimeoutSeconds
+        && writeTimeoutSeconds == another.writeTimeoutSeconds
+        && readHeaders.equals(another.readHeaders)
+        && writeHeaders.equals(another.writeHeaders)
+        && cacheReadMode.equals(another.cacheReadMode)
+        && blacklistedWifiSsids.equals(another.blacklistedWifiSsids)
+        && errorMessageFormat.equals(another.errorMessageFormat)
+        && errorMessageLimit == another.errorMessageLimit
+        && Objects.equals(maxStoreSize, another.maxStoreSize);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code url}, {@code connectTimeoutSeconds}, {@code readTimeoutSeconds}, {@code writeTimeoutSeconds}, {@code readHeaders}, {@code writeHeaders}, {@code cacheReadMode}, {@code blacklistedWifiSsids}, {@code errorMessageFormat}, {@code errorMessageLimit}, {@code maxStoreSize}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + url.hashCode();
+    h += (h << 5) + connectTimeoutSeconds;
+    h += (h << 5) + readTimeoutSeconds;
+    h += (h << 5) + writeTimeoutSeconds;
+    h += (h << 5) + readHeaders.hashCode();
+    h += (h << 5) + writeHeaders.hashCode();
+    h += (h << 5) + cacheReadMode.hashCode();
+    h += (h << 5) + blacklistedWifiSsids.hashCode();
+    h += (h << 5) + errorMessageFormat.hashCode();
+    h += (h << 5) + errorMessageLimit;
+    h += (h << 5) + Objects.hashCode(maxStoreSize);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code HttpCacheEntry} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("HttpCacheEntry")
+        .omitNullValues()
+        .add("url", url)
+        .add("connectTimeoutSeconds", connectTimeoutSeconds)
+        .add("readTimeoutSeconds", readTimeoutSeconds)
+        .add("writeTimeoutSeconds", writeTimeoutSeconds)
+        .add("readHeaders", readHeaders)
+        .add("writeHeaders", writeHeaders)
+        .add("cacheReadMode", cacheReadMode)
+        .add("blacklistedWifiSsids", blacklistedWifiSsids)
+        .add("errorMessageFormat", errorMessageFormat)
+        .add("errorMessageLimit", errorMessageLimit)
+        .add("maxStoreSize", maxStoreSize)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link HttpCacheEntry HttpCacheEntry}.
+   * @return A new HttpCacheEntry builder
+   */
+  public static ImmutableHttpCacheEntry.Builder builder() {
+    return new ImmutableHttpCacheEntry.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link HttpCacheEntry HttpCacheEntry}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "HttpCacheEntry", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_URL = 0x1L;
+    private static final long INIT_BIT_CONNECT_TIMEOUT_SECONDS = 0x2L;
+    private static final long INIT_BIT_READ_TIMEOUT_SECONDS = 0x4L;
+    private static final long INIT_BIT_WRITE_TIMEOUT_SECONDS = 0x8L;
+    private static final long INIT_BIT_CACHE_READ_MODE = 0x10L;
+    private static final long INIT_BIT_ERROR_MESSAGE_FORMAT = 0x20L;
+    private static final long INIT_BIT_ERROR_MESSAGE_LIMIT = 0x40L;
+    private long initBits = 0x7fL;
+
+    private @Nullable URI url;
+    private int connectTimeoutSeconds;
+    private int readTimeoutSeconds;
+    private int writeTimeoutSeconds;
+    private ImmutableMap.Builder<String, String> readHeaders = ImmutableMap.builder();
+    private ImmutableMap.Builder<String, String> writeHeaders = ImmutableMap.builder();
+    private @Nullable CacheReadMode cacheReadMode;
+    private ImmutableSet.Builder<String> blacklistedWifiSsids = ImmutableSet.builder();
+    private @Nullable String errorMessageFormat;
+    private int errorMessageLimit;
+    private @Nullable Long maxStoreSize;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code HttpCacheEntry} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HttpCacheEntry instance) {
+      Objects.requireNonNull(instance, "instance");
+      setUrl(instance.getUrl());
+      setConnectTimeoutSeconds(instance.getConnectTimeoutSeconds());
+      setReadTimeoutSeconds(instance.getReadTimeoutSeconds());
+      setWriteTimeoutSeconds(instance.getWriteTimeoutSeconds());
+      putAllReadHeaders(instance.getReadHeaders());
+      putAllWriteHeaders(instance.getWriteHeaders());
+      setCacheReadMode(instance.getCacheReadMode());
+      addAllBlacklistedWifiSsids(instance.getBlacklistedWifiSsids());
+      setErrorMessageFormat(instance.getErrorMessageFormat());
+      setErrorMessageLimit(instance.getErrorMessageLimit());
+      Optional<Long> maxStoreSizeOptional = instance.getMaxStoreSize();
+      if (maxStoreSizeOptional.isPresent()) {
+        setMaxStoreSize(maxStoreSizeOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link HttpCacheEntry#getUrl() url} attribute.
+     * @param url The value for url 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setUrl(URI url) {
+      this.url = Objects.requireNonNull(url, "url");
+      initBits &= ~INIT_BIT_URL;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link HttpCacheEntry#getConnectTimeoutSeconds() connectTimeoutSeconds} attribute.
+     * @param connectTimeoutSeconds The value for connectTimeoutSeconds 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setConnectTimeoutSeconds(int connectTimeoutSeconds) {
+      this.connectTimeoutSeconds = connectTimeoutSeconds;
+      initBits &= ~INIT_BIT_CONNECT_TIMEOUT_SECONDS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link HttpCacheEntry#getReadTimeoutSeconds() readTimeoutSeconds} attribute.
+     * @param readTimeoutSeconds The value for readTimeoutSeconds 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setReadTimeoutSeconds(int readTimeoutSeconds) {
+      this.readTimeoutSeconds = readTimeoutSeconds;
+      initBits &= ~INIT_BIT_READ_TIMEOUT_SECONDS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link HttpCacheEntry#getWriteTimeoutSeconds() writeTimeoutSeconds} attribute.
+     * @param writeTimeoutSeconds The value for writeTimeoutSeconds 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setWriteTimeoutSeconds(int writeTimeoutSeconds) {
+      this.writeTimeoutSeconds = writeTimeoutSeconds;
+      initBits &= ~INIT_BIT_WRITE_TIMEOUT_SECONDS;
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link HttpCacheEntry#getReadHeaders() readHeaders} map.
+     * @param key The key in the readHeaders map
+     * @param value The associated value in the readHeaders map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putReadHeaders(String key, String value) {
+      this.readHeaders.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link HttpCacheEntry#getReadHeaders() readHeaders} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putReadHeaders(Map.Entry<String, ? extends String> entry) {
+      this.readHeaders.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link HttpCacheEntry#getReadHeaders() readHeaders} map. Nulls are not permitted
+     * @param entries The entries that will be added to the readHeaders map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setReadHeaders(Map<String, ? extends String> entries) {
+      this.readHeaders = ImmutableMap.builder();
+      return putAllReadHeaders(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link HttpCacheEntry#getReadHeaders() readHeaders} map. Nulls are not permitted
+     * @param entries The entries that will be added to the readHeaders map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllReadHeaders(Map<String, ? extends String> entries) {
+      this.readHeaders.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link HttpCacheEntry#getWriteHeaders() writeHeaders} map.
+     * @param key The key in the writeHeaders map
+     * @param value The associated value in the writeHeaders map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putWriteHeaders(String key, String value) {
+      this.writeHeaders.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link HttpCacheEntry#getWriteHeaders() writeHeaders} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putWriteHeaders(Map.Entry<String, ? extends String> entry) {
+      this.writeHeaders.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link HttpCacheEntry#getWriteHeaders() writeHeaders} map. Nulls are not permitted
+     * @param entries The entries that will be added to the writeHeaders map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setWriteHeaders(Map<String, ? extends String> entries) {
+      this.writeHeaders = ImmutableMap.builder();
+      return putAllWriteHeaders(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link HttpCacheEntry#getWriteHeaders() writeHeaders} map. Nulls are not permitted
+     * @param entries The entries that will be added to the writeHeaders map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllWriteHeaders(Map<String, ? extends String> entries) {
+      this.writeHeaders.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link HttpCacheEntry#getCacheReadMode() cacheReadMode} attribute.
+     * @param cacheReadMode The value for cacheReadMode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCacheReadMode(CacheReadMode cacheReadMode) {
+      this.cacheReadMode = Objects.requireNonNull(cacheReadMode, "cacheReadMode");
+      initBits &= ~INIT_BIT_CACHE_READ_MODE;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link HttpCacheEntry#getBlacklistedWifiSsids() blacklistedWifiSsids} set.
+     * @param element A blacklistedWifiSsids element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addBlacklistedWifiSsids(String element) {
+      this.blacklistedWifiSsids.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link HttpCacheEntry#getBlacklistedWifiSsids() blacklistedWifiSsids} set.
+     * @param elements An array of blacklistedWifiSsids elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addBlacklistedWifiSsids(String... elements) {
+      this.blacklistedWifiSsids.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link HttpCacheEntry#getBlacklistedWifiSsids() blacklistedWifiSsids} set.
+     * @param elements An iterable of blacklistedWifiSsids elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBlacklistedWifiSsids(Iterable<String> elements) {
+      this.blacklistedWifiSsids = ImmutableSet.builder();
+      return addAllBlacklistedWifiSsids(elements);
+    }
+
+    /**
+     * Adds elements to {@link HttpCacheEntry#getBlacklistedWifiSsids() blacklistedWifiSsids} set.
+     * @param elements An iterable of blacklistedWifiSsids elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllBlacklistedWifiSsids(Iterable<String> elements) {
+      this.blacklistedWifiSsids.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link HttpCacheEntry#getErrorMessageFormat() errorMessageFormat} attribute.
+     * @param errorMessageFormat The value for errorMessageFormat 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setErrorMessageFormat(String errorMessageFormat) {
+      this.errorMessageFormat = Objects.requireNonNull(errorMessageFormat, "errorMessageFormat");
+      initBits &= ~INIT_BIT_ERROR_MESSAGE_FORMAT;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link HttpCacheEntry#getErrorMessageLimit() errorMessageLimit} attribute.
+     * @param errorMessageLimit The value for errorMessageLimit 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setErrorMessageLimit(int errorMessageLimit) {
+      this.errorMessageLimit = errorMessageLimit;
+      initBits &= ~INIT_BIT_ERROR_MESSAGE_LIMIT;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link HttpCacheEntry#getMaxStoreSize() maxStoreSize} to maxStoreSize.
+     * @param maxStoreSize The value for maxStoreSize
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMaxStoreSize(long maxStoreSize) {
+      this.maxStoreSize = maxStoreSize;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link HttpCacheEntry#getMaxStoreSize() maxStoreSize} to maxStoreSize.
+     * @param maxStoreSize The value for maxStoreSize
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMaxStoreSize(Optional<Long> maxStoreSize) {
+      this.maxStoreSize = maxStoreSize.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link HttpCacheEntry HttpCacheEntry}.
+     * @return An immutable instance of HttpCacheEntry
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public HttpCacheEntry build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ImmutableHttpCacheEntry(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_URL) != 0) attributes.add("url");
+      if ((initBits & INIT_BIT_CONNECT_TIMEOUT_SECONDS) != 0) attributes.add("connectTimeoutSeconds");
+      if ((initBits & INIT_BIT_READ_TIMEOUT_SECONDS) != 0) attributes.add("readTimeoutSeconds");
+      if ((initBits & INIT_BIT_WRITE_TIMEOUT_SECONDS) != 0) attributes.add("writeTimeoutSeconds");
+      if ((initBits & INIT_BIT_CACHE_READ_MODE) != 0) attributes.add("cacheReadMode");
+      if ((initBits & INIT_BIT_ERROR_MESSAGE_FORMAT) != 0) attributes.add("errorMessageFormat");
+      if ((initBits & INIT_BIT_ERROR_MESSAGE_LIMIT) != 0) attributes.add("errorMessageLimit");
+      return "Cannot build HttpCacheEntry, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,148 @@
+package com.facebook.buck.artifact_cache.config;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link SQLiteCacheEntry}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableSQLiteCacheEntry.of()}.
+ */
+@Generated(from = "SQLiteCacheEntry", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableSQLiteCacheEntry extends SQLiteCacheEntry {
+  private final @Nullable String name;
+  private final Path cacheDir;
+  private final @Nullable Long maxSizeBytes;
+  private final @Nullable Long maxInlinedSizeBytes;
+  private final CacheReadMode cacheReadMode;
+
+  private ImmutableSQLiteCacheEntry(
+      Optional<String> name,
+      Path cacheDir,
+      Optional<Long> maxSizeBytes,
+      Optional<Long> maxInlinedSizeBytes,
+      CacheReadMode cacheReadMode) {
+    this.name = name.orElse(null);
+    this.cacheDir = Objects.requireNonNull(cacheDir, "cacheDir");
+    this.maxSizeBytes = maxSizeBytes.orElse(null);
+    this.maxInlinedSizeBytes = maxInlinedSizeBytes.orElse(null);
+    this.cacheReadMode = Objects.requireNonNull(cacheReadMode, "cacheReadMode");
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public Optional<String> getName() {
+    return Optional.ofNullable(name);
+  }
+
+  /**
+   * @return The value of the {@code cacheDir} attribute
+   */
+  @Override
+  public Path getCacheDir() {
+    return cacheDir;
+  }
+
+  /**
+   * @return The value of the {@code maxSizeBytes} attribute
+   */
+  @Override
+  public Optional<Long> getMaxSizeBytes() {
+    return Optional.ofNullable(maxSizeBytes);
+  }
+
+  /**
+   * @return The value of the {@code maxInlinedSizeBytes} attribute
+   */
+  @Override
+  public Optional<Long> getMaxInlinedSizeBytes() {
+    return Optional.ofNullable(maxInlinedSizeBytes);
+  }
+
+  /**
+   * @return The value of the {@code cacheReadMode} attribute
+   */
+  @Override
+  public CacheReadMode getCacheReadMode() {
+    return cacheReadMode;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableSQLiteCacheEntry} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableSQLiteCacheEntry
+        && equalTo((ImmutableSQLiteCacheEntry) another);
+  }
+
+  private boolean equalTo(ImmutableSQLiteCacheEntry another) {
+    return Objects.equals(name, another.name)
+        && cacheDir.equals(another.cacheDir)
+        && Objects.equals(maxSizeBytes, another.maxSizeBytes)
+        && Objects.equals(maxInlinedSizeBytes, another.maxInlinedSizeBytes)
+        && cacheReadMode.equals(another.cacheReadMode);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code name}, {@code cacheDir}, {@code maxSizeBytes}, {@code maxInlinedSizeBytes}, {@code cacheReadMode}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(name);
+    h += (h << 5) + cacheDir.hashCode();
+    h += (h << 5) + Objects.hashCode(maxSizeBytes);
+    h += (h << 5) + Objects.hashCode(maxInlinedSizeBytes);
+    h += (h << 5) + cacheReadMode.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code SQLiteCacheEntry} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SQLiteCacheEntry")
+        .omitNullValues()
+        .add("name", name)
+        .add("cacheDir", cacheDir)
+        .add("maxSizeBytes", maxSizeBytes)
+        .add("maxInlinedSizeBytes", maxInlinedSizeBytes)
+        .add("cacheReadMode", cacheReadMode)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code SQLiteCacheEntry} instance.
+   * @param name The value for the {@code name} attribute
+   * @param cacheDir The value for the {@code cacheDir} attribute
+   * @param maxSizeBytes The value for the {@code maxSizeBytes} attribute
+   * @param maxInlinedSizeBytes The value for the {@code maxInlinedSizeBytes} attribute
+   * @param cacheReadMode The value for the {@code cacheReadMode} attribute
+   * @return An immutable SQLiteCacheEntry instance
+   */
+  public static ImmutableSQLiteCacheEntry of(Optional<String> name, Path cacheDir, Optional<Long> maxSizeBytes, Optional<Long> maxInlinedSizeBytes, CacheReadMode cacheReadMode) {
+    return new ImmutableSQLiteCacheEntry(name, cacheDir, maxSizeBytes, maxInlinedSizeBytes, cacheReadMode);
+  }
+}
@@ -0,0 +1,132 @@
+package com.facebook.buck.cli;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AuditConfigCommand.ConfigValue}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableConfigValue.of()}.
+ */
+@Generated(from = "AuditConfigCommand.ConfigValue", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableConfigValue extends AuditConfigCommand.ConfigValue {
+  private final String key;
+  private final String section;
+  private final String property;
+  private final @Nullable String value;
+
+  private ImmutableConfigValue(
+      String key,
+      String section,
+      String property,
+      Optional<String> value) {
+    this.key = Objects.requireNonNull(key, "key");
+    this.section = Objects.requireNonNull(section, "section");
+    this.property = Objects.requireNonNull(property, "property");
+    this.value = value.orElse(null);
+  }
+
+  /**
+   * @return The value of the {@code key} attribute
+   */
+  @Override
+  public String getKey() {
+    return key;
+  }
+
+  /**
+   * @return The value of the {@code section} attribute
+   */
+  @Override
+  public String getSection() {
+    return section;
+  }
+
+  /**
+   * @return The value of the {@code property} attribute
+   */
+  @Override
+  public String getProperty() {
+    return property;
+  }
+
+  /**
+   * @return The value of the {@code value} attribute
+   */
+  @Override
+  public Optional<String> getValue() {
+    return Optional.ofNullable(value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableConfigValue} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableConfigValue
+        && equalTo((ImmutableConfigValue) another);
+  }
+
+  private boolean equalTo(ImmutableConfigValue another) {
+    return key.equals(another.key)
+        && section.equals(another.section)
+        && property.equals(another.property)
+        && Objects.equals(value, another.value);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code key}, {@code section}, {@code property}, {@code value}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + key.hashCode();
+    h += (h << 5) + section.hashCode();
+    h += (h << 5) + property.hashCode();
+    h += (h << 5) + Objects.hashCode(value);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ConfigValue} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ConfigValue")
+        .omitNullValues()
+        .add("key", key)
+        .add("section", section)
+        .add("property", property)
+        .add("value", value)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ConfigValue} instance.
+   * @param key The value for the {@code key} attribute
+   * @param section The value for the {@code section} attribute
+   * @param property The value for the {@code property} attribute
+   * @param value The value for the {@code value} attribute
+   * @return An immutable ConfigValue instance
+   */
+  public static ImmutableConfigValue of(String key, String section, String property, Optional<String> value) {
+    return new ImmutableConfigValue(key, section, property, value);
+  }
+}
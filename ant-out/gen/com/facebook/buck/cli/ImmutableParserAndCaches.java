@@ -0,0 +1,154 @@
+package com.facebook.buck.cli;
+
+import com.facebook.buck.core.model.actiongraph.computation.ActionGraphProvider;
+import com.facebook.buck.core.rulekey.RuleKey;
+import com.facebook.buck.parser.Parser;
+import com.facebook.buck.rules.coercer.TypeCoercerFactory;
+import com.facebook.buck.rules.keys.RuleKeyCacheRecycler;
+import com.facebook.buck.versions.InstrumentedVersionedTargetGraphCache;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link MainRunner.ParserAndCaches}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableParserAndCaches.of()}.
+ */
+@Generated(from = "MainRunner.ParserAndCaches", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableParserAndCaches implements MainRunner.ParserAndCaches {
+  private final Parser parser;
+  private final TypeCoercerFactory typeCoercerFactory;
+  private final InstrumentedVersionedTargetGraphCache versionedTargetGraphCache;
+  private final ActionGraphProvider actionGraphProvider;
+  private final @Nullable RuleKeyCacheRecycler<RuleKey> defaultRuleKeyFactoryCacheRecycler;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableParserAndCaches(
+      Parser parser,
+      TypeCoercerFactory typeCoercerFactory,
+      InstrumentedVersionedTargetGraphCache versionedTargetGraphCache,
+      ActionGraphProvider actionGraphProvider,
+      Optional<? extends RuleKeyCacheRecycler<RuleKey>> defaultRuleKeyFactoryCacheRecycler) {
+    this.parser = Objects.requireNonNull(parser, "parser");
+    this.typeCoercerFactory = Objects.requireNonNull(typeCoercerFactory, "typeCoercerFactory");
+    this.versionedTargetGraphCache = Objects.requireNonNull(versionedTargetGraphCache, "versionedTargetGraphCache");
+    this.actionGraphProvider = Objects.requireNonNull(actionGraphProvider, "actionGraphProvider");
+    this.defaultRuleKeyFactoryCacheRecycler = defaultRuleKeyFactoryCacheRecycler.orElse(null);
+  }
+
+  /**
+   * @return The value of the {@code parser} attribute
+   */
+  @Override
+  public Parser getParser() {
+    return parser;
+  }
+
+  /**
+   * @return The value of the {@code typeCoercerFactory} attribute
+   */
+  @Override
+  public TypeCoercerFactory getTypeCoercerFactory() {
+    return typeCoercerFactory;
+  }
+
+  /**
+   * @return The value of the {@code versionedTargetGraphCache} attribute
+   */
+  @Override
+  public InstrumentedVersionedTargetGraphCache getVersionedTargetGraphCache() {
+    return versionedTargetGraphCache;
+  }
+
+  /**
+   * @return The value of the {@code actionGraphProvider} attribute
+   */
+  @Override
+  public ActionGraphProvider getActionGraphProvider() {
+    return actionGraphProvider;
+  }
+
+  /**
+   * @return The value of the {@code defaultRuleKeyFactoryCacheRecycler} attribute
+   */
+  @Override
+  public Optional<RuleKeyCacheRecycler<RuleKey>> getDefaultRuleKeyFactoryCacheRecycler() {
+    return Optional.ofNullable(defaultRuleKeyFactoryCacheRecycler);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableParserAndCaches} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableParserAndCaches
+        && equalTo((ImmutableParserAndCaches) another);
+  }
+
+  private boolean equalTo(ImmutableParserAndCaches another) {
+    return parser.equals(another.parser)
+        && typeCoercerFactory.equals(another.typeCoercerFactory)
+        && versionedTargetGraphCache.equals(another.versionedTargetGraphCache)
+        && actionGraphProvider.equals(another.actionGraphProvider)
+        && Objects.equals(defaultRuleKeyFactoryCacheRecycler, another.defaultRuleKeyFactoryCacheRecycler);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code parser}, {@code typeCoercerFactory}, {@code versionedTargetGraphCache}, {@code actionGraphProvider}, {@code defaultRuleKeyFactoryCacheRecycler}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + parser.hashCode();
+    h += (h << 5) + typeCoercerFactory.hashCode();
+    h += (h << 5) + versionedTargetGraphCache.hashCode();
+    h += (h << 5) + actionGraphProvider.hashCode();
+    h += (h << 5) + Objects.hashCode(defaultRuleKeyFactoryCacheRecycler);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ParserAndCaches} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ParserAndCaches")
+        .omitNullValues()
+        .add("parser", parser)
+        .add("typeCoercerFactory", typeCoercerFactory)
+        .add("versionedTargetGraphCache", versionedTargetGraphCache)
+        .add("actionGraphProvider", actionGraphProvider)
+        .add("defaultRuleKeyFactoryCacheRecycler", defaultRuleKeyFactoryCacheRecycler)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ParserAndCaches} instance.
+   * @param parser The value for the {@code parser} attribute
+   * @param typeCoercerFactory The value for the {@code typeCoercerFactory} attribute
+   * @param versionedTargetGraphCache The value for the {@code versionedTargetGraphCache} attribute
+   * @param actionGraphProvider The value for the {@code actionGraphProvider} attribute
+   * @param defaultRuleKeyFactoryCacheRecycler The value for the {@code defaultRuleKeyFactoryCacheRecycler} attribute
+   * @return An immutable ParserAndCaches instance
+   */
+  public static ImmutableParserAndCaches of(Parser parser, TypeCoercerFactory typeCoercerFactory, InstrumentedVersionedTargetGraphCache versionedTargetGraphCache, ActionGraphProvider actionGraphProvider, Optional<? extends RuleKeyCacheRecycler<RuleKey>> defaultRuleKeyFactoryCacheRecycler) {
+    return new ImmutableParserAndCaches(parser, typeCoercerFactory, versionedTargetGraphCache, actionGraphProvider, defaultRuleKeyFactoryCacheRecycler);
+  }
+}
@@ -0,0 +1,149 @@
+package com.facebook.buck.cli;
+
+import com.facebook.buck.core.test.rule.TestRule;
+import com.facebook.buck.step.Step;
+import com.facebook.buck.test.TestResults;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link TestRun}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableTestRun.of()}.
+ */
+@Generated(from = "TestRun", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableTestRun implements TestRun {
+  private final TestRule test;
+  private final ImmutableList<Step> steps;
+  private final Callable<TestResults> testResultsCallable;
+  private final TestRule.TestReportingCallback testReportingCallback;
+
+  private ImmutableTestRun(
+      TestRule test,
+      Iterable<? extends Step> steps,
+      Callable<TestResults> testResultsCallable,
+      TestRule.TestReportingCallback testReportingCallback) {
+    this.test = Objects.requireNonNull(test, "test");
+    this.steps = ImmutableList.copyOf(steps);
+    this.testResultsCallable = Objects.requireNonNull(testResultsCallable, "testResultsCallable");
+    this.testReportingCallback = Objects.requireNonNull(testReportingCallback, "testReportingCallback");
+  }
+
+  /**
+   * @return The value of the {@code test} attribute
+   */
+  @Override
+  public TestRule getTest() {
+    return test;
+  }
+
+  /**
+   * @return The value of the {@code steps} attribute
+   */
+  @Override
+  public ImmutableList<Step> getSteps() {
+    return steps;
+  }
+
+  /**
+   * @return The value of the {@code testResultsCallable} attribute
+   */
+  @Override
+  public Callable<TestResults> getTestResultsCallable() {
+    return testResultsCallable;
+  }
+
+  /**
+   * @return The value of the {@code testReportingCallback} attribute
+   */
+  @Override
+  public TestRule.TestReportingCallback getTestReportingCallback() {
+    return testReportingCallback;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableTestRun} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableTestRun
+        && equalTo((ImmutableTestRun) another);
+  }
+
+  private boolean equalTo(ImmutableTestRun another) {
+    return test.equals(another.test)
+        && steps.equals(another.steps)
+        && testResultsCallable.equals(another.testResultsCallable)
+        && testReportingCallback.equals(another.testReportingCallback);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code test}, {@code steps}, {@code testResultsCallable}, {@code testReportingCallback}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + test.hashCode();
+    h += (h << 5) + steps.hashCode();
+    h += (h << 5) + testResultsCallable.hashCode();
+    h += (h << 5) + testReportingCallback.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code TestRun} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("TestRun")
+        .omitNullValues()
+        .add("test", test)
+        .add("steps", steps)
+        .add("testResultsCallable", testResultsCallable)
+        .add("testReportingCallback", testReportingCallback)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code TestRun} instance.
+   * @param test The value for the {@code test} attribute
+   * @param steps The value for the {@code steps} attribute
+   * @param testResultsCallable The value for the {@code testResultsCallable} attribute
+   * @param testReportingCallback The value for the {@code testReportingCallback} attribute
+   * @return An immutable TestRun instance
+   */
+  public static ImmutableTestRun of(TestRule test, List<Step> steps, Callable<TestResults> testResultsCallable, TestRule.TestReportingCallback testReportingCallback) {
+    return of(test, (Iterable<? extends Step>) steps, testResultsCallable, testReportingCallback);
+  }
+
+  /**
+   * Construct a new immutable {@code TestRun} instance.
+   * @param test The value for the {@code test} attribute
+   * @param steps The value for the {@code steps} attribute
+   * @param testResultsCallable The value for the {@code testResultsCallable} attribute
+   * @param testReportingCallback The value for the {@code testReportingCallback} attribute
+   * @return An immutable TestRun instance
+   */
+  public static ImmutableTestRun of(TestRule test, Iterable<? extends Step> steps, Callable<TestResults> testResultsCallable, TestRule.TestReportingCallback testReportingCallback) {
+    return new ImmutableTestRun(test, steps, testResultsCallable, testReportingCallback);
+  }
+}
@@ -0,0 +1,116 @@
+package com.facebook.buck.command;
+
+import com.facebook.buck.core.build.engine.BuildResult;
+import com.facebook.buck.core.rules.BuildRule;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link Build.BuildExecutionResult}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuildExecutionResult.of()}.
+ */
+@Generated(from = "Build.BuildExecutionResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableBuildExecutionResult extends Build.BuildExecutionResult {
+  private final ImmutableMap<BuildRule, Optional<BuildResult>> results;
+  private final ImmutableSet<BuildResult> failures;
+
+  private ImmutableBuildExecutionResult(
+      Map<? extends BuildRule, ? extends Optional<BuildResult>> results,
+      Iterable<? extends BuildResult> failures) {
+    this.results = ImmutableMap.copyOf(results);
+    this.failures = ImmutableSet.copyOf(failures);
+  }
+
+  /**
+   * @return The value of the {@code results} attribute
+   */
+  @Override
+  public ImmutableMap<BuildRule, Optional<BuildResult>> getResults() {
+    return results;
+  }
+
+  /**
+   * @return The value of the {@code failures} attribute
+   */
+  @Override
+  public ImmutableSet<BuildResult> getFailures() {
+    return failures;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuildExecutionResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuildExecutionResult
+        && equalTo((ImmutableBuildExecutionResult) another);
+  }
+
+  private boolean equalTo(ImmutableBuildExecutionResult another) {
+    return results.equals(another.results)
+        && failures.equals(another.failures);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code results}, {@code failures}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + results.hashCode();
+    h += (h << 5) + failures.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildExecutionResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildExecutionResult")
+        .omitNullValues()
+        .add("results", results)
+        .add("failures", failures)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code BuildExecutionResult} instance.
+   * @param results The value for the {@code results} attribute
+   * @param failures The value for the {@code failures} attribute
+   * @return An immutable BuildExecutionResult instance
+   */
+  public static ImmutableBuildExecutionResult of(Map<BuildRule, Optional<BuildResult>> results, ImmutableSet<BuildResult> failures) {
+    return of(results, (Iterable<? extends BuildResult>) failures);
+  }
+
+  /**
+   * Construct a new immutable {@code BuildExecutionResult} instance.
+   * @param results The value for the {@code results} attribute
+   * @param failures The value for the {@code failures} attribute
+   * @return An immutable BuildExecutionResult instance
+   */
+  public static ImmutableBuildExecutionResult of(Map<? extends BuildRule, ? extends Optional<BuildResult>> results, Iterable<? extends BuildResult> failures) {
+    return new ImmutableBuildExecutionResult(results, failures);
+  }
+}
@@ -0,0 +1,568 @@
+package com.facebook.buck.command.config;
+
+import com.facebook.buck.core.config.BuckConfig;
+import com.facebook.buck.core.model.impl.HashedBuckOutLinkMode;
+import com.facebook.buck.util.cache.FileHashCacheMode;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BuildBuckConfig}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuildBuckConfig.of()}.
+ */
+@Generated(from = "BuildBuckConfig", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableBuildBuckConfig extends BuildBuckConfig {
+  private final BuckConfig delegate;
+
+  private ImmutableBuildBuckConfig(BuckConfig delegate) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate");
+  }
+
+  /**
+   * @return The value of the {@code delegate} attribute
+   */
+  @Override
+  public BuckConfig getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuildBuckConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuildBuckConfig
+        && equalTo((ImmutableBuildBuckConfig) another);
+  }
+
+  private boolean equalTo(ImmutableBuildBuckConfig another) {
+    return delegate.equals(another.delegate);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code delegate}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + delegate.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildBuckConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildBuckConfig")
+        .omitNullValues()
+        .add("delegate", delegate)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long MAX_ACTION_GRAPH_CACHE_ENTRIES_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient int maxActionGraphCacheEntries;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link BuildBuckConfig#getMaxActionGraphCacheEntries() maxActionGraphCacheEntries} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code maxActionGraphCacheEntries} attribute
+   */
+  @Override
+  public int getMaxActionGraphCacheEntries() {
+    if ((lazyInitBitmap & MAX_ACTION_GRAPH_CACHE_ENTRIES_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & MAX_ACTION_GRAPH_CACHE_ENTRIES_LAZY_INIT_BIT) == 0) {
+          this.maxActionGraphCacheEntries = super.getMaxActionGraphCacheEntries();
+          lazyInitBitmap |= MAX_ACTION_GRAPH_CACHE_ENTRIES_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return maxActionGraphCacheEntries;
+  }
+
+  private static final long USE_BUCK_BINARY_HASH_LAZY_INIT_BIT = 0x2L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean useBuckBinaryHash;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link BuildBuckConfig#useBuckBinaryHash() useBuckBinaryHash} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code useBuckBinaryHash} attribute
+   */
+  @Override
+  public boolean useBuckBinaryHash() {
+    if ((lazyInitBitmap & USE_BUCK_BINARY_HASH_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & USE_BUCK_BINARY_HASH_LAZY_INIT_BIT) == 0) {
+          this.useBuckBinaryHash = super.useBuckBinaryHash();
+          lazyInitBitmap |= USE_BUCK_BINARY_HASH_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return useBuckBinaryHash;
+  }
+
+  private static final long KEY_SEED_LAZY_INIT_BIT = 0x4L;
+
+  @SuppressWarnings("Immutable")
+  private transient int keySeed;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link BuildBuckConfig#getKeySeed() keySeed} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code keySeed} attribute
+   */
+  @Override
+  public int getKeySeed() {
+    if ((lazyInitBitmap & KEY_SEED_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & KEY_SEED_LAZY_INIT_BIT) == 0) {
+          this.keySeed = super.getKeySeed();
+          lazyInitBitmap |= KEY_SEED_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return keySeed;
+  }
+
+  private static final long NUM_THREADS_LAZY_INIT_BIT = 0x8L;
+
+  @SuppressWarnings("Immutable")
+  private transient int numThreads;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link BuildBuckConfig#getNumThreads() numThreads} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code numThreads} attribute
+   */
+  @Override
+  public int getNumThreads() {
+    if ((lazyInitBitmap & NUM_THREADS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & NUM_THREADS_LAZY_INIT_BIT) == 0) {
+          this.numThreads = super.getNumThreads();
+          lazyInitBitmap |= NUM_THREADS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return numThreads;
+  }
+
+  private static final long NUM_THREADS_FOR_SCHEDULER_POOL_LAZY_INIT_BIT = 0x10L;
+
+  @SuppressWarnings("Immutable")
+  private transient int numThreadsForSchedulerPool;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link BuildBuckConfig#getNumThreadsForSchedulerPool() numThreadsForSchedulerPool} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code numThreadsForSchedulerPool} attribute
+   */
+  @Override
+  public int getNumThreadsForSchedulerPool() {
+    if ((lazyInitBitmap & NUM_THREADS_FOR_SCHEDULER_POOL_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & NUM_THREADS_FOR_SCHEDULER_POOL_LAZY_INIT_BIT) == 0) {
+          this.numThreadsForSchedulerPool = super.getNumThreadsForSchedulerPool();
+          lazyInitBitmap |= NUM_THREADS_FOR_SCHEDULER_POOL_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return numThreadsForSchedulerPool;
+  }
+
+  private static final long BUILD_INPUT_RULE_KEY_FILE_SIZE_LIMIT_LAZY_INIT_BIT = 0x20L;
+
+  @SuppressWarnings("Immutable")
+  private transient long buildInputRuleKeyFileSizeLimit;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link BuildBuckConfig#getBuildInputRuleKeyFileSizeLimit() buildInputRuleKeyFileSizeLimit} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code buildInputRuleKeyFileSizeLimit} attribute
+   */
+  @Override
+  public long getBuildInputRuleKeyFileSizeLimit() {
+    if ((lazyInitBitmap & BUILD_INPUT_RULE_KEY_FILE_SIZE_LIMIT_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & BUILD_INPUT_RULE_KEY_FILE_SIZE_LIMIT_LAZY_INIT_BIT) == 0) {
+          this.buildInputRuleKeyFileSizeLimit = super.getBuildInputRuleKeyFileSizeLimit();
+          lazyInitBitmap |= BUILD_INPUT_RULE_KEY_FILE_SIZE_LIMIT_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return buildInputRuleKeyFileSizeLimit;
+  }
+
+  private static final long DEFAULT_MAXIMUM_NUMBER_OF_THREADS_LAZY_INIT_BIT = 0x40L;
+
+  @SuppressWarnings("Immutable")
+  private transient int defaultMaximumNumberOfThreads;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link BuildBuckConfig#getDefaultMaximumNumberOfThreads() defaultMaximumNumberOfThreads} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code defaultMaximumNumberOfThreads} attribute
+   */
+  @Override
+  public int getDefaultMaximumNumberOfThreads() {
+    if ((lazyInitBitmap & DEFAULT_MAXIMUM_NUMBER_OF_THREADS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & DEFAULT_MAXIMUM_NUMBER_OF_THREADS_LAZY_INIT_BIT) == 0) {
+          this.defaultMaximumNumberOfThreads = super.getDefaultMaximumNumberOfThreads();
+          lazyInitBitmap |= DEFAULT_MAXIMUM_NUMBER_OF_THREADS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return defaultMaximumNumberOfThreads;
+  }
+
+  private static final long BUCK_OUT_COMPAT_LINK_LAZY_INIT_BIT = 0x80L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean buckOutCompatLink;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link BuildBuckConfig#getBuckOutCompatLink() buckOutCompatLink} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code buckOutCompatLink} attribute
+   */
+  @Override
+  public boolean getBuckOutCompatLink() {
+    if ((lazyInitBitmap & BUCK_OUT_COMPAT_LINK_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & BUCK_OUT_COMPAT_LINK_LAZY_INIT_BIT) == 0) {
+          this.buckOutCompatLink = super.getBuckOutCompatLink();
+          lazyInitBitmap |= BUCK_OUT_COMPAT_LINK_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return buckOutCompatLink;
+  }
+
+  private static final long BUILD_VERSIONS_LAZY_INIT_BIT = 0x100L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean buildVersions;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link BuildBuckConfig#getBuildVersions() buildVersions} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code buildVersions} attribute
+   */
+  @Override
+  public boolean getBuildVersions() {
+    if ((lazyInitBitmap & BUILD_VERSIONS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & BUILD_VERSIONS_LAZY_INIT_BIT) == 0) {
+          this.buildVersions = super.getBuildVersions();
+          lazyInitBitmap |= BUILD_VERSIONS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return buildVersions;
+  }
+
+  private static final long TARGETS_VERSIONS_LAZY_INIT_BIT = 0x200L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean targetsVersions;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link BuildBuckConfig#getTargetsVersions() targetsVersions} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code targetsVersions} attribute
+   */
+  @Override
+  public boolean getTargetsVersions() {
+    if ((lazyInitBitmap & TARGETS_VERSIONS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & TARGETS_VERSIONS_LAZY_INIT_BIT) == 0) {
+          this.targetsVersions = super.getTargetsVersions();
+          lazyInitBitmap |= TARGETS_VERSIONS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return targetsVersions;
+  }
+
+  private static final long RULE_KEY_CACHING_LAZY_INIT_BIT = 0x400L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean ruleKeyCaching;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link BuildBuckConfig#getRuleKeyCaching() ruleKeyCaching} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code ruleKeyCaching} attribute
+   */
+  @Override
+  public boolean getRuleKeyCaching() {
+    if ((lazyInitBitmap & RULE_KEY_CACHING_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & RULE_KEY_CACHING_LAZY_INIT_BIT) == 0) {
+          this.ruleKeyCaching = super.getRuleKeyCaching();
+          lazyInitBitmap |= RULE_KEY_CACHING_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return ruleKeyCaching;
+  }
+
+  private static final long CREATE_BUILD_OUTPUT_SYM_LINKS_ENABLED_LAZY_INIT_BIT = 0x800L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean createBuildOutputSymLinksEnabled;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link BuildBuckConfig#createBuildOutputSymLinksEnabled() createBuildOutputSymLinksEnabled} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code createBuildOutputSymLinksEnabled} attribute
+   */
+  @Override
+  public boolean createBuildOutputSymLinksEnabled() {
+    if ((lazyInitBitmap & CREATE_BUILD_OUTPUT_SYM_LINKS_ENABLED_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & CREATE_BUILD_OUTPUT_SYM_LINKS_ENABLED_LAZY_INIT_BIT) == 0) {
+          this.createBuildOutputSymLinksEnabled = super.createBuildOutputSymLinksEnabled();
+          lazyInitBitmap |= CREATE_BUILD_OUTPUT_SYM_LINKS_ENABLED_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return createBuildOutputSymLinksEnabled;
+  }
+
+  private static final long EMBEDDED_CELL_BUCK_OUT_ENABLED_LAZY_INIT_BIT = 0x1000L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean embeddedCellBuckOutEnabled;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link BuildBuckConfig#isEmbeddedCellBuckOutEnabled() embeddedCellBuckOutEnabled} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code embeddedCellBuckOutEnabled} attribute
+   */
+  @Override
+  public boolean isEmbeddedCellBuckOutEnabled() {
+    if ((lazyInitBitmap & EMBEDDED_CELL_BUCK_OUT_ENABLED_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & EMBEDDED_CELL_BUCK_OUT_ENABLED_LAZY_INIT_BIT) == 0) {
+          this.embeddedCellBuckOutEnabled = super.isEmbeddedCellBuckOutEnabled();
+          lazyInitBitmap |= EMBEDDED_CELL_BUCK_OUT_ENABLED_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return embeddedCellBuckOutEnabled;
+  }
+
+  private static final long PATH_TO_BUILD_PREHOOK_SCRIPT_LAZY_INIT_BIT = 0x2000L;
+
+  @SuppressWarnings("Immutable")
+  private transient Optional<String> pathToBuildPrehookScript;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link BuildBuckConfig#getPathToBuildPrehookScript() pathToBuildPrehookScript} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code pathToBuildPrehookScript} attribute
+   */
+  @Override
+  public Optional<String> getPathToBuildPrehookScript() {
+    if ((lazyInitBitmap & PATH_TO_BUILD_PREHOOK_SCRIPT_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & PATH_TO_BUILD_PREHOOK_SCRIPT_LAZY_INIT_BIT) == 0) {
+          this.pathToBuildPrehookScript = Objects.requireNonNull(super.getPathToBuildPrehookScript(), "pathToBuildPrehookScript");
+          lazyInitBitmap |= PATH_TO_BUILD_PREHOOK_SCRIPT_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return pathToBuildPrehookScript;
+  }
+
+  private static final long BUILD_PREHOOK_SCRIPT_INTERPRETER_AND_ARGS_LAZY_INIT_BIT = 0x4000L;
+
+  @SuppressWarnings("Immutable")
+  private transient Optional<ImmutableList<String>> buildPrehookScriptInterpreterAndArgs;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link BuildBuckConfig#getBuildPrehookScriptInterpreterAndArgs() buildPrehookScriptInterpreterAndArgs} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code buildPrehookScriptInterpreterAndArgs} attribute
+   */
+  @Override
+  public Optional<ImmutableList<String>> getBuildPrehookScriptInterpreterAndArgs() {
+    if ((lazyInitBitmap & BUILD_PREHOOK_SCRIPT_INTERPRETER_AND_ARGS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & BUILD_PREHOOK_SCRIPT_INTERPRETER_AND_ARGS_LAZY_INIT_BIT) == 0) {
+          this.buildPrehookScriptInterpreterAndArgs = Objects.requireNonNull(super.getBuildPrehookScriptInterpreterAndArgs(), "buildPrehookScriptInterpreterAndArgs");
+          lazyInitBitmap |= BUILD_PREHOOK_SCRIPT_INTERPRETER_AND_ARGS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return buildPrehookScriptInterpreterAndArgs;
+  }
+
+  private static final long SHOULD_DELETE_TEMPORARIES_LAZY_INIT_BIT = 0x8000L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean shouldDeleteTemporaries;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link BuildBuckConfig#getShouldDeleteTemporaries() shouldDeleteTemporaries} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code shouldDeleteTemporaries} attribute
+   */
+  @Override
+  public boolean getShouldDeleteTemporaries() {
+    if ((lazyInitBitmap & SHOULD_DELETE_TEMPORARIES_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & SHOULD_DELETE_TEMPORARIES_LAZY_INIT_BIT) == 0) {
+          this.shouldDeleteTemporaries = super.getShouldDeleteTemporaries();
+          lazyInitBitmap |= SHOULD_DELETE_TEMPORARIES_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return shouldDeleteTemporaries;
+  }
+
+  private static final long FILE_HASH_CACHE_MODE_LAZY_INIT_BIT = 0x10000L;
+
+  @SuppressWarnings("Immutable")
+  private transient FileHashCacheMode fileHashCacheMode;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link BuildBuckConfig#getFileHashCacheMode() fileHashCacheMode} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code fileHashCacheMode} attribute
+   */
+  @Override
+  public FileHashCacheMode getFileHashCacheMode() {
+    if ((lazyInitBitmap & FILE_HASH_CACHE_MODE_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & FILE_HASH_CACHE_MODE_LAZY_INIT_BIT) == 0) {
+          this.fileHashCacheMode = Objects.requireNonNull(super.getFileHashCacheMode(), "fileHashCacheMode");
+          lazyInitBitmap |= FILE_HASH_CACHE_MODE_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return fileHashCacheMode;
+  }
+
+  private static final long SHOULD_BUCK_OUT_INCLUDE_TARGET_CONFIG_HASH_LAZY_INIT_BIT = 0x20000L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean shouldBuckOutIncludeTargetConfigHash;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link BuildBuckConfig#shouldBuckOutIncludeTargetConfigHash() shouldBuckOutIncludeTargetConfigHash} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code shouldBuckOutIncludeTargetConfigHash} attribute
+   */
+  @Override
+  public boolean shouldBuckOutIncludeTargetConfigHash() {
+    if ((lazyInitBitmap & SHOULD_BUCK_OUT_INCLUDE_TARGET_CONFIG_HASH_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & SHOULD_BUCK_OUT_INCLUDE_TARGET_CONFIG_HASH_LAZY_INIT_BIT) == 0) {
+          this.shouldBuckOutIncludeTargetConfigHash = super.shouldBuckOutIncludeTargetConfigHash();
+          lazyInitBitmap |= SHOULD_BUCK_OUT_INCLUDE_TARGET_CONFIG_HASH_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return shouldBuckOutIncludeTargetConfigHash;
+  }
+
+  private static final long HASHED_BUCK_OUT_LINK_MODE_LAZY_INIT_BIT = 0x40000L;
+
+  @SuppressWarnings("Immutable")
+  private transient HashedBuckOutLinkMode hashedBuckOutLinkMode;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link BuildBuckConfig#getHashedBuckOutLinkMode() hashedBuckOutLinkMode} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code hashedBuckOutLinkMode} attribute
+   */
+  @Override
+  public HashedBuckOutLinkMode getHashedBuckOutLinkMode() {
+    if ((lazyInitBitmap & HASHED_BUCK_OUT_LINK_MODE_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & HASHED_BUCK_OUT_LINK_MODE_LAZY_INIT_BIT) == 0) {
+          this.hashedBuckOutLinkMode = Objects.requireNonNull(super.getHashedBuckOutLinkMode(), "hashedBuckOutLinkMode");
+          lazyInitBitmap |= HASHED_BUCK_OUT_LINK_MODE_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return hashedBuckOutLinkMode;
+  }
+
+  /**
+   * Construct a new immutable {@code BuildBuckConfig} instance.
+   * @param delegate The value for the {@code delegate} attribute
+   * @return An immutable BuildBuckConfig instance
+   */
+  public static ImmutableBuildBuckConfig of(BuckConfig delegate) {
+    return new ImmutableBuildBuckConfig(delegate);
+  }
+}
@@ -0,0 +1,121 @@
+package com.facebook.buck.core.build.engine.config;
+
+import com.facebook.buck.util.concurrent.ResourceAmounts;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ResourceAwareSchedulingInfo}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableResourceAwareSchedulingInfo.of()}.
+ */
+@Generated(from = "ResourceAwareSchedulingInfo", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableResourceAwareSchedulingInfo
+    extends ResourceAwareSchedulingInfo {
+  private final boolean resourceAwareSchedulingEnabled;
+  private final ResourceAmounts defaultResourceAmounts;
+  private final ImmutableMap<String, ResourceAmounts> amountsPerRuleType;
+
+  private ImmutableResourceAwareSchedulingInfo(
+      boolean resourceAwareSchedulingEnabled,
+      ResourceAmounts defaultResourceAmounts,
+      Map<String, ? extends ResourceAmounts> amountsPerRuleType) {
+    this.resourceAwareSchedulingEnabled = resourceAwareSchedulingEnabled;
+    this.defaultResourceAmounts = Objects.requireNonNull(defaultResourceAmounts, "defaultResourceAmounts");
+    this.amountsPerRuleType = ImmutableMap.copyOf(amountsPerRuleType);
+  }
+
+  /**
+   * @return The value of the {@code resourceAwareSchedulingEnabled} attribute
+   */
+  @Override
+  public boolean isResourceAwareSchedulingEnabled() {
+    return resourceAwareSchedulingEnabled;
+  }
+
+  /**
+   * @return The value of the {@code defaultResourceAmounts} attribute
+   */
+  @Override
+  public ResourceAmounts getDefaultResourceAmounts() {
+    return defaultResourceAmounts;
+  }
+
+  /**
+   * @return The value of the {@code amountsPerRuleType} attribute
+   */
+  @Override
+  public ImmutableMap<String, ResourceAmounts> getAmountsPerRuleType() {
+    return amountsPerRuleType;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableResourceAwareSchedulingInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableResourceAwareSchedulingInfo
+        && equalTo((ImmutableResourceAwareSchedulingInfo) another);
+  }
+
+  private boolean equalTo(ImmutableResourceAwareSchedulingInfo another) {
+    return resourceAwareSchedulingEnabled == another.resourceAwareSchedulingEnabled
+        && defaultResourceAmounts.equals(another.defaultResourceAmounts)
+        && amountsPerRuleType.equals(another.amountsPerRuleType);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code resourceAwareSchedulingEnabled}, {@code defaultResourceAmounts}, {@code amountsPerRuleType}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Booleans.hashCode(resourceAwareSchedulingEnabled);
+    h += (h << 5) + defaultResourceAmounts.hashCode();
+    h += (h << 5) + amountsPerRuleType.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ResourceAwareSchedulingInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ResourceAwareSchedulingInfo")
+        .omitNullValues()
+        .add("resourceAwareSchedulingEnabled", resourceAwareSchedulingEnabled)
+        .add("defaultResourceAmounts", defaultResourceAmounts)
+        .add("amountsPerRuleType", amountsPerRuleType)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ResourceAwareSchedulingInfo} instance.
+   * @param resourceAwareSchedulingEnabled The value for the {@code resourceAwareSchedulingEnabled} attribute
+   * @param defaultResourceAmounts The value for the {@code defaultResourceAmounts} attribute
+   * @param amountsPerRuleType The value for the {@code amountsPerRuleType} attribute
+   * @return An immutable ResourceAwareSchedulingInfo instance
+   */
+  public static ImmutableResourceAwareSchedulingInfo of(boolean resourceAwareSchedulingEnabled, ResourceAmounts defaultResourceAmounts, Map<String, ? extends ResourceAmounts> amountsPerRuleType) {
+    return new ImmutableResourceAwareSchedulingInfo(resourceAwareSchedulingEnabled, defaultResourceAmounts, amountsPerRuleType);
+  }
+}
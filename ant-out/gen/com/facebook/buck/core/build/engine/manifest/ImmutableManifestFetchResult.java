@@ -0,0 +1,319 @@
+package com.facebook.buck.core.build.engine.manifest;
+
+import com.facebook.buck.artifact_cache.CacheResult;
+import com.facebook.buck.core.rulekey.RuleKey;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ManifestFetchResult}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new ManifestFetchResult.Builder()}.
+ */
+@Generated(from = "ManifestFetchResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableManifestFetchResult
+    extends ManifestFetchResult {
+  private final CacheResult manifestCacheResult;
+  private final @Nullable String manifestLoadError;
+  private final @Nullable ManifestStats manifestStats;
+  private final @Nullable RuleKey depFileRuleKey;
+  private final @Nullable CacheResult ruleCacheResult;
+
+  private ImmutableManifestFetchResult(ImmutableManifestFetchResult.Builder builder) {
+    this.manifestCacheResult = builder.manifestCacheResult;
+    this.manifestLoadError = builder.manifestLoadError;
+    this.manifestStats = builder.manifestStats;
+    this.depFileRuleKey = builder.depFileRuleKey;
+    this.ruleCacheResult = builder.ruleCacheResult;
+  }
+
+  /**
+   * @return The value of the {@code manifestCacheResult} attribute
+   */
+  @Override
+  public CacheResult getManifestCacheResult() {
+    return manifestCacheResult;
+  }
+
+  /**
+   * @return The value of the {@code manifestLoadError} attribute
+   */
+  @Override
+  public Optional<String> getManifestLoadError() {
+    return Optional.ofNullable(manifestLoadError);
+  }
+
+  /**
+   * @return The value of the {@code manifestStats} attribute
+   */
+  @Override
+  public Optional<ManifestStats> getManifestStats() {
+    return Optional.ofNullable(manifestStats);
+  }
+
+  /**
+   * @return The value of the {@code depFileRuleKey} attribute
+   */
+  @Override
+  Optional<RuleKey> getDepFileRuleKey() {
+    return Optional.ofNullable(depFileRuleKey);
+  }
+
+  /**
+   * @return The value of the {@code ruleCacheResult} attribute
+   */
+  @Override
+  public Optional<CacheResult> getRuleCacheResult() {
+    return Optional.ofNullable(ruleCacheResult);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableManifestFetchResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableManifestFetchResult
+        && equalTo((ImmutableManifestFetchResult) another);
+  }
+
+  private boolean equalTo(ImmutableManifestFetchResult another) {
+    return manifestCacheResult.equals(another.manifestCacheResult)
+        && Objects.equals(manifestLoadError, another.manifestLoadError)
+        && Objects.equals(manifestStats, another.manifestStats)
+        && Objects.equals(depFileRuleKey, another.depFileRuleKey)
+        && Objects.equals(ruleCacheResult, another.ruleCacheResult);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code manifestCacheResult}, {@code manifestLoadError}, {@code manifestStats}, {@code depFileRuleKey}, {@code ruleCacheResult}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + manifestCacheResult.hashCode();
+    h += (h << 5) + Objects.hashCode(manifestLoadError);
+    h += (h << 5) + Objects.hashCode(manifestStats);
+    h += (h << 5) + Objects.hashCode(depFileRuleKey);
+    h += (h << 5) + Objects.hashCode(ruleCacheResult);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ManifestFetchResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ManifestFetchResult")
+        .omitNullValues()
+        .add("manifestCacheResult", manifestCacheResult)
+        .add("manifestLoadError", manifestLoadError)
+        .add("manifestStats", manifestStats)
+        .add("depFileRuleKey", depFileRuleKey)
+        .add("ruleCacheResult", ruleCacheResult)
+        .toString();
+  }
+
+
+  private static ImmutableManifestFetchResult validate(ImmutableManifestFetchResult instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Builds instances of type {@link ManifestFetchResult ManifestFetchResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "ManifestFetchResult", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private static final long INIT_BIT_MANIFEST_CACHE_RESULT = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable CacheResult manifestCacheResult;
+    private @Nullable String manifestLoadError;
+    private @Nullable ManifestStats manifestStats;
+    private @Nullable RuleKey depFileRuleKey;
+    private @Nullable CacheResult ruleCacheResult;
+
+    /**
+     * Creates a builder for {@link ManifestFetchResult ManifestFetchResult} instances.
+     */
+    public Builder() {
+      if (!(this instanceof ManifestFetchResult.Builder)) {
+        throw new UnsupportedOperationException("Use: new ManifestFetchResult.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ManifestFetchResult} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ManifestFetchResult.Builder from(ManifestFetchResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      setManifestCacheResult(instance.getManifestCacheResult());
+      Optional<String> manifestLoadErrorOptional = instance.getManifestLoadError();
+      if (manifestLoadErrorOptional.isPresent()) {
+        setManifestLoadError(manifestLoadErrorOptional);
+      }
+      Optional<ManifestStats> manifestStatsOptional = instance.getManifestStats();
+      if (manifestStatsOptional.isPresent()) {
+        setManifestStats(manifestStatsOptional);
+      }
+      Optional<RuleKey> depFileRuleKeyOptional = instance.getDepFileRuleKey();
+      if (depFileRuleKeyOptional.isPresent()) {
+        setDepFileRuleKey(depFileRuleKeyOptional);
+      }
+      Optional<CacheResult> ruleCacheResultOptional = instance.getRuleCacheResult();
+      if (ruleCacheResultOptional.isPresent()) {
+        setRuleCacheResult(ruleCacheResultOptional);
+      }
+      return (ManifestFetchResult.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link ManifestFetchResult#getManifestCacheResult() manifestCacheResult} attribute.
+     * @param manifestCacheResult The value for manifestCacheResult 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ManifestFetchResult.Builder setManifestCacheResult(CacheResult manifestCacheResult) {
+      this.manifestCacheResult = Objects.requireNonNull(manifestCacheResult, "manifestCacheResult");
+      initBits &= ~INIT_BIT_MANIFEST_CACHE_RESULT;
+      return (ManifestFetchResult.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ManifestFetchResult#getManifestLoadError() manifestLoadError} to manifestLoadError.
+     * @param manifestLoadError The value for manifestLoadError
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ManifestFetchResult.Builder setManifestLoadError(String manifestLoadError) {
+      this.manifestLoadError = Objects.requireNonNull(manifestLoadError, "manifestLoadError");
+      return (ManifestFetchResult.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ManifestFetchResult#getManifestLoadError() manifestLoadError} to manifestLoadError.
+     * @param manifestLoadError The value for manifestLoadError
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ManifestFetchResult.Builder setManifestLoadError(Optional<String> manifestLoadError) {
+      this.manifestLoadError = manifestLoadError.orElse(null);
+      return (ManifestFetchResult.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ManifestFetchResult#getManifestStats() manifestStats} to manifestStats.
+     * @param manifestStats The value for manifestStats
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ManifestFetchResult.Builder setManifestStats(ManifestStats manifestStats) {
+      this.manifestStats = Objects.requireNonNull(manifestStats, "manifestStats");
+      return (ManifestFetchResult.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ManifestFetchResult#getManifestStats() manifestStats} to manifestStats.
+     * @param manifestStats The value for manifestStats
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ManifestFetchResult.Builder setManifestStats(Optional<? extends ManifestStats> manifestStats) {
+      this.manifestStats = manifestStats.orElse(null);
+      return (ManifestFetchResult.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ManifestFetchResult#getDepFileRuleKey() depFileRuleKey} to depFileRuleKey.
+     * @param depFileRuleKey The value for depFileRuleKey
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ManifestFetchResult.Builder setDepFileRuleKey(RuleKey depFileRuleKey) {
+      this.depFileRuleKey = Objects.requireNonNull(depFileRuleKey, "depFileRuleKey");
+      return (ManifestFetchResult.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ManifestFetchResult#getDepFileRuleKey() depFileRuleKey} to depFileRuleKey.
+     * @param depFileRuleKey The value for depFileRuleKey
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ManifestFetchResult.Builder setDepFileRuleKey(Optional<? extends RuleKey> depFileRuleKey) {
+      this.depFileRuleKey = depFileRuleKey.orElse(null);
+      return (ManifestFetchResult.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ManifestFetchResult#getRuleCacheResult() ruleCacheResult} to ruleCacheResult.
+     * @param ruleCacheResult The value for ruleCacheResult
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ManifestFetchResult.Builder setRuleCacheResult(CacheResult ruleCacheResult) {
+      this.ruleCacheResult = Objects.requireNonNull(ruleCacheResult, "ruleCacheResult");
+      return (ManifestFetchResult.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ManifestFetchResult#getRuleCacheResult() ruleCacheResult} to ruleCacheResult.
+     * @param ruleCacheResult The value for ruleCacheResult
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ManifestFetchResult.Builder setRuleCacheResult(Optional<? extends CacheResult> ruleCacheResult) {
+      this.ruleCacheResult = ruleCacheResult.orElse(null);
+      return (ManifestFetchResult.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link ManifestFetchResult ManifestFetchResult}.
+     * @return An immutable instance of ManifestFetchResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ManifestFetchResult build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return ImmutableManifestFetchResult.validate(new ImmutableManifestFetchResult(this));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_MANIFEST_CACHE_RESULT) != 0) attributes.add("manifestCacheResult");
+      return "Cannot build ManifestFetchResult, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package com.facebook.buck.core.graph.transformation.model;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ComposedResult}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableComposedResult.<KeyType, ResultType>of()}.
+ */
+@Generated(from = "ComposedResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableComposedResult<KeyType extends ComputeKey<ResultType>, ResultType extends ComputeResult>
+    extends ComposedResult<KeyType, ResultType> {
+  private final ImmutableMap<KeyType, ResultType> resultMap;
+
+  private ImmutableComposedResult(Map<? extends KeyType, ? extends ResultType> resultMap) {
+    this.resultMap = ImmutableMap.copyOf(resultMap);
+  }
+
+  /**
+   * @return The value of the {@code resultMap} attribute
+   */
+  @Override
+  public ImmutableMap<KeyType, ResultType> resultMap() {
+    return resultMap;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableComposedResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableComposedResult<?, ?>
+        && equalTo((ImmutableComposedResult<?, ?>) another);
+  }
+
+  private boolean equalTo(ImmutableComposedResult<?, ?> another) {
+    return resultMap.equals(another.resultMap);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code resultMap}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + resultMap.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ComposedResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ComposedResult")
+        .omitNullValues()
+        .add("resultMap", resultMap)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ComposedResult} instance.
+   * @param resultMap The value for the {@code resultMap} attribute
+   * @return An immutable ComposedResult instance
+   */
+  public static <KeyType extends ComputeKey<ResultType>, ResultType extends ComputeResult> ImmutableComposedResult<KeyType, ResultType> of(Map<? extends KeyType, ? extends ResultType> resultMap) {
+    return new ImmutableComposedResult<>(resultMap);
+  }
+}
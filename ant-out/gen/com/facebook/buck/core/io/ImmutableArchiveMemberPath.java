@@ -0,0 +1,86 @@
+package com.facebook.buck.core.io;
+
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ArchiveMemberPath}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableArchiveMemberPath.of()}.
+ */
+@Generated(from = "ArchiveMemberPath", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableArchiveMemberPath extends ArchiveMemberPath {
+  private final Path archivePath;
+  private final Path memberPath;
+
+  private ImmutableArchiveMemberPath(Path archivePath, Path memberPath) {
+    this.archivePath = Objects.requireNonNull(archivePath, "archivePath");
+    this.memberPath = Objects.requireNonNull(memberPath, "memberPath");
+  }
+
+  /**
+   * @return The value of the {@code archivePath} attribute
+   */
+  @Override
+  public Path getArchivePath() {
+    return archivePath;
+  }
+
+  /**
+   * @return The value of the {@code memberPath} attribute
+   */
+  @Override
+  public Path getMemberPath() {
+    return memberPath;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableArchiveMemberPath} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableArchiveMemberPath
+        && equalTo((ImmutableArchiveMemberPath) another);
+  }
+
+  private boolean equalTo(ImmutableArchiveMemberPath another) {
+    return archivePath.equals(another.archivePath)
+        && memberPath.equals(another.memberPath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code archivePath}, {@code memberPath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + archivePath.hashCode();
+    h += (h << 5) + memberPath.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code ArchiveMemberPath} instance.
+   * @param archivePath The value for the {@code archivePath} attribute
+   * @param memberPath The value for the {@code memberPath} attribute
+   * @return An immutable ArchiveMemberPath instance
+   */
+  public static ImmutableArchiveMemberPath of(Path archivePath, Path memberPath) {
+    return new ImmutableArchiveMemberPath(archivePath, memberPath);
+  }
+}
@@ -0,0 +1,94 @@
+package com.facebook.buck.core.model;
+
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BuildTargetWithOutputs}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuildTargetWithOutputs.of()}.
+ */
+@Generated(from = "BuildTargetWithOutputs", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableBuildTargetWithOutputs extends BuildTargetWithOutputs {
+  private final BuildTarget buildTarget;
+  private final OutputLabel outputLabel;
+  private transient final int hashCode;
+
+  private ImmutableBuildTargetWithOutputs(
+      BuildTarget buildTarget,
+      OutputLabel outputLabel) {
+    this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+    this.outputLabel = Objects.requireNonNull(outputLabel, "outputLabel");
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  public BuildTarget getBuildTarget() {
+    return buildTarget;
+  }
+
+  /**
+   * @return The value of the {@code outputLabel} attribute
+   */
+  @Override
+  public OutputLabel getOutputLabel() {
+    return outputLabel;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuildTargetWithOutputs} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuildTargetWithOutputs
+        && equalTo((ImmutableBuildTargetWithOutputs) another);
+  }
+
+  private boolean equalTo(ImmutableBuildTargetWithOutputs another) {
+    if (hashCode != another.hashCode) return false;
+    return buildTarget.equals(another.buildTarget)
+        && outputLabel.equals(another.outputLabel);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code buildTarget}, {@code outputLabel}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + buildTarget.hashCode();
+    h += (h << 5) + outputLabel.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code BuildTargetWithOutputs} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param outputLabel The value for the {@code outputLabel} attribute
+   * @return An immutable BuildTargetWithOutputs instance
+   */
+  public static ImmutableBuildTargetWithOutputs of(BuildTarget buildTarget, OutputLabel outputLabel) {
+    return new ImmutableBuildTargetWithOutputs(buildTarget, outputLabel);
+  }
+}
@@ -0,0 +1,121 @@
+package com.facebook.buck.core.model.graph;
+
+import com.facebook.buck.core.model.actiongraph.ActionGraphAndBuilder;
+import com.facebook.buck.core.model.targetgraph.TargetGraphCreationResult;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ActionAndTargetGraphs}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableActionAndTargetGraphs.of()}.
+ */
+@Generated(from = "ActionAndTargetGraphs", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableActionAndTargetGraphs
+    extends ActionAndTargetGraphs {
+  private final TargetGraphCreationResult unversionedTargetGraph;
+  private final @Nullable TargetGraphCreationResult versionedTargetGraph;
+  private final ActionGraphAndBuilder actionGraphAndBuilder;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableActionAndTargetGraphs(
+      TargetGraphCreationResult unversionedTargetGraph,
+      Optional<? extends TargetGraphCreationResult> versionedTargetGraph,
+      ActionGraphAndBuilder actionGraphAndBuilder) {
+    this.unversionedTargetGraph = Objects.requireNonNull(unversionedTargetGraph, "unversionedTargetGraph");
+    this.versionedTargetGraph = versionedTargetGraph.orElse(null);
+    this.actionGraphAndBuilder = Objects.requireNonNull(actionGraphAndBuilder, "actionGraphAndBuilder");
+  }
+
+  /**
+   * @return The value of the {@code unversionedTargetGraph} attribute
+   */
+  @Override
+  public TargetGraphCreationResult getUnversionedTargetGraph() {
+    return unversionedTargetGraph;
+  }
+
+  /**
+   * @return The value of the {@code versionedTargetGraph} attribute
+   */
+  @Override
+  public Optional<TargetGraphCreationResult> getVersionedTargetGraph() {
+    return Optional.ofNullable(versionedTargetGraph);
+  }
+
+  /**
+   * @return The value of the {@code actionGraphAndBuilder} attribute
+   */
+  @Override
+  public ActionGraphAndBuilder getActionGraphAndBuilder() {
+    return actionGraphAndBuilder;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableActionAndTargetGraphs} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableActionAndTargetGraphs
+        && equalTo((ImmutableActionAndTargetGraphs) another);
+  }
+
+  private boolean equalTo(ImmutableActionAndTargetGraphs another) {
+    return unversionedTargetGraph.equals(another.unversionedTargetGraph)
+        && Objects.equals(versionedTargetGraph, another.versionedTargetGraph)
+        && actionGraphAndBuilder.equals(another.actionGraphAndBuilder);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code unversionedTargetGraph}, {@code versionedTargetGraph}, {@code actionGraphAndBuilder}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + unversionedTargetGraph.hashCode();
+    h += (h << 5) + Objects.hashCode(versionedTargetGraph);
+    h += (h << 5) + actionGraphAndBuilder.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ActionAndTargetGraphs} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ActionAndTargetGraphs")
+        .omitNullValues()
+        .add("unversionedTargetGraph", unversionedTargetGraph)
+        .add("versionedTargetGraph", versionedTargetGraph)
+        .add("actionGraphAndBuilder", actionGraphAndBuilder)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ActionAndTargetGraphs} instance.
+   * @param unversionedTargetGraph The value for the {@code unversionedTargetGraph} attribute
+   * @param versionedTargetGraph The value for the {@code versionedTargetGraph} attribute
+   * @param actionGraphAndBuilder The value for the {@code actionGraphAndBuilder} attribute
+   * @return An immutable ActionAndTargetGraphs instance
+   */
+  public static ImmutableActionAndTargetGraphs of(TargetGraphCreationResult unversionedTargetGraph, Optional<? extends TargetGraphCreationResult> versionedTargetGraph, ActionGraphAndBuilder actionGraphAndBuilder) {
+    return new ImmutableActionAndTargetGraphs(unversionedTargetGraph, versionedTargetGraph, actionGraphAndBuilder);
+  }
+}
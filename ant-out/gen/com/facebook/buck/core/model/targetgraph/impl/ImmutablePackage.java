@@ -0,0 +1,112 @@
+package com.facebook.buck.core.model.targetgraph.impl;
+
+import com.facebook.buck.rules.visibility.VisibilityPattern;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.Var;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link Package}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutablePackage.of()}.
+ */
+@Generated(from = "Package", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutablePackage extends Package {
+  private final ImmutableSet<VisibilityPattern> visibilityPatterns;
+  private final ImmutableSet<VisibilityPattern> withinViewPatterns;
+
+  private ImmutablePackage(
+      Iterable<? extends VisibilityPattern> visibilityPatterns,
+      Iterable<? extends VisibilityPattern> withinViewPatterns) {
+    this.visibilityPatterns = ImmutableSet.copyOf(visibilityPatterns);
+    this.withinViewPatterns = ImmutableSet.copyOf(withinViewPatterns);
+  }
+
+  /**
+   * @return The value of the {@code visibilityPatterns} attribute
+   */
+  @Override
+  public ImmutableSet<VisibilityPattern> getVisibilityPatterns() {
+    return visibilityPatterns;
+  }
+
+  /**
+   * @return The value of the {@code withinViewPatterns} attribute
+   */
+  @Override
+  public ImmutableSet<VisibilityPattern> getWithinViewPatterns() {
+    return withinViewPatterns;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutablePackage} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutablePackage
+        && equalTo((ImmutablePackage) another);
+  }
+
+  private boolean equalTo(ImmutablePackage another) {
+    return visibilityPatterns.equals(another.visibilityPatterns)
+        && withinViewPatterns.equals(another.withinViewPatterns);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code visibilityPatterns}, {@code withinViewPatterns}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + visibilityPatterns.hashCode();
+    h += (h << 5) + withinViewPatterns.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code Package} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("Package")
+        .omitNullValues()
+        .add("visibilityPatterns", visibilityPatterns)
+        .add("withinViewPatterns", withinViewPatterns)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code Package} instance.
+   * @param visibilityPatterns The value for the {@code visibilityPatterns} attribute
+   * @param withinViewPatterns The value for the {@code withinViewPatterns} attribute
+   * @return An immutable Package instance
+   */
+  public static ImmutablePackage of(ImmutableSet<VisibilityPattern> visibilityPatterns, ImmutableSet<VisibilityPattern> withinViewPatterns) {
+    return of((Iterable<? extends VisibilityPattern>) visibilityPatterns, (Iterable<? extends VisibilityPattern>) withinViewPatterns);
+  }
+
+  /**
+   * Construct a new immutable {@code Package} instance.
+   * @param visibilityPatterns The value for the {@code visibilityPatterns} attribute
+   * @param withinViewPatterns The value for the {@code withinViewPatterns} attribute
+   * @return An immutable Package instance
+   */
+  public static ImmutablePackage of(Iterable<? extends VisibilityPattern> visibilityPatterns, Iterable<? extends VisibilityPattern> withinViewPatterns) {
+    return new ImmutablePackage(visibilityPatterns, withinViewPatterns);
+  }
+}
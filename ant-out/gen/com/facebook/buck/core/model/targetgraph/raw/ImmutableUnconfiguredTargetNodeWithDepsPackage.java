@@ -0,0 +1,211 @@
+package com.facebook.buck.core.model.targetgraph.raw;
+
+import com.facebook.buck.parser.exceptions.ParsingError;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link UnconfiguredTargetNodeWithDepsPackage}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableUnconfiguredTargetNodeWithDepsPackage.of()}.
+ */
+@Generated(from = "UnconfiguredTargetNodeWithDepsPackage", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableUnconfiguredTargetNodeWithDepsPackage
+    extends UnconfiguredTargetNodeWithDepsPackage {
+  private final Path packagePath;
+  private final ImmutableMap<String, UnconfiguredTargetNodeWithDeps> unconfiguredTargetNodesWithDeps;
+  private final ImmutableList<ParsingError> errors;
+  private final ImmutableSet<Path> includes;
+
+  private ImmutableUnconfiguredTargetNodeWithDepsPackage(
+      Path packagePath,
+      Map<String, ? extends UnconfiguredTargetNodeWithDeps> unconfiguredTargetNodesWithDeps,
+      Iterable<? extends ParsingError> errors,
+      Iterable<? extends Path> includes) {
+    this.packagePath = Objects.requireNonNull(packagePath, "packagePath");
+    this.unconfiguredTargetNodesWithDeps = ImmutableMap.copyOf(unconfiguredTargetNodesWithDeps);
+    this.errors = ImmutableList.copyOf(errors);
+    this.includes = ImmutableSet.copyOf(includes);
+  }
+
+  /**
+   * @return The value of the {@code packagePath} attribute
+   */
+  @JsonProperty("path")
+  @Override
+  public Path getPackagePath() {
+    return packagePath;
+  }
+
+  /**
+   * @return The value of the {@code unconfiguredTargetNodesWithDeps} attribute
+   */
+  @JsonProperty("nodes")
+  @Override
+  public ImmutableMap<String, UnconfiguredTargetNodeWithDeps> getUnconfiguredTargetNodesWithDeps() {
+    return unconfiguredTargetNodesWithDeps;
+  }
+
+  /**
+   * @return The value of the {@code errors} attribute
+   */
+  @JsonProperty("errors")
+  @Override
+  public ImmutableList<ParsingError> getErrors() {
+    return errors;
+  }
+
+  /**
+   * @return The value of the {@code includes} attribute
+   */
+  @JsonProperty("includes")
+  @Override
+  public ImmutableSet<Path> getIncludes() {
+    return includes;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableUnconfiguredTargetNodeWithDepsPackage} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableUnconfiguredTargetNodeWithDepsPackage
+        && equalTo((ImmutableUnconfiguredTargetNodeWithDepsPackage) another);
+  }
+
+  private boolean equalTo(ImmutableUnconfiguredTargetNodeWithDepsPackage another) {
+    return packagePath.equals(another.packagePath)
+        && unconfiguredTargetNodesWithDeps.equals(another.unconfiguredTargetNodesWithDeps)
+        && errors.equals(another.errors)
+        && includes.equals(another.includes);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code packagePath}, {@code unconfiguredTargetNodesWithDeps}, {@code errors}, {@code includes}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + packagePath.hashCode();
+    h += (h << 5) + unconfiguredTargetNodesWithDeps.hashCode();
+    h += (h << 5) + errors.hashCode();
+    h += (h << 5) + includes.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code UnconfiguredTargetNodeWithDepsPackage} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("UnconfiguredTargetNodeWithDepsPackage")
+        .omitNullValues()
+        .add("packagePath", packagePath)
+        .add("unconfiguredTargetNodesWithDeps", unconfiguredTargetNodesWithDeps)
+        .add("errors", errors)
+        .add("includes", includes)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "UnconfiguredTargetNodeWithDepsPackage", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json
+      extends UnconfiguredTargetNodeWithDepsPackage {
+    @Nullable Path packagePath;
+    @Nullable ImmutableMap<String, UnconfiguredTargetNodeWithDeps> unconfiguredTargetNodesWithDeps = ImmutableMap.of();
+    @Nullable ImmutableList<ParsingError> errors = ImmutableList.of();
+    @Nullable ImmutableSet<Path> includes = ImmutableSet.of();
+    @JsonProperty("path")
+    public void setPackagePath(Path packagePath) {
+      this.packagePath = packagePath;
+    }
+    @JsonProperty("nodes")
+    public void setUnconfiguredTargetNodesWithDeps(ImmutableMap<String, UnconfiguredTargetNodeWithDeps> unconfiguredTargetNodesWithDeps) {
+      this.unconfiguredTargetNodesWithDeps = unconfiguredTargetNodesWithDeps;
+    }
+    @JsonProperty("errors")
+    public void setErrors(ImmutableList<ParsingError> errors) {
+      this.errors = errors;
+    }
+    @JsonProperty("includes")
+    public void setIncludes(ImmutableSet<Path> includes) {
+      this.includes = includes;
+    }
+    @Override
+    public Path getPackagePath() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableMap<String, UnconfiguredTargetNodeWithDeps> getUnconfiguredTargetNodesWithDeps() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableList<ParsingError> getErrors() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableSet<Path> getIncludes() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ImmutableUnconfiguredTargetNodeWithDepsPackage fromJson(Json json) {
+    ImmutableUnconfiguredTargetNodeWithDepsPackage instance = ImmutableUnconfiguredTargetNodeWithDepsPackage.of(json.packagePath, json.unconfiguredTargetNodesWithDeps, json.errors, json.includes);
+    return instance;
+  }
+
+  /**
+   * Construct a new immutable {@code UnconfiguredTargetNodeWithDepsPackage} instance.
+   * @param packagePath The value for the {@code packagePath} attribute
+   * @param unconfiguredTargetNodesWithDeps The value for the {@code unconfiguredTargetNodesWithDeps} attribute
+   * @param errors The value for the {@code errors} attribute
+   * @param includes The value for the {@code includes} attribute
+   * @return An immutable UnconfiguredTargetNodeWithDepsPackage instance
+   */
+  public static ImmutableUnconfiguredTargetNodeWithDepsPackage of(Path packagePath, ImmutableMap<String, UnconfiguredTargetNodeWithDeps> unconfiguredTargetNodesWithDeps, ImmutableList<ParsingError> errors, ImmutableSet<Path> includes) {
+    return of(packagePath, unconfiguredTargetNodesWithDeps, (Iterable<? extends ParsingError>) errors, (Iterable<? extends Path>) includes);
+  }
+
+  /**
+   * Construct a new immutable {@code UnconfiguredTargetNodeWithDepsPackage} instance.
+   * @param packagePath The value for the {@code packagePath} attribute
+   * @param unconfiguredTargetNodesWithDeps The value for the {@code unconfiguredTargetNodesWithDeps} attribute
+   * @param errors The value for the {@code errors} attribute
+   * @param includes The value for the {@code includes} attribute
+   * @return An immutable UnconfiguredTargetNodeWithDepsPackage instance
+   */
+  public static ImmutableUnconfiguredTargetNodeWithDepsPackage of(Path packagePath, Map<String, ? extends UnconfiguredTargetNodeWithDeps> unconfiguredTargetNodesWithDeps, Iterable<? extends ParsingError> errors, Iterable<? extends Path> includes) {
+    return new ImmutableUnconfiguredTargetNodeWithDepsPackage(packagePath, unconfiguredTargetNodesWithDeps, errors, includes);
+  }
+}
@@ -0,0 +1,268 @@
+package com.facebook.buck.core.resources;
+
+import com.facebook.buck.core.config.BuckConfig;
+import com.facebook.buck.util.concurrent.ConcurrencyLimit;
+import com.facebook.buck.util.concurrent.ResourceAllocationFairness;
+import com.facebook.buck.util.concurrent.ResourceAmounts;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ResourcesConfig}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableResourcesConfig.of()}.
+ */
+@Generated(from = "ResourcesConfig", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableResourcesConfig extends ResourcesConfig {
+  private final BuckConfig delegate;
+
+  private ImmutableResourcesConfig(BuckConfig delegate) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate");
+  }
+
+  /**
+   * @return The value of the {@code delegate} attribute
+   */
+  @Override
+  public BuckConfig getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableResourcesConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableResourcesConfig
+        && equalTo((ImmutableResourcesConfig) another);
+  }
+
+  private boolean equalTo(ImmutableResourcesConfig another) {
+    return delegate.equals(another.delegate);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code delegate}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + delegate.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ResourcesConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ResourcesConfig")
+        .omitNullValues()
+        .add("delegate", delegate)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long RESOURCE_ALLOCATION_FAIRNESS_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient ResourceAllocationFairness resourceAllocationFairness;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ResourcesConfig#getResourceAllocationFairness() resourceAllocationFairness} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code resourceAllocationFairness} attribute
+   */
+  @Override
+  public ResourceAllocationFairness getResourceAllocationFairness() {
+    if ((lazyInitBitmap & RESOURCE_ALLOCATION_FAIRNESS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & RESOURCE_ALLOCATION_FAIRNESS_LAZY_INIT_BIT) == 0) {
+          this.resourceAllocationFairness = Objects.requireNonNull(super.getResourceAllocationFairness(), "resourceAllocationFairness");
+          lazyInitBitmap |= RESOURCE_ALLOCATION_FAIRNESS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return resourceAllocationFairness;
+  }
+
+  private static final long RESOURCE_AWARE_SCHEDULING_ENABLED_LAZY_INIT_BIT = 0x2L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean resourceAwareSchedulingEnabled;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ResourcesConfig#isResourceAwareSchedulingEnabled() resourceAwareSchedulingEnabled} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code resourceAwareSchedulingEnabled} attribute
+   */
+  @Override
+  public boolean isResourceAwareSchedulingEnabled() {
+    if ((lazyInitBitmap & RESOURCE_AWARE_SCHEDULING_ENABLED_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & RESOURCE_AWARE_SCHEDULING_ENABLED_LAZY_INIT_BIT) == 0) {
+          this.resourceAwareSchedulingEnabled = super.isResourceAwareSchedulingEnabled();
+          lazyInitBitmap |= RESOURCE_AWARE_SCHEDULING_ENABLED_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return resourceAwareSchedulingEnabled;
+  }
+
+  private static final long RESOURCE_AMOUNTS_PER_RULE_TYPE_LAZY_INIT_BIT = 0x4L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableMap<String, ResourceAmounts> resourceAmountsPerRuleType;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ResourcesConfig#getResourceAmountsPerRuleType() resourceAmountsPerRuleType} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code resourceAmountsPerRuleType} attribute
+   */
+  @Override
+  public ImmutableMap<String, ResourceAmounts> getResourceAmountsPerRuleType() {
+    if ((lazyInitBitmap & RESOURCE_AMOUNTS_PER_RULE_TYPE_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & RESOURCE_AMOUNTS_PER_RULE_TYPE_LAZY_INIT_BIT) == 0) {
+          this.resourceAmountsPerRuleType = Objects.requireNonNull(super.getResourceAmountsPerRuleType(), "resourceAmountsPerRuleType");
+          lazyInitBitmap |= RESOURCE_AMOUNTS_PER_RULE_TYPE_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return resourceAmountsPerRuleType;
+  }
+
+  private static final long MANAGED_THREAD_COUNT_LAZY_INIT_BIT = 0x8L;
+
+  @SuppressWarnings("Immutable")
+  private transient int managedThreadCount;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ResourcesConfig#getManagedThreadCount() managedThreadCount} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code managedThreadCount} attribute
+   */
+  @Override
+  public int getManagedThreadCount() {
+    if ((lazyInitBitmap & MANAGED_THREAD_COUNT_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & MANAGED_THREAD_COUNT_LAZY_INIT_BIT) == 0) {
+          this.managedThreadCount = super.getManagedThreadCount();
+          lazyInitBitmap |= MANAGED_THREAD_COUNT_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return managedThreadCount;
+  }
+
+  private static final long DEFAULT_RESOURCE_AMOUNTS_LAZY_INIT_BIT = 0x10L;
+
+  @SuppressWarnings("Immutable")
+  private transient ResourceAmounts defaultResourceAmounts;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ResourcesConfig#getDefaultResourceAmounts() defaultResourceAmounts} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code defaultResourceAmounts} attribute
+   */
+  @Override
+  public ResourceAmounts getDefaultResourceAmounts() {
+    if ((lazyInitBitmap & DEFAULT_RESOURCE_AMOUNTS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & DEFAULT_RESOURCE_AMOUNTS_LAZY_INIT_BIT) == 0) {
+          this.defaultResourceAmounts = Objects.requireNonNull(super.getDefaultResourceAmounts(), "defaultResourceAmounts");
+          lazyInitBitmap |= DEFAULT_RESOURCE_AMOUNTS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return defaultResourceAmounts;
+  }
+
+  private static final long MAXIMUM_RESOURCE_AMOUNTS_LAZY_INIT_BIT = 0x20L;
+
+  @SuppressWarnings("Immutable")
+  private transient ResourceAmounts maximumResourceAmounts;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ResourcesConfig#getMaximumResourceAmounts() maximumResourceAmounts} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code maximumResourceAmounts} attribute
+   */
+  @Override
+  public ResourceAmounts getMaximumResourceAmounts() {
+    if ((lazyInitBitmap & MAXIMUM_RESOURCE_AMOUNTS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & MAXIMUM_RESOURCE_AMOUNTS_LAZY_INIT_BIT) == 0) {
+          this.maximumResourceAmounts = Objects.requireNonNull(super.getMaximumResourceAmounts(), "maximumResourceAmounts");
+          lazyInitBitmap |= MAXIMUM_RESOURCE_AMOUNTS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return maximumResourceAmounts;
+  }
+
+  private static final long CONCURRENCY_LIMIT_LAZY_INIT_BIT = 0x40L;
+
+  @SuppressWarnings("Immutable")
+  private transient ConcurrencyLimit concurrencyLimit;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ResourcesConfig#getConcurrencyLimit() concurrencyLimit} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code concurrencyLimit} attribute
+   */
+  @Override
+  public ConcurrencyLimit getConcurrencyLimit() {
+    if ((lazyInitBitmap & CONCURRENCY_LIMIT_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & CONCURRENCY_LIMIT_LAZY_INIT_BIT) == 0) {
+          this.concurrencyLimit = Objects.requireNonNull(super.getConcurrencyLimit(), "concurrencyLimit");
+          lazyInitBitmap |= CONCURRENCY_LIMIT_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return concurrencyLimit;
+  }
+
+  /**
+   * Construct a new immutable {@code ResourcesConfig} instance.
+   * @param delegate The value for the {@code delegate} attribute
+   * @return An immutable ResourcesConfig instance
+   */
+  public static ImmutableResourcesConfig of(BuckConfig delegate) {
+    return new ImmutableResourcesConfig(delegate);
+  }
+}
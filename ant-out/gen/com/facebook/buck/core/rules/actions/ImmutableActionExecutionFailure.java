@@ -0,0 +1,147 @@
+package com.facebook.buck.core.rules.actions;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ActionExecutionResult.ActionExecutionFailure}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableActionExecutionFailure.of()}.
+ */
+@Generated(from = "ActionExecutionResult.ActionExecutionFailure", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableActionExecutionFailure
+    implements ActionExecutionResult.ActionExecutionFailure {
+  private final @Nullable String stdOut;
+  private final @Nullable String stdErr;
+  private final ImmutableList<String> command;
+  private final @Nullable Exception exception;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableActionExecutionFailure(
+      Optional<String> stdOut,
+      Optional<String> stdErr,
+      Iterable<String> command,
+      Optional<? extends Exception> exception) {
+    this.stdOut = stdOut.orElse(null);
+    this.stdErr = stdErr.orElse(null);
+    this.command = ImmutableList.copyOf(command);
+    this.exception = exception.orElse(null);
+  }
+
+  /**
+   * @return The value of the {@code stdOut} attribute
+   */
+  @Override
+  public Optional<String> getStdOut() {
+    return Optional.ofNullable(stdOut);
+  }
+
+  /**
+   * @return The value of the {@code stdErr} attribute
+   */
+  @Override
+  public Optional<String> getStdErr() {
+    return Optional.ofNullable(stdErr);
+  }
+
+  /**
+   * @return The value of the {@code command} attribute
+   */
+  @Override
+  public ImmutableList<String> getCommand() {
+    return command;
+  }
+
+  /**
+   * @return The value of the {@code exception} attribute
+   */
+  @Override
+  public Optional<Exception> getException() {
+    return Optional.ofNullable(exception);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableActionExecutionFailure} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableActionExecutionFailure
+        && equalTo((ImmutableActionExecutionFailure) another);
+  }
+
+  private boolean equalTo(ImmutableActionExecutionFailure another) {
+    return Objects.equals(stdOut, another.stdOut)
+        && Objects.equals(stdErr, another.stdErr)
+        && command.equals(another.command)
+        && Objects.equals(exception, another.exception);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code stdOut}, {@code stdErr}, {@code command}, {@code exception}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(stdOut);
+    h += (h << 5) + Objects.hashCode(stdErr);
+    h += (h << 5) + command.hashCode();
+    h += (h << 5) + Objects.hashCode(exception);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ActionExecutionFailure} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ActionExecutionFailure")
+        .omitNullValues()
+        .add("stdOut", stdOut)
+        .add("stdErr", stdErr)
+        .add("command", command)
+        .add("exception", exception)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ActionExecutionFailure} instance.
+   * @param stdOut The value for the {@code stdOut} attribute
+   * @param stdErr The value for the {@code stdErr} attribute
+   * @param command The value for the {@code command} attribute
+   * @param exception The value for the {@code exception} attribute
+   * @return An immutable ActionExecutionFailure instance
+   */
+  public static ImmutableActionExecutionFailure of(Optional<String> stdOut, Optional<String> stdErr, ImmutableList<String> command, Optional<Exception> exception) {
+    return of(stdOut, stdErr, (Iterable<String>) command, exception);
+  }
+
+  /**
+   * Construct a new immutable {@code ActionExecutionFailure} instance.
+   * @param stdOut The value for the {@code stdOut} attribute
+   * @param stdErr The value for the {@code stdErr} attribute
+   * @param command The value for the {@code command} attribute
+   * @param exception The value for the {@code exception} attribute
+   * @return An immutable ActionExecutionFailure instance
+   */
+  public static ImmutableActionExecutionFailure of(Optional<String> stdOut, Optional<String> stdErr, Iterable<String> command, Optional<? extends Exception> exception) {
+    return new ImmutableActionExecutionFailure(stdOut, stdErr, command, exception);
+  }
+}
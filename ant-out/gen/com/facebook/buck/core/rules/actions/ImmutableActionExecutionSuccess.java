@@ -0,0 +1,130 @@
+package com.facebook.buck.core.rules.actions;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ActionExecutionResult.ActionExecutionSuccess}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableActionExecutionSuccess.of()}.
+ */
+@Generated(from = "ActionExecutionResult.ActionExecutionSuccess", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableActionExecutionSuccess
+    implements ActionExecutionResult.ActionExecutionSuccess {
+  private final @Nullable String stdOut;
+  private final @Nullable String stdErr;
+  private final ImmutableList<String> command;
+
+  private ImmutableActionExecutionSuccess(
+      Optional<String> stdOut,
+      Optional<String> stdErr,
+      Iterable<String> command) {
+    this.stdOut = stdOut.orElse(null);
+    this.stdErr = stdErr.orElse(null);
+    this.command = ImmutableList.copyOf(command);
+  }
+
+  /**
+   * @return The value of the {@code stdOut} attribute
+   */
+  @Override
+  public Optional<String> getStdOut() {
+    return Optional.ofNullable(stdOut);
+  }
+
+  /**
+   * @return The value of the {@code stdErr} attribute
+   */
+  @Override
+  public Optional<String> getStdErr() {
+    return Optional.ofNullable(stdErr);
+  }
+
+  /**
+   * @return The value of the {@code command} attribute
+   */
+  @Override
+  public ImmutableList<String> getCommand() {
+    return command;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableActionExecutionSuccess} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableActionExecutionSuccess
+        && equalTo((ImmutableActionExecutionSuccess) another);
+  }
+
+  private boolean equalTo(ImmutableActionExecutionSuccess another) {
+    return Objects.equals(stdOut, another.stdOut)
+        && Objects.equals(stdErr, another.stdErr)
+        && command.equals(another.command);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code stdOut}, {@code stdErr}, {@code command}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(stdOut);
+    h += (h << 5) + Objects.hashCode(stdErr);
+    h += (h << 5) + command.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ActionExecutionSuccess} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ActionExecutionSuccess")
+        .omitNullValues()
+        .add("stdOut", stdOut)
+        .add("stdErr", stdErr)
+        .add("command", command)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ActionExecutionSuccess} instance.
+   * @param stdOut The value for the {@code stdOut} attribute
+   * @param stdErr The value for the {@code stdErr} attribute
+   * @param command The value for the {@code command} attribute
+   * @return An immutable ActionExecutionSuccess instance
+   */
+  public static ImmutableActionExecutionSuccess of(Optional<String> stdOut, Optional<String> stdErr, ImmutableList<String> command) {
+    return of(stdOut, stdErr, (Iterable<String>) command);
+  }
+
+  /**
+   * Construct a new immutable {@code ActionExecutionSuccess} instance.
+   * @param stdOut The value for the {@code stdOut} attribute
+   * @param stdErr The value for the {@code stdErr} attribute
+   * @param command The value for the {@code command} attribute
+   * @return An immutable ActionExecutionSuccess instance
+   */
+  public static ImmutableActionExecutionSuccess of(Optional<String> stdOut, Optional<String> stdErr, Iterable<String> command) {
+    return new ImmutableActionExecutionSuccess(stdOut, stdErr, command);
+  }
+}
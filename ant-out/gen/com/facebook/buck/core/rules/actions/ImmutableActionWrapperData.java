@@ -0,0 +1,103 @@
+package com.facebook.buck.core.rules.actions;
+
+import com.facebook.buck.core.rules.analysis.action.ActionAnalysisDataKey;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ActionWrapperData}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableActionWrapperData.of()}.
+ */
+@Generated(from = "ActionWrapperData", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableActionWrapperData
+    implements ActionWrapperData {
+  private final ActionAnalysisDataKey key;
+  private final Action action;
+
+  private ImmutableActionWrapperData(
+      ActionAnalysisDataKey key,
+      Action action) {
+    this.key = Objects.requireNonNull(key, "key");
+    this.action = Objects.requireNonNull(action, "action");
+  }
+
+  /**
+   * @return The value of the {@code key} attribute
+   */
+  @Override
+  public ActionAnalysisDataKey getKey() {
+    return key;
+  }
+
+  /**
+   * @return The value of the {@code action} attribute
+   */
+  @Override
+  public Action getAction() {
+    return action;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableActionWrapperData} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableActionWrapperData
+        && equalTo((ImmutableActionWrapperData) another);
+  }
+
+  private boolean equalTo(ImmutableActionWrapperData another) {
+    return key.equals(another.key)
+        && action.equals(another.action);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code key}, {@code action}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + key.hashCode();
+    h += (h << 5) + action.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ActionWrapperData} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ActionWrapperData")
+        .omitNullValues()
+        .add("key", key)
+        .add("action", action)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ActionWrapperData} instance.
+   * @param key The value for the {@code key} attribute
+   * @param action The value for the {@code action} attribute
+   * @return An immutable ActionWrapperData instance
+   */
+  public static ImmutableActionWrapperData of(ActionAnalysisDataKey key, Action action) {
+    return new ImmutableActionWrapperData(key, action);
+  }
+}
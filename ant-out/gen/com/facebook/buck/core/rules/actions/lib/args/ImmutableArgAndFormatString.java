@@ -0,0 +1,100 @@
+package com.facebook.buck.core.rules.actions.lib.args;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CommandLineArgs.ArgAndFormatString}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableArgAndFormatString.of()}.
+ */
+@Generated(from = "CommandLineArgs.ArgAndFormatString", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableArgAndFormatString
+    implements CommandLineArgs.ArgAndFormatString {
+  private final Object object;
+  private final String postStringificationFormatString;
+
+  private ImmutableArgAndFormatString(Object object, String postStringificationFormatString) {
+    this.object = Objects.requireNonNull(object, "object");
+    this.postStringificationFormatString = Objects.requireNonNull(postStringificationFormatString, "postStringificationFormatString");
+  }
+
+  /**
+   * @return The value of the {@code object} attribute
+   */
+  @Override
+  public Object getObject() {
+    return object;
+  }
+
+  /**
+   * @return The value of the {@code postStringificationFormatString} attribute
+   */
+  @Override
+  public String getPostStringificationFormatString() {
+    return postStringificationFormatString;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableArgAndFormatString} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableArgAndFormatString
+        && equalTo((ImmutableArgAndFormatString) another);
+  }
+
+  private boolean equalTo(ImmutableArgAndFormatString another) {
+    return object.equals(another.object)
+        && postStringificationFormatString.equals(another.postStringificationFormatString);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code object}, {@code postStringificationFormatString}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + object.hashCode();
+    h += (h << 5) + postStringificationFormatString.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ArgAndFormatString} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ArgAndFormatString")
+        .omitNullValues()
+        .add("object", object)
+        .add("postStringificationFormatString", postStringificationFormatString)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ArgAndFormatString} instance.
+   * @param object The value for the {@code object} attribute
+   * @param postStringificationFormatString The value for the {@code postStringificationFormatString} attribute
+   * @return An immutable ArgAndFormatString instance
+   */
+  public static ImmutableArgAndFormatString of(Object object, String postStringificationFormatString) {
+    return new ImmutableArgAndFormatString(object, postStringificationFormatString);
+  }
+}
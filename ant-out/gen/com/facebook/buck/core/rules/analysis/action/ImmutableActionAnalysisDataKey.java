@@ -0,0 +1,110 @@
+package com.facebook.buck.core.rules.analysis.action;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ActionAnalysisDataKey}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableActionAnalysisDataKey.of()}.
+ */
+@Generated(from = "ActionAnalysisDataKey", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableActionAnalysisDataKey
+    implements ActionAnalysisDataKey {
+  private final BuildTarget buildTarget;
+  private final ActionAnalysisData.ID iD;
+  private transient final int hashCode;
+
+  private ImmutableActionAnalysisDataKey(
+      BuildTarget buildTarget,
+      ActionAnalysisData.ID iD) {
+    this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+    this.iD = Objects.requireNonNull(iD, "iD");
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  public BuildTarget getBuildTarget() {
+    return buildTarget;
+  }
+
+  /**
+   * @return The value of the {@code iD} attribute
+   */
+  @Override
+  public ActionAnalysisData.ID getID() {
+    return iD;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableActionAnalysisDataKey} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableActionAnalysisDataKey
+        && equalTo((ImmutableActionAnalysisDataKey) another);
+  }
+
+  private boolean equalTo(ImmutableActionAnalysisDataKey another) {
+    if (hashCode != another.hashCode) return false;
+    return buildTarget.equals(another.buildTarget)
+        && iD.equals(another.iD);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code buildTarget}, {@code iD}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + buildTarget.hashCode();
+    h += (h << 5) + iD.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ActionAnalysisDataKey} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ActionAnalysisDataKey")
+        .omitNullValues()
+        .add("buildTarget", buildTarget)
+        .add("iD", iD)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ActionAnalysisDataKey} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param iD The value for the {@code iD} attribute
+   * @return An immutable ActionAnalysisDataKey instance
+   */
+  public static ImmutableActionAnalysisDataKey of(BuildTarget buildTarget, ActionAnalysisData.ID iD) {
+    return new ImmutableActionAnalysisDataKey(buildTarget, iD);
+  }
+}
@@ -0,0 +1,120 @@
+package com.facebook.buck.core.rules.config.registry;
+
+import com.facebook.buck.core.model.platform.ConstraintResolver;
+import com.facebook.buck.core.model.platform.TargetPlatformResolver;
+import com.facebook.buck.core.rules.config.ConfigurationRuleResolver;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ConfigurationRuleRegistry}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableConfigurationRuleRegistry.of()}.
+ */
+@Generated(from = "ConfigurationRuleRegistry", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableConfigurationRuleRegistry
+    implements ConfigurationRuleRegistry {
+  private final ConfigurationRuleResolver configurationRuleResolver;
+  private final ConstraintResolver constraintResolver;
+  private final TargetPlatformResolver targetPlatformResolver;
+
+  private ImmutableConfigurationRuleRegistry(
+      ConfigurationRuleResolver configurationRuleResolver,
+      ConstraintResolver constraintResolver,
+      TargetPlatformResolver targetPlatformResolver) {
+    this.configurationRuleResolver = Objects.requireNonNull(configurationRuleResolver, "configurationRuleResolver");
+    this.constraintResolver = Objects.requireNonNull(constraintResolver, "constraintResolver");
+    this.targetPlatformResolver = Objects.requireNonNull(targetPlatformResolver, "targetPlatformResolver");
+  }
+
+  /**
+   * @return The value of the {@code configurationRuleResolver} attribute
+   */
+  @Override
+  public ConfigurationRuleResolver getConfigurationRuleResolver() {
+    return configurationRuleResolver;
+  }
+
+  /**
+   * @return The value of the {@code constraintResolver} attribute
+   */
+  @Override
+  public ConstraintResolver getConstraintResolver() {
+    return constraintResolver;
+  }
+
+  /**
+   * @return The value of the {@code targetPlatformResolver} attribute
+   */
+  @Override
+  public TargetPlatformResolver getTargetPlatformResolver() {
+    return targetPlatformResolver;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableConfigurationRuleRegistry} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableConfigurationRuleRegistry
+        && equalTo((ImmutableConfigurationRuleRegistry) another);
+  }
+
+  private boolean equalTo(ImmutableConfigurationRuleRegistry another) {
+    return configurationRuleResolver.equals(another.configurationRuleResolver)
+        && constraintResolver.equals(another.constraintResolver)
+        && targetPlatformResolver.equals(another.targetPlatformResolver);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code configurationRuleResolver}, {@code constraintResolver}, {@code targetPlatformResolver}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + configurationRuleResolver.hashCode();
+    h += (h << 5) + constraintResolver.hashCode();
+    h += (h << 5) + targetPlatformResolver.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ConfigurationRuleRegistry} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ConfigurationRuleRegistry")
+        .omitNullValues()
+        .add("configurationRuleResolver", configurationRuleResolver)
+        .add("constraintResolver", constraintResolver)
+        .add("targetPlatformResolver", targetPlatformResolver)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ConfigurationRuleRegistry} instance.
+   * @param configurationRuleResolver The value for the {@code configurationRuleResolver} attribute
+   * @param constraintResolver The value for the {@code constraintResolver} attribute
+   * @param targetPlatformResolver The value for the {@code targetPlatformResolver} attribute
+   * @return An immutable ConfigurationRuleRegistry instance
+   */
+  public static ImmutableConfigurationRuleRegistry of(ConfigurationRuleResolver configurationRuleResolver, ConstraintResolver constraintResolver, TargetPlatformResolver targetPlatformResolver) {
+    return new ImmutableConfigurationRuleRegistry(configurationRuleResolver, constraintResolver, targetPlatformResolver);
+  }
+}
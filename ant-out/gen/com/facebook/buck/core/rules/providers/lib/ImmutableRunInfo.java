@@ -0,0 +1,99 @@
+package com.facebook.buck.core.rules.providers.lib;
+
+import com.facebook.buck.core.rules.actions.lib.args.CommandLineArgs;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link RunInfo}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code new ImmutableRunInfo()}.
+ */
+@Generated(from = "RunInfo", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ImmutableRunInfo extends RunInfo {
+  private final ImmutableMap<String, String> env;
+  private final CommandLineArgs args;
+
+  /**
+   * Construct a new immutable {@code RunInfo} instance.
+   * @param env The value for the {@code env} attribute
+   * @param args The value for the {@code args} attribute
+   */
+  public ImmutableRunInfo(
+      Map<String, ? extends String> env,
+      CommandLineArgs args) {
+    this.env = ImmutableMap.copyOf(env);
+    this.args = Objects.requireNonNull(args, "args");
+  }
+
+  /**
+   *@return any additional environment variables that should be used when executing 
+   */
+  @Override
+  public ImmutableMap<String, String> env() {
+    return env;
+  }
+
+  /**
+   *@return the command line arguments to use when executing 
+   */
+  @Override
+  public CommandLineArgs args() {
+    return args;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableRunInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableRunInfo
+        && equalTo((ImmutableRunInfo) another);
+  }
+
+  private boolean equalTo(ImmutableRunInfo another) {
+    return env.equals(another.env)
+        && args.equals(another.args);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code env}, {@code args}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + env.hashCode();
+    h += (h << 5) + args.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RunInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RunInfo")
+        .omitNullValues()
+        .add("env", env)
+        .add("args", args)
+        .toString();
+  }
+}
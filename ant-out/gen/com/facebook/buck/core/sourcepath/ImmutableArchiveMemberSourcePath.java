@@ -0,0 +1,114 @@
+package com.facebook.buck.core.sourcepath;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ArchiveMemberSourcePath}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableArchiveMemberSourcePath.of()}.
+ */
+@Generated(from = "ArchiveMemberSourcePath", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableArchiveMemberSourcePath
+    extends ArchiveMemberSourcePath {
+  private final SourcePath archiveSourcePath;
+  private final Path memberPath;
+  private transient final int hashCode;
+
+  private ImmutableArchiveMemberSourcePath(SourcePath archiveSourcePath, Path memberPath) {
+    this.archiveSourcePath = Objects.requireNonNull(archiveSourcePath, "archiveSourcePath");
+    this.memberPath = Objects.requireNonNull(memberPath, "memberPath");
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code archiveSourcePath} attribute
+   */
+  @Override
+  public SourcePath getArchiveSourcePath() {
+    return archiveSourcePath;
+  }
+
+  /**
+   * @return The value of the {@code memberPath} attribute
+   */
+  @Override
+  public Path getMemberPath() {
+    return memberPath;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableArchiveMemberSourcePath} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableArchiveMemberSourcePath
+        && equalTo((ImmutableArchiveMemberSourcePath) another);
+  }
+
+  private boolean equalTo(ImmutableArchiveMemberSourcePath another) {
+    if (hashCode != another.hashCode) return false;
+    return archiveSourcePath.equals(another.archiveSourcePath)
+        && memberPath.equals(another.memberPath);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code archiveSourcePath}, {@code memberPath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + archiveSourcePath.hashCode();
+    h += (h << 5) + memberPath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ArchiveMemberSourcePath} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ArchiveMemberSourcePath")
+        .omitNullValues()
+        .add("archiveSourcePath", archiveSourcePath)
+        .add("memberPath", memberPath)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ArchiveMemberSourcePath} instance.
+   * @param archiveSourcePath The value for the {@code archiveSourcePath} attribute
+   * @param memberPath The value for the {@code memberPath} attribute
+   * @return An immutable ArchiveMemberSourcePath instance
+   */
+  public static ImmutableArchiveMemberSourcePath of(SourcePath archiveSourcePath, Path memberPath) {
+    return validate(new ImmutableArchiveMemberSourcePath(archiveSourcePath, memberPath));
+  }
+
+
+  private static ImmutableArchiveMemberSourcePath validate(ImmutableArchiveMemberSourcePath instance) {
+    instance.check();
+    return instance;
+  }
+}
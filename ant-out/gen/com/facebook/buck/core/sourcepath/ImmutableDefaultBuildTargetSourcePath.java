@@ -0,0 +1,74 @@
+package com.facebook.buck.core.sourcepath;
+
+import com.facebook.buck.core.model.BuildTargetWithOutputs;
+import com.google.common.hash.HashCode;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link DefaultBuildTargetSourcePath}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableDefaultBuildTargetSourcePath.of()}.
+ */
+@Generated(from = "DefaultBuildTargetSourcePath", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableDefaultBuildTargetSourcePath
+    extends DefaultBuildTargetSourcePath {
+  private final BuildTargetWithOutputs targetWithOutputs;
+  private final @Nullable HashCode precomputedHash;
+  private transient final int hashCode;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableDefaultBuildTargetSourcePath(
+      BuildTargetWithOutputs targetWithOutputs,
+      Optional<? extends HashCode> precomputedHash) {
+    this.targetWithOutputs = Objects.requireNonNull(targetWithOutputs, "targetWithOutputs");
+    this.precomputedHash = precomputedHash.orElse(null);
+    this.hashCode = super.hashCode();
+  }
+
+  /**
+   * @return The value of the {@code targetWithOutputs} attribute
+   */
+  @Override
+  public BuildTargetWithOutputs getTargetWithOutputs() {
+    return targetWithOutputs;
+  }
+
+  /**
+   * @return The value of the {@code precomputedHash} attribute
+   */
+  @Override
+  public Optional<HashCode> getPrecomputedHash() {
+    return Optional.ofNullable(precomputedHash);
+  }
+
+  /**
+   * Returns the precomputed-on-construction hash code from the supertype implementation of {@code super.hashCode()}.
+   * @return The hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  /**
+   * Construct a new immutable {@code DefaultBuildTargetSourcePath} instance.
+   * @param targetWithOutputs The value for the {@code targetWithOutputs} attribute
+   * @param precomputedHash The value for the {@code precomputedHash} attribute
+   * @return An immutable DefaultBuildTargetSourcePath instance
+   */
+  public static ImmutableDefaultBuildTargetSourcePath of(BuildTargetWithOutputs targetWithOutputs, Optional<? extends HashCode> precomputedHash) {
+    return new ImmutableDefaultBuildTargetSourcePath(targetWithOutputs, precomputedHash);
+  }
+}
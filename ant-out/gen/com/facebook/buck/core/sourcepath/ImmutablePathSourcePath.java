@@ -0,0 +1,68 @@
+package com.facebook.buck.core.sourcepath;
+
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link PathSourcePath}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutablePathSourcePath.of()}.
+ */
+@Generated(from = "PathSourcePath", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutablePathSourcePath extends PathSourcePath {
+  private final ProjectFilesystem filesystem;
+  private final Path relativePath;
+  private transient final int hashCode;
+
+  private ImmutablePathSourcePath(ProjectFilesystem filesystem, Path relativePath) {
+    this.filesystem = Objects.requireNonNull(filesystem, "filesystem");
+    this.relativePath = Objects.requireNonNull(relativePath, "relativePath");
+    this.hashCode = super.hashCode();
+  }
+
+  /**
+   * @return The value of the {@code filesystem} attribute
+   */
+  @Override
+  public ProjectFilesystem getFilesystem() {
+    return filesystem;
+  }
+
+  /**
+   * @return The value of the {@code relativePath} attribute
+   */
+  @Override
+  public Path getRelativePath() {
+    return relativePath;
+  }
+
+  /**
+   * Returns the precomputed-on-construction hash code from the supertype implementation of {@code super.hashCode()}.
+   * @return The hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  /**
+   * Construct a new immutable {@code PathSourcePath} instance.
+   * @param filesystem The value for the {@code filesystem} attribute
+   * @param relativePath The value for the {@code relativePath} attribute
+   * @return An immutable PathSourcePath instance
+   */
+  public static ImmutablePathSourcePath of(ProjectFilesystem filesystem, Path relativePath) {
+    return new ImmutablePathSourcePath(filesystem, relativePath);
+  }
+}
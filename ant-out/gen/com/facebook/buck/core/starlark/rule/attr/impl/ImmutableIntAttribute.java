@@ -0,0 +1,175 @@
+package com.facebook.buck.core.starlark.rule.attr.impl;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link IntAttribute}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableIntAttribute.of()}.
+ */
+@Generated(from = "IntAttribute", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableIntAttribute extends IntAttribute {
+  private final Integer preCoercionDefaultValue;
+  private final String doc;
+  private final boolean mandatory;
+  private final ImmutableList<Integer> values;
+
+  private ImmutableIntAttribute(
+      Integer preCoercionDefaultValue,
+      String doc,
+      boolean mandatory,
+      Iterable<Integer> values) {
+    this.preCoercionDefaultValue = Objects.requireNonNull(preCoercionDefaultValue, "preCoercionDefaultValue");
+    this.doc = Objects.requireNonNull(doc, "doc");
+    this.mandatory = mandatory;
+    this.values = ImmutableList.copyOf(values);
+  }
+
+  /**
+   * @return The value of the {@code preCoercionDefaultValue} attribute
+   */
+  @Override
+  public Integer getPreCoercionDefaultValue() {
+    return preCoercionDefaultValue;
+  }
+
+  /**
+   * @return The value of the {@code doc} attribute
+   */
+  @Override
+  public String getDoc() {
+    return doc;
+  }
+
+  /**
+   * @return The value of the {@code mandatory} attribute
+   */
+  @Override
+  public boolean getMandatory() {
+    return mandatory;
+  }
+
+  /**
+   * @return The value of the {@code values} attribute
+   */
+  @Override
+  ImmutableList<Integer> getValues() {
+    return values;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableIntAttribute} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableIntAttribute
+        && equalTo((ImmutableIntAttribute) another);
+  }
+
+  private boolean equalTo(ImmutableIntAttribute another) {
+    return preCoercionDefaultValue.equals(another.preCoercionDefaultValue)
+        && doc.equals(another.doc)
+        && mandatory == another.mandatory
+        && values.equals(another.values);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code preCoercionDefaultValue}, {@code doc}, {@code mandatory}, {@code values}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + preCoercionDefaultValue.hashCode();
+    h += (h << 5) + doc.hashCode();
+    h += (h << 5) + Booleans.hashCode(mandatory);
+    h += (h << 5) + values.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code IntAttribute} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("IntAttribute")
+        .omitNullValues()
+        .add("preCoercionDefaultValue", preCoercionDefaultValue)
+        .add("doc", doc)
+        .add("mandatory", mandatory)
+        .add("values", values)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long GENERIC_TYPE_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient Type genericType;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link IntAttribute#getGenericType() genericType} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code genericType} attribute
+   */
+  @Override
+  public Type getGenericType() {
+    if ((lazyInitBitmap & GENERIC_TYPE_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & GENERIC_TYPE_LAZY_INIT_BIT) == 0) {
+          this.genericType = Objects.requireNonNull(super.getGenericType(), "genericType");
+          lazyInitBitmap |= GENERIC_TYPE_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return genericType;
+  }
+
+  /**
+   * Construct a new immutable {@code IntAttribute} instance.
+   * @param preCoercionDefaultValue The value for the {@code preCoercionDefaultValue} attribute
+   * @param doc The value for the {@code doc} attribute
+   * @param mandatory The value for the {@code mandatory} attribute
+   * @param values The value for the {@code values} attribute
+   * @return An immutable IntAttribute instance
+   */
+  public static ImmutableIntAttribute of(Integer preCoercionDefaultValue, String doc, boolean mandatory, List<Integer> values) {
+    return of(preCoercionDefaultValue, doc, mandatory, (Iterable<Integer>) values);
+  }
+
+  /**
+   * Construct a new immutable {@code IntAttribute} instance.
+   * @param preCoercionDefaultValue The value for the {@code preCoercionDefaultValue} attribute
+   * @param doc The value for the {@code doc} attribute
+   * @param mandatory The value for the {@code mandatory} attribute
+   * @param values The value for the {@code values} attribute
+   * @return An immutable IntAttribute instance
+   */
+  public static ImmutableIntAttribute of(Integer preCoercionDefaultValue, String doc, boolean mandatory, Iterable<Integer> values) {
+    return new ImmutableIntAttribute(preCoercionDefaultValue, doc, mandatory, values);
+  }
+}
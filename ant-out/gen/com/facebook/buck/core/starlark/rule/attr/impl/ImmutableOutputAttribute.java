@@ -0,0 +1,144 @@
+package com.facebook.buck.core.starlark.rule.attr.impl;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.lang.reflect.Type;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link OutputAttribute}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableOutputAttribute.of()}.
+ */
+@Generated(from = "OutputAttribute", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableOutputAttribute
+    extends OutputAttribute {
+  private final Object preCoercionDefaultValue;
+  private final String doc;
+  private final boolean mandatory;
+
+  private ImmutableOutputAttribute(Object preCoercionDefaultValue, String doc, boolean mandatory) {
+    this.preCoercionDefaultValue = Objects.requireNonNull(preCoercionDefaultValue, "preCoercionDefaultValue");
+    this.doc = Objects.requireNonNull(doc, "doc");
+    this.mandatory = mandatory;
+  }
+
+  /**
+   * @return The value of the {@code preCoercionDefaultValue} attribute
+   */
+  @Override
+  public Object getPreCoercionDefaultValue() {
+    return preCoercionDefaultValue;
+  }
+
+  /**
+   * @return The value of the {@code doc} attribute
+   */
+  @Override
+  public String getDoc() {
+    return doc;
+  }
+
+  /**
+   * @return The value of the {@code mandatory} attribute
+   */
+  @Override
+  public boolean getMandatory() {
+    return mandatory;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableOutputAttribute} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableOutputAttribute
+        && equalTo((ImmutableOutputAttribute) another);
+  }
+
+  private boolean equalTo(ImmutableOutputAttribute another) {
+    return preCoercionDefaultValue.equals(another.preCoercionDefaultValue)
+        && doc.equals(another.doc)
+        && mandatory == another.mandatory;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code preCoercionDefaultValue}, {@code doc}, {@code mandatory}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + preCoercionDefaultValue.hashCode();
+    h += (h << 5) + doc.hashCode();
+    h += (h << 5) + Booleans.hashCode(mandatory);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code OutputAttribute} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("OutputAttribute")
+        .omitNullValues()
+        .add("preCoercionDefaultValue", preCoercionDefaultValue)
+        .add("doc", doc)
+        .add("mandatory", mandatory)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long GENERIC_TYPE_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient Type genericType;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link OutputAttribute#getGenericType() genericType} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code genericType} attribute
+   */
+  @Override
+  public Type getGenericType() {
+    if ((lazyInitBitmap & GENERIC_TYPE_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & GENERIC_TYPE_LAZY_INIT_BIT) == 0) {
+          this.genericType = Objects.requireNonNull(super.getGenericType(), "genericType");
+          lazyInitBitmap |= GENERIC_TYPE_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return genericType;
+  }
+
+  /**
+   * Construct a new immutable {@code OutputAttribute} instance.
+   * @param preCoercionDefaultValue The value for the {@code preCoercionDefaultValue} attribute
+   * @param doc The value for the {@code doc} attribute
+   * @param mandatory The value for the {@code mandatory} attribute
+   * @return An immutable OutputAttribute instance
+   */
+  public static ImmutableOutputAttribute of(Object preCoercionDefaultValue, String doc, boolean mandatory) {
+    return new ImmutableOutputAttribute(preCoercionDefaultValue, doc, mandatory);
+  }
+}
@@ -0,0 +1,637 @@
+package com.facebook.buck.core.test.rule;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.util.types.Pair;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ExternalTestRunnerTestSpec}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new ExternalTestRunnerTestSpec.Builder()}.
+ */
+@Generated(from = "ExternalTestRunnerTestSpec", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableExternalTestRunnerTestSpec
+    extends ExternalTestRunnerTestSpec {
+  private final BuildTarget target;
+  private final String type;
+  private final ImmutableList<String> command;
+  private final Path cwd;
+  private final ImmutableList<Pair<Float, ImmutableSet<Path>>> neededCoverage;
+  private final ImmutableSet<Path> additionalCoverageTargets;
+  private final ImmutableMap<String, String> env;
+  private final ImmutableList<String> labels;
+  private final ImmutableList<String> contacts;
+  private final ImmutableSet<Path> requiredPaths;
+
+  private ImmutableExternalTestRunnerTestSpec(ImmutableExternalTestRunnerTestSpec.Builder builder) {
+    this.target = builder.target;
+    this.type = builder.type;
+    this.command = builder.command.build();
+    this.cwd = builder.cwd;
+    this.neededCoverage = builder.neededCoverage.build();
+    this.additionalCoverageTargets = builder.additionalCoverageTargets.build();
+    this.env = builder.env.build();
+    this.labels = builder.labels.build();
+    this.contacts = builder.contacts.build();
+    this.requiredPaths = builder.requiredPaths.build();
+  }
+
+  /**
+   * @return The value of the {@code target} attribute
+   */
+  @Override
+  public BuildTarget getTarget() {
+    return target;
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public String getType() {
+    return type;
+  }
+
+  /**
+   * @return The value of the {@code command} attribute
+   */
+  @Override
+  public ImmutableList<String> getCommand() {
+    return command;
+  }
+
+  /**
+   * @return The value of the {@code cwd} attribute
+   */
+  @Override
+  public Path getCwd() {
+    return cwd;
+  }
+
+  /**
+   * @return The value of the {@code neededCoverage} attribute
+   */
+  @Override
+  public ImmutableList<Pair<Float, ImmutableSet<Path>>> getNeededCoverage() {
+    return neededCoverage;
+  }
+
+  /**
+   * @return The value of the {@code additionalCoverageTargets} attribute
+   */
+  @Override
+  public ImmutableSet<Path> getAdditionalCoverageTargets() {
+    return additionalCoverageTargets;
+  }
+
+  /**
+   * @return The value of the {@code env} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getEnv() {
+    return env;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableList<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code contacts} attribute
+   */
+  @Override
+  public ImmutableList<String> getContacts() {
+    return contacts;
+  }
+
+  /**
+   * @return The value of the {@code requiredPaths} attribute
+   */
+  @Override
+  public ImmutableSet<Path> getRequiredPaths() {
+    return requiredPaths;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableExternalTestRunnerTestSpec} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableExternalTestRunnerTestSpec
+        && equalTo((ImmutableExternalTestRunnerTestSpec) another);
+  }
+
+  private boolean equalTo(ImmutableExternalTestRunnerTestSpec another) {
+    return target.equals(another.target)
+        && type.equals(another.type)
+        && command.equals(another.command)
+        && cwd.equals(another.cwd)
+        && neededCoverage.equals(another.neededCoverage)
+        && additionalCoverageTargets.equals(another.additionalCoverageTargets)
+        && env.equals(another.env)
+        && labels.equals(another.labels)
+        && contacts.equals(another.contacts)
+        && requiredPaths.equals(another.requiredPaths);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code target}, {@code type}, {@code command}, {@code cwd}, {@code neededCoverage}, {@code additionalCoverageTargets}, {@code env}, {@code labels}, {@code contacts}, {@code requiredPaths}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + target.hashCode();
+    h += (h << 5) + type.hashCode();
+    h += (h << 5) + command.hashCode();
+    h += (h << 5) + cwd.hashCode();
+    h += (h << 5) + neededCoverage.hashCode();
+    h += (h << 5) + additionalCoverageTargets.hashCode();
+    h += (h << 5) + env.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + contacts.hashCode();
+    h += (h << 5) + requiredPaths.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ExternalTestRunnerTestSpec} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ExternalTestRunnerTestSpec")
+        .omitNullValues()
+        .add("target", target)
+        .add("type", type)
+        .add("command", command)
+        .add("cwd", cwd)
+        .add("neededCoverage", neededCoverage)
+        .add("additionalCoverageTargets", additionalCoverageTargets)
+        .add("env", env)
+        .add("labels", labels)
+        .add("contacts", contacts)
+        .add("requiredPaths", requiredPaths)
+        .toString();
+  }
+
+  /**
+   * Builds instances of type {@link ExternalTestRunnerTestSpec ExternalTestRunnerTestSpec}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "ExternalTestRunnerTestSpec", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private static final long INIT_BIT_TARGET = 0x1L;
+    private static final long INIT_BIT_TYPE = 0x2L;
+    private static final long INIT_BIT_CWD = 0x4L;
+    private long initBits = 0x7L;
+
+    private @Nullable BuildTarget target;
+    private @Nullable String type;
+    private ImmutableList.Builder<String> command = ImmutableList.builder();
+    private @Nullable Path cwd;
+    private ImmutableList.Builder<Pair<Float, ImmutableSet<Path>>> neededCoverage = ImmutableList.builder();
+    private ImmutableSet.Builder<Path> additionalCoverageTargets = ImmutableSet.builder();
+    private ImmutableMap.Builder<String, String> env = ImmutableMap.builder();
+    private ImmutableList.Builder<String> labels = ImmutableList.builder();
+    private ImmutableList.Builder<String> contacts = ImmutableList.builder();
+    private ImmutableSet.Builder<Path> requiredPaths = ImmutableSet.builder();
+
+    /**
+     * Creates a builder for {@link ExternalTestRunnerTestSpec ExternalTestRunnerTestSpec} instances.
+     */
+    public Builder() {
+      if (!(this instanceof ExternalTestRunnerTestSpec.Builder)) {
+        throw new UnsupportedOperationException("Use: new ExternalTestRunnerTestSpec.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ExternalTestRunnerTestSpec} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExternalTestRunnerTestSpec.Builder from(ExternalTestRunnerTestSpec instance) {
+      Objects.requireNonNull(instance, "instance");
+      setTarget(instance.getTarget());
+      setType(instance.getType());
+      addAllCommand(instance.getCommand());
+      setCwd(instance.getCwd());
+      addAllNeededCoverage(instance.getNeededCoverage());
+      addAllAdditionalCoverageTargets(instance.getAdditionalCoverageTargets());
+      putAllEnv(instance.getEnv());
+      addAllLabels(instance.getLabels());
+      addAllContacts(instance.getContacts());
+      addAllRequiredPaths(instance.getRequiredPaths());
+      return (ExternalTestRunnerTestSpec.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExternalTestRunnerTestSpec#getTarget() target} attribute.
+     * @param target The value for target 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExternalTestRunnerTestSpec.Builder setTarget(BuildTarget target) {
+      this.target = Objects.requireNonNull(target, "target");
+      initBits &= ~INIT_BIT_TARGET;
+      return (ExternalTestRunnerTestSpec.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExternalTestRunnerTestSpec#getType() type} attribute.
+     * @param type The value for type 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExternalTestRunnerTestSpec.Builder setType(String type) {
+      this.type = Objects.requireNonNull(type, "type");
+      initBits &= ~INIT_BIT_TYPE;
+      return (ExternalTestRunnerTestSpec.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link ExternalTestRunnerTestSpec#getCommand() command} list.
+     * @param element A command element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExternalTestRunnerTestSpec.Builder addCommand(String element) {
+      this.command.add(element);
+      return (ExternalTestRunnerTestSpec.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link ExternalTestRunnerTestSpec#getCommand() command} list.
+     * @param elements An array of command elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExternalTestRunnerTestSpec.Builder addCommand(String... elements) {
+      this.command.add(elements);
+      return (ExternalTestRunnerTestSpec.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ExternalTestRunnerTestSpec#getCommand() command} list.
+     * @param elements An iterable of command elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExternalTestRunnerTestSpec.Builder setCommand(Iterable<String> elements) {
+      this.command = ImmutableList.builder();
+      return addAllCommand(elements);
+    }
+
+    /**
+     * Adds elements to {@link ExternalTestRunnerTestSpec#getCommand() command} list.
+     * @param elements An iterable of command elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExternalTestRunnerTestSpec.Builder addAllCommand(Iterable<String> elements) {
+      this.command.addAll(elements);
+      return (ExternalTestRunnerTestSpec.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExternalTestRunnerTestSpec#getCwd() cwd} attribute.
+     * @param cwd The value for cwd 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExternalTestRunnerTestSpec.Builder setCwd(Path cwd) {
+      this.cwd = Objects.requireNonNull(cwd, "cwd");
+      initBits &= ~INIT_BIT_CWD;
+      return (ExternalTestRunnerTestSpec.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link ExternalTestRunnerTestSpec#getNeededCoverage() neededCoverage} list.
+     * @param element A neededCoverage element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExternalTestRunnerTestSpec.Builder addNeededCoverage(Pair<Float, ImmutableSet<Path>> element) {
+      this.neededCoverage.add(element);
+      return (ExternalTestRunnerTestSpec.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link ExternalTestRunnerTestSpec#getNeededCoverage() neededCoverage} list.
+     * @param elements An array of neededCoverage elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @SafeVarargs @SuppressWarnings("varargs")
+    public final ExternalTestRunnerTestSpec.Builder addNeededCoverage(Pair<Float, ImmutableSet<Path>>... elements) {
+      this.neededCoverage.add(elements);
+      return (ExternalTestRunnerTestSpec.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ExternalTestRunnerTestSpec#getNeededCoverage() neededCoverage} list.
+     * @param elements An iterable of neededCoverage elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExternalTestRunnerTestSpec.Builder setNeededCoverage(Iterable<? extends Pair<Float, ImmutableSet<Path>>> elements) {
+      this.neededCoverage = ImmutableList.builder();
+      return addAllNeededCoverage(elements);
+    }
+
+    /**
+     * Adds elements to {@link ExternalTestRunnerTestSpec#getNeededCoverage() neededCoverage} list.
+     * @param elements An iterable of neededCoverage elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExternalTestRunnerTestSpec.Builder addAllNeededCoverage(Iterable<? extends Pair<Float, ImmutableSet<Path>>> elements) {
+      this.neededCoverage.addAll(elements);
+      return (ExternalTestRunnerTestSpec.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link ExternalTestRunnerTestSpec#getAdditionalCoverageTargets() additionalCoverageTargets} set.
+     * @param element A additionalCoverageTargets element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExternalTestRunnerTestSpec.Builder addAdditionalCoverageTargets(Path element) {
+      this.additionalCoverageTargets.add(element);
+      return (ExternalTestRunnerTestSpec.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link ExternalTestRunnerTestSpec#getAdditionalCoverageTargets() additionalCoverageTargets} set.
+     * @param elements An array of additionalCoverageTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExternalTestRunnerTestSpec.Builder addAdditionalCoverageTargets(Path... elements) {
+      this.additionalCoverageTargets.add(elements);
+      return (ExternalTestRunnerTestSpec.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ExternalTestRunnerTestSpec#getAdditionalCoverageTargets() additionalCoverageTargets} set.
+     * @param elements An iterable of additionalCoverageTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExternalTestRunnerTestSpec.Builder setAdditionalCoverageTargets(Iterable<? extends Path> elements) {
+      this.additionalCoverageTargets = ImmutableSet.builder();
+      return addAllAdditionalCoverageTargets(elements);
+    }
+
+    /**
+     * Adds elements to {@link ExternalTestRunnerTestSpec#getAdditionalCoverageTargets() additionalCoverageTargets} set.
+     * @param elements An iterable of additionalCoverageTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExternalTestRunnerTestSpec.Builder addAllAdditionalCoverageTargets(Iterable<? extends Path> elements) {
+      this.additionalCoverageTargets.addAll(elements);
+      return (ExternalTestRunnerTestSpec.Builder) this;
+    }
+
+    /**
+     * Put one entry to the {@link ExternalTestRunnerTestSpec#getEnv() env} map.
+     * @param key The key in the env map
+     * @param value The associated value in the env map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExternalTestRunnerTestSpec.Builder putEnv(String key, String value) {
+      this.env.put(key, value);
+      return (ExternalTestRunnerTestSpec.Builder) this;
+    }
+
+    /**
+     * Put one entry to the {@link ExternalTestRunnerTestSpec#getEnv() env} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExternalTestRunnerTestSpec.Builder putEnv(Map.Entry<String, ? extends String> entry) {
+      this.env.put(entry);
+      return (ExternalTestRunnerTestSpec.Builder) this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link ExternalTestRunnerTestSpec#getEnv() env} map. Nulls are not permitted
+     * @param entries The entries that will be added to the env map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExternalTestRunnerTestSpec.Builder setEnv(Map<String, ? extends String> entries) {
+      this.env = ImmutableMap.builder();
+      return putAllEnv(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link ExternalTestRunnerTestSpec#getEnv() env} map. Nulls are not permitted
+     * @param entries The entries that will be added to the env map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExternalTestRunnerTestSpec.Builder putAllEnv(Map<String, ? extends String> entries) {
+      this.env.putAll(entries);
+      return (ExternalTestRunnerTestSpec.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link ExternalTestRunnerTestSpec#getLabels() labels} list.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExternalTestRunnerTestSpec.Builder addLabels(String element) {
+      this.labels.add(element);
+      return (ExternalTestRunnerTestSpec.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link ExternalTestRunnerTestSpec#getLabels() labels} list.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExternalTestRunnerTestSpec.Builder addLabels(String... elements) {
+      this.labels.add(elements);
+      return (ExternalTestRunnerTestSpec.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ExternalTestRunnerTestSpec#getLabels() labels} list.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExternalTestRunnerTestSpec.Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableList.builder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link ExternalTestRunnerTestSpec#getLabels() labels} list.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExternalTestRunnerTestSpec.Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return (ExternalTestRunnerTestSpec.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link ExternalTestRunnerTestSpec#getContacts() contacts} list.
+     * @param element A contacts element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExternalTestRunnerTestSpec.Builder addContacts(String element) {
+      this.contacts.add(element);
+      return (ExternalTestRunnerTestSpec.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link ExternalTestRunnerTestSpec#getContacts() contacts} list.
+     * @param elements An array of contacts elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExternalTestRunnerTestSpec.Builder addContacts(String... elements) {
+      this.contacts.add(elements);
+      return (ExternalTestRunnerTestSpec.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ExternalTestRunnerTestSpec#getContacts() contacts} list.
+     * @param elements An iterable of contacts elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExternalTestRunnerTestSpec.Builder setContacts(Iterable<String> elements) {
+      this.contacts = ImmutableList.builder();
+      return addAllContacts(elements);
+    }
+
+    /**
+     * Adds elements to {@link ExternalTestRunnerTestSpec#getContacts() contacts} list.
+     * @param elements An iterable of contacts elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExternalTestRunnerTestSpec.Builder addAllContacts(Iterable<String> elements) {
+      this.contacts.addAll(elements);
+      return (ExternalTestRunnerTestSpec.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link ExternalTestRunnerTestSpec#getRequiredPaths() requiredPaths} set.
+     * @param element A requiredPaths element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExternalTestRunnerTestSpec.Builder addRequiredPaths(Path element) {
+      this.requiredPaths.add(element);
+      return (ExternalTestRunnerTestSpec.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link ExternalTestRunnerTestSpec#getRequiredPaths() requiredPaths} set.
+     * @param elements An array of requiredPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExternalTestRunnerTestSpec.Builder addRequiredPaths(Path... elements) {
+      this.requiredPaths.add(elements);
+      return (ExternalTestRunnerTestSpec.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ExternalTestRunnerTestSpec#getRequiredPaths() requiredPaths} set.
+     * @param elements An iterable of requiredPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExternalTestRunnerTestSpec.Builder setRequiredPaths(Iterable<? extends Path> elements) {
+      this.requiredPaths = ImmutableSet.builder();
+      return addAllRequiredPaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link ExternalTestRunnerTestSpec#getRequiredPaths() requiredPaths} set.
+     * @param elements An iterable of requiredPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExternalTestRunnerTestSpec.Builder addAllRequiredPaths(Iterable<? extends Path> elements) {
+      this.requiredPaths.addAll(elements);
+      return (ExternalTestRunnerTestSpec.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link ExternalTestRunnerTestSpec ExternalTestRunnerTestSpec}.
+     * @return An immutable instance of ExternalTestRunnerTestSpec
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ExternalTestRunnerTestSpec build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ImmutableExternalTestRunnerTestSpec(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_TARGET) != 0) attributes.add("target");
+      if ((initBits & INIT_BIT_TYPE) != 0) attributes.add("type");
+      if ((initBits & INIT_BIT_CWD) != 0) attributes.add("cwd");
+      return "Cannot build ExternalTestRunnerTestSpec, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,145 @@
+package com.facebook.buck.core.toolchain.tool.impl;
+
+import com.facebook.buck.core.sourcepath.PathSourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link VersionedTool}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableVersionedTool.of()}.
+ */
+@Generated(from = "VersionedTool", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableVersionedTool extends VersionedTool {
+  private final String name;
+  private final PathSourcePath path;
+  private final String version;
+  private final ImmutableList<String> extraArgs;
+
+  private ImmutableVersionedTool(
+      String name,
+      PathSourcePath path,
+      String version,
+      Iterable<String> extraArgs) {
+    this.name = Objects.requireNonNull(name, "name");
+    this.path = Objects.requireNonNull(path, "path");
+    this.version = Objects.requireNonNull(version, "version");
+    this.extraArgs = ImmutableList.copyOf(extraArgs);
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code path} attribute
+   */
+  @Override
+  public PathSourcePath getPath() {
+    return path;
+  }
+
+  /**
+   * @return The value of the {@code version} attribute
+   */
+  @Override
+  public String getVersion() {
+    return version;
+  }
+
+  /**
+   * @return The value of the {@code extraArgs} attribute
+   */
+  @Override
+  public ImmutableList<String> getExtraArgs() {
+    return extraArgs;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableVersionedTool} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableVersionedTool
+        && equalTo((ImmutableVersionedTool) another);
+  }
+
+  private boolean equalTo(ImmutableVersionedTool another) {
+    return name.equals(another.name)
+        && path.equals(another.path)
+        && version.equals(another.version)
+        && extraArgs.equals(another.extraArgs);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code name}, {@code path}, {@code version}, {@code extraArgs}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + path.hashCode();
+    h += (h << 5) + version.hashCode();
+    h += (h << 5) + extraArgs.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code VersionedTool} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("VersionedTool")
+        .omitNullValues()
+        .add("name", name)
+        .add("path", path)
+        .add("version", version)
+        .add("extraArgs", extraArgs)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code VersionedTool} instance.
+   * @param name The value for the {@code name} attribute
+   * @param path The value for the {@code path} attribute
+   * @param version The value for the {@code version} attribute
+   * @param extraArgs The value for the {@code extraArgs} attribute
+   * @return An immutable VersionedTool instance
+   */
+  public static ImmutableVersionedTool of(String name, PathSourcePath path, String version, ImmutableList<String> extraArgs) {
+    return of(name, path, version, (Iterable<String>) extraArgs);
+  }
+
+  /**
+   * Construct a new immutable {@code VersionedTool} instance.
+   * @param name The value for the {@code name} attribute
+   * @param path The value for the {@code path} attribute
+   * @param version The value for the {@code version} attribute
+   * @param extraArgs The value for the {@code extraArgs} attribute
+   * @return An immutable VersionedTool instance
+   */
+  public static ImmutableVersionedTool of(String name, PathSourcePath path, String version, Iterable<String> extraArgs) {
+    return new ImmutableVersionedTool(name, path, version, extraArgs);
+  }
+}
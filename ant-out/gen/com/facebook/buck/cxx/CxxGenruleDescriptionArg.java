@@ -0,0 +1,1014 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.description.arg.BuildRuleArg;
+import com.facebook.buck.core.description.arg.ConstructorArg;
+import com.facebook.buck.core.description.arg.HasTests;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.UnconfiguredBuildTarget;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.rules.coercer.SourceSet;
+import com.facebook.buck.rules.macros.StringWithMacros;
+import com.facebook.buck.shell.AbstractGenruleDescription;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CxxGenruleDescription.AbstractCxxGenruleDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code CxxGenruleDescriptionArg.builder()}.
+ */
+@Generated(from = "CxxGenruleDescription.AbstractCxxGenruleDescriptionArg", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class CxxGenruleDescriptionArg
+    implements CxxGenruleDescription.AbstractCxxGenruleDescriptionArg {
+  private final String out;
+  private final @Nullable StringWithMacros bash;
+  private final @Nullable StringWithMacros cmd;
+  private final @Nullable StringWithMacros cmdExe;
+  private final @Nullable String type;
+  private final SourceSet srcs;
+  private final @Nullable Boolean enableSandbox;
+  private final @Nullable String environmentExpansionSeparator;
+  private final @Nullable Boolean remote;
+  private final @Nullable Boolean cacheable;
+  private final boolean needAndroidTools;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final @Nullable UnconfiguredBuildTarget defaultTargetPlatform;
+  private final ImmutableList<UnconfiguredBuildTarget> compatibleWith;
+  private final String name;
+  private final ImmutableSortedSet<BuildTarget> tests;
+
+  private CxxGenruleDescriptionArg(CxxGenruleDescriptionArg.Builder builder) {
+    this.out = builder.out;
+    this.bash = builder.bash;
+    this.cmd = builder.cmd;
+    this.cmdExe = builder.cmdExe;
+    this.type = builder.type;
+    this.enableSandbox = builder.enableSandbox;
+    this.environmentExpansionSeparator = builder.environmentExpansionSeparator;
+    this.remote = builder.remote;
+    this.cacheable = builder.cacheable;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.defaultTargetPlatform = builder.defaultTargetPlatform;
+    this.compatibleWith = builder.compatibleWith.build();
+    this.name = builder.name;
+    this.tests = builder.tests.build();
+    if (builder.srcs != null) {
+      initShim.setSrcs(builder.srcs);
+    }
+    if (builder.needAndroidToolsIsSet()) {
+      initShim.setNeedAndroidTools(builder.needAndroidTools);
+    }
+    this.srcs = initShim.getSrcs();
+    this.needAndroidTools = initShim.isNeedAndroidTools();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "CxxGenruleDescription.AbstractCxxGenruleDescriptionArg", generator = "Immutables")
+  private final class InitShim {
+    private byte srcsBuildStage = STAGE_UNINITIALIZED;
+    private SourceSet srcs;
+
+    SourceSet getSrcs() {
+      if (srcsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (srcsBuildStage == STAGE_UNINITIALIZED) {
+        srcsBuildStage = STAGE_INITIALIZING;
+        this.srcs = Objects.requireNonNull(getSrcsInitialize(), "srcs");
+        srcsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.srcs;
+    }
+
+    void setSrcs(SourceSet srcs) {
+      this.srcs = srcs;
+      srcsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte needAndroidToolsBuildStage = STAGE_UNINITIALIZED;
+    private boolean needAndroidTools;
+
+    boolean isNeedAndroidTools() {
+      if (needAndroidToolsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (needAndroidToolsBuildStage == STAGE_UNINITIALIZED) {
+        needAndroidToolsBuildStage = STAGE_INITIALIZING;
+        this.needAndroidTools = isNeedAndroidToolsInitialize();
+        needAndroidToolsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.needAndroidTools;
+    }
+
+    void setNeedAndroidTools(boolean needAndroidTools) {
+      this.needAndroidTools = needAndroidTools;
+      needAndroidToolsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (srcsBuildStage == STAGE_INITIALIZING) attributes.add("srcs");
+      if (needAndroidToolsBuildStage == STAGE_INITIALIZING) attributes.add("needAndroidTools");
+      return "Cannot build CxxGenruleDescriptionArg, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  private SourceSet getSrcsInitialize() {
+    return CxxGenruleDescription.AbstractCxxGenruleDescriptionArg.super.getSrcs();
+  }
+
+  private boolean isNeedAndroidToolsInitialize() {
+    return CxxGenruleDescription.AbstractCxxGenruleDescriptionArg.super.isNeedAndroidTools();
+  }
+
+  /**
+   * @return The value of the {@code out} attribute
+   */
+  @Override
+  public String getOut() {
+    return out;
+  }
+
+  /**
+   * @return The value of the {@code bash} attribute
+   */
+  @Override
+  public Optional<StringWithMacros> getBash() {
+    return Optional.ofNullable(bash);
+  }
+
+  /**
+   * @return The value of the {@code cmd} attribute
+   */
+  @Override
+  public Optional<StringWithMacros> getCmd() {
+    return Optional.ofNullable(cmd);
+  }
+
+  /**
+   * @return The value of the {@code cmdExe} attribute
+   */
+  @Override
+  public Optional<StringWithMacros> getCmdExe() {
+    return Optional.ofNullable(cmdExe);
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public Optional<String> getType() {
+    return Optional.ofNullable(type);
+  }
+
+  /**
+   * @return The value of the {@code srcs} attribute
+   */
+  @Override
+  public SourceSet getSrcs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getSrcs()
+        : this.srcs;
+  }
+
+  /**
+   * @return The value of the {@code enableSandbox} attribute
+   */
+  @Override
+  public Optional<Boolean> getEnableSandbox() {
+    return Optional.ofNullable(enableSandbox);
+  }
+
+  /**
+   * @return The value of the {@code environmentExpansionSeparator} attribute
+   */
+  @Override
+  public Optional<String> getEnvironmentExpansionSeparator() {
+    return Optional.ofNullable(environmentExpansionSeparator);
+  }
+
+  /**
+   * If present and true, requests that Buck run this genrule remotely if possible. Defaults to
+   * false for now.
+   */
+  @Override
+  public Optional<Boolean> getRemote() {
+    return Optional.ofNullable(remote);
+  }
+
+  /**
+   * This functionality only exists to get around the lack of extensibility in our current build
+   * rule / build file apis. It may go away at some point. Also, make sure that you understand
+   * what {@link BuildRule#isCacheable} does with respect to caching if you decide to use this
+   * attribute
+   */
+  @Override
+  public Optional<Boolean> getCacheable() {
+    return Optional.ofNullable(cacheable);
+  }
+
+  /**
+   * This argument allows genrule to specify if it needs android tools (like dex, aapt, ndk, sdk).
+   */
+  @Override
+  public boolean isNeedAndroidTools() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isNeedAndroidTools()
+        : this.needAndroidTools;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * The name of build target default "new" platform: it is used when a platform is not specified
+   * either globally or in a target which used this target as a dependency.
+   * <p>The value is a build target, but we specify it as string, because this function is not
+   * actually called, but the attr is fetched by name from the raw (unconfigured) target node.
+   */
+  @Override
+  public Optional<UnconfiguredBuildTarget> getDefaultTargetPlatform() {
+    return Optional.ofNullable(defaultTargetPlatform);
+  }
+
+  /**
+   *A list of {@code config_setting} a target is compatible with. 
+   */
+  @Override
+  public ImmutableList<UnconfiguredBuildTarget> getCompatibleWith() {
+    return compatibleWith;
+  }
+
+  /**
+   *Each rule has a name 
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   *@return A list of tests of this target. 
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getTests() {
+    return tests;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CxxGenruleDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CxxGenruleDescriptionArg
+        && equalTo((CxxGenruleDescriptionArg) another);
+  }
+
+  private boolean equalTo(CxxGenruleDescriptionArg another) {
+    return out.equals(another.out)
+        && Objects.equals(bash, another.bash)
+        && Objects.equals(cmd, another.cmd)
+        && Objects.equals(cmdExe, another.cmdExe)
+        && Objects.equals(type, another.type)
+        && srcs.equals(another.srcs)
+        && Objects.equals(enableSandbox, another.enableSandbox)
+        && Objects.equals(environmentExpansionSeparator, another.environmentExpansionSeparator)
+        && Objects.equals(remote, another.remote)
+        && Objects.equals(cacheable, another.cacheable)
+        && needAndroidTools == another.needAndroidTools
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && Objects.equals(defaultTargetPlatform, another.defaultTargetPlatform)
+        && compatibleWith.equals(another.compatibleWith)
+        && name.equals(another.name)
+        && tests.equals(another.tests);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code out}, {@code bash}, {@code cmd}, {@code cmdExe}, {@code type}, {@code srcs}, {@code enableSandbox}, {@code environmentExpansionSeparator}, {@code remote}, {@code cacheable}, {@code needAndroidTools}, {@code licenses}, {@code labels}, {@code defaultTargetPlatform}, {@code compatibleWith}, {@code name}, {@code tests}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + out.hashCode();
+    h += (h << 5) + Objects.hashCode(bash);
+    h += (h << 5) + Objects.hashCode(cmd);
+    h += (h << 5) + Objects.hashCode(cmdExe);
+    h += (h << 5) + Objects.hashCode(type);
+    h += (h << 5) + srcs.hashCode();
+    h += (h << 5) + Objects.hashCode(enableSandbox);
+    h += (h << 5) + Objects.hashCode(environmentExpansionSeparator);
+    h += (h << 5) + Objects.hashCode(remote);
+    h += (h << 5) + Objects.hashCode(cacheable);
+    h += (h << 5) + Booleans.hashCode(needAndroidTools);
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + Objects.hashCode(defaultTargetPlatform);
+    h += (h << 5) + compatibleWith.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + tests.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxGenruleDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxGenruleDescriptionArg")
+        .omitNullValues()
+        .add("out", out)
+        .add("bash", bash)
+        .add("cmd", cmd)
+        .add("cmdExe", cmdExe)
+        .add("type", type)
+        .add("srcs", srcs)
+        .add("enableSandbox", enableSandbox)
+        .add("environmentExpansionSeparator", environmentExpansionSeparator)
+        .add("remote", remote)
+        .add("cacheable", cacheable)
+        .add("needAndroidTools", needAndroidTools)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("defaultTargetPlatform", defaultTargetPlatform)
+        .add("compatibleWith", compatibleWith)
+        .add("name", name)
+        .add("tests", tests)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link CxxGenruleDescriptionArg CxxGenruleDescriptionArg}.
+   * @return A new CxxGenruleDescriptionArg builder
+   */
+  public static CxxGenruleDescriptionArg.Builder builder() {
+    return new CxxGenruleDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CxxGenruleDescriptionArg CxxGenruleDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "CxxGenruleDescription.AbstractCxxGenruleDescriptionArg", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_OUT = 0x1L;
+    private static final long INIT_BIT_NAME = 0x2L;
+    private static final long OPT_BIT_NEED_ANDROID_TOOLS = 0x1L;
+    private long initBits = 0x3L;
+    private long optBits;
+
+    private @Nullable String out;
+    private @Nullable StringWithMacros bash;
+    private @Nullable StringWithMacros cmd;
+    private @Nullable StringWithMacros cmdExe;
+    private @Nullable String type;
+    private @Nullable SourceSet srcs;
+    private @Nullable Boolean enableSandbox;
+    private @Nullable String environmentExpansionSeparator;
+    private @Nullable Boolean remote;
+    private @Nullable Boolean cacheable;
+    private boolean needAndroidTools;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private @Nullable UnconfiguredBuildTarget defaultTargetPlatform;
+    private ImmutableList.Builder<UnconfiguredBuildTarget> compatibleWith = ImmutableList.builder();
+    private @Nullable String name;
+    private ImmutableSortedSet.Builder<BuildTarget> tests = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasTests} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasTests instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.shell.AbstractGenruleDescription.CommonArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AbstractGenruleDescription.CommonArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.BuildRuleArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(BuildRuleArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code CxxGenruleDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(CxxGenruleDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractCxxGenruleDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(CxxGenruleDescription.AbstractCxxGenruleDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.ConstructorArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(ConstructorArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof HasTests) {
+        HasTests instance = (HasTests) object;
+        addAllTests(instance.getTests());
+      }
+      if (object instanceof AbstractGenruleDescription.CommonArg) {
+        AbstractGenruleDescription.CommonArg instance = (AbstractGenruleDescription.CommonArg) object;
+        Optional<String> environmentExpansionSeparatorOptional = instance.getEnvironmentExpansionSeparator();
+        if (environmentExpansionSeparatorOptional.isPresent()) {
+          setEnvironmentExpansionSeparator(environmentExpansionSeparatorOptional);
+        }
+        Optional<StringWithMacros> cmdExeOptional = instance.getCmdExe();
+        if (cmdExeOptional.isPresent()) {
+          setCmdExe(cmdExeOptional);
+        }
+        Optional<StringWithMacros> bashOptional = instance.getBash();
+        if (bashOptional.isPresent()) {
+          setBash(bashOptional);
+        }
+        setSrcs(instance.getSrcs());
+        Optional<Boolean> cacheableOptional = instance.getCacheable();
+        if (cacheableOptional.isPresent()) {
+          setCacheable(cacheableOptional);
+        }
+        Optional<StringWithMacros> cmdOptional = instance.getCmd();
+        if (cmdOptional.isPresent()) {
+          setCmd(cmdOptional);
+        }
+        Optional<String> typeOptional = instance.getType();
+        if (typeOptional.isPresent()) {
+          setType(typeOptional);
+        }
+        Optional<Boolean> remoteOptional = instance.getRemote();
+        if (remoteOptional.isPresent()) {
+          setRemote(remoteOptional);
+        }
+        Optional<Boolean> enableSandboxOptional = instance.getEnableSandbox();
+        if (enableSandboxOptional.isPresent()) {
+          setEnableSandbox(enableSandboxOptional);
+        }
+        setNeedAndroidTools(instance.isNeedAndroidTools());
+      }
+      if (object instanceof BuildRuleArg) {
+        BuildRuleArg instance = (BuildRuleArg) object;
+        addAllLicenses(instance.getLicenses());
+        addAllCompatibleWith(instance.getCompatibleWith());
+        addAllLabels(instance.getLabels());
+        Optional<UnconfiguredBuildTarget> defaultTargetPlatformOptional = instance.getDefaultTargetPlatform();
+        if (defaultTargetPlatformOptional.isPresent()) {
+          setDefaultTargetPlatform(defaultTargetPlatformOptional);
+        }
+      }
+      if (object instanceof CxxGenruleDescription.AbstractCxxGenruleDescriptionArg) {
+        CxxGenruleDescription.AbstractCxxGenruleDescriptionArg instance = (CxxGenruleDescription.AbstractCxxGenruleDescriptionArg) object;
+        setOut(instance.getOut());
+      }
+      if (object instanceof ConstructorArg) {
+        ConstructorArg instance = (ConstructorArg) object;
+        setName(instance.getName());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link CxxGenruleDescriptionArg#getOut() out} attribute.
+     * @param out The value for out 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setOut(String out) {
+      this.out = Objects.requireNonNull(out, "out");
+      initBits &= ~INIT_BIT_OUT;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxGenruleDescriptionArg#getBash() bash} to bash.
+     * @param bash The value for bash
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBash(StringWithMacros bash) {
+      this.bash = Objects.requireNonNull(bash, "bash");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxGenruleDescriptionArg#getBash() bash} to bash.
+     * @param bash The value for bash
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBash(Optional<? extends StringWithMacros> bash) {
+      this.bash = bash.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxGenruleDescriptionArg#getCmd() cmd} to cmd.
+     * @param cmd The value for cmd
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCmd(StringWithMacros cmd) {
+      this.cmd = Objects.requireNonNull(cmd, "cmd");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxGenruleDescriptionArg#getCmd() cmd} to cmd.
+     * @param cmd The value for cmd
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCmd(Optional<? extends StringWithMacros> cmd) {
+      this.cmd = cmd.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxGenruleDescriptionArg#getCmdExe() cmdExe} to cmdExe.
+     * @param cmdExe The value for cmdExe
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCmdExe(StringWithMacros cmdExe) {
+      this.cmdExe = Objects.requireNonNull(cmdExe, "cmdExe");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxGenruleDescriptionArg#getCmdExe() cmdExe} to cmdExe.
+     * @param cmdExe The value for cmdExe
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCmdExe(Optional<? extends StringWithMacros> cmdExe) {
+      this.cmdExe = cmdExe.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxGenruleDescriptionArg#getType() type} to type.
+     * @param type The value for type
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setType(String type) {
+      this.type = Objects.requireNonNull(type, "type");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxGenruleDescriptionArg#getType() type} to type.
+     * @param type The value for type
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setType(Optional<String> type) {
+      this.type = type.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxGenruleDescriptionArg#getSrcs() srcs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link CxxGenruleDescriptionArg#getSrcs() srcs}.</em>
+     * @param srcs The value for srcs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSrcs(SourceSet srcs) {
+      this.srcs = Objects.requireNonNull(srcs, "srcs");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxGenruleDescriptionArg#getEnableSandbox() enableSandbox} to enableSandbox.
+     * @param enableSandbox The value for enableSandbox
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setEnableSandbox(boolean enableSandbox) {
+      this.enableSandbox = enableSandbox;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxGenruleDescriptionArg#getEnableSandbox() enableSandbox} to enableSandbox.
+     * @param enableSandbox The value for enableSandbox
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setEnableSandbox(Optional<Boolean> enableSandbox) {
+      this.enableSandbox = enableSandbox.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxGenruleDescriptionArg#getEnvironmentExpansionSeparator() environmentExpansionSeparator} to environmentExpansionSeparator.
+     * @param environmentExpansionSeparator The value for environmentExpansionSeparator
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setEnvironmentExpansionSeparator(String environmentExpansionSeparator) {
+      this.environmentExpansionSeparator = Objects.requireNonNull(environmentExpansionSeparator, "environmentExpansionSeparator");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxGenruleDescriptionArg#getEnvironmentExpansionSeparator() environmentExpansionSeparator} to environmentExpansionSeparator.
+     * @param environmentExpansionSeparator The value for environmentExpansionSeparator
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setEnvironmentExpansionSeparator(Optional<String> environmentExpansionSeparator) {
+      this.environmentExpansionSeparator = environmentExpansionSeparator.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxGenruleDescriptionArg#getRemote() remote} to remote.
+     * @param remote The value for remote
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRemote(boolean remote) {
+      this.remote = remote;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxGenruleDescriptionArg#getRemote() remote} to remote.
+     * @param remote The value for remote
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRemote(Optional<Boolean> remote) {
+      this.remote = remote.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxGenruleDescriptionArg#getCacheable() cacheable} to cacheable.
+     * @param cacheable The value for cacheable
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCacheable(boolean cacheable) {
+      this.cacheable = cacheable;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxGenruleDescriptionArg#getCacheable() cacheable} to cacheable.
+     * @param cacheable The value for cacheable
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCacheable(Optional<Boolean> cacheable) {
+      this.cacheable = cacheable.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxGenruleDescriptionArg#isNeedAndroidTools() needAndroidTools} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link CxxGenruleDescriptionArg#isNeedAndroidTools() needAndroidTools}.</em>
+     * @param needAndroidTools The value for needAndroidTools 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNeedAndroidTools(boolean needAndroidTools) {
+      this.needAndroidTools = needAndroidTools;
+      optBits |= OPT_BIT_NEED_ANDROID_TOOLS;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxGenruleDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxGenruleDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxGenruleDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxGenruleDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxGenruleDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxGenruleDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxGenruleDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxGenruleDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxGenruleDescriptionArg#getDefaultTargetPlatform() defaultTargetPlatform} to defaultTargetPlatform.
+     * @param defaultTargetPlatform The value for defaultTargetPlatform
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultTargetPlatform(UnconfiguredBuildTarget defaultTargetPlatform) {
+      this.defaultTargetPlatform = Objects.requireNonNull(defaultTargetPlatform, "defaultTargetPlatform");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxGenruleDescriptionArg#getDefaultTargetPlatform() defaultTargetPlatform} to defaultTargetPlatform.
+     * @param defaultTargetPlatform The value for defaultTargetPlatform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultTargetPlatform(Optional<? extends UnconfiguredBuildTarget> defaultTargetPlatform) {
+      this.defaultTargetPlatform = defaultTargetPlatform.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxGenruleDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param element A compatibleWith element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCompatibleWith(UnconfiguredBuildTarget element) {
+      this.compatibleWith.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxGenruleDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An array of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCompatibleWith(UnconfiguredBuildTarget... elements) {
+      this.compatibleWith.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxGenruleDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An iterable of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCompatibleWith(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.compatibleWith = ImmutableList.builder();
+      return addAllCompatibleWith(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxGenruleDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An iterable of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllCompatibleWith(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.compatibleWith.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxGenruleDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxGenruleDescriptionArg#getTests() tests} sortedSet.
+     * @param element A tests element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addTests(BuildTarget element) {
+      this.tests.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxGenruleDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An array of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addTests(BuildTarget... elements) {
+      this.tests.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxGenruleDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTests(Iterable<? extends BuildTarget> elements) {
+      this.tests = ImmutableSortedSet.naturalOrder();
+      return addAllTests(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxGenruleDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllTests(Iterable<? extends BuildTarget> elements) {
+      this.tests.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link CxxGenruleDescriptionArg CxxGenruleDescriptionArg}.
+     * @return An immutable instance of CxxGenruleDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CxxGenruleDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new CxxGenruleDescriptionArg(this);
+    }
+
+    private boolean needAndroidToolsIsSet() {
+      return (optBits & OPT_BIT_NEED_ANDROID_TOOLS) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_OUT) != 0) attributes.add("out");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build CxxGenruleDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.sourcepath.PathSourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CxxIncludes}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCxxIncludes.of()}.
+ */
+@Generated(from = "CxxIncludes", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCxxIncludes extends CxxIncludes {
+  private final CxxPreprocessables.IncludeType includeType;
+  private final PathSourcePath includeDir;
+  private transient final String includeDirPath;
+
+  private ImmutableCxxIncludes(
+      CxxPreprocessables.IncludeType includeType,
+      PathSourcePath includeDir) {
+    this.includeType = Objects.requireNonNull(includeType, "includeType");
+    this.includeDir = Objects.requireNonNull(includeDir, "includeDir");
+    this.includeDirPath = Objects.requireNonNull(super.getIncludeDirPath(), "includeDirPath");
+  }
+
+  /**
+   * @return The value of the {@code includeType} attribute
+   */
+  @Override
+  public CxxPreprocessables.IncludeType getIncludeType() {
+    return includeType;
+  }
+
+  /**
+   * @return The value of the {@code includeDir} attribute
+   */
+  @Override
+  PathSourcePath getIncludeDir() {
+    return includeDir;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code includeDirPath} attribute
+   */
+  @Override
+  public String getIncludeDirPath() {
+    return includeDirPath;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCxxIncludes} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCxxIncludes
+        && equalTo((ImmutableCxxIncludes) another);
+  }
+
+  private boolean equalTo(ImmutableCxxIncludes another) {
+    return includeType.equals(another.includeType)
+        && includeDir.equals(another.includeDir)
+        && includeDirPath.equals(another.includeDirPath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code includeType}, {@code includeDir}, {@code includeDirPath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + includeType.hashCode();
+    h += (h << 5) + includeDir.hashCode();
+    h += (h << 5) + includeDirPath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxIncludes} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxIncludes")
+        .omitNullValues()
+        .add("includeType", includeType)
+        .add("includeDir", includeDir)
+        .add("includeDirPath", includeDirPath)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CxxIncludes} instance.
+   * @param includeType The value for the {@code includeType} attribute
+   * @param includeDir The value for the {@code includeDir} attribute
+   * @return An immutable CxxIncludes instance
+   */
+  public static ImmutableCxxIncludes of(CxxPreprocessables.IncludeType includeType, PathSourcePath includeDir) {
+    return new ImmutableCxxIncludes(includeType, includeDir);
+  }
+}
@@ -0,0 +1,185 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ElfCompactSectionsStep}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableElfCompactSectionsStep.of()}.
+ */
+@Generated(from = "ElfCompactSectionsStep", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableElfCompactSectionsStep extends ElfCompactSectionsStep {
+  private final BuildTarget buildTarget;
+  private final ImmutableList<String> objcopyPrefix;
+  private final ProjectFilesystem inputFilesystem;
+  private final Path input;
+  private final ProjectFilesystem outputFilesystem;
+  private final Path output;
+
+  private ImmutableElfCompactSectionsStep(
+      BuildTarget buildTarget,
+      Iterable<String> objcopyPrefix,
+      ProjectFilesystem inputFilesystem,
+      Path input,
+      ProjectFilesystem outputFilesystem,
+      Path output) {
+    this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+    this.objcopyPrefix = ImmutableList.copyOf(objcopyPrefix);
+    this.inputFilesystem = Objects.requireNonNull(inputFilesystem, "inputFilesystem");
+    this.input = Objects.requireNonNull(input, "input");
+    this.outputFilesystem = Objects.requireNonNull(outputFilesystem, "outputFilesystem");
+    this.output = Objects.requireNonNull(output, "output");
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  BuildTarget getBuildTarget() {
+    return buildTarget;
+  }
+
+  /**
+   * @return The value of the {@code objcopyPrefix} attribute
+   */
+  @Override
+  ImmutableList<String> getObjcopyPrefix() {
+    return objcopyPrefix;
+  }
+
+  /**
+   * @return The value of the {@code inputFilesystem} attribute
+   */
+  @Override
+  ProjectFilesystem getInputFilesystem() {
+    return inputFilesystem;
+  }
+
+  /**
+   * @return The value of the {@code input} attribute
+   */
+  @Override
+  Path getInput() {
+    return input;
+  }
+
+  /**
+   * @return The value of the {@code outputFilesystem} attribute
+   */
+  @Override
+  ProjectFilesystem getOutputFilesystem() {
+    return outputFilesystem;
+  }
+
+  /**
+   * @return The value of the {@code output} attribute
+   */
+  @Override
+  Path getOutput() {
+    return output;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableElfCompactSectionsStep} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableElfCompactSectionsStep
+        && equalTo((ImmutableElfCompactSectionsStep) another);
+  }
+
+  private boolean equalTo(ImmutableElfCompactSectionsStep another) {
+    return buildTarget.equals(another.buildTarget)
+        && objcopyPrefix.equals(another.objcopyPrefix)
+        && inputFilesystem.equals(another.inputFilesystem)
+        && input.equals(another.input)
+        && outputFilesystem.equals(another.outputFilesystem)
+        && output.equals(another.output);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buildTarget}, {@code objcopyPrefix}, {@code inputFilesystem}, {@code input}, {@code outputFilesystem}, {@code output}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + buildTarget.hashCode();
+    h += (h << 5) + objcopyPrefix.hashCode();
+    h += (h << 5) + inputFilesystem.hashCode();
+    h += (h << 5) + input.hashCode();
+    h += (h << 5) + outputFilesystem.hashCode();
+    h += (h << 5) + output.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ElfCompactSectionsStep} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ElfCompactSectionsStep")
+        .omitNullValues()
+        .add("buildTarget", buildTarget)
+        .add("objcopyPrefix", objcopyPrefix)
+        .add("inputFilesystem", inputFilesystem)
+        .add("input", input)
+        .add("outputFilesystem", outputFilesystem)
+        .add("output", output)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ElfCompactSectionsStep} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param objcopyPrefix The value for the {@code objcopyPrefix} attribute
+   * @param inputFilesystem The value for the {@code inputFilesystem} attribute
+   * @param input The value for the {@code input} attribute
+   * @param outputFilesystem The value for the {@code outputFilesystem} attribute
+   * @param output The value for the {@code output} attribute
+   * @return An immutable ElfCompactSectionsStep instance
+   */
+  public static ImmutableElfCompactSectionsStep of(BuildTarget buildTarget, ImmutableList<String> objcopyPrefix, ProjectFilesystem inputFilesystem, Path input, ProjectFilesystem outputFilesystem, Path output) {
+    return of(buildTarget, (Iterable<String>) objcopyPrefix, inputFilesystem, input, outputFilesystem, output);
+  }
+
+  /**
+   * Construct a new immutable {@code ElfCompactSectionsStep} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param objcopyPrefix The value for the {@code objcopyPrefix} attribute
+   * @param inputFilesystem The value for the {@code inputFilesystem} attribute
+   * @param input The value for the {@code input} attribute
+   * @param outputFilesystem The value for the {@code outputFilesystem} attribute
+   * @param output The value for the {@code output} attribute
+   * @return An immutable ElfCompactSectionsStep instance
+   */
+  public static ImmutableElfCompactSectionsStep of(BuildTarget buildTarget, Iterable<String> objcopyPrefix, ProjectFilesystem inputFilesystem, Path input, ProjectFilesystem outputFilesystem, Path output) {
+    return validate(new ImmutableElfCompactSectionsStep(buildTarget, objcopyPrefix, inputFilesystem, input, outputFilesystem, output));
+  }
+
+
+  private static ImmutableElfCompactSectionsStep validate(ImmutableElfCompactSectionsStep instance) {
+    instance.check();
+    return instance;
+  }
+}
@@ -0,0 +1,102 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ElfRewriteDynStrSectionStep}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableElfRewriteDynStrSectionStep.of()}.
+ */
+@Generated(from = "ElfRewriteDynStrSectionStep", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableElfRewriteDynStrSectionStep
+    extends ElfRewriteDynStrSectionStep {
+  private final ProjectFilesystem filesystem;
+  private final Path path;
+
+  private ImmutableElfRewriteDynStrSectionStep(ProjectFilesystem filesystem, Path path) {
+    this.filesystem = Objects.requireNonNull(filesystem, "filesystem");
+    this.path = Objects.requireNonNull(path, "path");
+  }
+
+  /**
+   * @return The value of the {@code filesystem} attribute
+   */
+  @Override
+  ProjectFilesystem getFilesystem() {
+    return filesystem;
+  }
+
+  /**
+   * @return The value of the {@code path} attribute
+   */
+  @Override
+  Path getPath() {
+    return path;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableElfRewriteDynStrSectionStep} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableElfRewriteDynStrSectionStep
+        && equalTo((ImmutableElfRewriteDynStrSectionStep) another);
+  }
+
+  private boolean equalTo(ImmutableElfRewriteDynStrSectionStep another) {
+    return filesystem.equals(another.filesystem)
+        && path.equals(another.path);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code filesystem}, {@code path}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + filesystem.hashCode();
+    h += (h << 5) + path.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ElfRewriteDynStrSectionStep} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ElfRewriteDynStrSectionStep")
+        .omitNullValues()
+        .add("filesystem", filesystem)
+        .add("path", path)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ElfRewriteDynStrSectionStep} instance.
+   * @param filesystem The value for the {@code filesystem} attribute
+   * @param path The value for the {@code path} attribute
+   * @return An immutable ElfRewriteDynStrSectionStep instance
+   */
+  public static ImmutableElfRewriteDynStrSectionStep of(ProjectFilesystem filesystem, Path path) {
+    return new ImmutableElfRewriteDynStrSectionStep(filesystem, path);
+  }
+}
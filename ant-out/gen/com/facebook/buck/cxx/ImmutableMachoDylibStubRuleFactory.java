@@ -0,0 +1,86 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.toolchain.tool.Tool;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link MachoDylibStubRuleFactory}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableMachoDylibStubRuleFactory.of()}.
+ */
+@Generated(from = "MachoDylibStubRuleFactory", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableMachoDylibStubRuleFactory extends MachoDylibStubRuleFactory {
+  private final Tool strip;
+
+  private ImmutableMachoDylibStubRuleFactory(Tool strip) {
+    this.strip = Objects.requireNonNull(strip, "strip");
+  }
+
+  /**
+   * @return The value of the {@code strip} attribute
+   */
+  @Override
+  Tool getStrip() {
+    return strip;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableMachoDylibStubRuleFactory} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableMachoDylibStubRuleFactory
+        && equalTo((ImmutableMachoDylibStubRuleFactory) another);
+  }
+
+  private boolean equalTo(ImmutableMachoDylibStubRuleFactory another) {
+    return strip.equals(another.strip);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code strip}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + strip.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code MachoDylibStubRuleFactory} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("MachoDylibStubRuleFactory")
+        .omitNullValues()
+        .add("strip", strip)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code MachoDylibStubRuleFactory} instance.
+   * @param strip The value for the {@code strip} attribute
+   * @return An immutable MachoDylibStubRuleFactory instance
+   */
+  public static ImmutableMachoDylibStubRuleFactory of(Tool strip) {
+    return new ImmutableMachoDylibStubRuleFactory(strip);
+  }
+}
@@ -0,0 +1,758 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.rules.coercer.PatternMatchedCollection;
+import com.facebook.buck.rules.coercer.VersionMatchedCollection;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link NewPrebuiltCxxLibraryPaths}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ImmutableNewPrebuiltCxxLibraryPaths.builder()}.
+ */
+@Generated(from = "NewPrebuiltCxxLibraryPaths", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableNewPrebuiltCxxLibraryPaths
+    extends NewPrebuiltCxxLibraryPaths {
+  private final BuildTarget target;
+  private final @Nullable ImmutableList<SourcePath> headerDirs;
+  private final @Nullable PatternMatchedCollection<ImmutableList<SourcePath>> platformHeaderDirs;
+  private final @Nullable VersionMatchedCollection<ImmutableList<SourcePath>> versionedHeaderDirs;
+  private final @Nullable SourcePath importLib;
+  private final @Nullable PatternMatchedCollection<SourcePath> platformImportLib;
+  private final @Nullable VersionMatchedCollection<SourcePath> versionedImportLib;
+  private final @Nullable SourcePath sharedLib;
+  private final @Nullable PatternMatchedCollection<SourcePath> platformSharedLib;
+  private final @Nullable VersionMatchedCollection<SourcePath> versionedSharedLib;
+  private final @Nullable SourcePath staticLib;
+  private final @Nullable PatternMatchedCollection<SourcePath> platformStaticLib;
+  private final @Nullable VersionMatchedCollection<SourcePath> versionedStaticLib;
+  private final @Nullable SourcePath staticPicLib;
+  private final @Nullable PatternMatchedCollection<SourcePath> platformStaticPicLib;
+  private final @Nullable VersionMatchedCollection<SourcePath> versionedStaticPicLib;
+
+  private ImmutableNewPrebuiltCxxLibraryPaths(ImmutableNewPrebuiltCxxLibraryPaths.Builder builder) {
+    this.target = builder.target;
+    this.headerDirs = builder.headerDirs;
+    this.platformHeaderDirs = builder.platformHeaderDirs;
+    this.versionedHeaderDirs = builder.versionedHeaderDirs;
+    this.importLib = builder.importLib;
+    this.platformImportLib = builder.platformImportLib;
+    this.versionedImportLib = builder.versionedImportLib;
+    this.sharedLib = builder.sharedLib;
+    this.platformSharedLib = builder.platformSharedLib;
+    this.versionedSharedLib = builder.versionedSharedLib;
+    this.staticLib = builder.staticLib;
+    this.platformStaticLib = builder.platformStaticLib;
+    this.versionedStaticLib = builder.versionedStaticLib;
+    this.staticPicLib = builder.staticPicLib;
+    this.platformStaticPicLib = builder.platformStaticPicLib;
+    this.versionedStaticPicLib = builder.versionedStaticPicLib;
+  }
+
+  /**
+   * @return The value of the {@code target} attribute
+   */
+  @Override
+  BuildTarget getTarget() {
+    return target;
+  }
+
+  /**
+   * @return The value of the {@code headerDirs} attribute
+   */
+  @Override
+  Optional<ImmutableList<SourcePath>> getHeaderDirs() {
+    return Optional.ofNullable(headerDirs);
+  }
+
+  /**
+   * @return The value of the {@code platformHeaderDirs} attribute
+   */
+  @Override
+  Optional<PatternMatchedCollection<ImmutableList<SourcePath>>> getPlatformHeaderDirs() {
+    return Optional.ofNullable(platformHeaderDirs);
+  }
+
+  /**
+   * @return The value of the {@code versionedHeaderDirs} attribute
+   */
+  @Override
+  Optional<VersionMatchedCollection<ImmutableList<SourcePath>>> getVersionedHeaderDirs() {
+    return Optional.ofNullable(versionedHeaderDirs);
+  }
+
+  /**
+   * @return The value of the {@code importLib} attribute
+   */
+  @Override
+  Optional<SourcePath> getImportLib() {
+    return Optional.ofNullable(importLib);
+  }
+
+  /**
+   * @return The value of the {@code platformImportLib} attribute
+   */
+  @Override
+  Optional<PatternMatchedCollection<SourcePath>> getPlatformImportLib() {
+    return Optional.ofNullable(platformImportLib);
+  }
+
+  /**
+   * @return The value of the {@code versionedImportLib} attribute
+   */
+  @Override
+  Optional<VersionMatchedCollection<SourcePath>> getVersionedImportLib() {
+    return Optional.ofNullable(versionedImportLib);
+  }
+
+  /**
+   * @return The value of the {@code sharedLib} attribute
+   */
+  @Override
+  Optional<SourcePath> getSharedLib() {
+    return Optional.ofNullable(sharedLib);
+  }
+
+  /**
+   * @return The value of the {@code platformSharedLib} attribute
+   */
+  @Override
+  Optional<PatternMatchedCollection<SourcePath>> getPlatformSharedLib() {
+    return Optional.ofNullable(platformSharedLib);
+  }
+
+  /**
+   * @return The value of the {@code versionedSharedLib} attribute
+   */
+  @Override
+  Optional<VersionMatchedCollection<SourcePath>> getVersionedSharedLib() {
+    return Optional.ofNullable(versionedSharedLib);
+  }
+
+  /**
+   * @return The value of the {@code staticLib} attribute
+   */
+  @Override
+  Optional<SourcePath> getStaticLib() {
+    return Optional.ofNullable(staticLib);
+  }
+
+  /**
+   * @return The value of the {@code platformStaticLib} attribute
+   */
+  @Override
+  Optional<PatternMatchedCollection<SourcePath>> getPlatformStaticLib() {
+    return Optional.ofNullable(platformStaticLib);
+  }
+
+  /**
+   * @return The value of the {@code versionedStaticLib} attribute
+   */
+  @Override
+  Optional<VersionMatchedCollection<SourcePath>> getVersionedStaticLib() {
+    return Optional.ofNullable(versionedStaticLib);
+  }
+
+  /**
+   * @return The value of the {@code staticPicLib} attribute
+   */
+  @Override
+  Optional<SourcePath> getStaticPicLib() {
+    return Optional.ofNullable(staticPicLib);
+  }
+
+  /**
+   * @return The value of the {@code platformStaticPicLib} attribute
+   */
+  @Override
+  Optional<PatternMatchedCollection<SourcePath>> getPlatformStaticPicLib() {
+    return Optional.ofNullable(platformStaticPicLib);
+  }
+
+  /**
+   * @return The value of the {@code versionedStaticPicLib} attribute
+   */
+  @Override
+  Optional<VersionMatchedCollection<SourcePath>> getVersionedStaticPicLib() {
+    return Optional.ofNullable(versionedStaticPicLib);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableNewPrebuiltCxxLibraryPaths} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableNewPrebuiltCxxLibraryPaths
+        && equalTo((ImmutableNewPrebuiltCxxLibraryPaths) another);
+  }
+
+  private boolean equalTo(ImmutableNewPrebuiltCxxLibraryPaths another) {
+    return target.equals(another.target)
+        && Objects.equals(headerDirs, another.headerDirs)
+        && Objects.equals(platformHeaderDirs, another.platformHeaderDirs)
+        && Objects.equals(versionedHeaderDirs, another.versionedHeaderDirs)
+        && Objects.equals(importLib, another.importLib)
+        && Objects.equals(platformImportLib, another.platformImportLib)
+        && Objects.equals(versionedImportLib, another.versionedImportLib)
+        && Objects.equals(sharedLib, another.sharedLib)
+        && Objects.equals(platformSharedLib, another.platformSharedLib)
+        && Objects.equals(versionedSharedLib, another.versionedSharedLib)
+        && Objects.equals(staticLib, another.staticLib)
+        && Objects.equals(platformStaticLib, another.platformStaticLib)
+        && Objects.equals(versionedStaticLib, another.versionedStaticLib)
+        && Objects.equals(staticPicLib, another.staticPicLib)
+        && Objects.equals(platformStaticPicLib, another.platformStaticPicLib)
+        && Objects.equals(versionedStaticPicLib, another.versionedStaticPicLib);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code target}, {@code headerDirs}, {@code platformHeaderDirs}, {@code versionedHeaderDirs}, {@code importLib}, {@code platformImportLib}, {@code versionedImportLib}, {@code sharedLib}, {@code platformSharedLib}, {@code versionedSharedLib}, {@code staticLib}, {@code platformStaticLib}, {@code versionedStaticLib}, {@code staticPicLib}, {@code platformStaticPicLib}, {@code versionedStaticPicLib}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + target.hashCode();
+    h += (h << 5) + Objects.hashCode(headerDirs);
+    h += (h << 5) + Objects.hashCode(platformHeaderDirs);
+    h += (h << 5) + Objects.hashCode(versionedHeaderDirs);
+    h += (h << 5) + Objects.hashCode(importLib);
+    h += (h << 5) + Objects.hashCode(platformImportLib);
+    h += (h << 5) + Objects.hashCode(versionedImportLib);
+    h += (h << 5) + Objects.hashCode(sharedLib);
+    h += (h << 5) + Objects.hashCode(platformSharedLib);
+    h += (h << 5) + Objects.hashCode(versionedSharedLib);
+    h += (h << 5) + Objects.hashCode(staticLib);
+    h += (h << 5) + Objects.hashCode(platformStaticLib);
+    h += (h << 5) + Objects.hashCode(versionedStaticLib);
+    h += (h << 5) + Objects.hashCode(staticPicLib);
+    h += (h << 5) + Objects.hashCode(platformStaticPicLib);
+    h += (h << 5) + Objects.hashCode(versionedStaticPicLib);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code NewPrebuiltCxxLibraryPaths} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("NewPrebuiltCxxLibraryPaths")
+        .omitNullValues()
+        .add("target", target)
+        .add("headerDirs", headerDirs)
+        .add("platformHeaderDirs", platformHeaderDirs)
+        .add("versionedHeaderDirs", versionedHeaderDirs)
+        .add("importLib", importLib)
+        .add("platformImportLib", platformImportLib)
+        .add("versionedImportLib", versionedImportLib)
+        .add("sharedLib", sharedLib)
+        .add("platformSharedLib", platformSharedLib)
+        .add("versionedSharedLib", versionedSharedLib)
+        .add("staticLib", staticLib)
+        .add("platformStaticLib", platformStaticLib)
+        .add("versionedStaticLib", versionedStaticLib)
+        .add("staticPicLib", staticPicLib)
+        .add("platformStaticPicLib", platformStaticPicLib)
+        .add("versionedStaticPicLib", versionedStaticPicLib)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link NewPrebuiltCxxLibraryPaths NewPrebuiltCxxLibraryPaths}.
+   * @return A new NewPrebuiltCxxLibraryPaths builder
+   */
+  public static ImmutableNewPrebuiltCxxLibraryPaths.Builder builder() {
+    return new ImmutableNewPrebuiltCxxLibraryPaths.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link NewPrebuiltCxxLibraryPaths NewPrebuiltCxxLibraryPaths}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "NewPrebuiltCxxLibraryPaths", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_TARGET = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable BuildTarget target;
+    private @Nullable ImmutableList<SourcePath> headerDirs;
+    private @Nullable PatternMatchedCollection<ImmutableList<SourcePath>> platformHeaderDirs;
+    private @Nullable VersionMatchedCollection<ImmutableList<SourcePath>> versionedHeaderDirs;
+    private @Nullable SourcePath importLib;
+    private @Nullable PatternMatchedCollection<SourcePath> platformImportLib;
+    private @Nullable VersionMatchedCollection<SourcePath> versionedImportLib;
+    private @Nullable SourcePath sharedLib;
+    private @Nullable PatternMatchedCollection<SourcePath> platformSharedLib;
+    private @Nullable VersionMatchedCollection<SourcePath> versionedSharedLib;
+    private @Nullable SourcePath staticLib;
+    private @Nullable PatternMatchedCollection<SourcePath> platformStaticLib;
+    private @Nullable VersionMatchedCollection<SourcePath> versionedStaticLib;
+    private @Nullable SourcePath staticPicLib;
+    private @Nullable PatternMatchedCollection<SourcePath> platformStaticPicLib;
+    private @Nullable VersionMatchedCollection<SourcePath> versionedStaticPicLib;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code NewPrebuiltCxxLibraryPaths} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(NewPrebuiltCxxLibraryPaths instance) {
+      Objects.requireNonNull(instance, "instance");
+      setTarget(instance.getTarget());
+      Optional<ImmutableList<SourcePath>> headerDirsOptional = instance.getHeaderDirs();
+      if (headerDirsOptional.isPresent()) {
+        setHeaderDirs(headerDirsOptional);
+      }
+      Optional<PatternMatchedCollection<ImmutableList<SourcePath>>> platformHeaderDirsOptional = instance.getPlatformHeaderDirs();
+      if (platformHeaderDirsOptional.isPresent()) {
+        setPlatformHeaderDirs(platformHeaderDirsOptional);
+      }
+      Optional<VersionMatchedCollection<ImmutableList<SourcePath>>> versionedHeaderDirsOptional = instance.getVersionedHeaderDirs();
+      if (versionedHeaderDirsOptional.isPresent()) {
+        setVersionedHeaderDirs(versionedHeaderDirsOptional);
+      }
+      Optional<SourcePath> importLibOptional = instance.getImportLib();
+      if (importLibOptional.isPresent()) {
+        setImportLib(importLibOptional);
+      }
+      Optional<PatternMatchedCollection<SourcePath>> platformImportLibOptional = instance.getPlatformImportLib();
+      if (platformImportLibOptional.isPresent()) {
+        setPlatformImportLib(platformImportLibOptional);
+      }
+      Optional<VersionMatchedCollection<SourcePath>> versionedImportLibOptional = instance.getVersionedImportLib();
+      if (versionedImportLibOptional.isPresent()) {
+        setVersionedImportLib(versionedImportLibOptional);
+      }
+      Optional<SourcePath> sharedLibOptional = instance.getSharedLib();
+      if (sharedLibOptional.isPresent()) {
+        setSharedLib(sharedLibOptional);
+      }
+      Optional<PatternMatchedCollection<SourcePath>> platformSharedLibOptional = instance.getPlatformSharedLib();
+      if (platformSharedLibOptional.isPresent()) {
+        setPlatformSharedLib(platformSharedLibOptional);
+      }
+      Optional<VersionMatchedCollection<SourcePath>> versionedSharedLibOptional = instance.getVersionedSharedLib();
+      if (versionedSharedLibOptional.isPresent()) {
+        setVersionedSharedLib(versionedSharedLibOptional);
+      }
+      Optional<SourcePath> staticLibOptional = instance.getStaticLib();
+      if (staticLibOptional.isPresent()) {
+        setStaticLib(staticLibOptional);
+      }
+      Optional<PatternMatchedCollection<SourcePath>> platformStaticLibOptional = instance.getPlatformStaticLib();
+      if (platformStaticLibOptional.isPresent()) {
+        setPlatformStaticLib(platformStaticLibOptional);
+      }
+      Optional<VersionMatchedCollection<SourcePath>> versionedStaticLibOptional = instance.getVersionedStaticLib();
+      if (versionedStaticLibOptional.isPresent()) {
+        setVersionedStaticLib(versionedStaticLibOptional);
+      }
+      Optional<SourcePath> staticPicLibOptional = instance.getStaticPicLib();
+      if (staticPicLibOptional.isPresent()) {
+        setStaticPicLib(staticPicLibOptional);
+      }
+      Optional<PatternMatchedCollection<SourcePath>> platformStaticPicLibOptional = instance.getPlatformStaticPicLib();
+      if (platformStaticPicLibOptional.isPresent()) {
+        setPlatformStaticPicLib(platformStaticPicLibOptional);
+      }
+      Optional<VersionMatchedCollection<SourcePath>> versionedStaticPicLibOptional = instance.getVersionedStaticPicLib();
+      if (versionedStaticPicLibOptional.isPresent()) {
+        setVersionedStaticPicLib(versionedStaticPicLibOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link NewPrebuiltCxxLibraryPaths#getTarget() target} attribute.
+     * @param target The value for target 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTarget(BuildTarget target) {
+      this.target = Objects.requireNonNull(target, "target");
+      initBits &= ~INIT_BIT_TARGET;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NewPrebuiltCxxLibraryPaths#getHeaderDirs() headerDirs} to headerDirs.
+     * @param headerDirs The value for headerDirs
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setHeaderDirs(ImmutableList<SourcePath> headerDirs) {
+      this.headerDirs = Objects.requireNonNull(headerDirs, "headerDirs");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NewPrebuiltCxxLibraryPaths#getHeaderDirs() headerDirs} to headerDirs.
+     * @param headerDirs The value for headerDirs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setHeaderDirs(Optional<? extends ImmutableList<SourcePath>> headerDirs) {
+      this.headerDirs = headerDirs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NewPrebuiltCxxLibraryPaths#getPlatformHeaderDirs() platformHeaderDirs} to platformHeaderDirs.
+     * @param platformHeaderDirs The value for platformHeaderDirs
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatformHeaderDirs(PatternMatchedCollection<ImmutableList<SourcePath>> platformHeaderDirs) {
+      this.platformHeaderDirs = Objects.requireNonNull(platformHeaderDirs, "platformHeaderDirs");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NewPrebuiltCxxLibraryPaths#getPlatformHeaderDirs() platformHeaderDirs} to platformHeaderDirs.
+     * @param platformHeaderDirs The value for platformHeaderDirs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatformHeaderDirs(Optional<? extends PatternMatchedCollection<ImmutableList<SourcePath>>> platformHeaderDirs) {
+      this.platformHeaderDirs = platformHeaderDirs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NewPrebuiltCxxLibraryPaths#getVersionedHeaderDirs() versionedHeaderDirs} to versionedHeaderDirs.
+     * @param versionedHeaderDirs The value for versionedHeaderDirs
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionedHeaderDirs(VersionMatchedCollection<ImmutableList<SourcePath>> versionedHeaderDirs) {
+      this.versionedHeaderDirs = Objects.requireNonNull(versionedHeaderDirs, "versionedHeaderDirs");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NewPrebuiltCxxLibraryPaths#getVersionedHeaderDirs() versionedHeaderDirs} to versionedHeaderDirs.
+     * @param versionedHeaderDirs The value for versionedHeaderDirs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionedHeaderDirs(Optional<? extends VersionMatchedCollection<ImmutableList<SourcePath>>> versionedHeaderDirs) {
+      this.versionedHeaderDirs = versionedHeaderDirs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NewPrebuiltCxxLibraryPaths#getImportLib() importLib} to importLib.
+     * @param importLib The value for importLib
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setImportLib(SourcePath importLib) {
+      this.importLib = Objects.requireNonNull(importLib, "importLib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NewPrebuiltCxxLibraryPaths#getImportLib() importLib} to importLib.
+     * @param importLib The value for importLib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setImportLib(Optional<? extends SourcePath> importLib) {
+      this.importLib = importLib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NewPrebuiltCxxLibraryPaths#getPlatformImportLib() platformImportLib} to platformImportLib.
+     * @param platformImportLib The value for platformImportLib
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatformImportLib(PatternMatchedCollection<SourcePath> platformImportLib) {
+      this.platformImportLib = Objects.requireNonNull(platformImportLib, "platformImportLib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NewPrebuiltCxxLibraryPaths#getPlatformImportLib() platformImportLib} to platformImportLib.
+     * @param platformImportLib The value for platformImportLib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatformImportLib(Optional<? extends PatternMatchedCollection<SourcePath>> platformImportLib) {
+      this.platformImportLib = platformImportLib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NewPrebuiltCxxLibraryPaths#getVersionedImportLib() versionedImportLib} to versionedImportLib.
+     * @param versionedImportLib The value for versionedImportLib
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionedImportLib(VersionMatchedCollection<SourcePath> versionedImportLib) {
+      this.versionedImportLib = Objects.requireNonNull(versionedImportLib, "versionedImportLib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NewPrebuiltCxxLibraryPaths#getVersionedImportLib() versionedImportLib} to versionedImportLib.
+     * @param versionedImportLib The value for versionedImportLib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionedImportLib(Optional<? extends VersionMatchedCollection<SourcePath>> versionedImportLib) {
+      this.versionedImportLib = versionedImportLib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NewPrebuiltCxxLibraryPaths#getSharedLib() sharedLib} to sharedLib.
+     * @param sharedLib The value for sharedLib
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSharedLib(SourcePath sharedLib) {
+      this.sharedLib = Objects.requireNonNull(sharedLib, "sharedLib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NewPrebuiltCxxLibraryPaths#getSharedLib() sharedLib} to sharedLib.
+     * @param sharedLib The value for sharedLib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSharedLib(Optional<? extends SourcePath> sharedLib) {
+      this.sharedLib = sharedLib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NewPrebuiltCxxLibraryPaths#getPlatformSharedLib() platformSharedLib} to platformSharedLib.
+     * @param platformSharedLib The value for platformSharedLib
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatformSharedLib(PatternMatchedCollection<SourcePath> platformSharedLib) {
+      this.platformSharedLib = Objects.requireNonNull(platformSharedLib, "platformSharedLib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NewPrebuiltCxxLibraryPaths#getPlatformSharedLib() platformSharedLib} to platformSharedLib.
+     * @param platformSharedLib The value for platformSharedLib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatformSharedLib(Optional<? extends PatternMatchedCollection<SourcePath>> platformSharedLib) {
+      this.platformSharedLib = platformSharedLib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NewPrebuiltCxxLibraryPaths#getVersionedSharedLib() versionedSharedLib} to versionedSharedLib.
+     * @param versionedSharedLib The value for versionedSharedLib
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionedSharedLib(VersionMatchedCollection<SourcePath> versionedSharedLib) {
+      this.versionedSharedLib = Objects.requireNonNull(versionedSharedLib, "versionedSharedLib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NewPrebuiltCxxLibraryPaths#getVersionedSharedLib() versionedSharedLib} to versionedSharedLib.
+     * @param versionedSharedLib The value for versionedSharedLib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionedSharedLib(Optional<? extends VersionMatchedCollection<SourcePath>> versionedSharedLib) {
+      this.versionedSharedLib = versionedSharedLib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NewPrebuiltCxxLibraryPaths#getStaticLib() staticLib} to staticLib.
+     * @param staticLib The value for staticLib
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setStaticLib(SourcePath staticLib) {
+      this.staticLib = Objects.requireNonNull(staticLib, "staticLib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NewPrebuiltCxxLibraryPaths#getStaticLib() staticLib} to staticLib.
+     * @param staticLib The value for staticLib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setStaticLib(Optional<? extends SourcePath> staticLib) {
+      this.staticLib = staticLib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NewPrebuiltCxxLibraryPaths#getPlatformStaticLib() platformStaticLib} to platformStaticLib.
+     * @param platformStaticLib The value for platformStaticLib
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatformStaticLib(PatternMatchedCollection<SourcePath> platformStaticLib) {
+      this.platformStaticLib = Objects.requireNonNull(platformStaticLib, "platformStaticLib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NewPrebuiltCxxLibraryPaths#getPlatformStaticLib() platformStaticLib} to platformStaticLib.
+     * @param platformStaticLib The value for platformStaticLib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatformStaticLib(Optional<? extends PatternMatchedCollection<SourcePath>> platformStaticLib) {
+      this.platformStaticLib = platformStaticLib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NewPrebuiltCxxLibraryPaths#getVersionedStaticLib() versionedStaticLib} to versionedStaticLib.
+     * @param versionedStaticLib The value for versionedStaticLib
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionedStaticLib(VersionMatchedCollection<SourcePath> versionedStaticLib) {
+      this.versionedStaticLib = Objects.requireNonNull(versionedStaticLib, "versionedStaticLib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NewPrebuiltCxxLibraryPaths#getVersionedStaticLib() versionedStaticLib} to versionedStaticLib.
+     * @param versionedStaticLib The value for versionedStaticLib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionedStaticLib(Optional<? extends VersionMatchedCollection<SourcePath>> versionedStaticLib) {
+      this.versionedStaticLib = versionedStaticLib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NewPrebuiltCxxLibraryPaths#getStaticPicLib() staticPicLib} to staticPicLib.
+     * @param staticPicLib The value for staticPicLib
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setStaticPicLib(SourcePath staticPicLib) {
+      this.staticPicLib = Objects.requireNonNull(staticPicLib, "staticPicLib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NewPrebuiltCxxLibraryPaths#getStaticPicLib() staticPicLib} to staticPicLib.
+     * @param staticPicLib The value for staticPicLib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setStaticPicLib(Optional<? extends SourcePath> staticPicLib) {
+      this.staticPicLib = staticPicLib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NewPrebuiltCxxLibraryPaths#getPlatformStaticPicLib() platformStaticPicLib} to platformStaticPicLib.
+     * @param platformStaticPicLib The value for platformStaticPicLib
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatformStaticPicLib(PatternMatchedCollection<SourcePath> platformStaticPicLib) {
+      this.platformStaticPicLib = Objects.requireNonNull(platformStaticPicLib, "platformStaticPicLib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NewPrebuiltCxxLibraryPaths#getPlatformStaticPicLib() platformStaticPicLib} to platformStaticPicLib.
+     * @param platformStaticPicLib The value for platformStaticPicLib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatformStaticPicLib(Optional<? extends PatternMatchedCollection<SourcePath>> platformStaticPicLib) {
+      this.platformStaticPicLib = platformStaticPicLib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NewPrebuiltCxxLibraryPaths#getVersionedStaticPicLib() versionedStaticPicLib} to versionedStaticPicLib.
+     * @param versionedStaticPicLib The value for versionedStaticPicLib
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionedStaticPicLib(VersionMatchedCollection<SourcePath> versionedStaticPicLib) {
+      this.versionedStaticPicLib = Objects.requireNonNull(versionedStaticPicLib, "versionedStaticPicLib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NewPrebuiltCxxLibraryPaths#getVersionedStaticPicLib() versionedStaticPicLib} to versionedStaticPicLib.
+     * @param versionedStaticPicLib The value for versionedStaticPicLib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionedStaticPicLib(Optional<? extends VersionMatchedCollection<SourcePath>> versionedStaticPicLib) {
+      this.versionedStaticPicLib = versionedStaticPicLib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link NewPrebuiltCxxLibraryPaths NewPrebuiltCxxLibraryPaths}.
+     * @return An immutable instance of NewPrebuiltCxxLibraryPaths
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public NewPrebuiltCxxLibraryPaths build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ImmutableNewPrebuiltCxxLibraryPaths(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_TARGET) != 0) attributes.add("target");
+      return "Cannot build NewPrebuiltCxxLibraryPaths, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,188 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.util.graph.DirectedAcyclicGraph;
+import com.facebook.buck.cxx.toolchain.nativelink.NativeLinkTarget;
+import com.facebook.buck.cxx.toolchain.nativelink.NativeLinkable;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link Omnibus.OmnibusSpec}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableOmnibusSpec.of()}.
+ */
+@Generated(from = "Omnibus.OmnibusSpec", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableOmnibusSpec extends Omnibus.OmnibusSpec {
+  private final DirectedAcyclicGraph<BuildTarget> graph;
+  private final ImmutableMap<BuildTarget, NativeLinkTarget> roots;
+  private final ImmutableMap<BuildTarget, NativeLinkable> body;
+  private final ImmutableSet<BuildTarget> excludedRoots;
+  private final ImmutableMap<BuildTarget, NativeLinkable> excluded;
+  private final ImmutableMap<BuildTarget, NativeLinkable> deps;
+
+  private ImmutableOmnibusSpec(
+      DirectedAcyclicGraph<BuildTarget> graph,
+      Map<? extends BuildTarget, ? extends NativeLinkTarget> roots,
+      Map<? extends BuildTarget, ? extends NativeLinkable> body,
+      Iterable<? extends BuildTarget> excludedRoots,
+      Map<? extends BuildTarget, ? extends NativeLinkable> excluded,
+      Map<? extends BuildTarget, ? extends NativeLinkable> deps) {
+    this.graph = Objects.requireNonNull(graph, "graph");
+    this.roots = ImmutableMap.copyOf(roots);
+    this.body = ImmutableMap.copyOf(body);
+    this.excludedRoots = ImmutableSet.copyOf(excludedRoots);
+    this.excluded = ImmutableMap.copyOf(excluded);
+    this.deps = ImmutableMap.copyOf(deps);
+  }
+
+  /**
+   * @return The value of the {@code graph} attribute
+   */
+  @Override
+  public DirectedAcyclicGraph<BuildTarget> getGraph() {
+    return graph;
+  }
+
+  /**
+   * @return The value of the {@code roots} attribute
+   */
+  @Override
+  public ImmutableMap<BuildTarget, NativeLinkTarget> getRoots() {
+    return roots;
+  }
+
+  /**
+   * @return The value of the {@code body} attribute
+   */
+  @Override
+  public ImmutableMap<BuildTarget, NativeLinkable> getBody() {
+    return body;
+  }
+
+  /**
+   * @return The value of the {@code excludedRoots} attribute
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getExcludedRoots() {
+    return excludedRoots;
+  }
+
+  /**
+   * @return The value of the {@code excluded} attribute
+   */
+  @Override
+  public ImmutableMap<BuildTarget, NativeLinkable> getExcluded() {
+    return excluded;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableMap<BuildTarget, NativeLinkable> getDeps() {
+    return deps;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableOmnibusSpec} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableOmnibusSpec
+        && equalTo((ImmutableOmnibusSpec) another);
+  }
+
+  private boolean equalTo(ImmutableOmnibusSpec another) {
+    return graph.equals(another.graph)
+        && roots.equals(another.roots)
+        && body.equals(another.body)
+        && excludedRoots.equals(another.excludedRoots)
+        && excluded.equals(another.excluded)
+        && deps.equals(another.deps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code graph}, {@code roots}, {@code body}, {@code excludedRoots}, {@code excluded}, {@code deps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + graph.hashCode();
+    h += (h << 5) + roots.hashCode();
+    h += (h << 5) + body.hashCode();
+    h += (h << 5) + excludedRoots.hashCode();
+    h += (h << 5) + excluded.hashCode();
+    h += (h << 5) + deps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code OmnibusSpec} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("OmnibusSpec")
+        .omitNullValues()
+        .add("graph", graph)
+        .add("roots", roots)
+        .add("body", body)
+        .add("excludedRoots", excludedRoots)
+        .add("excluded", excluded)
+        .add("deps", deps)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code OmnibusSpec} instance.
+   * @param graph The value for the {@code graph} attribute
+   * @param roots The value for the {@code roots} attribute
+   * @param body The value for the {@code body} attribute
+   * @param excludedRoots The value for the {@code excludedRoots} attribute
+   * @param excluded The value for the {@code excluded} attribute
+   * @param deps The value for the {@code deps} attribute
+   * @return An immutable OmnibusSpec instance
+   */
+  public static ImmutableOmnibusSpec of(DirectedAcyclicGraph<BuildTarget> graph, ImmutableMap<BuildTarget, NativeLinkTarget> roots, ImmutableMap<BuildTarget, NativeLinkable> body, ImmutableSet<BuildTarget> excludedRoots, ImmutableMap<BuildTarget, NativeLinkable> excluded, ImmutableMap<BuildTarget, NativeLinkable> deps) {
+    return of(graph, roots, body, (Iterable<? extends BuildTarget>) excludedRoots, excluded, deps);
+  }
+
+  /**
+   * Construct a new immutable {@code OmnibusSpec} instance.
+   * @param graph The value for the {@code graph} attribute
+   * @param roots The value for the {@code roots} attribute
+   * @param body The value for the {@code body} attribute
+   * @param excludedRoots The value for the {@code excludedRoots} attribute
+   * @param excluded The value for the {@code excluded} attribute
+   * @param deps The value for the {@code deps} attribute
+   * @return An immutable OmnibusSpec instance
+   */
+  public static ImmutableOmnibusSpec of(DirectedAcyclicGraph<BuildTarget> graph, Map<? extends BuildTarget, ? extends NativeLinkTarget> roots, Map<? extends BuildTarget, ? extends NativeLinkable> body, Iterable<? extends BuildTarget> excludedRoots, Map<? extends BuildTarget, ? extends NativeLinkable> excluded, Map<? extends BuildTarget, ? extends NativeLinkable> deps) {
+    return validate(new ImmutableOmnibusSpec(graph, roots, body, excludedRoots, excluded, deps));
+  }
+
+
+  private static ImmutableOmnibusSpec validate(ImmutableOmnibusSpec instance) {
+    instance.verify();
+    return instance;
+  }
+}
@@ -0,0 +1,168 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.rules.ActionGraphBuilder;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.core.sourcepath.resolver.SourcePathResolverAdapter;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link PreIncludeFactory}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutablePreIncludeFactory.of()}.
+ */
+@Generated(from = "PreIncludeFactory", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutablePreIncludeFactory extends PreIncludeFactory {
+  private final ProjectFilesystem projectFilesystem;
+  private final BuildTarget baseBuildTarget;
+  private final ActionGraphBuilder actionGraphBuilder;
+  private final SourcePathResolverAdapter pathResolver;
+  private final @Nullable SourcePath prefixHeader;
+  private final @Nullable SourcePath precompiledHeader;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutablePreIncludeFactory(
+      ProjectFilesystem projectFilesystem,
+      BuildTarget baseBuildTarget,
+      ActionGraphBuilder actionGraphBuilder,
+      SourcePathResolverAdapter pathResolver,
+      Optional<? extends SourcePath> prefixHeader,
+      Optional<? extends SourcePath> precompiledHeader) {
+    this.projectFilesystem = Objects.requireNonNull(projectFilesystem, "projectFilesystem");
+    this.baseBuildTarget = Objects.requireNonNull(baseBuildTarget, "baseBuildTarget");
+    this.actionGraphBuilder = Objects.requireNonNull(actionGraphBuilder, "actionGraphBuilder");
+    this.pathResolver = Objects.requireNonNull(pathResolver, "pathResolver");
+    this.prefixHeader = prefixHeader.orElse(null);
+    this.precompiledHeader = precompiledHeader.orElse(null);
+  }
+
+  /**
+   * @return The value of the {@code projectFilesystem} attribute
+   */
+  @Override
+  protected ProjectFilesystem getProjectFilesystem() {
+    return projectFilesystem;
+  }
+
+  /**
+   * @return The value of the {@code baseBuildTarget} attribute
+   */
+  @Override
+  protected BuildTarget getBaseBuildTarget() {
+    return baseBuildTarget;
+  }
+
+  /**
+   * @return The value of the {@code actionGraphBuilder} attribute
+   */
+  @Override
+  protected ActionGraphBuilder getActionGraphBuilder() {
+    return actionGraphBuilder;
+  }
+
+  /**
+   * @return The value of the {@code pathResolver} attribute
+   */
+  @Override
+  protected SourcePathResolverAdapter getPathResolver() {
+    return pathResolver;
+  }
+
+  /**
+   * @return The value of the {@code prefixHeader} attribute
+   */
+  @Override
+  protected Optional<SourcePath> getPrefixHeader() {
+    return Optional.ofNullable(prefixHeader);
+  }
+
+  /**
+   * @return The value of the {@code precompiledHeader} attribute
+   */
+  @Override
+  protected Optional<SourcePath> getPrecompiledHeader() {
+    return Optional.ofNullable(precompiledHeader);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutablePreIncludeFactory} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutablePreIncludeFactory
+        && equalTo((ImmutablePreIncludeFactory) another);
+  }
+
+  private boolean equalTo(ImmutablePreIncludeFactory another) {
+    return projectFilesystem.equals(another.projectFilesystem)
+        && baseBuildTarget.equals(another.baseBuildTarget)
+        && actionGraphBuilder.equals(another.actionGraphBuilder)
+        && pathResolver.equals(another.pathResolver)
+        && Objects.equals(prefixHeader, another.prefixHeader)
+        && Objects.equals(precompiledHeader, another.precompiledHeader);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code projectFilesystem}, {@code baseBuildTarget}, {@code actionGraphBuilder}, {@code pathResolver}, {@code prefixHeader}, {@code precompiledHeader}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + projectFilesystem.hashCode();
+    h += (h << 5) + baseBuildTarget.hashCode();
+    h += (h << 5) + actionGraphBuilder.hashCode();
+    h += (h << 5) + pathResolver.hashCode();
+    h += (h << 5) + Objects.hashCode(prefixHeader);
+    h += (h << 5) + Objects.hashCode(precompiledHeader);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PreIncludeFactory} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PreIncludeFactory")
+        .omitNullValues()
+        .add("projectFilesystem", projectFilesystem)
+        .add("baseBuildTarget", baseBuildTarget)
+        .add("actionGraphBuilder", actionGraphBuilder)
+        .add("pathResolver", pathResolver)
+        .add("prefixHeader", prefixHeader)
+        .add("precompiledHeader", precompiledHeader)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code PreIncludeFactory} instance.
+   * @param projectFilesystem The value for the {@code projectFilesystem} attribute
+   * @param baseBuildTarget The value for the {@code baseBuildTarget} attribute
+   * @param actionGraphBuilder The value for the {@code actionGraphBuilder} attribute
+   * @param pathResolver The value for the {@code pathResolver} attribute
+   * @param prefixHeader The value for the {@code prefixHeader} attribute
+   * @param precompiledHeader The value for the {@code precompiledHeader} attribute
+   * @return An immutable PreIncludeFactory instance
+   */
+  public static ImmutablePreIncludeFactory of(ProjectFilesystem projectFilesystem, BuildTarget baseBuildTarget, ActionGraphBuilder actionGraphBuilder, SourcePathResolverAdapter pathResolver, Optional<? extends SourcePath> prefixHeader, Optional<? extends SourcePath> precompiledHeader) {
+    return new ImmutablePreIncludeFactory(projectFilesystem, baseBuildTarget, actionGraphBuilder, pathResolver, prefixHeader, precompiledHeader);
+  }
+}
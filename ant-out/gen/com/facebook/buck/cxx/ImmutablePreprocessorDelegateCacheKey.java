@@ -0,0 +1,111 @@
+package com.facebook.buck.cxx;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CxxSourceRuleFactory.PreprocessorDelegateCacheKey}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutablePreprocessorDelegateCacheKey.of()}.
+ */
+@Generated(from = "CxxSourceRuleFactory.PreprocessorDelegateCacheKey", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutablePreprocessorDelegateCacheKey
+    implements CxxSourceRuleFactory.PreprocessorDelegateCacheKey {
+  private final CxxSource.Type sourceType;
+  private final ImmutableList<String> sourceFlags;
+
+  private ImmutablePreprocessorDelegateCacheKey(CxxSource.Type sourceType, Iterable<String> sourceFlags) {
+    this.sourceType = Objects.requireNonNull(sourceType, "sourceType");
+    this.sourceFlags = ImmutableList.copyOf(sourceFlags);
+  }
+
+  /**
+   * @return The value of the {@code sourceType} attribute
+   */
+  @Override
+  public CxxSource.Type getSourceType() {
+    return sourceType;
+  }
+
+  /**
+   * @return The value of the {@code sourceFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getSourceFlags() {
+    return sourceFlags;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutablePreprocessorDelegateCacheKey} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutablePreprocessorDelegateCacheKey
+        && equalTo((ImmutablePreprocessorDelegateCacheKey) another);
+  }
+
+  private boolean equalTo(ImmutablePreprocessorDelegateCacheKey another) {
+    return sourceType.equals(another.sourceType)
+        && sourceFlags.equals(another.sourceFlags);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code sourceType}, {@code sourceFlags}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + sourceType.hashCode();
+    h += (h << 5) + sourceFlags.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PreprocessorDelegateCacheKey} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PreprocessorDelegateCacheKey")
+        .omitNullValues()
+        .add("sourceType", sourceType)
+        .add("sourceFlags", sourceFlags)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code PreprocessorDelegateCacheKey} instance.
+   * @param sourceType The value for the {@code sourceType} attribute
+   * @param sourceFlags The value for the {@code sourceFlags} attribute
+   * @return An immutable PreprocessorDelegateCacheKey instance
+   */
+  public static ImmutablePreprocessorDelegateCacheKey of(CxxSource.Type sourceType, ImmutableList<String> sourceFlags) {
+    return of(sourceType, (Iterable<String>) sourceFlags);
+  }
+
+  /**
+   * Construct a new immutable {@code PreprocessorDelegateCacheKey} instance.
+   * @param sourceType The value for the {@code sourceType} attribute
+   * @param sourceFlags The value for the {@code sourceFlags} attribute
+   * @return An immutable PreprocessorDelegateCacheKey instance
+   */
+  public static ImmutablePreprocessorDelegateCacheKey of(CxxSource.Type sourceType, Iterable<String> sourceFlags) {
+    return new ImmutablePreprocessorDelegateCacheKey(sourceType, sourceFlags);
+  }
+}
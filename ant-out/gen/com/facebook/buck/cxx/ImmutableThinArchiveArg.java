@@ -0,0 +1,113 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ThinArchiveArg}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableThinArchiveArg.of()}.
+ */
+@Generated(from = "ThinArchiveArg", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableThinArchiveArg extends ThinArchiveArg {
+  private final SourcePath path;
+  private final ImmutableList<SourcePath> contents;
+
+  private ImmutableThinArchiveArg(
+      SourcePath path,
+      Iterable<? extends SourcePath> contents) {
+    this.path = Objects.requireNonNull(path, "path");
+    this.contents = ImmutableList.copyOf(contents);
+  }
+
+  /**
+   * @return The value of the {@code path} attribute
+   */
+  @Override
+  public SourcePath getPath() {
+    return path;
+  }
+
+  /**
+   * @return The value of the {@code contents} attribute
+   */
+  @Override
+  protected ImmutableList<SourcePath> getContents() {
+    return contents;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableThinArchiveArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableThinArchiveArg
+        && equalTo((ImmutableThinArchiveArg) another);
+  }
+
+  private boolean equalTo(ImmutableThinArchiveArg another) {
+    return path.equals(another.path)
+        && contents.equals(another.contents);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code path}, {@code contents}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + path.hashCode();
+    h += (h << 5) + contents.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ThinArchiveArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ThinArchiveArg")
+        .omitNullValues()
+        .add("path", path)
+        .add("contents", contents)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ThinArchiveArg} instance.
+   * @param path The value for the {@code path} attribute
+   * @param contents The value for the {@code contents} attribute
+   * @return An immutable ThinArchiveArg instance
+   */
+  public static ImmutableThinArchiveArg of(SourcePath path, ImmutableList<SourcePath> contents) {
+    return of(path, (Iterable<? extends SourcePath>) contents);
+  }
+
+  /**
+   * Construct a new immutable {@code ThinArchiveArg} instance.
+   * @param path The value for the {@code path} attribute
+   * @param contents The value for the {@code contents} attribute
+   * @return An immutable ThinArchiveArg instance
+   */
+  public static ImmutableThinArchiveArg of(SourcePath path, Iterable<? extends SourcePath> contents) {
+    return new ImmutableThinArchiveArg(path, contents);
+  }
+}
@@ -0,0 +1,1241 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.description.arg.BuildRuleArg;
+import com.facebook.buck.core.description.arg.ConstructorArg;
+import com.facebook.buck.core.description.arg.HasDeclaredDeps;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.UnconfiguredBuildTarget;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.rules.coercer.PatternMatchedCollection;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link PrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code PrebuiltCxxLibraryGroupDescriptionArg.builder()}.
+ */
+@Generated(from = "PrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class PrebuiltCxxLibraryGroupDescriptionArg
+    implements PrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg {
+  private final ImmutableList<String> exportedPreprocessorFlags;
+  private final ImmutableList<SourcePath> includeDirs;
+  private final ImmutableList<String> staticLink;
+  private final ImmutableList<SourcePath> staticLibs;
+  private final ImmutableList<String> staticPicLink;
+  private final ImmutableList<SourcePath> staticPicLibs;
+  private final ImmutableList<String> sharedLink;
+  private final ImmutableMap<String, SourcePath> sharedLibs;
+  private final ImmutableMap<String, SourcePath> importLibs;
+  private final ImmutableMap<String, SourcePath> providedSharedLibs;
+  private final ImmutableSortedSet<BuildTarget> exportedDeps;
+  private final PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> exportedPlatformDeps;
+  private final @Nullable Pattern supportedPlatformsRegex;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final @Nullable UnconfiguredBuildTarget defaultTargetPlatform;
+  private final ImmutableList<UnconfiguredBuildTarget> compatibleWith;
+  private final String name;
+  private final ImmutableSortedSet<BuildTarget> deps;
+
+  private PrebuiltCxxLibraryGroupDescriptionArg(PrebuiltCxxLibraryGroupDescriptionArg.Builder builder) {
+    this.exportedPreprocessorFlags = builder.exportedPreprocessorFlags.build();
+    this.includeDirs = builder.includeDirs.build();
+    this.staticLink = builder.staticLink.build();
+    this.staticLibs = builder.staticLibs.build();
+    this.staticPicLink = builder.staticPicLink.build();
+    this.staticPicLibs = builder.staticPicLibs.build();
+    this.sharedLink = builder.sharedLink.build();
+    this.sharedLibs = builder.sharedLibs.build();
+    this.importLibs = builder.importLibs.build();
+    this.providedSharedLibs = builder.providedSharedLibs.build();
+    this.exportedDeps = builder.exportedDeps.build();
+    this.supportedPlatformsRegex = builder.supportedPlatformsRegex;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.defaultTargetPlatform = builder.defaultTargetPlatform;
+    this.compatibleWith = builder.compatibleWith.build();
+    this.name = builder.name;
+    this.deps = builder.deps.build();
+    this.exportedPlatformDeps = builder.exportedPlatformDeps != null
+        ? builder.exportedPlatformDeps
+        : Objects.requireNonNull(PrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg.super.getExportedPlatformDeps(), "exportedPlatformDeps");
+  }
+
+  /**
+   * @return The value of the {@code exportedPreprocessorFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getExportedPreprocessorFlags() {
+    return exportedPreprocessorFlags;
+  }
+
+  /**
+   * @return The value of the {@code includeDirs} attribute
+   */
+  @Override
+  public ImmutableList<SourcePath> getIncludeDirs() {
+    return includeDirs;
+  }
+
+  /**
+   *The link arguments to use when linking using the static link style. 
+   */
+  @Override
+  public ImmutableList<String> getStaticLink() {
+    return staticLink;
+  }
+
+  /**
+   *Libraries references in the static link args above. 
+   */
+  @Override
+  public ImmutableList<SourcePath> getStaticLibs() {
+    return staticLibs;
+  }
+
+  /**
+   *The link arguments to use when linking using the static-pic link style. 
+   */
+  @Override
+  public ImmutableList<String> getStaticPicLink() {
+    return staticPicLink;
+  }
+
+  /**
+   *Libraries references in the static-pic link args above. 
+   */
+  @Override
+  public ImmutableList<SourcePath> getStaticPicLibs() {
+    return staticPicLibs;
+  }
+
+  /**
+   *The link arguments to use when linking using the shared link style. 
+   */
+  @Override
+  public ImmutableList<String> getSharedLink() {
+    return sharedLink;
+  }
+
+  /**
+   *Libraries references in the shared link args above. 
+   */
+  @Override
+  public ImmutableMap<String, SourcePath> getSharedLibs() {
+    return sharedLibs;
+  }
+
+  /**
+   *Import libraries references in the shared link args above. 
+   */
+  @Override
+  public ImmutableMap<String, SourcePath> getImportLibs() {
+    return importLibs;
+  }
+
+  /**
+   * @return The value of the {@code providedSharedLibs} attribute
+   */
+  @Override
+  public ImmutableMap<String, SourcePath> getProvidedSharedLibs() {
+    return providedSharedLibs;
+  }
+
+  /**
+   * @return The value of the {@code exportedDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getExportedDeps() {
+    return exportedDeps;
+  }
+
+  /**
+   * @return The value of the {@code exportedPlatformDeps} attribute
+   */
+  @Override
+  public PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> getExportedPlatformDeps() {
+    return exportedPlatformDeps;
+  }
+
+  /**
+   * @return The value of the {@code supportedPlatformsRegex} attribute
+   */
+  @Override
+  public Optional<Pattern> getSupportedPlatformsRegex() {
+    return Optional.ofNullable(supportedPlatformsRegex);
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * The name of build target default "new" platform: it is used when a platform is not specified
+   * either globally or in a target which used this target as a dependency.
+   * <p>The value is a build target, but we specify it as string, because this function is not
+   * actually called, but the attr is fetched by name from the raw (unconfigured) target node.
+   */
+  @Override
+  public Optional<UnconfiguredBuildTarget> getDefaultTargetPlatform() {
+    return Optional.ofNullable(defaultTargetPlatform);
+  }
+
+  /**
+   *A list of {@code config_setting} a target is compatible with. 
+   */
+  @Override
+  public ImmutableList<UnconfiguredBuildTarget> getCompatibleWith() {
+    return compatibleWith;
+  }
+
+  /**
+   *Each rule has a name 
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PrebuiltCxxLibraryGroupDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PrebuiltCxxLibraryGroupDescriptionArg
+        && equalTo((PrebuiltCxxLibraryGroupDescriptionArg) another);
+  }
+
+  private boolean equalTo(PrebuiltCxxLibraryGroupDescriptionArg another) {
+    return exportedPreprocessorFlags.equals(another.exportedPreprocessorFlags)
+        && includeDirs.equals(another.includeDirs)
+        && staticLink.equals(another.staticLink)
+        && staticLibs.equals(another.staticLibs)
+        && staticPicLink.equals(another.staticPicLink)
+        && staticPicLibs.equals(another.staticPicLibs)
+        && sharedLink.equals(another.sharedLink)
+        && sharedLibs.equals(another.sharedLibs)
+        && importLibs.equals(another.importLibs)
+        && providedSharedLibs.equals(another.providedSharedLibs)
+        && exportedDeps.equals(another.exportedDeps)
+        && exportedPlatformDeps.equals(another.exportedPlatformDeps)
+        && Objects.equals(supportedPlatformsRegex, another.supportedPlatformsRegex)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && Objects.equals(defaultTargetPlatform, another.defaultTargetPlatform)
+        && compatibleWith.equals(another.compatibleWith)
+        && name.equals(another.name)
+        && deps.equals(another.deps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code exportedPreprocessorFlags}, {@code includeDirs}, {@code staticLink}, {@code staticLibs}, {@code staticPicLink}, {@code staticPicLibs}, {@code sharedLink}, {@code sharedLibs}, {@code importLibs}, {@code providedSharedLibs}, {@code exportedDeps}, {@code exportedPlatformDeps}, {@code supportedPlatformsRegex}, {@code licenses}, {@code labels}, {@code defaultTargetPlatform}, {@code compatibleWith}, {@code name}, {@code deps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + exportedPreprocessorFlags.hashCode();
+    h += (h << 5) + includeDirs.hashCode();
+    h += (h << 5) + staticLink.hashCode();
+    h += (h << 5) + staticLibs.hashCode();
+    h += (h << 5) + staticPicLink.hashCode();
+    h += (h << 5) + staticPicLibs.hashCode();
+    h += (h << 5) + sharedLink.hashCode();
+    h += (h << 5) + sharedLibs.hashCode();
+    h += (h << 5) + importLibs.hashCode();
+    h += (h << 5) + providedSharedLibs.hashCode();
+    h += (h << 5) + exportedDeps.hashCode();
+    h += (h << 5) + exportedPlatformDeps.hashCode();
+    h += (h << 5) + Objects.hashCode(supportedPlatformsRegex);
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + Objects.hashCode(defaultTargetPlatform);
+    h += (h << 5) + compatibleWith.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + deps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PrebuiltCxxLibraryGroupDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PrebuiltCxxLibraryGroupDescriptionArg")
+        .omitNullValues()
+        .add("exportedPreprocessorFlags", exportedPreprocessorFlags)
+        .add("includeDirs", includeDirs)
+        .add("staticLink", staticLink)
+        .add("staticLibs", staticLibs)
+        .add("staticPicLink", staticPicLink)
+        .add("staticPicLibs", staticPicLibs)
+        .add("sharedLink", sharedLink)
+        .add("sharedLibs", sharedLibs)
+        .add("importLibs", importLibs)
+        .add("providedSharedLibs", providedSharedLibs)
+        .add("exportedDeps", exportedDeps)
+        .add("exportedPlatformDeps", exportedPlatformDeps)
+        .add("supportedPlatformsRegex", supportedPlatformsRegex)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("defaultTargetPlatform", defaultTargetPlatform)
+        .add("compatibleWith", compatibleWith)
+        .add("name", name)
+        .add("deps", deps)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link PrebuiltCxxLibraryGroupDescriptionArg PrebuiltCxxLibraryGroupDescriptionArg}.
+   * @return A new PrebuiltCxxLibraryGroupDescriptionArg builder
+   */
+  public static PrebuiltCxxLibraryGroupDescriptionArg.Builder builder() {
+    return new PrebuiltCxxLibraryGroupDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link PrebuiltCxxLibraryGroupDescriptionArg PrebuiltCxxLibraryGroupDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "PrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private long initBits = 0x1L;
+
+    private ImmutableList.Builder<String> exportedPreprocessorFlags = ImmutableList.builder();
+    private ImmutableList.Builder<SourcePath> includeDirs = ImmutableList.builder();
+    private ImmutableList.Builder<String> staticLink = ImmutableList.builder();
+    private ImmutableList.Builder<SourcePath> staticLibs = ImmutableList.builder();
+    private ImmutableList.Builder<String> staticPicLink = ImmutableList.builder();
+    private ImmutableList.Builder<SourcePath> staticPicLibs = ImmutableList.builder();
+    private ImmutableList.Builder<String> sharedLink = ImmutableList.builder();
+    private ImmutableMap.Builder<String, SourcePath> sharedLibs = ImmutableMap.builder();
+    private ImmutableMap.Builder<String, SourcePath> importLibs = ImmutableMap.builder();
+    private ImmutableMap.Builder<String, SourcePath> providedSharedLibs = ImmutableMap.builder();
+    private ImmutableSortedSet.Builder<BuildTarget> exportedDeps = ImmutableSortedSet.naturalOrder();
+    private @Nullable PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> exportedPlatformDeps;
+    private @Nullable Pattern supportedPlatformsRegex;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private @Nullable UnconfiguredBuildTarget defaultTargetPlatform;
+    private ImmutableList.Builder<UnconfiguredBuildTarget> compatibleWith = ImmutableList.builder();
+    private @Nullable String name;
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code PrebuiltCxxLibraryGroupDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(PrebuiltCxxLibraryGroupDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractPrebuiltCxxLibraryGroupDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(PrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.BuildRuleArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(BuildRuleArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.ConstructorArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(ConstructorArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+      if (object instanceof PrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg) {
+        PrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg instance = (PrebuiltCxxLibraryGroupDescription.AbstractPrebuiltCxxLibraryGroupDescriptionArg) object;
+        addAllStaticLink(instance.getStaticLink());
+        setExportedPlatformDeps(instance.getExportedPlatformDeps());
+        addAllStaticPicLibs(instance.getStaticPicLibs());
+        addAllStaticPicLink(instance.getStaticPicLink());
+        addAllIncludeDirs(instance.getIncludeDirs());
+        putAllSharedLibs(instance.getSharedLibs());
+        Optional<Pattern> supportedPlatformsRegexOptional = instance.getSupportedPlatformsRegex();
+        if (supportedPlatformsRegexOptional.isPresent()) {
+          setSupportedPlatformsRegex(supportedPlatformsRegexOptional);
+        }
+        addAllStaticLibs(instance.getStaticLibs());
+        putAllProvidedSharedLibs(instance.getProvidedSharedLibs());
+        putAllImportLibs(instance.getImportLibs());
+        addAllExportedDeps(instance.getExportedDeps());
+        addAllSharedLink(instance.getSharedLink());
+        addAllExportedPreprocessorFlags(instance.getExportedPreprocessorFlags());
+      }
+      if (object instanceof BuildRuleArg) {
+        BuildRuleArg instance = (BuildRuleArg) object;
+        addAllLicenses(instance.getLicenses());
+        addAllCompatibleWith(instance.getCompatibleWith());
+        addAllLabels(instance.getLabels());
+        Optional<UnconfiguredBuildTarget> defaultTargetPlatformOptional = instance.getDefaultTargetPlatform();
+        if (defaultTargetPlatformOptional.isPresent()) {
+          setDefaultTargetPlatform(defaultTargetPlatformOptional);
+        }
+      }
+      if (object instanceof ConstructorArg) {
+        ConstructorArg instance = (ConstructorArg) object;
+        setName(instance.getName());
+      }
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltCxxLibraryGroupDescriptionArg#getExportedPreprocessorFlags() exportedPreprocessorFlags} list.
+     * @param element A exportedPreprocessorFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExportedPreprocessorFlags(String element) {
+      this.exportedPreprocessorFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryGroupDescriptionArg#getExportedPreprocessorFlags() exportedPreprocessorFlags} list.
+     * @param elements An array of exportedPreprocessorFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExportedPreprocessorFlags(String... elements) {
+      this.exportedPreprocessorFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltCxxLibraryGroupDescriptionArg#getExportedPreprocessorFlags() exportedPreprocessorFlags} list.
+     * @param elements An iterable of exportedPreprocessorFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExportedPreprocessorFlags(Iterable<String> elements) {
+      this.exportedPreprocessorFlags = ImmutableList.builder();
+      return addAllExportedPreprocessorFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryGroupDescriptionArg#getExportedPreprocessorFlags() exportedPreprocessorFlags} list.
+     * @param elements An iterable of exportedPreprocessorFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllExportedPreprocessorFlags(Iterable<String> elements) {
+      this.exportedPreprocessorFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltCxxLibraryGroupDescriptionArg#getIncludeDirs() includeDirs} list.
+     * @param element A includeDirs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addIncludeDirs(SourcePath element) {
+      this.includeDirs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryGroupDescriptionArg#getIncludeDirs() includeDirs} list.
+     * @param elements An array of includeDirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addIncludeDirs(SourcePath... elements) {
+      this.includeDirs.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltCxxLibraryGroupDescriptionArg#getIncludeDirs() includeDirs} list.
+     * @param elements An iterable of includeDirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setIncludeDirs(Iterable<? extends SourcePath> elements) {
+      this.includeDirs = ImmutableList.builder();
+      return addAllIncludeDirs(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryGroupDescriptionArg#getIncludeDirs() includeDirs} list.
+     * @param elements An iterable of includeDirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllIncludeDirs(Iterable<? extends SourcePath> elements) {
+      this.includeDirs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltCxxLibraryGroupDescriptionArg#getStaticLink() staticLink} list.
+     * @param element A staticLink element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addStaticLink(String element) {
+      this.staticLink.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryGroupDescriptionArg#getStaticLink() staticLink} list.
+     * @param elements An array of staticLink elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addStaticLink(String... elements) {
+      this.staticLink.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltCxxLibraryGroupDescriptionArg#getStaticLink() staticLink} list.
+     * @param elements An iterable of staticLink elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setStaticLink(Iterable<String> elements) {
+      this.staticLink = ImmutableList.builder();
+      return addAllStaticLink(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryGroupDescriptionArg#getStaticLink() staticLink} list.
+     * @param elements An iterable of staticLink elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllStaticLink(Iterable<String> elements) {
+      this.staticLink.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltCxxLibraryGroupDescriptionArg#getStaticLibs() staticLibs} list.
+     * @param element A staticLibs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addStaticLibs(SourcePath element) {
+      this.staticLibs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryGroupDescriptionArg#getStaticLibs() staticLibs} list.
+     * @param elements An array of staticLibs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addStaticLibs(SourcePath... elements) {
+      this.staticLibs.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltCxxLibraryGroupDescriptionArg#getStaticLibs() staticLibs} list.
+     * @param elements An iterable of staticLibs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setStaticLibs(Iterable<? extends SourcePath> elements) {
+      this.staticLibs = ImmutableList.builder();
+      return addAllStaticLibs(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryGroupDescriptionArg#getStaticLibs() staticLibs} list.
+     * @param elements An iterable of staticLibs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllStaticLibs(Iterable<? extends SourcePath> elements) {
+      this.staticLibs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltCxxLibraryGroupDescriptionArg#getStaticPicLink() staticPicLink} list.
+     * @param element A staticPicLink element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addStaticPicLink(String element) {
+      this.staticPicLink.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryGroupDescriptionArg#getStaticPicLink() staticPicLink} list.
+     * @param elements An array of staticPicLink elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addStaticPicLink(String... elements) {
+      this.staticPicLink.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltCxxLibraryGroupDescriptionArg#getStaticPicLink() staticPicLink} list.
+     * @param elements An iterable of staticPicLink elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setStaticPicLink(Iterable<String> elements) {
+      this.staticPicLink = ImmutableList.builder();
+      return addAllStaticPicLink(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryGroupDescriptionArg#getStaticPicLink() staticPicLink} list.
+     * @param elements An iterable of staticPicLink elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllStaticPicLink(Iterable<String> elements) {
+      this.staticPicLink.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltCxxLibraryGroupDescriptionArg#getStaticPicLibs() staticPicLibs} list.
+     * @param element A staticPicLibs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addStaticPicLibs(SourcePath element) {
+      this.staticPicLibs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryGroupDescriptionArg#getStaticPicLibs() staticPicLibs} list.
+     * @param elements An array of staticPicLibs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addStaticPicLibs(SourcePath... elements) {
+      this.staticPicLibs.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltCxxLibraryGroupDescriptionArg#getStaticPicLibs() staticPicLibs} list.
+     * @param elements An iterable of staticPicLibs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setStaticPicLibs(Iterable<? extends SourcePath> elements) {
+      this.staticPicLibs = ImmutableList.builder();
+      return addAllStaticPicLibs(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryGroupDescriptionArg#getStaticPicLibs() staticPicLibs} list.
+     * @param elements An iterable of staticPicLibs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllStaticPicLibs(Iterable<? extends SourcePath> elements) {
+      this.staticPicLibs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltCxxLibraryGroupDescriptionArg#getSharedLink() sharedLink} list.
+     * @param element A sharedLink element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addSharedLink(String element) {
+      this.sharedLink.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryGroupDescriptionArg#getSharedLink() sharedLink} list.
+     * @param elements An array of sharedLink elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addSharedLink(String... elements) {
+      this.sharedLink.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltCxxLibraryGroupDescriptionArg#getSharedLink() sharedLink} list.
+     * @param elements An iterable of sharedLink elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSharedLink(Iterable<String> elements) {
+      this.sharedLink = ImmutableList.builder();
+      return addAllSharedLink(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryGroupDescriptionArg#getSharedLink() sharedLink} list.
+     * @param elements An iterable of sharedLink elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllSharedLink(Iterable<String> elements) {
+      this.sharedLink.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link PrebuiltCxxLibraryGroupDescriptionArg#getSharedLibs() sharedLibs} map.
+     * @param key The key in the sharedLibs map
+     * @param value The associated value in the sharedLibs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putSharedLibs(String key, SourcePath value) {
+      this.sharedLibs.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link PrebuiltCxxLibraryGroupDescriptionArg#getSharedLibs() sharedLibs} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putSharedLibs(Map.Entry<String, ? extends SourcePath> entry) {
+      this.sharedLibs.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link PrebuiltCxxLibraryGroupDescriptionArg#getSharedLibs() sharedLibs} map. Nulls are not permitted
+     * @param entries The entries that will be added to the sharedLibs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSharedLibs(Map<String, ? extends SourcePath> entries) {
+      this.sharedLibs = ImmutableMap.builder();
+      return putAllSharedLibs(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link PrebuiltCxxLibraryGroupDescriptionArg#getSharedLibs() sharedLibs} map. Nulls are not permitted
+     * @param entries The entries that will be added to the sharedLibs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllSharedLibs(Map<String, ? extends SourcePath> entries) {
+      this.sharedLibs.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link PrebuiltCxxLibraryGroupDescriptionArg#getImportLibs() importLibs} map.
+     * @param key The key in the importLibs map
+     * @param value The associated value in the importLibs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putImportLibs(String key, SourcePath value) {
+      this.importLibs.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link PrebuiltCxxLibraryGroupDescriptionArg#getImportLibs() importLibs} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putImportLibs(Map.Entry<String, ? extends SourcePath> entry) {
+      this.importLibs.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link PrebuiltCxxLibraryGroupDescriptionArg#getImportLibs() importLibs} map. Nulls are not permitted
+     * @param entries The entries that will be added to the importLibs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setImportLibs(Map<String, ? extends SourcePath> entries) {
+      this.importLibs = ImmutableMap.builder();
+      return putAllImportLibs(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link PrebuiltCxxLibraryGroupDescriptionArg#getImportLibs() importLibs} map. Nulls are not permitted
+     * @param entries The entries that will be added to the importLibs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllImportLibs(Map<String, ? extends SourcePath> entries) {
+      this.importLibs.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link PrebuiltCxxLibraryGroupDescriptionArg#getProvidedSharedLibs() providedSharedLibs} map.
+     * @param key The key in the providedSharedLibs map
+     * @param value The associated value in the providedSharedLibs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putProvidedSharedLibs(String key, SourcePath value) {
+      this.providedSharedLibs.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link PrebuiltCxxLibraryGroupDescriptionArg#getProvidedSharedLibs() providedSharedLibs} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putProvidedSharedLibs(Map.Entry<String, ? extends SourcePath> entry) {
+      this.providedSharedLibs.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link PrebuiltCxxLibraryGroupDescriptionArg#getProvidedSharedLibs() providedSharedLibs} map. Nulls are not permitted
+     * @param entries The entries that will be added to the providedSharedLibs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProvidedSharedLibs(Map<String, ? extends SourcePath> entries) {
+      this.providedSharedLibs = ImmutableMap.builder();
+      return putAllProvidedSharedLibs(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link PrebuiltCxxLibraryGroupDescriptionArg#getProvidedSharedLibs() providedSharedLibs} map. Nulls are not permitted
+     * @param entries The entries that will be added to the providedSharedLibs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllProvidedSharedLibs(Map<String, ? extends SourcePath> entries) {
+      this.providedSharedLibs.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltCxxLibraryGroupDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param element A exportedDeps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExportedDeps(BuildTarget element) {
+      this.exportedDeps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryGroupDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param elements An array of exportedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExportedDeps(BuildTarget... elements) {
+      this.exportedDeps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltCxxLibraryGroupDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param elements An iterable of exportedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExportedDeps(Iterable<? extends BuildTarget> elements) {
+      this.exportedDeps = ImmutableSortedSet.naturalOrder();
+      return addAllExportedDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryGroupDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param elements An iterable of exportedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllExportedDeps(Iterable<? extends BuildTarget> elements) {
+      this.exportedDeps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PrebuiltCxxLibraryGroupDescriptionArg#getExportedPlatformDeps() exportedPlatformDeps} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltCxxLibraryGroupDescriptionArg#getExportedPlatformDeps() exportedPlatformDeps}.</em>
+     * @param exportedPlatformDeps The value for exportedPlatformDeps 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExportedPlatformDeps(PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> exportedPlatformDeps) {
+      this.exportedPlatformDeps = Objects.requireNonNull(exportedPlatformDeps, "exportedPlatformDeps");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryGroupDescriptionArg#getSupportedPlatformsRegex() supportedPlatformsRegex} to supportedPlatformsRegex.
+     * @param supportedPlatformsRegex The value for supportedPlatformsRegex
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSupportedPlatformsRegex(Pattern supportedPlatformsRegex) {
+      this.supportedPlatformsRegex = Objects.requireNonNull(supportedPlatformsRegex, "supportedPlatformsRegex");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryGroupDescriptionArg#getSupportedPlatformsRegex() supportedPlatformsRegex} to supportedPlatformsRegex.
+     * @param supportedPlatformsRegex The value for supportedPlatformsRegex
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSupportedPlatformsRegex(Optional<? extends Pattern> supportedPlatformsRegex) {
+      this.supportedPlatformsRegex = supportedPlatformsRegex.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltCxxLibraryGroupDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryGroupDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltCxxLibraryGroupDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryGroupDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltCxxLibraryGroupDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryGroupDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltCxxLibraryGroupDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryGroupDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryGroupDescriptionArg#getDefaultTargetPlatform() defaultTargetPlatform} to defaultTargetPlatform.
+     * @param defaultTargetPlatform The value for defaultTargetPlatform
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultTargetPlatform(UnconfiguredBuildTarget defaultTargetPlatform) {
+      this.defaultTargetPlatform = Objects.requireNonNull(defaultTargetPlatform, "defaultTargetPlatform");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryGroupDescriptionArg#getDefaultTargetPlatform() defaultTargetPlatform} to defaultTargetPlatform.
+     * @param defaultTargetPlatform The value for defaultTargetPlatform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultTargetPlatform(Optional<? extends UnconfiguredBuildTarget> defaultTargetPlatform) {
+      this.defaultTargetPlatform = defaultTargetPlatform.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltCxxLibraryGroupDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param element A compatibleWith element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCompatibleWith(UnconfiguredBuildTarget element) {
+      this.compatibleWith.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryGroupDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An array of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCompatibleWith(UnconfiguredBuildTarget... elements) {
+      this.compatibleWith.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltCxxLibraryGroupDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An iterable of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCompatibleWith(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.compatibleWith = ImmutableList.builder();
+      return addAllCompatibleWith(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryGroupDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An iterable of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllCompatibleWith(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.compatibleWith.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PrebuiltCxxLibraryGroupDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltCxxLibraryGroupDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryGroupDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltCxxLibraryGroupDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryGroupDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link PrebuiltCxxLibraryGroupDescriptionArg PrebuiltCxxLibraryGroupDescriptionArg}.
+     * @return An immutable instance of PrebuiltCxxLibraryGroupDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public PrebuiltCxxLibraryGroupDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new PrebuiltCxxLibraryGroupDescriptionArg(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build PrebuiltCxxLibraryGroupDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
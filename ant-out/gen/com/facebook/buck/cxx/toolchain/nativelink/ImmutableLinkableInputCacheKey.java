@@ -0,0 +1,120 @@
+package com.facebook.buck.cxx.toolchain.nativelink;
+
+import com.facebook.buck.core.model.TargetConfiguration;
+import com.facebook.buck.cxx.toolchain.linker.Linker;
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link NativeLinkableInfo.LinkableInputCacheKey}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableLinkableInputCacheKey.of()}.
+ */
+@Generated(from = "NativeLinkableInfo.LinkableInputCacheKey", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableLinkableInputCacheKey
+    implements NativeLinkableInfo.LinkableInputCacheKey {
+  private final boolean forceLinkWhole;
+  private final Linker.LinkableDepType linkableDepType;
+  private final TargetConfiguration targetConfiguration;
+
+  private ImmutableLinkableInputCacheKey(
+      boolean forceLinkWhole,
+      Linker.LinkableDepType linkableDepType,
+      TargetConfiguration targetConfiguration) {
+    this.forceLinkWhole = forceLinkWhole;
+    this.linkableDepType = Objects.requireNonNull(linkableDepType, "linkableDepType");
+    this.targetConfiguration = Objects.requireNonNull(targetConfiguration, "targetConfiguration");
+  }
+
+  /**
+   * @return The value of the {@code forceLinkWhole} attribute
+   */
+  @Override
+  public boolean getForceLinkWhole() {
+    return forceLinkWhole;
+  }
+
+  /**
+   * @return The value of the {@code linkableDepType} attribute
+   */
+  @Override
+  public Linker.LinkableDepType getLinkableDepType() {
+    return linkableDepType;
+  }
+
+  /**
+   * @return The value of the {@code targetConfiguration} attribute
+   */
+  @Override
+  public TargetConfiguration getTargetConfiguration() {
+    return targetConfiguration;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableLinkableInputCacheKey} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableLinkableInputCacheKey
+        && equalTo((ImmutableLinkableInputCacheKey) another);
+  }
+
+  private boolean equalTo(ImmutableLinkableInputCacheKey another) {
+    return forceLinkWhole == another.forceLinkWhole
+        && linkableDepType.equals(another.linkableDepType)
+        && targetConfiguration.equals(another.targetConfiguration);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code forceLinkWhole}, {@code linkableDepType}, {@code targetConfiguration}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Booleans.hashCode(forceLinkWhole);
+    h += (h << 5) + linkableDepType.hashCode();
+    h += (h << 5) + targetConfiguration.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code LinkableInputCacheKey} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("LinkableInputCacheKey")
+        .omitNullValues()
+        .add("forceLinkWhole", forceLinkWhole)
+        .add("linkableDepType", linkableDepType)
+        .add("targetConfiguration", targetConfiguration)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code LinkableInputCacheKey} instance.
+   * @param forceLinkWhole The value for the {@code forceLinkWhole} attribute
+   * @param linkableDepType The value for the {@code linkableDepType} attribute
+   * @param targetConfiguration The value for the {@code targetConfiguration} attribute
+   * @return An immutable LinkableInputCacheKey instance
+   */
+  public static ImmutableLinkableInputCacheKey of(boolean forceLinkWhole, Linker.LinkableDepType linkableDepType, TargetConfiguration targetConfiguration) {
+    return new ImmutableLinkableInputCacheKey(forceLinkWhole, linkableDepType, targetConfiguration);
+  }
+}
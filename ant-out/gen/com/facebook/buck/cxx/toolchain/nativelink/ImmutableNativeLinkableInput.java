@@ -0,0 +1,327 @@
+package com.facebook.buck.cxx.toolchain.nativelink;
+
+import com.facebook.buck.rules.args.Arg;
+import com.facebook.buck.rules.coercer.FrameworkPath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link NativeLinkableInput}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new NativeLinkableInput.Builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableNativeLinkableInput.of()}.
+ */
+@Generated(from = "NativeLinkableInput", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableNativeLinkableInput
+    extends NativeLinkableInput {
+  private final ImmutableList<Arg> args;
+  private final ImmutableSet<FrameworkPath> frameworks;
+  private final ImmutableSet<FrameworkPath> libraries;
+
+  private ImmutableNativeLinkableInput(
+      Iterable<? extends Arg> args,
+      Iterable<? extends FrameworkPath> frameworks,
+      Iterable<? extends FrameworkPath> libraries) {
+    this.args = ImmutableList.copyOf(args);
+    this.frameworks = ImmutableSet.copyOf(frameworks);
+    this.libraries = ImmutableSet.copyOf(libraries);
+  }
+
+  private ImmutableNativeLinkableInput(ImmutableNativeLinkableInput.Builder builder) {
+    this.args = builder.args.build();
+    this.frameworks = builder.frameworks.build();
+    this.libraries = builder.libraries.build();
+  }
+
+  /**
+   * @return The value of the {@code args} attribute
+   */
+  @Override
+  public ImmutableList<Arg> getArgs() {
+    return args;
+  }
+
+  /**
+   * @return The value of the {@code frameworks} attribute
+   */
+  @Override
+  public ImmutableSet<FrameworkPath> getFrameworks() {
+    return frameworks;
+  }
+
+  /**
+   * @return The value of the {@code libraries} attribute
+   */
+  @Override
+  public ImmutableSet<FrameworkPath> getLibraries() {
+    return libraries;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableNativeLinkableInput} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableNativeLinkableInput
+        && equalTo((ImmutableNativeLinkableInput) another);
+  }
+
+  private boolean equalTo(ImmutableNativeLinkableInput another) {
+    return args.equals(another.args)
+        && frameworks.equals(another.frameworks)
+        && libraries.equals(another.libraries);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code args}, {@code frameworks}, {@code libraries}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + args.hashCode();
+    h += (h << 5) + frameworks.hashCode();
+    h += (h << 5) + libraries.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code NativeLinkableInput} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("NativeLinkableInput")
+        .omitNullValues()
+        .add("args", args)
+        .add("frameworks", frameworks)
+        .add("libraries", libraries)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code NativeLinkableInput} instance.
+   * @param args The value for the {@code args} attribute
+   * @param frameworks The value for the {@code frameworks} attribute
+   * @param libraries The value for the {@code libraries} attribute
+   * @return An immutable NativeLinkableInput instance
+   */
+  public static NativeLinkableInput of(ImmutableList<Arg> args, ImmutableSet<FrameworkPath> frameworks, ImmutableSet<FrameworkPath> libraries) {
+    return of((Iterable<? extends Arg>) args, (Iterable<? extends FrameworkPath>) frameworks, (Iterable<? extends FrameworkPath>) libraries);
+  }
+
+  /**
+   * Construct a new immutable {@code NativeLinkableInput} instance.
+   * @param args The value for the {@code args} attribute
+   * @param frameworks The value for the {@code frameworks} attribute
+   * @param libraries The value for the {@code libraries} attribute
+   * @return An immutable NativeLinkableInput instance
+   */
+  public static NativeLinkableInput of(Iterable<? extends Arg> args, Iterable<? extends FrameworkPath> frameworks, Iterable<? extends FrameworkPath> libraries) {
+    return new ImmutableNativeLinkableInput(args, frameworks, libraries);
+  }
+
+  /**
+   * Builds instances of type {@link NativeLinkableInput NativeLinkableInput}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "NativeLinkableInput", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private ImmutableList.Builder<Arg> args = ImmutableList.builder();
+    private ImmutableSet.Builder<FrameworkPath> frameworks = ImmutableSet.builder();
+    private ImmutableSet.Builder<FrameworkPath> libraries = ImmutableSet.builder();
+
+    /**
+     * Creates a builder for {@link NativeLinkableInput NativeLinkableInput} instances.
+     */
+    public Builder() {
+      if (!(this instanceof NativeLinkableInput.Builder)) {
+        throw new UnsupportedOperationException("Use: new NativeLinkableInput.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code NativeLinkableInput} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final NativeLinkableInput.Builder from(NativeLinkableInput instance) {
+      Objects.requireNonNull(instance, "instance");
+      addAllArgs(instance.getArgs());
+      addAllFrameworks(instance.getFrameworks());
+      addAllLibraries(instance.getLibraries());
+      return (NativeLinkableInput.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link NativeLinkableInput#getArgs() args} list.
+     * @param element A args element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final NativeLinkableInput.Builder addArgs(Arg element) {
+      this.args.add(element);
+      return (NativeLinkableInput.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link NativeLinkableInput#getArgs() args} list.
+     * @param elements An array of args elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final NativeLinkableInput.Builder addArgs(Arg... elements) {
+      this.args.add(elements);
+      return (NativeLinkableInput.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link NativeLinkableInput#getArgs() args} list.
+     * @param elements An iterable of args elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final NativeLinkableInput.Builder setArgs(Iterable<? extends Arg> elements) {
+      this.args = ImmutableList.builder();
+      return addAllArgs(elements);
+    }
+
+    /**
+     * Adds elements to {@link NativeLinkableInput#getArgs() args} list.
+     * @param elements An iterable of args elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final NativeLinkableInput.Builder addAllArgs(Iterable<? extends Arg> elements) {
+      this.args.addAll(elements);
+      return (NativeLinkableInput.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link NativeLinkableInput#getFrameworks() frameworks} set.
+     * @param element A frameworks element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final NativeLinkableInput.Builder addFrameworks(FrameworkPath element) {
+      this.frameworks.add(element);
+      return (NativeLinkableInput.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link NativeLinkableInput#getFrameworks() frameworks} set.
+     * @param elements An array of frameworks elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final NativeLinkableInput.Builder addFrameworks(FrameworkPath... elements) {
+      this.frameworks.add(elements);
+      return (NativeLinkableInput.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link NativeLinkableInput#getFrameworks() frameworks} set.
+     * @param elements An iterable of frameworks elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final NativeLinkableInput.Builder setFrameworks(Iterable<? extends FrameworkPath> elements) {
+      this.frameworks = ImmutableSet.builder();
+      return addAllFrameworks(elements);
+    }
+
+    /**
+     * Adds elements to {@link NativeLinkableInput#getFrameworks() frameworks} set.
+     * @param elements An iterable of frameworks elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final NativeLinkableInput.Builder addAllFrameworks(Iterable<? extends FrameworkPath> elements) {
+      this.frameworks.addAll(elements);
+      return (NativeLinkableInput.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link NativeLinkableInput#getLibraries() libraries} set.
+     * @param element A libraries element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final NativeLinkableInput.Builder addLibraries(FrameworkPath element) {
+      this.libraries.add(element);
+      return (NativeLinkableInput.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link NativeLinkableInput#getLibraries() libraries} set.
+     * @param elements An array of libraries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final NativeLinkableInput.Builder addLibraries(FrameworkPath... elements) {
+      this.libraries.add(elements);
+      return (NativeLinkableInput.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link NativeLinkableInput#getLibraries() libraries} set.
+     * @param elements An iterable of libraries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final NativeLinkableInput.Builder setLibraries(Iterable<? extends FrameworkPath> elements) {
+      this.libraries = ImmutableSet.builder();
+      return addAllLibraries(elements);
+    }
+
+    /**
+     * Adds elements to {@link NativeLinkableInput#getLibraries() libraries} set.
+     * @param elements An iterable of libraries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final NativeLinkableInput.Builder addAllLibraries(Iterable<? extends FrameworkPath> elements) {
+      this.libraries.addAll(elements);
+      return (NativeLinkableInput.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link NativeLinkableInput NativeLinkableInput}.
+     * @return An immutable instance of NativeLinkableInput
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public NativeLinkableInput build() {
+      return new ImmutableNativeLinkableInput(this);
+    }
+  }
+}
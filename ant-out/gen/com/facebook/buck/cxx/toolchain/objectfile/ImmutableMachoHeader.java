@@ -0,0 +1,99 @@
+package com.facebook.buck.cxx.toolchain.objectfile;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link MachoHeader}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableMachoHeader.of()}.
+ */
+@Generated(from = "MachoHeader", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableMachoHeader extends MachoHeader {
+  private final int commandsCount;
+  private final boolean is64Bit;
+
+  private ImmutableMachoHeader(int commandsCount, boolean is64Bit) {
+    this.commandsCount = commandsCount;
+    this.is64Bit = is64Bit;
+  }
+
+  /**
+   * @return The value of the {@code commandsCount} attribute
+   */
+  @Override
+  int getCommandsCount() {
+    return commandsCount;
+  }
+
+  /**
+   * @return The value of the {@code is64Bit} attribute
+   */
+  @Override
+  boolean getIs64Bit() {
+    return is64Bit;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableMachoHeader} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableMachoHeader
+        && equalTo((ImmutableMachoHeader) another);
+  }
+
+  private boolean equalTo(ImmutableMachoHeader another) {
+    return commandsCount == another.commandsCount
+        && is64Bit == another.is64Bit;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code commandsCount}, {@code is64Bit}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + commandsCount;
+    h += (h << 5) + Booleans.hashCode(is64Bit);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code MachoHeader} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("MachoHeader")
+        .omitNullValues()
+        .add("commandsCount", commandsCount)
+        .add("is64Bit", is64Bit)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code MachoHeader} instance.
+   * @param commandsCount The value for the {@code commandsCount} attribute
+   * @param is64Bit The value for the {@code is64Bit} attribute
+   * @return An immutable MachoHeader instance
+   */
+  public static ImmutableMachoHeader of(int commandsCount, boolean is64Bit) {
+    return new ImmutableMachoHeader(commandsCount, is64Bit);
+  }
+}
@@ -0,0 +1,99 @@
+package com.facebook.buck.doctor;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractReport.UserReport}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableUserReport.of()}.
+ */
+@Generated(from = "AbstractReport.UserReport", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableUserReport implements AbstractReport.UserReport {
+  private final String userIssueDescription;
+  private final String issueCategory;
+
+  private ImmutableUserReport(String userIssueDescription, String issueCategory) {
+    this.userIssueDescription = Objects.requireNonNull(userIssueDescription, "userIssueDescription");
+    this.issueCategory = Objects.requireNonNull(issueCategory, "issueCategory");
+  }
+
+  /**
+   * @return The value of the {@code userIssueDescription} attribute
+   */
+  @Override
+  public String getUserIssueDescription() {
+    return userIssueDescription;
+  }
+
+  /**
+   * @return The value of the {@code issueCategory} attribute
+   */
+  @Override
+  public String getIssueCategory() {
+    return issueCategory;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableUserReport} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableUserReport
+        && equalTo((ImmutableUserReport) another);
+  }
+
+  private boolean equalTo(ImmutableUserReport another) {
+    return userIssueDescription.equals(another.userIssueDescription)
+        && issueCategory.equals(another.issueCategory);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code userIssueDescription}, {@code issueCategory}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + userIssueDescription.hashCode();
+    h += (h << 5) + issueCategory.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code UserReport} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("UserReport")
+        .omitNullValues()
+        .add("userIssueDescription", userIssueDescription)
+        .add("issueCategory", issueCategory)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code UserReport} instance.
+   * @param userIssueDescription The value for the {@code userIssueDescription} attribute
+   * @param issueCategory The value for the {@code issueCategory} attribute
+   * @return An immutable UserReport instance
+   */
+  public static ImmutableUserReport of(String userIssueDescription, String issueCategory) {
+    return new ImmutableUserReport(userIssueDescription, issueCategory);
+  }
+}
@@ -0,0 +1,150 @@
+package com.facebook.buck.doctor.config;
+
+import com.facebook.buck.core.model.BuildId;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link DoctorEndpointRequest}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableDoctorEndpointRequest.of()}.
+ */
+@Generated(from = "DoctorEndpointRequest", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableDoctorEndpointRequest
+    implements DoctorEndpointRequest {
+  private final @Nullable BuildId buildId;
+  private final String logDirPath;
+  private final @Nullable String machineReadableLog;
+  private final @Nullable String endpointMessage;
+  private final @Nullable String reportUrl;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableDoctorEndpointRequest(
+      Optional<? extends BuildId> buildId,
+      String logDirPath,
+      Optional<String> machineReadableLog,
+      Optional<String> endpointMessage,
+      Optional<String> reportUrl) {
+    this.buildId = buildId.orElse(null);
+    this.logDirPath = Objects.requireNonNull(logDirPath, "logDirPath");
+    this.machineReadableLog = machineReadableLog.orElse(null);
+    this.endpointMessage = endpointMessage.orElse(null);
+    this.reportUrl = reportUrl.orElse(null);
+  }
+
+  /**
+   * @return The value of the {@code buildId} attribute
+   */
+  @Override
+  public Optional<BuildId> getBuildId() {
+    return Optional.ofNullable(buildId);
+  }
+
+  /**
+   * @return The value of the {@code logDirPath} attribute
+   */
+  @Override
+  public String getLogDirPath() {
+    return logDirPath;
+  }
+
+  /**
+   * @return The value of the {@code machineReadableLog} attribute
+   */
+  @Override
+  public Optional<String> getMachineReadableLog() {
+    return Optional.ofNullable(machineReadableLog);
+  }
+
+  /**
+   * @return The value of the {@code endpointMessage} attribute
+   */
+  @Override
+  public Optional<String> getEndpointMessage() {
+    return Optional.ofNullable(endpointMessage);
+  }
+
+  /**
+   * @return The value of the {@code reportUrl} attribute
+   */
+  @Override
+  public Optional<String> getReportUrl() {
+    return Optional.ofNullable(reportUrl);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableDoctorEndpointRequest} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableDoctorEndpointRequest
+        && equalTo((ImmutableDoctorEndpointRequest) another);
+  }
+
+  private boolean equalTo(ImmutableDoctorEndpointRequest another) {
+    return Objects.equals(buildId, another.buildId)
+        && logDirPath.equals(another.logDirPath)
+        && Objects.equals(machineReadableLog, another.machineReadableLog)
+        && Objects.equals(endpointMessage, another.endpointMessage)
+        && Objects.equals(reportUrl, another.reportUrl);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buildId}, {@code logDirPath}, {@code machineReadableLog}, {@code endpointMessage}, {@code reportUrl}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(buildId);
+    h += (h << 5) + logDirPath.hashCode();
+    h += (h << 5) + Objects.hashCode(machineReadableLog);
+    h += (h << 5) + Objects.hashCode(endpointMessage);
+    h += (h << 5) + Objects.hashCode(reportUrl);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DoctorEndpointRequest} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DoctorEndpointRequest")
+        .omitNullValues()
+        .add("buildId", buildId)
+        .add("logDirPath", logDirPath)
+        .add("machineReadableLog", machineReadableLog)
+        .add("endpointMessage", endpointMessage)
+        .add("reportUrl", reportUrl)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code DoctorEndpointRequest} instance.
+   * @param buildId The value for the {@code buildId} attribute
+   * @param logDirPath The value for the {@code logDirPath} attribute
+   * @param machineReadableLog The value for the {@code machineReadableLog} attribute
+   * @param endpointMessage The value for the {@code endpointMessage} attribute
+   * @param reportUrl The value for the {@code reportUrl} attribute
+   * @return An immutable DoctorEndpointRequest instance
+   */
+  public static ImmutableDoctorEndpointRequest of(Optional<? extends BuildId> buildId, String logDirPath, Optional<String> machineReadableLog, Optional<String> endpointMessage, Optional<String> reportUrl) {
+    return new ImmutableDoctorEndpointRequest(buildId, logDirPath, machineReadableLog, endpointMessage, reportUrl);
+  }
+}
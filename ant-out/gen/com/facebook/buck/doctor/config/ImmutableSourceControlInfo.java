@@ -0,0 +1,180 @@
+package com.facebook.buck.doctor.config;
+
+import com.facebook.buck.util.versioncontrol.VersionControlSupplier;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.Var;
+import java.io.InputStream;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link SourceControlInfo}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableSourceControlInfo.of()}.
+ */
+@Generated(from = "SourceControlInfo", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableSourceControlInfo implements SourceControlInfo {
+  private final String currentRevisionId;
+  private final ImmutableSet<String> basedOffWhichTracked;
+  private final @Nullable String revisionIdOffTracked;
+  private final @Nullable Long revisionTimestampOffTracked;
+  private final @Nullable VersionControlSupplier<InputStream> diff;
+  private final ImmutableSet<String> dirtyFiles;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableSourceControlInfo(
+      String currentRevisionId,
+      Iterable<String> basedOffWhichTracked,
+      Optional<String> revisionIdOffTracked,
+      Optional<Long> revisionTimestampOffTracked,
+      Optional<? extends VersionControlSupplier<InputStream>> diff,
+      Iterable<String> dirtyFiles) {
+    this.currentRevisionId = Objects.requireNonNull(currentRevisionId, "currentRevisionId");
+    this.basedOffWhichTracked = ImmutableSet.copyOf(basedOffWhichTracked);
+    this.revisionIdOffTracked = revisionIdOffTracked.orElse(null);
+    this.revisionTimestampOffTracked = revisionTimestampOffTracked.orElse(null);
+    this.diff = diff.orElse(null);
+    this.dirtyFiles = ImmutableSet.copyOf(dirtyFiles);
+  }
+
+  /**
+   * @return The value of the {@code currentRevisionId} attribute
+   */
+  @Override
+  public String getCurrentRevisionId() {
+    return currentRevisionId;
+  }
+
+  /**
+   * @return The value of the {@code basedOffWhichTracked} attribute
+   */
+  @Override
+  public ImmutableSet<String> getBasedOffWhichTracked() {
+    return basedOffWhichTracked;
+  }
+
+  /**
+   * @return The value of the {@code revisionIdOffTracked} attribute
+   */
+  @Override
+  public Optional<String> getRevisionIdOffTracked() {
+    return Optional.ofNullable(revisionIdOffTracked);
+  }
+
+  /**
+   * @return The value of the {@code revisionTimestampOffTracked} attribute
+   */
+  @Override
+  public Optional<Long> getRevisionTimestampOffTracked() {
+    return Optional.ofNullable(revisionTimestampOffTracked);
+  }
+
+  /**
+   * @return The value of the {@code diff} attribute
+   */
+  @Override
+  public Optional<VersionControlSupplier<InputStream>> getDiff() {
+    return Optional.ofNullable(diff);
+  }
+
+  /**
+   * @return The value of the {@code dirtyFiles} attribute
+   */
+  @Override
+  public ImmutableSet<String> getDirtyFiles() {
+    return dirtyFiles;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableSourceControlInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableSourceControlInfo
+        && equalTo((ImmutableSourceControlInfo) another);
+  }
+
+  private boolean equalTo(ImmutableSourceControlInfo another) {
+    return currentRevisionId.equals(another.currentRevisionId)
+        && basedOffWhichTracked.equals(another.basedOffWhichTracked)
+        && Objects.equals(revisionIdOffTracked, another.revisionIdOffTracked)
+        && Objects.equals(revisionTimestampOffTracked, another.revisionTimestampOffTracked)
+        && Objects.equals(diff, another.diff)
+        && dirtyFiles.equals(another.dirtyFiles);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code currentRevisionId}, {@code basedOffWhichTracked}, {@code revisionIdOffTracked}, {@code revisionTimestampOffTracked}, {@code diff}, {@code dirtyFiles}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + currentRevisionId.hashCode();
+    h += (h << 5) + basedOffWhichTracked.hashCode();
+    h += (h << 5) + Objects.hashCode(revisionIdOffTracked);
+    h += (h << 5) + Objects.hashCode(revisionTimestampOffTracked);
+    h += (h << 5) + Objects.hashCode(diff);
+    h += (h << 5) + dirtyFiles.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code SourceControlInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SourceControlInfo")
+        .omitNullValues()
+        .add("currentRevisionId", currentRevisionId)
+        .add("basedOffWhichTracked", basedOffWhichTracked)
+        .add("revisionIdOffTracked", revisionIdOffTracked)
+        .add("revisionTimestampOffTracked", revisionTimestampOffTracked)
+        .add("diff", diff)
+        .add("dirtyFiles", dirtyFiles)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code SourceControlInfo} instance.
+   * @param currentRevisionId The value for the {@code currentRevisionId} attribute
+   * @param basedOffWhichTracked The value for the {@code basedOffWhichTracked} attribute
+   * @param revisionIdOffTracked The value for the {@code revisionIdOffTracked} attribute
+   * @param revisionTimestampOffTracked The value for the {@code revisionTimestampOffTracked} attribute
+   * @param diff The value for the {@code diff} attribute
+   * @param dirtyFiles The value for the {@code dirtyFiles} attribute
+   * @return An immutable SourceControlInfo instance
+   */
+  public static ImmutableSourceControlInfo of(String currentRevisionId, ImmutableSet<String> basedOffWhichTracked, Optional<String> revisionIdOffTracked, Optional<Long> revisionTimestampOffTracked, Optional<VersionControlSupplier<InputStream>> diff, ImmutableSet<String> dirtyFiles) {
+    return of(currentRevisionId, (Iterable<String>) basedOffWhichTracked, revisionIdOffTracked, revisionTimestampOffTracked, diff, (Iterable<String>) dirtyFiles);
+  }
+
+  /**
+   * Construct a new immutable {@code SourceControlInfo} instance.
+   * @param currentRevisionId The value for the {@code currentRevisionId} attribute
+   * @param basedOffWhichTracked The value for the {@code basedOffWhichTracked} attribute
+   * @param revisionIdOffTracked The value for the {@code revisionIdOffTracked} attribute
+   * @param revisionTimestampOffTracked The value for the {@code revisionTimestampOffTracked} attribute
+   * @param diff The value for the {@code diff} attribute
+   * @param dirtyFiles The value for the {@code dirtyFiles} attribute
+   * @return An immutable SourceControlInfo instance
+   */
+  public static ImmutableSourceControlInfo of(String currentRevisionId, Iterable<String> basedOffWhichTracked, Optional<String> revisionIdOffTracked, Optional<Long> revisionTimestampOffTracked, Optional<? extends VersionControlSupplier<InputStream>> diff, Iterable<String> dirtyFiles) {
+    return new ImmutableSourceControlInfo(currentRevisionId, basedOffWhichTracked, revisionIdOffTracked, revisionTimestampOffTracked, diff, dirtyFiles);
+  }
+}
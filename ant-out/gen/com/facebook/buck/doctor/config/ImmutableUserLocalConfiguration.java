@@ -0,0 +1,120 @@
+package com.facebook.buck.doctor.config;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Map;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link UserLocalConfiguration}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableUserLocalConfiguration.of()}.
+ */
+@Generated(from = "UserLocalConfiguration", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableUserLocalConfiguration
+    implements UserLocalConfiguration {
+  private final boolean noBuckCheckPresent;
+  private final ImmutableMap<Path, String> localConfigsContents;
+  private final ImmutableMap<String, String> configOverrides;
+
+  private ImmutableUserLocalConfiguration(
+      boolean noBuckCheckPresent,
+      Map<? extends Path, ? extends String> localConfigsContents,
+      Map<String, ? extends String> configOverrides) {
+    this.noBuckCheckPresent = noBuckCheckPresent;
+    this.localConfigsContents = ImmutableMap.copyOf(localConfigsContents);
+    this.configOverrides = ImmutableMap.copyOf(configOverrides);
+  }
+
+  /**
+   * @return The value of the {@code noBuckCheckPresent} attribute
+   */
+  @Override
+  public boolean isNoBuckCheckPresent() {
+    return noBuckCheckPresent;
+  }
+
+  /**
+   * @return The value of the {@code localConfigsContents} attribute
+   */
+  @Override
+  public ImmutableMap<Path, String> getLocalConfigsContents() {
+    return localConfigsContents;
+  }
+
+  /**
+   * @return The value of the {@code configOverrides} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getConfigOverrides() {
+    return configOverrides;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableUserLocalConfiguration} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableUserLocalConfiguration
+        && equalTo((ImmutableUserLocalConfiguration) another);
+  }
+
+  private boolean equalTo(ImmutableUserLocalConfiguration another) {
+    return noBuckCheckPresent == another.noBuckCheckPresent
+        && localConfigsContents.equals(another.localConfigsContents)
+        && configOverrides.equals(another.configOverrides);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code noBuckCheckPresent}, {@code localConfigsContents}, {@code configOverrides}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Booleans.hashCode(noBuckCheckPresent);
+    h += (h << 5) + localConfigsContents.hashCode();
+    h += (h << 5) + configOverrides.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code UserLocalConfiguration} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("UserLocalConfiguration")
+        .omitNullValues()
+        .add("noBuckCheckPresent", noBuckCheckPresent)
+        .add("localConfigsContents", localConfigsContents)
+        .add("configOverrides", configOverrides)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code UserLocalConfiguration} instance.
+   * @param noBuckCheckPresent The value for the {@code noBuckCheckPresent} attribute
+   * @param localConfigsContents The value for the {@code localConfigsContents} attribute
+   * @param configOverrides The value for the {@code configOverrides} attribute
+   * @return An immutable UserLocalConfiguration instance
+   */
+  public static ImmutableUserLocalConfiguration of(boolean noBuckCheckPresent, Map<? extends Path, ? extends String> localConfigsContents, Map<String, ? extends String> configOverrides) {
+    return new ImmutableUserLocalConfiguration(noBuckCheckPresent, localConfigsContents, configOverrides);
+  }
+}
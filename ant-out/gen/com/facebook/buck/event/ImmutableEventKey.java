@@ -0,0 +1,85 @@
+package com.facebook.buck.event;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Longs;
+import com.google.errorprone.annotations.Var;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link EventKey}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableEventKey.of()}.
+ */
+@Generated(from = "EventKey", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableEventKey extends EventKey {
+  private final long value;
+
+  private ImmutableEventKey(long value) {
+    this.value = value;
+  }
+
+  /**
+   * @return The value of the {@code value} attribute
+   */
+  @Override
+  public long getValue() {
+    return value;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableEventKey} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableEventKey
+        && equalTo((ImmutableEventKey) another);
+  }
+
+  private boolean equalTo(ImmutableEventKey another) {
+    return value == another.value;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code value}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Longs.hashCode(value);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code EventKey} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("EventKey")
+        .omitNullValues()
+        .add("value", value)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code EventKey} instance.
+   * @param value The value for the {@code value} attribute
+   * @return An immutable EventKey instance
+   */
+  public static ImmutableEventKey of(long value) {
+    return new ImmutableEventKey(value);
+  }
+}
@@ -0,0 +1,382 @@
+package com.facebook.buck.event;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.Multimap;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ScubaData}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new ScubaData.Builder()}.
+ */
+@Generated(from = "ScubaData", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableScubaData extends ScubaData {
+  private final ImmutableMap<String, Long> ints;
+  private final ImmutableMap<String, String> normals;
+  private final ImmutableSetMultimap<String, String> tags;
+
+  private ImmutableScubaData(ImmutableScubaData.Builder builder) {
+    this.ints = builder.ints.build();
+    this.normals = builder.normals.build();
+    this.tags = builder.tags.build();
+  }
+
+  /**
+   * @return The value of the {@code ints} attribute
+   */
+  @JsonProperty
+  @Override
+  public ImmutableMap<String, Long> getInts() {
+    return ints;
+  }
+
+  /**
+   * @return The value of the {@code normals} attribute
+   */
+  @JsonProperty
+  @Override
+  public ImmutableMap<String, String> getNormals() {
+    return normals;
+  }
+
+  /**
+   * @return The value of the {@code tags} attribute
+   */
+  @JsonProperty
+  @Override
+  public ImmutableSetMultimap<String, String> getTags() {
+    return tags;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableScubaData} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableScubaData
+        && equalTo((ImmutableScubaData) another);
+  }
+
+  private boolean equalTo(ImmutableScubaData another) {
+    return ints.equals(another.ints)
+        && normals.equals(another.normals)
+        && tags.equals(another.tags);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code ints}, {@code normals}, {@code tags}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + ints.hashCode();
+    h += (h << 5) + normals.hashCode();
+    h += (h << 5) + tags.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ScubaData} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ScubaData")
+        .omitNullValues()
+        .add("ints", ints)
+        .add("normals", normals)
+        .add("tags", tags)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "ScubaData", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends ScubaData {
+    @Nullable ImmutableMap<String, Long> ints = ImmutableMap.of();
+    @Nullable ImmutableMap<String, String> normals = ImmutableMap.of();
+    @Nullable ImmutableSetMultimap<String, String> tags = ImmutableSetMultimap.of();
+    @JsonProperty
+    public void setInts(ImmutableMap<String, Long> ints) {
+      this.ints = ints;
+    }
+    @JsonProperty
+    public void setNormals(ImmutableMap<String, String> normals) {
+      this.normals = normals;
+    }
+    @JsonProperty
+    public void setTags(ImmutableSetMultimap<String, String> tags) {
+      this.tags = tags;
+    }
+    @Override
+    public ImmutableMap<String, Long> getInts() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableMap<String, String> getNormals() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableSetMultimap<String, String> getTags() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ImmutableScubaData fromJson(Json json) {
+    ScubaData.Builder builder = new ScubaData.Builder();
+    if (json.ints != null) {
+      builder.putAllInts(json.ints);
+    }
+    if (json.normals != null) {
+      builder.putAllNormals(json.normals);
+    }
+    if (json.tags != null) {
+      builder.putAllTags(json.tags);
+    }
+    return (ImmutableScubaData) builder.build();
+  }
+
+  /**
+   * Builds instances of type {@link ScubaData ScubaData}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "ScubaData", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private ImmutableMap.Builder<String, Long> ints = ImmutableMap.builder();
+    private ImmutableMap.Builder<String, String> normals = ImmutableMap.builder();
+    private ImmutableSetMultimap.Builder<String, String> tags = ImmutableSetMultimap.builder();
+
+    /**
+     * Creates a builder for {@link ScubaData ScubaData} instances.
+     */
+    public Builder() {
+      if (!(this instanceof ScubaData.Builder)) {
+        throw new UnsupportedOperationException("Use: new ScubaData.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ScubaData} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ScubaData.Builder from(ScubaData instance) {
+      Objects.requireNonNull(instance, "instance");
+      putAllInts(instance.getInts());
+      putAllNormals(instance.getNormals());
+      putAllTags(instance.getTags());
+      return (ScubaData.Builder) this;
+    }
+
+    /**
+     * Put one entry to the {@link ScubaData#getInts() ints} map.
+     * @param key The key in the ints map
+     * @param value The associated value in the ints map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ScubaData.Builder putInts(String key, long value) {
+      this.ints.put(key, value);
+      return (ScubaData.Builder) this;
+    }
+
+    /**
+     * Put one entry to the {@link ScubaData#getInts() ints} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ScubaData.Builder putInts(Map.Entry<String, ? extends Long> entry) {
+      this.ints.put(entry);
+      return (ScubaData.Builder) this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link ScubaData#getInts() ints} map. Nulls are not permitted
+     * @param entries The entries that will be added to the ints map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @JsonProperty
+    public final ScubaData.Builder setInts(Map<String, ? extends Long> entries) {
+      this.ints = ImmutableMap.builder();
+      return putAllInts(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link ScubaData#getInts() ints} map. Nulls are not permitted
+     * @param entries The entries that will be added to the ints map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ScubaData.Builder putAllInts(Map<String, ? extends Long> entries) {
+      this.ints.putAll(entries);
+      return (ScubaData.Builder) this;
+    }
+
+    /**
+     * Put one entry to the {@link ScubaData#getNormals() normals} map.
+     * @param key The key in the normals map
+     * @param value The associated value in the normals map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ScubaData.Builder putNormals(String key, String value) {
+      this.normals.put(key, value);
+      return (ScubaData.Builder) this;
+    }
+
+    /**
+     * Put one entry to the {@link ScubaData#getNormals() normals} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ScubaData.Builder putNormals(Map.Entry<String, ? extends String> entry) {
+      this.normals.put(entry);
+      return (ScubaData.Builder) this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link ScubaData#getNormals() normals} map. Nulls are not permitted
+     * @param entries The entries that will be added to the normals map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @JsonProperty
+    public final ScubaData.Builder setNormals(Map<String, ? extends String> entries) {
+      this.normals = ImmutableMap.builder();
+      return putAllNormals(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link ScubaData#getNormals() normals} map. Nulls are not permitted
+     * @param entries The entries that will be added to the normals map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ScubaData.Builder putAllNormals(Map<String, ? extends String> entries) {
+      this.normals.putAll(entries);
+      return (ScubaData.Builder) this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link ScubaData#getTags() tags} true. Nulls are not permitted
+     * @param key The key for tags
+     * @param values The values for tags
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ScubaData.Builder putTags(String key, String... values) {
+      this.tags.putAll(key, Arrays.asList(values));
+      return (ScubaData.Builder) this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link ScubaData#getTags() tags} true. Nulls are not permitted
+     * @param key The key for tags
+     * @param values The values for tags
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ScubaData.Builder putAllTags(String key, Iterable<String> values) {
+      this.tags.putAll(key, values);
+      return (ScubaData.Builder) this;
+    }
+
+    /**
+     * Put one entry to the {@link ScubaData#getTags() tags} map.
+     * @param key The key in the tags map
+     * @param value The associated value in the tags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ScubaData.Builder putTags(String key, String value) {
+      this.tags.put(key, value);
+      return (ScubaData.Builder) this;
+    }
+
+    /**
+     * Put one entry to the {@link ScubaData#getTags() tags} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ScubaData.Builder putTags(Map.Entry<String, ? extends String> entry) {
+      this.tags.put(entry);
+      return (ScubaData.Builder) this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link ScubaData#getTags() tags} map. Nulls are not permitted
+     * @param entries The entries that will be added to the tags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @JsonProperty
+    public final ScubaData.Builder setTags(Multimap<String, ? extends String> entries) {
+      this.tags = ImmutableSetMultimap.builder();
+      return putAllTags(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link ScubaData#getTags() tags} map. Nulls are not permitted
+     * @param entries The entries that will be added to the tags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ScubaData.Builder putAllTags(Multimap<String, ? extends String> entries) {
+      this.tags.putAll(entries);
+      return (ScubaData.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link ScubaData ScubaData}.
+     * @return An immutable instance of ScubaData
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ScubaData build() {
+      return new ImmutableScubaData(this);
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package com.facebook.buck.event.listener;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Longs;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CriticalPathEventListener.CriticalPathNode}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCriticalPathNode.of()}.
+ */
+@Generated(from = "CriticalPathEventListener.CriticalPathNode", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCriticalPathNode
+    implements CriticalPathEventListener.CriticalPathNode {
+  private final long totalElapsedTimeMs;
+  private final @Nullable String type;
+  private final @Nullable BuildTarget previousNode;
+  private final CriticalPathEventListener.ExecutionTimeInfo executionTimeInfo;
+
+  private ImmutableCriticalPathNode(
+      long totalElapsedTimeMs,
+      @Nullable String type,
+      @Nullable BuildTarget previousNode,
+      CriticalPathEventListener.ExecutionTimeInfo executionTimeInfo) {
+    this.totalElapsedTimeMs = totalElapsedTimeMs;
+    this.type = type;
+    this.previousNode = previousNode;
+    this.executionTimeInfo = Objects.requireNonNull(executionTimeInfo, "executionTimeInfo");
+  }
+
+  /**
+   * @return The value of the {@code totalElapsedTimeMs} attribute
+   */
+  @Override
+  public long getTotalElapsedTimeMs() {
+    return totalElapsedTimeMs;
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public @Nullable String getType() {
+    return type;
+  }
+
+  /**
+   * @return The value of the {@code previousNode} attribute
+   */
+  @Override
+  public @Nullable BuildTarget getPreviousNode() {
+    return previousNode;
+  }
+
+  /**
+   * @return The value of the {@code executionTimeInfo} attribute
+   */
+  @Override
+  public CriticalPathEventListener.ExecutionTimeInfo getExecutionTimeInfo() {
+    return executionTimeInfo;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCriticalPathNode} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCriticalPathNode
+        && equalTo((ImmutableCriticalPathNode) another);
+  }
+
+  private boolean equalTo(ImmutableCriticalPathNode another) {
+    return totalElapsedTimeMs == another.totalElapsedTimeMs
+        && Objects.equals(type, another.type)
+        && Objects.equals(previousNode, another.previousNode)
+        && executionTimeInfo.equals(another.executionTimeInfo);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code totalElapsedTimeMs}, {@code type}, {@code previousNode}, {@code executionTimeInfo}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Longs.hashCode(totalElapsedTimeMs);
+    h += (h << 5) + Objects.hashCode(type);
+    h += (h << 5) + Objects.hashCode(previousNode);
+    h += (h << 5) + executionTimeInfo.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CriticalPathNode} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CriticalPathNode")
+        .omitNullValues()
+        .add("totalElapsedTimeMs", totalElapsedTimeMs)
+        .add("type", type)
+        .add("previousNode", previousNode)
+        .add("executionTimeInfo", executionTimeInfo)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CriticalPathNode} instance.
+   * @param totalElapsedTimeMs The value for the {@code totalElapsedTimeMs} attribute
+   * @param type The value for the {@code type} attribute
+   * @param previousNode The value for the {@code previousNode} attribute
+   * @param executionTimeInfo The value for the {@code executionTimeInfo} attribute
+   * @return An immutable CriticalPathNode instance
+   */
+  public static ImmutableCriticalPathNode of(long totalElapsedTimeMs, @Nullable String type, @Nullable BuildTarget previousNode, CriticalPathEventListener.ExecutionTimeInfo executionTimeInfo) {
+    return new ImmutableCriticalPathNode(totalElapsedTimeMs, type, previousNode, executionTimeInfo);
+  }
+}
@@ -0,0 +1,100 @@
+package com.facebook.buck.event.listener;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Longs;
+import com.google.errorprone.annotations.Var;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CriticalPathEventListener.ExecutionTimeInfo}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableExecutionTimeInfo.of()}.
+ */
+@Generated(from = "CriticalPathEventListener.ExecutionTimeInfo", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableExecutionTimeInfo
+    implements CriticalPathEventListener.ExecutionTimeInfo {
+  private final long executionDurationMs;
+  private final long eventNanoTime;
+
+  private ImmutableExecutionTimeInfo(long executionDurationMs, long eventNanoTime) {
+    this.executionDurationMs = executionDurationMs;
+    this.eventNanoTime = eventNanoTime;
+  }
+
+  /**
+   * @return The value of the {@code executionDurationMs} attribute
+   */
+  @Override
+  public long getExecutionDurationMs() {
+    return executionDurationMs;
+  }
+
+  /**
+   * @return The value of the {@code eventNanoTime} attribute
+   */
+  @Override
+  public long getEventNanoTime() {
+    return eventNanoTime;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableExecutionTimeInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableExecutionTimeInfo
+        && equalTo((ImmutableExecutionTimeInfo) another);
+  }
+
+  private boolean equalTo(ImmutableExecutionTimeInfo another) {
+    return executionDurationMs == another.executionDurationMs
+        && eventNanoTime == another.eventNanoTime;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code executionDurationMs}, {@code eventNanoTime}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Longs.hashCode(executionDurationMs);
+    h += (h << 5) + Longs.hashCode(eventNanoTime);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ExecutionTimeInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ExecutionTimeInfo")
+        .omitNullValues()
+        .add("executionDurationMs", executionDurationMs)
+        .add("eventNanoTime", eventNanoTime)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ExecutionTimeInfo} instance.
+   * @param executionDurationMs The value for the {@code executionDurationMs} attribute
+   * @param eventNanoTime The value for the {@code eventNanoTime} attribute
+   * @return An immutable ExecutionTimeInfo instance
+   */
+  public static ImmutableExecutionTimeInfo of(long executionDurationMs, long eventNanoTime) {
+    return new ImmutableExecutionTimeInfo(executionDurationMs, eventNanoTime);
+  }
+}
@@ -0,0 +1,103 @@
+package com.facebook.buck.event.listener;
+
+import com.facebook.buck.util.network.BatchingLogger;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link HttpArtifactCacheEventListener.HttpArtifactCacheEventListenerCloseArgs}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableHttpArtifactCacheEventListenerCloseArgs.of()}.
+ */
+@Generated(from = "HttpArtifactCacheEventListener.HttpArtifactCacheEventListenerCloseArgs", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableHttpArtifactCacheEventListenerCloseArgs
+    extends HttpArtifactCacheEventListener.HttpArtifactCacheEventListenerCloseArgs {
+  private final BatchingLogger fetchRequestLogger;
+  private final BatchingLogger storeRequestLogger;
+
+  private ImmutableHttpArtifactCacheEventListenerCloseArgs(
+      BatchingLogger fetchRequestLogger,
+      BatchingLogger storeRequestLogger) {
+    this.fetchRequestLogger = Objects.requireNonNull(fetchRequestLogger, "fetchRequestLogger");
+    this.storeRequestLogger = Objects.requireNonNull(storeRequestLogger, "storeRequestLogger");
+  }
+
+  /**
+   * @return The value of the {@code fetchRequestLogger} attribute
+   */
+  @Override
+  public BatchingLogger getFetchRequestLogger() {
+    return fetchRequestLogger;
+  }
+
+  /**
+   * @return The value of the {@code storeRequestLogger} attribute
+   */
+  @Override
+  public BatchingLogger getStoreRequestLogger() {
+    return storeRequestLogger;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableHttpArtifactCacheEventListenerCloseArgs} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableHttpArtifactCacheEventListenerCloseArgs
+        && equalTo((ImmutableHttpArtifactCacheEventListenerCloseArgs) another);
+  }
+
+  private boolean equalTo(ImmutableHttpArtifactCacheEventListenerCloseArgs another) {
+    return fetchRequestLogger.equals(another.fetchRequestLogger)
+        && storeRequestLogger.equals(another.storeRequestLogger);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code fetchRequestLogger}, {@code storeRequestLogger}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + fetchRequestLogger.hashCode();
+    h += (h << 5) + storeRequestLogger.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code HttpArtifactCacheEventListenerCloseArgs} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("HttpArtifactCacheEventListenerCloseArgs")
+        .omitNullValues()
+        .add("fetchRequestLogger", fetchRequestLogger)
+        .add("storeRequestLogger", storeRequestLogger)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code HttpArtifactCacheEventListenerCloseArgs} instance.
+   * @param fetchRequestLogger The value for the {@code fetchRequestLogger} attribute
+   * @param storeRequestLogger The value for the {@code storeRequestLogger} attribute
+   * @return An immutable HttpArtifactCacheEventListenerCloseArgs instance
+   */
+  public static ImmutableHttpArtifactCacheEventListenerCloseArgs of(BatchingLogger fetchRequestLogger, BatchingLogger storeRequestLogger) {
+    return new ImmutableHttpArtifactCacheEventListenerCloseArgs(fetchRequestLogger, storeRequestLogger);
+  }
+}
@@ -0,0 +1,135 @@
+package com.facebook.buck.event.listener;
+
+import com.facebook.buck.core.model.BuildId;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link LogUploaderListener.LogUploaderListenerCloseArgs}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableLogUploaderListenerCloseArgs.of()}.
+ */
+@Generated(from = "LogUploaderListener.LogUploaderListenerCloseArgs", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableLogUploaderListenerCloseArgs
+    extends LogUploaderListener.LogUploaderListenerCloseArgs {
+  private final URI traceUploadURI;
+  private final Path logDirectoryPath;
+  private final Path logFilePath;
+  private final BuildId buildId;
+
+  private ImmutableLogUploaderListenerCloseArgs(
+      URI traceUploadURI,
+      Path logDirectoryPath,
+      Path logFilePath,
+      BuildId buildId) {
+    this.traceUploadURI = Objects.requireNonNull(traceUploadURI, "traceUploadURI");
+    this.logDirectoryPath = Objects.requireNonNull(logDirectoryPath, "logDirectoryPath");
+    this.logFilePath = Objects.requireNonNull(logFilePath, "logFilePath");
+    this.buildId = Objects.requireNonNull(buildId, "buildId");
+  }
+
+  /**
+   * @return The value of the {@code traceUploadURI} attribute
+   */
+  @Override
+  public URI getTraceUploadURI() {
+    return traceUploadURI;
+  }
+
+  /**
+   * @return The value of the {@code logDirectoryPath} attribute
+   */
+  @Override
+  public Path getLogDirectoryPath() {
+    return logDirectoryPath;
+  }
+
+  /**
+   * @return The value of the {@code logFilePath} attribute
+   */
+  @Override
+  public Path getLogFilePath() {
+    return logFilePath;
+  }
+
+  /**
+   * @return The value of the {@code buildId} attribute
+   */
+  @Override
+  public BuildId getBuildId() {
+    return buildId;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableLogUploaderListenerCloseArgs} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableLogUploaderListenerCloseArgs
+        && equalTo((ImmutableLogUploaderListenerCloseArgs) another);
+  }
+
+  private boolean equalTo(ImmutableLogUploaderListenerCloseArgs another) {
+    return traceUploadURI.equals(another.traceUploadURI)
+        && logDirectoryPath.equals(another.logDirectoryPath)
+        && logFilePath.equals(another.logFilePath)
+        && buildId.equals(another.buildId);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code traceUploadURI}, {@code logDirectoryPath}, {@code logFilePath}, {@code buildId}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + traceUploadURI.hashCode();
+    h += (h << 5) + logDirectoryPath.hashCode();
+    h += (h << 5) + logFilePath.hashCode();
+    h += (h << 5) + buildId.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code LogUploaderListenerCloseArgs} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("LogUploaderListenerCloseArgs")
+        .omitNullValues()
+        .add("traceUploadURI", traceUploadURI)
+        .add("logDirectoryPath", logDirectoryPath)
+        .add("logFilePath", logFilePath)
+        .add("buildId", buildId)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code LogUploaderListenerCloseArgs} instance.
+   * @param traceUploadURI The value for the {@code traceUploadURI} attribute
+   * @param logDirectoryPath The value for the {@code logDirectoryPath} attribute
+   * @param logFilePath The value for the {@code logFilePath} attribute
+   * @param buildId The value for the {@code buildId} attribute
+   * @return An immutable LogUploaderListenerCloseArgs instance
+   */
+  public static ImmutableLogUploaderListenerCloseArgs of(URI traceUploadURI, Path logDirectoryPath, Path logFilePath, BuildId buildId) {
+    return new ImmutableLogUploaderListenerCloseArgs(traceUploadURI, logDirectoryPath, logFilePath, buildId);
+  }
+}
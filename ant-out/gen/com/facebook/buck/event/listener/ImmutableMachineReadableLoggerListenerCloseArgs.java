@@ -0,0 +1,168 @@
+package com.facebook.buck.event.listener;
+
+import com.facebook.buck.core.model.BuildId;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link MachineReadableLoggerListener.MachineReadableLoggerListenerCloseArgs}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableMachineReadableLoggerListenerCloseArgs.of()}.
+ */
+@Generated(from = "MachineReadableLoggerListener.MachineReadableLoggerListenerCloseArgs", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableMachineReadableLoggerListenerCloseArgs
+    extends MachineReadableLoggerListener.MachineReadableLoggerListenerCloseArgs {
+  private final ExecutorService executor;
+  private final Path machineReadableLogFilePath;
+  private final @Nullable URI traceUploadURI;
+  private final Path logDirectoryPath;
+  private final Path logFilePath;
+  private final BuildId buildId;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableMachineReadableLoggerListenerCloseArgs(
+      ExecutorService executor,
+      Path machineReadableLogFilePath,
+      Optional<? extends URI> traceUploadURI,
+      Path logDirectoryPath,
+      Path logFilePath,
+      BuildId buildId) {
+    this.executor = Objects.requireNonNull(executor, "executor");
+    this.machineReadableLogFilePath = Objects.requireNonNull(machineReadableLogFilePath, "machineReadableLogFilePath");
+    this.traceUploadURI = traceUploadURI.orElse(null);
+    this.logDirectoryPath = Objects.requireNonNull(logDirectoryPath, "logDirectoryPath");
+    this.logFilePath = Objects.requireNonNull(logFilePath, "logFilePath");
+    this.buildId = Objects.requireNonNull(buildId, "buildId");
+  }
+
+  /**
+   * @return The value of the {@code executor} attribute
+   */
+  @Override
+  public ExecutorService getExecutor() {
+    return executor;
+  }
+
+  /**
+   * @return The value of the {@code machineReadableLogFilePath} attribute
+   */
+  @Override
+  public Path getMachineReadableLogFilePath() {
+    return machineReadableLogFilePath;
+  }
+
+  /**
+   * @return The value of the {@code traceUploadURI} attribute
+   */
+  @Override
+  public Optional<URI> getTraceUploadURI() {
+    return Optional.ofNullable(traceUploadURI);
+  }
+
+  /**
+   * @return The value of the {@code logDirectoryPath} attribute
+   */
+  @Override
+  public Path getLogDirectoryPath() {
+    return logDirectoryPath;
+  }
+
+  /**
+   * @return The value of the {@code logFilePath} attribute
+   */
+  @Override
+  public Path getLogFilePath() {
+    return logFilePath;
+  }
+
+  /**
+   * @return The value of the {@code buildId} attribute
+   */
+  @Override
+  public BuildId getBuildId() {
+    return buildId;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableMachineReadableLoggerListenerCloseArgs} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableMachineReadableLoggerListenerCloseArgs
+        && equalTo((ImmutableMachineReadableLoggerListenerCloseArgs) another);
+  }
+
+  private boolean equalTo(ImmutableMachineReadableLoggerListenerCloseArgs another) {
+    return executor.equals(another.executor)
+        && machineReadableLogFilePath.equals(another.machineReadableLogFilePath)
+        && Objects.equals(traceUploadURI, another.traceUploadURI)
+        && logDirectoryPath.equals(another.logDirectoryPath)
+        && logFilePath.equals(another.logFilePath)
+        && buildId.equals(another.buildId);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code executor}, {@code machineReadableLogFilePath}, {@code traceUploadURI}, {@code logDirectoryPath}, {@code logFilePath}, {@code buildId}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + executor.hashCode();
+    h += (h << 5) + machineReadableLogFilePath.hashCode();
+    h += (h << 5) + Objects.hashCode(traceUploadURI);
+    h += (h << 5) + logDirectoryPath.hashCode();
+    h += (h << 5) + logFilePath.hashCode();
+    h += (h << 5) + buildId.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code MachineReadableLoggerListenerCloseArgs} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("MachineReadableLoggerListenerCloseArgs")
+        .omitNullValues()
+        .add("executor", executor)
+        .add("machineReadableLogFilePath", machineReadableLogFilePath)
+        .add("traceUploadURI", traceUploadURI)
+        .add("logDirectoryPath", logDirectoryPath)
+        .add("logFilePath", logFilePath)
+        .add("buildId", buildId)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code MachineReadableLoggerListenerCloseArgs} instance.
+   * @param executor The value for the {@code executor} attribute
+   * @param machineReadableLogFilePath The value for the {@code machineReadableLogFilePath} attribute
+   * @param traceUploadURI The value for the {@code traceUploadURI} attribute
+   * @param logDirectoryPath The value for the {@code logDirectoryPath} attribute
+   * @param logFilePath The value for the {@code logFilePath} attribute
+   * @param buildId The value for the {@code buildId} attribute
+   * @return An immutable MachineReadableLoggerListenerCloseArgs instance
+   */
+  public static ImmutableMachineReadableLoggerListenerCloseArgs of(ExecutorService executor, Path machineReadableLogFilePath, Optional<? extends URI> traceUploadURI, Path logDirectoryPath, Path logFilePath, BuildId buildId) {
+    return new ImmutableMachineReadableLoggerListenerCloseArgs(executor, machineReadableLogFilePath, traceUploadURI, logDirectoryPath, logFilePath, buildId);
+  }
+}
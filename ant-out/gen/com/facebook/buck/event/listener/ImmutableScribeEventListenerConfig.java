@@ -0,0 +1,190 @@
+package com.facebook.buck.event.listener;
+
+import com.facebook.buck.core.config.BuckConfig;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ScribeEventListenerConfig}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableScribeEventListenerConfig.of()}.
+ */
+@Generated(from = "ScribeEventListenerConfig", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableScribeEventListenerConfig
+    extends ScribeEventListenerConfig {
+  private final BuckConfig delegate;
+
+  private ImmutableScribeEventListenerConfig(BuckConfig delegate) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate");
+  }
+
+  /**
+   * @return The value of the {@code delegate} attribute
+   */
+  @Override
+  public BuckConfig getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableScribeEventListenerConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableScribeEventListenerConfig
+        && equalTo((ImmutableScribeEventListenerConfig) another);
+  }
+
+  private boolean equalTo(ImmutableScribeEventListenerConfig another) {
+    return delegate.equals(another.delegate);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code delegate}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + delegate.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ScribeEventListenerConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ScribeEventListenerConfig")
+        .omitNullValues()
+        .add("delegate", delegate)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long ENABLED_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean enabled;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ScribeEventListenerConfig#getEnabled() enabled} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code enabled} attribute
+   */
+  @Override
+  public boolean getEnabled() {
+    if ((lazyInitBitmap & ENABLED_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & ENABLED_LAZY_INIT_BIT) == 0) {
+          this.enabled = super.getEnabled();
+          lazyInitBitmap |= ENABLED_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return enabled;
+  }
+
+  private static final long CATEGORY_LAZY_INIT_BIT = 0x2L;
+
+  @SuppressWarnings("Immutable")
+  private transient String category;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ScribeEventListenerConfig#getCategory() category} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code category} attribute
+   */
+  @Override
+  public String getCategory() {
+    if ((lazyInitBitmap & CATEGORY_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & CATEGORY_LAZY_INIT_BIT) == 0) {
+          this.category = Objects.requireNonNull(super.getCategory(), "category");
+          lazyInitBitmap |= CATEGORY_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return category;
+  }
+
+  private static final long EVENTS_LAZY_INIT_BIT = 0x4L;
+
+  @SuppressWarnings("Immutable")
+  private transient Iterable<String> events;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ScribeEventListenerConfig#getEvents() events} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code events} attribute
+   */
+  @Override
+  public Iterable<String> getEvents() {
+    if ((lazyInitBitmap & EVENTS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & EVENTS_LAZY_INIT_BIT) == 0) {
+          this.events = Objects.requireNonNull(super.getEvents(), "events");
+          lazyInitBitmap |= EVENTS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return events;
+  }
+
+  private static final long ENABLED_BUILD_RULE_FINISHED_STATUSES_LAZY_INIT_BIT = 0x8L;
+
+  @SuppressWarnings("Immutable")
+  private transient Iterable<String> enabledBuildRuleFinishedStatuses;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ScribeEventListenerConfig#getEnabledBuildRuleFinishedStatuses() enabledBuildRuleFinishedStatuses} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code enabledBuildRuleFinishedStatuses} attribute
+   */
+  @Override
+  public Iterable<String> getEnabledBuildRuleFinishedStatuses() {
+    if ((lazyInitBitmap & ENABLED_BUILD_RULE_FINISHED_STATUSES_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & ENABLED_BUILD_RULE_FINISHED_STATUSES_LAZY_INIT_BIT) == 0) {
+          this.enabledBuildRuleFinishedStatuses = Objects.requireNonNull(super.getEnabledBuildRuleFinishedStatuses(), "enabledBuildRuleFinishedStatuses");
+          lazyInitBitmap |= ENABLED_BUILD_RULE_FINISHED_STATUSES_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return enabledBuildRuleFinishedStatuses;
+  }
+
+  /**
+   * Construct a new immutable {@code ScribeEventListenerConfig} instance.
+   * @param delegate The value for the {@code delegate} attribute
+   * @return An immutable ScribeEventListenerConfig instance
+   */
+  public static ImmutableScribeEventListenerConfig of(BuckConfig delegate) {
+    return new ImmutableScribeEventListenerConfig(delegate);
+  }
+}
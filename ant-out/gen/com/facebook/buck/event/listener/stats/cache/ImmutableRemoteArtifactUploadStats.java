@@ -0,0 +1,142 @@
+package com.facebook.buck.event.listener.stats.cache;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Longs;
+import com.google.errorprone.annotations.Var;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link NetworkStatsTracker.RemoteArtifactUploadStats}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableRemoteArtifactUploadStats.of()}.
+ */
+@Generated(from = "NetworkStatsTracker.RemoteArtifactUploadStats", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableRemoteArtifactUploadStats
+    implements NetworkStatsTracker.RemoteArtifactUploadStats {
+  private final int started;
+  private final int failed;
+  private final int uploaded;
+  private final int scheduled;
+  private final long totalBytes;
+
+  private ImmutableRemoteArtifactUploadStats(int started, int failed, int uploaded, int scheduled, long totalBytes) {
+    this.started = started;
+    this.failed = failed;
+    this.uploaded = uploaded;
+    this.scheduled = scheduled;
+    this.totalBytes = totalBytes;
+  }
+
+  /**
+   * @return The value of the {@code started} attribute
+   */
+  @Override
+  public int getStarted() {
+    return started;
+  }
+
+  /**
+   * @return The value of the {@code failed} attribute
+   */
+  @Override
+  public int getFailed() {
+    return failed;
+  }
+
+  /**
+   * @return The value of the {@code uploaded} attribute
+   */
+  @Override
+  public int getUploaded() {
+    return uploaded;
+  }
+
+  /**
+   * @return The value of the {@code scheduled} attribute
+   */
+  @Override
+  public int getScheduled() {
+    return scheduled;
+  }
+
+  /**
+   * @return The value of the {@code totalBytes} attribute
+   */
+  @Override
+  public long getTotalBytes() {
+    return totalBytes;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableRemoteArtifactUploadStats} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableRemoteArtifactUploadStats
+        && equalTo((ImmutableRemoteArtifactUploadStats) another);
+  }
+
+  private boolean equalTo(ImmutableRemoteArtifactUploadStats another) {
+    return started == another.started
+        && failed == another.failed
+        && uploaded == another.uploaded
+        && scheduled == another.scheduled
+        && totalBytes == another.totalBytes;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code started}, {@code failed}, {@code uploaded}, {@code scheduled}, {@code totalBytes}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + started;
+    h += (h << 5) + failed;
+    h += (h << 5) + uploaded;
+    h += (h << 5) + scheduled;
+    h += (h << 5) + Longs.hashCode(totalBytes);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RemoteArtifactUploadStats} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RemoteArtifactUploadStats")
+        .omitNullValues()
+        .add("started", started)
+        .add("failed", failed)
+        .add("uploaded", uploaded)
+        .add("scheduled", scheduled)
+        .add("totalBytes", totalBytes)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code RemoteArtifactUploadStats} instance.
+   * @param started The value for the {@code started} attribute
+   * @param failed The value for the {@code failed} attribute
+   * @param uploaded The value for the {@code uploaded} attribute
+   * @param scheduled The value for the {@code scheduled} attribute
+   * @param totalBytes The value for the {@code totalBytes} attribute
+   * @return An immutable RemoteArtifactUploadStats instance
+   */
+  public static ImmutableRemoteArtifactUploadStats of(int started, int failed, int uploaded, int scheduled, long totalBytes) {
+    return new ImmutableRemoteArtifactUploadStats(started, failed, uploaded, scheduled, totalBytes);
+  }
+}
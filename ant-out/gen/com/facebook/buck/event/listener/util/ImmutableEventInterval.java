@@ -0,0 +1,104 @@
+package com.facebook.buck.event.listener.util;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.OptionalLong;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link EventInterval}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableEventInterval.of()}.
+ */
+@Generated(from = "EventInterval", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableEventInterval extends EventInterval {
+  private final @Nullable Long start;
+  private final @Nullable Long finish;
+
+  private ImmutableEventInterval(OptionalLong start, OptionalLong finish) {
+    this.start = start.isPresent() ? start.getAsLong() : null;
+    this.finish = finish.isPresent() ? finish.getAsLong() : null;
+  }
+
+  /**
+   * @return The value of the {@code start} attribute
+   */
+  @Override
+  public OptionalLong getStart() {
+    return start != null
+        ? OptionalLong.of(start)
+        : OptionalLong.empty();
+  }
+
+  /**
+   * @return The value of the {@code finish} attribute
+   */
+  @Override
+  public OptionalLong getFinish() {
+    return finish != null
+        ? OptionalLong.of(finish)
+        : OptionalLong.empty();
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableEventInterval} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableEventInterval
+        && equalTo((ImmutableEventInterval) another);
+  }
+
+  private boolean equalTo(ImmutableEventInterval another) {
+    return Objects.equals(start, another.start)
+        && Objects.equals(finish, another.finish);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code start}, {@code finish}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(start);
+    h += (h << 5) + Objects.hashCode(finish);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code EventInterval} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("EventInterval")
+        .omitNullValues()
+        .add("start", start)
+        .add("finish", finish)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code EventInterval} instance.
+   * @param start The value for the {@code start} attribute
+   * @param finish The value for the {@code finish} attribute
+   * @return An immutable EventInterval instance
+   */
+  public static ImmutableEventInterval of(OptionalLong start, OptionalLong finish) {
+    return new ImmutableEventInterval(start, finish);
+  }
+}
@@ -0,0 +1,667 @@
+package com.facebook.buck.io.filesystem;
+
+import com.facebook.buck.core.cell.name.CanonicalCellName;
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BuckPaths}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuckPaths.of()}.
+ */
+@Generated(from = "BuckPaths", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableBuckPaths extends BuckPaths {
+  private final CanonicalCellName cellName;
+  private final Path buckOut;
+  private final Path configuredBuckOut;
+  private final boolean shouldIncludeTargetConfigHash;
+  private transient final Path currentVersionFile;
+  private transient final Path genDir;
+  private transient final Path resDir;
+  private transient final Path scratchDir;
+  private transient final Path annotationDir;
+  private transient final Path logDir;
+  private transient final Path journalDir;
+  private transient final Path traceDir;
+  private transient final Path cacheDir;
+  private transient final Path tmpDir;
+  private transient final Path xcodeDir;
+  private transient final Path trashDir;
+  private transient final Path offlineLogDir;
+  private transient final Path remoteSandboxDir;
+  private transient final Path lastOutputDir;
+  private transient final Path embeddedCellsBuckOutBaseDir;
+  private transient final Path projectRootDir;
+
+  private ImmutableBuckPaths(
+      CanonicalCellName cellName,
+      Path buckOut,
+      Path configuredBuckOut,
+      boolean shouldIncludeTargetConfigHash) {
+    this.cellName = Objects.requireNonNull(cellName, "cellName");
+    this.buckOut = Objects.requireNonNull(buckOut, "buckOut");
+    this.configuredBuckOut = Objects.requireNonNull(configuredBuckOut, "configuredBuckOut");
+    this.shouldIncludeTargetConfigHash = shouldIncludeTargetConfigHash;
+    this.currentVersionFile = initShim.getCurrentVersionFile();
+    this.genDir = initShim.getGenDir();
+    this.resDir = initShim.getResDir();
+    this.scratchDir = initShim.getScratchDir();
+    this.annotationDir = initShim.getAnnotationDir();
+    this.logDir = initShim.getLogDir();
+    this.journalDir = initShim.getJournalDir();
+    this.traceDir = initShim.getTraceDir();
+    this.cacheDir = initShim.getCacheDir();
+    this.tmpDir = initShim.getTmpDir();
+    this.xcodeDir = initShim.getXcodeDir();
+    this.trashDir = initShim.getTrashDir();
+    this.offlineLogDir = initShim.getOfflineLogDir();
+    this.remoteSandboxDir = initShim.getRemoteSandboxDir();
+    this.lastOutputDir = initShim.getLastOutputDir();
+    this.embeddedCellsBuckOutBaseDir = initShim.getEmbeddedCellsBuckOutBaseDir();
+    this.projectRootDir = initShim.getProjectRootDir();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "BuckPaths", generator = "Immutables")
+  private final class InitShim {
+    private byte currentVersionFileBuildStage = STAGE_UNINITIALIZED;
+    private Path currentVersionFile;
+
+    Path getCurrentVersionFile() {
+      if (currentVersionFileBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (currentVersionFileBuildStage == STAGE_UNINITIALIZED) {
+        currentVersionFileBuildStage = STAGE_INITIALIZING;
+        this.currentVersionFile = Objects.requireNonNull(ImmutableBuckPaths.super.getCurrentVersionFile(), "currentVersionFile");
+        currentVersionFileBuildStage = STAGE_INITIALIZED;
+      }
+      return this.currentVersionFile;
+    }
+
+    private byte genDirBuildStage = STAGE_UNINITIALIZED;
+    private Path genDir;
+
+    Path getGenDir() {
+      if (genDirBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (genDirBuildStage == STAGE_UNINITIALIZED) {
+        genDirBuildStage = STAGE_INITIALIZING;
+        this.genDir = Objects.requireNonNull(ImmutableBuckPaths.super.getGenDir(), "genDir");
+        genDirBuildStage = STAGE_INITIALIZED;
+      }
+      return this.genDir;
+    }
+
+    private byte resDirBuildStage = STAGE_UNINITIALIZED;
+    private Path resDir;
+
+    Path getResDir() {
+      if (resDirBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (resDirBuildStage == STAGE_UNINITIALIZED) {
+        resDirBuildStage = STAGE_INITIALIZING;
+        this.resDir = Objects.requireNonNull(ImmutableBuckPaths.super.getResDir(), "resDir");
+        resDirBuildStage = STAGE_INITIALIZED;
+      }
+      return this.resDir;
+    }
+
+    private byte scratchDirBuildStage = STAGE_UNINITIALIZED;
+    private Path scratchDir;
+
+    Path getScratchDir() {
+      if (scratchDirBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (scratchDirBuildStage == STAGE_UNINITIALIZED) {
+        scratchDirBuildStage = STAGE_INITIALIZING;
+        this.scratchDir = Objects.requireNonNull(ImmutableBuckPaths.super.getScratchDir(), "scratchDir");
+        scratchDirBuildStage = STAGE_INITIALIZED;
+      }
+      return this.scratchDir;
+    }
+
+    private byte annotationDirBuildStage = STAGE_UNINITIALIZED;
+    private Path annotationDir;
+
+    Path getAnnotationDir() {
+      if (annotationDirBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (annotationDirBuildStage == STAGE_UNINITIALIZED) {
+        annotationDirBuildStage = STAGE_INITIALIZING;
+        this.annotationDir = Objects.requireNonNull(ImmutableBuckPaths.super.getAnnotationDir(), "annotationDir");
+        annotationDirBuildStage = STAGE_INITIALIZED;
+      }
+      return this.annotationDir;
+    }
+
+    private byte logDirBuildStage = STAGE_UNINITIALIZED;
+    private Path logDir;
+
+    Path getLogDir() {
+      if (logDirBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (logDirBuildStage == STAGE_UNINITIALIZED) {
+        logDirBuildStage = STAGE_INITIALIZING;
+        this.logDir = Objects.requireNonNull(ImmutableBuckPaths.super.getLogDir(), "logDir");
+        logDirBuildStage = STAGE_INITIALIZED;
+      }
+      return this.logDir;
+    }
+
+    private byte journalDirBuildStage = STAGE_UNINITIALIZED;
+    private Path journalDir;
+
+    Path getJournalDir() {
+      if (journalDirBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (journalDirBuildStage == STAGE_UNINITIALIZED) {
+        journalDirBuildStage = STAGE_INITIALIZING;
+        this.journalDir = Objects.requireNonNull(ImmutableBuckPaths.super.getJournalDir(), "journalDir");
+        journalDirBuildStage = STAGE_INITIALIZED;
+      }
+      return this.journalDir;
+    }
+
+    private byte traceDirBuildStage = STAGE_UNINITIALIZED;
+    private Path traceDir;
+
+    Path getTraceDir() {
+      if (traceDirBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (traceDirBuildStage == STAGE_UNINITIALIZED) {
+        traceDirBuildStage = STAGE_INITIALIZING;
+        this.traceDir = Objects.requireNonNull(ImmutableBuckPaths.super.getTraceDir(), "traceDir");
+        traceDirBuildStage = STAGE_INITIALIZED;
+      }
+      return this.traceDir;
+    }
+
+    private byte cacheDirBuildStage = STAGE_UNINITIALIZED;
+    private Path cacheDir;
+
+    Path getCacheDir() {
+      if (cacheDirBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (cacheDirBuildStage == STAGE_UNINITIALIZED) {
+        cacheDirBuildStage = STAGE_INITIALIZING;
+        this.cacheDir = Objects.requireNonNull(ImmutableBuckPaths.super.getCacheDir(), "cacheDir");
+        cacheDirBuildStage = STAGE_INITIALIZED;
+      }
+      return this.cacheDir;
+    }
+
+    private byte tmpDirBuildStage = STAGE_UNINITIALIZED;
+    private Path tmpDir;
+
+    Path getTmpDir() {
+      if (tmpDirBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (tmpDirBuildStage == STAGE_UNINITIALIZED) {
+        tmpDirBuildStage = STAGE_INITIALIZING;
+        this.tmpDir = Objects.requireNonNull(ImmutableBuckPaths.super.getTmpDir(), "tmpDir");
+        tmpDirBuildStage = STAGE_INITIALIZED;
+      }
+      return this.tmpDir;
+    }
+
+    private byte xcodeDirBuildStage = STAGE_UNINITIALIZED;
+    private Path xcodeDir;
+
+    Path getXcodeDir() {
+      if (xcodeDirBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (xcodeDirBuildStage == STAGE_UNINITIALIZED) {
+        xcodeDirBuildStage = STAGE_INITIALIZING;
+        this.xcodeDir = Objects.requireNonNull(ImmutableBuckPaths.super.getXcodeDir(), "xcodeDir");
+        xcodeDirBuildStage = STAGE_INITIALIZED;
+      }
+      return this.xcodeDir;
+    }
+
+    private byte trashDirBuildStage = STAGE_UNINITIALIZED;
+    private Path trashDir;
+
+    Path getTrashDir() {
+      if (trashDirBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (trashDirBuildStage == STAGE_UNINITIALIZED) {
+        trashDirBuildStage = STAGE_INITIALIZING;
+        this.trashDir = Objects.requireNonNull(ImmutableBuckPaths.super.getTrashDir(), "trashDir");
+        trashDirBuildStage = STAGE_INITIALIZED;
+      }
+      return this.trashDir;
+    }
+
+    private byte offlineLogDirBuildStage = STAGE_UNINITIALIZED;
+    private Path offlineLogDir;
+
+    Path getOfflineLogDir() {
+      if (offlineLogDirBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (offlineLogDirBuildStage == STAGE_UNINITIALIZED) {
+        offlineLogDirBuildStage = STAGE_INITIALIZING;
+        this.offlineLogDir = Objects.requireNonNull(ImmutableBuckPaths.super.getOfflineLogDir(), "offlineLogDir");
+        offlineLogDirBuildStage = STAGE_INITIALIZED;
+      }
+      return this.offlineLogDir;
+    }
+
+    private byte remoteSandboxDirBuildStage = STAGE_UNINITIALIZED;
+    private Path remoteSandboxDir;
+
+    Path getRemoteSandboxDir() {
+      if (remoteSandboxDirBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (remoteSandboxDirBuildStage == STAGE_UNINITIALIZED) {
+        remoteSandboxDirBuildStage = STAGE_INITIALIZING;
+        this.remoteSandboxDir = Objects.requireNonNull(ImmutableBuckPaths.super.getRemoteSandboxDir(), "remoteSandboxDir");
+        remoteSandboxDirBuildStage = STAGE_INITIALIZED;
+      }
+      return this.remoteSandboxDir;
+    }
+
+    private byte lastOutputDirBuildStage = STAGE_UNINITIALIZED;
+    private Path lastOutputDir;
+
+    Path getLastOutputDir() {
+      if (lastOutputDirBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (lastOutputDirBuildStage == STAGE_UNINITIALIZED) {
+        lastOutputDirBuildStage = STAGE_INITIALIZING;
+        this.lastOutputDir = Objects.requireNonNull(ImmutableBuckPaths.super.getLastOutputDir(), "lastOutputDir");
+        lastOutputDirBuildStage = STAGE_INITIALIZED;
+      }
+      return this.lastOutputDir;
+    }
+
+    private byte embeddedCellsBuckOutBaseDirBuildStage = STAGE_UNINITIALIZED;
+    private Path embeddedCellsBuckOutBaseDir;
+
+    Path getEmbeddedCellsBuckOutBaseDir() {
+      if (embeddedCellsBuckOutBaseDirBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (embeddedCellsBuckOutBaseDirBuildStage == STAGE_UNINITIALIZED) {
+        embeddedCellsBuckOutBaseDirBuildStage = STAGE_INITIALIZING;
+        this.embeddedCellsBuckOutBaseDir = Objects.requireNonNull(ImmutableBuckPaths.super.getEmbeddedCellsBuckOutBaseDir(), "embeddedCellsBuckOutBaseDir");
+        embeddedCellsBuckOutBaseDirBuildStage = STAGE_INITIALIZED;
+      }
+      return this.embeddedCellsBuckOutBaseDir;
+    }
+
+    private byte projectRootDirBuildStage = STAGE_UNINITIALIZED;
+    private Path projectRootDir;
+
+    Path getProjectRootDir() {
+      if (projectRootDirBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (projectRootDirBuildStage == STAGE_UNINITIALIZED) {
+        projectRootDirBuildStage = STAGE_INITIALIZING;
+        this.projectRootDir = Objects.requireNonNull(ImmutableBuckPaths.super.getProjectRootDir(), "projectRootDir");
+        projectRootDirBuildStage = STAGE_INITIALIZED;
+      }
+      return this.projectRootDir;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (currentVersionFileBuildStage == STAGE_INITIALIZING) attributes.add("currentVersionFile");
+      if (genDirBuildStage == STAGE_INITIALIZING) attributes.add("genDir");
+      if (resDirBuildStage == STAGE_INITIALIZING) attributes.add("resDir");
+      if (scratchDirBuildStage == STAGE_INITIALIZING) attributes.add("scratchDir");
+      if (annotationDirBuildStage == STAGE_INITIALIZING) attributes.add("annotationDir");
+      if (logDirBuildStage == STAGE_INITIALIZING) attributes.add("logDir");
+      if (journalDirBuildStage == STAGE_INITIALIZING) attributes.add("journalDir");
+      if (traceDirBuildStage == STAGE_INITIALIZING) attributes.add("traceDir");
+      if (cacheDirBuildStage == STAGE_INITIALIZING) attributes.add("cacheDir");
+      if (tmpDirBuildStage == STAGE_INITIALIZING) attributes.add("tmpDir");
+      if (xcodeDirBuildStage == STAGE_INITIALIZING) attributes.add("xcodeDir");
+      if (trashDirBuildStage == STAGE_INITIALIZING) attributes.add("trashDir");
+      if (offlineLogDirBuildStage == STAGE_INITIALIZING) attributes.add("offlineLogDir");
+      if (remoteSandboxDirBuildStage == STAGE_INITIALIZING) attributes.add("remoteSandboxDir");
+      if (lastOutputDirBuildStage == STAGE_INITIALIZING) attributes.add("lastOutputDir");
+      if (embeddedCellsBuckOutBaseDirBuildStage == STAGE_INITIALIZING) attributes.add("embeddedCellsBuckOutBaseDir");
+      if (projectRootDirBuildStage == STAGE_INITIALIZING) attributes.add("projectRootDir");
+      return "Cannot build BuckPaths, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code cellName} attribute
+   */
+  @Override
+  public CanonicalCellName getCellName() {
+    return cellName;
+  }
+
+  /**
+   * @return The value of the {@code buckOut} attribute
+   */
+  @Override
+  public Path getBuckOut() {
+    return buckOut;
+  }
+
+  /**
+   * @return The value of the {@code configuredBuckOut} attribute
+   */
+  @Override
+  public Path getConfiguredBuckOut() {
+    return configuredBuckOut;
+  }
+
+  /**
+   * @return The value of the {@code shouldIncludeTargetConfigHash} attribute
+   */
+  @Override
+  public boolean shouldIncludeTargetConfigHash() {
+    return shouldIncludeTargetConfigHash;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code currentVersionFile} attribute
+   */
+  @Override
+  public Path getCurrentVersionFile() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getCurrentVersionFile()
+        : this.currentVersionFile;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code genDir} attribute
+   */
+  @Override
+  public Path getGenDir() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getGenDir()
+        : this.genDir;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code resDir} attribute
+   */
+  @Override
+  public Path getResDir() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getResDir()
+        : this.resDir;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code scratchDir} attribute
+   */
+  @Override
+  public Path getScratchDir() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getScratchDir()
+        : this.scratchDir;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code annotationDir} attribute
+   */
+  @Override
+  public Path getAnnotationDir() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getAnnotationDir()
+        : this.annotationDir;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code logDir} attribute
+   */
+  @Override
+  public Path getLogDir() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getLogDir()
+        : this.logDir;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code journalDir} attribute
+   */
+  @Override
+  public Path getJournalDir() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getJournalDir()
+        : this.journalDir;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code traceDir} attribute
+   */
+  @Override
+  public Path getTraceDir() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getTraceDir()
+        : this.traceDir;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code cacheDir} attribute
+   */
+  @Override
+  public Path getCacheDir() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getCacheDir()
+        : this.cacheDir;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code tmpDir} attribute
+   */
+  @Override
+  public Path getTmpDir() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getTmpDir()
+        : this.tmpDir;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code xcodeDir} attribute
+   */
+  @Override
+  public Path getXcodeDir() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getXcodeDir()
+        : this.xcodeDir;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code trashDir} attribute
+   */
+  @Override
+  public Path getTrashDir() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getTrashDir()
+        : this.trashDir;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code offlineLogDir} attribute
+   */
+  @Override
+  public Path getOfflineLogDir() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getOfflineLogDir()
+        : this.offlineLogDir;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code remoteSandboxDir} attribute
+   */
+  @Override
+  public Path getRemoteSandboxDir() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getRemoteSandboxDir()
+        : this.remoteSandboxDir;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code lastOutputDir} attribute
+   */
+  @Override
+  public Path getLastOutputDir() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getLastOutputDir()
+        : this.lastOutputDir;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code embeddedCellsBuckOutBaseDir} attribute
+   */
+  @Override
+  public Path getEmbeddedCellsBuckOutBaseDir() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getEmbeddedCellsBuckOutBaseDir()
+        : this.embeddedCellsBuckOutBaseDir;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code projectRootDir} attribute
+   */
+  @Override
+  public Path getProjectRootDir() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getProjectRootDir()
+        : this.projectRootDir;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuckPaths} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuckPaths
+        && equalTo((ImmutableBuckPaths) another);
+  }
+
+  private boolean equalTo(ImmutableBuckPaths another) {
+    return cellName.equals(another.cellName)
+        && buckOut.equals(another.buckOut)
+        && configuredBuckOut.equals(another.configuredBuckOut)
+        && shouldIncludeTargetConfigHash == another.shouldIncludeTargetConfigHash
+        && currentVersionFile.equals(another.currentVersionFile)
+        && genDir.equals(another.genDir)
+        && resDir.equals(another.resDir)
+        && scratchDir.equals(another.scratchDir)
+        && annotationDir.equals(another.annotationDir)
+        && logDir.equals(another.logDir)
+        && journalDir.equals(another.journalDir)
+        && traceDir.equals(another.traceDir)
+        && cacheDir.equals(another.cacheDir)
+        && tmpDir.equals(another.tmpDir)
+        && xcodeDir.equals(another.xcodeDir)
+        && trashDir.equals(another.trashDir)
+        && offlineLogDir.equals(another.offlineLogDir)
+        && remoteSandboxDir.equals(another.remoteSandboxDir)
+        && lastOutputDir.equals(another.lastOutputDir)
+        && embeddedCellsBuckOutBaseDir.equals(another.embeddedCellsBuckOutBaseDir)
+        && projectRootDir.equals(another.projectRootDir);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code cellName}, {@code buckOut}, {@code configuredBuckOut}, {@code shouldIncludeTargetConfigHash}, {@code currentVersionFile}, {@code genDir}, {@code resDir}, {@code scratchDir}, {@code annotationDir}, {@code logDir}, {@code journalDir}, {@code traceDir}, {@code cacheDir}, {@code tmpDir}, {@code xcodeDir}, {@code trashDir}, {@code offlineLogDir}, {@code remoteSandboxDir}, {@code lastOutputDir}, {@code embeddedCellsBuckOutBaseDir}, {@code projectRootDir}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + cellName.hashCode();
+    h += (h << 5) + buckOut.hashCode();
+    h += (h << 5) + configuredBuckOut.hashCode();
+    h += (h << 5) + Booleans.hashCode(shouldIncludeTargetConfigHash);
+    h += (h << 5) + currentVersionFile.hashCode();
+    h += (h << 5) + genDir.hashCode();
+    h += (h << 5) + resDir.hashCode();
+    h += (h << 5) + scratchDir.hashCode();
+    h += (h << 5) + annotationDir.hashCode();
+    h += (h << 5) + logDir.hashCode();
+    h += (h << 5) + journalDir.hashCode();
+    h += (h << 5) + traceDir.hashCode();
+    h += (h << 5) + cacheDir.hashCode();
+    h += (h << 5) + tmpDir.hashCode();
+    h += (h << 5) + xcodeDir.hashCode();
+    h += (h << 5) + trashDir.hashCode();
+    h += (h << 5) + offlineLogDir.hashCode();
+    h += (h << 5) + remoteSandboxDir.hashCode();
+    h += (h << 5) + lastOutputDir.hashCode();
+    h += (h << 5) + embeddedCellsBuckOutBaseDir.hashCode();
+    h += (h << 5) + projectRootDir.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuckPaths} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuckPaths")
+        .omitNullValues()
+        .add("cellName", cellName)
+        .add("buckOut", buckOut)
+        .add("configuredBuckOut", configuredBuckOut)
+        .add("shouldIncludeTargetConfigHash", shouldIncludeTargetConfigHash)
+        .add("currentVersionFile", currentVersionFile)
+        .add("genDir", genDir)
+        .add("resDir", resDir)
+        .add("scratchDir", scratchDir)
+        .add("annotationDir", annotationDir)
+        .add("logDir", logDir)
+        .add("journalDir", journalDir)
+        .add("traceDir", traceDir)
+        .add("cacheDir", cacheDir)
+        .add("tmpDir", tmpDir)
+        .add("xcodeDir", xcodeDir)
+        .add("trashDir", trashDir)
+        .add("offlineLogDir", offlineLogDir)
+        .add("remoteSandboxDir", remoteSandboxDir)
+        .add("lastOutputDir", lastOutputDir)
+        .add("embeddedCellsBuckOutBaseDir", embeddedCellsBuckOutBaseDir)
+        .add("projectRootDir", projectRootDir)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code BuckPaths} instance.
+   * @param cellName The value for the {@code cellName} attribute
+   * @param buckOut The value for the {@code buckOut} attribute
+   * @param configuredBuckOut The value for the {@code configuredBuckOut} attribute
+   * @param shouldIncludeTargetConfigHash The value for the {@code shouldIncludeTargetConfigHash} attribute
+   * @return An immutable BuckPaths instance
+   */
+  public static ImmutableBuckPaths of(CanonicalCellName cellName, Path buckOut, Path configuredBuckOut, boolean shouldIncludeTargetConfigHash) {
+    return validate(new ImmutableBuckPaths(cellName, buckOut, configuredBuckOut, shouldIncludeTargetConfigHash));
+  }
+
+
+  private static ImmutableBuckPaths validate(ImmutableBuckPaths instance) {
+    instance.checkBuckOut();
+    return instance;
+  }
+}
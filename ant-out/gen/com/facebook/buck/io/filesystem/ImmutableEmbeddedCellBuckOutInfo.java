@@ -0,0 +1,132 @@
+package com.facebook.buck.io.filesystem;
+
+import com.facebook.buck.core.cell.name.CanonicalCellName;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link EmbeddedCellBuckOutInfo}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableEmbeddedCellBuckOutInfo.of()}.
+ */
+@Generated(from = "EmbeddedCellBuckOutInfo", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableEmbeddedCellBuckOutInfo
+    extends EmbeddedCellBuckOutInfo {
+  private final Path mainCellRoot;
+  private final BuckPaths mainCellBuckPaths;
+  private final CanonicalCellName cellName;
+  private transient final Path cellBuckOut;
+
+  private ImmutableEmbeddedCellBuckOutInfo(
+      Path mainCellRoot,
+      BuckPaths mainCellBuckPaths,
+      CanonicalCellName cellName) {
+    this.mainCellRoot = Objects.requireNonNull(mainCellRoot, "mainCellRoot");
+    this.mainCellBuckPaths = Objects.requireNonNull(mainCellBuckPaths, "mainCellBuckPaths");
+    this.cellName = Objects.requireNonNull(cellName, "cellName");
+    this.cellBuckOut = Objects.requireNonNull(super.getCellBuckOut(), "cellBuckOut");
+  }
+
+  /**
+   * @return The value of the {@code mainCellRoot} attribute
+   */
+  @Override
+  public Path getMainCellRoot() {
+    return mainCellRoot;
+  }
+
+  /**
+   * @return The value of the {@code mainCellBuckPaths} attribute
+   */
+  @Override
+  public BuckPaths getMainCellBuckPaths() {
+    return mainCellBuckPaths;
+  }
+
+  /**
+   * @return The value of the {@code cellName} attribute
+   */
+  @Override
+  public CanonicalCellName getCellName() {
+    return cellName;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code cellBuckOut} attribute
+   */
+  @Override
+  public Path getCellBuckOut() {
+    return cellBuckOut;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableEmbeddedCellBuckOutInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableEmbeddedCellBuckOutInfo
+        && equalTo((ImmutableEmbeddedCellBuckOutInfo) another);
+  }
+
+  private boolean equalTo(ImmutableEmbeddedCellBuckOutInfo another) {
+    return mainCellRoot.equals(another.mainCellRoot)
+        && mainCellBuckPaths.equals(another.mainCellBuckPaths)
+        && cellName.equals(another.cellName)
+        && cellBuckOut.equals(another.cellBuckOut);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code mainCellRoot}, {@code mainCellBuckPaths}, {@code cellName}, {@code cellBuckOut}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + mainCellRoot.hashCode();
+    h += (h << 5) + mainCellBuckPaths.hashCode();
+    h += (h << 5) + cellName.hashCode();
+    h += (h << 5) + cellBuckOut.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code EmbeddedCellBuckOutInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("EmbeddedCellBuckOutInfo")
+        .omitNullValues()
+        .add("mainCellRoot", mainCellRoot)
+        .add("mainCellBuckPaths", mainCellBuckPaths)
+        .add("cellName", cellName)
+        .add("cellBuckOut", cellBuckOut)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code EmbeddedCellBuckOutInfo} instance.
+   * @param mainCellRoot The value for the {@code mainCellRoot} attribute
+   * @param mainCellBuckPaths The value for the {@code mainCellBuckPaths} attribute
+   * @param cellName The value for the {@code cellName} attribute
+   * @return An immutable EmbeddedCellBuckOutInfo instance
+   */
+  public static ImmutableEmbeddedCellBuckOutInfo of(Path mainCellRoot, BuckPaths mainCellBuckPaths, CanonicalCellName cellName) {
+    return new ImmutableEmbeddedCellBuckOutInfo(mainCellRoot, mainCellBuckPaths, cellName);
+  }
+}
@@ -0,0 +1,101 @@
+package com.facebook.buck.io.watchman;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link WatchmanQuery}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableWatchmanQuery.of()}.
+ */
+@Generated(from = "WatchmanQuery", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableWatchmanQuery extends WatchmanQuery {
+  private final String queryPath;
+  private final ImmutableMap<String, Object> queryParams;
+
+  private ImmutableWatchmanQuery(String queryPath, Map<String, ? extends Object> queryParams) {
+    this.queryPath = Objects.requireNonNull(queryPath, "queryPath");
+    this.queryParams = ImmutableMap.copyOf(queryParams);
+  }
+
+  /**
+   * @return The value of the {@code queryPath} attribute
+   */
+  @Override
+  String getQueryPath() {
+    return queryPath;
+  }
+
+  /**
+   * @return The value of the {@code queryParams} attribute
+   */
+  @Override
+  ImmutableMap<String, Object> getQueryParams() {
+    return queryParams;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableWatchmanQuery} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableWatchmanQuery
+        && equalTo((ImmutableWatchmanQuery) another);
+  }
+
+  private boolean equalTo(ImmutableWatchmanQuery another) {
+    return queryPath.equals(another.queryPath)
+        && queryParams.equals(another.queryParams);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code queryPath}, {@code queryParams}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + queryPath.hashCode();
+    h += (h << 5) + queryParams.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code WatchmanQuery} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("WatchmanQuery")
+        .omitNullValues()
+        .add("queryPath", queryPath)
+        .add("queryParams", queryParams)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code WatchmanQuery} instance.
+   * @param queryPath The value for the {@code queryPath} attribute
+   * @param queryParams The value for the {@code queryParams} attribute
+   * @return An immutable WatchmanQuery instance
+   */
+  public static ImmutableWatchmanQuery of(String queryPath, Map<String, ? extends Object> queryParams) {
+    return new ImmutableWatchmanQuery(queryPath, queryParams);
+  }
+}
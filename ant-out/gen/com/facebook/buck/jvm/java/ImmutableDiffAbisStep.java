@@ -0,0 +1,117 @@
+package com.facebook.buck.jvm.java;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link DiffAbisStep}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableDiffAbisStep.of()}.
+ */
+@Generated(from = "DiffAbisStep", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableDiffAbisStep extends DiffAbisStep {
+  private final Path classAbiPath;
+  private final Path sourceAbiPath;
+  private final JavaBuckConfig.SourceAbiVerificationMode verificationMode;
+
+  private ImmutableDiffAbisStep(
+      Path classAbiPath,
+      Path sourceAbiPath,
+      JavaBuckConfig.SourceAbiVerificationMode verificationMode) {
+    this.classAbiPath = Objects.requireNonNull(classAbiPath, "classAbiPath");
+    this.sourceAbiPath = Objects.requireNonNull(sourceAbiPath, "sourceAbiPath");
+    this.verificationMode = Objects.requireNonNull(verificationMode, "verificationMode");
+  }
+
+  /**
+   * @return The value of the {@code classAbiPath} attribute
+   */
+  @Override
+  public Path getClassAbiPath() {
+    return classAbiPath;
+  }
+
+  /**
+   * @return The value of the {@code sourceAbiPath} attribute
+   */
+  @Override
+  public Path getSourceAbiPath() {
+    return sourceAbiPath;
+  }
+
+  /**
+   * @return The value of the {@code verificationMode} attribute
+   */
+  @Override
+  public JavaBuckConfig.SourceAbiVerificationMode getVerificationMode() {
+    return verificationMode;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableDiffAbisStep} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableDiffAbisStep
+        && equalTo((ImmutableDiffAbisStep) another);
+  }
+
+  private boolean equalTo(ImmutableDiffAbisStep another) {
+    return classAbiPath.equals(another.classAbiPath)
+        && sourceAbiPath.equals(another.sourceAbiPath)
+        && verificationMode.equals(another.verificationMode);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code classAbiPath}, {@code sourceAbiPath}, {@code verificationMode}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + classAbiPath.hashCode();
+    h += (h << 5) + sourceAbiPath.hashCode();
+    h += (h << 5) + verificationMode.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DiffAbisStep} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DiffAbisStep")
+        .omitNullValues()
+        .add("classAbiPath", classAbiPath)
+        .add("sourceAbiPath", sourceAbiPath)
+        .add("verificationMode", verificationMode)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code DiffAbisStep} instance.
+   * @param classAbiPath The value for the {@code classAbiPath} attribute
+   * @param sourceAbiPath The value for the {@code sourceAbiPath} attribute
+   * @param verificationMode The value for the {@code verificationMode} attribute
+   * @return An immutable DiffAbisStep instance
+   */
+  public static ImmutableDiffAbisStep of(Path classAbiPath, Path sourceAbiPath, JavaBuckConfig.SourceAbiVerificationMode verificationMode) {
+    return new ImmutableDiffAbisStep(classAbiPath, sourceAbiPath, verificationMode);
+  }
+}
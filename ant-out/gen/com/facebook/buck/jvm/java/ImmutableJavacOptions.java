@@ -0,0 +1,792 @@
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.core.sourcepath.PathSourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link JavacOptions}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new JavacOptions.Builder()}.
+ */
+@Generated(from = "JavacOptions", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableJavacOptions extends JavacOptions {
+  private final JavacOptions.SpoolMode spoolMode;
+  private final boolean productionBuild;
+  private final boolean verbose;
+  private final JavacLanguageLevelOptions languageLevelOptions;
+  private final JavacPluginParams javaAnnotationProcessorParams;
+  private final JavacPluginParams standardJavacPluginParams;
+  private final ImmutableList<String> extraArguments;
+  private final @Nullable String bootclasspath;
+  private final ImmutableMap<String, ImmutableList<PathSourcePath>> sourceToBootclasspath;
+  private final boolean trackClassUsage;
+  private final boolean trackJavacPhaseEvents;
+  private final boolean incrementalCompilation;
+
+  private ImmutableJavacOptions(ImmutableJavacOptions.Builder builder) {
+    this.extraArguments = builder.extraArguments.build();
+    this.bootclasspath = builder.bootclasspath;
+    this.sourceToBootclasspath = builder.sourceToBootclasspath.build();
+    if (builder.spoolMode != null) {
+      initShim.setSpoolMode(builder.spoolMode);
+    }
+    if (builder.productionBuildIsSet()) {
+      initShim.setProductionBuild(builder.productionBuild);
+    }
+    if (builder.verboseIsSet()) {
+      initShim.setVerbose(builder.verbose);
+    }
+    if (builder.languageLevelOptions != null) {
+      initShim.setLanguageLevelOptions(builder.languageLevelOptions);
+    }
+    if (builder.javaAnnotationProcessorParams != null) {
+      initShim.setJavaAnnotationProcessorParams(builder.javaAnnotationProcessorParams);
+    }
+    if (builder.standardJavacPluginParams != null) {
+      initShim.setStandardJavacPluginParams(builder.standardJavacPluginParams);
+    }
+    if (builder.trackClassUsageIsSet()) {
+      initShim.setTrackClassUsage(builder.trackClassUsage);
+    }
+    if (builder.trackJavacPhaseEventsIsSet()) {
+      initShim.setTrackJavacPhaseEvents(builder.trackJavacPhaseEvents);
+    }
+    if (builder.incrementalCompilationIsSet()) {
+      initShim.setIncrementalCompilation(builder.incrementalCompilation);
+    }
+    this.spoolMode = initShim.getSpoolMode();
+    this.productionBuild = initShim.isProductionBuild();
+    this.verbose = initShim.isVerbose();
+    this.languageLevelOptions = initShim.getLanguageLevelOptions();
+    this.javaAnnotationProcessorParams = initShim.getJavaAnnotationProcessorParams();
+    this.standardJavacPluginParams = initShim.getStandardJavacPluginParams();
+    this.trackClassUsage = initShim.trackClassUsage();
+    this.trackJavacPhaseEvents = initShim.trackJavacPhaseEvents();
+    this.incrementalCompilation = initShim.isIncrementalCompilation();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "JavacOptions", generator = "Immutables")
+  private final class InitShim {
+    private byte spoolModeBuildStage = STAGE_UNINITIALIZED;
+    private JavacOptions.SpoolMode spoolMode;
+
+    JavacOptions.SpoolMode getSpoolMode() {
+      if (spoolModeBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (spoolModeBuildStage == STAGE_UNINITIALIZED) {
+        spoolModeBuildStage = STAGE_INITIALIZING;
+        this.spoolMode = Objects.requireNonNull(ImmutableJavacOptions.super.getSpoolMode(), "spoolMode");
+        spoolModeBuildStage = STAGE_INITIALIZED;
+      }
+      return this.spoolMode;
+    }
+
+    void setSpoolMode(JavacOptions.SpoolMode spoolMode) {
+      this.spoolMode = spoolMode;
+      spoolModeBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte productionBuildBuildStage = STAGE_UNINITIALIZED;
+    private boolean productionBuild;
+
+    boolean isProductionBuild() {
+      if (productionBuildBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (productionBuildBuildStage == STAGE_UNINITIALIZED) {
+        productionBuildBuildStage = STAGE_INITIALIZING;
+        this.productionBuild = ImmutableJavacOptions.super.isProductionBuild();
+        productionBuildBuildStage = STAGE_INITIALIZED;
+      }
+      return this.productionBuild;
+    }
+
+    void setProductionBuild(boolean productionBuild) {
+      this.productionBuild = productionBuild;
+      productionBuildBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte verboseBuildStage = STAGE_UNINITIALIZED;
+    private boolean verbose;
+
+    boolean isVerbose() {
+      if (verboseBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (verboseBuildStage == STAGE_UNINITIALIZED) {
+        verboseBuildStage = STAGE_INITIALIZING;
+        this.verbose = ImmutableJavacOptions.super.isVerbose();
+        verboseBuildStage = STAGE_INITIALIZED;
+      }
+      return this.verbose;
+    }
+
+    void setVerbose(boolean verbose) {
+      this.verbose = verbose;
+      verboseBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte languageLevelOptionsBuildStage = STAGE_UNINITIALIZED;
+    private JavacLanguageLevelOptions languageLevelOptions;
+
+    JavacLanguageLevelOptions getLanguageLevelOptions() {
+      if (languageLevelOptionsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (languageLevelOptionsBuildStage == STAGE_UNINITIALIZED) {
+        languageLevelOptionsBuildStage = STAGE_INITIALIZING;
+        this.languageLevelOptions = Objects.requireNonNull(ImmutableJavacOptions.super.getLanguageLevelOptions(), "languageLevelOptions");
+        languageLevelOptionsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.languageLevelOptions;
+    }
+
+    void setLanguageLevelOptions(JavacLanguageLevelOptions languageLevelOptions) {
+      this.languageLevelOptions = languageLevelOptions;
+      languageLevelOptionsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte javaAnnotationProcessorParamsBuildStage = STAGE_UNINITIALIZED;
+    private JavacPluginParams javaAnnotationProcessorParams;
+
+    JavacPluginParams getJavaAnnotationProcessorParams() {
+      if (javaAnnotationProcessorParamsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (javaAnnotationProcessorParamsBuildStage == STAGE_UNINITIALIZED) {
+        javaAnnotationProcessorParamsBuildStage = STAGE_INITIALIZING;
+        this.javaAnnotationProcessorParams = Objects.requireNonNull(ImmutableJavacOptions.super.getJavaAnnotationProcessorParams(), "javaAnnotationProcessorParams");
+        javaAnnotationProcessorParamsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.javaAnnotationProcessorParams;
+    }
+
+    void setJavaAnnotationProcessorParams(JavacPluginParams javaAnnotationProcessorParams) {
+      this.javaAnnotationProcessorParams = javaAnnotationProcessorParams;
+      javaAnnotationProcessorParamsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte standardJavacPluginParamsBuildStage = STAGE_UNINITIALIZED;
+    private JavacPluginParams standardJavacPluginParams;
+
+    JavacPluginParams getStandardJavacPluginParams() {
+      if (standardJavacPluginParamsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (standardJavacPluginParamsBuildStage == STAGE_UNINITIALIZED) {
+        standardJavacPluginParamsBuildStage = STAGE_INITIALIZING;
+        this.standardJavacPluginParams = Objects.requireNonNull(ImmutableJavacOptions.super.getStandardJavacPluginParams(), "standardJavacPluginParams");
+        standardJavacPluginParamsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.standardJavacPluginParams;
+    }
+
+    void setStandardJavacPluginParams(JavacPluginParams standardJavacPluginParams) {
+      this.standardJavacPluginParams = standardJavacPluginParams;
+      standardJavacPluginParamsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte trackClassUsageBuildStage = STAGE_UNINITIALIZED;
+    private boolean trackClassUsage;
+
+    boolean trackClassUsage() {
+      if (trackClassUsageBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (trackClassUsageBuildStage == STAGE_UNINITIALIZED) {
+        trackClassUsageBuildStage = STAGE_INITIALIZING;
+        this.trackClassUsage = ImmutableJavacOptions.super.trackClassUsage();
+        trackClassUsageBuildStage = STAGE_INITIALIZED;
+      }
+      return this.trackClassUsage;
+    }
+
+    void setTrackClassUsage(boolean trackClassUsage) {
+      this.trackClassUsage = trackClassUsage;
+      trackClassUsageBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte trackJavacPhaseEventsBuildStage = STAGE_UNINITIALIZED;
+    private boolean trackJavacPhaseEvents;
+
+    boolean trackJavacPhaseEvents() {
+      if (trackJavacPhaseEventsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (trackJavacPhaseEventsBuildStage == STAGE_UNINITIALIZED) {
+        trackJavacPhaseEventsBuildStage = STAGE_INITIALIZING;
+        this.trackJavacPhaseEvents = ImmutableJavacOptions.super.trackJavacPhaseEvents();
+        trackJavacPhaseEventsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.trackJavacPhaseEvents;
+    }
+
+    void setTrackJavacPhaseEvents(boolean trackJavacPhaseEvents) {
+      this.trackJavacPhaseEvents = trackJavacPhaseEvents;
+      trackJavacPhaseEventsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte incrementalCompilationBuildStage = STAGE_UNINITIALIZED;
+    private boolean incrementalCompilation;
+
+    boolean isIncrementalCompilation() {
+      if (incrementalCompilationBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (incrementalCompilationBuildStage == STAGE_UNINITIALIZED) {
+        incrementalCompilationBuildStage = STAGE_INITIALIZING;
+        this.incrementalCompilation = ImmutableJavacOptions.super.isIncrementalCompilation();
+        incrementalCompilationBuildStage = STAGE_INITIALIZED;
+      }
+      return this.incrementalCompilation;
+    }
+
+    void setIncrementalCompilation(boolean incrementalCompilation) {
+      this.incrementalCompilation = incrementalCompilation;
+      incrementalCompilationBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (spoolModeBuildStage == STAGE_INITIALIZING) attributes.add("spoolMode");
+      if (productionBuildBuildStage == STAGE_INITIALIZING) attributes.add("productionBuild");
+      if (verboseBuildStage == STAGE_INITIALIZING) attributes.add("verbose");
+      if (languageLevelOptionsBuildStage == STAGE_INITIALIZING) attributes.add("languageLevelOptions");
+      if (javaAnnotationProcessorParamsBuildStage == STAGE_INITIALIZING) attributes.add("javaAnnotationProcessorParams");
+      if (standardJavacPluginParamsBuildStage == STAGE_INITIALIZING) attributes.add("standardJavacPluginParams");
+      if (trackClassUsageBuildStage == STAGE_INITIALIZING) attributes.add("trackClassUsage");
+      if (trackJavacPhaseEventsBuildStage == STAGE_INITIALIZING) attributes.add("trackJavacPhaseEvents");
+      if (incrementalCompilationBuildStage == STAGE_INITIALIZING) attributes.add("incrementalCompilation");
+      return "Cannot build JavacOptions, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code spoolMode} attribute
+   */
+  @Override
+  public JavacOptions.SpoolMode getSpoolMode() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getSpoolMode()
+        : this.spoolMode;
+  }
+
+  /**
+   * @return The value of the {@code productionBuild} attribute
+   */
+  @Override
+  protected boolean isProductionBuild() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isProductionBuild()
+        : this.productionBuild;
+  }
+
+  /**
+   * @return The value of the {@code verbose} attribute
+   */
+  @Override
+  protected boolean isVerbose() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isVerbose()
+        : this.verbose;
+  }
+
+  /**
+   * @return The value of the {@code languageLevelOptions} attribute
+   */
+  @Override
+  public JavacLanguageLevelOptions getLanguageLevelOptions() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getLanguageLevelOptions()
+        : this.languageLevelOptions;
+  }
+
+  /**
+   * @return The value of the {@code javaAnnotationProcessorParams} attribute
+   */
+  @Override
+  public JavacPluginParams getJavaAnnotationProcessorParams() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getJavaAnnotationProcessorParams()
+        : this.javaAnnotationProcessorParams;
+  }
+
+  /**
+   * @return The value of the {@code standardJavacPluginParams} attribute
+   */
+  @Override
+  public JavacPluginParams getStandardJavacPluginParams() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getStandardJavacPluginParams()
+        : this.standardJavacPluginParams;
+  }
+
+  /**
+   * @return The value of the {@code extraArguments} attribute
+   */
+  @Override
+  public ImmutableList<String> getExtraArguments() {
+    return extraArguments;
+  }
+
+  /**
+   * @return The value of the {@code bootclasspath} attribute
+   */
+  @Override
+  public Optional<String> getBootclasspath() {
+    return Optional.ofNullable(bootclasspath);
+  }
+
+  /**
+   * @return The value of the {@code sourceToBootclasspath} attribute
+   */
+  @Override
+  protected ImmutableMap<String, ImmutableList<PathSourcePath>> getSourceToBootclasspath() {
+    return sourceToBootclasspath;
+  }
+
+  /**
+   * @return The value of the {@code trackClassUsage} attribute
+   */
+  @Override
+  public boolean trackClassUsage() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.trackClassUsage()
+        : this.trackClassUsage;
+  }
+
+  /**
+   * @return The value of the {@code trackJavacPhaseEvents} attribute
+   */
+  @Override
+  public boolean trackJavacPhaseEvents() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.trackJavacPhaseEvents()
+        : this.trackJavacPhaseEvents;
+  }
+
+  /**
+   * @return The value of the {@code incrementalCompilation} attribute
+   */
+  @Override
+  public boolean isIncrementalCompilation() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isIncrementalCompilation()
+        : this.incrementalCompilation;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableJavacOptions} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableJavacOptions
+        && equalTo((ImmutableJavacOptions) another);
+  }
+
+  private boolean equalTo(ImmutableJavacOptions another) {
+    return spoolMode.equals(another.spoolMode)
+        && productionBuild == another.productionBuild
+        && verbose == another.verbose
+        && languageLevelOptions.equals(another.languageLevelOptions)
+        && javaAnnotationProcessorParams.equals(another.javaAnnotationProcessorParams)
+        && standardJavacPluginParams.equals(another.standardJavacPluginParams)
+        && extraArguments.equals(another.extraArguments)
+        && Objects.equals(bootclasspath, another.bootclasspath)
+        && sourceToBootclasspath.equals(another.sourceToBootclasspath)
+        && trackClassUsage == another.trackClassUsage
+        && trackJavacPhaseEvents == another.trackJavacPhaseEvents
+        && incrementalCompilation == another.incrementalCompilation;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code spoolMode}, {@code productionBuild}, {@code verbose}, {@code languageLevelOptions}, {@code javaAnnotationProcessorParams}, {@code standardJavacPluginParams}, {@code extraArguments}, {@code bootclasspath}, {@code sourceToBootclasspath}, {@code trackClassUsage}, {@code trackJavacPhaseEvents}, {@code incrementalCompilation}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + spoolMode.hashCode();
+    h += (h << 5) + Booleans.hashCode(productionBuild);
+    h += (h << 5) + Booleans.hashCode(verbose);
+    h += (h << 5) + languageLevelOptions.hashCode();
+    h += (h << 5) + javaAnnotationProcessorParams.hashCode();
+    h += (h << 5) + standardJavacPluginParams.hashCode();
+    h += (h << 5) + extraArguments.hashCode();
+    h += (h << 5) + Objects.hashCode(bootclasspath);
+    h += (h << 5) + sourceToBootclasspath.hashCode();
+    h += (h << 5) + Booleans.hashCode(trackClassUsage);
+    h += (h << 5) + Booleans.hashCode(trackJavacPhaseEvents);
+    h += (h << 5) + Booleans.hashCode(incrementalCompilation);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code JavacOptions} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("JavacOptions")
+        .omitNullValues()
+        .add("spoolMode", spoolMode)
+        .add("productionBuild", productionBuild)
+        .add("verbose", verbose)
+        .add("languageLevelOptions", languageLevelOptions)
+        .add("javaAnnotationProcessorParams", javaAnnotationProcessorParams)
+        .add("standardJavacPluginParams", standardJavacPluginParams)
+        .add("extraArguments", extraArguments)
+        .add("bootclasspath", bootclasspath)
+        .add("sourceToBootclasspath", sourceToBootclasspath)
+        .add("trackClassUsage", trackClassUsage)
+        .add("trackJavacPhaseEvents", trackJavacPhaseEvents)
+        .add("incrementalCompilation", incrementalCompilation)
+        .toString();
+  }
+
+  /**
+   * Builds instances of type {@link JavacOptions JavacOptions}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "JavacOptions", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private static final long OPT_BIT_PRODUCTION_BUILD = 0x1L;
+    private static final long OPT_BIT_VERBOSE = 0x2L;
+    private static final long OPT_BIT_TRACK_CLASS_USAGE = 0x4L;
+    private static final long OPT_BIT_TRACK_JAVAC_PHASE_EVENTS = 0x8L;
+    private static final long OPT_BIT_INCREMENTAL_COMPILATION = 0x10L;
+    private long optBits;
+
+    private @Nullable JavacOptions.SpoolMode spoolMode;
+    private boolean productionBuild;
+    private boolean verbose;
+    private @Nullable JavacLanguageLevelOptions languageLevelOptions;
+    private @Nullable JavacPluginParams javaAnnotationProcessorParams;
+    private @Nullable JavacPluginParams standardJavacPluginParams;
+    private ImmutableList.Builder<String> extraArguments = ImmutableList.builder();
+    private @Nullable String bootclasspath;
+    private ImmutableMap.Builder<String, ImmutableList<PathSourcePath>> sourceToBootclasspath = ImmutableMap.builder();
+    private boolean trackClassUsage;
+    private boolean trackJavacPhaseEvents;
+    private boolean incrementalCompilation;
+
+    /**
+     * Creates a builder for {@link JavacOptions JavacOptions} instances.
+     */
+    public Builder() {
+      if (!(this instanceof JavacOptions.Builder)) {
+        throw new UnsupportedOperationException("Use: new JavacOptions.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code JavacOptions} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacOptions.Builder from(JavacOptions instance) {
+      Objects.requireNonNull(instance, "instance");
+      setSpoolMode(instance.getSpoolMode());
+      setProductionBuild(instance.isProductionBuild());
+      setVerbose(instance.isVerbose());
+      setLanguageLevelOptions(instance.getLanguageLevelOptions());
+      setJavaAnnotationProcessorParams(instance.getJavaAnnotationProcessorParams());
+      setStandardJavacPluginParams(instance.getStandardJavacPluginParams());
+      addAllExtraArguments(instance.getExtraArguments());
+      Optional<String> bootclasspathOptional = instance.getBootclasspath();
+      if (bootclasspathOptional.isPresent()) {
+        setBootclasspath(bootclasspathOptional);
+      }
+      putAllSourceToBootclasspath(instance.getSourceToBootclasspath());
+      setTrackClassUsage(instance.trackClassUsage());
+      setTrackJavacPhaseEvents(instance.trackJavacPhaseEvents());
+      setIncrementalCompilation(instance.isIncrementalCompilation());
+      return (JavacOptions.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link JavacOptions#getSpoolMode() spoolMode} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link JavacOptions#getSpoolMode() spoolMode}.</em>
+     * @param spoolMode The value for spoolMode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacOptions.Builder setSpoolMode(JavacOptions.SpoolMode spoolMode) {
+      this.spoolMode = Objects.requireNonNull(spoolMode, "spoolMode");
+      return (JavacOptions.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link JavacOptions#isProductionBuild() productionBuild} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link JavacOptions#isProductionBuild() productionBuild}.</em>
+     * @param productionBuild The value for productionBuild 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacOptions.Builder setProductionBuild(boolean productionBuild) {
+      this.productionBuild = productionBuild;
+      optBits |= OPT_BIT_PRODUCTION_BUILD;
+      return (JavacOptions.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link JavacOptions#isVerbose() verbose} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link JavacOptions#isVerbose() verbose}.</em>
+     * @param verbose The value for verbose 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacOptions.Builder setVerbose(boolean verbose) {
+      this.verbose = verbose;
+      optBits |= OPT_BIT_VERBOSE;
+      return (JavacOptions.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link JavacOptions#getLanguageLevelOptions() languageLevelOptions} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link JavacOptions#getLanguageLevelOptions() languageLevelOptions}.</em>
+     * @param languageLevelOptions The value for languageLevelOptions 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacOptions.Builder setLanguageLevelOptions(JavacLanguageLevelOptions languageLevelOptions) {
+      this.languageLevelOptions = Objects.requireNonNull(languageLevelOptions, "languageLevelOptions");
+      return (JavacOptions.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link JavacOptions#getJavaAnnotationProcessorParams() javaAnnotationProcessorParams} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link JavacOptions#getJavaAnnotationProcessorParams() javaAnnotationProcessorParams}.</em>
+     * @param javaAnnotationProcessorParams The value for javaAnnotationProcessorParams 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacOptions.Builder setJavaAnnotationProcessorParams(JavacPluginParams javaAnnotationProcessorParams) {
+      this.javaAnnotationProcessorParams = Objects.requireNonNull(javaAnnotationProcessorParams, "javaAnnotationProcessorParams");
+      return (JavacOptions.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link JavacOptions#getStandardJavacPluginParams() standardJavacPluginParams} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link JavacOptions#getStandardJavacPluginParams() standardJavacPluginParams}.</em>
+     * @param standardJavacPluginParams The value for standardJavacPluginParams 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacOptions.Builder setStandardJavacPluginParams(JavacPluginParams standardJavacPluginParams) {
+      this.standardJavacPluginParams = Objects.requireNonNull(standardJavacPluginParams, "standardJavacPluginParams");
+      return (JavacOptions.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link JavacOptions#getExtraArguments() extraArguments} list.
+     * @param element A extraArguments element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacOptions.Builder addExtraArguments(String element) {
+      this.extraArguments.add(element);
+      return (JavacOptions.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link JavacOptions#getExtraArguments() extraArguments} list.
+     * @param elements An array of extraArguments elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacOptions.Builder addExtraArguments(String... elements) {
+      this.extraArguments.add(elements);
+      return (JavacOptions.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JavacOptions#getExtraArguments() extraArguments} list.
+     * @param elements An iterable of extraArguments elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacOptions.Builder setExtraArguments(Iterable<String> elements) {
+      this.extraArguments = ImmutableList.builder();
+      return addAllExtraArguments(elements);
+    }
+
+    /**
+     * Adds elements to {@link JavacOptions#getExtraArguments() extraArguments} list.
+     * @param elements An iterable of extraArguments elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacOptions.Builder addAllExtraArguments(Iterable<String> elements) {
+      this.extraArguments.addAll(elements);
+      return (JavacOptions.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link JavacOptions#getBootclasspath() bootclasspath} to bootclasspath.
+     * @param bootclasspath The value for bootclasspath
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacOptions.Builder setBootclasspath(String bootclasspath) {
+      this.bootclasspath = Objects.requireNonNull(bootclasspath, "bootclasspath");
+      return (JavacOptions.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link JavacOptions#getBootclasspath() bootclasspath} to bootclasspath.
+     * @param bootclasspath The value for bootclasspath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacOptions.Builder setBootclasspath(Optional<String> bootclasspath) {
+      this.bootclasspath = bootclasspath.orElse(null);
+      return (JavacOptions.Builder) this;
+    }
+
+    /**
+     * Put one entry to the {@link JavacOptions#getSourceToBootclasspath() sourceToBootclasspath} map.
+     * @param key The key in the sourceToBootclasspath map
+     * @param value The associated value in the sourceToBootclasspath map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacOptions.Builder putSourceToBootclasspath(String key, ImmutableList<PathSourcePath> value) {
+      this.sourceToBootclasspath.put(key, value);
+      return (JavacOptions.Builder) this;
+    }
+
+    /**
+     * Put one entry to the {@link JavacOptions#getSourceToBootclasspath() sourceToBootclasspath} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacOptions.Builder putSourceToBootclasspath(Map.Entry<String, ? extends ImmutableList<PathSourcePath>> entry) {
+      this.sourceToBootclasspath.put(entry);
+      return (JavacOptions.Builder) this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link JavacOptions#getSourceToBootclasspath() sourceToBootclasspath} map. Nulls are not permitted
+     * @param entries The entries that will be added to the sourceToBootclasspath map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacOptions.Builder setSourceToBootclasspath(Map<String, ? extends ImmutableList<PathSourcePath>> entries) {
+      this.sourceToBootclasspath = ImmutableMap.builder();
+      return putAllSourceToBootclasspath(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link JavacOptions#getSourceToBootclasspath() sourceToBootclasspath} map. Nulls are not permitted
+     * @param entries The entries that will be added to the sourceToBootclasspath map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacOptions.Builder putAllSourceToBootclasspath(Map<String, ? extends ImmutableList<PathSourcePath>> entries) {
+      this.sourceToBootclasspath.putAll(entries);
+      return (JavacOptions.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link JavacOptions#trackClassUsage() trackClassUsage} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link JavacOptions#trackClassUsage() trackClassUsage}.</em>
+     * @param trackClassUsage The value for trackClassUsage 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacOptions.Builder setTrackClassUsage(boolean trackClassUsage) {
+      this.trackClassUsage = trackClassUsage;
+      optBits |= OPT_BIT_TRACK_CLASS_USAGE;
+      return (JavacOptions.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link JavacOptions#trackJavacPhaseEvents() trackJavacPhaseEvents} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link JavacOptions#trackJavacPhaseEvents() trackJavacPhaseEvents}.</em>
+     * @param trackJavacPhaseEvents The value for trackJavacPhaseEvents 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacOptions.Builder setTrackJavacPhaseEvents(boolean trackJavacPhaseEvents) {
+      this.trackJavacPhaseEvents = trackJavacPhaseEvents;
+      optBits |= OPT_BIT_TRACK_JAVAC_PHASE_EVENTS;
+      return (JavacOptions.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link JavacOptions#isIncrementalCompilation() incrementalCompilation} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link JavacOptions#isIncrementalCompilation() incrementalCompilation}.</em>
+     * @param incrementalCompilation The value for incrementalCompilation 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacOptions.Builder setIncrementalCompilation(boolean incrementalCompilation) {
+      this.incrementalCompilation = incrementalCompilation;
+      optBits |= OPT_BIT_INCREMENTAL_COMPILATION;
+      return (JavacOptions.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link JavacOptions JavacOptions}.
+     * @return An immutable instance of JavacOptions
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public JavacOptions build() {
+      return new ImmutableJavacOptions(this);
+    }
+
+    private boolean productionBuildIsSet() {
+      return (optBits & OPT_BIT_PRODUCTION_BUILD) != 0;
+    }
+
+    private boolean verboseIsSet() {
+      return (optBits & OPT_BIT_VERBOSE) != 0;
+    }
+
+    private boolean trackClassUsageIsSet() {
+      return (optBits & OPT_BIT_TRACK_CLASS_USAGE) != 0;
+    }
+
+    private boolean trackJavacPhaseEventsIsSet() {
+      return (optBits & OPT_BIT_TRACK_JAVAC_PHASE_EVENTS) != 0;
+    }
+
+    private boolean incrementalCompilationIsSet() {
+      return (optBits & OPT_BIT_INCREMENTAL_COMPILATION) != 0;
+    }
+  }
+}
@@ -0,0 +1,385 @@
+package com.facebook.buck.log;
+
+import com.facebook.buck.core.model.BuildId;
+import com.facebook.buck.log.views.JsonViews;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonView;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.collect.ImmutableList;
+import com.google.common.primitives.Booleans;
+import com.google.common.primitives.Longs;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link InvocationInfo}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableInvocationInfo.of()}.
+ */
+@Generated(from = "InvocationInfo", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableInvocationInfo extends InvocationInfo {
+  private final BuildId buildId;
+  private final boolean superConsoleEnabled;
+  private final boolean isDaemon;
+  private final String subCommand;
+  private final ImmutableList<String> commandArgs;
+  private final ImmutableList<String> unexpandedCommandArgs;
+  private final Path buckLogDir;
+  private final boolean isRemoteExecution;
+  private final String repository;
+  private final String watchmanVersion;
+  private final long timestampMillis;
+
+  private ImmutableInvocationInfo(
+      BuildId buildId,
+      boolean superConsoleEnabled,
+      boolean isDaemon,
+      String subCommand,
+      Iterable<String> commandArgs,
+      Iterable<String> unexpandedCommandArgs,
+      Path buckLogDir,
+      boolean isRemoteExecution,
+      String repository,
+      String watchmanVersion,
+      long timestampMillis) {
+    this.buildId = Objects.requireNonNull(buildId, "buildId");
+    this.superConsoleEnabled = superConsoleEnabled;
+    this.isDaemon = isDaemon;
+    this.subCommand = Objects.requireNonNull(subCommand, "subCommand");
+    this.commandArgs = ImmutableList.copyOf(commandArgs);
+    this.unexpandedCommandArgs = ImmutableList.copyOf(unexpandedCommandArgs);
+    this.buckLogDir = Objects.requireNonNull(buckLogDir, "buckLogDir");
+    this.isRemoteExecution = isRemoteExecution;
+    this.repository = Objects.requireNonNull(repository, "repository");
+    this.watchmanVersion = Objects.requireNonNull(watchmanVersion, "watchmanVersion");
+    this.timestampMillis = timestampMillis;
+  }
+
+  /**
+   * @return The value of the {@code buildId} attribute
+   */
+  @JsonProperty
+  @JsonView(JsonViews.MachineReadableLog.class)
+  @Override
+  public BuildId getBuildId() {
+    return buildId;
+  }
+
+  /**
+   * @return The value of the {@code superConsoleEnabled} attribute
+   */
+  @JsonProperty
+  @JsonView(JsonViews.MachineReadableLog.class)
+  @Override
+  public boolean getSuperConsoleEnabled() {
+    return superConsoleEnabled;
+  }
+
+  /**
+   * @return The value of the {@code isDaemon} attribute
+   */
+  @JsonProperty
+  @JsonView(JsonViews.MachineReadableLog.class)
+  @Override
+  public boolean getIsDaemon() {
+    return isDaemon;
+  }
+
+  /**
+   * @return The value of the {@code subCommand} attribute
+   */
+  @JsonProperty
+  @JsonView(JsonViews.MachineReadableLog.class)
+  @Override
+  public String getSubCommand() {
+    return subCommand;
+  }
+
+  /**
+   * @return The value of the {@code commandArgs} attribute
+   */
+  @JsonProperty
+  @JsonView(JsonViews.MachineReadableLog.class)
+  @Override
+  public ImmutableList<String> getCommandArgs() {
+    return commandArgs;
+  }
+
+  /**
+   * @return The value of the {@code unexpandedCommandArgs} attribute
+   */
+  @JsonProperty
+  @JsonView(JsonViews.MachineReadableLog.class)
+  @Override
+  public ImmutableList<String> getUnexpandedCommandArgs() {
+    return unexpandedCommandArgs;
+  }
+
+  /**
+   * @return The value of the {@code buckLogDir} attribute
+   */
+  @JsonProperty
+  @JsonView(JsonViews.MachineReadableLog.class)
+  @Override
+  public Path getBuckLogDir() {
+    return buckLogDir;
+  }
+
+  /**
+   * @return The value of the {@code isRemoteExecution} attribute
+   */
+  @JsonProperty
+  @JsonView(JsonViews.MachineReadableLog.class)
+  @Override
+  public boolean getIsRemoteExecution() {
+    return isRemoteExecution;
+  }
+
+  /**
+   * @return The value of the {@code repository} attribute
+   */
+  @JsonProperty
+  @JsonView(JsonViews.MachineReadableLog.class)
+  @Override
+  public String getRepository() {
+    return repository;
+  }
+
+  /**
+   * @return The value of the {@code watchmanVersion} attribute
+   */
+  @JsonProperty
+  @JsonView(JsonViews.MachineReadableLog.class)
+  @Override
+  public String getWatchmanVersion() {
+    return watchmanVersion;
+  }
+
+  /**
+   * @return The value of the {@code timestampMillis} attribute
+   */
+  @JsonProperty
+  @JsonView(JsonViews.MachineReadableLog.class)
+  @Override
+  public long getTimestampMillis() {
+    return timestampMillis;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableInvocationInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableInvocationInfo
+        && equalTo((ImmutableInvocationInfo) another);
+  }
+
+  private boolean equalTo(ImmutableInvocationInfo another) {
+    return buildId.equals(another.buildId)
+        && superConsoleEnabled == another.superConsoleEnabled
+        && isDaemon == another.isDaemon
+        && subCommand.equals(another.subCommand)
+        && commandArgs.equals(another.commandArgs)
+        && unexpandedCommandArgs.equals(another.unexpandedCommandArgs)
+        && buckLogDir.equals(another.buckLogDir)
+        && isRemoteExecution == another.isRemoteExecution
+        && repository.equals(another.repository)
+        && watchmanVersion.equals(another.watchmanVersion)
+        && timestampMillis == another.timestampMillis;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buildId}, {@code superConsoleEnabled}, {@code isDaemon}, {@code subCommand}, {@code commandArgs}, {@code unexpandedCommandArgs}, {@code buckLogDir}, {@code isRemoteExecution}, {@code repository}, {@code watchmanVersion}, {@code timestampMillis}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + buildId.hashCode();
+    h += (h << 5) + Booleans.hashCode(superConsoleEnabled);
+    h += (h << 5) + Booleans.hashCode(isDaemon);
+    h += (h << 5) + subCommand.hashCode();
+    h += (h << 5) + commandArgs.hashCode();
+    h += (h << 5) + unexpandedCommandArgs.hashCode();
+    h += (h << 5) + buckLogDir.hashCode();
+    h += (h << 5) + Booleans.hashCode(isRemoteExecution);
+    h += (h << 5) + repository.hashCode();
+    h += (h << 5) + watchmanVersion.hashCode();
+    h += (h << 5) + Longs.hashCode(timestampMillis);
+    return h;
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "InvocationInfo", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends InvocationInfo {
+    @Nullable BuildId buildId;
+    boolean superConsoleEnabled;
+    boolean superConsoleEnabledIsSet;
+    boolean isDaemon;
+    boolean isDaemonIsSet;
+    @Nullable String subCommand;
+    @Nullable ImmutableList<String> commandArgs = ImmutableList.of();
+    @Nullable ImmutableList<String> unexpandedCommandArgs = ImmutableList.of();
+    @Nullable Path buckLogDir;
+    boolean isRemoteExecution;
+    boolean isRemoteExecutionIsSet;
+    @Nullable String repository;
+    @Nullable String watchmanVersion;
+    long timestampMillis;
+    boolean timestampMillisIsSet;
+    @JsonProperty
+    @JsonView(JsonViews.MachineReadableLog.class)
+    public void setBuildId(BuildId buildId) {
+      this.buildId = buildId;
+    }
+    @JsonProperty
+    @JsonView(JsonViews.MachineReadableLog.class)
+    public void setSuperConsoleEnabled(boolean superConsoleEnabled) {
+      this.superConsoleEnabled = superConsoleEnabled;
+      this.superConsoleEnabledIsSet = true;
+    }
+    @JsonProperty
+    @JsonView(JsonViews.MachineReadableLog.class)
+    public void setIsDaemon(boolean isDaemon) {
+      this.isDaemon = isDaemon;
+      this.isDaemonIsSet = true;
+    }
+    @JsonProperty
+    @JsonView(JsonViews.MachineReadableLog.class)
+    public void setSubCommand(String subCommand) {
+      this.subCommand = subCommand;
+    }
+    @JsonProperty
+    @JsonView(JsonViews.MachineReadableLog.class)
+    public void setCommandArgs(ImmutableList<String> commandArgs) {
+      this.commandArgs = commandArgs;
+    }
+    @JsonProperty
+    @JsonView(JsonViews.MachineReadableLog.class)
+    public void setUnexpandedCommandArgs(ImmutableList<String> unexpandedCommandArgs) {
+      this.unexpandedCommandArgs = unexpandedCommandArgs;
+    }
+    @JsonProperty
+    @JsonView(JsonViews.MachineReadableLog.class)
+    public void setBuckLogDir(Path buckLogDir) {
+      this.buckLogDir = buckLogDir;
+    }
+    @JsonProperty
+    @JsonView(JsonViews.MachineReadableLog.class)
+    public void setIsRemoteExecution(boolean isRemoteExecution) {
+      this.isRemoteExecution = isRemoteExecution;
+      this.isRemoteExecutionIsSet = true;
+    }
+    @JsonProperty
+    @JsonView(JsonViews.MachineReadableLog.class)
+    public void setRepository(String repository) {
+      this.repository = repository;
+    }
+    @JsonProperty
+    @JsonView(JsonViews.MachineReadableLog.class)
+    public void setWatchmanVersion(String watchmanVersion) {
+      this.watchmanVersion = watchmanVersion;
+    }
+    @JsonProperty
+    @JsonView(JsonViews.MachineReadableLog.class)
+    public void setTimestampMillis(long timestampMillis) {
+      this.timestampMillis = timestampMillis;
+      this.timestampMillisIsSet = true;
+    }
+    @Override
+    public BuildId getBuildId() { throw new UnsupportedOperationException(); }
+    @Override
+    public boolean getSuperConsoleEnabled() { throw new UnsupportedOperationException(); }
+    @Override
+    public boolean getIsDaemon() { throw new UnsupportedOperationException(); }
+    @Override
+    public String getSubCommand() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableList<String> getCommandArgs() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableList<String> getUnexpandedCommandArgs() { throw new UnsupportedOperationException(); }
+    @Override
+    public Path getBuckLogDir() { throw new UnsupportedOperationException(); }
+    @Override
+    public boolean getIsRemoteExecution() { throw new UnsupportedOperationException(); }
+    @Override
+    public String getRepository() { throw new UnsupportedOperationException(); }
+    @Override
+    public String getWatchmanVersion() { throw new UnsupportedOperationException(); }
+    @Override
+    public long getTimestampMillis() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ImmutableInvocationInfo fromJson(Json json) {
+    ImmutableInvocationInfo instance = ImmutableInvocationInfo.of(json.buildId, json.superConsoleEnabled, json.isDaemon, json.subCommand, json.commandArgs, json.unexpandedCommandArgs, json.buckLogDir, json.isRemoteExecution, json.repository, json.watchmanVersion, json.timestampMillis);
+    return instance;
+  }
+
+  /**
+   * Construct a new immutable {@code InvocationInfo} instance.
+   * @param buildId The value for the {@code buildId} attribute
+   * @param superConsoleEnabled The value for the {@code superConsoleEnabled} attribute
+   * @param isDaemon The value for the {@code isDaemon} attribute
+   * @param subCommand The value for the {@code subCommand} attribute
+   * @param commandArgs The value for the {@code commandArgs} attribute
+   * @param unexpandedCommandArgs The value for the {@code unexpandedCommandArgs} attribute
+   * @param buckLogDir The value for the {@code buckLogDir} attribute
+   * @param isRemoteExecution The value for the {@code isRemoteExecution} attribute
+   * @param repository The value for the {@code repository} attribute
+   * @param watchmanVersion The value for the {@code watchmanVersion} attribute
+   * @param timestampMillis The value for the {@code timestampMillis} attribute
+   * @return An immutable InvocationInfo instance
+   */
+  public static ImmutableInvocationInfo of(BuildId buildId, boolean superConsoleEnabled, boolean isDaemon, String subCommand, ImmutableList<String> commandArgs, ImmutableList<String> unexpandedCommandArgs, Path buckLogDir, boolean isRemoteExecution, String repository, String watchmanVersion, long timestampMillis) {
+    return of(buildId, superConsoleEnabled, isDaemon, subCommand, (Iterable<String>) commandArgs, (Iterable<String>) unexpandedCommandArgs, buckLogDir, isRemoteExecution, repository, watchmanVersion, timestampMillis);
+  }
+
+  /**
+   * Construct a new immutable {@code InvocationInfo} instance.
+   * @param buildId The value for the {@code buildId} attribute
+   * @param superConsoleEnabled The value for the {@code superConsoleEnabled} attribute
+   * @param isDaemon The value for the {@code isDaemon} attribute
+   * @param subCommand The value for the {@code subCommand} attribute
+   * @param commandArgs The value for the {@code commandArgs} attribute
+   * @param unexpandedCommandArgs The value for the {@code unexpandedCommandArgs} attribute
+   * @param buckLogDir The value for the {@code buckLogDir} attribute
+   * @param isRemoteExecution The value for the {@code isRemoteExecution} attribute
+   * @param repository The value for the {@code repository} attribute
+   * @param watchmanVersion The value for the {@code watchmanVersion} attribute
+   * @param timestampMillis The value for the {@code timestampMillis} attribute
+   * @return An immutable InvocationInfo instance
+   */
+  public static ImmutableInvocationInfo of(BuildId buildId, boolean superConsoleEnabled, boolean isDaemon, String subCommand, Iterable<String> commandArgs, Iterable<String> unexpandedCommandArgs, Path buckLogDir, boolean isRemoteExecution, String repository, String watchmanVersion, long timestampMillis) {
+    return new ImmutableInvocationInfo(buildId, superConsoleEnabled, isDaemon, subCommand, commandArgs, unexpandedCommandArgs, buckLogDir, isRemoteExecution, repository, watchmanVersion, timestampMillis);
+  }
+}
@@ -0,0 +1,120 @@
+package com.facebook.buck.parser;
+
+import com.facebook.buck.core.config.BuckConfig;
+import com.facebook.buck.core.model.TargetConfiguration;
+import com.facebook.buck.core.model.platform.TargetPlatformResolver;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link DefaultSelectableConfigurationContext}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableDefaultSelectableConfigurationContext.of()}.
+ */
+@Generated(from = "DefaultSelectableConfigurationContext", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableDefaultSelectableConfigurationContext
+    extends DefaultSelectableConfigurationContext {
+  private final BuckConfig buckConfig;
+  private final TargetConfiguration targetConfiguration;
+  private final TargetPlatformResolver platformProvider;
+
+  private ImmutableDefaultSelectableConfigurationContext(
+      BuckConfig buckConfig,
+      TargetConfiguration targetConfiguration,
+      TargetPlatformResolver platformProvider) {
+    this.buckConfig = Objects.requireNonNull(buckConfig, "buckConfig");
+    this.targetConfiguration = Objects.requireNonNull(targetConfiguration, "targetConfiguration");
+    this.platformProvider = Objects.requireNonNull(platformProvider, "platformProvider");
+  }
+
+  /**
+   * @return The value of the {@code buckConfig} attribute
+   */
+  @Override
+  public BuckConfig getBuckConfig() {
+    return buckConfig;
+  }
+
+  /**
+   * @return The value of the {@code targetConfiguration} attribute
+   */
+  @Override
+  public TargetConfiguration getTargetConfiguration() {
+    return targetConfiguration;
+  }
+
+  /**
+   * @return The value of the {@code platformProvider} attribute
+   */
+  @Override
+  public TargetPlatformResolver getPlatformProvider() {
+    return platformProvider;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableDefaultSelectableConfigurationContext} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableDefaultSelectableConfigurationContext
+        && equalTo((ImmutableDefaultSelectableConfigurationContext) another);
+  }
+
+  private boolean equalTo(ImmutableDefaultSelectableConfigurationContext another) {
+    return buckConfig.equals(another.buckConfig)
+        && targetConfiguration.equals(another.targetConfiguration)
+        && platformProvider.equals(another.platformProvider);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buckConfig}, {@code targetConfiguration}, {@code platformProvider}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + buckConfig.hashCode();
+    h += (h << 5) + targetConfiguration.hashCode();
+    h += (h << 5) + platformProvider.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DefaultSelectableConfigurationContext} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DefaultSelectableConfigurationContext")
+        .omitNullValues()
+        .add("buckConfig", buckConfig)
+        .add("targetConfiguration", targetConfiguration)
+        .add("platformProvider", platformProvider)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code DefaultSelectableConfigurationContext} instance.
+   * @param buckConfig The value for the {@code buckConfig} attribute
+   * @param targetConfiguration The value for the {@code targetConfiguration} attribute
+   * @param platformProvider The value for the {@code platformProvider} attribute
+   * @return An immutable DefaultSelectableConfigurationContext instance
+   */
+  public static ImmutableDefaultSelectableConfigurationContext of(BuckConfig buckConfig, TargetConfiguration targetConfiguration, TargetPlatformResolver platformProvider) {
+    return new ImmutableDefaultSelectableConfigurationContext(buckConfig, targetConfiguration, platformProvider);
+  }
+}
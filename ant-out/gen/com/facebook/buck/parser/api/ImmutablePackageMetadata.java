@@ -0,0 +1,109 @@
+package com.facebook.buck.parser.api;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link PackageMetadata}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutablePackageMetadata.of()}.
+ */
+@Generated(from = "PackageMetadata", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutablePackageMetadata extends PackageMetadata {
+  private final ImmutableList<String> visibility;
+  private final ImmutableList<String> withinView;
+
+  private ImmutablePackageMetadata(Iterable<String> visibility, Iterable<String> withinView) {
+    this.visibility = ImmutableList.copyOf(visibility);
+    this.withinView = ImmutableList.copyOf(withinView);
+  }
+
+  /**
+   * @return The value of the {@code visibility} attribute
+   */
+  @Override
+  public ImmutableList<String> getVisibility() {
+    return visibility;
+  }
+
+  /**
+   * @return The value of the {@code withinView} attribute
+   */
+  @Override
+  public ImmutableList<String> getWithinView() {
+    return withinView;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutablePackageMetadata} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutablePackageMetadata
+        && equalTo((ImmutablePackageMetadata) another);
+  }
+
+  private boolean equalTo(ImmutablePackageMetadata another) {
+    return visibility.equals(another.visibility)
+        && withinView.equals(another.withinView);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code visibility}, {@code withinView}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + visibility.hashCode();
+    h += (h << 5) + withinView.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PackageMetadata} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PackageMetadata")
+        .omitNullValues()
+        .add("visibility", visibility)
+        .add("withinView", withinView)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code PackageMetadata} instance.
+   * @param visibility The value for the {@code visibility} attribute
+   * @param withinView The value for the {@code withinView} attribute
+   * @return An immutable PackageMetadata instance
+   */
+  public static ImmutablePackageMetadata of(ImmutableList<String> visibility, ImmutableList<String> withinView) {
+    return of((Iterable<String>) visibility, (Iterable<String>) withinView);
+  }
+
+  /**
+   * Construct a new immutable {@code PackageMetadata} instance.
+   * @param visibility The value for the {@code visibility} attribute
+   * @param withinView The value for the {@code withinView} attribute
+   * @return An immutable PackageMetadata instance
+   */
+  public static ImmutablePackageMetadata of(Iterable<String> visibility, Iterable<String> withinView) {
+    return new ImmutablePackageMetadata(visibility, withinView);
+  }
+}
@@ -0,0 +1,181 @@
+package com.facebook.buck.parser.implicit;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.devtools.build.lib.syntax.SkylarkImport;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ImplicitInclude}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableImplicitInclude.of()}.
+ */
+@Generated(from = "ImplicitInclude", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableImplicitInclude extends ImplicitInclude {
+  private final String rawImportLabel;
+  private final ImmutableMap<String, String> symbols;
+  private transient final String importString;
+  private transient final SkylarkImport loadPath;
+
+  private ImmutableImplicitInclude(
+      String rawImportLabel,
+      Map<String, ? extends String> symbols) {
+    this.rawImportLabel = Objects.requireNonNull(rawImportLabel, "rawImportLabel");
+    this.symbols = ImmutableMap.copyOf(symbols);
+    this.importString = initShim.getImportString();
+    this.loadPath = initShim.getLoadPath();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "ImplicitInclude", generator = "Immutables")
+  private final class InitShim {
+    private byte importStringBuildStage = STAGE_UNINITIALIZED;
+    private String importString;
+
+    String getImportString() {
+      if (importStringBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (importStringBuildStage == STAGE_UNINITIALIZED) {
+        importStringBuildStage = STAGE_INITIALIZING;
+        this.importString = Objects.requireNonNull(ImmutableImplicitInclude.super.getImportString(), "importString");
+        importStringBuildStage = STAGE_INITIALIZED;
+      }
+      return this.importString;
+    }
+
+    private byte loadPathBuildStage = STAGE_UNINITIALIZED;
+    private SkylarkImport loadPath;
+
+    SkylarkImport getLoadPath() {
+      if (loadPathBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (loadPathBuildStage == STAGE_UNINITIALIZED) {
+        loadPathBuildStage = STAGE_INITIALIZING;
+        this.loadPath = Objects.requireNonNull(ImmutableImplicitInclude.super.getLoadPath(), "loadPath");
+        loadPathBuildStage = STAGE_INITIALIZED;
+      }
+      return this.loadPath;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (importStringBuildStage == STAGE_INITIALIZING) attributes.add("importString");
+      if (loadPathBuildStage == STAGE_INITIALIZING) attributes.add("loadPath");
+      return "Cannot build ImplicitInclude, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code rawImportLabel} attribute
+   */
+  @Override
+  String getRawImportLabel() {
+    return rawImportLabel;
+  }
+
+  /**
+   * @return The value of the {@code symbols} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getSymbols() {
+    return symbols;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code importString} attribute
+   */
+  @Override
+  public String getImportString() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getImportString()
+        : this.importString;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code loadPath} attribute
+   */
+  @Override
+  public SkylarkImport getLoadPath() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getLoadPath()
+        : this.loadPath;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableImplicitInclude} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableImplicitInclude
+        && equalTo((ImmutableImplicitInclude) another);
+  }
+
+  private boolean equalTo(ImmutableImplicitInclude another) {
+    return rawImportLabel.equals(another.rawImportLabel)
+        && symbols.equals(another.symbols)
+        && importString.equals(another.importString)
+        && loadPath.equals(another.loadPath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code rawImportLabel}, {@code symbols}, {@code importString}, {@code loadPath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + rawImportLabel.hashCode();
+    h += (h << 5) + symbols.hashCode();
+    h += (h << 5) + importString.hashCode();
+    h += (h << 5) + loadPath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ImplicitInclude} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ImplicitInclude")
+        .omitNullValues()
+        .add("rawImportLabel", rawImportLabel)
+        .add("symbols", symbols)
+        .add("importString", importString)
+        .add("loadPath", loadPath)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ImplicitInclude} instance.
+   * @param rawImportLabel The value for the {@code rawImportLabel} attribute
+   * @param symbols The value for the {@code symbols} attribute
+   * @return An immutable ImplicitInclude instance
+   */
+  public static ImmutableImplicitInclude of(String rawImportLabel, Map<String, ? extends String> symbols) {
+    return new ImmutableImplicitInclude(rawImportLabel, symbols);
+  }
+}
@@ -0,0 +1,88 @@
+package com.facebook.buck.parser.spec;
+
+import com.facebook.buck.core.model.UnconfiguredBuildTargetWithOutputs;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BuildTargetSpec}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuildTargetSpec.of()}.
+ */
+@Generated(from = "BuildTargetSpec", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableBuildTargetSpec extends BuildTargetSpec {
+  private final UnconfiguredBuildTargetWithOutputs unconfiguredBuildTargetViewWithOutputs;
+  private final BuildFileSpec buildFileSpec;
+
+  private ImmutableBuildTargetSpec(
+      UnconfiguredBuildTargetWithOutputs unconfiguredBuildTargetViewWithOutputs,
+      BuildFileSpec buildFileSpec) {
+    this.unconfiguredBuildTargetViewWithOutputs = Objects.requireNonNull(unconfiguredBuildTargetViewWithOutputs, "unconfiguredBuildTargetViewWithOutputs");
+    this.buildFileSpec = Objects.requireNonNull(buildFileSpec, "buildFileSpec");
+  }
+
+  /**
+   * @return The value of the {@code unconfiguredBuildTargetViewWithOutputs} attribute
+   */
+  @Override
+  public UnconfiguredBuildTargetWithOutputs getUnconfiguredBuildTargetViewWithOutputs() {
+    return unconfiguredBuildTargetViewWithOutputs;
+  }
+
+  /**
+   * @return The value of the {@code buildFileSpec} attribute
+   */
+  @Override
+  public BuildFileSpec getBuildFileSpec() {
+    return buildFileSpec;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuildTargetSpec} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuildTargetSpec
+        && equalTo((ImmutableBuildTargetSpec) another);
+  }
+
+  private boolean equalTo(ImmutableBuildTargetSpec another) {
+    return unconfiguredBuildTargetViewWithOutputs.equals(another.unconfiguredBuildTargetViewWithOutputs)
+        && buildFileSpec.equals(another.buildFileSpec);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code unconfiguredBuildTargetViewWithOutputs}, {@code buildFileSpec}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + unconfiguredBuildTargetViewWithOutputs.hashCode();
+    h += (h << 5) + buildFileSpec.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code BuildTargetSpec} instance.
+   * @param unconfiguredBuildTargetViewWithOutputs The value for the {@code unconfiguredBuildTargetViewWithOutputs} attribute
+   * @param buildFileSpec The value for the {@code buildFileSpec} attribute
+   * @return An immutable BuildTargetSpec instance
+   */
+  public static ImmutableBuildTargetSpec of(UnconfiguredBuildTargetWithOutputs unconfiguredBuildTargetViewWithOutputs, BuildFileSpec buildFileSpec) {
+    return new ImmutableBuildTargetSpec(unconfiguredBuildTargetViewWithOutputs, buildFileSpec);
+  }
+}
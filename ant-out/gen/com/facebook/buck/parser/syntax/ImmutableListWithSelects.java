@@ -0,0 +1,140 @@
+package com.facebook.buck.parser.syntax;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ListWithSelects}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableListWithSelects.of()}.
+ */
+@Generated(from = "ListWithSelects", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableListWithSelects extends ListWithSelects {
+  private final ImmutableList<Object> elements;
+  private final Class<?> type;
+
+  private ImmutableListWithSelects(Iterable<? extends Object> elements, Class<?> type) {
+    this.elements = ImmutableList.copyOf(elements);
+    this.type = Objects.requireNonNull(type, "type");
+  }
+
+  /**
+   * @return The value of the {@code elements} attribute
+   */
+  @JsonProperty("elements")
+  @Override
+  public ImmutableList<Object> getElements() {
+    return elements;
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @JsonProperty("type")
+  @Override
+  public Class<?> getType() {
+    return type;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableListWithSelects} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableListWithSelects
+        && equalTo((ImmutableListWithSelects) another);
+  }
+
+  private boolean equalTo(ImmutableListWithSelects another) {
+    return elements.equals(another.elements)
+        && type.equals(another.type);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code elements}, {@code type}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + elements.hashCode();
+    h += (h << 5) + type.hashCode();
+    return h;
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "ListWithSelects", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends ListWithSelects {
+    @Nullable ImmutableList<Object> elements = ImmutableList.of();
+    @Nullable Class<?> type;
+    @JsonProperty("elements")
+    public void setElements(ImmutableList<Object> elements) {
+      this.elements = elements;
+    }
+    @JsonProperty("type")
+    public void setType(Class<?> type) {
+      this.type = type;
+    }
+    @Override
+    public ImmutableList<Object> getElements() { throw new UnsupportedOperationException(); }
+    @Override
+    public Class<?> getType() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ImmutableListWithSelects fromJson(Json json) {
+    ImmutableListWithSelects instance = ImmutableListWithSelects.of(json.elements, json.type);
+    return instance;
+  }
+
+  /**
+   * Construct a new immutable {@code ListWithSelects} instance.
+   * @param elements The value for the {@code elements} attribute
+   * @param type The value for the {@code type} attribute
+   * @return An immutable ListWithSelects instance
+   */
+  public static ImmutableListWithSelects of(ImmutableList<Object> elements, Class<?> type) {
+    return of((Iterable<? extends Object>) elements, type);
+  }
+
+  /**
+   * Construct a new immutable {@code ListWithSelects} instance.
+   * @param elements The value for the {@code elements} attribute
+   * @param type The value for the {@code type} attribute
+   * @return An immutable ListWithSelects instance
+   */
+  public static ImmutableListWithSelects of(Iterable<? extends Object> elements, Class<?> type) {
+    return new ImmutableListWithSelects(elements, type);
+  }
+}
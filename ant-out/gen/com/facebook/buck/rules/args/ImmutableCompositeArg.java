@@ -0,0 +1,94 @@
+package com.facebook.buck.rules.args;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CompositeArg}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCompositeArg.of()}.
+ */
+@Generated(from = "CompositeArg", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCompositeArg extends CompositeArg {
+  private final ImmutableList<Arg> args;
+
+  private ImmutableCompositeArg(Iterable<? extends Arg> args) {
+    this.args = ImmutableList.copyOf(args);
+  }
+
+  /**
+   * @return The value of the {@code args} attribute
+   */
+  @Override
+  ImmutableList<Arg> getArgs() {
+    return args;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCompositeArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCompositeArg
+        && equalTo((ImmutableCompositeArg) another);
+  }
+
+  private boolean equalTo(ImmutableCompositeArg another) {
+    return args.equals(another.args);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code args}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + args.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CompositeArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CompositeArg")
+        .omitNullValues()
+        .add("args", args)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CompositeArg} instance.
+   * @param args The value for the {@code args} attribute
+   * @return An immutable CompositeArg instance
+   */
+  public static ImmutableCompositeArg of(ImmutableList<Arg> args) {
+    return of((Iterable<? extends Arg>) args);
+  }
+
+  /**
+   * Construct a new immutable {@code CompositeArg} instance.
+   * @param args The value for the {@code args} attribute
+   * @return An immutable CompositeArg instance
+   */
+  public static ImmutableCompositeArg of(Iterable<? extends Arg> args) {
+    return new ImmutableCompositeArg(args);
+  }
+}
@@ -0,0 +1,127 @@
+package com.facebook.buck.rules.coercer;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link SourceSet}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableSourceSet.of()}.
+ */
+@Generated(from = "SourceSet", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableSourceSet extends SourceSet {
+  private final SourceSet.Type type;
+  private final @Nullable ImmutableSet<SourcePath> unnamedSources;
+  private final @Nullable ImmutableMap<String, SourcePath> namedSources;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableSourceSet(
+      SourceSet.Type type,
+      Optional<? extends ImmutableSet<SourcePath>> unnamedSources,
+      Optional<? extends ImmutableMap<String, SourcePath>> namedSources) {
+    this.type = Objects.requireNonNull(type, "type");
+    this.unnamedSources = unnamedSources.orElse(null);
+    this.namedSources = namedSources.orElse(null);
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public SourceSet.Type getType() {
+    return type;
+  }
+
+  /**
+   * @return The value of the {@code unnamedSources} attribute
+   */
+  @Override
+  public Optional<ImmutableSet<SourcePath>> getUnnamedSources() {
+    return Optional.ofNullable(unnamedSources);
+  }
+
+  /**
+   * @return The value of the {@code namedSources} attribute
+   */
+  @Override
+  public Optional<ImmutableMap<String, SourcePath>> getNamedSources() {
+    return Optional.ofNullable(namedSources);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableSourceSet} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableSourceSet
+        && equalTo((ImmutableSourceSet) another);
+  }
+
+  private boolean equalTo(ImmutableSourceSet another) {
+    return type.equals(another.type)
+        && Objects.equals(unnamedSources, another.unnamedSources)
+        && Objects.equals(namedSources, another.namedSources);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code type}, {@code unnamedSources}, {@code namedSources}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + type.hashCode();
+    h += (h << 5) + Objects.hashCode(unnamedSources);
+    h += (h << 5) + Objects.hashCode(namedSources);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code SourceSet} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SourceSet")
+        .omitNullValues()
+        .add("type", type)
+        .add("unnamedSources", unnamedSources)
+        .add("namedSources", namedSources)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code SourceSet} instance.
+   * @param type The value for the {@code type} attribute
+   * @param unnamedSources The value for the {@code unnamedSources} attribute
+   * @param namedSources The value for the {@code namedSources} attribute
+   * @return An immutable SourceSet instance
+   */
+  public static ImmutableSourceSet of(SourceSet.Type type, Optional<? extends ImmutableSet<SourcePath>> unnamedSources, Optional<? extends ImmutableMap<String, SourcePath>> namedSources) {
+    return validate(new ImmutableSourceSet(type, unnamedSources, namedSources));
+  }
+
+
+  private static ImmutableSourceSet validate(ImmutableSourceSet instance) {
+    instance.check();
+    return instance;
+  }
+}
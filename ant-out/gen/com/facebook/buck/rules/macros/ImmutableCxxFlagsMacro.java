@@ -0,0 +1,63 @@
+package com.facebook.buck.rules.macros;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CxxFlagsMacro}.
+ * <p>
+ * Use the static factory method to get the default singleton instance:
+ * {@code ImmutableCxxFlagsMacro.of()}.
+ */
+@Generated(from = "CxxFlagsMacro", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCxxFlagsMacro implements CxxFlagsMacro {
+
+  private ImmutableCxxFlagsMacro() {}
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCxxFlagsMacro} that have equal attribute values.
+   * As instances of the {@code ImmutableCxxFlagsMacro} class are interned, the {@code equals} method is implemented
+   * as an efficient reference equality check.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another;
+  }
+
+  /**
+   * Returns a constant hash code value.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return -1125224945;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxFlagsMacro}.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return "CxxFlagsMacro{}";
+  }
+
+  private static final ImmutableCxxFlagsMacro INSTANCE = new ImmutableCxxFlagsMacro();
+
+  /**
+   * Returns the default immutable singleton value of {@code CxxFlagsMacro}
+   * @return An immutable instance of CxxFlagsMacro
+   */
+  public static ImmutableCxxFlagsMacro of() {
+    return INSTANCE;
+  }
+}
@@ -0,0 +1,63 @@
+package com.facebook.buck.rules.macros;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CxxMacro}.
+ * <p>
+ * Use the static factory method to get the default singleton instance:
+ * {@code ImmutableCxxMacro.of()}.
+ */
+@Generated(from = "CxxMacro", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCxxMacro implements CxxMacro {
+
+  private ImmutableCxxMacro() {}
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCxxMacro} that have equal attribute values.
+   * As instances of the {@code ImmutableCxxMacro} class are interned, the {@code equals} method is implemented
+   * as an efficient reference equality check.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another;
+  }
+
+  /**
+   * Returns a constant hash code value.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return 1926402208;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxMacro}.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return "CxxMacro{}";
+  }
+
+  private static final ImmutableCxxMacro INSTANCE = new ImmutableCxxMacro();
+
+  /**
+   * Returns the default immutable singleton value of {@code CxxMacro}
+   * @return An immutable instance of CxxMacro
+   */
+  public static ImmutableCxxMacro of() {
+    return INSTANCE;
+  }
+}
@@ -0,0 +1,58 @@
+package com.facebook.buck.rules.macros;
+
+import com.facebook.buck.core.model.BuildTargetWithOutputs;
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ExecutableTargetMacro}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableExecutableTargetMacro.of()}.
+ */
+@Generated(from = "ExecutableTargetMacro", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableExecutableTargetMacro extends ExecutableTargetMacro {
+  private final BuildTargetWithOutputs targetWithOutputs;
+
+  private ImmutableExecutableTargetMacro(BuildTargetWithOutputs targetWithOutputs) {
+    this.targetWithOutputs = Objects.requireNonNull(targetWithOutputs, "targetWithOutputs");
+  }
+
+  /**
+   * @return The value of the {@code targetWithOutputs} attribute
+   */
+  @Override
+  public BuildTargetWithOutputs getTargetWithOutputs() {
+    return targetWithOutputs;
+  }
+
+  /**
+   * Prints the immutable value {@code ExecutableTargetMacro} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ExecutableTargetMacro")
+        .omitNullValues()
+        .add("targetWithOutputs", targetWithOutputs)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ExecutableTargetMacro} instance.
+   * @param targetWithOutputs The value for the {@code targetWithOutputs} attribute
+   * @return An immutable ExecutableTargetMacro instance
+   */
+  public static ImmutableExecutableTargetMacro of(BuildTargetWithOutputs targetWithOutputs) {
+    return new ImmutableExecutableTargetMacro(targetWithOutputs);
+  }
+}
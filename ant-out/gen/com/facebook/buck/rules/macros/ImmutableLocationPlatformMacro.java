@@ -0,0 +1,84 @@
+package com.facebook.buck.rules.macros;
+
+import com.facebook.buck.core.model.BuildTargetWithOutputs;
+import com.facebook.buck.core.model.Flavor;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link LocationPlatformMacro}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableLocationPlatformMacro.of()}.
+ */
+@Generated(from = "LocationPlatformMacro", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableLocationPlatformMacro extends LocationPlatformMacro {
+  private final BuildTargetWithOutputs targetWithOutputs;
+  private final ImmutableSet<Flavor> flavors;
+
+  private ImmutableLocationPlatformMacro(
+      BuildTargetWithOutputs targetWithOutputs,
+      Iterable<? extends Flavor> flavors) {
+    this.targetWithOutputs = Objects.requireNonNull(targetWithOutputs, "targetWithOutputs");
+    this.flavors = ImmutableSet.copyOf(flavors);
+  }
+
+  /**
+   * @return The value of the {@code targetWithOutputs} attribute
+   */
+  @Override
+  public BuildTargetWithOutputs getTargetWithOutputs() {
+    return targetWithOutputs;
+  }
+
+  /**
+   * @return The value of the {@code flavors} attribute
+   */
+  @Override
+  ImmutableSet<Flavor> getFlavors() {
+    return flavors;
+  }
+
+  /**
+   * Prints the immutable value {@code LocationPlatformMacro} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("LocationPlatformMacro")
+        .omitNullValues()
+        .add("targetWithOutputs", targetWithOutputs)
+        .add("flavors", flavors)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code LocationPlatformMacro} instance.
+   * @param targetWithOutputs The value for the {@code targetWithOutputs} attribute
+   * @param flavors The value for the {@code flavors} attribute
+   * @return An immutable LocationPlatformMacro instance
+   */
+  public static ImmutableLocationPlatformMacro of(BuildTargetWithOutputs targetWithOutputs, ImmutableSet<Flavor> flavors) {
+    return of(targetWithOutputs, (Iterable<? extends Flavor>) flavors);
+  }
+
+  /**
+   * Construct a new immutable {@code LocationPlatformMacro} instance.
+   * @param targetWithOutputs The value for the {@code targetWithOutputs} attribute
+   * @param flavors The value for the {@code flavors} attribute
+   * @return An immutable LocationPlatformMacro instance
+   */
+  public static ImmutableLocationPlatformMacro of(BuildTargetWithOutputs targetWithOutputs, Iterable<? extends Flavor> flavors) {
+    return new ImmutableLocationPlatformMacro(targetWithOutputs, flavors);
+  }
+}
@@ -0,0 +1,63 @@
+package com.facebook.buck.rules.macros;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link PlatformNameMacro}.
+ * <p>
+ * Use the static factory method to get the default singleton instance:
+ * {@code ImmutablePlatformNameMacro.of()}.
+ */
+@Generated(from = "PlatformNameMacro", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutablePlatformNameMacro implements PlatformNameMacro {
+
+  private ImmutablePlatformNameMacro() {}
+
+  /**
+   * This instance is equal to all instances of {@code ImmutablePlatformNameMacro} that have equal attribute values.
+   * As instances of the {@code ImmutablePlatformNameMacro} class are interned, the {@code equals} method is implemented
+   * as an efficient reference equality check.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another;
+  }
+
+  /**
+   * Returns a constant hash code value.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return -1170888107;
+  }
+
+  /**
+   * Prints the immutable value {@code PlatformNameMacro}.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return "PlatformNameMacro{}";
+  }
+
+  private static final ImmutablePlatformNameMacro INSTANCE = new ImmutablePlatformNameMacro();
+
+  /**
+   * Returns the default immutable singleton value of {@code PlatformNameMacro}
+   * @return An immutable instance of PlatformNameMacro
+   */
+  public static ImmutablePlatformNameMacro of() {
+    return INSTANCE;
+  }
+}
@@ -0,0 +1,149 @@
+package com.facebook.buck.rules.visibility.parser;
+
+import com.facebook.buck.core.parser.buildtargetparser.BuildTargetMatcher;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link VisibilityPatternParser.BuildTargetVisibilityPattern}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuildTargetVisibilityPattern.of()}.
+ */
+@Generated(from = "VisibilityPatternParser.BuildTargetVisibilityPattern", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableBuildTargetVisibilityPattern
+    extends VisibilityPatternParser.BuildTargetVisibilityPattern {
+  private final BuildTargetMatcher viewerPattern;
+  private final Path definingPath;
+
+  private ImmutableBuildTargetVisibilityPattern(
+      BuildTargetMatcher viewerPattern,
+      Path definingPath) {
+    this.viewerPattern = Objects.requireNonNull(viewerPattern, "viewerPattern");
+    this.definingPath = Objects.requireNonNull(definingPath, "definingPath");
+  }
+
+  /**
+   * @return The value of the {@code viewerPattern} attribute
+   */
+  @JsonProperty("pattern")
+  @Override
+  BuildTargetMatcher getViewerPattern() {
+    return viewerPattern;
+  }
+
+  /**
+   * @return The value of the {@code definingPath} attribute
+   */
+  @JsonProperty("definingPath")
+  @Override
+  public Path getDefiningPath() {
+    return definingPath;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuildTargetVisibilityPattern} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuildTargetVisibilityPattern
+        && equalTo((ImmutableBuildTargetVisibilityPattern) another);
+  }
+
+  private boolean equalTo(ImmutableBuildTargetVisibilityPattern another) {
+    return viewerPattern.equals(another.viewerPattern)
+        && definingPath.equals(another.definingPath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code viewerPattern}, {@code definingPath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + viewerPattern.hashCode();
+    h += (h << 5) + definingPath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildTargetVisibilityPattern} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildTargetVisibilityPattern")
+        .omitNullValues()
+        .add("viewerPattern", viewerPattern)
+        .add("definingPath", definingPath)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "VisibilityPatternParser.BuildTargetVisibilityPattern", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json
+      extends VisibilityPatternParser.BuildTargetVisibilityPattern {
+    @Nullable BuildTargetMatcher viewerPattern;
+    @Nullable Path definingPath;
+    @JsonProperty("pattern")
+    public void setViewerPattern(BuildTargetMatcher viewerPattern) {
+      this.viewerPattern = viewerPattern;
+    }
+    @JsonProperty("definingPath")
+    public void setDefiningPath(Path definingPath) {
+      this.definingPath = definingPath;
+    }
+    @Override
+    BuildTargetMatcher getViewerPattern() { throw new UnsupportedOperationException(); }
+    @Override
+    public Path getDefiningPath() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ImmutableBuildTargetVisibilityPattern fromJson(Json json) {
+    ImmutableBuildTargetVisibilityPattern instance = ImmutableBuildTargetVisibilityPattern.of(json.viewerPattern, json.definingPath);
+    return instance;
+  }
+
+  /**
+   * Construct a new immutable {@code BuildTargetVisibilityPattern} instance.
+   * @param viewerPattern The value for the {@code viewerPattern} attribute
+   * @param definingPath The value for the {@code definingPath} attribute
+   * @return An immutable BuildTargetVisibilityPattern instance
+   */
+  public static ImmutableBuildTargetVisibilityPattern of(BuildTargetMatcher viewerPattern, Path definingPath) {
+    return new ImmutableBuildTargetVisibilityPattern(viewerPattern, definingPath);
+  }
+}
@@ -0,0 +1,124 @@
+package com.facebook.buck.rules.visibility.parser;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link VisibilityPatternParser.PublicVisibilityPattern}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutablePublicVisibilityPattern.of()}.
+ */
+@Generated(from = "VisibilityPatternParser.PublicVisibilityPattern", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutablePublicVisibilityPattern
+    extends VisibilityPatternParser.PublicVisibilityPattern {
+  private final Path definingPath;
+
+  private ImmutablePublicVisibilityPattern(Path definingPath) {
+    this.definingPath = Objects.requireNonNull(definingPath, "definingPath");
+  }
+
+  /**
+   * @return The value of the {@code definingPath} attribute
+   */
+  @JsonProperty("definingPath")
+  @Override
+  public Path getDefiningPath() {
+    return definingPath;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutablePublicVisibilityPattern} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutablePublicVisibilityPattern
+        && equalTo((ImmutablePublicVisibilityPattern) another);
+  }
+
+  private boolean equalTo(ImmutablePublicVisibilityPattern another) {
+    return definingPath.equals(another.definingPath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code definingPath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + definingPath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PublicVisibilityPattern} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PublicVisibilityPattern")
+        .omitNullValues()
+        .add("definingPath", definingPath)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "VisibilityPatternParser.PublicVisibilityPattern", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json
+      extends VisibilityPatternParser.PublicVisibilityPattern {
+    @Nullable Path definingPath;
+    @JsonProperty("definingPath")
+    public void setDefiningPath(Path definingPath) {
+      this.definingPath = definingPath;
+    }
+    @Override
+    public Path getDefiningPath() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ImmutablePublicVisibilityPattern fromJson(Json json) {
+    ImmutablePublicVisibilityPattern instance = ImmutablePublicVisibilityPattern.of(json.definingPath);
+    return instance;
+  }
+
+  /**
+   * Construct a new immutable {@code PublicVisibilityPattern} instance.
+   * @param definingPath The value for the {@code definingPath} attribute
+   * @return An immutable PublicVisibilityPattern instance
+   */
+  public static ImmutablePublicVisibilityPattern of(Path definingPath) {
+    return new ImmutablePublicVisibilityPattern(definingPath);
+  }
+}
@@ -0,0 +1,151 @@
+package com.facebook.buck.skylark.packages;
+
+import com.facebook.buck.skylark.io.Globber;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.devtools.build.lib.cmdline.PackageIdentifier;
+import com.google.devtools.build.lib.events.EventHandler;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link PackageContext}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutablePackageContext.of()}.
+ */
+@Generated(from = "PackageContext", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutablePackageContext extends PackageContext {
+  private final Globber globber;
+  private final ImmutableMap<String, ImmutableMap<String, String>> rawConfig;
+  private final PackageIdentifier packageIdentifier;
+  private final EventHandler eventHandler;
+  private final ImmutableMap<String, Object> implicitlyLoadedSymbols;
+
+  private ImmutablePackageContext(
+      Globber globber,
+      Map<String, ? extends ImmutableMap<String, String>> rawConfig,
+      PackageIdentifier packageIdentifier,
+      EventHandler eventHandler,
+      Map<String, ? extends Object> implicitlyLoadedSymbols) {
+    this.globber = Objects.requireNonNull(globber, "globber");
+    this.rawConfig = ImmutableMap.copyOf(rawConfig);
+    this.packageIdentifier = Objects.requireNonNull(packageIdentifier, "packageIdentifier");
+    this.eventHandler = Objects.requireNonNull(eventHandler, "eventHandler");
+    this.implicitlyLoadedSymbols = ImmutableMap.copyOf(implicitlyLoadedSymbols);
+  }
+
+  /**
+   * @return The value of the {@code globber} attribute
+   */
+  @Override
+  public Globber getGlobber() {
+    return globber;
+  }
+
+  /**
+   * @return The value of the {@code rawConfig} attribute
+   */
+  @Override
+  public ImmutableMap<String, ImmutableMap<String, String>> getRawConfig() {
+    return rawConfig;
+  }
+
+  /**
+   * @return The value of the {@code packageIdentifier} attribute
+   */
+  @Override
+  public PackageIdentifier getPackageIdentifier() {
+    return packageIdentifier;
+  }
+
+  /**
+   * @return The value of the {@code eventHandler} attribute
+   */
+  @Override
+  public EventHandler getEventHandler() {
+    return eventHandler;
+  }
+
+  /**
+   * @return The value of the {@code implicitlyLoadedSymbols} attribute
+   */
+  @Override
+  public ImmutableMap<String, Object> getImplicitlyLoadedSymbols() {
+    return implicitlyLoadedSymbols;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutablePackageContext} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutablePackageContext
+        && equalTo((ImmutablePackageContext) another);
+  }
+
+  private boolean equalTo(ImmutablePackageContext another) {
+    return globber.equals(another.globber)
+        && rawConfig.equals(another.rawConfig)
+        && packageIdentifier.equals(another.packageIdentifier)
+        && eventHandler.equals(another.eventHandler)
+        && implicitlyLoadedSymbols.equals(another.implicitlyLoadedSymbols);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code globber}, {@code rawConfig}, {@code packageIdentifier}, {@code eventHandler}, {@code implicitlyLoadedSymbols}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + globber.hashCode();
+    h += (h << 5) + rawConfig.hashCode();
+    h += (h << 5) + packageIdentifier.hashCode();
+    h += (h << 5) + eventHandler.hashCode();
+    h += (h << 5) + implicitlyLoadedSymbols.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PackageContext} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PackageContext")
+        .omitNullValues()
+        .add("globber", globber)
+        .add("rawConfig", rawConfig)
+        .add("packageIdentifier", packageIdentifier)
+        .add("eventHandler", eventHandler)
+        .add("implicitlyLoadedSymbols", implicitlyLoadedSymbols)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code PackageContext} instance.
+   * @param globber The value for the {@code globber} attribute
+   * @param rawConfig The value for the {@code rawConfig} attribute
+   * @param packageIdentifier The value for the {@code packageIdentifier} attribute
+   * @param eventHandler The value for the {@code eventHandler} attribute
+   * @param implicitlyLoadedSymbols The value for the {@code implicitlyLoadedSymbols} attribute
+   * @return An immutable PackageContext instance
+   */
+  public static ImmutablePackageContext of(Globber globber, Map<String, ? extends ImmutableMap<String, String>> rawConfig, PackageIdentifier packageIdentifier, EventHandler eventHandler, Map<String, ? extends Object> implicitlyLoadedSymbols) {
+    return new ImmutablePackageContext(globber, rawConfig, packageIdentifier, eventHandler, implicitlyLoadedSymbols);
+  }
+}
@@ -0,0 +1,104 @@
+package com.facebook.buck.skylark.parser;
+
+import com.google.common.base.MoreObjects;
+import com.google.devtools.build.lib.cmdline.Label;
+import com.google.devtools.build.lib.syntax.SkylarkImport;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractSkylarkFileParser.LoadImport}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableLoadImport.of()}.
+ */
+@Generated(from = "AbstractSkylarkFileParser.LoadImport", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableLoadImport
+    extends AbstractSkylarkFileParser.LoadImport {
+  private final Label containingLabel;
+  private final SkylarkImport getImport;
+
+  private ImmutableLoadImport(
+      Label containingLabel,
+      SkylarkImport getImport) {
+    this.containingLabel = Objects.requireNonNull(containingLabel, "containingLabel");
+    this.getImport = Objects.requireNonNull(getImport, "getImport");
+  }
+
+  /**
+   * @return The value of the {@code containingLabel} attribute
+   */
+  @Override
+  Label getContainingLabel() {
+    return containingLabel;
+  }
+
+  /**
+   * @return The value of the {@code getImport} attribute
+   */
+  @Override
+  SkylarkImport getImport() {
+    return getImport;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableLoadImport} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableLoadImport
+        && equalTo((ImmutableLoadImport) another);
+  }
+
+  private boolean equalTo(ImmutableLoadImport another) {
+    return containingLabel.equals(another.containingLabel)
+        && getImport.equals(another.getImport);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code containingLabel}, {@code getImport}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + containingLabel.hashCode();
+    h += (h << 5) + getImport.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code LoadImport} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("LoadImport")
+        .omitNullValues()
+        .add("containingLabel", containingLabel)
+        .add("import", getImport)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code LoadImport} instance.
+   * @param containingLabel The value for the {@code containingLabel} attribute
+   * @param getImport The value for the {@code getImport} attribute
+   * @return An immutable LoadImport instance
+   */
+  public static ImmutableLoadImport of(Label containingLabel, SkylarkImport getImport) {
+    return new ImmutableLoadImport(containingLabel, getImport);
+  }
+}
@@ -0,0 +1,749 @@
+package com.facebook.buck.slb;
+
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.util.timing.Clock;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.primitives.Floats;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ClientSideSlbConfig}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ImmutableClientSideSlbConfig.builder()}.
+ */
+@Generated(from = "ClientSideSlbConfig", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableClientSideSlbConfig extends ClientSideSlbConfig {
+  private final Clock clock;
+  private final ImmutableList<URI> serverPool;
+  private final BuckEventBus eventBus;
+  private final String serverPoolName;
+  private final int errorCheckTimeRangeMillis;
+  private final int latencyCheckTimeRangeMillis;
+  private final int maxAcceptableLatencyMillis;
+  private final int connectionTimeoutMillis;
+  private final int healthCheckIntervalMillis;
+  private final String pingEndpoint;
+  private final float maxErrorPercentage;
+  private final int minSamplesToReportError;
+
+  private ImmutableClientSideSlbConfig(ImmutableClientSideSlbConfig.Builder builder) {
+    this.clock = builder.clock;
+    this.serverPool = builder.serverPool.build();
+    this.eventBus = builder.eventBus;
+    this.serverPoolName = builder.serverPoolName;
+    if (builder.errorCheckTimeRangeMillisIsSet()) {
+      initShim.setErrorCheckTimeRangeMillis(builder.errorCheckTimeRangeMillis);
+    }
+    if (builder.latencyCheckTimeRangeMillisIsSet()) {
+      initShim.setLatencyCheckTimeRangeMillis(builder.latencyCheckTimeRangeMillis);
+    }
+    if (builder.maxAcceptableLatencyMillisIsSet()) {
+      initShim.setMaxAcceptableLatencyMillis(builder.maxAcceptableLatencyMillis);
+    }
+    if (builder.connectionTimeoutMillisIsSet()) {
+      initShim.setConnectionTimeoutMillis(builder.connectionTimeoutMillis);
+    }
+    if (builder.healthCheckIntervalMillisIsSet()) {
+      initShim.setHealthCheckIntervalMillis(builder.healthCheckIntervalMillis);
+    }
+    if (builder.pingEndpoint != null) {
+      initShim.setPingEndpoint(builder.pingEndpoint);
+    }
+    if (builder.maxErrorPercentageIsSet()) {
+      initShim.setMaxErrorPercentage(builder.maxErrorPercentage);
+    }
+    if (builder.minSamplesToReportErrorIsSet()) {
+      initShim.setMinSamplesToReportError(builder.minSamplesToReportError);
+    }
+    this.errorCheckTimeRangeMillis = initShim.getErrorCheckTimeRangeMillis();
+    this.latencyCheckTimeRangeMillis = initShim.getLatencyCheckTimeRangeMillis();
+    this.maxAcceptableLatencyMillis = initShim.getMaxAcceptableLatencyMillis();
+    this.connectionTimeoutMillis = initShim.getConnectionTimeoutMillis();
+    this.healthCheckIntervalMillis = initShim.getHealthCheckIntervalMillis();
+    this.pingEndpoint = initShim.getPingEndpoint();
+    this.maxErrorPercentage = initShim.getMaxErrorPercentage();
+    this.minSamplesToReportError = initShim.getMinSamplesToReportError();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "ClientSideSlbConfig", generator = "Immutables")
+  private final class InitShim {
+    private byte errorCheckTimeRangeMillisBuildStage = STAGE_UNINITIALIZED;
+    private int errorCheckTimeRangeMillis;
+
+    int getErrorCheckTimeRangeMillis() {
+      if (errorCheckTimeRangeMillisBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (errorCheckTimeRangeMillisBuildStage == STAGE_UNINITIALIZED) {
+        errorCheckTimeRangeMillisBuildStage = STAGE_INITIALIZING;
+        this.errorCheckTimeRangeMillis = ImmutableClientSideSlbConfig.super.getErrorCheckTimeRangeMillis();
+        errorCheckTimeRangeMillisBuildStage = STAGE_INITIALIZED;
+      }
+      return this.errorCheckTimeRangeMillis;
+    }
+
+    void setErrorCheckTimeRangeMillis(int errorCheckTimeRangeMillis) {
+      this.errorCheckTimeRangeMillis = errorCheckTimeRangeMillis;
+      errorCheckTimeRangeMillisBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte latencyCheckTimeRangeMillisBuildStage = STAGE_UNINITIALIZED;
+    private int latencyCheckTimeRangeMillis;
+
+    int getLatencyCheckTimeRangeMillis() {
+      if (latencyCheckTimeRangeMillisBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (latencyCheckTimeRangeMillisBuildStage == STAGE_UNINITIALIZED) {
+        latencyCheckTimeRangeMillisBuildStage = STAGE_INITIALIZING;
+        this.latencyCheckTimeRangeMillis = ImmutableClientSideSlbConfig.super.getLatencyCheckTimeRangeMillis();
+        latencyCheckTimeRangeMillisBuildStage = STAGE_INITIALIZED;
+      }
+      return this.latencyCheckTimeRangeMillis;
+    }
+
+    void setLatencyCheckTimeRangeMillis(int latencyCheckTimeRangeMillis) {
+      this.latencyCheckTimeRangeMillis = latencyCheckTimeRangeMillis;
+      latencyCheckTimeRangeMillisBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte maxAcceptableLatencyMillisBuildStage = STAGE_UNINITIALIZED;
+    private int maxAcceptableLatencyMillis;
+
+    int getMaxAcceptableLatencyMillis() {
+      if (maxAcceptableLatencyMillisBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (maxAcceptableLatencyMillisBuildStage == STAGE_UNINITIALIZED) {
+        maxAcceptableLatencyMillisBuildStage = STAGE_INITIALIZING;
+        this.maxAcceptableLatencyMillis = ImmutableClientSideSlbConfig.super.getMaxAcceptableLatencyMillis();
+        maxAcceptableLatencyMillisBuildStage = STAGE_INITIALIZED;
+      }
+      return this.maxAcceptableLatencyMillis;
+    }
+
+    void setMaxAcceptableLatencyMillis(int maxAcceptableLatencyMillis) {
+      this.maxAcceptableLatencyMillis = maxAcceptableLatencyMillis;
+      maxAcceptableLatencyMillisBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte connectionTimeoutMillisBuildStage = STAGE_UNINITIALIZED;
+    private int connectionTimeoutMillis;
+
+    int getConnectionTimeoutMillis() {
+      if (connectionTimeoutMillisBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (connectionTimeoutMillisBuildStage == STAGE_UNINITIALIZED) {
+        connectionTimeoutMillisBuildStage = STAGE_INITIALIZING;
+        this.connectionTimeoutMillis = ImmutableClientSideSlbConfig.super.getConnectionTimeoutMillis();
+        connectionTimeoutMillisBuildStage = STAGE_INITIALIZED;
+      }
+      return this.connectionTimeoutMillis;
+    }
+
+    void setConnectionTimeoutMillis(int connectionTimeoutMillis) {
+      this.connectionTimeoutMillis = connectionTimeoutMillis;
+      connectionTimeoutMillisBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte healthCheckIntervalMillisBuildStage = STAGE_UNINITIALIZED;
+    private int healthCheckIntervalMillis;
+
+    int getHealthCheckIntervalMillis() {
+      if (healthCheckIntervalMillisBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (healthCheckIntervalMillisBuildStage == STAGE_UNINITIALIZED) {
+        healthCheckIntervalMillisBuildStage = STAGE_INITIALIZING;
+        this.healthCheckIntervalMillis = ImmutableClientSideSlbConfig.super.getHealthCheckIntervalMillis();
+        healthCheckIntervalMillisBuildStage = STAGE_INITIALIZED;
+      }
+      return this.healthCheckIntervalMillis;
+    }
+
+    void setHealthCheckIntervalMillis(int healthCheckIntervalMillis) {
+      this.healthCheckIntervalMillis = healthCheckIntervalMillis;
+      healthCheckIntervalMillisBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte pingEndpointBuildStage = STAGE_UNINITIALIZED;
+    private String pingEndpoint;
+
+    String getPingEndpoint() {
+      if (pingEndpointBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (pingEndpointBuildStage == STAGE_UNINITIALIZED) {
+        pingEndpointBuildStage = STAGE_INITIALIZING;
+        this.pingEndpoint = Objects.requireNonNull(ImmutableClientSideSlbConfig.super.getPingEndpoint(), "pingEndpoint");
+        pingEndpointBuildStage = STAGE_INITIALIZED;
+      }
+      return this.pingEndpoint;
+    }
+
+    void setPingEndpoint(String pingEndpoint) {
+      this.pingEndpoint = pingEndpoint;
+      pingEndpointBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte maxErrorPercentageBuildStage = STAGE_UNINITIALIZED;
+    private float maxErrorPercentage;
+
+    float getMaxErrorPercentage() {
+      if (maxErrorPercentageBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (maxErrorPercentageBuildStage == STAGE_UNINITIALIZED) {
+        maxErrorPercentageBuildStage = STAGE_INITIALIZING;
+        this.maxErrorPercentage = ImmutableClientSideSlbConfig.super.getMaxErrorPercentage();
+        maxErrorPercentageBuildStage = STAGE_INITIALIZED;
+      }
+      return this.maxErrorPercentage;
+    }
+
+    void setMaxErrorPercentage(float maxErrorPercentage) {
+      this.maxErrorPercentage = maxErrorPercentage;
+      maxErrorPercentageBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte minSamplesToReportErrorBuildStage = STAGE_UNINITIALIZED;
+    private int minSamplesToReportError;
+
+    int getMinSamplesToReportError() {
+      if (minSamplesToReportErrorBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (minSamplesToReportErrorBuildStage == STAGE_UNINITIALIZED) {
+        minSamplesToReportErrorBuildStage = STAGE_INITIALIZING;
+        this.minSamplesToReportError = ImmutableClientSideSlbConfig.super.getMinSamplesToReportError();
+        minSamplesToReportErrorBuildStage = STAGE_INITIALIZED;
+      }
+      return this.minSamplesToReportError;
+    }
+
+    void setMinSamplesToReportError(int minSamplesToReportError) {
+      this.minSamplesToReportError = minSamplesToReportError;
+      minSamplesToReportErrorBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (errorCheckTimeRangeMillisBuildStage == STAGE_INITIALIZING) attributes.add("errorCheckTimeRangeMillis");
+      if (latencyCheckTimeRangeMillisBuildStage == STAGE_INITIALIZING) attributes.add("latencyCheckTimeRangeMillis");
+      if (maxAcceptableLatencyMillisBuildStage == STAGE_INITIALIZING) attributes.add("maxAcceptableLatencyMillis");
+      if (connectionTimeoutMillisBuildStage == STAGE_INITIALIZING) attributes.add("connectionTimeoutMillis");
+      if (healthCheckIntervalMillisBuildStage == STAGE_INITIALIZING) attributes.add("healthCheckIntervalMillis");
+      if (pingEndpointBuildStage == STAGE_INITIALIZING) attributes.add("pingEndpoint");
+      if (maxErrorPercentageBuildStage == STAGE_INITIALIZING) attributes.add("maxErrorPercentage");
+      if (minSamplesToReportErrorBuildStage == STAGE_INITIALIZING) attributes.add("minSamplesToReportError");
+      return "Cannot build ClientSideSlbConfig, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code clock} attribute
+   */
+  @Override
+  public Clock getClock() {
+    return clock;
+  }
+
+  /**
+   * @return The value of the {@code serverPool} attribute
+   */
+  @Override
+  public ImmutableList<URI> getServerPool() {
+    return serverPool;
+  }
+
+  /**
+   * @return The value of the {@code eventBus} attribute
+   */
+  @Override
+  public BuckEventBus getEventBus() {
+    return eventBus;
+  }
+
+  /**
+   * @return The value of the {@code serverPoolName} attribute
+   */
+  @Override
+  public String getServerPoolName() {
+    return serverPoolName;
+  }
+
+  /**
+   * @return The value of the {@code errorCheckTimeRangeMillis} attribute
+   */
+  @Override
+  public int getErrorCheckTimeRangeMillis() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getErrorCheckTimeRangeMillis()
+        : this.errorCheckTimeRangeMillis;
+  }
+
+  /**
+   * @return The value of the {@code latencyCheckTimeRangeMillis} attribute
+   */
+  @Override
+  public int getLatencyCheckTimeRangeMillis() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getLatencyCheckTimeRangeMillis()
+        : this.latencyCheckTimeRangeMillis;
+  }
+
+  /**
+   * @return The value of the {@code maxAcceptableLatencyMillis} attribute
+   */
+  @Override
+  public int getMaxAcceptableLatencyMillis() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getMaxAcceptableLatencyMillis()
+        : this.maxAcceptableLatencyMillis;
+  }
+
+  /**
+   * @return The value of the {@code connectionTimeoutMillis} attribute
+   */
+  @Override
+  public int getConnectionTimeoutMillis() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getConnectionTimeoutMillis()
+        : this.connectionTimeoutMillis;
+  }
+
+  /**
+   * @return The value of the {@code healthCheckIntervalMillis} attribute
+   */
+  @Override
+  public int getHealthCheckIntervalMillis() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getHealthCheckIntervalMillis()
+        : this.healthCheckIntervalMillis;
+  }
+
+  /**
+   * @return The value of the {@code pingEndpoint} attribute
+   */
+  @Override
+  public String getPingEndpoint() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPingEndpoint()
+        : this.pingEndpoint;
+  }
+
+  /**
+   * @return The value of the {@code maxErrorPercentage} attribute
+   */
+  @Override
+  public float getMaxErrorPercentage() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getMaxErrorPercentage()
+        : this.maxErrorPercentage;
+  }
+
+  /**
+   * @return The value of the {@code minSamplesToReportError} attribute
+   */
+  @Override
+  public int getMinSamplesToReportError() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getMinSamplesToReportError()
+        : this.minSamplesToReportError;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableClientSideSlbConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableClientSideSlbConfig
+        && equalTo((ImmutableClientSideSlbConfig) another);
+  }
+
+  private boolean equalTo(ImmutableClientSideSlbConfig another) {
+    return clock.equals(another.clock)
+        && serverPool.equals(another.serverPool)
+        && eventBus.equals(another.eventBus)
+        && serverPoolName.equals(another.serverPoolName)
+        && errorCheckTimeRangeMillis == another.errorCheckTimeRangeMillis
+        && latencyCheckTimeRangeMillis == another.latencyCheckTimeRangeMillis
+        && maxAcceptableLatencyMillis == another.maxAcceptableLatencyMillis
+        && connectionTimeoutMillis == another.connectionTimeoutMillis
+        && healthCheckIntervalMillis == another.healthCheckIntervalMillis
+        && pingEndpoint.equals(another.pingEndpoint)
+        && Float.floatToIntBits(maxErrorPercentage) == Float.floatToIntBits(another.maxErrorPercentage)
+        && minSamplesToReportError == another.minSamplesToReportError;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code clock}, {@code serverPool}, {@code eventBus}, {@code serverPoolName}, {@code errorCheckTimeRangeMillis}, {@code latencyCheckTimeRangeMillis}, {@code maxAcceptableLatencyMillis}, {@code connectionTimeoutMillis}, {@code healthCheckIntervalMillis}, {@code pingEndpoint}, {@code maxErrorPercentage}, {@code minSamplesToReportError}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + clock.hashCode();
+    h += (h << 5) + serverPool.hashCode();
+    h += (h << 5) + eventBus.hashCode();
+    h += (h << 5) + serverPoolName.hashCode();
+    h += (h << 5) + errorCheckTimeRangeMillis;
+    h += (h << 5) + latencyCheckTimeRangeMillis;
+    h += (h << 5) + maxAcceptableLatencyMillis;
+    h += (h << 5) + connectionTimeoutMillis;
+    h += (h << 5) + healthCheckIntervalMillis;
+    h += (h << 5) + pingEndpoint.hashCode();
+    h += (h << 5) + Floats.hashCode(maxErrorPercentage);
+    h += (h << 5) + minSamplesToReportError;
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ClientSideSlbConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ClientSideSlbConfig")
+        .omitNullValues()
+        .add("clock", clock)
+        .add("serverPool", serverPool)
+        .add("eventBus", eventBus)
+        .add("serverPoolName", serverPoolName)
+        .add("errorCheckTimeRangeMillis", errorCheckTimeRangeMillis)
+        .add("latencyCheckTimeRangeMillis", latencyCheckTimeRangeMillis)
+        .add("maxAcceptableLatencyMillis", maxAcceptableLatencyMillis)
+        .add("connectionTimeoutMillis", connectionTimeoutMillis)
+        .add("healthCheckIntervalMillis", healthCheckIntervalMillis)
+        .add("pingEndpoint", pingEndpoint)
+        .add("maxErrorPercentage", maxErrorPercentage)
+        .add("minSamplesToReportError", minSamplesToReportError)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link ClientSideSlbConfig ClientSideSlbConfig}.
+   * @return A new ClientSideSlbConfig builder
+   */
+  public static ImmutableClientSideSlbConfig.Builder builder() {
+    return new ImmutableClientSideSlbConfig.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ClientSideSlbConfig ClientSideSlbConfig}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "ClientSideSlbConfig", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CLOCK = 0x1L;
+    private static final long INIT_BIT_EVENT_BUS = 0x2L;
+    private static final long INIT_BIT_SERVER_POOL_NAME = 0x4L;
+    private static final long OPT_BIT_ERROR_CHECK_TIME_RANGE_MILLIS = 0x1L;
+    private static final long OPT_BIT_LATENCY_CHECK_TIME_RANGE_MILLIS = 0x2L;
+    private static final long OPT_BIT_MAX_ACCEPTABLE_LATENCY_MILLIS = 0x4L;
+    private static final long OPT_BIT_CONNECTION_TIMEOUT_MILLIS = 0x8L;
+    private static final long OPT_BIT_HEALTH_CHECK_INTERVAL_MILLIS = 0x10L;
+    private static final long OPT_BIT_MAX_ERROR_PERCENTAGE = 0x20L;
+    private static final long OPT_BIT_MIN_SAMPLES_TO_REPORT_ERROR = 0x40L;
+    private long initBits = 0x7L;
+    private long optBits;
+
+    private @Nullable Clock clock;
+    private ImmutableList.Builder<URI> serverPool = ImmutableList.builder();
+    private @Nullable BuckEventBus eventBus;
+    private @Nullable String serverPoolName;
+    private int errorCheckTimeRangeMillis;
+    private int latencyCheckTimeRangeMillis;
+    private int maxAcceptableLatencyMillis;
+    private int connectionTimeoutMillis;
+    private int healthCheckIntervalMillis;
+    private @Nullable String pingEndpoint;
+    private float maxErrorPercentage;
+    private int minSamplesToReportError;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ClientSideSlbConfig} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(ClientSideSlbConfig instance) {
+      Objects.requireNonNull(instance, "instance");
+      setClock(instance.getClock());
+      addAllServerPool(instance.getServerPool());
+      setEventBus(instance.getEventBus());
+      setServerPoolName(instance.getServerPoolName());
+      setErrorCheckTimeRangeMillis(instance.getErrorCheckTimeRangeMillis());
+      setLatencyCheckTimeRangeMillis(instance.getLatencyCheckTimeRangeMillis());
+      setMaxAcceptableLatencyMillis(instance.getMaxAcceptableLatencyMillis());
+      setConnectionTimeoutMillis(instance.getConnectionTimeoutMillis());
+      setHealthCheckIntervalMillis(instance.getHealthCheckIntervalMillis());
+      setPingEndpoint(instance.getPingEndpoint());
+      setMaxErrorPercentage(instance.getMaxErrorPercentage());
+      setMinSamplesToReportError(instance.getMinSamplesToReportError());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ClientSideSlbConfig#getClock() clock} attribute.
+     * @param clock The value for clock 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setClock(Clock clock) {
+      this.clock = Objects.requireNonNull(clock, "clock");
+      initBits &= ~INIT_BIT_CLOCK;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ClientSideSlbConfig#getServerPool() serverPool} list.
+     * @param element A serverPool element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addServerPool(URI element) {
+      this.serverPool.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ClientSideSlbConfig#getServerPool() serverPool} list.
+     * @param elements An array of serverPool elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addServerPool(URI... elements) {
+      this.serverPool.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ClientSideSlbConfig#getServerPool() serverPool} list.
+     * @param elements An iterable of serverPool elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setServerPool(Iterable<? extends URI> elements) {
+      this.serverPool = ImmutableList.builder();
+      return addAllServerPool(elements);
+    }
+
+    /**
+     * Adds elements to {@link ClientSideSlbConfig#getServerPool() serverPool} list.
+     * @param elements An iterable of serverPool elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllServerPool(Iterable<? extends URI> elements) {
+      this.serverPool.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ClientSideSlbConfig#getEventBus() eventBus} attribute.
+     * @param eventBus The value for eventBus 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setEventBus(BuckEventBus eventBus) {
+      this.eventBus = Objects.requireNonNull(eventBus, "eventBus");
+      initBits &= ~INIT_BIT_EVENT_BUS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ClientSideSlbConfig#getServerPoolName() serverPoolName} attribute.
+     * @param serverPoolName The value for serverPoolName 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setServerPoolName(String serverPoolName) {
+      this.serverPoolName = Objects.requireNonNull(serverPoolName, "serverPoolName");
+      initBits &= ~INIT_BIT_SERVER_POOL_NAME;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ClientSideSlbConfig#getErrorCheckTimeRangeMillis() errorCheckTimeRangeMillis} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ClientSideSlbConfig#getErrorCheckTimeRangeMillis() errorCheckTimeRangeMillis}.</em>
+     * @param errorCheckTimeRangeMillis The value for errorCheckTimeRangeMillis 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setErrorCheckTimeRangeMillis(int errorCheckTimeRangeMillis) {
+      this.errorCheckTimeRangeMillis = errorCheckTimeRangeMillis;
+      optBits |= OPT_BIT_ERROR_CHECK_TIME_RANGE_MILLIS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ClientSideSlbConfig#getLatencyCheckTimeRangeMillis() latencyCheckTimeRangeMillis} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ClientSideSlbConfig#getLatencyCheckTimeRangeMillis() latencyCheckTimeRangeMillis}.</em>
+     * @param latencyCheckTimeRangeMillis The value for latencyCheckTimeRangeMillis 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLatencyCheckTimeRangeMillis(int latencyCheckTimeRangeMillis) {
+      this.latencyCheckTimeRangeMillis = latencyCheckTimeRangeMillis;
+      optBits |= OPT_BIT_LATENCY_CHECK_TIME_RANGE_MILLIS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ClientSideSlbConfig#getMaxAcceptableLatencyMillis() maxAcceptableLatencyMillis} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ClientSideSlbConfig#getMaxAcceptableLatencyMillis() maxAcceptableLatencyMillis}.</em>
+     * @param maxAcceptableLatencyMillis The value for maxAcceptableLatencyMillis 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMaxAcceptableLatencyMillis(int maxAcceptableLatencyMillis) {
+      this.maxAcceptableLatencyMillis = maxAcceptableLatencyMillis;
+      optBits |= OPT_BIT_MAX_ACCEPTABLE_LATENCY_MILLIS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ClientSideSlbConfig#getConnectionTimeoutMillis() connectionTimeoutMillis} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ClientSideSlbConfig#getConnectionTimeoutMillis() connectionTimeoutMillis}.</em>
+     * @param connectionTimeoutMillis The value for connectionTimeoutMillis 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setConnectionTimeoutMillis(int connectionTimeoutMillis) {
+      this.connectionTimeoutMillis = connectionTimeoutMillis;
+      optBits |= OPT_BIT_CONNECTION_TIMEOUT_MILLIS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ClientSideSlbConfig#getHealthCheckIntervalMillis() healthCheckIntervalMillis} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ClientSideSlbConfig#getHealthCheckIntervalMillis() healthCheckIntervalMillis}.</em>
+     * @param healthCheckIntervalMillis The value for healthCheckIntervalMillis 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setHealthCheckIntervalMillis(int healthCheckIntervalMillis) {
+      this.healthCheckIntervalMillis = healthCheckIntervalMillis;
+      optBits |= OPT_BIT_HEALTH_CHECK_INTERVAL_MILLIS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ClientSideSlbConfig#getPingEndpoint() pingEndpoint} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ClientSideSlbConfig#getPingEndpoint() pingEndpoint}.</em>
+     * @param pingEndpoint The value for pingEndpoint 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPingEndpoint(String pingEndpoint) {
+      this.pingEndpoint = Objects.requireNonNull(pingEndpoint, "pingEndpoint");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ClientSideSlbConfig#getMaxErrorPercentage() maxErrorPercentage} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ClientSideSlbConfig#getMaxErrorPercentage() maxErrorPercentage}.</em>
+     * @param maxErrorPercentage The value for maxErrorPercentage 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMaxErrorPercentage(float maxErrorPercentage) {
+      this.maxErrorPercentage = maxErrorPercentage;
+      optBits |= OPT_BIT_MAX_ERROR_PERCENTAGE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ClientSideSlbConfig#getMinSamplesToReportError() minSamplesToReportError} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ClientSideSlbConfig#getMinSamplesToReportError() minSamplesToReportError}.</em>
+     * @param minSamplesToReportError The value for minSamplesToReportError 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMinSamplesToReportError(int minSamplesToReportError) {
+      this.minSamplesToReportError = minSamplesToReportError;
+      optBits |= OPT_BIT_MIN_SAMPLES_TO_REPORT_ERROR;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ClientSideSlbConfig ClientSideSlbConfig}.
+     * @return An immutable instance of ClientSideSlbConfig
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ClientSideSlbConfig build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ImmutableClientSideSlbConfig(this);
+    }
+
+    private boolean errorCheckTimeRangeMillisIsSet() {
+      return (optBits & OPT_BIT_ERROR_CHECK_TIME_RANGE_MILLIS) != 0;
+    }
+
+    private boolean latencyCheckTimeRangeMillisIsSet() {
+      return (optBits & OPT_BIT_LATENCY_CHECK_TIME_RANGE_MILLIS) != 0;
+    }
+
+    private boolean maxAcceptableLatencyMillisIsSet() {
+      return (optBits & OPT_BIT_MAX_ACCEPTABLE_LATENCY_MILLIS) != 0;
+    }
+
+    private boolean connectionTimeoutMillisIsSet() {
+      return (optBits & OPT_BIT_CONNECTION_TIMEOUT_MILLIS) != 0;
+    }
+
+    private boolean healthCheckIntervalMillisIsSet() {
+      return (optBits & OPT_BIT_HEALTH_CHECK_INTERVAL_MILLIS) != 0;
+    }
+
+    private boolean maxErrorPercentageIsSet() {
+      return (optBits & OPT_BIT_MAX_ERROR_PERCENTAGE) != 0;
+    }
+
+    private boolean minSamplesToReportErrorIsSet() {
+      return (optBits & OPT_BIT_MIN_SAMPLES_TO_REPORT_ERROR) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_CLOCK) != 0) attributes.add("clock");
+      if ((initBits & INIT_BIT_EVENT_BUS) != 0) attributes.add("eventBus");
+      if ((initBits & INIT_BIT_SERVER_POOL_NAME) != 0) attributes.add("serverPoolName");
+      return "Cannot build ClientSideSlbConfig, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,133 @@
+package com.facebook.buck.slb;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link HybridThriftOverHttpServiceImplArgs}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableHybridThriftOverHttpServiceImplArgs.of()}.
+ */
+@Generated(from = "HybridThriftOverHttpServiceImplArgs", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableHybridThriftOverHttpServiceImplArgs
+    extends HybridThriftOverHttpServiceImplArgs {
+  private final HttpService service;
+  private final ListeningExecutorService executor;
+  private final ThriftProtocol thriftProtocol;
+  private final String hybridThriftPath;
+
+  private ImmutableHybridThriftOverHttpServiceImplArgs(
+      HttpService service,
+      ListeningExecutorService executor,
+      ThriftProtocol thriftProtocol,
+      String hybridThriftPath) {
+    this.service = Objects.requireNonNull(service, "service");
+    this.executor = Objects.requireNonNull(executor, "executor");
+    this.thriftProtocol = Objects.requireNonNull(thriftProtocol, "thriftProtocol");
+    this.hybridThriftPath = Objects.requireNonNull(hybridThriftPath, "hybridThriftPath");
+  }
+
+  /**
+   * @return The value of the {@code service} attribute
+   */
+  @Override
+  public HttpService getService() {
+    return service;
+  }
+
+  /**
+   * @return The value of the {@code executor} attribute
+   */
+  @Override
+  public ListeningExecutorService getExecutor() {
+    return executor;
+  }
+
+  /**
+   * @return The value of the {@code thriftProtocol} attribute
+   */
+  @Override
+  public ThriftProtocol getThriftProtocol() {
+    return thriftProtocol;
+  }
+
+  /**
+   * @return The value of the {@code hybridThriftPath} attribute
+   */
+  @Override
+  public String getHybridThriftPath() {
+    return hybridThriftPath;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableHybridThriftOverHttpServiceImplArgs} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableHybridThriftOverHttpServiceImplArgs
+        && equalTo((ImmutableHybridThriftOverHttpServiceImplArgs) another);
+  }
+
+  private boolean equalTo(ImmutableHybridThriftOverHttpServiceImplArgs another) {
+    return service.equals(another.service)
+        && executor.equals(another.executor)
+        && thriftProtocol.equals(another.thriftProtocol)
+        && hybridThriftPath.equals(another.hybridThriftPath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code service}, {@code executor}, {@code thriftProtocol}, {@code hybridThriftPath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + service.hashCode();
+    h += (h << 5) + executor.hashCode();
+    h += (h << 5) + thriftProtocol.hashCode();
+    h += (h << 5) + hybridThriftPath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code HybridThriftOverHttpServiceImplArgs} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("HybridThriftOverHttpServiceImplArgs")
+        .omitNullValues()
+        .add("service", service)
+        .add("executor", executor)
+        .add("thriftProtocol", thriftProtocol)
+        .add("hybridThriftPath", hybridThriftPath)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code HybridThriftOverHttpServiceImplArgs} instance.
+   * @param service The value for the {@code service} attribute
+   * @param executor The value for the {@code executor} attribute
+   * @param thriftProtocol The value for the {@code thriftProtocol} attribute
+   * @param hybridThriftPath The value for the {@code hybridThriftPath} attribute
+   * @return An immutable HybridThriftOverHttpServiceImplArgs instance
+   */
+  public static ImmutableHybridThriftOverHttpServiceImplArgs of(HttpService service, ListeningExecutorService executor, ThriftProtocol thriftProtocol, String hybridThriftPath) {
+    return new ImmutableHybridThriftOverHttpServiceImplArgs(service, executor, thriftProtocol, hybridThriftPath);
+  }
+}
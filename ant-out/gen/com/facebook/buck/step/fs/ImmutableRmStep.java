@@ -0,0 +1,101 @@
+package com.facebook.buck.step.fs;
+
+import com.facebook.buck.io.BuildCellRelativePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link RmStep}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableRmStep.of()}.
+ */
+@Generated(from = "RmStep", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableRmStep extends RmStep {
+  private final BuildCellRelativePath path;
+  private final boolean recursive;
+
+  private ImmutableRmStep(BuildCellRelativePath path, boolean recursive) {
+    this.path = Objects.requireNonNull(path, "path");
+    this.recursive = recursive;
+  }
+
+  /**
+   * @return The value of the {@code path} attribute
+   */
+  @Override
+  public BuildCellRelativePath getPath() {
+    return path;
+  }
+
+  /**
+   * @return The value of the {@code recursive} attribute
+   */
+  @Override
+  public boolean isRecursive() {
+    return recursive;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableRmStep} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableRmStep
+        && equalTo((ImmutableRmStep) another);
+  }
+
+  private boolean equalTo(ImmutableRmStep another) {
+    return path.equals(another.path)
+        && recursive == another.recursive;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code path}, {@code recursive}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + path.hashCode();
+    h += (h << 5) + Booleans.hashCode(recursive);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RmStep} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RmStep")
+        .omitNullValues()
+        .add("path", path)
+        .add("recursive", recursive)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code RmStep} instance.
+   * @param path The value for the {@code path} attribute
+   * @param recursive The value for the {@code recursive} attribute
+   * @return An immutable RmStep instance
+   */
+  public static ImmutableRmStep of(BuildCellRelativePath path, boolean recursive) {
+    return new ImmutableRmStep(path, recursive);
+  }
+}
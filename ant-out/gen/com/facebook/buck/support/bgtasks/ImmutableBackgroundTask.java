@@ -0,0 +1,149 @@
+package com.facebook.buck.support.bgtasks;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BackgroundTask}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBackgroundTask.<T>of()}.
+ */
+@Generated(from = "BackgroundTask", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableBackgroundTask<T> extends BackgroundTask<T> {
+  private final String name;
+  private final TaskAction<T> action;
+  private final T actionArgs;
+  private final @Nullable BackgroundTask.Timeout timeout;
+  private final boolean shouldCancelOnRepeat;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableBackgroundTask(
+      String name,
+      TaskAction<T> action,
+      T actionArgs,
+      Optional<? extends BackgroundTask.Timeout> timeout,
+      boolean shouldCancelOnRepeat) {
+    this.name = Objects.requireNonNull(name, "name");
+    this.action = Objects.requireNonNull(action, "action");
+    this.actionArgs = Objects.requireNonNull(actionArgs, "actionArgs");
+    this.timeout = timeout.orElse(null);
+    this.shouldCancelOnRepeat = shouldCancelOnRepeat;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code action} attribute
+   */
+  @Override
+  TaskAction<T> getAction() {
+    return action;
+  }
+
+  /**
+   * @return The value of the {@code actionArgs} attribute
+   */
+  @Override
+  T getActionArgs() {
+    return actionArgs;
+  }
+
+  /**
+   * @return The value of the {@code timeout} attribute
+   */
+  @Override
+  Optional<BackgroundTask.Timeout> getTimeout() {
+    return Optional.ofNullable(timeout);
+  }
+
+  /**
+   * @return The value of the {@code shouldCancelOnRepeat} attribute
+   */
+  @Override
+  boolean getShouldCancelOnRepeat() {
+    return shouldCancelOnRepeat;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBackgroundTask} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBackgroundTask<?>
+        && equalTo((ImmutableBackgroundTask<?>) another);
+  }
+
+  private boolean equalTo(ImmutableBackgroundTask<?> another) {
+    return name.equals(another.name)
+        && action.equals(another.action)
+        && actionArgs.equals(another.actionArgs)
+        && Objects.equals(timeout, another.timeout)
+        && shouldCancelOnRepeat == another.shouldCancelOnRepeat;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code name}, {@code action}, {@code actionArgs}, {@code timeout}, {@code shouldCancelOnRepeat}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + action.hashCode();
+    h += (h << 5) + actionArgs.hashCode();
+    h += (h << 5) + Objects.hashCode(timeout);
+    h += (h << 5) + Booleans.hashCode(shouldCancelOnRepeat);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BackgroundTask} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BackgroundTask")
+        .omitNullValues()
+        .add("name", name)
+        .add("action", action)
+        .add("actionArgs", actionArgs)
+        .add("timeout", timeout)
+        .add("shouldCancelOnRepeat", shouldCancelOnRepeat)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code BackgroundTask} instance.
+   * @param name The value for the {@code name} attribute
+   * @param action The value for the {@code action} attribute
+   * @param actionArgs The value for the {@code actionArgs} attribute
+   * @param timeout The value for the {@code timeout} attribute
+   * @param shouldCancelOnRepeat The value for the {@code shouldCancelOnRepeat} attribute
+   * @return An immutable BackgroundTask instance
+   */
+  public static <T> ImmutableBackgroundTask<T> of(String name, TaskAction<T> action, T actionArgs, Optional<? extends BackgroundTask.Timeout> timeout, boolean shouldCancelOnRepeat) {
+    return new ImmutableBackgroundTask<>(name, action, actionArgs, timeout, shouldCancelOnRepeat);
+  }
+}
@@ -0,0 +1,191 @@
+package com.facebook.buck.support.build.report;
+
+import com.facebook.buck.core.config.BuckConfig;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.net.URL;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BuildReportConfig}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuildReportConfig.of()}.
+ */
+@Generated(from = "BuildReportConfig", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableBuildReportConfig extends BuildReportConfig {
+  private final BuckConfig delegate;
+
+  private ImmutableBuildReportConfig(BuckConfig delegate) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate");
+  }
+
+  /**
+   * @return The value of the {@code delegate} attribute
+   */
+  @Override
+  public BuckConfig getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuildReportConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuildReportConfig
+        && equalTo((ImmutableBuildReportConfig) another);
+  }
+
+  private boolean equalTo(ImmutableBuildReportConfig another) {
+    return delegate.equals(another.delegate);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code delegate}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + delegate.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildReportConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildReportConfig")
+        .omitNullValues()
+        .add("delegate", delegate)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long ENABLED_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean enabled;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link BuildReportConfig#getEnabled() enabled} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code enabled} attribute
+   */
+  @Override
+  public boolean getEnabled() {
+    if ((lazyInitBitmap & ENABLED_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & ENABLED_LAZY_INIT_BIT) == 0) {
+          this.enabled = super.getEnabled();
+          lazyInitBitmap |= ENABLED_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return enabled;
+  }
+
+  private static final long ENDPOINT_URL_LAZY_INIT_BIT = 0x2L;
+
+  @SuppressWarnings("Immutable")
+  private transient Optional<URL> endpointUrl;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link BuildReportConfig#getEndpointUrl() endpointUrl} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code endpointUrl} attribute
+   */
+  @Override
+  public Optional<URL> getEndpointUrl() {
+    if ((lazyInitBitmap & ENDPOINT_URL_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & ENDPOINT_URL_LAZY_INIT_BIT) == 0) {
+          this.endpointUrl = Objects.requireNonNull(super.getEndpointUrl(), "endpointUrl");
+          lazyInitBitmap |= ENDPOINT_URL_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return endpointUrl;
+  }
+
+  private static final long ENDPOINT_TIMEOUT_MS_LAZY_INIT_BIT = 0x4L;
+
+  @SuppressWarnings("Immutable")
+  private transient long endpointTimeoutMs;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link BuildReportConfig#getEndpointTimeoutMs() endpointTimeoutMs} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code endpointTimeoutMs} attribute
+   */
+  @Override
+  public long getEndpointTimeoutMs() {
+    if ((lazyInitBitmap & ENDPOINT_TIMEOUT_MS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & ENDPOINT_TIMEOUT_MS_LAZY_INIT_BIT) == 0) {
+          this.endpointTimeoutMs = super.getEndpointTimeoutMs();
+          lazyInitBitmap |= ENDPOINT_TIMEOUT_MS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return endpointTimeoutMs;
+  }
+
+  private static final long REMOVE_OUTPUT_LAZY_INIT_BIT = 0x8L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean removeOutput;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link BuildReportConfig#getRemoveOutput() removeOutput} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code removeOutput} attribute
+   */
+  @Override
+  public boolean getRemoveOutput() {
+    if ((lazyInitBitmap & REMOVE_OUTPUT_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & REMOVE_OUTPUT_LAZY_INIT_BIT) == 0) {
+          this.removeOutput = super.getRemoveOutput();
+          lazyInitBitmap |= REMOVE_OUTPUT_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return removeOutput;
+  }
+
+  /**
+   * Construct a new immutable {@code BuildReportConfig} instance.
+   * @param delegate The value for the {@code delegate} attribute
+   * @return An immutable BuildReportConfig instance
+   */
+  public static ImmutableBuildReportConfig of(BuckConfig delegate) {
+    return new ImmutableBuildReportConfig(delegate);
+  }
+}
@@ -0,0 +1,280 @@
+package com.facebook.buck.support.cli.config;
+
+import com.facebook.buck.core.config.BuckConfig;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CliConfig}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCliConfig.of()}.
+ */
+@Generated(from = "CliConfig", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCliConfig extends CliConfig {
+  private final BuckConfig delegate;
+  private transient final JsonAttributeFormat jsonAttributeFormat;
+
+  private ImmutableCliConfig(BuckConfig delegate) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate");
+    this.jsonAttributeFormat = Objects.requireNonNull(super.getJsonAttributeFormat(), "jsonAttributeFormat");
+  }
+
+  /**
+   * @return The value of the {@code delegate} attribute
+   */
+  @Override
+  public BuckConfig getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code jsonAttributeFormat} attribute
+   */
+  @Override
+  public JsonAttributeFormat getJsonAttributeFormat() {
+    return jsonAttributeFormat;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCliConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCliConfig
+        && equalTo((ImmutableCliConfig) another);
+  }
+
+  private boolean equalTo(ImmutableCliConfig another) {
+    return delegate.equals(another.delegate)
+        && jsonAttributeFormat.equals(another.jsonAttributeFormat);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code delegate}, {@code jsonAttributeFormat}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + delegate.hashCode();
+    h += (h << 5) + jsonAttributeFormat.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CliConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CliConfig")
+        .omitNullValues()
+        .add("delegate", delegate)
+        .add("jsonAttributeFormat", jsonAttributeFormat)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long WARN_ON_CONFIG_FILE_OVERRIDES_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean warnOnConfigFileOverrides;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link CliConfig#getWarnOnConfigFileOverrides() warnOnConfigFileOverrides} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code warnOnConfigFileOverrides} attribute
+   */
+  @Override
+  public boolean getWarnOnConfigFileOverrides() {
+    if ((lazyInitBitmap & WARN_ON_CONFIG_FILE_OVERRIDES_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & WARN_ON_CONFIG_FILE_OVERRIDES_LAZY_INIT_BIT) == 0) {
+          this.warnOnConfigFileOverrides = super.getWarnOnConfigFileOverrides();
+          lazyInitBitmap |= WARN_ON_CONFIG_FILE_OVERRIDES_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return warnOnConfigFileOverrides;
+  }
+
+  private static final long WARN_ON_CONFIG_FILE_OVERRIDES_IGNORED_FILES_LAZY_INIT_BIT = 0x2L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableSet<Path> warnOnConfigFileOverridesIgnoredFiles;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link CliConfig#getWarnOnConfigFileOverridesIgnoredFiles() warnOnConfigFileOverridesIgnoredFiles} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code warnOnConfigFileOverridesIgnoredFiles} attribute
+   */
+  @Override
+  public ImmutableSet<Path> getWarnOnConfigFileOverridesIgnoredFiles() {
+    if ((lazyInitBitmap & WARN_ON_CONFIG_FILE_OVERRIDES_IGNORED_FILES_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & WARN_ON_CONFIG_FILE_OVERRIDES_IGNORED_FILES_LAZY_INIT_BIT) == 0) {
+          this.warnOnConfigFileOverridesIgnoredFiles = Objects.requireNonNull(super.getWarnOnConfigFileOverridesIgnoredFiles(), "warnOnConfigFileOverridesIgnoredFiles");
+          lazyInitBitmap |= WARN_ON_CONFIG_FILE_OVERRIDES_IGNORED_FILES_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return warnOnConfigFileOverridesIgnoredFiles;
+  }
+
+  private static final long FLUSH_EVENTS_BEFORE_EXIT_LAZY_INIT_BIT = 0x4L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean flushEventsBeforeExit;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link CliConfig#getFlushEventsBeforeExit() flushEventsBeforeExit} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code flushEventsBeforeExit} attribute
+   */
+  @Override
+  public boolean getFlushEventsBeforeExit() {
+    if ((lazyInitBitmap & FLUSH_EVENTS_BEFORE_EXIT_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & FLUSH_EVENTS_BEFORE_EXIT_LAZY_INIT_BIT) == 0) {
+          this.flushEventsBeforeExit = super.getFlushEventsBeforeExit();
+          lazyInitBitmap |= FLUSH_EVENTS_BEFORE_EXIT_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return flushEventsBeforeExit;
+  }
+
+  private static final long MESSAGE_OF_THE_DAY_LAZY_INIT_BIT = 0x8L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableList<String> messageOfTheDay;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link CliConfig#getMessageOfTheDay() messageOfTheDay} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code messageOfTheDay} attribute
+   */
+  @Override
+  public ImmutableList<String> getMessageOfTheDay() {
+    if ((lazyInitBitmap & MESSAGE_OF_THE_DAY_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & MESSAGE_OF_THE_DAY_LAZY_INIT_BIT) == 0) {
+          this.messageOfTheDay = Objects.requireNonNull(super.getMessageOfTheDay(), "messageOfTheDay");
+          lazyInitBitmap |= MESSAGE_OF_THE_DAY_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return messageOfTheDay;
+  }
+
+  private static final long RELATIVIZE_TARGETS_TO_WORKING_DIRECTORY_LAZY_INIT_BIT = 0x10L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean relativizeTargetsToWorkingDirectory;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link CliConfig#getRelativizeTargetsToWorkingDirectory() relativizeTargetsToWorkingDirectory} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code relativizeTargetsToWorkingDirectory} attribute
+   */
+  @Override
+  public boolean getRelativizeTargetsToWorkingDirectory() {
+    if ((lazyInitBitmap & RELATIVIZE_TARGETS_TO_WORKING_DIRECTORY_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & RELATIVIZE_TARGETS_TO_WORKING_DIRECTORY_LAZY_INIT_BIT) == 0) {
+          this.relativizeTargetsToWorkingDirectory = super.getRelativizeTargetsToWorkingDirectory();
+          lazyInitBitmap |= RELATIVIZE_TARGETS_TO_WORKING_DIRECTORY_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return relativizeTargetsToWorkingDirectory;
+  }
+
+  private static final long ENABLE_SHOW_OUTPUT_WARNING_LAZY_INIT_BIT = 0x20L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean enableShowOutputWarning;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link CliConfig#getEnableShowOutputWarning() enableShowOutputWarning} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code enableShowOutputWarning} attribute
+   */
+  @Override
+  public boolean getEnableShowOutputWarning() {
+    if ((lazyInitBitmap & ENABLE_SHOW_OUTPUT_WARNING_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & ENABLE_SHOW_OUTPUT_WARNING_LAZY_INIT_BIT) == 0) {
+          this.enableShowOutputWarning = super.getEnableShowOutputWarning();
+          lazyInitBitmap |= ENABLE_SHOW_OUTPUT_WARNING_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return enableShowOutputWarning;
+  }
+
+  private static final long ENABLE_FAILING_COMMAND_TRUNCATION_LAZY_INIT_BIT = 0x40L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean enableFailingCommandTruncation;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link CliConfig#getEnableFailingCommandTruncation() enableFailingCommandTruncation} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code enableFailingCommandTruncation} attribute
+   */
+  @Override
+  public boolean getEnableFailingCommandTruncation() {
+    if ((lazyInitBitmap & ENABLE_FAILING_COMMAND_TRUNCATION_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & ENABLE_FAILING_COMMAND_TRUNCATION_LAZY_INIT_BIT) == 0) {
+          this.enableFailingCommandTruncation = super.getEnableFailingCommandTruncation();
+          lazyInitBitmap |= ENABLE_FAILING_COMMAND_TRUNCATION_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return enableFailingCommandTruncation;
+  }
+
+  /**
+   * Construct a new immutable {@code CliConfig} instance.
+   * @param delegate The value for the {@code delegate} attribute
+   * @return An immutable CliConfig instance
+   */
+  public static ImmutableCliConfig of(BuckConfig delegate) {
+    return new ImmutableCliConfig(delegate);
+  }
+}
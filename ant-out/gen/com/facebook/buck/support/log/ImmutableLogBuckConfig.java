@@ -0,0 +1,315 @@
+package com.facebook.buck.support.log;
+
+import com.facebook.buck.core.config.BuckConfig;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link LogBuckConfig}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableLogBuckConfig.of()}.
+ */
+@Generated(from = "LogBuckConfig", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableLogBuckConfig extends LogBuckConfig {
+  private final BuckConfig delegate;
+
+  private ImmutableLogBuckConfig(BuckConfig delegate) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate");
+  }
+
+  /**
+   * @return The value of the {@code delegate} attribute
+   */
+  @Override
+  public BuckConfig getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableLogBuckConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableLogBuckConfig
+        && equalTo((ImmutableLogBuckConfig) another);
+  }
+
+  private boolean equalTo(ImmutableLogBuckConfig another) {
+    return delegate.equals(another.delegate);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code delegate}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + delegate.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code LogBuckConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("LogBuckConfig")
+        .omitNullValues()
+        .add("delegate", delegate)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long PUBLIC_ANNOUNCEMENTS_ENABLED_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean publicAnnouncementsEnabled;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link LogBuckConfig#isPublicAnnouncementsEnabled() publicAnnouncementsEnabled} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code publicAnnouncementsEnabled} attribute
+   */
+  @Override
+  public boolean isPublicAnnouncementsEnabled() {
+    if ((lazyInitBitmap & PUBLIC_ANNOUNCEMENTS_ENABLED_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & PUBLIC_ANNOUNCEMENTS_ENABLED_LAZY_INIT_BIT) == 0) {
+          this.publicAnnouncementsEnabled = super.isPublicAnnouncementsEnabled();
+          lazyInitBitmap |= PUBLIC_ANNOUNCEMENTS_ENABLED_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return publicAnnouncementsEnabled;
+  }
+
+  private static final long PROCESS_TRACKER_ENABLED_LAZY_INIT_BIT = 0x2L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean processTrackerEnabled;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link LogBuckConfig#isProcessTrackerEnabled() processTrackerEnabled} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code processTrackerEnabled} attribute
+   */
+  @Override
+  public boolean isProcessTrackerEnabled() {
+    if ((lazyInitBitmap & PROCESS_TRACKER_ENABLED_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & PROCESS_TRACKER_ENABLED_LAZY_INIT_BIT) == 0) {
+          this.processTrackerEnabled = super.isProcessTrackerEnabled();
+          lazyInitBitmap |= PROCESS_TRACKER_ENABLED_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return processTrackerEnabled;
+  }
+
+  private static final long PROCESS_TRACKER_DEEP_ENABLED_LAZY_INIT_BIT = 0x4L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean processTrackerDeepEnabled;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link LogBuckConfig#isProcessTrackerDeepEnabled() processTrackerDeepEnabled} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code processTrackerDeepEnabled} attribute
+   */
+  @Override
+  public boolean isProcessTrackerDeepEnabled() {
+    if ((lazyInitBitmap & PROCESS_TRACKER_DEEP_ENABLED_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & PROCESS_TRACKER_DEEP_ENABLED_LAZY_INIT_BIT) == 0) {
+          this.processTrackerDeepEnabled = super.isProcessTrackerDeepEnabled();
+          lazyInitBitmap |= PROCESS_TRACKER_DEEP_ENABLED_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return processTrackerDeepEnabled;
+  }
+
+  private static final long RULE_KEY_LOGGER_ENABLED_LAZY_INIT_BIT = 0x8L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean ruleKeyLoggerEnabled;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link LogBuckConfig#isRuleKeyLoggerEnabled() ruleKeyLoggerEnabled} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code ruleKeyLoggerEnabled} attribute
+   */
+  @Override
+  public boolean isRuleKeyLoggerEnabled() {
+    if ((lazyInitBitmap & RULE_KEY_LOGGER_ENABLED_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & RULE_KEY_LOGGER_ENABLED_LAZY_INIT_BIT) == 0) {
+          this.ruleKeyLoggerEnabled = super.isRuleKeyLoggerEnabled();
+          lazyInitBitmap |= RULE_KEY_LOGGER_ENABLED_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return ruleKeyLoggerEnabled;
+  }
+
+  private static final long MACHINE_READABLE_LOGGER_ENABLED_LAZY_INIT_BIT = 0x10L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean machineReadableLoggerEnabled;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link LogBuckConfig#isMachineReadableLoggerEnabled() machineReadableLoggerEnabled} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code machineReadableLoggerEnabled} attribute
+   */
+  @Override
+  public boolean isMachineReadableLoggerEnabled() {
+    if ((lazyInitBitmap & MACHINE_READABLE_LOGGER_ENABLED_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & MACHINE_READABLE_LOGGER_ENABLED_LAZY_INIT_BIT) == 0) {
+          this.machineReadableLoggerEnabled = super.isMachineReadableLoggerEnabled();
+          lazyInitBitmap |= MACHINE_READABLE_LOGGER_ENABLED_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return machineReadableLoggerEnabled;
+  }
+
+  private static final long BUCK_CONFIG_LOCAL_WARNING_ENABLED_LAZY_INIT_BIT = 0x20L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean buckConfigLocalWarningEnabled;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link LogBuckConfig#isBuckConfigLocalWarningEnabled() buckConfigLocalWarningEnabled} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code buckConfigLocalWarningEnabled} attribute
+   */
+  @Override
+  public boolean isBuckConfigLocalWarningEnabled() {
+    if ((lazyInitBitmap & BUCK_CONFIG_LOCAL_WARNING_ENABLED_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & BUCK_CONFIG_LOCAL_WARNING_ENABLED_LAZY_INIT_BIT) == 0) {
+          this.buckConfigLocalWarningEnabled = super.isBuckConfigLocalWarningEnabled();
+          lazyInitBitmap |= BUCK_CONFIG_LOCAL_WARNING_ENABLED_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return buckConfigLocalWarningEnabled;
+  }
+
+  private static final long JAVA_UTILS_LOGGING_ENABLED_LAZY_INIT_BIT = 0x40L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean javaUtilsLoggingEnabled;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link LogBuckConfig#isJavaUtilsLoggingEnabled() javaUtilsLoggingEnabled} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code javaUtilsLoggingEnabled} attribute
+   */
+  @Override
+  public boolean isJavaUtilsLoggingEnabled() {
+    if ((lazyInitBitmap & JAVA_UTILS_LOGGING_ENABLED_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & JAVA_UTILS_LOGGING_ENABLED_LAZY_INIT_BIT) == 0) {
+          this.javaUtilsLoggingEnabled = super.isJavaUtilsLoggingEnabled();
+          lazyInitBitmap |= JAVA_UTILS_LOGGING_ENABLED_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return javaUtilsLoggingEnabled;
+  }
+
+  private static final long JAVA_G_C_EVENT_LOGGING_ENABLED_LAZY_INIT_BIT = 0x80L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean javaGCEventLoggingEnabled;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link LogBuckConfig#isJavaGCEventLoggingEnabled() javaGCEventLoggingEnabled} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code javaGCEventLoggingEnabled} attribute
+   */
+  @Override
+  public boolean isJavaGCEventLoggingEnabled() {
+    if ((lazyInitBitmap & JAVA_G_C_EVENT_LOGGING_ENABLED_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & JAVA_G_C_EVENT_LOGGING_ENABLED_LAZY_INIT_BIT) == 0) {
+          this.javaGCEventLoggingEnabled = super.isJavaGCEventLoggingEnabled();
+          lazyInitBitmap |= JAVA_G_C_EVENT_LOGGING_ENABLED_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return javaGCEventLoggingEnabled;
+  }
+
+  private static final long BUILD_DETAILS_COMMANDS_LAZY_INIT_BIT = 0x100L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableSet<String> buildDetailsCommands;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link LogBuckConfig#getBuildDetailsCommands() buildDetailsCommands} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code buildDetailsCommands} attribute
+   */
+  @Override
+  public ImmutableSet<String> getBuildDetailsCommands() {
+    if ((lazyInitBitmap & BUILD_DETAILS_COMMANDS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & BUILD_DETAILS_COMMANDS_LAZY_INIT_BIT) == 0) {
+          this.buildDetailsCommands = Objects.requireNonNull(super.getBuildDetailsCommands(), "buildDetailsCommands");
+          lazyInitBitmap |= BUILD_DETAILS_COMMANDS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return buildDetailsCommands;
+  }
+
+  /**
+   * Construct a new immutable {@code LogBuckConfig} instance.
+   * @param delegate The value for the {@code delegate} attribute
+   * @return An immutable LogBuckConfig instance
+   */
+  public static ImmutableLogBuckConfig of(BuckConfig delegate) {
+    return new ImmutableLogBuckConfig(delegate);
+  }
+}
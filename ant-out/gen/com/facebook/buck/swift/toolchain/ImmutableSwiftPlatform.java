@@ -0,0 +1,464 @@
+package com.facebook.buck.swift.toolchain;
+
+import com.facebook.buck.core.toolchain.tool.Tool;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link SwiftPlatform}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new SwiftPlatform.Builder()}.
+ */
+@Generated(from = "SwiftPlatform", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableSwiftPlatform implements SwiftPlatform {
+  private final Tool swiftc;
+  private final @Nullable Tool swiftStdlibTool;
+  private final ImmutableSet<Path> swiftRuntimePathsForBundling;
+  private final ImmutableSet<Path> swiftRuntimePathsForLinking;
+  private final ImmutableSet<Path> swiftStaticRuntimePaths;
+  private final ImmutableList<Path> swiftSharedLibraryRunPaths;
+  private final SwiftTargetTriple swiftTarget;
+
+  private ImmutableSwiftPlatform(ImmutableSwiftPlatform.Builder builder) {
+    this.swiftc = builder.swiftc;
+    this.swiftStdlibTool = builder.swiftStdlibTool;
+    this.swiftRuntimePathsForBundling = builder.swiftRuntimePathsForBundling.build();
+    this.swiftRuntimePathsForLinking = builder.swiftRuntimePathsForLinking.build();
+    this.swiftStaticRuntimePaths = builder.swiftStaticRuntimePaths.build();
+    this.swiftSharedLibraryRunPaths = builder.swiftSharedLibraryRunPaths.build();
+    this.swiftTarget = builder.swiftTarget;
+  }
+
+  /**
+   * @return The value of the {@code swiftc} attribute
+   */
+  @Override
+  public Tool getSwiftc() {
+    return swiftc;
+  }
+
+  /**
+   * @return The value of the {@code swiftStdlibTool} attribute
+   */
+  @Override
+  public Optional<Tool> getSwiftStdlibTool() {
+    return Optional.ofNullable(swiftStdlibTool);
+  }
+
+  /**
+   * @return The value of the {@code swiftRuntimePathsForBundling} attribute
+   */
+  @Override
+  public ImmutableSet<Path> getSwiftRuntimePathsForBundling() {
+    return swiftRuntimePathsForBundling;
+  }
+
+  /**
+   * @return The value of the {@code swiftRuntimePathsForLinking} attribute
+   */
+  @Override
+  public ImmutableSet<Path> getSwiftRuntimePathsForLinking() {
+    return swiftRuntimePathsForLinking;
+  }
+
+  /**
+   * @return The value of the {@code swiftStaticRuntimePaths} attribute
+   */
+  @Override
+  public ImmutableSet<Path> getSwiftStaticRuntimePaths() {
+    return swiftStaticRuntimePaths;
+  }
+
+  /**
+   * @return The value of the {@code swiftSharedLibraryRunPaths} attribute
+   */
+  @Override
+  public ImmutableList<Path> getSwiftSharedLibraryRunPaths() {
+    return swiftSharedLibraryRunPaths;
+  }
+
+  /**
+   * @return The value of the {@code swiftTarget} attribute
+   */
+  @Override
+  public SwiftTargetTriple getSwiftTarget() {
+    return swiftTarget;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableSwiftPlatform} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableSwiftPlatform
+        && equalTo((ImmutableSwiftPlatform) another);
+  }
+
+  private boolean equalTo(ImmutableSwiftPlatform another) {
+    return swiftc.equals(another.swiftc)
+        && Objects.equals(swiftStdlibTool, another.swiftStdlibTool)
+        && swiftRuntimePathsForBundling.equals(another.swiftRuntimePathsForBundling)
+        && swiftRuntimePathsForLinking.equals(another.swiftRuntimePathsForLinking)
+        && swiftStaticRuntimePaths.equals(another.swiftStaticRuntimePaths)
+        && swiftSharedLibraryRunPaths.equals(another.swiftSharedLibraryRunPaths)
+        && swiftTarget.equals(another.swiftTarget);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code swiftc}, {@code swiftStdlibTool}, {@code swiftRuntimePathsForBundling}, {@code swiftRuntimePathsForLinking}, {@code swiftStaticRuntimePaths}, {@code swiftSharedLibraryRunPaths}, {@code swiftTarget}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + swiftc.hashCode();
+    h += (h << 5) + Objects.hashCode(swiftStdlibTool);
+    h += (h << 5) + swiftRuntimePathsForBundling.hashCode();
+    h += (h << 5) + swiftRuntimePathsForLinking.hashCode();
+    h += (h << 5) + swiftStaticRuntimePaths.hashCode();
+    h += (h << 5) + swiftSharedLibraryRunPaths.hashCode();
+    h += (h << 5) + swiftTarget.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code SwiftPlatform} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SwiftPlatform")
+        .omitNullValues()
+        .add("swiftc", swiftc)
+        .add("swiftStdlibTool", swiftStdlibTool)
+        .add("swiftRuntimePathsForBundling", swiftRuntimePathsForBundling)
+        .add("swiftRuntimePathsForLinking", swiftRuntimePathsForLinking)
+        .add("swiftStaticRuntimePaths", swiftStaticRuntimePaths)
+        .add("swiftSharedLibraryRunPaths", swiftSharedLibraryRunPaths)
+        .add("swiftTarget", swiftTarget)
+        .toString();
+  }
+
+  /**
+   * Builds instances of type {@link SwiftPlatform SwiftPlatform}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "SwiftPlatform", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private static final long INIT_BIT_SWIFTC = 0x1L;
+    private static final long INIT_BIT_SWIFT_TARGET = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable Tool swiftc;
+    private @Nullable Tool swiftStdlibTool;
+    private ImmutableSet.Builder<Path> swiftRuntimePathsForBundling = ImmutableSet.builder();
+    private ImmutableSet.Builder<Path> swiftRuntimePathsForLinking = ImmutableSet.builder();
+    private ImmutableSet.Builder<Path> swiftStaticRuntimePaths = ImmutableSet.builder();
+    private ImmutableList.Builder<Path> swiftSharedLibraryRunPaths = ImmutableList.builder();
+    private @Nullable SwiftTargetTriple swiftTarget;
+
+    /**
+     * Creates a builder for {@link SwiftPlatform SwiftPlatform} instances.
+     */
+    public Builder() {
+      if (!(this instanceof SwiftPlatform.Builder)) {
+        throw new UnsupportedOperationException("Use: new SwiftPlatform.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code SwiftPlatform} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SwiftPlatform.Builder from(SwiftPlatform instance) {
+      Objects.requireNonNull(instance, "instance");
+      setSwiftc(instance.getSwiftc());
+      Optional<Tool> swiftStdlibToolOptional = instance.getSwiftStdlibTool();
+      if (swiftStdlibToolOptional.isPresent()) {
+        setSwiftStdlibTool(swiftStdlibToolOptional);
+      }
+      addAllSwiftRuntimePathsForBundling(instance.getSwiftRuntimePathsForBundling());
+      addAllSwiftRuntimePathsForLinking(instance.getSwiftRuntimePathsForLinking());
+      addAllSwiftStaticRuntimePaths(instance.getSwiftStaticRuntimePaths());
+      addAllSwiftSharedLibraryRunPaths(instance.getSwiftSharedLibraryRunPaths());
+      setSwiftTarget(instance.getSwiftTarget());
+      return (SwiftPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link SwiftPlatform#getSwiftc() swiftc} attribute.
+     * @param swiftc The value for swiftc 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SwiftPlatform.Builder setSwiftc(Tool swiftc) {
+      this.swiftc = Objects.requireNonNull(swiftc, "swiftc");
+      initBits &= ~INIT_BIT_SWIFTC;
+      return (SwiftPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link SwiftPlatform#getSwiftStdlibTool() swiftStdlibTool} to swiftStdlibTool.
+     * @param swiftStdlibTool The value for swiftStdlibTool
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SwiftPlatform.Builder setSwiftStdlibTool(Tool swiftStdlibTool) {
+      this.swiftStdlibTool = Objects.requireNonNull(swiftStdlibTool, "swiftStdlibTool");
+      return (SwiftPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link SwiftPlatform#getSwiftStdlibTool() swiftStdlibTool} to swiftStdlibTool.
+     * @param swiftStdlibTool The value for swiftStdlibTool
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SwiftPlatform.Builder setSwiftStdlibTool(Optional<? extends Tool> swiftStdlibTool) {
+      this.swiftStdlibTool = swiftStdlibTool.orElse(null);
+      return (SwiftPlatform.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link SwiftPlatform#getSwiftRuntimePathsForBundling() swiftRuntimePathsForBundling} set.
+     * @param element A swiftRuntimePathsForBundling element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SwiftPlatform.Builder addSwiftRuntimePathsForBundling(Path element) {
+      this.swiftRuntimePathsForBundling.add(element);
+      return (SwiftPlatform.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link SwiftPlatform#getSwiftRuntimePathsForBundling() swiftRuntimePathsForBundling} set.
+     * @param elements An array of swiftRuntimePathsForBundling elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SwiftPlatform.Builder addSwiftRuntimePathsForBundling(Path... elements) {
+      this.swiftRuntimePathsForBundling.add(elements);
+      return (SwiftPlatform.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link SwiftPlatform#getSwiftRuntimePathsForBundling() swiftRuntimePathsForBundling} set.
+     * @param elements An iterable of swiftRuntimePathsForBundling elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SwiftPlatform.Builder setSwiftRuntimePathsForBundling(Iterable<? extends Path> elements) {
+      this.swiftRuntimePathsForBundling = ImmutableSet.builder();
+      return addAllSwiftRuntimePathsForBundling(elements);
+    }
+
+    /**
+     * Adds elements to {@link SwiftPlatform#getSwiftRuntimePathsForBundling() swiftRuntimePathsForBundling} set.
+     * @param elements An iterable of swiftRuntimePathsForBundling elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SwiftPlatform.Builder addAllSwiftRuntimePathsForBundling(Iterable<? extends Path> elements) {
+      this.swiftRuntimePathsForBundling.addAll(elements);
+      return (SwiftPlatform.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link SwiftPlatform#getSwiftRuntimePathsForLinking() swiftRuntimePathsForLinking} set.
+     * @param element A swiftRuntimePathsForLinking element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SwiftPlatform.Builder addSwiftRuntimePathsForLinking(Path element) {
+      this.swiftRuntimePathsForLinking.add(element);
+      return (SwiftPlatform.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link SwiftPlatform#getSwiftRuntimePathsForLinking() swiftRuntimePathsForLinking} set.
+     * @param elements An array of swiftRuntimePathsForLinking elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SwiftPlatform.Builder addSwiftRuntimePathsForLinking(Path... elements) {
+      this.swiftRuntimePathsForLinking.add(elements);
+      return (SwiftPlatform.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link SwiftPlatform#getSwiftRuntimePathsForLinking() swiftRuntimePathsForLinking} set.
+     * @param elements An iterable of swiftRuntimePathsForLinking elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SwiftPlatform.Builder setSwiftRuntimePathsForLinking(Iterable<? extends Path> elements) {
+      this.swiftRuntimePathsForLinking = ImmutableSet.builder();
+      return addAllSwiftRuntimePathsForLinking(elements);
+    }
+
+    /**
+     * Adds elements to {@link SwiftPlatform#getSwiftRuntimePathsForLinking() swiftRuntimePathsForLinking} set.
+     * @param elements An iterable of swiftRuntimePathsForLinking elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SwiftPlatform.Builder addAllSwiftRuntimePathsForLinking(Iterable<? extends Path> elements) {
+      this.swiftRuntimePathsForLinking.addAll(elements);
+      return (SwiftPlatform.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link SwiftPlatform#getSwiftStaticRuntimePaths() swiftStaticRuntimePaths} set.
+     * @param element A swiftStaticRuntimePaths element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SwiftPlatform.Builder addSwiftStaticRuntimePaths(Path element) {
+      this.swiftStaticRuntimePaths.add(element);
+      return (SwiftPlatform.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link SwiftPlatform#getSwiftStaticRuntimePaths() swiftStaticRuntimePaths} set.
+     * @param elements An array of swiftStaticRuntimePaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SwiftPlatform.Builder addSwiftStaticRuntimePaths(Path... elements) {
+      this.swiftStaticRuntimePaths.add(elements);
+      return (SwiftPlatform.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link SwiftPlatform#getSwiftStaticRuntimePaths() swiftStaticRuntimePaths} set.
+     * @param elements An iterable of swiftStaticRuntimePaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SwiftPlatform.Builder setSwiftStaticRuntimePaths(Iterable<? extends Path> elements) {
+      this.swiftStaticRuntimePaths = ImmutableSet.builder();
+      return addAllSwiftStaticRuntimePaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link SwiftPlatform#getSwiftStaticRuntimePaths() swiftStaticRuntimePaths} set.
+     * @param elements An iterable of swiftStaticRuntimePaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SwiftPlatform.Builder addAllSwiftStaticRuntimePaths(Iterable<? extends Path> elements) {
+      this.swiftStaticRuntimePaths.addAll(elements);
+      return (SwiftPlatform.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link SwiftPlatform#getSwiftSharedLibraryRunPaths() swiftSharedLibraryRunPaths} list.
+     * @param element A swiftSharedLibraryRunPaths element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SwiftPlatform.Builder addSwiftSharedLibraryRunPaths(Path element) {
+      this.swiftSharedLibraryRunPaths.add(element);
+      return (SwiftPlatform.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link SwiftPlatform#getSwiftSharedLibraryRunPaths() swiftSharedLibraryRunPaths} list.
+     * @param elements An array of swiftSharedLibraryRunPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SwiftPlatform.Builder addSwiftSharedLibraryRunPaths(Path... elements) {
+      this.swiftSharedLibraryRunPaths.add(elements);
+      return (SwiftPlatform.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link SwiftPlatform#getSwiftSharedLibraryRunPaths() swiftSharedLibraryRunPaths} list.
+     * @param elements An iterable of swiftSharedLibraryRunPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SwiftPlatform.Builder setSwiftSharedLibraryRunPaths(Iterable<? extends Path> elements) {
+      this.swiftSharedLibraryRunPaths = ImmutableList.builder();
+      return addAllSwiftSharedLibraryRunPaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link SwiftPlatform#getSwiftSharedLibraryRunPaths() swiftSharedLibraryRunPaths} list.
+     * @param elements An iterable of swiftSharedLibraryRunPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SwiftPlatform.Builder addAllSwiftSharedLibraryRunPaths(Iterable<? extends Path> elements) {
+      this.swiftSharedLibraryRunPaths.addAll(elements);
+      return (SwiftPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link SwiftPlatform#getSwiftTarget() swiftTarget} attribute.
+     * @param swiftTarget The value for swiftTarget 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SwiftPlatform.Builder setSwiftTarget(SwiftTargetTriple swiftTarget) {
+      this.swiftTarget = Objects.requireNonNull(swiftTarget, "swiftTarget");
+      initBits &= ~INIT_BIT_SWIFT_TARGET;
+      return (SwiftPlatform.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link SwiftPlatform SwiftPlatform}.
+     * @return An immutable instance of SwiftPlatform
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public SwiftPlatform build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ImmutableSwiftPlatform(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_SWIFTC) != 0) attributes.add("swiftc");
+      if ((initBits & INIT_BIT_SWIFT_TARGET) != 0) attributes.add("swiftTarget");
+      return "Cannot build SwiftPlatform, some of required attributes are not set " + attributes;
+    }
+  }
+}
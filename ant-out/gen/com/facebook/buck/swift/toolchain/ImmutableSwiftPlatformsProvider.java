@@ -0,0 +1,88 @@
+package com.facebook.buck.swift.toolchain;
+
+import com.facebook.buck.core.model.FlavorDomain;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link SwiftPlatformsProvider}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableSwiftPlatformsProvider.of()}.
+ */
+@Generated(from = "SwiftPlatformsProvider", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableSwiftPlatformsProvider
+    implements SwiftPlatformsProvider {
+  private final FlavorDomain<UnresolvedSwiftPlatform> unresolvedSwiftPlatforms;
+
+  private ImmutableSwiftPlatformsProvider(
+      FlavorDomain<UnresolvedSwiftPlatform> unresolvedSwiftPlatforms) {
+    this.unresolvedSwiftPlatforms = Objects.requireNonNull(unresolvedSwiftPlatforms, "unresolvedSwiftPlatforms");
+  }
+
+  /**
+   * @return The value of the {@code unresolvedSwiftPlatforms} attribute
+   */
+  @Override
+  public FlavorDomain<UnresolvedSwiftPlatform> getUnresolvedSwiftPlatforms() {
+    return unresolvedSwiftPlatforms;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableSwiftPlatformsProvider} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableSwiftPlatformsProvider
+        && equalTo((ImmutableSwiftPlatformsProvider) another);
+  }
+
+  private boolean equalTo(ImmutableSwiftPlatformsProvider another) {
+    return unresolvedSwiftPlatforms.equals(another.unresolvedSwiftPlatforms);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code unresolvedSwiftPlatforms}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + unresolvedSwiftPlatforms.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code SwiftPlatformsProvider} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SwiftPlatformsProvider")
+        .omitNullValues()
+        .add("unresolvedSwiftPlatforms", unresolvedSwiftPlatforms)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code SwiftPlatformsProvider} instance.
+   * @param unresolvedSwiftPlatforms The value for the {@code unresolvedSwiftPlatforms} attribute
+   * @return An immutable SwiftPlatformsProvider instance
+   */
+  public static ImmutableSwiftPlatformsProvider of(FlavorDomain<UnresolvedSwiftPlatform> unresolvedSwiftPlatforms) {
+    return new ImmutableSwiftPlatformsProvider(unresolvedSwiftPlatforms);
+  }
+}
@@ -0,0 +1,910 @@
+package com.facebook.buck.test;
+
+import com.facebook.buck.test.selectors.TestSelectorList;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link TestRunningOptions}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new TestRunningOptions.Builder()}.
+ */
+@Generated(from = "TestRunningOptions", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableTestRunningOptions extends TestRunningOptions {
+  private final boolean codeCoverageEnabled;
+  private final boolean runAllTests;
+  private final TestSelectorList testSelectorList;
+  private final boolean shouldExplainTestSelectorList;
+  private final boolean shufflingTests;
+  private final @Nullable String pathToXmlTestOutput;
+  private final @Nullable String pathToJavaAgent;
+  private final ImmutableSet<CoverageReportFormat> coverageReportFormats;
+  private final String coverageReportTitle;
+  private final ImmutableMap<String, String> environmentOverrides;
+  private final @Nullable String coverageExcludes;
+  private final @Nullable String coverageIncludes;
+  private final @Nullable String javaTempDir;
+  private final @Nullable Integer javaTestShards;
+  private final @Nullable Integer javaTestWorkers;
+
+  private ImmutableTestRunningOptions(ImmutableTestRunningOptions.Builder builder) {
+    this.pathToXmlTestOutput = builder.pathToXmlTestOutput;
+    this.pathToJavaAgent = builder.pathToJavaAgent;
+    this.environmentOverrides = builder.environmentOverrides.build();
+    this.coverageExcludes = builder.coverageExcludes;
+    this.coverageIncludes = builder.coverageIncludes;
+    this.javaTempDir = builder.javaTempDir;
+    this.javaTestShards = builder.javaTestShards;
+    this.javaTestWorkers = builder.javaTestWorkers;
+    if (builder.codeCoverageEnabledIsSet()) {
+      initShim.setCodeCoverageEnabled(builder.codeCoverageEnabled);
+    }
+    if (builder.runAllTestsIsSet()) {
+      initShim.setRunAllTests(builder.runAllTests);
+    }
+    if (builder.testSelectorList != null) {
+      initShim.setTestSelectorList(builder.testSelectorList);
+    }
+    if (builder.shouldExplainTestSelectorListIsSet()) {
+      initShim.setShouldExplainTestSelectorList(builder.shouldExplainTestSelectorList);
+    }
+    if (builder.shufflingTestsIsSet()) {
+      initShim.setShufflingTests(builder.shufflingTests);
+    }
+    if (builder.coverageReportFormatsIsSet()) {
+      initShim.setCoverageReportFormats(Sets.immutableEnumSet(builder.coverageReportFormats.build()));
+    }
+    if (builder.coverageReportTitle != null) {
+      initShim.setCoverageReportTitle(builder.coverageReportTitle);
+    }
+    this.codeCoverageEnabled = initShim.isCodeCoverageEnabled();
+    this.runAllTests = initShim.isRunAllTests();
+    this.testSelectorList = initShim.getTestSelectorList();
+    this.shouldExplainTestSelectorList = initShim.shouldExplainTestSelectorList();
+    this.shufflingTests = initShim.isShufflingTests();
+    this.coverageReportFormats = initShim.getCoverageReportFormats();
+    this.coverageReportTitle = initShim.getCoverageReportTitle();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "TestRunningOptions", generator = "Immutables")
+  private final class InitShim {
+    private byte codeCoverageEnabledBuildStage = STAGE_UNINITIALIZED;
+    private boolean codeCoverageEnabled;
+
+    boolean isCodeCoverageEnabled() {
+      if (codeCoverageEnabledBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (codeCoverageEnabledBuildStage == STAGE_UNINITIALIZED) {
+        codeCoverageEnabledBuildStage = STAGE_INITIALIZING;
+        this.codeCoverageEnabled = ImmutableTestRunningOptions.super.isCodeCoverageEnabled();
+        codeCoverageEnabledBuildStage = STAGE_INITIALIZED;
+      }
+      return this.codeCoverageEnabled;
+    }
+
+    void setCodeCoverageEnabled(boolean codeCoverageEnabled) {
+      this.codeCoverageEnabled = codeCoverageEnabled;
+      codeCoverageEnabledBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte runAllTestsBuildStage = STAGE_UNINITIALIZED;
+    private boolean runAllTests;
+
+    boolean isRunAllTests() {
+      if (runAllTestsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (runAllTestsBuildStage == STAGE_UNINITIALIZED) {
+        runAllTestsBuildStage = STAGE_INITIALIZING;
+        this.runAllTests = ImmutableTestRunningOptions.super.isRunAllTests();
+        runAllTestsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.runAllTests;
+    }
+
+    void setRunAllTests(boolean runAllTests) {
+      this.runAllTests = runAllTests;
+      runAllTestsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte testSelectorListBuildStage = STAGE_UNINITIALIZED;
+    private TestSelectorList testSelectorList;
+
+    TestSelectorList getTestSelectorList() {
+      if (testSelectorListBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (testSelectorListBuildStage == STAGE_UNINITIALIZED) {
+        testSelectorListBuildStage = STAGE_INITIALIZING;
+        this.testSelectorList = Objects.requireNonNull(ImmutableTestRunningOptions.super.getTestSelectorList(), "testSelectorList");
+        testSelectorListBuildStage = STAGE_INITIALIZED;
+      }
+      return this.testSelectorList;
+    }
+
+    void setTestSelectorList(TestSelectorList testSelectorList) {
+      this.testSelectorList = testSelectorList;
+      testSelectorListBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte shouldExplainTestSelectorListBuildStage = STAGE_UNINITIALIZED;
+    private boolean shouldExplainTestSelectorList;
+
+    boolean shouldExplainTestSelectorList() {
+      if (shouldExplainTestSelectorListBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (shouldExplainTestSelectorListBuildStage == STAGE_UNINITIALIZED) {
+        shouldExplainTestSelectorListBuildStage = STAGE_INITIALIZING;
+        this.shouldExplainTestSelectorList = ImmutableTestRunningOptions.super.shouldExplainTestSelectorList();
+        shouldExplainTestSelectorListBuildStage = STAGE_INITIALIZED;
+      }
+      return this.shouldExplainTestSelectorList;
+    }
+
+    void setShouldExplainTestSelectorList(boolean shouldExplainTestSelectorList) {
+      this.shouldExplainTestSelectorList = shouldExplainTestSelectorList;
+      shouldExplainTestSelectorListBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte shufflingTestsBuildStage = STAGE_UNINITIALIZED;
+    private boolean shufflingTests;
+
+    boolean isShufflingTests() {
+      if (shufflingTestsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (shufflingTestsBuildStage == STAGE_UNINITIALIZED) {
+        shufflingTestsBuildStage = STAGE_INITIALIZING;
+        this.shufflingTests = ImmutableTestRunningOptions.super.isShufflingTests();
+        shufflingTestsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.shufflingTests;
+    }
+
+    void setShufflingTests(boolean shufflingTests) {
+      this.shufflingTests = shufflingTests;
+      shufflingTestsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte coverageReportFormatsBuildStage = STAGE_UNINITIALIZED;
+    private ImmutableSet<CoverageReportFormat> coverageReportFormats;
+
+    ImmutableSet<CoverageReportFormat> getCoverageReportFormats() {
+      if (coverageReportFormatsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (coverageReportFormatsBuildStage == STAGE_UNINITIALIZED) {
+        coverageReportFormatsBuildStage = STAGE_INITIALIZING;
+        this.coverageReportFormats = Sets.immutableEnumSet(ImmutableTestRunningOptions.super.getCoverageReportFormats());
+        coverageReportFormatsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.coverageReportFormats;
+    }
+
+    void setCoverageReportFormats(ImmutableSet<CoverageReportFormat> coverageReportFormats) {
+      this.coverageReportFormats = coverageReportFormats;
+      coverageReportFormatsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte coverageReportTitleBuildStage = STAGE_UNINITIALIZED;
+    private String coverageReportTitle;
+
+    String getCoverageReportTitle() {
+      if (coverageReportTitleBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (coverageReportTitleBuildStage == STAGE_UNINITIALIZED) {
+        coverageReportTitleBuildStage = STAGE_INITIALIZING;
+        this.coverageReportTitle = Objects.requireNonNull(ImmutableTestRunningOptions.super.getCoverageReportTitle(), "coverageReportTitle");
+        coverageReportTitleBuildStage = STAGE_INITIALIZED;
+      }
+      return this.coverageReportTitle;
+    }
+
+    void setCoverageReportTitle(String coverageReportTitle) {
+      this.coverageReportTitle = coverageReportTitle;
+      coverageReportTitleBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (codeCoverageEnabledBuildStage == STAGE_INITIALIZING) attributes.add("codeCoverageEnabled");
+      if (runAllTestsBuildStage == STAGE_INITIALIZING) attributes.add("runAllTests");
+      if (testSelectorListBuildStage == STAGE_INITIALIZING) attributes.add("testSelectorList");
+      if (shouldExplainTestSelectorListBuildStage == STAGE_INITIALIZING) attributes.add("shouldExplainTestSelectorList");
+      if (shufflingTestsBuildStage == STAGE_INITIALIZING) attributes.add("shufflingTests");
+      if (coverageReportFormatsBuildStage == STAGE_INITIALIZING) attributes.add("coverageReportFormats");
+      if (coverageReportTitleBuildStage == STAGE_INITIALIZING) attributes.add("coverageReportTitle");
+      return "Cannot build TestRunningOptions, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code codeCoverageEnabled} attribute
+   */
+  @Override
+  public boolean isCodeCoverageEnabled() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isCodeCoverageEnabled()
+        : this.codeCoverageEnabled;
+  }
+
+  /**
+   * @return The value of the {@code runAllTests} attribute
+   */
+  @Override
+  public boolean isRunAllTests() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isRunAllTests()
+        : this.runAllTests;
+  }
+
+  /**
+   * @return The value of the {@code testSelectorList} attribute
+   */
+  @Override
+  public TestSelectorList getTestSelectorList() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getTestSelectorList()
+        : this.testSelectorList;
+  }
+
+  /**
+   * @return The value of the {@code shouldExplainTestSelectorList} attribute
+   */
+  @Override
+  public boolean shouldExplainTestSelectorList() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.shouldExplainTestSelectorList()
+        : this.shouldExplainTestSelectorList;
+  }
+
+  /**
+   * @return The value of the {@code shufflingTests} attribute
+   */
+  @Override
+  public boolean isShufflingTests() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isShufflingTests()
+        : this.shufflingTests;
+  }
+
+  /**
+   * @return The value of the {@code pathToXmlTestOutput} attribute
+   */
+  @Override
+  public Optional<String> getPathToXmlTestOutput() {
+    return Optional.ofNullable(pathToXmlTestOutput);
+  }
+
+  /**
+   * @return The value of the {@code pathToJavaAgent} attribute
+   */
+  @Override
+  public Optional<String> getPathToJavaAgent() {
+    return Optional.ofNullable(pathToJavaAgent);
+  }
+
+  /**
+   * @return The value of the {@code coverageReportFormats} attribute
+   */
+  @Override
+  public ImmutableSet<CoverageReportFormat> getCoverageReportFormats() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getCoverageReportFormats()
+        : this.coverageReportFormats;
+  }
+
+  /**
+   * @return The value of the {@code coverageReportTitle} attribute
+   */
+  @Override
+  public String getCoverageReportTitle() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getCoverageReportTitle()
+        : this.coverageReportTitle;
+  }
+
+  /**
+   * @return The value of the {@code environmentOverrides} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getEnvironmentOverrides() {
+    return environmentOverrides;
+  }
+
+  /**
+   * @return The value of the {@code coverageExcludes} attribute
+   */
+  @Override
+  public Optional<String> getCoverageExcludes() {
+    return Optional.ofNullable(coverageExcludes);
+  }
+
+  /**
+   * @return The value of the {@code coverageIncludes} attribute
+   */
+  @Override
+  public Optional<String> getCoverageIncludes() {
+    return Optional.ofNullable(coverageIncludes);
+  }
+
+  /**
+   * @return The value of the {@code javaTempDir} attribute
+   */
+  @Override
+  public Optional<String> getJavaTempDir() {
+    return Optional.ofNullable(javaTempDir);
+  }
+
+  /**
+   * @return The value of the {@code javaTestShards} attribute
+   */
+  @Override
+  public OptionalInt getJavaTestShards() {
+    return javaTestShards != null
+        ? OptionalInt.of(javaTestShards)
+        : OptionalInt.empty();
+  }
+
+  /**
+   * @return The value of the {@code javaTestWorkers} attribute
+   */
+  @Override
+  public OptionalInt getJavaTestWorkers() {
+    return javaTestWorkers != null
+        ? OptionalInt.of(javaTestWorkers)
+        : OptionalInt.empty();
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableTestRunningOptions} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableTestRunningOptions
+        && equalTo((ImmutableTestRunningOptions) another);
+  }
+
+  private boolean equalTo(ImmutableTestRunningOptions another) {
+    return codeCoverageEnabled == another.codeCoverageEnabled
+        && runAllTests == another.runAllTests
+        && testSelectorList.equals(another.testSelectorList)
+        && shouldExplainTestSelectorList == another.shouldExplainTestSelectorList
+        && shufflingTests == another.shufflingTests
+        && Objects.equals(pathToXmlTestOutput, another.pathToXmlTestOutput)
+        && Objects.equals(pathToJavaAgent, another.pathToJavaAgent)
+        && coverageReportFormats.equals(another.coverageReportFormats)
+        && coverageReportTitle.equals(another.coverageReportTitle)
+        && environmentOverrides.equals(another.environmentOverrides)
+        && Objects.equals(coverageExcludes, another.coverageExcludes)
+        && Objects.equals(coverageIncludes, another.coverageIncludes)
+        && Objects.equals(javaTempDir, another.javaTempDir)
+        && Objects.equals(javaTestShards, another.javaTestShards)
+        && Objects.equals(javaTestWorkers, another.javaTestWorkers);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code codeCoverageEnabled}, {@code runAllTests}, {@code testSelectorList}, {@code shouldExplainTestSelectorList}, {@code shufflingTests}, {@code pathToXmlTestOutput}, {@code pathToJavaAgent}, {@code coverageReportFormats}, {@code coverageReportTitle}, {@code environmentOverrides}, {@code coverageExcludes}, {@code coverageIncludes}, {@code javaTempDir}, {@code javaTestShards}, {@code javaTestWorkers}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Booleans.hashCode(codeCoverageEnabled);
+    h += (h << 5) + Booleans.hashCode(runAllTests);
+    h += (h << 5) + testSelectorList.hashCode();
+    h += (h << 5) + Booleans.hashCode(shouldExplainTestSelectorList);
+    h += (h << 5) + Booleans.hashCode(shufflingTests);
+    h += (h << 5) + Objects.hashCode(pathToXmlTestOutput);
+    h += (h << 5) + Objects.hashCode(pathToJavaAgent);
+    h += (h << 5) + coverageReportFormats.hashCode();
+    h += (h << 5) + coverageReportTitle.hashCode();
+    h += (h << 5) + environmentOverrides.hashCode();
+    h += (h << 5) + Objects.hashCode(coverageExcludes);
+    h += (h << 5) + Objects.hashCode(coverageIncludes);
+    h += (h << 5) + Objects.hashCode(javaTempDir);
+    h += (h << 5) + Objects.hashCode(javaTestShards);
+    h += (h << 5) + Objects.hashCode(javaTestWorkers);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code TestRunningOptions} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("TestRunningOptions")
+        .omitNullValues()
+        .add("codeCoverageEnabled", codeCoverageEnabled)
+        .add("runAllTests", runAllTests)
+        .add("testSelectorList", testSelectorList)
+        .add("shouldExplainTestSelectorList", shouldExplainTestSelectorList)
+        .add("shufflingTests", shufflingTests)
+        .add("pathToXmlTestOutput", pathToXmlTestOutput)
+        .add("pathToJavaAgent", pathToJavaAgent)
+        .add("coverageReportFormats", coverageReportFormats)
+        .add("coverageReportTitle", coverageReportTitle)
+        .add("environmentOverrides", environmentOverrides)
+        .add("coverageExcludes", coverageExcludes)
+        .add("coverageIncludes", coverageIncludes)
+        .add("javaTempDir", javaTempDir)
+        .add("javaTestShards", javaTestShards)
+        .add("javaTestWorkers", javaTestWorkers)
+        .toString();
+  }
+
+  /**
+   * Builds instances of type {@link TestRunningOptions TestRunningOptions}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "TestRunningOptions", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private static final long OPT_BIT_CODE_COVERAGE_ENABLED = 0x1L;
+    private static final long OPT_BIT_RUN_ALL_TESTS = 0x2L;
+    private static final long OPT_BIT_SHOULD_EXPLAIN_TEST_SELECTOR_LIST = 0x4L;
+    private static final long OPT_BIT_SHUFFLING_TESTS = 0x8L;
+    private static final long OPT_BIT_COVERAGE_REPORT_FORMATS = 0x10L;
+    private long optBits;
+
+    private boolean codeCoverageEnabled;
+    private boolean runAllTests;
+    private @Nullable TestSelectorList testSelectorList;
+    private boolean shouldExplainTestSelectorList;
+    private boolean shufflingTests;
+    private @Nullable String pathToXmlTestOutput;
+    private @Nullable String pathToJavaAgent;
+    private ImmutableSet.Builder<CoverageReportFormat> coverageReportFormats = ImmutableSet.builder();
+    private @Nullable String coverageReportTitle;
+    private ImmutableMap.Builder<String, String> environmentOverrides = ImmutableMap.builder();
+    private @Nullable String coverageExcludes;
+    private @Nullable String coverageIncludes;
+    private @Nullable String javaTempDir;
+    private @Nullable Integer javaTestShards;
+    private @Nullable Integer javaTestWorkers;
+
+    /**
+     * Creates a builder for {@link TestRunningOptions TestRunningOptions} instances.
+     */
+    public Builder() {
+      if (!(this instanceof TestRunningOptions.Builder)) {
+        throw new UnsupportedOperationException("Use: new TestRunningOptions.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code TestRunningOptions} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final TestRunningOptions.Builder from(TestRunningOptions instance) {
+      Objects.requireNonNull(instance, "instance");
+      setCodeCoverageEnabled(instance.isCodeCoverageEnabled());
+      setRunAllTests(instance.isRunAllTests());
+      setTestSelectorList(instance.getTestSelectorList());
+      setShouldExplainTestSelectorList(instance.shouldExplainTestSelectorList());
+      setShufflingTests(instance.isShufflingTests());
+      Optional<String> pathToXmlTestOutputOptional = instance.getPathToXmlTestOutput();
+      if (pathToXmlTestOutputOptional.isPresent()) {
+        setPathToXmlTestOutput(pathToXmlTestOutputOptional);
+      }
+      Optional<String> pathToJavaAgentOptional = instance.getPathToJavaAgent();
+      if (pathToJavaAgentOptional.isPresent()) {
+        setPathToJavaAgent(pathToJavaAgentOptional);
+      }
+      addAllCoverageReportFormats(instance.getCoverageReportFormats());
+      setCoverageReportTitle(instance.getCoverageReportTitle());
+      putAllEnvironmentOverrides(instance.getEnvironmentOverrides());
+      Optional<String> coverageExcludesOptional = instance.getCoverageExcludes();
+      if (coverageExcludesOptional.isPresent()) {
+        setCoverageExcludes(coverageExcludesOptional);
+      }
+      Optional<String> coverageIncludesOptional = instance.getCoverageIncludes();
+      if (coverageIncludesOptional.isPresent()) {
+        setCoverageIncludes(coverageIncludesOptional);
+      }
+      Optional<String> javaTempDirOptional = instance.getJavaTempDir();
+      if (javaTempDirOptional.isPresent()) {
+        setJavaTempDir(javaTempDirOptional);
+      }
+      OptionalInt javaTestShardsOptional = instance.getJavaTestShards();
+      if (javaTestShardsOptional.isPresent()) {
+        setJavaTestShards(javaTestShardsOptional);
+      }
+      OptionalInt javaTestWorkersOptional = instance.getJavaTestWorkers();
+      if (javaTestWorkersOptional.isPresent()) {
+        setJavaTestWorkers(javaTestWorkersOptional);
+      }
+      return (TestRunningOptions.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link TestRunningOptions#isCodeCoverageEnabled() codeCoverageEnabled} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link TestRunningOptions#isCodeCoverageEnabled() codeCoverageEnabled}.</em>
+     * @param codeCoverageEnabled The value for codeCoverageEnabled 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final TestRunningOptions.Builder setCodeCoverageEnabled(boolean codeCoverageEnabled) {
+      this.codeCoverageEnabled = codeCoverageEnabled;
+      optBits |= OPT_BIT_CODE_COVERAGE_ENABLED;
+      return (TestRunningOptions.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link TestRunningOptions#isRunAllTests() runAllTests} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link TestRunningOptions#isRunAllTests() runAllTests}.</em>
+     * @param runAllTests The value for runAllTests 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final TestRunningOptions.Builder setRunAllTests(boolean runAllTests) {
+      this.runAllTests = runAllTests;
+      optBits |= OPT_BIT_RUN_ALL_TESTS;
+      return (TestRunningOptions.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link TestRunningOptions#getTestSelectorList() testSelectorList} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link TestRunningOptions#getTestSelectorList() testSelectorList}.</em>
+     * @param testSelectorList The value for testSelectorList 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final TestRunningOptions.Builder setTestSelectorList(TestSelectorList testSelectorList) {
+      this.testSelectorList = Objects.requireNonNull(testSelectorList, "testSelectorList");
+      return (TestRunningOptions.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link TestRunningOptions#shouldExplainTestSelectorList() shouldExplainTestSelectorList} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link TestRunningOptions#shouldExplainTestSelectorList() shouldExplainTestSelectorList}.</em>
+     * @param shouldExplainTestSelectorList The value for shouldExplainTestSelectorList 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final TestRunningOptions.Builder setShouldExplainTestSelectorList(boolean shouldExplainTestSelectorList) {
+      this.shouldExplainTestSelectorList = shouldExplainTestSelectorList;
+      optBits |= OPT_BIT_SHOULD_EXPLAIN_TEST_SELECTOR_LIST;
+      return (TestRunningOptions.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link TestRunningOptions#isShufflingTests() shufflingTests} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link TestRunningOptions#isShufflingTests() shufflingTests}.</em>
+     * @param shufflingTests The value for shufflingTests 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final TestRunningOptions.Builder setShufflingTests(boolean shufflingTests) {
+      this.shufflingTests = shufflingTests;
+      optBits |= OPT_BIT_SHUFFLING_TESTS;
+      return (TestRunningOptions.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link TestRunningOptions#getPathToXmlTestOutput() pathToXmlTestOutput} to pathToXmlTestOutput.
+     * @param pathToXmlTestOutput The value for pathToXmlTestOutput
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final TestRunningOptions.Builder setPathToXmlTestOutput(String pathToXmlTestOutput) {
+      this.pathToXmlTestOutput = Objects.requireNonNull(pathToXmlTestOutput, "pathToXmlTestOutput");
+      return (TestRunningOptions.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link TestRunningOptions#getPathToXmlTestOutput() pathToXmlTestOutput} to pathToXmlTestOutput.
+     * @param pathToXmlTestOutput The value for pathToXmlTestOutput
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final TestRunningOptions.Builder setPathToXmlTestOutput(Optional<String> pathToXmlTestOutput) {
+      this.pathToXmlTestOutput = pathToXmlTestOutput.orElse(null);
+      return (TestRunningOptions.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link TestRunningOptions#getPathToJavaAgent() pathToJavaAgent} to pathToJavaAgent.
+     * @param pathToJavaAgent The value for pathToJavaAgent
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final TestRunningOptions.Builder setPathToJavaAgent(String pathToJavaAgent) {
+      this.pathToJavaAgent = Objects.requireNonNull(pathToJavaAgent, "pathToJavaAgent");
+      return (TestRunningOptions.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link TestRunningOptions#getPathToJavaAgent() pathToJavaAgent} to pathToJavaAgent.
+     * @param pathToJavaAgent The value for pathToJavaAgent
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final TestRunningOptions.Builder setPathToJavaAgent(Optional<String> pathToJavaAgent) {
+      this.pathToJavaAgent = pathToJavaAgent.orElse(null);
+      return (TestRunningOptions.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link TestRunningOptions#getCoverageReportFormats() coverageReportFormats} set.
+     * @param element A coverageReportFormats element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final TestRunningOptions.Builder addCoverageReportFormats(CoverageReportFormat element) {
+      this.coverageReportFormats.add(element);
+      optBits |= OPT_BIT_COVERAGE_REPORT_FORMATS;
+      return (TestRunningOptions.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link TestRunningOptions#getCoverageReportFormats() coverageReportFormats} set.
+     * @param elements An array of coverageReportFormats elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final TestRunningOptions.Builder addCoverageReportFormats(CoverageReportFormat... elements) {
+      this.coverageReportFormats.addAll(Arrays.asList(elements));
+      optBits |= OPT_BIT_COVERAGE_REPORT_FORMATS;
+      return (TestRunningOptions.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link TestRunningOptions#getCoverageReportFormats() coverageReportFormats} set.
+     * @param elements An iterable of coverageReportFormats elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final TestRunningOptions.Builder setCoverageReportFormats(Iterable<CoverageReportFormat> elements) {
+      this.coverageReportFormats = ImmutableSet.builder();
+      return addAllCoverageReportFormats(elements);
+    }
+
+    /**
+     * Adds elements to {@link TestRunningOptions#getCoverageReportFormats() coverageReportFormats} set.
+     * @param elements An iterable of coverageReportFormats elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final TestRunningOptions.Builder addAllCoverageReportFormats(Iterable<CoverageReportFormat> elements) {
+      this.coverageReportFormats.addAll(elements);
+      optBits |= OPT_BIT_COVERAGE_REPORT_FORMATS;
+      return (TestRunningOptions.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link TestRunningOptions#getCoverageReportTitle() coverageReportTitle} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link TestRunningOptions#getCoverageReportTitle() coverageReportTitle}.</em>
+     * @param coverageReportTitle The value for coverageReportTitle 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final TestRunningOptions.Builder setCoverageReportTitle(String coverageReportTitle) {
+      this.coverageReportTitle = Objects.requireNonNull(coverageReportTitle, "coverageReportTitle");
+      return (TestRunningOptions.Builder) this;
+    }
+
+    /**
+     * Put one entry to the {@link TestRunningOptions#getEnvironmentOverrides() environmentOverrides} map.
+     * @param key The key in the environmentOverrides map
+     * @param value The associated value in the environmentOverrides map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final TestRunningOptions.Builder putEnvironmentOverrides(String key, String value) {
+      this.environmentOverrides.put(key, value);
+      return (TestRunningOptions.Builder) this;
+    }
+
+    /**
+     * Put one entry to the {@link TestRunningOptions#getEnvironmentOverrides() environmentOverrides} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final TestRunningOptions.Builder putEnvironmentOverrides(Map.Entry<String, ? extends String> entry) {
+      this.environmentOverrides.put(entry);
+      return (TestRunningOptions.Builder) this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link TestRunningOptions#getEnvironmentOverrides() environmentOverrides} map. Nulls are not permitted
+     * @param entries The entries that will be added to the environmentOverrides map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final TestRunningOptions.Builder setEnvironmentOverrides(Map<String, ? extends String> entries) {
+      this.environmentOverrides = ImmutableMap.builder();
+      return putAllEnvironmentOverrides(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link TestRunningOptions#getEnvironmentOverrides() environmentOverrides} map. Nulls are not permitted
+     * @param entries The entries that will be added to the environmentOverrides map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final TestRunningOptions.Builder putAllEnvironmentOverrides(Map<String, ? extends String> entries) {
+      this.environmentOverrides.putAll(entries);
+      return (TestRunningOptions.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link TestRunningOptions#getCoverageExcludes() coverageExcludes} to coverageExcludes.
+     * @param coverageExcludes The value for coverageExcludes
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final TestRunningOptions.Builder setCoverageExcludes(String coverageExcludes) {
+      this.coverageExcludes = Objects.requireNonNull(coverageExcludes, "coverageExcludes");
+      return (TestRunningOptions.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link TestRunningOptions#getCoverageExcludes() coverageExcludes} to coverageExcludes.
+     * @param coverageExcludes The value for coverageExcludes
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final TestRunningOptions.Builder setCoverageExcludes(Optional<String> coverageExcludes) {
+      this.coverageExcludes = coverageExcludes.orElse(null);
+      return (TestRunningOptions.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link TestRunningOptions#getCoverageIncludes() coverageIncludes} to coverageIncludes.
+     * @param coverageIncludes The value for coverageIncludes
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final TestRunningOptions.Builder setCoverageIncludes(String coverageIncludes) {
+      this.coverageIncludes = Objects.requireNonNull(coverageIncludes, "coverageIncludes");
+      return (TestRunningOptions.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link TestRunningOptions#getCoverageIncludes() coverageIncludes} to coverageIncludes.
+     * @param coverageIncludes The value for coverageIncludes
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final TestRunningOptions.Builder setCoverageIncludes(Optional<String> coverageIncludes) {
+      this.coverageIncludes = coverageIncludes.orElse(null);
+      return (TestRunningOptions.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link TestRunningOptions#getJavaTempDir() javaTempDir} to javaTempDir.
+     * @param javaTempDir The value for javaTempDir
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final TestRunningOptions.Builder setJavaTempDir(String javaTempDir) {
+      this.javaTempDir = Objects.requireNonNull(javaTempDir, "javaTempDir");
+      return (TestRunningOptions.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link TestRunningOptions#getJavaTempDir() javaTempDir} to javaTempDir.
+     * @param javaTempDir The value for javaTempDir
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final TestRunningOptions.Builder setJavaTempDir(Optional<String> javaTempDir) {
+      this.javaTempDir = javaTempDir.orElse(null);
+      return (TestRunningOptions.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link TestRunningOptions#getJavaTestShards() javaTestShards} to javaTestShards.
+     * @param javaTestShards The value for javaTestShards
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final TestRunningOptions.Builder setJavaTestShards(int javaTestShards) {
+      this.javaTestShards = javaTestShards;
+      return (TestRunningOptions.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link TestRunningOptions#getJavaTestShards() javaTestShards} to javaTestShards.
+     * @param javaTestShards The value for javaTestShards
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final TestRunningOptions.Builder setJavaTestShards(OptionalInt javaTestShards) {
+      this.javaTestShards = javaTestShards.isPresent() ? javaTestShards.getAsInt() : null;
+      return (TestRunningOptions.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link TestRunningOptions#getJavaTestWorkers() javaTestWorkers} to javaTestWorkers.
+     * @param javaTestWorkers The value for javaTestWorkers
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final TestRunningOptions.Builder setJavaTestWorkers(int javaTestWorkers) {
+      this.javaTestWorkers = javaTestWorkers;
+      return (TestRunningOptions.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link TestRunningOptions#getJavaTestWorkers() javaTestWorkers} to javaTestWorkers.
+     * @param javaTestWorkers The value for javaTestWorkers
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final TestRunningOptions.Builder setJavaTestWorkers(OptionalInt javaTestWorkers) {
+      this.javaTestWorkers = javaTestWorkers.isPresent() ? javaTestWorkers.getAsInt() : null;
+      return (TestRunningOptions.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link TestRunningOptions TestRunningOptions}.
+     * @return An immutable instance of TestRunningOptions
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public TestRunningOptions build() {
+      return new ImmutableTestRunningOptions(this);
+    }
+
+    private boolean codeCoverageEnabledIsSet() {
+      return (optBits & OPT_BIT_CODE_COVERAGE_ENABLED) != 0;
+    }
+
+    private boolean runAllTestsIsSet() {
+      return (optBits & OPT_BIT_RUN_ALL_TESTS) != 0;
+    }
+
+    private boolean shouldExplainTestSelectorListIsSet() {
+      return (optBits & OPT_BIT_SHOULD_EXPLAIN_TEST_SELECTOR_LIST) != 0;
+    }
+
+    private boolean shufflingTestsIsSet() {
+      return (optBits & OPT_BIT_SHUFFLING_TESTS) != 0;
+    }
+
+    private boolean coverageReportFormatsIsSet() {
+      return (optBits & OPT_BIT_COVERAGE_REPORT_FORMATS) != 0;
+    }
+  }
+}
@@ -0,0 +1,190 @@
+package com.facebook.buck.test.config;
+
+import com.facebook.buck.core.config.BuckConfig;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link TestBuckConfig}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableTestBuckConfig.of()}.
+ */
+@Generated(from = "TestBuckConfig", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableTestBuckConfig extends TestBuckConfig {
+  private final BuckConfig delegate;
+
+  private ImmutableTestBuckConfig(BuckConfig delegate) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate");
+  }
+
+  /**
+   * @return The value of the {@code delegate} attribute
+   */
+  @Override
+  public BuckConfig getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableTestBuckConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableTestBuckConfig
+        && equalTo((ImmutableTestBuckConfig) another);
+  }
+
+  private boolean equalTo(ImmutableTestBuckConfig another) {
+    return delegate.equals(another.delegate);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code delegate}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + delegate.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code TestBuckConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("TestBuckConfig")
+        .omitNullValues()
+        .add("delegate", delegate)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long PARALLEL_EXTERNAL_TEST_SPEC_COMPUTATION_ENABLED_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean parallelExternalTestSpecComputationEnabled;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link TestBuckConfig#isParallelExternalTestSpecComputationEnabled() parallelExternalTestSpecComputationEnabled} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code parallelExternalTestSpecComputationEnabled} attribute
+   */
+  @Override
+  public boolean isParallelExternalTestSpecComputationEnabled() {
+    if ((lazyInitBitmap & PARALLEL_EXTERNAL_TEST_SPEC_COMPUTATION_ENABLED_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & PARALLEL_EXTERNAL_TEST_SPEC_COMPUTATION_ENABLED_LAZY_INIT_BIT) == 0) {
+          this.parallelExternalTestSpecComputationEnabled = super.isParallelExternalTestSpecComputationEnabled();
+          lazyInitBitmap |= PARALLEL_EXTERNAL_TEST_SPEC_COMPUTATION_ENABLED_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return parallelExternalTestSpecComputationEnabled;
+  }
+
+  private static final long DEFAULT_TEST_TIMEOUT_MILLIS_LAZY_INIT_BIT = 0x2L;
+
+  @SuppressWarnings("Immutable")
+  private transient long defaultTestTimeoutMillis;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link TestBuckConfig#getDefaultTestTimeoutMillis() defaultTestTimeoutMillis} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code defaultTestTimeoutMillis} attribute
+   */
+  @Override
+  public long getDefaultTestTimeoutMillis() {
+    if ((lazyInitBitmap & DEFAULT_TEST_TIMEOUT_MILLIS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & DEFAULT_TEST_TIMEOUT_MILLIS_LAZY_INIT_BIT) == 0) {
+          this.defaultTestTimeoutMillis = super.getDefaultTestTimeoutMillis();
+          lazyInitBitmap |= DEFAULT_TEST_TIMEOUT_MILLIS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return defaultTestTimeoutMillis;
+  }
+
+  private static final long DEFAULT_RAW_EXCLUDED_LABEL_SELECTORS_LAZY_INIT_BIT = 0x4L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableList<String> defaultRawExcludedLabelSelectors;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link TestBuckConfig#getDefaultRawExcludedLabelSelectors() defaultRawExcludedLabelSelectors} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code defaultRawExcludedLabelSelectors} attribute
+   */
+  @Override
+  public ImmutableList<String> getDefaultRawExcludedLabelSelectors() {
+    if ((lazyInitBitmap & DEFAULT_RAW_EXCLUDED_LABEL_SELECTORS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & DEFAULT_RAW_EXCLUDED_LABEL_SELECTORS_LAZY_INIT_BIT) == 0) {
+          this.defaultRawExcludedLabelSelectors = Objects.requireNonNull(super.getDefaultRawExcludedLabelSelectors(), "defaultRawExcludedLabelSelectors");
+          lazyInitBitmap |= DEFAULT_RAW_EXCLUDED_LABEL_SELECTORS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return defaultRawExcludedLabelSelectors;
+  }
+
+  private static final long NUM_TEST_THREADS_LAZY_INIT_BIT = 0x8L;
+
+  @SuppressWarnings("Immutable")
+  private transient int numTestThreads;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link TestBuckConfig#getNumTestThreads() numTestThreads} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code numTestThreads} attribute
+   */
+  @Override
+  public int getNumTestThreads() {
+    if ((lazyInitBitmap & NUM_TEST_THREADS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & NUM_TEST_THREADS_LAZY_INIT_BIT) == 0) {
+          this.numTestThreads = super.getNumTestThreads();
+          lazyInitBitmap |= NUM_TEST_THREADS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return numTestThreads;
+  }
+
+  /**
+   * Construct a new immutable {@code TestBuckConfig} instance.
+   * @param delegate The value for the {@code delegate} attribute
+   * @return An immutable TestBuckConfig instance
+   */
+  public static ImmutableTestBuckConfig of(BuckConfig delegate) {
+    return new ImmutableTestBuckConfig(delegate);
+  }
+}
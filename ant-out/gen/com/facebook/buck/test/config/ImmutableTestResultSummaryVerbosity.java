@@ -0,0 +1,118 @@
+package com.facebook.buck.test.config;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.OptionalInt;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link TestResultSummaryVerbosity}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableTestResultSummaryVerbosity.of()}.
+ */
+@Generated(from = "TestResultSummaryVerbosity", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableTestResultSummaryVerbosity
+    implements TestResultSummaryVerbosity {
+  private final boolean includeStdErr;
+  private final boolean includeStdOut;
+  private final @Nullable Integer maxDebugLogLines;
+
+  private ImmutableTestResultSummaryVerbosity(boolean includeStdErr, boolean includeStdOut, OptionalInt maxDebugLogLines) {
+    this.includeStdErr = includeStdErr;
+    this.includeStdOut = includeStdOut;
+    this.maxDebugLogLines = maxDebugLogLines.isPresent() ? maxDebugLogLines.getAsInt() : null;
+  }
+
+  /**
+   * @return The value of the {@code includeStdErr} attribute
+   */
+  @Override
+  public boolean getIncludeStdErr() {
+    return includeStdErr;
+  }
+
+  /**
+   * @return The value of the {@code includeStdOut} attribute
+   */
+  @Override
+  public boolean getIncludeStdOut() {
+    return includeStdOut;
+  }
+
+  /**
+   * @return The value of the {@code maxDebugLogLines} attribute
+   */
+  @Override
+  public OptionalInt getMaxDebugLogLines() {
+    return maxDebugLogLines != null
+        ? OptionalInt.of(maxDebugLogLines)
+        : OptionalInt.empty();
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableTestResultSummaryVerbosity} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableTestResultSummaryVerbosity
+        && equalTo((ImmutableTestResultSummaryVerbosity) another);
+  }
+
+  private boolean equalTo(ImmutableTestResultSummaryVerbosity another) {
+    return includeStdErr == another.includeStdErr
+        && includeStdOut == another.includeStdOut
+        && Objects.equals(maxDebugLogLines, another.maxDebugLogLines);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code includeStdErr}, {@code includeStdOut}, {@code maxDebugLogLines}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Booleans.hashCode(includeStdErr);
+    h += (h << 5) + Booleans.hashCode(includeStdOut);
+    h += (h << 5) + Objects.hashCode(maxDebugLogLines);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code TestResultSummaryVerbosity} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("TestResultSummaryVerbosity")
+        .omitNullValues()
+        .add("includeStdErr", includeStdErr)
+        .add("includeStdOut", includeStdOut)
+        .add("maxDebugLogLines", maxDebugLogLines)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code TestResultSummaryVerbosity} instance.
+   * @param includeStdErr The value for the {@code includeStdErr} attribute
+   * @param includeStdOut The value for the {@code includeStdOut} attribute
+   * @param maxDebugLogLines The value for the {@code maxDebugLogLines} attribute
+   * @return An immutable TestResultSummaryVerbosity instance
+   */
+  public static ImmutableTestResultSummaryVerbosity of(boolean includeStdErr, boolean includeStdOut, OptionalInt maxDebugLogLines) {
+    return new ImmutableTestResultSummaryVerbosity(includeStdErr, includeStdOut, maxDebugLogLines);
+  }
+}
@@ -0,0 +1,125 @@
+package com.facebook.buck.util.cache;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link FileHashCache.FileHashCacheVerificationResult}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableFileHashCacheVerificationResult.of()}.
+ */
+@Generated(from = "FileHashCache.FileHashCacheVerificationResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableFileHashCacheVerificationResult
+    implements FileHashCache.FileHashCacheVerificationResult {
+  private final int cachesExamined;
+  private final int filesExamined;
+  private final ImmutableList<String> verificationErrors;
+
+  private ImmutableFileHashCacheVerificationResult(int cachesExamined, int filesExamined, Iterable<String> verificationErrors) {
+    this.cachesExamined = cachesExamined;
+    this.filesExamined = filesExamined;
+    this.verificationErrors = ImmutableList.copyOf(verificationErrors);
+  }
+
+  /**
+   * @return The value of the {@code cachesExamined} attribute
+   */
+  @Override
+  public int getCachesExamined() {
+    return cachesExamined;
+  }
+
+  /**
+   * @return The value of the {@code filesExamined} attribute
+   */
+  @Override
+  public int getFilesExamined() {
+    return filesExamined;
+  }
+
+  /**
+   * @return The value of the {@code verificationErrors} attribute
+   */
+  @Override
+  public ImmutableList<String> getVerificationErrors() {
+    return verificationErrors;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableFileHashCacheVerificationResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableFileHashCacheVerificationResult
+        && equalTo((ImmutableFileHashCacheVerificationResult) another);
+  }
+
+  private boolean equalTo(ImmutableFileHashCacheVerificationResult another) {
+    return cachesExamined == another.cachesExamined
+        && filesExamined == another.filesExamined
+        && verificationErrors.equals(another.verificationErrors);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code cachesExamined}, {@code filesExamined}, {@code verificationErrors}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + cachesExamined;
+    h += (h << 5) + filesExamined;
+    h += (h << 5) + verificationErrors.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code FileHashCacheVerificationResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("FileHashCacheVerificationResult")
+        .omitNullValues()
+        .add("cachesExamined", cachesExamined)
+        .add("filesExamined", filesExamined)
+        .add("verificationErrors", verificationErrors)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code FileHashCacheVerificationResult} instance.
+   * @param cachesExamined The value for the {@code cachesExamined} attribute
+   * @param filesExamined The value for the {@code filesExamined} attribute
+   * @param verificationErrors The value for the {@code verificationErrors} attribute
+   * @return An immutable FileHashCacheVerificationResult instance
+   */
+  public static ImmutableFileHashCacheVerificationResult of(int cachesExamined, int filesExamined, ImmutableList<String> verificationErrors) {
+    return of(cachesExamined, filesExamined, (Iterable<String>) verificationErrors);
+  }
+
+  /**
+   * Construct a new immutable {@code FileHashCacheVerificationResult} instance.
+   * @param cachesExamined The value for the {@code cachesExamined} attribute
+   * @param filesExamined The value for the {@code filesExamined} attribute
+   * @param verificationErrors The value for the {@code verificationErrors} attribute
+   * @return An immutable FileHashCacheVerificationResult instance
+   */
+  public static ImmutableFileHashCacheVerificationResult of(int cachesExamined, int filesExamined, Iterable<String> verificationErrors) {
+    return new ImmutableFileHashCacheVerificationResult(cachesExamined, filesExamined, verificationErrors);
+  }
+}
@@ -0,0 +1,87 @@
+package com.facebook.buck.util.config;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link RawConfig}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableRawConfig.of()}.
+ */
+@Generated(from = "RawConfig", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableRawConfig extends RawConfig {
+  private final ImmutableMap<String, ImmutableMap<String, String>> values;
+
+  private ImmutableRawConfig(
+      Map<String, ? extends ImmutableMap<String, String>> values) {
+    this.values = ImmutableMap.copyOf(values);
+  }
+
+  /**
+   * @return The value of the {@code values} attribute
+   */
+  @Override
+  public ImmutableMap<String, ImmutableMap<String, String>> getValues() {
+    return values;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableRawConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableRawConfig
+        && equalTo((ImmutableRawConfig) another);
+  }
+
+  private boolean equalTo(ImmutableRawConfig another) {
+    return values.equals(another.values);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code values}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + values.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RawConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RawConfig")
+        .omitNullValues()
+        .add("values", values)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code RawConfig} instance.
+   * @param values The value for the {@code values} attribute
+   * @return An immutable RawConfig instance
+   */
+  public static ImmutableRawConfig of(Map<String, ? extends ImmutableMap<String, String>> values) {
+    return new ImmutableRawConfig(values);
+  }
+}
@@ -0,0 +1,122 @@
+package com.facebook.buck.util.zip.collect;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ZipEntrySourceFromZip}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableZipEntrySourceFromZip.of()}.
+ */
+@Generated(from = "ZipEntrySourceFromZip", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableZipEntrySourceFromZip
+    implements ZipEntrySourceFromZip {
+  private final Path sourceFilePath;
+  private final String entryName;
+  private final int entryPosition;
+  private transient final int hashCode;
+
+  private ImmutableZipEntrySourceFromZip(Path sourceFilePath, String entryName, int entryPosition) {
+    this.sourceFilePath = Objects.requireNonNull(sourceFilePath, "sourceFilePath");
+    this.entryName = Objects.requireNonNull(entryName, "entryName");
+    this.entryPosition = entryPosition;
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code sourceFilePath} attribute
+   */
+  @Override
+  public Path getSourceFilePath() {
+    return sourceFilePath;
+  }
+
+  /**
+   * @return The value of the {@code entryName} attribute
+   */
+  @Override
+  public String getEntryName() {
+    return entryName;
+  }
+
+  /**
+   * @return The value of the {@code entryPosition} attribute
+   */
+  @Override
+  public int getEntryPosition() {
+    return entryPosition;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableZipEntrySourceFromZip} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableZipEntrySourceFromZip
+        && equalTo((ImmutableZipEntrySourceFromZip) another);
+  }
+
+  private boolean equalTo(ImmutableZipEntrySourceFromZip another) {
+    if (hashCode != another.hashCode) return false;
+    return sourceFilePath.equals(another.sourceFilePath)
+        && entryName.equals(another.entryName)
+        && entryPosition == another.entryPosition;
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code sourceFilePath}, {@code entryName}, {@code entryPosition}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + sourceFilePath.hashCode();
+    h += (h << 5) + entryName.hashCode();
+    h += (h << 5) + entryPosition;
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ZipEntrySourceFromZip} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ZipEntrySourceFromZip")
+        .omitNullValues()
+        .add("sourceFilePath", sourceFilePath)
+        .add("entryName", entryName)
+        .add("entryPosition", entryPosition)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ZipEntrySourceFromZip} instance.
+   * @param sourceFilePath The value for the {@code sourceFilePath} attribute
+   * @param entryName The value for the {@code entryName} attribute
+   * @param entryPosition The value for the {@code entryPosition} attribute
+   * @return An immutable ZipEntrySourceFromZip instance
+   */
+  public static ImmutableZipEntrySourceFromZip of(Path sourceFilePath, String entryName, int entryPosition) {
+    return new ImmutableZipEntrySourceFromZip(sourceFilePath, entryName, entryPosition);
+  }
+}
@@ -0,0 +1,85 @@
+package com.facebook.buck.versions;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link Version}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableVersion.of()}.
+ */
+@Generated(from = "Version", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableVersion implements Version {
+  private final String name;
+
+  private ImmutableVersion(String name) {
+    this.name = Objects.requireNonNull(name, "name");
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableVersion} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableVersion
+        && equalTo((ImmutableVersion) another);
+  }
+
+  private boolean equalTo(ImmutableVersion another) {
+    return name.equals(another.name);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code name}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + name.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code Version} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("Version")
+        .omitNullValues()
+        .add("name", name)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code Version} instance.
+   * @param name The value for the {@code name} attribute
+   * @return An immutable Version instance
+   */
+  public static ImmutableVersion of(String name) {
+    return new ImmutableVersion(name);
+  }
+}
@@ -0,0 +1,89 @@
+package com.facebook.buck.versions;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link VersionInfo}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableVersionInfo.of()}.
+ */
+@Generated(from = "VersionInfo", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableVersionInfo implements VersionInfo {
+  private final ImmutableMap<BuildTarget, ImmutableSet<Version>> versionDomain;
+
+  private ImmutableVersionInfo(
+      Map<? extends BuildTarget, ? extends ImmutableSet<Version>> versionDomain) {
+    this.versionDomain = ImmutableMap.copyOf(versionDomain);
+  }
+
+  /**
+   * @return The value of the {@code versionDomain} attribute
+   */
+  @Override
+  public ImmutableMap<BuildTarget, ImmutableSet<Version>> getVersionDomain() {
+    return versionDomain;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableVersionInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableVersionInfo
+        && equalTo((ImmutableVersionInfo) another);
+  }
+
+  private boolean equalTo(ImmutableVersionInfo another) {
+    return versionDomain.equals(another.versionDomain);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code versionDomain}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + versionDomain.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code VersionInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("VersionInfo")
+        .omitNullValues()
+        .add("versionDomain", versionDomain)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code VersionInfo} instance.
+   * @param versionDomain The value for the {@code versionDomain} attribute
+   * @return An immutable VersionInfo instance
+   */
+  public static ImmutableVersionInfo of(Map<? extends BuildTarget, ? extends ImmutableSet<Version>> versionDomain) {
+    return new ImmutableVersionInfo(versionDomain);
+  }
+}
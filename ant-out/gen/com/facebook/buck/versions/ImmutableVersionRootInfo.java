@@ -0,0 +1,105 @@
+package com.facebook.buck.versions;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AsyncVersionedTargetGraphBuilder.VersionRootInfo}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableVersionRootInfo.of()}.
+ */
+@Generated(from = "AsyncVersionedTargetGraphBuilder.VersionRootInfo", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableVersionRootInfo
+    extends AsyncVersionedTargetGraphBuilder.VersionRootInfo {
+  private final ImmutableMap<BuildTarget, Version> selectedVersions;
+  private final TargetNodeTranslator targetTranslator;
+
+  private ImmutableVersionRootInfo(
+      Map<? extends BuildTarget, ? extends Version> selectedVersions,
+      TargetNodeTranslator targetTranslator) {
+    this.selectedVersions = ImmutableMap.copyOf(selectedVersions);
+    this.targetTranslator = Objects.requireNonNull(targetTranslator, "targetTranslator");
+  }
+
+  /**
+   * @return The value of the {@code selectedVersions} attribute
+   */
+  @Override
+  ImmutableMap<BuildTarget, Version> getSelectedVersions() {
+    return selectedVersions;
+  }
+
+  /**
+   * @return The value of the {@code targetTranslator} attribute
+   */
+  @Override
+  TargetNodeTranslator getTargetTranslator() {
+    return targetTranslator;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableVersionRootInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableVersionRootInfo
+        && equalTo((ImmutableVersionRootInfo) another);
+  }
+
+  private boolean equalTo(ImmutableVersionRootInfo another) {
+    return selectedVersions.equals(another.selectedVersions)
+        && targetTranslator.equals(another.targetTranslator);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code selectedVersions}, {@code targetTranslator}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + selectedVersions.hashCode();
+    h += (h << 5) + targetTranslator.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code VersionRootInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("VersionRootInfo")
+        .omitNullValues()
+        .add("selectedVersions", selectedVersions)
+        .add("targetTranslator", targetTranslator)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code VersionRootInfo} instance.
+   * @param selectedVersions The value for the {@code selectedVersions} attribute
+   * @param targetTranslator The value for the {@code targetTranslator} attribute
+   * @return An immutable VersionRootInfo instance
+   */
+  public static ImmutableVersionRootInfo of(Map<? extends BuildTarget, ? extends Version> selectedVersions, TargetNodeTranslator targetTranslator) {
+    return new ImmutableVersionRootInfo(selectedVersions, targetTranslator);
+  }
+}
@@ -0,0 +1,103 @@
+package com.facebook.buck.versions;
+
+import com.facebook.buck.core.model.targetgraph.TargetGraphCreationResult;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link VersionedTargetGraphCache.VersionedTargetGraphCacheResult}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableVersionedTargetGraphCacheResult.of()}.
+ */
+@Generated(from = "VersionedTargetGraphCache.VersionedTargetGraphCacheResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableVersionedTargetGraphCacheResult
+    implements VersionedTargetGraphCache.VersionedTargetGraphCacheResult {
+  private final VersionedTargetGraphCache.ResultType type;
+  private final TargetGraphCreationResult targetGraphCreationResult;
+
+  private ImmutableVersionedTargetGraphCacheResult(
+      VersionedTargetGraphCache.ResultType type,
+      TargetGraphCreationResult targetGraphCreationResult) {
+    this.type = Objects.requireNonNull(type, "type");
+    this.targetGraphCreationResult = Objects.requireNonNull(targetGraphCreationResult, "targetGraphCreationResult");
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public VersionedTargetGraphCache.ResultType getType() {
+    return type;
+  }
+
+  /**
+   * @return The value of the {@code targetGraphCreationResult} attribute
+   */
+  @Override
+  public TargetGraphCreationResult getTargetGraphCreationResult() {
+    return targetGraphCreationResult;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableVersionedTargetGraphCacheResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableVersionedTargetGraphCacheResult
+        && equalTo((ImmutableVersionedTargetGraphCacheResult) another);
+  }
+
+  private boolean equalTo(ImmutableVersionedTargetGraphCacheResult another) {
+    return type.equals(another.type)
+        && targetGraphCreationResult.equals(another.targetGraphCreationResult);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code type}, {@code targetGraphCreationResult}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + type.hashCode();
+    h += (h << 5) + targetGraphCreationResult.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code VersionedTargetGraphCacheResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("VersionedTargetGraphCacheResult")
+        .omitNullValues()
+        .add("type", type)
+        .add("targetGraphCreationResult", targetGraphCreationResult)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code VersionedTargetGraphCacheResult} instance.
+   * @param type The value for the {@code type} attribute
+   * @param targetGraphCreationResult The value for the {@code targetGraphCreationResult} attribute
+   * @return An immutable VersionedTargetGraphCacheResult instance
+   */
+  public static ImmutableVersionedTargetGraphCacheResult of(VersionedTargetGraphCache.ResultType type, TargetGraphCreationResult targetGraphCreationResult) {
+    return new ImmutableVersionedTargetGraphCacheResult(type, targetGraphCreationResult);
+  }
+}
@@ -0,0 +1,99 @@
+package com.facebook.buck.worker;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link WorkerJobParams}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableWorkerJobParams.of()}.
+ */
+@Generated(from = "WorkerJobParams", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableWorkerJobParams implements WorkerJobParams {
+  private final String jobArgs;
+  private final WorkerProcessParams workerProcessParams;
+
+  private ImmutableWorkerJobParams(String jobArgs, WorkerProcessParams workerProcessParams) {
+    this.jobArgs = Objects.requireNonNull(jobArgs, "jobArgs");
+    this.workerProcessParams = Objects.requireNonNull(workerProcessParams, "workerProcessParams");
+  }
+
+  /**
+   * @return The value of the {@code jobArgs} attribute
+   */
+  @Override
+  public String getJobArgs() {
+    return jobArgs;
+  }
+
+  /**
+   * @return The value of the {@code workerProcessParams} attribute
+   */
+  @Override
+  public WorkerProcessParams getWorkerProcessParams() {
+    return workerProcessParams;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableWorkerJobParams} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableWorkerJobParams
+        && equalTo((ImmutableWorkerJobParams) another);
+  }
+
+  private boolean equalTo(ImmutableWorkerJobParams another) {
+    return jobArgs.equals(another.jobArgs)
+        && workerProcessParams.equals(another.workerProcessParams);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code jobArgs}, {@code workerProcessParams}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + jobArgs.hashCode();
+    h += (h << 5) + workerProcessParams.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code WorkerJobParams} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("WorkerJobParams")
+        .omitNullValues()
+        .add("jobArgs", jobArgs)
+        .add("workerProcessParams", workerProcessParams)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code WorkerJobParams} instance.
+   * @param jobArgs The value for the {@code jobArgs} attribute
+   * @param workerProcessParams The value for the {@code workerProcessParams} attribute
+   * @return An immutable WorkerJobParams instance
+   */
+  public static ImmutableWorkerJobParams of(String jobArgs, WorkerProcessParams workerProcessParams) {
+    return new ImmutableWorkerJobParams(jobArgs, workerProcessParams);
+  }
+}
@@ -25,6 +25,8 @@ import com.facebook.buck.core.rules.SourcePathRuleFinder;
 import com.facebook.buck.core.sourcepath.SourcePath;
 import com.facebook.buck.core.sourcepath.resolver.SourcePathResolverAdapter;
 import com.facebook.buck.core.toolchain.tool.Tool;
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.io.file.MostFiles;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.rules.modern.BuildCellRelativePathFactory;
 import com.facebook.buck.rules.modern.Buildable;
@@ -34,9 +36,36 @@ import com.facebook.buck.rules.modern.OutputPath;
 import com.facebook.buck.rules.modern.OutputPathResolver;
 import com.facebook.buck.shell.ShellStep;
 import com.facebook.buck.step.Step;
+import com.facebook.buck.step.StepExecutionResult;
+import com.facebook.buck.step.StepExecutionResults;
+import com.facebook.buck.util.zip.DeterministicZipBuilder;
+import com.facebook.buck.util.zip.ZipCompressionLevel;
 import com.facebook.buck.zip.ZipScrubberStep;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Iterables;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 
 /** Perform the "aapt2 compile" step of a single Android resource. */
@@ -90,9 +119,9 @@ public class Aapt2Compile extends ModernBuildRule<Aapt2Compile.Impl> {
       Path outputPath = outputPathResolver.resolvePath(output);
       SourcePathResolverAdapter sourcePathResolverAdapter = buildContext.getSourcePathResolver();
 
-      Aapt2CompileStep aapt2CompileStep =
-          new Aapt2CompileStep(
-              filesystem.getRootPath(),
+      CachingAapt2CompileStep aapt2CompileStep =
+          new CachingAapt2CompileStep(
+              filesystem,
               aapt2ExecutableTool.getCommandPrefix(sourcePathResolverAdapter),
               sourcePathResolverAdapter.getRelativePath(resDir),
               outputPath,
@@ -103,23 +132,299 @@ public class Aapt2Compile extends ModernBuildRule<Aapt2Compile.Impl> {
     }
   }
 
-  private static class Aapt2CompileStep extends ShellStep {
+  /**
+   * Compiles the files of a resource directory one by one, keeping the compiled {@code .flat} file
+   * of each in a cache under buck-out by a hash of its contents, its path, aapt2 and the options.
+   * Only the files which aren't in the cache yet are compiled, and the archive is then assembled
+   * from the cached files. If aapt2 doesn't name its outputs as expected, this falls back to
+   * compiling the whole directory at once.
+   *
+   * <p>Each resource directory has a cache of its own for each aapt2 and set of options it is
+   * compiled with, which only keeps the outputs of its latest build: outputs of files which have
+   * since changed or been removed are deleted once the archive is assembled, so the cache doesn't
+   * grow with every edit.
+   */
+  @VisibleForTesting
+  static class CachingAapt2CompileStep implements Step {
+    private static final Logger LOG = Logger.get(CachingAapt2CompileStep.class);
+
+    /** Bumped whenever the way outputs are cached changes. */
+    private static final int CACHE_VERSION = 1;
+
+    /** How many files are compiled by each run of aapt2, to keep its command line short. */
+    private static final int MAX_FILES_PER_COMPILE = 500;
+
+    /** The hashes of the aapt2 executables, by their path and when they were modified. */
+    private static final ConcurrentMap<String, HashCode> TOOL_HASHES = new ConcurrentHashMap<>();
+
+    private final ProjectFilesystem filesystem;
     private final ImmutableList<String> commandPrefix;
     private final Path resDirPath;
     private final Path outputPath;
     private final boolean skipCrunchPngs;
     private final boolean failOnLegacyErrors;
 
+    CachingAapt2CompileStep(
+        ProjectFilesystem filesystem,
+        ImmutableList<String> commandPrefix,
+        Path resDirPath,
+        Path outputPath,
+        boolean skipCrunchPngs,
+        boolean failOnLegacyErrors) {
+      this.filesystem = filesystem;
+      this.commandPrefix = commandPrefix;
+      this.resDirPath = resDirPath;
+      this.outputPath = outputPath;
+      this.skipCrunchPngs = skipCrunchPngs;
+      this.failOnLegacyErrors = failOnLegacyErrors;
+    }
+
+    @Override
+    public StepExecutionResult execute(ExecutionContext context)
+        throws IOException, InterruptedException {
+      // Builds which compile the same directory with another aapt2 or other options get a cache of
+      // their own, so that they don't remove each other's outputs as stale.
+      // TODO: Share compiled outputs between machines through the artifact cache, keyed like the
+      // outputs here, rather than only between builds on this one.
+      Path cacheDir =
+          getCacheDir(filesystem)
+              .resolve(
+                  Hashing.sha1()
+                      .newHasher()
+                      .putString(resDirPath.toString(), StandardCharsets.UTF_8)
+                      .putBytes(hashOptions().asBytes())
+                      .hash()
+                      .toString());
+      filesystem.mkdirs(cacheDir);
+
+      SortedMap<String, Path> cachedOutputs = new TreeMap<>();
+      Map<Path, Path> filesToCompile = new LinkedHashMap<>();
+      for (Path file : listResourceFiles(filesystem.resolve(resDirPath))) {
+        Path source = resDirPath.resolve(file);
+        Path cached =
+            cacheDir.resolve(
+                Hashing.sha1()
+                        .newHasher()
+                        .putString(source.toString(), StandardCharsets.UTF_8)
+                        .putBytes(filesystem.computeSha1(source).asHashCode().asBytes())
+                        .hash()
+                    + ".flat");
+        cachedOutputs.put(getOutputName(file), cached);
+        if (!filesystem.exists(cached)) {
+          filesToCompile.put(source, cached);
+        }
+      }
+      LOG.debug(
+          "Compiling %d of %d resources in %s",
+          filesToCompile.size(), cachedOutputs.size(), resDirPath);
+
+      if (!filesToCompile.isEmpty()) {
+        Optional<StepExecutionResult> result = compileFiles(context, filesToCompile);
+        if (result.isPresent()) {
+          return result.get();
+        }
+        if (!filesToCompile.keySet().stream()
+            .allMatch(source -> filesystem.exists(filesToCompile.get(source)))) {
+          LOG.warn("aapt2 didn't name its outputs as expected, compiling %s at once", resDirPath);
+          return newCompileStep(ImmutableList.of("--dir", resDirPath.toString()), outputPath)
+              .execute(context);
+        }
+      }
+
+      filesystem.deleteFileAtPathIfExists(outputPath);
+      try (DeterministicZipBuilder archive =
+          new DeterministicZipBuilder(filesystem.resolve(outputPath))) {
+        for (Map.Entry<String, Path> entry : cachedOutputs.entrySet()) {
+          archive.addEntry(
+              Files.readAllBytes(filesystem.resolve(entry.getValue())),
+              entry.getKey(),
+              ZipCompressionLevel.NONE.getValue());
+        }
+      }
+      removeStaleOutputs(cacheDir, cachedOutputs.values());
+      return StepExecutionResults.SUCCESS;
+    }
+
+    /** Deletes the outputs in {@code cacheDir} which the latest build didn't use. */
+    private void removeStaleOutputs(Path cacheDir, Collection<Path> usedOutputs)
+        throws IOException {
+      Set<Path> used = usedOutputs.stream().map(filesystem::resolve).collect(Collectors.toSet());
+      try (DirectoryStream<Path> outputs = Files.newDirectoryStream(filesystem.resolve(cacheDir))) {
+        for (Path output : outputs) {
+          if (!used.contains(output)) {
+            Files.deleteIfExists(output);
+          }
+        }
+      }
+    }
+
+    /**
+     * Compiles {@code filesToCompile} into a temporary directory, and moves their outputs into the
+     * cache.
+     *
+     * @return the result of aapt2 if it failed.
+     */
+    private Optional<StepExecutionResult> compileFiles(
+        ExecutionContext context, Map<Path, Path> filesToCompile)
+        throws IOException, InterruptedException {
+      Path tmpRoot = filesystem.resolve(filesystem.getBuckPaths().getTmpDir());
+      Files.createDirectories(tmpRoot);
+      Path outputDir = Files.createTempDirectory(tmpRoot, "aapt2_compile");
+      try {
+        for (List<Path> batch :
+            Iterables.partition(filesToCompile.keySet(), MAX_FILES_PER_COMPILE)) {
+          StepExecutionResult result =
+              newCompileStep(
+                      batch.stream().map(Path::toString).collect(ImmutableList.toImmutableList()),
+                      outputDir)
+                  .execute(context);
+          if (!result.isSuccess()) {
+            return Optional.of(result);
+          }
+          for (Path source : batch) {
+            Path output = outputDir.resolve(getOutputName(resDirPath.relativize(source)));
+            if (Files.exists(output)) {
+              moveIntoCache(output, filesystem.resolve(filesToCompile.get(source)));
+            }
+          }
+        }
+      } finally {
+        MostFiles.deleteRecursivelyIfExists(outputDir);
+      }
+      return Optional.empty();
+    }
+
+    private static void moveIntoCache(Path output, Path cached) throws IOException {
+      try {
+        Files.move(output, cached, StandardCopyOption.ATOMIC_MOVE);
+      } catch (FileAlreadyExistsException e) {
+        // Another build put the same output there first.
+      }
+    }
+
+    private Aapt2CompileStep newCompileStep(ImmutableList<String> inputArgs, Path output) {
+      return new Aapt2CompileStep(
+          filesystem.getRootPath(),
+          commandPrefix,
+          inputArgs,
+          output,
+          skipCrunchPngs,
+          failOnLegacyErrors);
+    }
+
+    private HashCode hashOptions() throws IOException {
+      Hasher hasher =
+          Hashing.sha1()
+              .newHasher()
+              .putInt(CACHE_VERSION)
+              .putBoolean(skipCrunchPngs)
+              .putBoolean(failOnLegacyErrors);
+      for (String arg : commandPrefix) {
+        hasher.putString(arg, StandardCharsets.UTF_8);
+        Path path = filesystem.resolve(arg);
+        if (Files.isRegularFile(path)) {
+          hasher.putBytes(hashTool(path).asBytes());
+        }
+      }
+      return hasher.hash();
+    }
+
+    private static HashCode hashTool(Path path) throws IOException {
+      String key = path + "@" + Files.getLastModifiedTime(path).toMillis();
+      HashCode hash = TOOL_HASHES.get(key);
+      if (hash == null) {
+        hash = com.google.common.io.Files.asByteSource(path.toFile()).hash(Hashing.sha1());
+        TOOL_HASHES.put(key, hash);
+      }
+      return hash;
+    }
+
+    @VisibleForTesting
+    static Path getCacheDir(ProjectFilesystem filesystem) {
+      return filesystem.getBuckPaths().getScratchDir().resolve("aapt2_compile_cache");
+    }
+
+    /**
+     * Lists the files that {@code aapt2 compile --dir} compiles, which are those in the
+     * subdirectories of the resource directory that its default ignore pattern doesn't match.
+     */
+    @VisibleForTesting
+    static ImmutableSortedSet<Path> listResourceFiles(Path resDir) throws IOException {
+      ImmutableSortedSet.Builder<Path> files = ImmutableSortedSet.naturalOrder();
+      try (DirectoryStream<Path> dirs = Files.newDirectoryStream(resDir)) {
+        for (Path dir : dirs) {
+          String dirName = dir.getFileName().toString();
+          if (!Files.isDirectory(dir) || isIgnored(dirName) || dirName.startsWith("_")) {
+            continue;
+          }
+          try (DirectoryStream<Path> dirFiles = Files.newDirectoryStream(dir)) {
+            for (Path file : dirFiles) {
+              if (Files.isRegularFile(file) && !isIgnored(file.getFileName().toString())) {
+                files.add(resDir.relativize(file));
+              }
+            }
+          }
+        }
+      }
+      return files.build();
+    }
+
+    private static boolean isIgnored(String name) {
+      String lowerCaseName = name.toLowerCase();
+      return name.startsWith(".")
+          || name.endsWith("~")
+          || lowerCaseName.endsWith(".scc")
+          || name.equals("CVS")
+          || lowerCaseName.equals("thumbs.db")
+          || lowerCaseName.equals("picasa.ini");
+    }
+
+    /**
+     * Returns the name aapt2 gives the output of a file, such as {@code
+     * drawable-hdpi_icon.png.flat} for {@code drawable-hdpi/icon.png}, or {@code
+     * values_strings.arsc.flat} for {@code values/strings.xml}.
+     */
+    @VisibleForTesting
+    static String getOutputName(Path file) {
+      String dirName = file.getParent().toString();
+      String fileName = file.getFileName().toString();
+      int dot = fileName.indexOf('.');
+      if (dot != -1
+          && fileName.substring(dot + 1).equals("xml")
+          && dirName.split("-", 2)[0].equals("values")) {
+        fileName = fileName.substring(0, dot) + ".arsc";
+      }
+      return dirName + "_" + fileName + ".flat";
+    }
+
+    @Override
+    public String getShortName() {
+      return "aapt2_compile";
+    }
+
+    @Override
+    public String getDescription(ExecutionContext context) {
+      return String.format("aapt2 compile %s into %s", resDirPath, outputPath);
+    }
+  }
+
+  private static class Aapt2CompileStep extends ShellStep {
+    private final ImmutableList<String> commandPrefix;
+    private final ImmutableList<String> inputArgs;
+    private final Path outputPath;
+    private final boolean skipCrunchPngs;
+    private final boolean failOnLegacyErrors;
+
     Aapt2CompileStep(
         AbsPath workingDirectory,
         ImmutableList<String> commandPrefix,
-        Path resDirPath,
+        ImmutableList<String> inputArgs,
         Path outputPath,
         boolean skipCrunchPngs,
         boolean failOnLegacyErrors) {
       super(workingDirectory);
       this.commandPrefix = commandPrefix;
-      this.resDirPath = resDirPath;
+      this.inputArgs = inputArgs;
       this.outputPath = outputPath;
       this.skipCrunchPngs = skipCrunchPngs;
       this.failOnLegacyErrors = failOnLegacyErrors;
@@ -143,8 +448,7 @@ public class Aapt2Compile extends ModernBuildRule<Aapt2Compile.Impl> {
       }
       builder.add("-o");
       builder.add(outputPath.toString());
-      builder.add("--dir");
-      builder.add(resDirPath.toString());
+      builder.addAll(inputArgs);
       return builder.build();
     }
   }
@@ -26,6 +26,7 @@ import com.facebook.buck.android.device.TargetDeviceOptions;
 import com.facebook.buck.android.exopackage.AndroidDevice;
 import com.facebook.buck.android.exopackage.AndroidDevicesHelper;
 import com.facebook.buck.android.exopackage.ExopackageInfo;
+import com.facebook.buck.android.exopackage.ExopackageInstallContents;
 import com.facebook.buck.android.exopackage.ExopackageInstaller;
 import com.facebook.buck.android.exopackage.RealAndroidDevice;
 import com.facebook.buck.android.toolchain.AndroidPlatformTarget;
@@ -66,11 +67,11 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -270,7 +271,7 @@ public class AdbHelper implements AndroidDevicesHelper {
       getBuckEventBus().post(started);
     }
     AtomicBoolean success = new AtomicBoolean();
-    Set<String> deviceLocales = new HashSet<>();
+    Set<String> deviceLocales = ConcurrentHashMap.newKeySet();
     try (Scope ignored =
         () -> {
           ImmutableMap.Builder<String, String> deviceInfo = ImmutableMap.builder();
@@ -291,62 +292,61 @@ public class AdbHelper implements AndroidDevicesHelper {
                         deviceInfo.build()));
           }
         }) {
-
-      adbCall(
-          "Get device locale",
-          (device) -> {
-            try {
-              // It's a bit tortuous to get the locale; there are 6 separate properties
-              // we need to check to accurately record this.
-
-              // First try "persist.sys" properties, which are the user's chosen language.
-              String locale = device.getProperty("persist.sys.locale");
-              // Try persist.sys.language + persist.sys.country
-              if (Strings.isNullOrEmpty(locale)) {
-                String language = device.getProperty("persist.sys.language");
-                if (!Strings.isNullOrEmpty(language)) {
-                  String country = device.getProperty("persist.sys.country");
-                  if (!Strings.isNullOrEmpty(country)) {
-                    locale = language + "-" + country;
-                  }
-                }
-              }
-              // Next try ro.product.locale properties which are the default system locale
-              if (Strings.isNullOrEmpty(locale)) {
-                locale = device.getProperty("ro.product.locale");
-              }
-              if (Strings.isNullOrEmpty(locale)) {
-                String language = device.getProperty("ro.product.locale.language");
-                String country = device.getProperty("ro.product.locale.region");
-
-                // Default to en-US if all else fails
-                if (Strings.isNullOrEmpty(language)) {
-                  language = "en";
-                }
-                if (Strings.isNullOrEmpty(country)) {
-                  country = "US-presumed";
-                }
-                locale = language = "-" + country;
-              }
-              deviceLocales.add(locale);
-            } catch (Exception e) {
-              // Don't log.
-            }
-            return true;
-          },
-          true);
-
       Optional<ExopackageInfo> exopackageInfo = hasInstallableApk.getApkInfo().getExopackageInfo();
       if (exopackageInfo.isPresent()) {
         // TODO(dreiss): Support SD installation.
-        installApkExopackage(pathResolver, hasInstallableApk, quiet, processName);
+        installApkExopackage(pathResolver, hasInstallableApk, quiet, processName, deviceLocales);
       } else {
-        installApkDirectly(pathResolver, hasInstallableApk, installViaSd, quiet);
+        installApkDirectly(pathResolver, hasInstallableApk, installViaSd, quiet, deviceLocales);
       }
       success.set(true);
     }
   }
 
+  /**
+   * Records the locale of the device. This is done as part of installing on each device, rather
+   * than on all devices first, so that no device waits for the others before installing.
+   */
+  private static void recordDeviceLocale(AndroidDevice device, Set<String> deviceLocales) {
+    try {
+      // It's a bit tortuous to get the locale; there are 6 separate properties
+      // we need to check to accurately record this.
+
+      // First try "persist.sys" properties, which are the user's chosen language.
+      String locale = device.getProperty("persist.sys.locale");
+      // Try persist.sys.language + persist.sys.country
+      if (Strings.isNullOrEmpty(locale)) {
+        String language = device.getProperty("persist.sys.language");
+        if (!Strings.isNullOrEmpty(language)) {
+          String country = device.getProperty("persist.sys.country");
+          if (!Strings.isNullOrEmpty(country)) {
+            locale = language + "-" + country;
+          }
+        }
+      }
+      // Next try ro.product.locale properties which are the default system locale
+      if (Strings.isNullOrEmpty(locale)) {
+        locale = device.getProperty("ro.product.locale");
+      }
+      if (Strings.isNullOrEmpty(locale)) {
+        String language = device.getProperty("ro.product.locale.language");
+        String country = device.getProperty("ro.product.locale.region");
+
+        // Default to en-US if all else fails
+        if (Strings.isNullOrEmpty(language)) {
+          language = "en";
+        }
+        if (Strings.isNullOrEmpty(country)) {
+          country = "US-presumed";
+        }
+        locale = language = "-" + country;
+      }
+      deviceLocales.add(locale);
+    } catch (Exception e) {
+      // Don't log.
+    }
+  }
+
   @Override
   public void startActivity(
       SourcePathResolverAdapter pathResolver,
@@ -708,19 +708,27 @@ public class AdbHelper implements AndroidDevicesHelper {
       SourcePathResolverAdapter pathResolver,
       HasInstallableApk hasInstallableApk,
       boolean quiet,
-      @Nullable String processName)
+      @Nullable String processName,
+      Set<String> deviceLocales)
       throws InterruptedException {
+    // Everything the devices have in common is worked out once for all of them.
+    String packageName =
+        tryToExtractPackageNameFromManifest(pathResolver, hasInstallableApk.getApkInfo());
+    ExopackageInstallContents installContents =
+        new ExopackageInstallContents(pathResolver, hasInstallableApk.getProjectFilesystem());
     adbCall(
         "install exopackage apk",
-        device ->
-            new ExopackageInstaller(
-                    pathResolver,
-                    contextSupplier.get(),
-                    hasInstallableApk.getProjectFilesystem(),
-                    tryToExtractPackageNameFromManifest(
-                        pathResolver, hasInstallableApk.getApkInfo()),
-                    device)
-                .doInstall(hasInstallableApk.getApkInfo(), processName),
+        device -> {
+          recordDeviceLocale(device, deviceLocales);
+          return new ExopackageInstaller(
+                  pathResolver,
+                  contextSupplier.get(),
+                  hasInstallableApk.getProjectFilesystem(),
+                  packageName,
+                  device,
+                  installContents)
+              .doInstall(hasInstallableApk.getApkInfo(), processName);
+        },
         quiet);
   }
 
@@ -728,12 +736,16 @@ public class AdbHelper implements AndroidDevicesHelper {
       SourcePathResolverAdapter pathResolver,
       HasInstallableApk hasInstallableApk,
       boolean installViaSd,
-      boolean quiet)
+      boolean quiet,
+      Set<String> deviceLocales)
       throws InterruptedException {
     File apk = pathResolver.getAbsolutePath(hasInstallableApk.getApkInfo().getApkPath()).toFile();
     adbCall(
         String.format("install apk %s", hasInstallableApk.getBuildTarget().toString()),
-        (device) -> device.installApkOnDevice(apk, installViaSd, quiet),
+        (device) -> {
+          recordDeviceLocale(device, deviceLocales);
+          return device.installApkOnDevice(apk, installViaSd, quiet);
+        },
         quiet);
   }
 }
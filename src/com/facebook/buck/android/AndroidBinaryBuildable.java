@@ -270,6 +270,7 @@ class AndroidBinaryBuildable implements AddsToRuleKey {
               pathToKeystore,
               keystoreProperties,
               false,
+              isCompressResources ? ImmutableSet.of("resources.arsc") : ImmutableSet.of(),
               javaRuntimeLauncher.getCommandPrefix(pathResolver),
               androidSdkLocation));
     } else {
@@ -327,8 +328,9 @@ class AndroidBinaryBuildable implements AddsToRuleKey {
     steps.add(ZipScrubberStep.of(getProjectFilesystem().resolve(signedApkPath)));
 
     Path apkToRedexAndAlign;
-    // Optionally, compress the resources file in the .apk.
-    if (isCompressResources) {
+    // Optionally, compress the resources file in the .apk. The `ApkBuilderStep` already compresses
+    // it while it writes the APK.
+    if (isCompressResources && !isApk) {
       Path compressedApkPath = getCompressedResourcesApkPath();
       apkToRedexAndAlign = compressedApkPath;
       steps.add(createRepackZipEntriesStep(signedApkPath, compressedApkPath));
@@ -354,20 +356,21 @@ class AndroidBinaryBuildable implements AddsToRuleKey {
     }
 
     if (isApk) {
-      Path zipalignedApkPath = getZipalignedApkPath();
-      steps.add(
-          new ZipalignStep(
-              getProjectFilesystem().getRootPath(),
-              androidPlatformTarget,
-              apkToAlign,
-              zipalignedApkPath));
+      // The `ApkBuilderStep` aligns the APK while it writes it, and apksigner keeps that alignment,
+      // so only an APK rewritten by redex needs to be zipaligned again.
+      Path apkToSign = apkToAlign;
+      if (applyRedex) {
+        apkToSign = getZipalignedApkPath();
+        steps.add(
+            new ZipalignStep(
+                getProjectFilesystem().getRootPath(),
+                androidPlatformTarget,
+                apkToAlign,
+                apkToSign));
+      }
       steps.add(
           new ApkSignerStep(
-              getProjectFilesystem(),
-              zipalignedApkPath,
-              v2SignedApkPath,
-              keystoreProperties,
-              applyRedex));
+              getProjectFilesystem(), apkToSign, v2SignedApkPath, keystoreProperties, applyRedex));
 
     } else {
       steps.add(
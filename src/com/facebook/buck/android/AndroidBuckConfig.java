@@ -104,6 +104,14 @@ public class AndroidBuckConfig {
     return delegate.getBoolean("android", "aapt_no_resource_removal").orElse(false);
   }
 
+  /**
+   * Whether the dummy {@code R.java} files of libraries keep the resource IDs of their previous
+   * build, so that they only change where the resources changed.
+   */
+  public boolean shouldAssignResourceIdsIncrementally() {
+    return delegate.getBooleanValue("android", "incremental_resource_ids", false);
+  }
+
   public Optional<String> getAndroidCompileSdkVersion() {
     Optional<String> compileSdkVersion = delegate.getValue("android", "compile_sdk_version");
     return compileSdkVersion.isPresent() ? compileSdkVersion : getAndroidTarget();
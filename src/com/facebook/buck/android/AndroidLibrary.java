@@ -40,6 +40,7 @@ import com.facebook.buck.jvm.java.JavacFactory;
 import com.facebook.buck.jvm.java.JavacOptions;
 import com.facebook.buck.jvm.java.UnusedDependenciesFinderFactory;
 import com.facebook.buck.util.DependencyMode;
+import com.facebook.buck.util.environment.Platform;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.collect.Iterables;
@@ -255,7 +256,9 @@ public class AndroidLibrary extends DefaultJavaLibrary implements AndroidPackage
               args.getResourceUnionPackage(),
               args.getFinalRName(),
               /* useOldStyleableFormat */ false,
-              args.isSkipNonUnionRDotJava());
+              args.isSkipNonUnionRDotJava(),
+              new AndroidBuckConfig(javaBuckConfig.getDelegate(), Platform.detect())
+                  .shouldAssignResourceIdsIncrementally());
 
       getDummyRDotJava()
           .ifPresent(
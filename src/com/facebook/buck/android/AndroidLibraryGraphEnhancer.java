@@ -52,6 +52,7 @@ public class AndroidLibraryGraphEnhancer {
   private final boolean useOldStyleableFormat;
   private final ProjectFilesystem projectFilesystem;
   private final boolean skipNonUnionRDotJava;
+  private final boolean assignResourceIdsIncrementally;
 
   public AndroidLibraryGraphEnhancer(
       BuildTarget buildTarget,
@@ -64,7 +65,8 @@ public class AndroidLibraryGraphEnhancer {
       Optional<String> resourceUnionPackage,
       Optional<String> finalRName,
       boolean useOldStyleableFormat,
-      boolean skipNonUnionRDotJava) {
+      boolean skipNonUnionRDotJava,
+      boolean assignResourceIdsIncrementally) {
     this.projectFilesystem = projectFilesystem;
     Preconditions.checkState(!JavaAbis.isAbiTarget(buildTarget));
     this.dummyRDotJavaBuildTarget = getDummyRDotJavaTarget(buildTarget);
@@ -81,6 +83,7 @@ public class AndroidLibraryGraphEnhancer {
     this.finalRName = finalRName;
     this.useOldStyleableFormat = useOldStyleableFormat;
     this.skipNonUnionRDotJava = skipNonUnionRDotJava;
+    this.assignResourceIdsIncrementally = assignResourceIdsIncrementally;
   }
 
   public static BuildTarget getDummyRDotJavaTarget(BuildTarget buildTarget) {
@@ -139,7 +142,8 @@ public class AndroidLibraryGraphEnhancer {
                   resourceUnionPackage,
                   finalRName,
                   useOldStyleableFormat,
-                  skipNonUnionRDotJava);
+                  skipNonUnionRDotJava,
+                  assignResourceIdsIncrementally);
             });
 
     return Optional.of((DummyRDotJava) dummyRDotJava);
@@ -48,6 +48,12 @@ import java.util.function.Supplier;
  */
 public class ApkBuilderStep implements Step {
 
+  /**
+   * The alignment of uncompressed entries, as {@code zipalign 4} would align them. Aligning them
+   * while the APK is written saves rewriting the whole APK to zipalign it.
+   */
+  private static final int ZIP_ALIGNMENT = 4;
+
   private final ProjectFilesystem filesystem;
   private final Path resourceApk;
   private final Path dexFile;
@@ -57,6 +63,7 @@ public class ApkBuilderStep implements Step {
   private final ImmutableSet<Path> zipFiles;
   private final ImmutableSet<Path> jarFilesThatMayContainResources;
   private final boolean debugMode;
+  private final ImmutableSet<String> entriesToCompress;
   private final ImmutableList<String> javaRuntimeLauncher;
   private final AppBuilderBase appBuilderBase;
   private final AndroidSdkLocation androidSdkLocation;
@@ -69,6 +76,8 @@ public class ApkBuilderStep implements Step {
    * @param nativeLibraryDirectories List of paths to native directories.
    * @param zipFiles List of paths to zipfiles to be included into the apk.
    * @param debugMode Whether or not to run ApkBuilder with debug mode turned on.
+   * @param entriesToCompress Entries to compress with the highest level, even if they are
+   *     uncompressed in the resource APK (e.g. {@code ImmutableSet.of("resources.arsc")}).
    */
   public ApkBuilderStep(
       ProjectFilesystem filesystem,
@@ -82,6 +91,7 @@ public class ApkBuilderStep implements Step {
       Path pathToKeystore,
       Supplier<KeystoreProperties> keystorePropertiesSupplier,
       boolean debugMode,
+      ImmutableSet<String> entriesToCompress,
       ImmutableList<String> javaRuntimeLauncher,
       AndroidSdkLocation androidSdkLocation) {
     this.filesystem = filesystem;
@@ -93,6 +103,7 @@ public class ApkBuilderStep implements Step {
     this.jarFilesThatMayContainResources = jarFilesThatMayContainResources;
     this.zipFiles = zipFiles;
     this.debugMode = debugMode;
+    this.entriesToCompress = entriesToCompress;
     this.javaRuntimeLauncher = javaRuntimeLauncher;
     this.appBuilderBase =
         new AppBuilderBase(filesystem, keystorePropertiesSupplier, pathToKeystore);
@@ -116,7 +127,9 @@ public class ApkBuilderStep implements Step {
               filesystem.getPathForRelativePath(dexFile).toFile(),
               privateKeyAndCertificate.privateKey,
               privateKeyAndCertificate.certificate,
-              output);
+              output,
+              ZIP_ALIGNMENT,
+              entriesToCompress);
       builder.setDebugMode(debugMode);
       for (Path nativeLibraryDirectory : nativeLibraryDirectories) {
         builder.addNativeLibraries(
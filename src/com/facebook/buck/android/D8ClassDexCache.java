@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android;
+
+import com.android.tools.r8.ByteDataView;
+import com.android.tools.r8.CompilationFailedException;
+import com.android.tools.r8.DexFilePerClassFileConsumer;
+import com.android.tools.r8.DiagnosticsHandler;
+import com.facebook.buck.core.util.log.Logger;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nullable;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Keeps the intermediate dex of single classes that d8 produced in this process, so that dexing a
+ * library again after some of its classes changed only has to convert those classes, and merge
+ * their dex with the dex of the others.
+ *
+ * <p>The dex of a class is keyed by the hash of its class file and of the d8 options it was
+ * converted with. When d8 desugars, the dex of a class also depends on the classes it extends and
+ * on the interfaces whose default methods and lambdas it may use, so the key then also covers the
+ * superclasses of the class and all interfaces among the classes being dexed. The cache is shared
+ * by all dexing in this process, and holds up to an eighth of the maximum heap.
+ */
+class D8ClassDexCache {
+
+  private static final Logger LOG = Logger.get(D8ClassDexCache.class);
+
+  /** Stands in for the dex of classes that d8 didn't write a dex file for. */
+  private static final byte[] NO_DEX = new byte[0];
+
+  private static final Cache<HashCode, byte[]> DEX_BY_CLASS =
+      CacheBuilder.newBuilder()
+          .maximumWeight(Runtime.getRuntime().maxMemory() / 8)
+          .<HashCode, byte[]>weigher((key, dex) -> key.bits() / 8 + dex.length)
+          .build();
+
+  /** Converts class files to intermediate dex, one dex file per class. */
+  interface Converter {
+    void convert(List<byte[]> classFiles, DexFilePerClassFileConsumer consumer)
+        throws CompilationFailedException;
+  }
+
+  private final Cache<HashCode, byte[]> dexByClass;
+
+  D8ClassDexCache() {
+    this(DEX_BY_CLASS);
+  }
+
+  @VisibleForTesting
+  D8ClassDexCache(Cache<HashCode, byte[]> dexByClass) {
+    this.dexByClass = dexByClass;
+  }
+
+  /**
+   * Returns the dex of the given classes, sorted by class name, running {@code converter} over
+   * those which aren't cached yet.
+   *
+   * @param optionsHash hash of the d8 options and of anything else besides the classes themselves
+   *     that the dex depends on, such as the classpath.
+   * @param desugaring whether d8 desugars the classes.
+   */
+  ImmutableList<byte[]> getDex(
+      List<byte[]> classFiles, HashCode optionsHash, boolean desugaring, Converter converter)
+      throws CompilationFailedException {
+    SortedMap<String, ClassFile> classesByName = new TreeMap<>();
+    for (byte[] bytes : classFiles) {
+      ClassFile classFile = new ClassFile(bytes);
+      if (classesByName.put(classFile.name, classFile) != null) {
+        // Let d8 report the duplicate class, as it would have without the cache.
+        converter.convert(classFiles, DexFilePerClassFileConsumer.emptyConsumer());
+      }
+    }
+
+    Hasher interfacesHasher = Hashing.sha1().newHasher();
+    if (desugaring) {
+      for (ClassFile classFile : classesByName.values()) {
+        if (classFile.isInterface) {
+          interfacesHasher.putBytes(classFile.hash.asBytes());
+        }
+      }
+    }
+    HashCode interfacesHash = interfacesHasher.hash();
+
+    Map<String, byte[]> dexByName = new TreeMap<>();
+    Map<String, HashCode> keysToConvert = new TreeMap<>();
+    List<byte[]> classFilesToConvert = new ArrayList<>();
+    for (ClassFile classFile : classesByName.values()) {
+      Hasher hasher = Hashing.sha1().newHasher();
+      hasher.putBytes(optionsHash.asBytes()).putBytes(classFile.hash.asBytes());
+      if (desugaring) {
+        hasher.putBytes(interfacesHash.asBytes());
+        for (ClassFile superClass = getSuperClass(classesByName, classFile);
+            superClass != null;
+            superClass = getSuperClass(classesByName, superClass)) {
+          hasher.putBytes(superClass.hash.asBytes());
+        }
+      }
+      HashCode key = hasher.hash();
+
+      byte[] dex = dexByClass.getIfPresent(key);
+      if (dex != null) {
+        dexByName.put(classFile.name, dex);
+      } else {
+        keysToConvert.put(classFile.name, key);
+        classFilesToConvert.add(classFile.bytes);
+      }
+    }
+
+    LOG.debug(
+        "Converting %d of %d classes, the dex of the others is cached.",
+        classFilesToConvert.size(), classesByName.size());
+    if (!classFilesToConvert.isEmpty()) {
+      Map<String, byte[]> convertedDex = new ConcurrentHashMap<>();
+      converter.convert(
+          classFilesToConvert,
+          new DexFilePerClassFileConsumer() {
+            @Override
+            public void accept(
+                String primaryClassDescriptor,
+                ByteDataView data,
+                Set<String> descriptors,
+                DiagnosticsHandler handler) {
+              convertedDex.put(getClassName(primaryClassDescriptor), data.copyByteData());
+            }
+
+            @Override
+            public boolean combineSyntheticClassesWithPrimaryClass() {
+              return true;
+            }
+
+            @Override
+            public void finished(DiagnosticsHandler handler) {}
+          });
+
+      for (Map.Entry<String, HashCode> nameAndKey : keysToConvert.entrySet()) {
+        byte[] dex = convertedDex.getOrDefault(nameAndKey.getKey(), NO_DEX);
+        dexByClass.put(nameAndKey.getValue(), dex);
+        dexByName.put(nameAndKey.getKey(), dex);
+      }
+    }
+
+    ImmutableList.Builder<byte[]> dex = ImmutableList.builder();
+    for (byte[] classDex : dexByName.values()) {
+      if (classDex.length > 0) {
+        dex.add(classDex);
+      }
+    }
+    return dex.build();
+  }
+
+  @Nullable
+  private static ClassFile getSuperClass(Map<String, ClassFile> classes, ClassFile classFile) {
+    return classFile.superName == null ? null : classes.get(classFile.superName);
+  }
+
+  /** @return the internal name of the class with the type descriptor {@code descriptor}. */
+  private static String getClassName(String descriptor) {
+    return descriptor.substring(1, descriptor.length() - 1);
+  }
+
+  private static class ClassFile {
+    private final byte[] bytes;
+    private final HashCode hash;
+    private final String name;
+    @Nullable private final String superName;
+    private final boolean isInterface;
+
+    ClassFile(byte[] bytes) {
+      ClassReader reader = new ClassReader(bytes);
+      this.bytes = bytes;
+      this.hash = Hashing.sha1().hashBytes(bytes);
+      this.name = reader.getClassName();
+      this.superName = reader.getSuperName();
+      this.isInterface = (reader.getAccess() & Opcodes.ACC_INTERFACE) != 0;
+    }
+  }
+}
@@ -84,6 +84,7 @@ public class DummyRDotJava extends AbstractBuildRule
   @AddToRuleKey private final Optional<String> finalRName;
   @AddToRuleKey private final boolean useOldStyleableFormat;
   @AddToRuleKey private final boolean skipNonUnionRDotJava;
+  @AddToRuleKey private final boolean assignResourceIdsIncrementally;
 
   @AddToRuleKey
   @SuppressWarnings("PMD.UnusedPrivateField")
@@ -101,7 +102,8 @@ public class DummyRDotJava extends AbstractBuildRule
       Optional<String> unionPackage,
       Optional<String> finalRName,
       boolean useOldStyleableFormat,
-      boolean skipNonUnionRDotJava) {
+      boolean skipNonUnionRDotJava,
+      boolean assignResourceIdsIncrementally) {
     this(
         buildTarget,
         projectFilesystem,
@@ -113,7 +115,8 @@ public class DummyRDotJava extends AbstractBuildRule
         finalRName,
         useOldStyleableFormat,
         abiPaths(androidResourceDeps),
-        skipNonUnionRDotJava);
+        skipNonUnionRDotJava,
+        assignResourceIdsIncrementally);
   }
 
   private DummyRDotJava(
@@ -127,7 +130,8 @@ public class DummyRDotJava extends AbstractBuildRule
       Optional<String> finalRName,
       boolean useOldStyleableFormat,
       ImmutableList<SourcePath> abiInputs,
-      boolean skipNonUnionRDotJava) {
+      boolean skipNonUnionRDotJava,
+      boolean assignResourceIdsIncrementally) {
     super(buildTarget, projectFilesystem);
 
     // Sort the input so that we get a stable ABI for the same set of resources.
@@ -137,6 +141,7 @@ public class DummyRDotJava extends AbstractBuildRule
             .collect(ImmutableList.toImmutableList());
     this.useOldStyleableFormat = useOldStyleableFormat;
     this.skipNonUnionRDotJava = skipNonUnionRDotJava;
+    this.assignResourceIdsIncrementally = assignResourceIdsIncrementally;
     this.outputJar = getOutputJarPath(getBuildTarget(), getProjectFilesystem());
     this.compileStepFactory = compileStepFactory;
     this.forceFinalResourceIds = forceFinalResourceIds;
@@ -169,10 +174,20 @@ public class DummyRDotJava extends AbstractBuildRule
     ImmutableList.Builder<Step> steps = ImmutableList.builder();
     Path rDotJavaSrcFolder = getRDotJavaSrcFolder(getBuildTarget(), getProjectFilesystem());
 
-    steps.addAll(
-        MakeCleanDirectoryStep.of(
-            BuildCellRelativePath.fromCellRelativePath(
-                context.getBuildCellRootPath(), getProjectFilesystem(), rDotJavaSrcFolder)));
+    if (assignResourceIdsIncrementally) {
+      // Keep the R.java files of the previous build, so that the merge only rewrites those whose
+      // resources changed. The files of packages which are gone are left behind, but only the files
+      // of the current packages are compiled.
+      steps.add(
+          MkdirStep.of(
+              BuildCellRelativePath.fromCellRelativePath(
+                  context.getBuildCellRootPath(), getProjectFilesystem(), rDotJavaSrcFolder)));
+    } else {
+      steps.addAll(
+          MakeCleanDirectoryStep.of(
+              BuildCellRelativePath.fromCellRelativePath(
+                  context.getBuildCellRootPath(), getProjectFilesystem(), rDotJavaSrcFolder)));
+    }
 
     // Generate the .java files and record where they will be written in javaSourceFilePaths.
     ImmutableSortedSet<Path> javaSourceFilePaths;
@@ -209,7 +224,8 @@ public class DummyRDotJava extends AbstractBuildRule
               unionPackage,
               /* rName */ Optional.empty(),
               useOldStyleableFormat,
-              skipNonUnionRDotJava);
+              skipNonUnionRDotJava,
+              getResourceIdsPath("R"));
       steps.add(mergeStep);
 
       if (!finalRName.isPresent()) {
@@ -225,7 +241,8 @@ public class DummyRDotJava extends AbstractBuildRule
                 unionPackage,
                 finalRName,
                 useOldStyleableFormat,
-                skipNonUnionRDotJava);
+                skipNonUnionRDotJava,
+                getResourceIdsPath(finalRName.get()));
         steps.add(mergeFinalRStep);
 
         javaSourceFilePaths =
@@ -310,6 +327,13 @@ public class DummyRDotJava extends AbstractBuildRule
     return buildOutputInitializer;
   }
 
+  @Override
+  public boolean isCacheable() {
+    // Incrementally assigned ids depend on the ids of the previous local build, so the same inputs
+    // can produce different outputs.
+    return !assignResourceIdsIncrementally;
+  }
+
   private class CheckDummyRJarNotEmptyStep implements Step {
     private final ImmutableSortedSet<Path> javaSourceFilePaths;
 
@@ -356,6 +380,17 @@ public class DummyRDotJava extends AbstractBuildRule
     }
   }
 
+  /** @return where the resource IDs of the {@code rName} classes are kept between builds. */
+  private Optional<Path> getResourceIdsPath(String rName) {
+    if (!assignResourceIdsIncrementally) {
+      return Optional.empty();
+    }
+    return Optional.of(
+        BuildTargetPaths.getScratchPath(
+                getProjectFilesystem(), getBuildTarget(), "__%s_rdotjava_ids__")
+            .resolve(rName + ".txt"));
+  }
+
   public static Path getRDotJavaSrcFolder(BuildTarget buildTarget, ProjectFilesystem filesystem) {
     return BuildTargetPaths.getScratchPath(filesystem, buildTarget, "__%s_rdotjava_src__");
   }
@@ -22,6 +22,7 @@ import com.android.tools.r8.D8Command;
 import com.android.tools.r8.Diagnostic;
 import com.android.tools.r8.DiagnosticsHandler;
 import com.android.tools.r8.OutputMode;
+import com.android.tools.r8.origin.Origin;
 import com.android.tools.r8.utils.AbortException;
 import com.android.tools.r8.utils.InternalOptions;
 import com.facebook.buck.android.toolchain.AndroidPlatformTarget;
@@ -37,23 +38,34 @@ import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
 import java.io.BufferedWriter;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import javax.annotation.Nullable;
 
 public class DxStep extends ShellStep {
@@ -352,33 +364,40 @@ public class DxStep extends ShellStep {
         boolean outputToDex = outputDexFile.getFileName().toString().endsWith(".dex");
         Path output = outputToDex ? Files.createTempDirectory("buck-d8") : outputDexFile;
 
-        D8Command.Builder builder =
-            D8Command.builder(diagnosticsHandler)
-                .addProgramFiles(inputs)
-                .setIntermediate(intermediate)
-                .addLibraryFiles(androidPlatformTarget.getAndroidJar())
-                .setMode(
-                    options.contains(Option.NO_OPTIMIZE)
-                        ? CompilationMode.DEBUG
-                        : CompilationMode.RELEASE)
-                .setOutput(output, OutputMode.DexIndexed)
-                .setDisableDesugaring(options.contains(Option.NO_DESUGAR))
-                .setInternalOptionsModifier(
-                    (InternalOptions opt) -> {
-                      opt.testing.forceJumboStringProcessing = options.contains(Option.FORCE_JUMBO);
-                    });
+        D8Command.Builder builder = D8Command.builder(diagnosticsHandler);
+        Optional<List<byte[]>> classFiles =
+            intermediate ? readClassFiles(inputs) : Optional.empty();
+        if (classFiles.isPresent()) {
+          // Only the classes which changed since this process last dexed them are converted, the
+          // dex of the others comes from the cache, and it all is merged into the output.
+          ImmutableList<byte[]> classesDex =
+              new D8ClassDexCache()
+                  .getDex(
+                      classFiles.get(),
+                      hashD8Options(),
+                      !options.contains(Option.NO_DESUGAR),
+                      (classFilesToConvert, consumer) -> {
+                        D8Command.Builder classesBuilder =
+                            D8Command.builder(diagnosticsHandler)
+                                .setIntermediate(true)
+                                .setProgramConsumer(consumer)
+                                .setDisableDesugaring(options.contains(Option.NO_DESUGAR));
+                        for (byte[] classFile : classFilesToConvert) {
+                          classesBuilder.addClassProgramData(classFile, Origin.unknown());
+                        }
+                        com.android.tools.r8.D8.run(configureD8(classesBuilder).build());
+                      });
+          for (byte[] classDex : classesDex) {
+            builder.addDexProgramData(classDex, Origin.unknown());
+          }
+          builder.setDisableDesugaring(true);
+        } else {
+          builder.addProgramFiles(inputs).setDisableDesugaring(options.contains(Option.NO_DESUGAR));
+        }
+        configureD8(builder).setIntermediate(intermediate).setOutput(output, OutputMode.DexIndexed);
 
         bucketId.ifPresent(builder::setBucketId);
-        minSdkVersion.ifPresent(builder::setMinApiLevel);
 
-        if (classpathFiles != null && !classpathFiles.isEmpty()) {
-          // classpathFiles is needed only for D8 java 8 desugar
-          ImmutableSet.Builder<Path> absolutePaths = ImmutableSet.builder();
-          for (Path classpathFile : classpathFiles) {
-            absolutePaths.add(filesystem.getPathForRelativeExistingPath(classpathFile));
-          }
-          builder.addClasspathFiles(absolutePaths.build());
-        }
         D8Command d8Command = builder.build();
         com.android.tools.r8.D8.run(d8Command);
 
@@ -444,6 +463,94 @@ public class DxStep extends ShellStep {
     }
   }
 
+  /** Sets the options of a d8 run which don't depend on what it reads and writes. */
+  private D8Command.Builder configureD8(D8Command.Builder builder) {
+    builder
+        .addLibraryFiles(androidPlatformTarget.getAndroidJar())
+        .setMode(
+            options.contains(Option.NO_OPTIMIZE) ? CompilationMode.DEBUG : CompilationMode.RELEASE)
+        .setInternalOptionsModifier(
+            (InternalOptions opt) -> {
+              opt.testing.forceJumboStringProcessing = options.contains(Option.FORCE_JUMBO);
+            });
+    minSdkVersion.ifPresent(builder::setMinApiLevel);
+
+    if (classpathFiles != null && !classpathFiles.isEmpty()) {
+      // classpathFiles is needed only for D8 java 8 desugar
+      builder.addClasspathFiles(getAbsoluteClasspathFiles());
+    }
+    return builder;
+  }
+
+  private ImmutableSet<Path> getAbsoluteClasspathFiles() {
+    ImmutableSet.Builder<Path> absolutePaths = ImmutableSet.builder();
+    for (Path classpathFile : Objects.requireNonNull(classpathFiles)) {
+      absolutePaths.add(filesystem.getPathForRelativeExistingPath(classpathFile));
+    }
+    return absolutePaths.build();
+  }
+
+  /**
+   * Hashes everything set by {@link #configureD8} that the dex of a class depends on, for {@link
+   * D8ClassDexCache}.
+   */
+  private HashCode hashD8Options() throws IOException {
+    Hasher hasher = Hashing.sha1().newHasher();
+    hasher
+        .putString(com.android.tools.r8.Version.getVersionString(), StandardCharsets.UTF_8)
+        .putString(androidPlatformTarget.getAndroidJar().toString(), StandardCharsets.UTF_8)
+        .putBoolean(options.contains(Option.NO_OPTIMIZE))
+        .putBoolean(options.contains(Option.FORCE_JUMBO))
+        .putBoolean(options.contains(Option.NO_DESUGAR))
+        .putInt(minSdkVersion.orElse(-1));
+    if (classpathFiles != null && !options.contains(Option.NO_DESUGAR)) {
+      for (Path classpathFile : getAbsoluteClasspathFiles()) {
+        filesystem.computeSha1(classpathFile).update(hasher);
+      }
+    }
+    return hasher.hash();
+  }
+
+  /**
+   * Reads the class files among {@code inputs}, and those in the archives among them, or returns
+   * empty if there are inputs which are neither.
+   */
+  private static Optional<List<byte[]>> readClassFiles(Collection<Path> inputs)
+      throws IOException {
+    List<byte[]> classFiles = new ArrayList<>();
+    for (Path input : inputs) {
+      String name = input.getFileName().toString();
+      if (isClassFile(name)) {
+        classFiles.add(Files.readAllBytes(input));
+      } else if (name.endsWith(".jar") || name.endsWith(".zip")) {
+        try (ZipFile zipFile = new ZipFile(input.toFile())) {
+          for (ZipEntry entry : Collections.list(zipFile.entries())) {
+            if (entry.getName().endsWith(".dex")) {
+              return Optional.empty();
+            }
+            if (!entry.isDirectory() && isClassFile(entry.getName())) {
+              try (InputStream stream = zipFile.getInputStream(entry)) {
+                classFiles.add(ByteStreams.toByteArray(stream));
+              }
+            }
+          }
+        }
+      } else {
+        return Optional.empty();
+      }
+    }
+    return Optional.of(classFiles);
+  }
+
+  /** Whether d8 reads the file with this name as a class file, as it does in an archive. */
+  private static boolean isClassFile(String name) {
+    String lowerCaseName = name.toLowerCase(Locale.ROOT);
+    return lowerCaseName.endsWith(".class")
+        && !lowerCaseName.endsWith("module-info.class")
+        && !lowerCaseName.startsWith("meta-inf")
+        && !lowerCaseName.contains("/meta-inf");
+  }
+
   private boolean isOverloadedDexException(CompilationFailedException e) {
     return e.getCause() instanceof AbortException
         && e.getCause().getMessage().contains("Cannot fit requested classes in a single dex file");
@@ -16,7 +16,7 @@
 
 package com.facebook.buck.android;
 
-import com.facebook.buck.android.exopackage.ExopackageInstaller;
+import com.facebook.buck.android.exopackage.ExopackageDeviceManifest;
 import com.facebook.buck.core.build.buildable.context.BuildableContext;
 import com.facebook.buck.core.build.context.BuildContext;
 import com.facebook.buck.core.build.execution.context.ExecutionContext;
@@ -53,7 +53,8 @@ import java.util.concurrent.ConcurrentHashMap;
  * This lists the entire contents of the exopackage installation directory on the requested devices.
  *
  * <p>While only the package-specific directory's contents are required, this rule lists everything
- * so that it doesn't need to depend on the manifest.
+ * so that it doesn't need to depend on the manifest. Devices which still match the {@link
+ * ExopackageDeviceManifest} recorded by the last install aren't listed again.
  */
 public class ExopackageDeviceDirectoryLister extends AbstractBuildRule {
   @AddToRuleKey private final InstallTrigger trigger;
@@ -87,10 +88,10 @@ public class ExopackageDeviceDirectoryLister extends AbstractBuildRule {
                 .adbCallOrThrow(
                     "listing_exo_contents_for_device",
                     (device) -> {
-                      device.mkDirP(ExopackageInstaller.EXOPACKAGE_INSTALL_ROOT.toString());
                       contents.put(
                           device.getSerialNumber(),
-                          device.listDirRecursive(ExopackageInstaller.EXOPACKAGE_INSTALL_ROOT)
+                          ExopackageDeviceManifest.read(getProjectFilesystem(), device)
+                              .getFiles()
                               .stream()
                               .map(Path::toString)
                               .collect(
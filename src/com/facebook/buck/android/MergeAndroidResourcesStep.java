@@ -47,15 +47,19 @@ import com.google.common.collect.SetMultimap;
 import com.google.common.collect.Sets;
 import com.google.common.collect.SortedSetMultimap;
 import com.google.common.collect.TreeMultimap;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -64,11 +68,18 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 public class MergeAndroidResourcesStep implements Step {
   private static final Logger LOG = Logger.get(MergeAndroidResourcesStep.class);
 
+  // If we're reenumerating, start at 0x7f01001 so that the resulting file is human readable.
+  // This value range (0x7f010001 - ...) is easier to spot as an actual resource id instead of
+  // other values in styleable which can be enumerated integers starting at 0.
+  private static final int FIRST_ENUMERATED_ID = 0x7f01001;
+
   private final ProjectFilesystem filesystem;
   private final SourcePathResolverAdapter pathResolver;
   private final ImmutableList<HasAndroidResourceDeps> androidResourceDeps;
@@ -82,12 +93,18 @@ public class MergeAndroidResourcesStep implements Step {
   private final boolean useOldStyleableFormat;
   private final ImmutableList<Path> overrideSymbolsPath;
   private final boolean skipNonUnionRDotJava;
+  private final Optional<Path> resourceIdsPath;
 
   /**
    * Merges text symbols files from {@code aapt} for each of the input {@code android_resource} into
    * a set of resources per R.java package and writes an {@code R.java} file per package under the
    * output directory. Also, if {@code uberRDotTxt} is present, the IDs in the output {@code R.java}
    * file will be taken from the {@code R.txt} file.
+   *
+   * <p>Otherwise the IDs are enumerated. If {@code resourceIdsPath} is present, the IDs are
+   * persisted there, and the resources which were already present in the previous merge keep their
+   * IDs, so that only the {@code R.java} files of the packages whose resources changed differ from
+   * the previous merge, and only those are rewritten.
    */
   @VisibleForTesting
   MergeAndroidResourcesStep(
@@ -103,7 +120,8 @@ public class MergeAndroidResourcesStep implements Step {
       Optional<String> unionPackage,
       Optional<String> rName,
       boolean useOldStyleableFormat,
-      boolean skipNonUnionRDotJava) {
+      boolean skipNonUnionRDotJava,
+      Optional<Path> resourceIdsPath) {
     this.filesystem = filesystem;
     this.pathResolver = pathResolver;
     this.androidResourceDeps = ImmutableList.copyOf(androidResourceDeps);
@@ -117,6 +135,7 @@ public class MergeAndroidResourcesStep implements Step {
     this.rName = rName.orElse("R");
     this.useOldStyleableFormat = useOldStyleableFormat;
     this.skipNonUnionRDotJava = skipNonUnionRDotJava;
+    this.resourceIdsPath = resourceIdsPath;
   }
 
   public static MergeAndroidResourcesStep createStepForDummyRDotJava(
@@ -128,7 +147,8 @@ public class MergeAndroidResourcesStep implements Step {
       Optional<String> unionPackage,
       Optional<String> rName,
       boolean useOldStyleableFormat,
-      boolean skipNonUnionRDotJava) {
+      boolean skipNonUnionRDotJava,
+      Optional<Path> resourceIdsPath) {
     return new MergeAndroidResourcesStep(
         filesystem,
         pathResolver,
@@ -142,7 +162,8 @@ public class MergeAndroidResourcesStep implements Step {
         unionPackage,
         rName,
         useOldStyleableFormat,
-        skipNonUnionRDotJava);
+        skipNonUnionRDotJava,
+        resourceIdsPath);
   }
 
   public static MergeAndroidResourcesStep createStepForUberRDotJava(
@@ -168,7 +189,8 @@ public class MergeAndroidResourcesStep implements Step {
         unionPackage,
         /* rName */ Optional.empty(),
         /* useOldStyleableFormat */ false,
-        /* skipNonUnionRDotJava */ false);
+        /* skipNonUnionRDotJava */ false,
+        /* resourceIdsPath */ Optional.empty());
   }
 
   public ImmutableSortedSet<Path> getRDotJavaFiles() {
@@ -240,6 +262,12 @@ public class MergeAndroidResourcesStep implements Step {
               ? ImmutableSet.copyOf(filesystem.readLines(duplicateResourceWhitelistPath.get()))
               : ImmutableSet.of();
 
+      IntEnumerator enumerator =
+          new IntEnumerator(
+              FIRST_ENUMERATED_ID,
+              resourceIdsPath.isPresent()
+                  ? loadResourceIds(resourceIdsPath.get())
+                  : ImmutableMap.of());
       SortedSetMultimap<String, RDotTxtEntry> rDotJavaPackageToResources =
           sortSymbols(
               symbolsFileToRDotJavaPackage,
@@ -249,7 +277,11 @@ public class MergeAndroidResourcesStep implements Step {
               bannedDuplicateResourceTypes,
               duplicateResourceWhitelist,
               filesystem,
-              useOldStyleableFormat);
+              useOldStyleableFormat,
+              enumerator);
+      if (resourceIdsPath.isPresent()) {
+        saveResourceIds(resourceIdsPath.get(), enumerator.getAssignedIds());
+      }
 
       ImmutableSet.Builder<String> requiredPackages = ImmutableSet.builder();
 
@@ -320,13 +352,87 @@ public class MergeAndroidResourcesStep implements Step {
     return Optional.of(symbolsBuilder.build());
   }
 
+  /**
+   * Reads the IDs that resources were given by the previous merge, if there was one. The file is
+   * replaced atomically, so one that doesn't validate was damaged some other way, and is discarded:
+   * every resource then just gets a new ID.
+   */
+  private ImmutableMap<RDotTxtEntry, Integer> loadResourceIds(Path path) {
+    Optional<String> contents = filesystem.readFileIfItExists(path);
+    if (!contents.isPresent() || contents.get().isEmpty()) {
+      return ImmutableMap.of();
+    }
+    if (!contents.get().endsWith("\n")) {
+      return discardResourceIds(path, "it is truncated");
+    }
+    Map<RDotTxtEntry, Integer> ids = new HashMap<>();
+    Set<Integer> assignedIds = new HashSet<>();
+    for (String line : contents.get().split("\n")) {
+      Optional<RDotTxtEntry> entry = RDotTxtEntry.parse(line);
+      if (!entry.isPresent() || !entry.get().idValue.startsWith("0x")) {
+        return discardResourceIds(path, "it has an invalid line: " + line);
+      }
+      int id;
+      try {
+        id = Integer.decode(entry.get().idValue);
+      } catch (NumberFormatException e) {
+        return discardResourceIds(path, "it has an invalid ID: " + line);
+      }
+      if (ids.put(entry.get(), id) != null || !assignedIds.add(id)) {
+        return discardResourceIds(path, "it assigns an ID twice: " + line);
+      }
+    }
+    return ImmutableMap.copyOf(ids);
+  }
+
+  private static ImmutableMap<RDotTxtEntry, Integer> discardResourceIds(Path path, String reason) {
+    LOG.warn("Discarding the resource IDs of the previous merge in %s, as %s.", path, reason);
+    return ImmutableMap.of();
+  }
+
+  /**
+   * Writes the IDs to a temporary file which is then moved over {@code path}, so that a merge which
+   * is interrupted leaves either the previous IDs or the new ones behind.
+   */
+  private void saveResourceIds(Path path, SortedMap<RDotTxtEntry, Integer> ids)
+      throws IOException {
+    StringBuilder contents = new StringBuilder();
+    for (Map.Entry<RDotTxtEntry, Integer> entry : ids.entrySet()) {
+      RDotTxtEntry resource = entry.getKey();
+      contents.append(
+          String.format(
+              "%s %s %s 0x%08x\n",
+              resource.idType, resource.type, resource.name, entry.getValue()));
+    }
+    if (filesystem.readFileIfItExists(path).equals(Optional.of(contents.toString()))) {
+      return;
+    }
+    filesystem.mkdirs(path.getParent());
+    Path temp = filesystem.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+    try {
+      filesystem.writeContentsToPath(contents.toString(), temp);
+      filesystem.move(
+          temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      filesystem.deleteFileAtPathIfExists(temp);
+    }
+  }
+
+  /** Writes {@code contents} to {@code path}, unless the file there already has those contents. */
+  private void writeIfChanged(Path path, String contents) throws IOException {
+    if (!filesystem.readFileIfItExists(path).equals(Optional.of(contents))) {
+      filesystem.writeContentsToPath(contents, path);
+    }
+  }
+
   private void writeEmptyRDotJavaForPackages(
       Set<String> rDotJavaPackages, ProjectFilesystem filesystem) throws IOException {
     for (String rDotJavaPackage : rDotJavaPackages) {
       Path outputFile = getPathToRDotJava(rDotJavaPackage);
       filesystem.mkdirs(outputFile.getParent());
-      filesystem.writeContentsToPath(
-          String.format("package %s;\n\npublic class %s {}\n", rDotJavaPackage, rName), outputFile);
+      writeIfChanged(
+          outputFile,
+          String.format("package %s;\n\npublic class %s {}\n", rDotJavaPackage, rName));
     }
   }
 
@@ -337,8 +443,10 @@ public class MergeAndroidResourcesStep implements Step {
     for (String rDotJavaPackage : packageToResources.keySet()) {
       Path outputFile = getPathToRDotJava(rDotJavaPackage);
       filesystem.mkdirs(outputFile.getParent());
+      // Render the file first, so that it is only rewritten if its resources changed.
+      ByteArrayOutputStream contents = new ByteArrayOutputStream();
       try (ThrowingPrintWriter writer =
-          new ThrowingPrintWriter(filesystem.newFileOutputStream(outputFile))) {
+          new ThrowingPrintWriter(contents, StandardCharsets.UTF_8)) {
         writer.format("package %s;\n\n", rDotJavaPackage);
         writer.format("public class %s {\n", rName);
 
@@ -398,6 +506,7 @@ public class MergeAndroidResourcesStep implements Step {
         // Close the class definition.
         writer.println("}");
       }
+      writeIfChanged(outputFile, new String(contents.toByteArray(), StandardCharsets.UTF_8));
     }
   }
 
@@ -412,15 +521,32 @@ public class MergeAndroidResourcesStep implements Step {
       ProjectFilesystem filesystem,
       boolean useOldStyleableFormat)
       throws DuplicateResourceException {
-    // If we're reenumerating, start at 0x7f01001 so that the resulting file is human readable.
-    // This value range (0x7f010001 - ...) is easier to spot as an actual resource id instead of
-    // other values in styleable which can be enumerated integers starting at 0.
+    return sortSymbols(
+        symbolsFileToRDotJavaPackage,
+        uberRDotTxtIds,
+        symbolsFileToResourceDeps,
+        overrides,
+        bannedDuplicateResourceTypes,
+        duplicateResourceWhitelist,
+        filesystem,
+        useOldStyleableFormat,
+        new IntEnumerator(FIRST_ENUMERATED_ID, ImmutableMap.of()));
+  }
+
+  private static SortedSetMultimap<String, RDotTxtEntry> sortSymbols(
+      Map<Path, String> symbolsFileToRDotJavaPackage,
+      Optional<ImmutableMap<RDotTxtEntry, String>> uberRDotTxtIds,
+      ImmutableMap<Path, HasAndroidResourceDeps> symbolsFileToResourceDeps,
+      Optional<SetMultimap<String, RDotTxtEntry>> overrides,
+      EnumSet<RType> bannedDuplicateResourceTypes,
+      Set<String> duplicateResourceWhitelist,
+      ProjectFilesystem filesystem,
+      boolean useOldStyleableFormat,
+      IntEnumerator enumerator)
+      throws DuplicateResourceException {
     Map<RDotTxtEntry, String> finalIds = null;
-    IntEnumerator enumerator = null;
     if (uberRDotTxtIds.isPresent()) {
       finalIds = uberRDotTxtIds.get();
-    } else {
-      enumerator = new IntEnumerator(0x7f01001);
     }
 
     SortedSetMultimap<String, RDotTxtEntry> rDotJavaPackageToSymbolsFiles = TreeMultimap.create();
@@ -486,7 +612,6 @@ public class MergeAndroidResourcesStep implements Step {
 
         } else if (useOldStyleableFormat) {
           if (resource.idValue.startsWith("0x7f")) {
-            Objects.requireNonNull(enumerator);
             resource = resource.copyWithNewIdValue(String.format("0x%08x", enumerator.next()));
           }
         } else {
@@ -514,8 +639,8 @@ public class MergeAndroidResourcesStep implements Step {
             // Framework resources starts with 0x01 and are constants
             // which should not be assigned a custom R value.
             if (!resource.idValue.startsWith("0x01")) {
-              Objects.requireNonNull(enumerator);
-              resource = resource.copyWithNewIdValue(String.format("0x%08x", enumerator.next()));
+              resource =
+                  resource.copyWithNewIdValue(String.format("0x%08x", enumerator.next(resource)));
             }
 
             // Add resource to cache so that the id value is consistent across all R.txt
@@ -689,17 +814,46 @@ public class MergeAndroidResourcesStep implements Step {
         .resolve(String.format("%s.java", rName));
   }
 
+  /**
+   * Enumerates resource IDs. Resources which were given an ID by a previous merge keep it, and new
+   * resources get IDs past all of those, so that no two resources get the same ID.
+   */
   private static class IntEnumerator {
+    private final ImmutableMap<RDotTxtEntry, Integer> previousIds;
+    private final SortedMap<RDotTxtEntry, Integer> assignedIds;
     private int value;
 
-    IntEnumerator(int start) {
-      value = start;
+    IntEnumerator(int start, ImmutableMap<RDotTxtEntry, Integer> previousIds) {
+      this.previousIds = previousIds;
+      this.assignedIds = new TreeMap<>();
+      this.value = start;
+      for (int previousId : previousIds.values()) {
+        if (previousId >= value) {
+          Preconditions.checkState(previousId < Integer.MAX_VALUE, "Stop goofing off");
+          value = previousId + 1;
+        }
+      }
     }
 
     public int next() {
       Preconditions.checkState(value < Integer.MAX_VALUE, "Stop goofing off");
       return value++;
     }
+
+    /** @return the ID of {@code resource}, which it keeps if a previous merge gave it one. */
+    public int next(RDotTxtEntry resource) {
+      Integer id = previousIds.get(resource);
+      if (id == null) {
+        id = next();
+      }
+      assignedIds.put(resource, id);
+      return id;
+    }
+
+    /** @return the IDs handed out by {@link #next(RDotTxtEntry)}. */
+    public SortedMap<RDotTxtEntry, Integer> getAssignedIds() {
+      return assignedIds;
+    }
   }
 
   @VisibleForTesting
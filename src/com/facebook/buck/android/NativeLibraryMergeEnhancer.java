@@ -23,7 +23,6 @@ import com.facebook.buck.android.toolchain.ndk.TargetCpuType;
 import com.facebook.buck.core.build.context.BuildContext;
 import com.facebook.buck.core.build.execution.context.ExecutionContext;
 import com.facebook.buck.core.cell.CellPathResolver;
-import com.facebook.buck.core.exceptions.HumanReadableException;
 import com.facebook.buck.core.model.BuildTarget;
 import com.facebook.buck.core.model.Flavor;
 import com.facebook.buck.core.model.InternalFlavor;
@@ -34,8 +33,6 @@ import com.facebook.buck.core.rules.ActionGraphBuilder;
 import com.facebook.buck.core.rules.BuildRule;
 import com.facebook.buck.core.sourcepath.BuildTargetSourcePath;
 import com.facebook.buck.core.sourcepath.SourcePath;
-import com.facebook.buck.core.util.graph.MutableDirectedGraph;
-import com.facebook.buck.core.util.graph.TopologicalSort;
 import com.facebook.buck.core.util.immutables.BuckStyleValue;
 import com.facebook.buck.core.util.immutables.BuckStyleValueWithBuilder;
 import com.facebook.buck.cxx.CxxLinkOptions;
@@ -58,7 +55,6 @@ import com.facebook.buck.step.Step;
 import com.facebook.buck.step.StepExecutionResult;
 import com.facebook.buck.step.StepExecutionResults;
 import com.facebook.buck.util.stream.RichStream;
-import com.facebook.buck.util.types.Pair;
 import com.facebook.buck.util.types.Unit;
 import com.google.common.base.Charsets;
 import com.google.common.base.Joiner;
@@ -75,7 +71,6 @@ import com.google.common.collect.ImmutableSortedMap;
 import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Multimap;
-import com.google.common.collect.Sets;
 import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
 import java.io.IOException;
@@ -85,12 +80,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -173,17 +165,16 @@ class NativeLibraryMergeEnhancer {
       }
 
       // Sort by build target here to ensure consistent behavior.
-      Iterable<NativeLinkable> allLinkables =
+      ImmutableList<NativeLinkable> allLinkables =
           allModulesLinkables
               .sorted(Comparator.comparing(NativeLinkable::getBuildTarget))
               .collect(ImmutableList.toImmutableList());
 
       ImmutableSet<NativeLinkable> linkableAssetSet = linkableAssetSetBuilder.build();
-      Map<NativeLinkable, MergedNativeLibraryConstituents> linkableMembership =
-          makeConstituentMap(buildTarget, mergeMap, allLinkables, linkableAssetSet);
-
       Iterable<MergedNativeLibraryConstituents> orderedConstituents =
-          getOrderedMergedConstituents(buildTarget, graphBuilder, linkableMembership);
+          NativeLibraryMergePlan.get(
+                  buildTarget, graphBuilder, mergeMap, allLinkables, linkableAssetSet)
+              .getOrderedConstituents();
 
       Optional<NativeLinkable> glueLinkable = Optional.empty();
       if (nativeLibraryMergeGlue.isPresent()) {
@@ -306,78 +297,6 @@ class NativeLibraryMergeEnhancer {
     return Objects.requireNonNull(module);
   }
 
-  private static Map<NativeLinkable, MergedNativeLibraryConstituents> makeConstituentMap(
-      BuildTarget buildTarget,
-      Map<String, List<Pattern>> mergeMap,
-      Iterable<NativeLinkable> allLinkables,
-      ImmutableSet<NativeLinkable> linkableAssetSet) {
-    List<MergedNativeLibraryConstituents> allConstituents = new ArrayList<>();
-
-    for (Map.Entry<String, List<Pattern>> mergeConfigEntry : mergeMap.entrySet()) {
-      String mergeSoname = mergeConfigEntry.getKey();
-      List<Pattern> patterns = mergeConfigEntry.getValue();
-
-      ImmutableMergedNativeLibraryConstituents.Builder constituentsBuilder =
-          ImmutableMergedNativeLibraryConstituents.builder().setSoname(mergeSoname);
-
-      for (Pattern pattern : patterns) {
-        for (NativeLinkable linkable : allLinkables) {
-          // TODO(dreiss): Might be a good idea to cache .getBuildTarget().toString().
-          if (pattern.matcher(linkable.getBuildTarget().toString()).find()) {
-            constituentsBuilder.addLinkables(linkable);
-          }
-        }
-      }
-
-      allConstituents.add(constituentsBuilder.build());
-    }
-
-    Map<NativeLinkable, MergedNativeLibraryConstituents> linkableMembership = new HashMap<>();
-    for (MergedNativeLibraryConstituents constituents : allConstituents) {
-      boolean hasNonAssets = false;
-      boolean hasAssets = false;
-
-      for (NativeLinkable linkable : constituents.getLinkables()) {
-        if (linkableMembership.containsKey(linkable)) {
-          throw new HumanReadableException(
-              String.format(
-                  "Error: When processing %s, attempted to merge %s into both %s and %s",
-                  buildTarget, linkable, linkableMembership.get(linkable), constituents));
-        }
-        linkableMembership.put(linkable, constituents);
-
-        if (linkableAssetSet.contains(linkable)) {
-          hasAssets = true;
-        } else {
-          hasNonAssets = true;
-        }
-      }
-      if (hasAssets && hasNonAssets) {
-        StringBuilder sb = new StringBuilder();
-        sb.append(
-            String.format(
-                "Error: When processing %s, merged lib '%s' contains both asset and non-asset libraries.\n",
-                buildTarget, constituents));
-        for (NativeLinkable linkable : constituents.getLinkables()) {
-          sb.append(
-              String.format(
-                  "  %s -> %s\n",
-                  linkable, linkableAssetSet.contains(linkable) ? "asset" : "not asset"));
-        }
-        throw new HumanReadableException(sb.toString());
-      }
-    }
-
-    for (NativeLinkable linkable : allLinkables) {
-      if (!linkableMembership.containsKey(linkable)) {
-        linkableMembership.put(
-            linkable,
-            ImmutableMergedNativeLibraryConstituents.builder().addLinkables(linkable).build());
-      }
-    }
-    return linkableMembership;
-  }
-
   /** A simple helper interface for building the soname map. */
   interface SonameMapBuilder {
     void accept(
@@ -387,131 +306,6 @@ class NativeLibraryMergeEnhancer {
         Optional<String> targetName);
   }
 
-  /** Topo-sort the constituents objects so we can process deps first. */
-  private static Iterable<MergedNativeLibraryConstituents> getOrderedMergedConstituents(
-      BuildTarget buildTarget,
-      ActionGraphBuilder graphBuilder,
-      Map<NativeLinkable, MergedNativeLibraryConstituents> linkableMembership) {
-    MutableDirectedGraph<MergedNativeLibraryConstituents> graph = new MutableDirectedGraph<>();
-    for (MergedNativeLibraryConstituents constituents : linkableMembership.values()) {
-      graph.addNode(constituents);
-      for (NativeLinkable constituentLinkable : constituents.getLinkables()) {
-        // For each dep of each constituent of each merged lib...
-        for (NativeLinkable dep :
-            Iterables.concat(
-                constituentLinkable.getNativeLinkableDeps(graphBuilder),
-                constituentLinkable.getNativeLinkableExportedDeps(graphBuilder))) {
-          // If that dep is in a different merged lib, add a dependency.
-          MergedNativeLibraryConstituents mergedDep =
-              Objects.requireNonNull(linkableMembership.get(dep));
-          if (mergedDep != constituents) {
-            graph.addEdge(constituents, mergedDep);
-          }
-        }
-      }
-    }
-
-    // Check for cycles in the merged dependency graph.
-    // If any are found, spent a lot of effort building an error message
-    // that actually shows the dependency cycle.
-    for (ImmutableSet<MergedNativeLibraryConstituents> fullCycle : graph.findCycles()) {
-      HashSet<MergedNativeLibraryConstituents> partialCycle = new LinkedHashSet<>();
-      MergedNativeLibraryConstituents item = fullCycle.iterator().next();
-      while (!partialCycle.contains(item)) {
-        partialCycle.add(item);
-        item =
-            Sets.intersection(ImmutableSet.copyOf(graph.getOutgoingNodesFor(item)), fullCycle)
-                .iterator()
-                .next();
-      }
-
-      StringBuilder cycleString = new StringBuilder().append("[ ");
-      StringBuilder depString = new StringBuilder();
-      boolean foundStart = false;
-      MergedNativeLibraryConstituents prevMember = null;
-      for (MergedNativeLibraryConstituents member : partialCycle) {
-        if (member == item) {
-          foundStart = true;
-        }
-        if (foundStart) {
-          cycleString.append(member);
-          cycleString.append(" -> ");
-        }
-        if (prevMember != null) {
-          Set<Pair<String, String>> depEdges =
-              getRuleDependencies(graphBuilder, linkableMembership, prevMember, member);
-          depString.append(formatRuleDependencies(depEdges, prevMember, member));
-        }
-        prevMember = member;
-      }
-      cycleString.append(item);
-      cycleString.append(" ]");
-
-      Set<Pair<String, String>> depEdges =
-          getRuleDependencies(
-              graphBuilder, linkableMembership, Objects.requireNonNull(prevMember), item);
-      depString.append(formatRuleDependencies(depEdges, Objects.requireNonNull(prevMember), item));
-
-      throw new HumanReadableException(
-          "Error: Dependency cycle detected when merging native libs for "
-              + buildTarget
-              + ": "
-              + cycleString
-              + "\n"
-              + depString);
-    }
-
-    return TopologicalSort.sort(graph);
-  }
-
-  /**
-   * Calculates the actual target dependency edges between two merged libraries. Returns them as
-   * strings for printing.
-   */
-  private static Set<Pair<String, String>> getRuleDependencies(
-      ActionGraphBuilder graphBuilder,
-      Map<NativeLinkable, MergedNativeLibraryConstituents> linkableMembership,
-      MergedNativeLibraryConstituents from,
-      MergedNativeLibraryConstituents to) {
-
-    // We do this work again because we want to avoid storing extraneous information on the
-    // normal path. We know we're iterating over a cycle, so we can afford to do some work to
-    // figure out the actual targets causing it.
-    Set<Pair<String, String>> buildTargets = new LinkedHashSet<>();
-    for (NativeLinkable sourceLinkable : from.getLinkables()) {
-      for (NativeLinkable targetLinkable :
-          Iterables.concat(
-              sourceLinkable.getNativeLinkableDeps(graphBuilder),
-              sourceLinkable.getNativeLinkableExportedDeps(graphBuilder))) {
-        if (linkableMembership.get(targetLinkable) == to) {
-          // Normalize to string names for printing.
-          buildTargets.add(
-              new Pair<>(
-                  sourceLinkable.getBuildTarget().toString(),
-                  targetLinkable.getBuildTarget().toString()));
-        }
-      }
-    }
-    return buildTargets;
-  }
-
-  private static String formatRuleDependencies(
-      Set<Pair<String, String>> edges,
-      MergedNativeLibraryConstituents from,
-      MergedNativeLibraryConstituents to) {
-    StringBuilder depString = new StringBuilder();
-    depString.append("Dependencies between ").append(from).append(" and ").append(to).append(":\n");
-    for (Pair<String, String> ruleEdge : edges) {
-      depString
-          .append("  ")
-          .append(ruleEdge.getFirst())
-          .append(" -> ")
-          .append(ruleEdge.getSecond())
-          .append("\n");
-    }
-    return depString.toString();
-  }
-
   /** Create the final Linkables that will be passed to the later stages of graph enhancement. */
   private static Set<MergedLibNativeLinkable> createLinkables(
       CxxPlatform cxxPlatform,
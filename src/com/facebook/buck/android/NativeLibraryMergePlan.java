@@ -0,0 +1,358 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android;
+
+import com.facebook.buck.android.NativeLibraryMergeEnhancer.MergedNativeLibraryConstituents;
+import com.facebook.buck.core.exceptions.HumanReadableException;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.rules.ActionGraphBuilder;
+import com.facebook.buck.core.util.graph.MutableDirectedGraph;
+import com.facebook.buck.core.util.graph.TopologicalSort;
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.cxx.toolchain.nativelink.NativeLinkable;
+import com.facebook.buck.util.types.Pair;
+import com.google.common.base.Stopwatch;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Which merged library each native linkable of one cpu type goes into, and the order in which the
+ * merged libraries have to be created so that their deps come first.
+ *
+ * <p>Every android_binary (and every flavor of it) with the same merge map and the same native
+ * linkables plans the same merge, so plans are shared between them, keyed by the merge map and the
+ * linkables themselves. Plans are only shared within the action graph builder the linkables come
+ * from, and are dropped along with it.
+ */
+final class NativeLibraryMergePlan {
+  private static final Logger LOG = Logger.get(NativeLibraryMergePlan.class);
+
+  private static final LoadingCache<ActionGraphBuilder, Cache<Key, NativeLibraryMergePlan>> PLANS =
+      CacheBuilder.newBuilder()
+          // Weak keys use reference equality, and don't keep old action graphs, and the linkables
+          // in them, alive.
+          .weakKeys()
+          .build(CacheLoader.from(graphBuilder -> CacheBuilder.newBuilder().softValues().build()));
+
+  private final ImmutableList<MergedNativeLibraryConstituents> orderedConstituents;
+
+  private NativeLibraryMergePlan(
+      ImmutableList<MergedNativeLibraryConstituents> orderedConstituents) {
+    this.orderedConstituents = orderedConstituents;
+  }
+
+  /**
+   * Returns the plan for merging {@code allLinkables}, computing it if no binary has planned the
+   * same merge of the same linkables yet. Errors in the merge map are reported against {@code
+   * buildTarget} and aren't cached.
+   */
+  static NativeLibraryMergePlan get(
+      BuildTarget buildTarget,
+      ActionGraphBuilder graphBuilder,
+      Map<String, List<Pattern>> mergeMap,
+      ImmutableList<NativeLinkable> allLinkables,
+      ImmutableSet<NativeLinkable> linkableAssetSet) {
+    ImmutableMap<String, ImmutableList<Pattern>> patterns =
+        ImmutableMap.copyOf(Maps.transformValues(mergeMap, ImmutableList::copyOf));
+    Cache<Key, NativeLibraryMergePlan> plans = PLANS.getUnchecked(graphBuilder);
+    Key key = new Key(patterns, allLinkables, linkableAssetSet);
+    NativeLibraryMergePlan plan = plans.getIfPresent(key);
+    if (plan != null) {
+      return plan;
+    }
+
+    Stopwatch stopwatch = Stopwatch.createStarted();
+    ImmutableMap<NativeLinkable, MergedNativeLibraryConstituents> linkableMembership =
+        makeConstituentMap(buildTarget, graphBuilder, patterns, allLinkables, linkableAssetSet);
+    plan =
+        new NativeLibraryMergePlan(
+            getOrderedMergedConstituents(buildTarget, graphBuilder, linkableMembership));
+    LOG.debug(
+        "Planned merging %d native linkables into %d libraries for %s in %dms",
+        allLinkables.size(),
+        plan.orderedConstituents.size(),
+        buildTarget,
+        stopwatch.elapsed(TimeUnit.MILLISECONDS));
+    plans.put(key, plan);
+    return plan;
+  }
+
+  /** @return the merged libraries, with the deps of each library before it. */
+  ImmutableList<MergedNativeLibraryConstituents> getOrderedConstituents() {
+    return orderedConstituents;
+  }
+
+  private static ImmutableMap<NativeLinkable, MergedNativeLibraryConstituents> makeConstituentMap(
+      BuildTarget buildTarget,
+      ActionGraphBuilder graphBuilder,
+      ImmutableMap<String, ImmutableList<Pattern>> mergeMap,
+      ImmutableList<NativeLinkable> allLinkables,
+      ImmutableSet<NativeLinkable> linkableAssetSet) {
+    ImmutableList<String> linkableNames =
+        allLinkables.stream()
+            .map(linkable -> linkable.getBuildTarget().toString())
+            .collect(ImmutableList.toImmutableList());
+
+    // Matching the patterns of a merged lib against every linkable is independent of the other
+    // merged libs, so they are matched in parallel when the action graph is built in parallel.
+    Collection<MergedNativeLibraryConstituents> allConstituents =
+        graphBuilder
+            .getParallelizer()
+            .maybeParallelizeTransform(
+                mergeMap.entrySet(),
+                mergeConfigEntry -> {
+                  ImmutableMergedNativeLibraryConstituents.Builder constituentsBuilder =
+                      ImmutableMergedNativeLibraryConstituents.builder()
+                          .setSoname(mergeConfigEntry.getKey());
+                  for (Pattern pattern : mergeConfigEntry.getValue()) {
+                    for (int i = 0; i < allLinkables.size(); i++) {
+                      if (pattern.matcher(linkableNames.get(i)).find()) {
+                        constituentsBuilder.addLinkables(allLinkables.get(i));
+                      }
+                    }
+                  }
+                  return constituentsBuilder.build();
+                });
+
+    Map<NativeLinkable, MergedNativeLibraryConstituents> linkableMembership = new HashMap<>();
+    for (MergedNativeLibraryConstituents constituents : allConstituents) {
+      boolean hasNonAssets = false;
+      boolean hasAssets = false;
+
+      for (NativeLinkable linkable : constituents.getLinkables()) {
+        if (linkableMembership.containsKey(linkable)) {
+          throw new HumanReadableException(
+              String.format(
+                  "Error: When processing %s, attempted to merge %s into both %s and %s",
+                  buildTarget, linkable, linkableMembership.get(linkable), constituents));
+        }
+        linkableMembership.put(linkable, constituents);
+
+        if (linkableAssetSet.contains(linkable)) {
+          hasAssets = true;
+        } else {
+          hasNonAssets = true;
+        }
+      }
+      if (hasAssets && hasNonAssets) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(
+            String.format(
+                "Error: When processing %s, merged lib '%s' contains both asset and non-asset libraries.\n",
+                buildTarget, constituents));
+        for (NativeLinkable linkable : constituents.getLinkables()) {
+          sb.append(
+              String.format(
+                  "  %s -> %s\n",
+                  linkable, linkableAssetSet.contains(linkable) ? "asset" : "not asset"));
+        }
+        throw new HumanReadableException(sb.toString());
+      }
+    }
+
+    for (NativeLinkable linkable : allLinkables) {
+      if (!linkableMembership.containsKey(linkable)) {
+        linkableMembership.put(
+            linkable,
+            ImmutableMergedNativeLibraryConstituents.builder().addLinkables(linkable).build());
+      }
+    }
+    return ImmutableMap.copyOf(linkableMembership);
+  }
+
+  /** Topo-sort the constituents objects so we can process deps first. */
+  private static ImmutableList<MergedNativeLibraryConstituents> getOrderedMergedConstituents(
+      BuildTarget buildTarget,
+      ActionGraphBuilder graphBuilder,
+      Map<NativeLinkable, MergedNativeLibraryConstituents> linkableMembership) {
+    MutableDirectedGraph<MergedNativeLibraryConstituents> graph = new MutableDirectedGraph<>();
+    for (MergedNativeLibraryConstituents constituents : linkableMembership.values()) {
+      graph.addNode(constituents);
+      for (NativeLinkable constituentLinkable : constituents.getLinkables()) {
+        // For each dep of each constituent of each merged lib...
+        for (NativeLinkable dep :
+            Iterables.concat(
+                constituentLinkable.getNativeLinkableDeps(graphBuilder),
+                constituentLinkable.getNativeLinkableExportedDeps(graphBuilder))) {
+          // If that dep is in a different merged lib, add a dependency.
+          MergedNativeLibraryConstituents mergedDep =
+              Objects.requireNonNull(linkableMembership.get(dep));
+          if (mergedDep != constituents) {
+            graph.addEdge(constituents, mergedDep);
+          }
+        }
+      }
+    }
+
+    // Check for cycles in the merged dependency graph.
+    // If any are found, spent a lot of effort building an error message
+    // that actually shows the dependency cycle.
+    for (ImmutableSet<MergedNativeLibraryConstituents> fullCycle : graph.findCycles()) {
+      HashSet<MergedNativeLibraryConstituents> partialCycle = new LinkedHashSet<>();
+      MergedNativeLibraryConstituents item = fullCycle.iterator().next();
+      while (!partialCycle.contains(item)) {
+        partialCycle.add(item);
+        item =
+            Sets.intersection(ImmutableSet.copyOf(graph.getOutgoingNodesFor(item)), fullCycle)
+                .iterator()
+                .next();
+      }
+
+      StringBuilder cycleString = new StringBuilder().append("[ ");
+      StringBuilder depString = new StringBuilder();
+      boolean foundStart = false;
+      MergedNativeLibraryConstituents prevMember = null;
+      for (MergedNativeLibraryConstituents member : partialCycle) {
+        if (member == item) {
+          foundStart = true;
+        }
+        if (foundStart) {
+          cycleString.append(member);
+          cycleString.append(" -> ");
+        }
+        if (prevMember != null) {
+          Set<Pair<String, String>> depEdges =
+              getRuleDependencies(graphBuilder, linkableMembership, prevMember, member);
+          depString.append(formatRuleDependencies(depEdges, prevMember, member));
+        }
+        prevMember = member;
+      }
+      cycleString.append(item);
+      cycleString.append(" ]");
+
+      Set<Pair<String, String>> depEdges =
+          getRuleDependencies(
+              graphBuilder, linkableMembership, Objects.requireNonNull(prevMember), item);
+      depString.append(formatRuleDependencies(depEdges, Objects.requireNonNull(prevMember), item));
+
+      throw new HumanReadableException(
+          "Error: Dependency cycle detected when merging native libs for "
+              + buildTarget
+              + ": "
+              + cycleString
+              + "\n"
+              + depString);
+    }
+
+    return TopologicalSort.sort(graph);
+  }
+
+  /**
+   * Calculates the actual target dependency edges between two merged libraries. Returns them as
+   * strings for printing.
+   */
+  private static Set<Pair<String, String>> getRuleDependencies(
+      ActionGraphBuilder graphBuilder,
+      Map<NativeLinkable, MergedNativeLibraryConstituents> linkableMembership,
+      MergedNativeLibraryConstituents from,
+      MergedNativeLibraryConstituents to) {
+
+    // We do this work again because we want to avoid storing extraneous information on the
+    // normal path. We know we're iterating over a cycle, so we can afford to do some work to
+    // figure out the actual targets causing it.
+    Set<Pair<String, String>> buildTargets = new LinkedHashSet<>();
+    for (NativeLinkable sourceLinkable : from.getLinkables()) {
+      for (NativeLinkable targetLinkable :
+          Iterables.concat(
+              sourceLinkable.getNativeLinkableDeps(graphBuilder),
+              sourceLinkable.getNativeLinkableExportedDeps(graphBuilder))) {
+        if (linkableMembership.get(targetLinkable) == to) {
+          // Normalize to string names for printing.
+          buildTargets.add(
+              new Pair<>(
+                  sourceLinkable.getBuildTarget().toString(),
+                  targetLinkable.getBuildTarget().toString()));
+        }
+      }
+    }
+    return buildTargets;
+  }
+
+  private static String formatRuleDependencies(
+      Set<Pair<String, String>> edges,
+      MergedNativeLibraryConstituents from,
+      MergedNativeLibraryConstituents to) {
+    StringBuilder depString = new StringBuilder();
+    depString.append("Dependencies between ").append(from).append(" and ").append(to).append(":\n");
+    for (Pair<String, String> ruleEdge : edges) {
+      depString
+          .append("  ")
+          .append(ruleEdge.getFirst())
+          .append(" -> ")
+          .append(ruleEdge.getSecond())
+          .append("\n");
+    }
+    return depString.toString();
+  }
+
+  /** Patterns don't implement equals, so merge maps are compared by their regexes and flags. */
+  private static class Key {
+    private final ImmutableMap<String, ImmutableList<Pair<String, Integer>>> mergeMap;
+    private final ImmutableList<NativeLinkable> allLinkables;
+    private final ImmutableSet<NativeLinkable> linkableAssetSet;
+
+    Key(
+        ImmutableMap<String, ImmutableList<Pattern>> mergeMap,
+        ImmutableList<NativeLinkable> allLinkables,
+        ImmutableSet<NativeLinkable> linkableAssetSet) {
+      this.mergeMap =
+          ImmutableMap.copyOf(
+              Maps.transformValues(
+                  mergeMap,
+                  patterns ->
+                      patterns.stream()
+                          .map(pattern -> new Pair<>(pattern.pattern(), pattern.flags()))
+                          .collect(ImmutableList.toImmutableList())));
+      this.allLinkables = allLinkables;
+      this.linkableAssetSet = linkableAssetSet;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (!(other instanceof Key)) {
+        return false;
+      }
+      Key that = (Key) other;
+      return mergeMap.equals(that.mergeMap)
+          && allLinkables.equals(that.allLinkables)
+          && linkableAssetSet.equals(that.linkableAssetSet);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(mergeMap, allLinkables, linkableAssetSet);
+    }
+  }
+}
@@ -62,6 +62,7 @@ import com.facebook.buck.rules.coercer.ManifestEntries;
 import com.facebook.buck.rules.macros.StringWithMacrosConverter;
 import com.facebook.buck.test.config.TestBuckConfig;
 import com.facebook.buck.util.DependencyMode;
+import com.facebook.buck.util.environment.Platform;
 import com.google.common.base.Preconditions;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
@@ -187,7 +188,9 @@ public class RobolectricTestDescription
             args.getResourceUnionPackage(),
             /* rName */ Optional.empty(),
             args.isUseOldStyleableFormat(),
-            /* skipNonUnionRDotJava */ false);
+            /* skipNonUnionRDotJava */ false,
+            new AndroidBuckConfig(javaBuckConfig.getDelegate(), Platform.detect())
+                .shouldAssignResourceIdsIncrementally());
 
     StringWithMacrosConverter macrosConverter =
         StringWithMacrosConverter.of(
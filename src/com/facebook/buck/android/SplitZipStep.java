@@ -27,6 +27,7 @@ import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.step.Step;
 import com.facebook.buck.step.StepExecutionResult;
 import com.facebook.buck.step.StepExecutionResults;
+import com.facebook.buck.util.concurrent.ExecutorPool;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Charsets;
 import com.google.common.base.Joiner;
@@ -48,6 +49,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -185,10 +187,17 @@ public class SplitZipStep implements Step {
             translatorFactory.createNullableObfuscationFunction(),
             filesystem);
 
+    ExecutorService executor = context.getExecutors().get(ExecutorPool.CPU);
     ZipSplitterFactory zipSplitterFactory;
     zipSplitterFactory =
-        new DalvikAwareZipSplitterFactory(
-            dexSplitMode.getLinearAllocHardLimit(), wantedInPrimaryZip);
+        executor == null
+            ? new DalvikAwareZipSplitterFactory(
+                dexSplitMode.getLinearAllocHardLimit(), wantedInPrimaryZip)
+            : new DalvikAwareZipSplitterFactory(
+                dexSplitMode.getLinearAllocHardLimit(),
+                wantedInPrimaryZip,
+                executor,
+                context.getConcurrencyLimit().threadLimit);
 
     outputFiles =
         zipSplitterFactory
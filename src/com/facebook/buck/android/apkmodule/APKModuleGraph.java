@@ -18,7 +18,6 @@ package com.facebook.buck.android.apkmodule;
 
 import com.facebook.buck.core.model.BuildTarget;
 import com.facebook.buck.core.model.targetgraph.TargetGraph;
-import com.facebook.buck.core.model.targetgraph.TargetNode;
 import com.facebook.buck.core.rulekey.AddToRuleKey;
 import com.facebook.buck.core.rulekey.AddsToRuleKey;
 import com.facebook.buck.core.util.graph.AbstractBreadthFirstTraversal;
@@ -31,6 +30,7 @@ import com.facebook.buck.jvm.java.classes.DefaultClasspathTraverser;
 import com.facebook.buck.jvm.java.classes.FileLike;
 import com.facebook.buck.rules.query.Query;
 import com.facebook.buck.util.MoreSuppliers;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -40,12 +40,9 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.collect.ImmutableSortedMap;
 import com.google.common.collect.ImmutableSortedSet;
-import com.google.common.collect.Multimap;
-import com.google.common.collect.MultimapBuilder;
 import com.google.common.collect.Ordering;
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -101,6 +98,9 @@ public class APKModuleGraph implements AddsToRuleKey {
             return mapBuilder.build();
           });
 
+  private final Supplier<APKModuleMembershipIndex> membershipIndexSupplier =
+      MoreSuppliers.memoize(this::generateMembershipIndex);
+
   private final Supplier<APKModule> rootAPKModuleSupplier =
       MoreSuppliers.memoize(this::generateRootModule);
 
@@ -354,9 +354,7 @@ public class APKModuleGraph implements AddsToRuleKey {
     apkModuleGraph.addNode(rootAPKModuleSupplier.get());
 
     if (getSeedConfigMap().isPresent()) {
-      Multimap<BuildTarget, String> targetToContainingApkModulesMap =
-          mapTargetsToContainingModules();
-      generateSharedModules(apkModuleGraph, targetToContainingApkModulesMap);
+      generateSharedModules(apkModuleGraph, membershipIndexSupplier.get());
       // add declared dependencies as well.
       Map<String, APKModule> nameToAPKModules = new HashMap<>();
       for (APKModule node : apkModuleGraph.getNodes()) {
@@ -406,119 +404,46 @@ public class APKModuleGraph implements AddsToRuleKey {
     }
   }
 
+  @VisibleForTesting
+  APKModuleMembershipIndex getMembershipIndex() {
+    return membershipIndexSupplier.get();
+  }
+
+  private APKModuleMembershipIndex generateMembershipIndex() {
+    return APKModuleMembershipIndex.get(
+        targetGraph, target, blacklistedModules, getSeedConfigMap(), getDeclaredDependencyGraph());
+  }
+
   /**
-   * This walks through the target graph starting from the root target and adds all reachable
-   * targets that are not seed targets to the root module
+   * The root module holds all the targets reachable from the root target without going through a
+   * seed target
    *
    * @return The root APK Module
    */
   private APKModule generateRootModule() {
-    Set<BuildTarget> rootTargets = new HashSet<>();
-    if (targetGraph != TargetGraph.EMPTY) {
-      Set<TargetNode<?>> rootNodes = new HashSet<>();
-      rootNodes.add(targetGraph.get(target));
-      if (blacklistedModules.isPresent()) {
-        for (BuildTarget targetModule : blacklistedModules.get()) {
-          rootNodes.add(targetGraph.get(targetModule));
-          rootTargets.add(targetModule);
-        }
-      }
-      new AbstractBreadthFirstTraversal<TargetNode<?>>(rootNodes) {
-        @Override
-        public Iterable<TargetNode<?>> visit(TargetNode<?> node) {
-
-          ImmutableSet.Builder<TargetNode<?>> depsBuilder = ImmutableSet.builder();
-          for (BuildTarget depTarget : node.getBuildDeps()) {
-            if (!isSeedTarget(depTarget)) {
-              depsBuilder.add(targetGraph.get(depTarget));
-              rootTargets.add(depTarget);
-            }
-          }
-          return depsBuilder.build();
-        }
-      }.start();
-    }
     APKModule rootModule = APKModule.of(ROOT_APKMODULE_NAME, true);
-    buildTargetsMap.put(rootModule, ImmutableSet.copyOf(rootTargets));
+    buildTargetsMap.put(rootModule, membershipIndexSupplier.get().getRootTargets());
     return rootModule;
   }
 
-  /**
-   * For each seed target, find its reachable targets and mark them in a multimap as being reachable
-   * by that module for later sorting into exclusive and shared targets
-   *
-   * @return the Multimap containing targets and the seed modules that contain them
-   */
-  private Multimap<BuildTarget, String> mapTargetsToContainingModules() {
-    Multimap<BuildTarget, String> targetToContainingApkModuleNameMap =
-        MultimapBuilder.treeKeys().treeSetValues().build();
-    for (Map.Entry<String, ImmutableList<BuildTarget>> seedConfig :
-        getSeedConfigMap().get().entrySet()) {
-      String seedModuleName = seedConfig.getKey();
-      for (BuildTarget seedTarget : seedConfig.getValue()) {
-        targetToContainingApkModuleNameMap.put(seedTarget, seedModuleName);
-        new AbstractBreadthFirstTraversal<TargetNode<?>>(targetGraph.get(seedTarget)) {
-          @Override
-          public ImmutableSet<TargetNode<?>> visit(TargetNode<?> node) {
-
-            ImmutableSet.Builder<TargetNode<?>> depsBuilder = ImmutableSet.builder();
-            for (BuildTarget depTarget : node.getBuildDeps()) {
-              if (!isInRootModule(depTarget) && !isSeedTarget(depTarget)) {
-                depsBuilder.add(targetGraph.get(depTarget));
-                targetToContainingApkModuleNameMap.put(depTarget, seedModuleName);
-              }
-            }
-            return depsBuilder.build();
-          }
-        }.start();
-      }
-    }
-    // Now to generate the minimal covers of APKModules for each set of APKModules that contain
-    // a buildTarget
-    DirectedAcyclicGraph<String> declaredDependencies = getDeclaredDependencyGraph();
-    Multimap<BuildTarget, String> targetModuleEntriesToRemove =
-        MultimapBuilder.treeKeys().treeSetValues().build();
-    for (BuildTarget key : targetToContainingApkModuleNameMap.keySet()) {
-      Collection<String> modulesForTarget = targetToContainingApkModuleNameMap.get(key);
-      new AbstractBreadthFirstTraversal<String>(modulesForTarget) {
-        @Override
-        public Iterable<String> visit(String moduleName) throws RuntimeException {
-          Collection<String> dependentModules =
-              declaredDependencies.getIncomingNodesFor(moduleName);
-          for (String dependent : dependentModules) {
-            if (modulesForTarget.contains(dependent)) {
-              targetModuleEntriesToRemove.put(key, dependent);
-            }
-          }
-          return dependentModules;
-        }
-      }.start();
-    }
-    for (Map.Entry<BuildTarget, String> entryToRemove : targetModuleEntriesToRemove.entries()) {
-      targetToContainingApkModuleNameMap.remove(entryToRemove.getKey(), entryToRemove.getValue());
-    }
-    return targetToContainingApkModuleNameMap;
-  }
-
   /**
    * Loop through each of the targets we visited while generating seed modules: If the are exclusive
    * to that module, add them to that module. If they are not exclusive to that module, find or
    * create an appropriate shared module and fill out its dependencies
    *
    * @param apkModuleGraph the current graph we're building
-   * @param targetToContainingApkModulesMap the targets mapped to the seed targets they are
-   *     reachable from
+   * @param membershipIndex the index of the seed modules that contain each target
    */
   private void generateSharedModules(
-      MutableDirectedGraph<APKModule> apkModuleGraph,
-      Multimap<BuildTarget, String> targetToContainingApkModulesMap) {
+      MutableDirectedGraph<APKModule> apkModuleGraph, APKModuleMembershipIndex membershipIndex) {
 
     // Sort the module-covers of all targets to determine shared module names.
-    TreeSet<TreeSet<String>> sortedContainingModuleSets =
+    TreeSet<ImmutableSortedSet<String>> sortedContainingModuleSets =
         new TreeSet<>(
-            new Comparator<TreeSet<String>>() {
+            new Comparator<ImmutableSortedSet<String>>() {
               @Override
-              public int compare(TreeSet<String> left, TreeSet<String> right) {
+              public int compare(
+                  ImmutableSortedSet<String> left, ImmutableSortedSet<String> right) {
                 int sizeDiff = left.size() - right.size();
                 if (sizeDiff != 0) {
                   return sizeDiff;
@@ -536,33 +461,25 @@ public class APKModuleGraph implements AddsToRuleKey {
                 return 0;
               }
             });
-    for (Map.Entry<BuildTarget, Collection<String>> entry :
-        targetToContainingApkModulesMap.asMap().entrySet()) {
-      TreeSet<String> containingModuleSet = new TreeSet<>(entry.getValue());
-      sortedContainingModuleSets.add(containingModuleSet);
+    for (BuildTarget moduleTarget : membershipIndex.getModuleTargets()) {
+      sortedContainingModuleSets.add(membershipIndex.getModulesContaining(moduleTarget));
     }
 
     // build modules based on all entries.
     Map<ImmutableSet<String>, APKModule> combinedModuleHashToModuleMap = new HashMap<>();
     int currentId = 0;
-    for (TreeSet<String> moduleCover : sortedContainingModuleSets) {
+    for (ImmutableSortedSet<String> moduleCover : sortedContainingModuleSets) {
       String moduleName =
           moduleCover.size() == 1 ? moduleCover.iterator().next() : "shared" + currentId++;
       APKModule module = APKModule.of(moduleName, modulesWithResources.contains(moduleName));
-      combinedModuleHashToModuleMap.put(ImmutableSet.copyOf(moduleCover), module);
+      combinedModuleHashToModuleMap.put(moduleCover, module);
     }
 
     // add Targets per module;
-    for (Map.Entry<BuildTarget, Collection<String>> entry :
-        targetToContainingApkModulesMap.asMap().entrySet()) {
-      ImmutableSet<String> containingModuleSet = ImmutableSet.copyOf(entry.getValue());
-      for (Map.Entry<ImmutableSet<String>, APKModule> existingEntry :
-          combinedModuleHashToModuleMap.entrySet()) {
-        if (existingEntry.getKey().equals(containingModuleSet)) {
-          getBuildTargets(existingEntry.getValue()).add(entry.getKey());
-          break;
-        }
-      }
+    for (BuildTarget moduleTarget : membershipIndex.getModuleTargets()) {
+      getBuildTargets(
+              combinedModuleHashToModuleMap.get(membershipIndex.getModulesContaining(moduleTarget)))
+          .add(moduleTarget);
     }
 
     // Find the seed modules and add them to the graph
@@ -591,22 +508,6 @@ public class APKModuleGraph implements AddsToRuleKey {
     }
   }
 
-  private boolean isInRootModule(BuildTarget depTarget) {
-    return getBuildTargets(rootAPKModuleSupplier.get()).contains(depTarget);
-  }
-
-  private boolean isSeedTarget(BuildTarget depTarget) {
-    if (!getSeedConfigMap().isPresent()) {
-      return false;
-    }
-    for (List<BuildTarget> targetsPerConfig : getSeedConfigMap().get().values()) {
-      if (targetsPerConfig.contains(depTarget)) {
-        return true;
-      }
-    }
-    return false;
-  }
-
   private static String generateNameFromTarget(BuildTarget androidModuleTarget) {
     String replacementPattern = "[/\\\\#-]";
     String shortName =
@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android.apkmodule;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.targetgraph.TargetGraph;
+import com.facebook.buck.core.model.targetgraph.TargetNode;
+import com.facebook.buck.core.util.graph.AbstractBreadthFirstTraversal;
+import com.facebook.buck.core.util.graph.DirectedAcyclicGraph;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Ordering;
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Which targets of an app belong to its root module, and which seed modules contain each of the
+ * others, reduced to the minimal cover of the declared dependencies between the modules.
+ *
+ * <p>While the index is computed, the modules containing each target are kept as a bit set over
+ * the sorted module names, so that marking targets and reducing the covers doesn't build sets of
+ * names per target. Targets with the same cover share one set of names, so looking up the modules
+ * of a target is a single map lookup.
+ *
+ * <p>Indexes are shared between all the builds in this process, keyed by the module configuration
+ * and the target nodes the app can reach. Builds whose target graphs differ elsewhere, and the
+ * several rules of an app that each make an {@link APKModuleGraph}, reuse the same index.
+ */
+final class APKModuleMembershipIndex {
+
+  private static final Cache<Key, APKModuleMembershipIndex> INDEXES =
+      CacheBuilder.newBuilder().softValues().build();
+
+  private final ImmutableSet<BuildTarget> rootTargets;
+  private final ImmutableMap<BuildTarget, ImmutableSortedSet<String>> modulesByTarget;
+
+  private APKModuleMembershipIndex(
+      ImmutableSet<BuildTarget> rootTargets,
+      ImmutableMap<BuildTarget, ImmutableSortedSet<String>> modulesByTarget) {
+    this.rootTargets = rootTargets;
+    this.modulesByTarget = modulesByTarget;
+  }
+
+  /**
+   * Returns the index of the app at {@code target}, computing it if no build in this process has
+   * computed it for the same configuration and target nodes yet.
+   */
+  static APKModuleMembershipIndex get(
+      TargetGraph targetGraph,
+      BuildTarget target,
+      Optional<List<BuildTarget>> blacklistedModules,
+      Optional<ImmutableMap<String, ImmutableList<BuildTarget>>> seedConfigMap,
+      DirectedAcyclicGraph<String> declaredDependencies) {
+    if (targetGraph == TargetGraph.EMPTY) {
+      return new APKModuleMembershipIndex(ImmutableSet.of(), ImmutableMap.of());
+    }
+    Key key =
+        new Key(
+            target,
+            blacklistedModules,
+            seedConfigMap,
+            declaredDependencies,
+            getReachableNodes(targetGraph, target, blacklistedModules, seedConfigMap));
+    try {
+      return INDEXES.get(
+          key,
+          () ->
+              compute(
+                  targetGraph,
+                  target,
+                  blacklistedModules.orElse(ImmutableList.of()),
+                  seedConfigMap.orElse(ImmutableMap.of()),
+                  declaredDependencies));
+    } catch (ExecutionException e) {
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  /** @return the targets in the root module, which aren't in any other module. */
+  ImmutableSet<BuildTarget> getRootTargets() {
+    return rootTargets;
+  }
+
+  /**
+   * @return the names of the seed modules whose minimal cover contains {@code target}, which are
+   *     the same instance for all targets with the same cover.
+   */
+  ImmutableSortedSet<String> getModulesContaining(BuildTarget target) {
+    ImmutableSortedSet<String> modules = modulesByTarget.get(target);
+    return modules == null ? ImmutableSortedSet.of() : modules;
+  }
+
+  /** @return the targets in seed or shared modules. */
+  ImmutableSet<BuildTarget> getModuleTargets() {
+    return modulesByTarget.keySet();
+  }
+
+  private static ImmutableSet<TargetNode<?>> getReachableNodes(
+      TargetGraph targetGraph,
+      BuildTarget target,
+      Optional<List<BuildTarget>> blacklistedModules,
+      Optional<ImmutableMap<String, ImmutableList<BuildTarget>>> seedConfigMap) {
+    Set<BuildTarget> visited = new HashSet<>();
+    Deque<BuildTarget> queue = new ArrayDeque<>();
+    queue.add(target);
+    blacklistedModules.ifPresent(queue::addAll);
+    seedConfigMap.ifPresent(map -> map.values().forEach(queue::addAll));
+    ImmutableSet.Builder<TargetNode<?>> nodes = ImmutableSet.builder();
+    while (!queue.isEmpty()) {
+      BuildTarget next = queue.remove();
+      if (visited.add(next)) {
+        TargetNode<?> node = targetGraph.get(next);
+        nodes.add(node);
+        queue.addAll(node.getBuildDeps());
+      }
+    }
+    return nodes.build();
+  }
+
+  private static APKModuleMembershipIndex compute(
+      TargetGraph targetGraph,
+      BuildTarget target,
+      List<BuildTarget> blacklistedModules,
+      ImmutableMap<String, ImmutableList<BuildTarget>> seedConfigMap,
+      DirectedAcyclicGraph<String> declaredDependencies) {
+    Set<BuildTarget> seedTargets = new HashSet<>();
+    seedConfigMap.values().forEach(seedTargets::addAll);
+
+    // Everything reachable from the app without going through a seed is in the root module.
+    Set<BuildTarget> rootTargets = new HashSet<>(blacklistedModules);
+    Set<TargetNode<?>> rootNodes = new HashSet<>();
+    rootNodes.add(targetGraph.get(target));
+    for (BuildTarget blacklisted : blacklistedModules) {
+      rootNodes.add(targetGraph.get(blacklisted));
+    }
+    new AbstractBreadthFirstTraversal<TargetNode<?>>(rootNodes) {
+      @Override
+      public Iterable<TargetNode<?>> visit(TargetNode<?> node) {
+        ImmutableSet.Builder<TargetNode<?>> depsBuilder = ImmutableSet.builder();
+        for (BuildTarget depTarget : node.getBuildDeps()) {
+          if (!seedTargets.contains(depTarget)) {
+            depsBuilder.add(targetGraph.get(depTarget));
+            rootTargets.add(depTarget);
+          }
+        }
+        return depsBuilder.build();
+      }
+    }.start();
+
+    // Mark the targets reachable from the seeds of each module with the bit of that module.
+    ImmutableList<String> moduleNames = ImmutableSortedSet.copyOf(seedConfigMap.keySet()).asList();
+    Map<String, Integer> moduleBits = new HashMap<>();
+    for (int module = 0; module < moduleNames.size(); module++) {
+      moduleBits.put(moduleNames.get(module), module);
+    }
+    Map<BuildTarget, BitSet> modulesByTarget = new LinkedHashMap<>();
+    for (int module = 0; module < moduleNames.size(); module++) {
+      int bit = module;
+      ImmutableList<BuildTarget> seeds = seedConfigMap.get(moduleNames.get(module));
+      seeds.forEach(seed -> modulesByTarget.computeIfAbsent(seed, t -> new BitSet()).set(bit));
+      new AbstractBreadthFirstTraversal<TargetNode<?>>(targetGraph.getAll(seeds)) {
+        @Override
+        public Iterable<TargetNode<?>> visit(TargetNode<?> node) {
+          ImmutableSet.Builder<TargetNode<?>> depsBuilder = ImmutableSet.builder();
+          for (BuildTarget depTarget : node.getBuildDeps()) {
+            if (!rootTargets.contains(depTarget) && !seedTargets.contains(depTarget)) {
+              depsBuilder.add(targetGraph.get(depTarget));
+              modulesByTarget.computeIfAbsent(depTarget, t -> new BitSet()).set(bit);
+            }
+          }
+          return depsBuilder.build();
+        }
+      }.start();
+    }
+
+    // A module that depends on another module containing a target doesn't need to contain it too,
+    // so drop all the modules that transitively depend on another module of the target.
+    BitSet[] dependents = new BitSet[moduleNames.size()];
+    for (int module = 0; module < moduleNames.size(); module++) {
+      BitSet moduleDependents = new BitSet();
+      new AbstractBreadthFirstTraversal<String>(moduleNames.get(module)) {
+        @Override
+        public Iterable<String> visit(String moduleName) {
+          ImmutableSet<String> dependentModules =
+              declaredDependencies.getIncomingNodesFor(moduleName);
+          for (String dependent : dependentModules) {
+            moduleDependents.set(moduleBits.get(dependent));
+          }
+          return dependentModules;
+        }
+      }.start();
+      dependents[module] = moduleDependents;
+    }
+
+    Map<BitSet, ImmutableSortedSet<String>> covers = new HashMap<>();
+    ImmutableMap.Builder<BuildTarget, ImmutableSortedSet<String>> result =
+        ImmutableMap.builderWithExpectedSize(modulesByTarget.size());
+    BitSet covered = new BitSet();
+    for (Map.Entry<BuildTarget, BitSet> entry : modulesByTarget.entrySet()) {
+      BitSet modules = entry.getValue();
+      covered.clear();
+      modules.stream().forEach(module -> covered.or(dependents[module]));
+      modules.andNot(covered);
+      ImmutableSortedSet<String> cover =
+          covers.computeIfAbsent(
+              modules,
+              bits ->
+                  bits.stream()
+                      .mapToObj(moduleNames::get)
+                      .collect(ImmutableSortedSet.toImmutableSortedSet(Ordering.natural())));
+      result.put(entry.getKey(), cover);
+    }
+    return new APKModuleMembershipIndex(ImmutableSet.copyOf(rootTargets), result.build());
+  }
+
+  private static class Key {
+    private final BuildTarget target;
+    private final Optional<List<BuildTarget>> blacklistedModules;
+    private final Optional<ImmutableMap<String, ImmutableList<BuildTarget>>> seedConfigMap;
+    private final DirectedAcyclicGraph<String> declaredDependencies;
+    private final ImmutableSet<TargetNode<?>> reachableNodes;
+
+    Key(
+        BuildTarget target,
+        Optional<List<BuildTarget>> blacklistedModules,
+        Optional<ImmutableMap<String, ImmutableList<BuildTarget>>> seedConfigMap,
+        DirectedAcyclicGraph<String> declaredDependencies,
+        ImmutableSet<TargetNode<?>> reachableNodes) {
+      this.target = target;
+      this.blacklistedModules = blacklistedModules;
+      this.seedConfigMap = seedConfigMap;
+      this.declaredDependencies = declaredDependencies;
+      this.reachableNodes = reachableNodes;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (!(other instanceof Key)) {
+        return false;
+      }
+      Key that = (Key) other;
+      return target.equals(that.target)
+          && blacklistedModules.equals(that.blacklistedModules)
+          && seedConfigMap.equals(that.seedConfigMap)
+          && declaredDependencies.equals(that.declaredDependencies)
+          && reachableNodes.equals(that.reachableNodes);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(
+          target, blacklistedModules, seedConfigMap, declaredDependencies, reachableNodes);
+    }
+  }
+}
@@ -19,6 +19,7 @@ package com.facebook.buck.android.dalvik;
 import com.facebook.buck.android.apkmodule.APKModule;
 import com.facebook.buck.core.exceptions.HumanReadableException;
 import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.io.file.MorePaths;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.jvm.java.classes.AbstractFileLike;
 import com.facebook.buck.jvm.java.classes.ClasspathTraversal;
@@ -29,10 +30,9 @@ import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.io.ByteStreams;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -41,7 +41,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Predicate;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import javax.annotation.Nullable;
 
 /**
@@ -72,6 +75,8 @@ public class DalvikAwareZipSplitter implements ZipSplitter {
   private final Path reportDir;
   private final long linearAllocLimit;
   private final DalvikStatsCache dalvikStatsCache;
+  private final ExecutorService executor;
+  private final int parallelism;
   private final DexSplitStrategy dexSplitStrategy;
   private final ImmutableSet<String> secondaryHeadSet;
   private final ImmutableSet<String> secondaryTailSet;
@@ -80,6 +85,7 @@ public class DalvikAwareZipSplitter implements ZipSplitter {
   private final MySecondaryDexHelper secondaryDexWriter;
   private final Map<APKModule, MySecondaryDexHelper> additionalDexWriters;
   private final APKModule rootModule;
+  private final Map<Path, ZipFile> openArchives = new HashMap<>();
 
   @Nullable private DalvikAwareOutputStreamHelper primaryOut;
 
@@ -98,7 +104,9 @@ public class DalvikAwareZipSplitter implements ZipSplitter {
       ImmutableMultimap<APKModule, String> additionalDexStoreSets,
       APKModule rootAPKModule,
       DexSplitStrategy dexSplitStrategy,
-      Path reportDir) {
+      Path reportDir,
+      ExecutorService executor,
+      int parallelism) {
     if (linearAllocLimit <= 0) {
       throw new HumanReadableException("linear_alloc_hard_limit must be greater than zero.");
     }
@@ -128,6 +136,8 @@ public class DalvikAwareZipSplitter implements ZipSplitter {
     this.dexSplitStrategy = dexSplitStrategy;
     this.linearAllocLimit = linearAllocLimit;
     this.dalvikStatsCache = new DalvikStatsCache();
+    this.executor = executor;
+    this.parallelism = parallelism;
   }
 
   public static DalvikAwareZipSplitter splitZip(
@@ -145,7 +155,9 @@ public class DalvikAwareZipSplitter implements ZipSplitter {
       ImmutableMultimap<APKModule, String> additionalDexStoreSets,
       APKModule rootAPKModule,
       DexSplitStrategy dexSplitStrategy,
-      Path reportDir) {
+      Path reportDir,
+      ExecutorService executor,
+      int parallelism) {
     return new DalvikAwareZipSplitter(
         filesystem,
         inFiles,
@@ -161,11 +173,29 @@ public class DalvikAwareZipSplitter implements ZipSplitter {
         additionalDexStoreSets,
         rootAPKModule,
         dexSplitStrategy,
-        reportDir);
+        reportDir,
+        executor,
+        parallelism);
   }
 
   @Override
   public ImmutableMultimap<APKModule, Path> execute() throws IOException {
+    try {
+      return split();
+    } finally {
+      for (ZipFile archive : openArchives.values()) {
+        archive.close();
+      }
+      openArchives.clear();
+    }
+  }
+
+  private ImmutableMultimap<APKModule, Path> split() throws IOException {
+    // Analyzing the classes is what takes the most time, and unlike the split it can be done in
+    // parallel.
+    LOG.verbose("Computing stats of classes");
+    dalvikStatsCache.computeStats(inFiles, filesystem, executor, parallelism);
+
     ClasspathTraverser classpathTraverser = new DefaultClasspathTraverser();
     Set<String> secondaryTail = new HashSet<String>();
 
@@ -200,9 +230,9 @@ public class DalvikAwareZipSplitter implements ZipSplitter {
               primaryOut.putEntry(entry);
             } else if (wantedInPrimaryZip.contains(relativePath)
                 || (secondaryHeadSet != null && secondaryHeadSet.contains(relativePath))) {
-              entriesBuilder.put(relativePath, new BufferedFileLike(entry));
+              entriesBuilder.put(relativePath, new DeferredFileLike(entry));
             } else if (secondaryTailSet != null && secondaryTailSet.contains(relativePath)) {
-              entriesBuilder.put(relativePath, new BufferedFileLike(entry));
+              entriesBuilder.put(relativePath, new DeferredFileLike(entry));
               secondaryTail.add(relativePath);
             } else {
               ImmutableCollection<APKModule> containingModule = classPathToDexStore.get(classPath);
@@ -321,18 +351,28 @@ public class DalvikAwareZipSplitter implements ZipSplitter {
     }
   }
 
-  private static class BufferedFileLike extends AbstractFileLike {
+  private ZipFile openArchive(Path archive) throws IOException {
+    ZipFile zipFile = openArchives.get(archive);
+    if (zipFile == null) {
+      zipFile = new ZipFile(archive.toFile());
+      openArchives.put(archive, zipFile);
+    }
+    return zipFile;
+  }
+
+  /**
+   * An entry which is read again from its container when it is written, rather than held in memory
+   * from the first pass through the classpath until then.
+   */
+  private class DeferredFileLike extends AbstractFileLike {
     private final Path container;
     private final String relativePath;
-    private final byte[] contents;
+    private final long size;
 
-    public BufferedFileLike(FileLike original) throws IOException {
+    public DeferredFileLike(FileLike original) throws IOException {
       this.container = original.getContainer();
       this.relativePath = original.getRelativePath();
-
-      try (InputStream stream = original.getInput()) {
-        contents = ByteStreams.toByteArray(stream);
-      }
+      this.size = original.getSize();
     }
 
     @Override
@@ -347,12 +387,22 @@ public class DalvikAwareZipSplitter implements ZipSplitter {
 
     @Override
     public long getSize() {
-      return contents.length;
+      return size;
     }
 
     @Override
-    public InputStream getInput() {
-      return new ByteArrayInputStream(contents);
+    public InputStream getInput() throws IOException {
+      // Classes in directories are their own container.
+      String extension = MorePaths.getFileExtension(container);
+      if (!extension.equalsIgnoreCase("jar") && !extension.equalsIgnoreCase("zip")) {
+        return Files.newInputStream(container);
+      }
+      ZipFile archive = openArchive(container);
+      ZipEntry entry = archive.getEntry(relativePath);
+      if (entry == null) {
+        throw new IOException(String.format("%s disappeared from %s", relativePath, container));
+      }
+      return archive.getInputStream(entry);
     }
   }
 }
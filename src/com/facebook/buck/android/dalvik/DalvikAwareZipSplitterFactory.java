@@ -20,18 +20,37 @@ import com.facebook.buck.android.apkmodule.APKModule;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.nio.file.Path;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Predicate;
 
 public class DalvikAwareZipSplitterFactory implements ZipSplitterFactory {
 
   private final long linearAllocLimit;
   private final Set<String> wantedInPrimaryZip;
+  private final ExecutorService executor;
+  private final int parallelism;
 
   public DalvikAwareZipSplitterFactory(long linearAllocLimit, Set<String> wantedInPrimaryZip) {
+    this(linearAllocLimit, wantedInPrimaryZip, MoreExecutors.newDirectExecutorService(), 1);
+  }
+
+  /**
+   * @param executor runs the helpers which compute the stats of classes.
+   * @param parallelism the number of threads, including the one splitting, which compute the stats
+   *     of classes.
+   */
+  public DalvikAwareZipSplitterFactory(
+      long linearAllocLimit,
+      Set<String> wantedInPrimaryZip,
+      ExecutorService executor,
+      int parallelism) {
     this.linearAllocLimit = linearAllocLimit;
     this.wantedInPrimaryZip = wantedInPrimaryZip;
+    this.executor = executor;
+    this.parallelism = parallelism;
   }
 
   @Override
@@ -64,6 +83,8 @@ public class DalvikAwareZipSplitterFactory implements ZipSplitterFactory {
         additionalDexStoreSets,
         rootAPKModule,
         dexSplitStrategy,
-        reportDir);
+        reportDir,
+        executor,
+        parallelism);
   }
 }
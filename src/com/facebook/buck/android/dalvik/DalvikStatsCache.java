@@ -16,25 +16,63 @@
 
 package com.facebook.buck.android.dalvik;
 
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.jvm.java.classes.ClasspathTraversal;
 import com.facebook.buck.jvm.java.classes.FileLike;
-import com.google.common.collect.MapMaker;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
 
-/** Cache to memoize results from DalvikStatsTool. */
+/**
+ * Cache to memoize results from DalvikStatsTool.
+ *
+ * <p>Stats are kept by the hash of the class they are for, across all splits in this process, so
+ * that only the classes which changed since the last split have to be analyzed again. Within a
+ * split they are also kept by the entry they were computed for, so that they can be looked up
+ * without reading the entry again.
+ */
 class DalvikStatsCache {
 
-  private final ConcurrentMap<FileLike, DalvikStatsTool.Stats> cache;
+  /** How many bytes of classes may wait for their stats to be computed by other threads. */
+  private static final int MAX_PENDING_BYTES = 64 * 1024 * 1024;
+
+  private static final Cache<HashCode, DalvikStatsTool.Stats> STATS_BY_CLASS =
+      CacheBuilder.newBuilder().softValues().build();
+
+  private final Cache<HashCode, DalvikStatsTool.Stats> statsByClass;
+  private final ConcurrentMap<String, DalvikStatsTool.Stats> statsByEntry;
 
   DalvikStatsCache() {
-    cache = new MapMaker().weakKeys().makeMap();
+    this(STATS_BY_CLASS);
+  }
+
+  @VisibleForTesting
+  DalvikStatsCache(Cache<HashCode, DalvikStatsTool.Stats> statsByClass) {
+    this.statsByClass = statsByClass;
+    this.statsByEntry = new ConcurrentHashMap<>();
   }
 
   DalvikStatsTool.Stats getStats(FileLike entry) {
-    String[] pathParts = entry.getRelativePath().split("/");
-    String name = pathParts[pathParts.length-1];
-    if (!name.endsWith(".class") || name.equals("module-info.class")) {
+    if (!isClass(entry)) {
       // Probably something like a pom.properties file in a JAR: this does not contribute
       // to the linear alloc size, so return zero.
       // skipping special class files like module descriptor - here no classes will be
@@ -42,19 +80,155 @@ class DalvikStatsCache {
       return DalvikStatsTool.Stats.ZERO;
     }
 
-    DalvikStatsTool.Stats stats = cache.get(entry);
+    DalvikStatsTool.Stats stats = statsByEntry.get(getKey(entry));
     if (stats != null) {
       return stats;
     }
 
     try (InputStream is = entry.getInput()) {
-      stats = DalvikStatsTool.getEstimate(is);
-      cache.put(entry, stats);
+      stats = getStats(entry, ByteStreams.toByteArray(is));
+      statsByEntry.put(getKey(entry), stats);
       return stats;
     } catch (IOException e) {
-      throw new RuntimeException(String.format("Error calculating size for %s.", name), e);
+      throw new RuntimeException(String.format("Error calculating size for %s.", entry), e);
+    }
+  }
+
+  /**
+   * Computes the stats of all classes in {@code inFiles} ahead of the split, on up to {@code
+   * parallelism} threads. The calling thread reads the classes, and helpers on {@code executor}
+   * analyze those that aren't cached yet. Classes are read one at a time, and the calling thread
+   * analyzes them itself while too many of them wait for the helpers, so that the inputs are never
+   * all held in memory, even when the helpers don't get to run.
+   */
+  void computeStats(
+      Set<Path> inFiles, ProjectFilesystem filesystem, ExecutorService executor, int parallelism)
+      throws IOException {
+    Preconditions.checkArgument(parallelism > 0);
+    BlockingQueue<PendingClass> pendingClasses = new LinkedBlockingQueue<>();
+    Semaphore pendingBytes = new Semaphore(MAX_PENDING_BYTES);
+    AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+    List<Future<?>> helpers = new ArrayList<>(parallelism - 1);
+    for (int i = 1; i < parallelism; i++) {
+      helpers.add(
+          executor.submit(
+              () -> {
+                try {
+                  for (PendingClass pendingClass = pendingClasses.take();
+                      pendingClass != PendingClass.END;
+                      pendingClass = pendingClasses.take()) {
+                    analyze(pendingClass, pendingBytes, failure);
+                  }
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                }
+              }));
+    }
+
+    try {
+      new ClasspathTraversal(inFiles, filesystem) {
+        @Override
+        public void visit(FileLike entry) throws IOException {
+          if (!isClass(entry) || failure.get() != null) {
+            return;
+          }
+          byte[] contents;
+          try (InputStream is = entry.getInput()) {
+            contents = ByteStreams.toByteArray(is);
+          }
+          int permits = Math.min(contents.length, MAX_PENDING_BYTES);
+          if (!helpers.isEmpty() && pendingBytes.tryAcquire(permits)) {
+            pendingClasses.add(
+                new PendingClass(getKey(entry), entry.toString(), contents, permits));
+          } else {
+            analyze(
+                new PendingClass(getKey(entry), entry.toString(), contents, 0),
+                pendingBytes,
+                failure);
+          }
+        }
+      }.traverse();
+
+      // Help with what is left, and wait for the helpers to finish the classes they took.
+      for (PendingClass pendingClass = pendingClasses.poll();
+          pendingClass != null;
+          pendingClass = pendingClasses.poll()) {
+        analyze(pendingClass, pendingBytes, failure);
+      }
+      pendingBytes.acquireUninterruptibly(MAX_PENDING_BYTES);
+    } finally {
+      for (Future<?> helper : helpers) {
+        pendingClasses.add(PendingClass.END);
+        helper.cancel(false);
+      }
+    }
+
+    RuntimeException error = failure.get();
+    if (error != null) {
+      throw error;
+    }
+  }
+
+  private void analyze(
+      PendingClass pendingClass,
+      Semaphore pendingBytes,
+      AtomicReference<RuntimeException> failure) {
+    try {
+      if (failure.get() == null) {
+        statsByEntry.put(pendingClass.key, getStats(pendingClass.name, pendingClass.contents));
+      }
     } catch (RuntimeException e) {
+      failure.compareAndSet(null, e);
+    } finally {
+      pendingBytes.release(pendingClass.permits);
+    }
+  }
+
+  private DalvikStatsTool.Stats getStats(FileLike entry, byte[] contents) {
+    return getStats(entry.toString(), contents);
+  }
+
+  private DalvikStatsTool.Stats getStats(String name, byte[] contents) {
+    HashCode hash = Hashing.sha1().hashBytes(contents);
+    DalvikStatsTool.Stats stats = statsByClass.getIfPresent(hash);
+    if (stats != null) {
+      return stats;
+    }
+
+    try {
+      stats = DalvikStatsTool.getEstimate(new ByteArrayInputStream(contents));
+    } catch (IOException | RuntimeException e) {
       throw new RuntimeException(String.format("Error calculating size for %s.", name), e);
     }
+    statsByClass.put(hash, stats);
+    return stats;
+  }
+
+  private static boolean isClass(FileLike entry) {
+    String[] pathParts = entry.getRelativePath().split("/");
+    String name = pathParts[pathParts.length - 1];
+    return name.endsWith(".class") && !name.equals("module-info.class");
+  }
+
+  private static String getKey(FileLike entry) {
+    return entry.getContainer() + "!/" + entry.getRelativePath();
+  }
+
+  /** A class read by {@link #computeStats} which is waiting for a helper to analyze it. */
+  private static class PendingClass {
+    private static final PendingClass END = new PendingClass("", "", new byte[0], 0);
+
+    private final String key;
+    private final String name;
+    private final byte[] contents;
+    private final int permits;
+
+    PendingClass(String key, String name, byte[] contents, int permits) {
+      this.key = key;
+      this.name = name;
+      this.contents = contents;
+      this.permits = permits;
+    }
   }
 }
@@ -17,12 +17,14 @@
 package com.facebook.buck.android.exopackage;
 
 import com.android.ddmlib.InstallException;
+import com.facebook.buck.util.types.Pair;
 import com.google.common.collect.ImmutableSortedSet;
 import java.io.File;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
 
 public interface AndroidDevice {
   default boolean installApkOnDevice(File apk, boolean installViaSd, boolean quiet) {
@@ -50,6 +52,22 @@ public interface AndroidDevice {
 
   void mkDirP(String dirpath) throws Exception;
 
+  /** @return the contents of a small text file on the device, or empty if it doesn't exist. */
+  Optional<String> readFile(Path path) throws Exception;
+
+  /**
+   * Reads a small text file on the device and counts the files, other than hidden ones, in a
+   * directory and its subdirectories, in a single round trip.
+   *
+   * @return the contents of the file, or empty if it doesn't exist, and the number of files, or
+   *     empty if the device can't count them.
+   */
+  Pair<Optional<String>, OptionalInt> readFileAndCountFiles(Path path, Path dirPath)
+      throws Exception;
+
+  /** Replaces the contents of a file on the device with a single line of plain text. */
+  void writeFile(Path path, String line) throws Exception;
+
   String getProperty(String name) throws Exception;
 
   List<String> getDeviceAbis() throws Exception;
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android.exopackage;
+
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.util.types.Pair;
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Ordering;
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * The files in the exopackage directory of a device, as last seen or written by this checkout, kept
+ * in buck-out so that installs don't have to list the directory on the device again. For metadata
+ * files, which aren't named by their contents, the manifest also keeps the hash of their contents,
+ * so that they are only pushed again when they change.
+ *
+ * <p>Whenever a manifest is recorded, a random token is also written to the device. The manifest is
+ * only trusted while the device holds the same token, so that anything else changing the directory
+ * (another checkout or host, or an interrupted install) makes the next install list it again. The
+ * token is removed before files are deleted or metadata is overwritten, and written again once the
+ * directory matches the manifest. Files that are only added, which are named by their contents,
+ * don't need it removed: if the manifest misses them, they are just pushed again. As a cheap check
+ * that the token wasn't left behind by mistake, the number of files on the device must also match.
+ */
+public class ExopackageDeviceManifest {
+  private static final Logger LOG = Logger.get(ExopackageDeviceManifest.class);
+
+  /** Hidden, so that the directory listings on the device don't include it. */
+  public static final Path TOKEN_PATH =
+      ExopackageInstaller.EXOPACKAGE_INSTALL_ROOT.resolve(".buck_manifest_token");
+
+  private static final String UNKNOWN_HASH = "-";
+
+  /** The token the device holds, or empty if it may not hold any that matches. */
+  private final String token;
+  /** The hash of the contents of each file, by path relative to the install root. */
+  private final ImmutableSortedMap<Path, String> files;
+
+  private ExopackageDeviceManifest(String token, ImmutableSortedMap<Path, String> files) {
+    this.token = token;
+    this.files = files;
+  }
+
+  /**
+   * Returns the manifest of the device, which is read from buck-out if the device still holds its
+   * token, or else is made by listing the exopackage directory on the device.
+   */
+  public static ExopackageDeviceManifest read(ProjectFilesystem filesystem, AndroidDevice device)
+      throws Exception {
+    Optional<ExopackageDeviceManifest> manifest = load(filesystem, device.getSerialNumber());
+    if (manifest.isPresent() && manifest.get().isRecorded()) {
+      // Counting the files is much cheaper than listing them, and catches files that were deleted
+      // or added by anything which left the token in place. Devices that can't count them are
+      // always listed.
+      Pair<Optional<String>, OptionalInt> tokenAndCount =
+          device.readFileAndCountFiles(TOKEN_PATH, ExopackageInstaller.EXOPACKAGE_INSTALL_ROOT);
+      if (tokenAndCount.getFirst().map(String::trim).equals(Optional.of(manifest.get().token))
+          && tokenAndCount.getSecond().equals(OptionalInt.of(manifest.get().files.size()))) {
+        LOG.debug("Using the recorded exopackage manifest of %s", device.getSerialNumber());
+        return manifest.get();
+      }
+    }
+
+    LOG.debug("Listing the exopackage directory of %s", device.getSerialNumber());
+    device.mkDirP(ExopackageInstaller.EXOPACKAGE_INSTALL_ROOT.toString());
+    ImmutableSortedMap.Builder<Path, String> files = ImmutableSortedMap.naturalOrder();
+    for (Path path : device.listDirRecursive(ExopackageInstaller.EXOPACKAGE_INSTALL_ROOT)) {
+      if (!ExopackageInstaller.EXOPACKAGE_INSTALL_ROOT.resolve(path).equals(TOKEN_PATH)) {
+        files.put(path, UNKNOWN_HASH);
+      }
+    }
+    ExopackageDeviceManifest listed = new ExopackageDeviceManifest("", files.build());
+    listed.save(filesystem, device.getSerialNumber());
+    return listed;
+  }
+
+  /**
+   * Returns the manifest that was last read or recorded for the device with {@code serial}, without
+   * checking that the device still matches it.
+   */
+  public static Optional<ExopackageDeviceManifest> load(
+      ProjectFilesystem filesystem, String serial) throws IOException {
+    Optional<List<String>> lines =
+        filesystem
+            .readFileIfItExists(getPath(filesystem, serial))
+            .map(contents -> Splitter.on('\n').splitToList(contents));
+    if (!lines.isPresent()) {
+      return Optional.empty();
+    }
+    // The first line holds the token, which may be empty.
+    ImmutableSortedMap.Builder<Path, String> files = ImmutableSortedMap.naturalOrder();
+    for (String line : lines.get().subList(1, lines.get().size())) {
+      if (line.isEmpty()) {
+        continue;
+      }
+      int space = line.lastIndexOf(' ');
+      if (space == -1) {
+        LOG.warn("Ignoring the corrupt exopackage manifest of %s", serial);
+        return Optional.empty();
+      }
+      files.put(Paths.get(line.substring(0, space)), line.substring(space + 1));
+    }
+    return Optional.of(new ExopackageDeviceManifest(lines.get().get(0).trim(), files.build()));
+  }
+
+  /** @return all files in the exopackage directory, relative to it. */
+  public ImmutableSortedSet<Path> getFiles() {
+    return files.keySet();
+  }
+
+  /** @return the files in the exopackage directory of a package, relative to that directory. */
+  public ImmutableSortedSet<Path> getPackageFiles(String packageName) {
+    Path packagePath = Paths.get(packageName);
+    return files.keySet().stream()
+        .filter(path -> path.startsWith(packagePath))
+        .map(packagePath::relativize)
+        .collect(ImmutableSortedSet.toImmutableSortedSet(Ordering.natural()));
+  }
+
+  /** @return whether a file of a package is known to have the given contents on the device. */
+  public boolean hasContents(String packageName, Path path, String contents) {
+    String hash = files.get(Paths.get(packageName).resolve(path));
+    return hash != null && !hash.equals(UNKNOWN_HASH) && hash.equals(hashContents(contents));
+  }
+
+  /** @return whether the device is known to hold the token of this manifest. */
+  public boolean isRecorded() {
+    return !token.isEmpty();
+  }
+
+  /**
+   * Removes the token from the device, before the exopackage directory of the package is changed in
+   * a way that the manifest can't tell.
+   */
+  public ExopackageDeviceManifest invalidate(ProjectFilesystem filesystem, AndroidDevice device)
+      throws IOException {
+    if (!isRecorded()) {
+      return this;
+    }
+    ExopackageDeviceManifest invalidated = new ExopackageDeviceManifest("", files);
+    invalidated.save(filesystem, device.getSerialNumber());
+    device.rmFiles(
+        TOKEN_PATH.getParent().toString(), ImmutableList.of(TOKEN_PATH.getFileName().toString()));
+    return invalidated;
+  }
+
+  /**
+   * Records that the exopackage directory of a package now holds {@code packageFiles} and the given
+   * metadata, and writes a new token to the device.
+   */
+  public ExopackageDeviceManifest record(
+      ProjectFilesystem filesystem,
+      AndroidDevice device,
+      String packageName,
+      Iterable<Path> packageFiles,
+      Map<Path, String> metadata)
+      throws Exception {
+    Path packagePath = Paths.get(packageName);
+    SortedMap<Path, String> newFiles = new TreeMap<>();
+    ExopackageDeviceManifest recorded;
+    synchronized (ExopackageDeviceManifest.class) {
+      // Keep what installs of other packages recorded meanwhile.
+      load(filesystem, device.getSerialNumber())
+          .map(latest -> latest.files)
+          .orElse(files)
+          .forEach(
+              (path, hash) -> {
+                if (!path.startsWith(packagePath)) {
+                  newFiles.put(path, hash);
+                }
+              });
+      for (Path path : packageFiles) {
+        newFiles.put(packagePath.resolve(path), UNKNOWN_HASH);
+      }
+      metadata.forEach(
+          (path, contents) -> newFiles.put(packagePath.resolve(path), hashContents(contents)));
+
+      recorded =
+          new ExopackageDeviceManifest(
+              UUID.randomUUID().toString(), ImmutableSortedMap.copyOfSorted(newFiles));
+      // Save the manifest before the device can match it.
+      recorded.save(filesystem, device.getSerialNumber());
+    }
+    device.writeFile(TOKEN_PATH, recorded.token);
+    return recorded;
+  }
+
+  private void save(ProjectFilesystem filesystem, String serial) throws IOException {
+    StringBuilder contents = new StringBuilder(token).append('\n');
+    files.forEach((path, hash) -> contents.append(path).append(' ').append(hash).append('\n'));
+    Path path = getPath(filesystem, serial);
+    filesystem.mkdirs(path.getParent());
+    filesystem.writeContentsToPath(contents.toString(), path);
+  }
+
+  private static Path getPath(ProjectFilesystem filesystem, String serial) {
+    return filesystem
+        .getBuckPaths()
+        .getScratchDir()
+        .resolve("exopackage_device_manifests")
+        .resolve(serial.replaceAll("[^A-Za-z0-9._-]", "_") + ".txt");
+  }
+
+  private static String hashContents(String contents) {
+    return Hashing.sha1().hashString(contents, StandardCharsets.UTF_8).toString();
+  }
+}
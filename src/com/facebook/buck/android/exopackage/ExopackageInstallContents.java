@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android.exopackage;
+
+import com.facebook.buck.android.agent.util.AgentUtil;
+import com.facebook.buck.core.sourcepath.resolver.SourcePathResolverAdapter;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * What the host installs on devices: the exopackage files and metadata, and the signature of the
+ * apk. These are the same for every device (but for native libraries, which depend on the ABIs of
+ * the device), so sharing one instance between the installers of several devices computes them
+ * only once.
+ */
+public class ExopackageInstallContents {
+  private final SourcePathResolverAdapter pathResolver;
+  private final ProjectFilesystem projectFilesystem;
+  private final Map<Key, Contents> contents = new HashMap<>();
+  private final Map<Path, String> apkSignatures = new HashMap<>();
+
+  public ExopackageInstallContents(
+      SourcePathResolverAdapter pathResolver, ProjectFilesystem projectFilesystem) {
+    this.pathResolver = pathResolver;
+    this.projectFilesystem = projectFilesystem;
+  }
+
+  /** The files and metadata to install for an exopackage on a device with the given ABIs. */
+  public static class Contents {
+    /** The files to install by their type, each by their path relative to the package root. */
+    public final ImmutableMap<String, ImmutableMap<Path, Path>> filesByType;
+    /** The contents of the metadata files, by their path relative to the package root. */
+    public final ImmutableMap<Path, String> metadata;
+
+    Contents(
+        ImmutableMap<String, ImmutableMap<Path, Path>> filesByType,
+        ImmutableMap<Path, String> metadata) {
+      this.filesByType = filesByType;
+      this.metadata = metadata;
+    }
+  }
+
+  /**
+   * @param abiSupplier supplies the ABIs of the device, which are only asked for when {@code
+   *     exoInfo} has native libraries.
+   */
+  public Contents getContents(ExopackageInfo exoInfo, Supplier<List<String>> abiSupplier)
+      throws IOException {
+    // Ask the device for its ABIs before taking the lock, so that devices don't wait on each other.
+    Key key =
+        new Key(
+            exoInfo,
+            exoInfo.getNativeLibsInfo().isPresent()
+                ? ImmutableList.copyOf(abiSupplier.get())
+                : ImmutableList.of());
+    synchronized (this) {
+      Contents result = contents.get(key);
+      if (result == null) {
+        result = computeContents(exoInfo, key.abis);
+        contents.put(key, result);
+      }
+      return result;
+    }
+  }
+
+  /** @return the signature of the apk at {@code apkPath}, as the agent reports it on the device. */
+  public synchronized String getApkSignature(Path apkPath) throws IOException {
+    String signature = apkSignatures.get(apkPath);
+    if (signature == null) {
+      signature = AgentUtil.getJarSignature(apkPath.toString());
+      apkSignatures.put(apkPath, signature);
+    }
+    return signature;
+  }
+
+  private Contents computeContents(ExopackageInfo exoInfo, ImmutableList<String> abis)
+      throws IOException {
+    ImmutableMap.Builder<String, ImmutableMap<Path, Path>> filesByType = ImmutableMap.builder();
+    ImmutableMap.Builder<Path, String> metadata = ImmutableMap.builder();
+
+    if (exoInfo.getDexInfo().isPresent()) {
+      DexExoHelper dexExoHelper =
+          new DexExoHelper(pathResolver, projectFilesystem, exoInfo.getDexInfo().get());
+      filesByType.put(ExopackageInstaller.SECONDARY_DEX_TYPE, dexExoHelper.getFilesToInstall());
+      metadata.putAll(dexExoHelper.getMetadataToInstall());
+    }
+
+    if (exoInfo.getNativeLibsInfo().isPresent()) {
+      NativeExoHelper nativeExoHelper =
+          new NativeExoHelper(
+              () -> abis, pathResolver, projectFilesystem, exoInfo.getNativeLibsInfo().get());
+      filesByType.put(
+          ExopackageInstaller.NATIVE_LIBRARY_TYPE, nativeExoHelper.getFilesToInstall());
+      metadata.putAll(nativeExoHelper.getMetadataToInstall());
+    }
+
+    if (exoInfo.getResourcesInfo().isPresent()) {
+      ResourcesExoHelper resourcesExoHelper =
+          new ResourcesExoHelper(pathResolver, projectFilesystem, exoInfo.getResourcesInfo().get());
+      filesByType.put(ExopackageInstaller.RESOURCES_TYPE, resourcesExoHelper.getFilesToInstall());
+      metadata.putAll(resourcesExoHelper.getMetadataToInstall());
+    }
+
+    if (exoInfo.getModuleInfo().isPresent()) {
+      ModuleExoHelper moduleExoHelper =
+          new ModuleExoHelper(pathResolver, projectFilesystem, exoInfo.getModuleInfo().get());
+      filesByType.put("modular_dex", moduleExoHelper.getFilesToInstall());
+      metadata.putAll(moduleExoHelper.getMetadataToInstall());
+    }
+
+    return new Contents(filesByType.build(), metadata.build());
+  }
+
+  private static class Key {
+    private final ExopackageInfo exoInfo;
+    private final ImmutableList<String> abis;
+
+    Key(ExopackageInfo exoInfo, ImmutableList<String> abis) {
+      this.exoInfo = exoInfo;
+      this.abis = abis;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (!(other instanceof Key)) {
+        return false;
+      }
+      Key that = (Key) other;
+      return exoInfo.equals(that.exoInfo) && abis.equals(that.abis);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(exoInfo, abis);
+    }
+  }
+}
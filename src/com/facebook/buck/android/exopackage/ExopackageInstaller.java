@@ -18,7 +18,6 @@ package com.facebook.buck.android.exopackage;
 
 import com.facebook.buck.android.AdbHelper;
 import com.facebook.buck.android.HasInstallableApk;
-import com.facebook.buck.android.agent.util.AgentUtil;
 import com.facebook.buck.core.build.execution.context.ExecutionContext;
 import com.facebook.buck.core.exceptions.HumanReadableException;
 import com.facebook.buck.core.sourcepath.resolver.SourcePathResolverAdapter;
@@ -27,6 +26,7 @@ import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.event.ConsoleEvent;
 import com.facebook.buck.event.SimplePerfEvent;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.util.MoreSuppliers;
 import com.facebook.buck.util.NamedTemporaryFile;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Charsets;
@@ -39,15 +39,19 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSortedMap;
 import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.collect.Ordering;
+import com.google.common.collect.Sets;
 import com.google.common.io.Closer;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 
@@ -66,6 +70,9 @@ public class ExopackageInstaller {
   private final AndroidDevice device;
   private final String packageName;
   private final Path dataRoot;
+  private final ExopackageInstallContents installContents;
+  private final Supplier<List<String>> deviceAbis;
+  private final AtomicLong installedBytes = new AtomicLong();
 
   public ExopackageInstaller(
       SourcePathResolverAdapter pathResolver,
@@ -73,12 +80,42 @@ public class ExopackageInstaller {
       ProjectFilesystem projectFilesystem,
       String packageName,
       AndroidDevice device) {
+    this(
+        pathResolver,
+        context,
+        projectFilesystem,
+        packageName,
+        device,
+        new ExopackageInstallContents(pathResolver, projectFilesystem));
+  }
+
+  /**
+   * @param installContents the contents to install, which may be shared with the installers of
+   *     other devices so that they are only computed once.
+   */
+  public ExopackageInstaller(
+      SourcePathResolverAdapter pathResolver,
+      ExecutionContext context,
+      ProjectFilesystem projectFilesystem,
+      String packageName,
+      AndroidDevice device,
+      ExopackageInstallContents installContents) {
     this.pathResolver = pathResolver;
     this.projectFilesystem = projectFilesystem;
     this.eventBus = context.getBuckEventBus();
     this.device = device;
     this.packageName = packageName;
     this.dataRoot = EXOPACKAGE_INSTALL_ROOT.resolve(packageName);
+    this.installContents = installContents;
+    this.deviceAbis =
+        MoreSuppliers.memoize(
+            () -> {
+              try {
+                return device.getDeviceAbis();
+              } catch (Exception e) {
+                throw new HumanReadableException("Unable to communicate with device", e);
+              }
+            });
 
     Preconditions.checkArgument(AdbHelper.PACKAGE_NAME_PATTERN.matcher(packageName).matches());
   }
@@ -87,25 +124,52 @@ public class ExopackageInstaller {
   // TODO(cjhopman): This return value is silly. Change it to be void.
   public boolean doInstall(HasInstallableApk.ApkInfo apkInfo, @Nullable String processName)
       throws Exception {
-    if (exopackageEnabled(apkInfo)) {
-      device.mkDirP(dataRoot.toString());
-      ImmutableSortedSet<Path> presentFiles = device.listDirRecursive(dataRoot);
-      ExopackageInfo exoInfo = apkInfo.getExopackageInfo().get();
-      installMissingExopackageFiles(presentFiles, exoInfo);
-      finishExoFileInstallation(presentFiles, exoInfo);
+    long startNanos = System.nanoTime();
+    try (SimplePerfEvent.Scope scope =
+        SimplePerfEvent.scope(
+            eventBus,
+            SimplePerfEvent.PerfEventId.of("install_exopackage"),
+            "device_serial",
+            device.getSerialNumber())) {
+      if (exopackageEnabled(apkInfo)) {
+        ImmutableSortedSet<Path> presentFiles =
+            ExopackageDeviceManifest.read(projectFilesystem, device).getPackageFiles(packageName);
+        ExopackageInfo exoInfo = apkInfo.getExopackageInfo().get();
+        installMissingExopackageFiles(presentFiles, exoInfo);
+        finishExoFileInstallation(presentFiles, exoInfo);
+      }
+      installApkIfNecessary(apkInfo);
+      // Once the apk is installed if it had to be, it matches the local one, so there is no need to
+      // ask the device again.
+      killApp(false, processName);
+      reportThroughput(scope, System.nanoTime() - startNanos);
     }
-    installApkIfNecessary(apkInfo);
-    killApp(apkInfo, processName);
     return true;
   }
 
+  /** Reports how fast files were pushed to the device, which tells slow devices apart. */
+  private void reportThroughput(SimplePerfEvent.Scope scope, long elapsedNanos) {
+    long bytes = installedBytes.get();
+    double seconds = Math.max(elapsedNanos, 1) / 1e9;
+    LOG.info(
+        "Installed %d bytes on %s in %.1fs (%.1f MB/s)",
+        bytes, device.getSerialNumber(), seconds, bytes / 1e6 / seconds);
+    scope.appendFinishedInfo("installed_bytes", bytes);
+    scope.appendFinishedInfo("bytes_per_second", (long) (bytes / seconds));
+  }
+
   public void killApp(HasInstallableApk.ApkInfo apkInfo, @Nullable String processName)
       throws Exception {
+    killApp(shouldAppBeInstalled(apkInfo), processName);
+  }
+
+  private void killApp(boolean appShouldBeInstalled, @Nullable String processName)
+      throws Exception {
     // TODO(dreiss): Make this work on Gingerbread.
     try (SimplePerfEvent.Scope ignored = SimplePerfEvent.scope(eventBus, "kill_app")) {
       // If a specific process name is given and we're not installing a full APK,
       // just kill that process, otherwise kill everything in the package
-      if (shouldAppBeInstalled(apkInfo) || processName == null) {
+      if (appShouldBeInstalled || processName == null) {
         device.stopPackage(packageName);
       } else {
         device.killProcess(processName);
@@ -130,85 +194,67 @@ public class ExopackageInstaller {
 
   public void finishExoFileInstallation(
       ImmutableSortedSet<Path> presentFiles, ExopackageInfo exoInfo) throws Exception {
+    ExopackageInstallContents.Contents contents =
+        installContents.getContents(exoInfo, deviceAbis);
     ImmutableSet.Builder<Path> wantedPaths = ImmutableSet.builder();
-    ImmutableMap.Builder<Path, String> metadata = ImmutableMap.builder();
-
-    if (exoInfo.getDexInfo().isPresent()) {
-      DexExoHelper dexExoHelper =
-          new DexExoHelper(pathResolver, projectFilesystem, exoInfo.getDexInfo().get());
-      wantedPaths.addAll(dexExoHelper.getFilesToInstall().keySet());
-      metadata.putAll(dexExoHelper.getMetadataToInstall());
-    }
-
-    if (exoInfo.getNativeLibsInfo().isPresent()) {
-      NativeExoHelper nativeExoHelper =
-          new NativeExoHelper(
-              () -> {
-                try {
-                  return device.getDeviceAbis();
-                } catch (Exception e) {
-                  throw new HumanReadableException("Unable to communicate with device", e);
-                }
-              },
-              pathResolver,
-              projectFilesystem,
-              exoInfo.getNativeLibsInfo().get());
-      wantedPaths.addAll(nativeExoHelper.getFilesToInstall().keySet());
-      metadata.putAll(nativeExoHelper.getMetadataToInstall());
-    }
-
-    if (exoInfo.getResourcesInfo().isPresent()) {
-      ResourcesExoHelper resourcesExoHelper =
-          new ResourcesExoHelper(pathResolver, projectFilesystem, exoInfo.getResourcesInfo().get());
-      wantedPaths.addAll(resourcesExoHelper.getFilesToInstall().keySet());
-      metadata.putAll(resourcesExoHelper.getMetadataToInstall());
-    }
+    contents.filesByType.values().forEach(files -> wantedPaths.addAll(files.keySet()));
+
+    ImmutableMap<Path, String> allMetadata = contents.metadata;
+    ExopackageDeviceManifest manifest = loadManifest();
+    ImmutableMap<Path, String> metadataToInstall =
+        allMetadata.entrySet().stream()
+            .filter(entry -> !manifest.hasContents(packageName, entry.getKey(), entry.getValue()))
+            .collect(ImmutableMap.toImmutableMap(Map.Entry::getKey, Map.Entry::getValue));
+    // Metadata that is already installed is left alone rather than deleted and pushed again.
+    ImmutableSet<Path> wantedFiles = wantedPaths.addAll(allMetadata.keySet()).build();
+    ImmutableSortedSet<Path> filesToDelete =
+        presentFiles.stream()
+            .filter(
+                p ->
+                    !isLockFile(p)
+                        && (!wantedFiles.contains(p) || metadataToInstall.containsKey(p)))
+            .collect(ImmutableSortedSet.toImmutableSortedSet(Ordering.natural()));
 
-    if (exoInfo.getModuleInfo().isPresent()) {
-      ModuleExoHelper moduleExoHelper =
-          new ModuleExoHelper(pathResolver, projectFilesystem, exoInfo.getModuleInfo().get());
-      wantedPaths.addAll(moduleExoHelper.getFilesToInstall().keySet());
-      metadata.putAll(moduleExoHelper.getMetadataToInstall());
+    ExopackageDeviceManifest changedManifest =
+        filesToDelete.isEmpty() && metadataToInstall.isEmpty()
+            ? manifest
+            : manifest.invalidate(projectFilesystem, device);
+    deleteFiles(filesToDelete);
+    installMetadata(metadataToInstall, presentFiles);
+
+    ImmutableSortedSet<Path> installedFiles =
+        ImmutableSortedSet.<Path>naturalOrder()
+            .addAll(wantedFiles)
+            .addAll(presentFiles.stream().filter(ExopackageInstaller::isLockFile).iterator())
+            .build();
+    if (!changedManifest.isRecorded()
+        || !changedManifest.getPackageFiles(packageName).equals(installedFiles)) {
+      changedManifest.record(
+          projectFilesystem,
+          device,
+          packageName,
+          Sets.difference(installedFiles, allMetadata.keySet()),
+          allMetadata);
     }
+  }
 
-    deleteUnwantedFiles(presentFiles, wantedPaths.build());
-    installMetadata(metadata.build());
+  /**
+   * Returns the manifest that listing the device at the start of this install recorded, which is
+   * still right but for the files that were installed since, which are all wanted.
+   */
+  private ExopackageDeviceManifest loadManifest() throws Exception {
+    Optional<ExopackageDeviceManifest> manifest =
+        ExopackageDeviceManifest.load(projectFilesystem, device.getSerialNumber());
+    return manifest.isPresent()
+        ? manifest.get()
+        : ExopackageDeviceManifest.read(projectFilesystem, device);
   }
 
   public void installMissingExopackageFiles(
       ImmutableSortedSet<Path> presentFiles, ExopackageInfo exoInfo) throws Exception {
-    if (exoInfo.getDexInfo().isPresent()) {
-      DexExoHelper dexExoHelper =
-          new DexExoHelper(pathResolver, projectFilesystem, exoInfo.getDexInfo().get());
-      installMissingFiles(presentFiles, dexExoHelper.getFilesToInstall(), SECONDARY_DEX_TYPE);
-    }
-
-    if (exoInfo.getNativeLibsInfo().isPresent()) {
-      NativeExoHelper nativeExoHelper =
-          new NativeExoHelper(
-              () -> {
-                try {
-                  return device.getDeviceAbis();
-                } catch (Exception e) {
-                  throw new HumanReadableException("Unable to communicate with device", e);
-                }
-              },
-              pathResolver,
-              projectFilesystem,
-              exoInfo.getNativeLibsInfo().get());
-      installMissingFiles(presentFiles, nativeExoHelper.getFilesToInstall(), NATIVE_LIBRARY_TYPE);
-    }
-
-    if (exoInfo.getResourcesInfo().isPresent()) {
-      ResourcesExoHelper resourcesExoHelper =
-          new ResourcesExoHelper(pathResolver, projectFilesystem, exoInfo.getResourcesInfo().get());
-      installMissingFiles(presentFiles, resourcesExoHelper.getFilesToInstall(), RESOURCES_TYPE);
-    }
-
-    if (exoInfo.getModuleInfo().isPresent()) {
-      ModuleExoHelper moduleExoHelper =
-          new ModuleExoHelper(pathResolver, projectFilesystem, exoInfo.getModuleInfo().get());
-      installMissingFiles(presentFiles, moduleExoHelper.getFilesToInstall(), "modular_dex");
+    for (Map.Entry<String, ImmutableMap<Path, Path>> entry :
+        installContents.getContents(exoInfo, deviceAbis).filesByType.entrySet()) {
+      installMissingFiles(presentFiles, entry.getValue(), entry.getKey());
     }
   }
 
@@ -246,7 +292,7 @@ public class ExopackageInstaller {
     LOG.debug("App path: %s", appPackageInfo.get().apkPath);
     String installedAppSignature = getInstalledAppSignature(appPackageInfo.get().apkPath);
     String localAppSignature =
-        AgentUtil.getJarSignature(pathResolver.getAbsolutePath(apkInfo.getApkPath()).toString());
+        installContents.getApkSignature(pathResolver.getAbsolutePath(apkInfo.getApkPath()));
     LOG.debug("Local app signature: %s", localAppSignature);
     LOG.debug("Remote app signature: %s", installedAppSignature);
 
@@ -284,16 +330,11 @@ public class ExopackageInstaller {
                 ImmutableSortedMap.toImmutableSortedMap(
                     Ordering.natural(), Map.Entry::getKey, Map.Entry::getValue));
 
-    installFiles(filesType, filesToInstall);
+    installFiles(filesType, filesToInstall, presentFiles);
   }
 
-  private void deleteUnwantedFiles(
-      ImmutableSortedSet<Path> presentFiles, ImmutableSet<Path> wantedFiles) {
-    ImmutableSortedSet<Path> filesToDelete =
-        presentFiles.stream()
-            .filter(p -> !p.getFileName().toString().equals("lock") && !wantedFiles.contains(p))
-            .collect(ImmutableSortedSet.toImmutableSortedSet(Ordering.natural()));
-    deleteFiles(filesToDelete);
+  private static boolean isLockFile(Path path) {
+    return path.getFileName().toString().equals("lock");
   }
 
   private void deleteFiles(ImmutableSortedSet<Path> filesToDelete) {
@@ -308,15 +349,26 @@ public class ExopackageInstaller {
             });
   }
 
-  private void installFiles(String filesType, ImmutableMap<Path, Path> filesToInstall)
+  private void installFiles(
+      String filesType,
+      ImmutableMap<Path, Path> filesToInstall,
+      ImmutableSortedSet<Path> presentFiles)
       throws Exception {
-    try (SimplePerfEvent.Scope ignored =
+    if (filesToInstall.isEmpty()) {
+      return;
+    }
+    try (SimplePerfEvent.Scope scope =
             SimplePerfEvent.scope(eventBus, "multi_install_" + filesType);
         AutoCloseable ignored1 = device.createForward()) {
-      // Make sure all the directories exist.
+      // Make sure all the directories exist, skipping those that already hold files.
+      ImmutableSet<Path> presentDirectories =
+          presentFiles.stream()
+              .map(p -> dataRoot.resolve(p).getParent())
+              .collect(ImmutableSet.toImmutableSet());
       filesToInstall.keySet().stream()
           .map(p -> dataRoot.resolve(p).getParent())
           .distinct()
+          .filter(p -> !presentDirectories.contains(p))
           .forEach(
               p -> {
                 try {
@@ -333,11 +385,23 @@ public class ExopackageInstaller {
                       entry -> dataRoot.resolve(entry.getKey()),
                       entry -> projectFilesystem.resolve(entry.getValue())));
       // Install the files.
+      // TODO: Files are named by their contents, so a changed dex or .so is pushed whole even when
+      // most of it matches the file it replaces. Pushing a binary delta against that file (which
+      // the manifest would have to keep track of) could cut the bytes sent for small edits.
       device.installFiles(filesType, installPaths);
+      long bytes = 0;
+      for (Path source : installPaths.values()) {
+        bytes += Files.size(source);
+      }
+      installedBytes.addAndGet(bytes);
+      scope.appendFinishedInfo("files", installPaths.size());
+      scope.appendFinishedInfo("bytes", bytes);
     }
   }
 
-  private void installMetadata(ImmutableMap<Path, String> metadataToInstall) throws Exception {
+  private void installMetadata(
+      ImmutableMap<Path, String> metadataToInstall, ImmutableSortedSet<Path> presentFiles)
+      throws Exception {
     try (Closer closer = Closer.create()) {
       Map<Path, Path> filesToInstall = new HashMap<>();
       for (Map.Entry<Path, String> entry : metadataToInstall.entrySet()) {
@@ -346,7 +410,7 @@ public class ExopackageInstaller {
             entry.getValue().getBytes(Charsets.UTF_8), temp.get().toFile());
         filesToInstall.put(entry.getKey(), temp.get());
       }
-      installFiles("metadata", ImmutableMap.copyOf(filesToInstall));
+      installFiles("metadata", ImmutableMap.copyOf(filesToInstall), presentFiles);
     }
   }
 
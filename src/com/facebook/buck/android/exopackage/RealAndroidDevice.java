@@ -36,9 +36,11 @@ import com.facebook.buck.event.SimplePerfEvent;
 import com.facebook.buck.util.Console;
 import com.facebook.buck.util.Escaper;
 import com.facebook.buck.util.MoreSuppliers;
+import com.facebook.buck.util.types.Pair;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Charsets;
 import com.google.common.base.Joiner;
+import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSortedSet;
@@ -67,6 +69,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
@@ -1105,6 +1108,50 @@ public class RealAndroidDevice implements AndroidDevice {
     executeCommandWithErrorChecking("umask 022 && " + mkdirCommand + " " + dirpath);
   }
 
+  @Override
+  public Optional<String> readFile(Path path) throws Exception {
+    // Prefix the contents, to tell an empty file from a missing one.
+    String output =
+        executeCommandWithErrorChecking(
+            String.format("if [ -f %1$s ]; then echo -n +; cat %1$s; fi", path));
+    return output.startsWith("+") ? Optional.of(output.substring(1)) : Optional.empty();
+  }
+
+  @Override
+  public Pair<Optional<String>, OptionalInt> readFileAndCountFiles(Path path, Path dirPath)
+      throws Exception {
+    // The count comes first, then a '#' and, if the file exists, a '+' and its contents. Devices
+    // with only toolbox have no `find`, in which case the count is preceded by an error.
+    String output =
+        executeCommandWithErrorChecking(
+            String.format(
+                "find %1$s -type f ! -name '.*' | wc -l; echo -n '#'; "
+                    + "if [ -f %2$s ]; then echo -n +; cat %2$s; fi",
+                dirPath, path));
+    int separator = output.indexOf('#');
+    if (separator == -1) {
+      throw new IllegalStateException("Unexpected output when counting files:\n" + output);
+    }
+    String countOutput = output.substring(0, separator).trim();
+    OptionalInt count;
+    try {
+      count = OptionalInt.of(Integer.parseInt(countOutput));
+    } catch (NumberFormatException e) {
+      LOG.debug("Couldn't count the files in %s: %s", dirPath, countOutput);
+      count = OptionalInt.empty();
+    }
+    String contents = output.substring(separator + 1);
+    return new Pair<>(
+        contents.startsWith("+") ? Optional.of(contents.substring(1)) : Optional.empty(), count);
+  }
+
+  @Override
+  public void writeFile(Path path, String line) throws Exception {
+    Preconditions.checkArgument(
+        !line.contains("'") && !line.contains("\n"), "Can't write %s to the device", line);
+    executeCommandWithErrorChecking(String.format("echo '%s' > %s", line, path));
+  }
+
   @Override
   public String getProperty(String name) throws Exception {
     return executeCommandWithErrorChecking("getprop " + name).trim();
@@ -91,6 +91,19 @@ public class BringToFrontMapper implements ReferenceMapper {
     return id;
   }
 
+  @Override
+  public boolean rewrites(int type) {
+    if (type < rewriters.length && rewriters[type] != null) {
+      int[] rewriter = rewriters[type];
+      for (int i = 0; i < rewriter.length; i++) {
+        if (rewriter[i] != i) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
   @Override
   public void rewrite(int type, IntBuffer buf) {
     if (type < rewriters.length) {
@@ -98,6 +111,10 @@ public class BringToFrontMapper implements ReferenceMapper {
       if (rewriter != null) {
         for (int i = 0; i < rewriter.length; i++) {
           int id = rewriter[i];
+          if (id == i) {
+            // Already in front, and leaving it untouched saves writing to the buffer.
+            continue;
+          }
           // Swap the values at the old and new positions.
           int temp = buf.get(id);
           buf.put(id, buf.get(i));
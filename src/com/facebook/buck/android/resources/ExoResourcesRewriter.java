@@ -19,16 +19,17 @@ package com.facebook.buck.android.resources;
 import com.facebook.buck.io.file.MostFiles;
 import com.facebook.buck.util.MoreSuppliers;
 import com.facebook.buck.util.stream.RichStream;
+import com.facebook.buck.util.zip.MappedCentralDirectory;
 import com.google.common.base.Charsets;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.ImmutableSortedMap;
 import com.google.common.collect.Maps;
-import com.google.common.collect.Ordering;
 import com.google.common.io.ByteStreams;
 import java.io.ByteArrayInputStream;
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -37,8 +38,10 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
@@ -48,6 +51,7 @@ import java.util.zip.CRC32;
 import java.util.zip.Deflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
+import javax.annotation.Nullable;
 
 /**
  * ExoResourceRewriter is the core of constructing build outputs for exo-for-resources.
@@ -135,13 +139,8 @@ public class ExoResourcesRewriter {
       }
       // Write the full (rearranged) resources to the exo resources.
       try (ResourcesZipBuilder zipBuilder = new ResourcesZipBuilder(exoResources)) {
-        for (ZipEntry entry : apkZip.getEntries()) {
-          addEntry(
-              zipBuilder,
-              entry.getName(),
-              apkZip.getContent(entry.getName()),
-              entry.getMethod() == ZipEntry.STORED ? 0 : Deflater.BEST_COMPRESSION,
-              false);
+        for (String name : apkZip.getEntryNames()) {
+          apkZip.writeEntry(zipBuilder, name);
         }
       }
       // Then, slice out the resources needed for the primary apk.
@@ -154,18 +153,10 @@ public class ExoResourcesRewriter {
             zipBuilder,
             "resources.arsc",
             primaryResourceTable.serialize(),
-            apkZip.getEntry("resources.arsc").getMethod() == ZipEntry.STORED
-                ? 0
-                : Deflater.BEST_COMPRESSION,
+            apkZip.getCompressionLevel("resources.arsc"),
             false);
         for (String path : RichStream.from(closure.files).sorted().toOnceIterable()) {
-          ZipEntry entry = apkZip.getEntry(path);
-          addEntry(
-              zipBuilder,
-              entry.getName(),
-              apkZip.getContent(entry.getName()),
-              entry.getMethod() == ZipEntry.STORED ? 0 : Deflater.BEST_COMPRESSION,
-              false);
+          apkZip.writeEntry(zipBuilder, path);
         }
       }
       return resMapping;
@@ -258,25 +249,46 @@ public class ExoResourcesRewriter {
         isDirectory);
   }
 
+  /**
+   * The input apk, read through a mapping of its central directory. A resource table which is
+   * stored uncompressed is read straight from the mapping, and only the chunks of it that get
+   * rewritten are copied into memory. Other entries are deflated again at the best compression
+   * level, except for stored ones, which are copied as they are. Apks which can't be mapped are
+   * read with a {@link ZipFile}.
+   */
   private static class ApkZip implements Closeable, UsedResourcesFinder.ApkContentProvider {
-    private final ZipFile zipFile;
+    @Nullable private final MappedCentralDirectory mappedZip;
+    @Nullable private final ZipFile zipFile;
     private final SortedMap<String, ZipEntry> entries;
+    private final Map<String, Integer> mappedEntries;
     private final Map<String, byte[]> entryContents;
     private final Map<String, ResourcesXml> xmlEntries;
     private final Supplier<ResourceTable> resourceTable;
 
     public ApkZip(Path inputPath) throws IOException {
-      this.zipFile = new ZipFile(inputPath.toFile());
-      this.entries =
-          Collections.list(zipFile.entries()).stream()
-              .collect(
-                  ImmutableSortedMap.toImmutableSortedMap(
-                      Ordering.natural(), ZipEntry::getName, e -> e));
+      this.mappedZip = MappedCentralDirectory.tryMap(inputPath);
+      this.entries = new TreeMap<>();
+      this.mappedEntries = new HashMap<>();
+      if (mappedZip != null) {
+        this.zipFile = null;
+        for (int i = 0; i < mappedZip.getEntryCount(); i++) {
+          String name = mappedZip.getName(i);
+          ZipEntry entry = new ZipEntry(name);
+          entry.setMethod(mappedZip.getMethod(i));
+          entry.setSize(mappedZip.getSize(i));
+          entry.setCrc(mappedZip.getCrc(i));
+          entries.put(name, entry);
+          mappedEntries.put(name, i);
+        }
+      } else {
+        this.zipFile = new ZipFile(inputPath.toFile());
+        for (ZipEntry entry : Collections.list(zipFile.entries())) {
+          entries.put(entry.getName(), entry);
+        }
+      }
       this.entryContents = new HashMap<>();
       this.xmlEntries = new HashMap<>();
-      this.resourceTable =
-          MoreSuppliers.memoize(
-              () -> ResourceTable.get(ResChunk.wrap(getContent("resources.arsc"))));
+      this.resourceTable = MoreSuppliers.memoize(() -> ResourceTable.get(extractResourceTable()));
     }
 
     @Override
@@ -296,15 +308,36 @@ public class ExoResourcesRewriter {
 
     @Override
     public void close() throws IOException {
-      zipFile.close();
+      if (zipFile != null) {
+        zipFile.close();
+      }
     }
 
-    public Iterable<ZipEntry> getEntries() {
-      return entries.values();
+    public Iterable<String> getEntryNames() {
+      return entries.keySet();
     }
 
-    public ZipEntry getEntry(String path) {
-      return entries.get(path);
+    public int getCompressionLevel(String path) {
+      return entries.get(path).getMethod() == ZipEntry.STORED ? 0 : Deflater.BEST_COMPRESSION;
+    }
+
+    /** Writes an entry, with its contents rewritten if they were. */
+    public void writeEntry(ResourcesZipBuilder zipBuilder, String path) throws IOException {
+      if (path.equals("resources.arsc")) {
+        List<ByteBuffer> buffers = new ArrayList<>();
+        getResourceTable().putBuffers(buffers);
+        zipBuilder.addEntry(buffers, path, getCompressionLevel(path));
+      } else if (xmlEntries.containsKey(path)) {
+        addEntry(zipBuilder, path, getContent(path), getCompressionLevel(path), false);
+      } else if (mappedZip != null && getCompressionLevel(path) == 0) {
+        zipBuilder.copyEntry(mappedZip, mappedEntries.get(path), path);
+      } else {
+        ZipEntry entry = entries.get(path);
+        try (InputStream stream = openEntry(path)) {
+          zipBuilder.addEntry(
+              stream, entry.getSize(), entry.getCrc(), path, getCompressionLevel(path), false);
+        }
+      }
     }
 
     Iterable<ResourcesXml> getResourcesXmls() {
@@ -323,14 +356,32 @@ public class ExoResourcesRewriter {
       return entryContents.computeIfAbsent(path, this::extractContent);
     }
 
+    private InputStream openEntry(String path) throws IOException {
+      return mappedZip != null
+          ? mappedZip.openInputStream(mappedEntries.get(path))
+          : Objects.requireNonNull(zipFile).getInputStream(entries.get(path));
+    }
+
     private byte[] extractContent(String path) {
-      try {
-        return ByteStreams.toByteArray(zipFile.getInputStream(entries.get(path)));
+      try (InputStream stream = openEntry(path)) {
+        return ByteStreams.toByteArray(stream);
       } catch (IOException e) {
         throw new RuntimeException(e);
       }
     }
 
+    private ByteBuffer extractResourceTable() {
+      if (mappedZip != null && getCompressionLevel("resources.arsc") == 0) {
+        try {
+          // A read-only view of the mapping. Chunks copy their data before they rewrite it.
+          return ResChunk.slice(mappedZip.getRawData(mappedEntries.get("resources.arsc")), 0);
+        } catch (IOException e) {
+          throw new RuntimeException(e);
+        }
+      }
+      return ResChunk.wrap(extractContent("resources.arsc"));
+    }
+
     private ResourcesXml extractXml(String path) {
       try {
         return ResourcesXml.get(ResChunk.wrap(getContent(path)));
@@ -37,4 +37,10 @@ public interface ReferenceMapper {
    * the buffer to match the id reassignment.
    */
   void rewrite(int type, IntBuffer buf);
+
+  /**
+   * @return whether {@link #rewrite} may change the entries of the given type. Arrays of types that
+   *     it doesn't change are left untouched, so that they can stay read-only.
+   */
+  boolean rewrites(int type);
 }
@@ -20,7 +20,8 @@ import com.google.common.base.Preconditions;
 import com.google.common.primitives.Shorts;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * ResChunk is the base of most structures in Android's .arsc and compiled .xml files. It consists
@@ -108,6 +109,22 @@ public abstract class ResChunk {
 
   public abstract void put(ByteBuffer output);
 
+  /**
+   * Adds the contents that {@link #put} writes to {@code output}, in order. Chunks of a resource
+   * table add the data they haven't rewritten as slices of the buffer they were read from, so that
+   * a table read from a read-only mapping is written out without being copied into memory.
+   */
+  public void putBuffers(List<ByteBuffer> output) {
+    output.add(wrap(serialize()));
+  }
+
+  /** Implements {@link #put} for chunks which override {@link #putBuffers}. */
+  final void putFromBuffers(ByteBuffer output) {
+    List<ByteBuffer> buffers = new ArrayList<>();
+    putBuffers(buffers);
+    buffers.forEach(output::put);
+  }
+
   void putChunkHeader(ByteBuffer output) {
     output.putShort(type);
     output.putShort(headerSize);
@@ -132,8 +149,14 @@ public abstract class ResChunk {
 
   // These are some utilities used widely by subclasses for dealing with ByteBuffers.
   static ByteBuffer copy(ByteBuffer buf) {
-    return wrap(
-        Arrays.copyOfRange(buf.array(), buf.arrayOffset(), buf.arrayOffset() + buf.limit()));
+    byte[] data = new byte[buf.limit()];
+    slice(buf, 0).get(data);
+    return wrap(data);
+  }
+
+  /** @return {@code buf}, or a copy of it if it is read-only, such as a view of a mapped file. */
+  static ByteBuffer writable(ByteBuffer buf) {
+    return buf.isReadOnly() ? copy(buf) : buf;
   }
 
   public static ByteBuffer wrap(byte[] data) {
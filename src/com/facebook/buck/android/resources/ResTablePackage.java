@@ -153,24 +153,28 @@ public class ResTablePackage extends ResChunk {
   public void put(ByteBuffer output) {
     Preconditions.checkState(output.remaining() >= getChunkSize());
     int start = output.position();
-    putChunkHeader(output);
-    output.putInt(APP_PACKAGE_ID);
-    output.put(nameData);
-    output.putInt(HEADER_SIZE);
-    output.putInt(types.getStringCount());
-    output.putInt(HEADER_SIZE + types.getChunkSize());
-    output.putInt(keys.getStringCount());
-    output.putInt(0);
-    Preconditions.checkState(output.position() == start + HEADER_SIZE);
-    types.put(output);
-    Preconditions.checkState(output.position() == start + HEADER_SIZE + types.getChunkSize());
-    keys.put(output);
-    Preconditions.checkState(
-        output.position() == start + HEADER_SIZE + types.getChunkSize() + keys.getChunkSize());
-    typeSpecs.forEach(s -> s.put(output));
+    putFromBuffers(output);
     Preconditions.checkState(output.position() == start + getChunkSize());
   }
 
+  @Override
+  public void putBuffers(List<ByteBuffer> output) {
+    ByteBuffer header = wrap(new byte[HEADER_SIZE]);
+    putChunkHeader(header);
+    header.putInt(APP_PACKAGE_ID);
+    header.put(nameData);
+    header.putInt(HEADER_SIZE);
+    header.putInt(types.getStringCount());
+    header.putInt(HEADER_SIZE + types.getChunkSize());
+    header.putInt(keys.getStringCount());
+    header.putInt(0);
+    Preconditions.checkState(header.position() == HEADER_SIZE);
+    output.add(slice(header, 0));
+    types.putBuffers(output);
+    keys.putBuffers(output);
+    typeSpecs.forEach(s -> s.putBuffers(output));
+  }
+
   public ResTablePackage(
       int chunkSize,
       int packageId,
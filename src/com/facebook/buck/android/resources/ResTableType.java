@@ -21,6 +21,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.nio.ByteBuffer;
 import java.text.DecimalFormat;
+import java.util.List;
 import java.util.stream.Stream;
 import javax.annotation.Nullable;
 
@@ -53,8 +54,10 @@ public class ResTableType extends ResChunk {
   private final int id;
   private final int entryCount;
   private final ByteBuffer config;
-  private final ByteBuffer entryOffsets;
-  private final ByteBuffer entryData;
+  // These are copied on the first write if they are read-only, so that a table read from a mapping
+  // only holds the types that get rewritten in memory.
+  private ByteBuffer entryOffsets;
+  private ByteBuffer entryData;
 
   @Nullable
   public static ResTableType slice(ResTableType type, int count) {
@@ -69,7 +72,9 @@ public class ResTableType extends ResChunk {
         entryOffsets.putInt(i * 4, currentOffset);
         int dataSize = type.getEntrySizeAtOffset(offset);
         currentOffset += dataSize;
-        output.write(type.entryData.array(), type.entryData.arrayOffset() + offset, dataSize);
+        byte[] entry = new byte[dataSize];
+        slice(type.entryData, offset, dataSize).get(entry);
+        output.write(entry, 0, dataSize);
       }
     }
 
@@ -102,18 +107,25 @@ public class ResTableType extends ResChunk {
   public void put(ByteBuffer output) {
     Preconditions.checkState(output.remaining() >= getChunkSize());
     int start = output.position();
-    putChunkHeader(output);
-    output.put((byte) (id + 1));
-    output.put((byte) 0);
-    output.putShort((byte) 0);
-    output.putInt(entryCount);
-    output.putInt(getHeaderSize() + 4 * entryCount);
-    output.put(slice(config, 0));
-    output.put(slice(entryOffsets, 0));
-    output.put(slice(entryData, 0));
+    putFromBuffers(output);
     Preconditions.checkState(output.position() == start + getChunkSize());
   }
 
+  @Override
+  public void putBuffers(List<ByteBuffer> output) {
+    ByteBuffer header = wrap(new byte[CONFIG_OFFSET]);
+    putChunkHeader(header);
+    header.put((byte) (id + 1));
+    header.put((byte) 0);
+    header.putShort((byte) 0);
+    header.putInt(entryCount);
+    header.putInt(getHeaderSize() + 4 * entryCount);
+    output.add(slice(header, 0));
+    output.add(slice(config, 0));
+    output.add(slice(entryOffsets, 0));
+    output.add(slice(entryData, 0));
+  }
+
   public static ResTableType get(ByteBuffer buf) {
     int type = buf.getShort();
     int headerSize = buf.getShort();
@@ -340,11 +352,20 @@ public class ResTableType extends ResChunk {
     return entryCount;
   }
 
+  private void transformEntryData(int offset, RefTransformer visitor) {
+    int oldValue = entryData.getInt(offset);
+    int newValue = visitor.transform(oldValue);
+    if (oldValue != newValue) {
+      entryData = writable(entryData);
+      entryData.putInt(offset, newValue);
+    }
+  }
+
   public void transformKeyReferences(RefTransformer visitor) {
     for (int i = 0; i < entryCount; i++) {
       int offset = getEntryValueOffset(i);
       if (offset != -1) {
-        transformEntryDataOffset(entryData, offset + 4, visitor);
+        transformEntryData(offset + 4, visitor);
       }
     }
   }
@@ -370,14 +391,14 @@ public class ResTableType extends ResChunk {
         int vsize = entryData.getShort(entryOffset + 20);
         int type = entryData.get(entryOffset + 23);
         if (type == RES_STRING) {
-          transformEntryDataOffset(entryData, entryOffset + 24, visitor);
+          transformEntryData(entryOffset + 24, visitor);
         }
         entryOffset += 4 + vsize;
       }
     } else {
       int type = entryData.get(offset + 11);
       if (type == RES_STRING) {
-        transformEntryDataOffset(entryData, offset + 12, visitor);
+        transformEntryData(offset + 12, visitor);
       }
     }
   }
@@ -423,37 +444,41 @@ public class ResTableType extends ResChunk {
       int parent = entryData.getInt(offset + 8);
       if (parent != 0) {
         // An attribute map can derive from another. If it does, visit that parent.
-        transformEntryDataOffset(entryData, offset + 8, visitor);
+        transformEntryData(offset + 8, visitor);
       }
       int count = entryData.getInt(offset + 12);
       int entryStart = offset + 16;
       int entryOffset = entryStart;
       for (int j = 0; j < count; j++) {
         // Visit the name attribute reference.
-        transformEntryDataOffset(entryData, entryOffset + ATTRIBUTE_NAME_REF_OFFSET, visitor);
+        transformEntryData(entryOffset + ATTRIBUTE_NAME_REF_OFFSET, visitor);
         int type = entryData.get(entryOffset + ATTRIBUTE_TYPE_OFFSET);
         if (type == RES_REFERENCE || type == RES_ATTRIBUTE) {
           // Visit the value if it's a reference.
-          transformEntryDataOffset(entryData, entryOffset + ATTRIBUTE_DATA_OFFSET, visitor);
+          transformEntryData(entryOffset + ATTRIBUTE_DATA_OFFSET, visitor);
         } else if (type == RES_DYNAMIC_REFERENCE || type == RES_DYNAMIC_ATTRIBUTE) {
           throw new UnsupportedOperationException();
         }
         int size = entryData.getShort(entryOffset + ATTRIBUTE_SIZE_OFFSET);
         entryOffset += 4 + size;
       }
-      sortAttributesAt(entryData, count, entryStart);
+      sortAttributesAt(count, entryStart);
     } else {
       int type = entryData.get(offset + 11);
       if (type == RES_REFERENCE || type == RES_ATTRIBUTE) {
         // Visit the value if it's a reference.
-        transformEntryDataOffset(entryData, offset + 12, visitor);
+        transformEntryData(offset + 12, visitor);
       } else if (type == RES_DYNAMIC_REFERENCE || type == RES_DYNAMIC_ATTRIBUTE) {
         throw new UnsupportedOperationException();
       }
     }
   }
 
-  private void sortAttributesAt(ByteBuffer entryData, int attrCount, int attrStart) {
+  private void sortAttributesAt(int attrCount, int attrStart) {
+    if (areAttributesSortedAt(entryData, attrCount, attrStart)) {
+      // Leave the data untouched, so that visiting references never writes to it.
+      return;
+    }
     class AttrRef implements Comparable<AttrRef> {
       final int offset;
       final int size;
@@ -484,9 +509,25 @@ public class ResTableType extends ResChunk {
         .build()
         .sorted()
         .forEachOrdered(ref -> newBuf.put(slice(entryData, ref.offset, ref.size)));
+    entryData = writable(entryData);
     slice(entryData, attrStart).put(newData);
   }
 
+  private static boolean areAttributesSortedAt(
+      ByteBuffer entryData, int attrCount, int attrStart) {
+    int entryOffset = attrStart;
+    int previousResId = Integer.MIN_VALUE;
+    for (int j = 0; j < attrCount; j++) {
+      int resId = entryData.getInt(entryOffset + ATTRIBUTE_NAME_REF_OFFSET);
+      if (j > 0 && resId - previousResId < 0) {
+        return false;
+      }
+      previousResId = resId;
+      entryOffset += 4 + entryData.getShort(entryOffset + ATTRIBUTE_SIZE_OFFSET);
+    }
+    return true;
+  }
+
   public void transformReferences(RefTransformer visitor) {
     for (int i = 0; i < entryCount; i++) {
       int offset = getEntryValueOffset(i);
@@ -516,6 +557,9 @@ public class ResTableType extends ResChunk {
 
   public void reassignIds(ReferenceMapper refMapping) {
     transformReferences(refMapping::map);
-    refMapping.rewrite(getResourceType(), entryOffsets.asIntBuffer());
+    if (refMapping.rewrites(getResourceType())) {
+      entryOffsets = writable(entryOffsets);
+      refMapping.rewrite(getResourceType(), entryOffsets.asIntBuffer());
+    }
   }
 }
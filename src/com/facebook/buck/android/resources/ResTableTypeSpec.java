@@ -41,7 +41,8 @@ public class ResTableTypeSpec extends ResChunk {
   private final int entryCount;
   private final List<ResTableType> configs;
   private final int totalSize;
-  private final ByteBuffer entryFlags;
+  // Copied on the first write if it is read-only, like the data of the configs.
+  private ByteBuffer entryFlags;
 
   public static ResTableTypeSpec slice(ResTableTypeSpec spec, int count) {
     ImmutableList<ResTableType> configs =
@@ -58,16 +59,23 @@ public class ResTableTypeSpec extends ResChunk {
   public void put(ByteBuffer output) {
     Preconditions.checkState(output.remaining() >= totalSize);
     int start = output.position();
-    putChunkHeader(output);
-    output.put((byte) (id + 1));
-    output.put((byte) 0);
-    output.putShort((short) 0);
-    output.putInt(entryCount);
-    output.put(slice(entryFlags, 0));
-    configs.forEach(c -> c.put(output));
+    putFromBuffers(output);
     Preconditions.checkState(output.position() == start + totalSize);
   }
 
+  @Override
+  public void putBuffers(List<ByteBuffer> output) {
+    ByteBuffer header = wrap(new byte[HEADER_SIZE]);
+    putChunkHeader(header);
+    header.put((byte) (id + 1));
+    header.put((byte) 0);
+    header.putShort((short) 0);
+    header.putInt(entryCount);
+    output.add(slice(header, 0));
+    output.add(slice(entryFlags, 0));
+    configs.forEach(c -> c.putBuffers(output));
+  }
+
   public static ResTableTypeSpec get(ByteBuffer buf) {
     int type = buf.getShort();
     int headerSize = buf.getShort();
@@ -187,7 +195,10 @@ public class ResTableTypeSpec extends ResChunk {
   }
 
   public void reassignIds(ReferenceMapper refMapping) {
-    refMapping.rewrite(getResourceType(), entryFlags.asIntBuffer());
+    if (refMapping.rewrites(getResourceType())) {
+      entryFlags = writable(entryFlags);
+      refMapping.rewrite(getResourceType(), entryFlags.asIntBuffer());
+    }
     configs.forEach(c -> c.reassignIds(refMapping));
   }
 
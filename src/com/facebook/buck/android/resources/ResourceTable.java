@@ -24,6 +24,7 @@ import com.google.common.collect.Maps;
 import java.io.PrintStream;
 import java.nio.ByteBuffer;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.IntStream;
 
@@ -72,12 +73,17 @@ public class ResourceTable extends ResChunk {
 
   @Override
   public void put(ByteBuffer buf) {
-    putChunkHeader(buf);
-    buf.putInt(1); // packageCount
-    Preconditions.checkState(buf.position() == HEADER_SIZE);
-    strings.put(buf);
-    Preconditions.checkState(buf.position() == HEADER_SIZE + strings.getChunkSize());
-    resPackage.put(buf);
+    putFromBuffers(buf);
+  }
+
+  @Override
+  public void putBuffers(List<ByteBuffer> output) {
+    ByteBuffer header = wrap(new byte[HEADER_SIZE]);
+    putChunkHeader(header);
+    header.putInt(1); // packageCount
+    output.add(slice(header, 0));
+    strings.putBuffers(output);
+    resPackage.putBuffers(output);
   }
 
   public void reassignIds(ReferenceMapper refMapping) {
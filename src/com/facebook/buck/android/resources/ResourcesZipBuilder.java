@@ -17,11 +17,14 @@
 package com.facebook.buck.android.resources;
 
 import com.facebook.buck.util.zip.DeterministicZipBuilder;
+import com.facebook.buck.util.zip.MappedCentralDirectory;
 import java.io.ByteArrayInputStream;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.zip.CRC32;
 import java.util.zip.Deflater;
 
@@ -60,6 +63,22 @@ public class ResourcesZipBuilder implements Closeable {
     }
   }
 
+  public void addEntry(List<ByteBuffer> data, String name, int compressionLevel)
+      throws IOException {
+    builder.addEntry(data, name, compressionLevel);
+    if (name.equals(ANDROID_MANIFEST_XML)) {
+      hasManifest = true;
+    }
+  }
+
+  public void copyEntry(MappedCentralDirectory source, int sourceEntry, String name)
+      throws IOException {
+    builder.copyEntry(source, sourceEntry, name);
+    if (name.equals(ANDROID_MANIFEST_XML)) {
+      hasManifest = true;
+    }
+  }
+
   @Override
   public void close() throws IOException {
     if (!hasManifest) {
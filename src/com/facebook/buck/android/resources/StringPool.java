@@ -161,17 +161,24 @@ public class StringPool extends ResChunk {
 
   @Override
   public void put(ByteBuffer output) {
-    putChunkHeader(output);
-    output.putInt(stringCount);
-    output.putInt(styleCount);
-    output.putInt((utf8 ? UTF8_FLAG : 0) | (sorted ? SORTED_FLAG : 0));
+    putFromBuffers(output);
+  }
+
+  @Override
+  public void putBuffers(List<ByteBuffer> output) {
+    ByteBuffer header = wrap(new byte[HEADER_SIZE]);
+    putChunkHeader(header);
+    header.putInt(stringCount);
+    header.putInt(styleCount);
+    header.putInt((utf8 ? UTF8_FLAG : 0) | (sorted ? SORTED_FLAG : 0));
     int stringsStart = HEADER_SIZE + 4 * (stringCount + styleCount);
-    output.putInt(stringsStart);
-    output.putInt(styleCount == 0 ? 0 : stringsStart + stringData.limit());
-    output.put(slice(stringOffsets, 0));
-    output.put(slice(styleOffsets, 0));
-    output.put(slice(stringData, 0));
-    output.put(slice(styleData, 0));
+    header.putInt(stringsStart);
+    header.putInt(styleCount == 0 ? 0 : stringsStart + stringData.limit());
+    output.add(slice(header, 0));
+    output.add(slice(stringOffsets, 0));
+    output.add(slice(styleOffsets, 0));
+    output.add(slice(stringData, 0));
+    output.add(slice(styleData, 0));
   }
 
   private int getUtf8Length(int offset) {
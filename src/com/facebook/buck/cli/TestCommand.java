@@ -264,6 +264,7 @@ public class TestCommand extends BuildCommand {
     EnumSet<CoverageReportFormat> coverageFormats = EnumSet.noneOf(CoverageReportFormat.class);
     coverageFormats.addAll(Arrays.asList(this.coverageReportFormats));
 
+    JavaBuckConfig javaBuckConfig = params.getBuckConfig().getView(JavaBuckConfig.class);
     TestRunningOptions.Builder builder =
         TestRunningOptions.builder()
             .setCodeCoverageEnabled(isCodeCoverageEnabled)
@@ -276,7 +277,9 @@ public class TestCommand extends BuildCommand {
             .setCoverageReportFormats(coverageFormats)
             .setCoverageReportTitle(coverageReportTitle)
             .setEnvironmentOverrides(environmentOverrides)
-            .setJavaTempDir(params.getBuckConfig().getView(JavaBuckConfig.class).getJavaTempDir());
+            .setJavaTempDir(javaBuckConfig.getJavaTempDir())
+            .setJavaTestShards(javaBuckConfig.getTestShards())
+            .setJavaTestWorkers(javaBuckConfig.getTestWorkers());
 
     TestBuckConfig testBuckConfig = params.getBuckConfig().getView(TestBuckConfig.class);
     Optional<ImmutableList<String>> coverageIncludes = testBuckConfig.getCoverageIncludes();
@@ -69,6 +69,7 @@ import com.facebook.buck.core.rules.build.strategy.BuildRuleStrategy;
 import com.facebook.buck.core.rules.build.strategy.BuildRuleStrategy.StrategyBuildResult;
 import com.facebook.buck.core.rules.pipeline.RulePipelineState;
 import com.facebook.buck.core.rules.pipeline.SupportsPipelining;
+import com.facebook.buck.core.rules.schedule.OverrideResourceAmountsRule;
 import com.facebook.buck.core.rules.schedule.OverrideScheduleRule;
 import com.facebook.buck.core.rules.schedule.RuleScheduleInfo;
 import com.facebook.buck.core.sourcepath.SourcePath;
@@ -1279,7 +1280,11 @@ class CachingBuildRuleBuilder {
 
   private ResourceAmounts getRuleResourceAmounts() {
     if (resourceAwareSchedulingInfo.isResourceAwareSchedulingEnabled()) {
-      return resourceAwareSchedulingInfo.getResourceAmountsForRule(rule);
+      ResourceAmounts amounts = resourceAwareSchedulingInfo.getResourceAmountsForRule(rule);
+      if (rule instanceof OverrideResourceAmountsRule && !amounts.equals(ResourceAmounts.zero())) {
+        return ((OverrideResourceAmountsRule) rule).getResourceAmounts(pathResolver, amounts);
+      }
+      return amounts;
     } else {
       return getResourceAmountsForRuleWithCustomScheduleInfo();
     }
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.core.rules.schedule;
+
+import com.facebook.buck.core.rules.BuildRule;
+import com.facebook.buck.core.sourcepath.resolver.SourcePathResolverAdapter;
+import com.facebook.buck.util.concurrent.ResourceAmounts;
+
+/**
+ * A interface for a {@link BuildRule} which refines the resource amounts it is scheduled with when
+ * resource aware scheduling is enabled.
+ *
+ * <p>The build engine only asks for the amounts once all of the rule's deps have been built, so
+ * implementations may inspect their inputs on disk.
+ */
+public interface OverrideResourceAmountsRule extends BuildRule {
+
+  /**
+   * @param configuredAmounts the amounts configured for this rule's type (or the defaults).
+   * @return the amounts that should be acquired while building this rule locally.
+   */
+  ResourceAmounts getResourceAmounts(
+      SourcePathResolverAdapter pathResolver, ResourceAmounts configuredAmounts);
+}
@@ -29,6 +29,7 @@ import com.facebook.buck.core.toolchain.tool.Tool;
 import com.facebook.buck.cxx.toolchain.ArchiveContents;
 import com.facebook.buck.cxx.toolchain.Archiver;
 import com.facebook.buck.cxx.toolchain.CxxPlatform;
+import com.facebook.buck.cxx.toolchain.GnuArchiver;
 import com.facebook.buck.cxx.toolchain.LinkerMapMode;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.rules.args.Arg;
@@ -68,11 +69,53 @@ public class Archive extends ModernBuildRule<Archive.Impl> {
       String outputFileName,
       ImmutableList<SourcePath> inputs,
       boolean cacheable) {
+    this(
+        buildTarget,
+        projectFilesystem,
+        ruleFinder,
+        archiver,
+        archiverFlags,
+        ranlib,
+        ranlibFlags,
+        contents,
+        outputFileName,
+        inputs,
+        cacheable,
+        false);
+  }
+
+  @VisibleForTesting
+  Archive(
+      BuildTarget buildTarget,
+      ProjectFilesystem projectFilesystem,
+      SourcePathRuleFinder ruleFinder,
+      Archiver archiver,
+      ImmutableList<Arg> archiverFlags,
+      Optional<Tool> ranlib,
+      ImmutableList<Arg> ranlibFlags,
+      ArchiveContents contents,
+      String outputFileName,
+      ImmutableList<SourcePath> inputs,
+      boolean cacheable,
+      boolean inProcess) {
     super(
         buildTarget,
         projectFilesystem,
         ruleFinder,
-        new Impl(archiver, archiverFlags, ranlib, ranlibFlags, contents, outputFileName, inputs));
+        new Impl(
+            archiver,
+            archiverFlags,
+            ranlib,
+            ranlibFlags,
+            contents,
+            outputFileName,
+            inputs,
+            // The in-process writer can't honour archiver or ranlib flags, so rules that pass any
+            // keep using the external tools.
+            inProcess
+                && archiver instanceof GnuArchiver
+                && archiverFlags.isEmpty()
+                && ranlibFlags.isEmpty()));
     Preconditions.checkState(
         contents == ArchiveContents.NORMAL || archiver.supportsThinArchives(),
         "%s: archive tool for this platform does not support thin archives",
@@ -108,7 +151,8 @@ public class Archive extends ModernBuildRule<Archive.Impl> {
         contents,
         outputFileName,
         inputs,
-        cacheable);
+        cacheable,
+        platform.getInProcessArchiver());
   }
 
   /** @return the {@link Archive} created from the given parameters. */
@@ -140,6 +184,7 @@ public class Archive extends ModernBuildRule<Archive.Impl> {
     @AddToRuleKey private final ArchiveContents contents;
     @AddToRuleKey private final OutputPath output;
     @AddToRuleKey private final ImmutableList<SourcePath> inputs;
+    @AddToRuleKey private final boolean inProcess;
 
     Impl(
         Archiver archiver,
@@ -148,7 +193,8 @@ public class Archive extends ModernBuildRule<Archive.Impl> {
         ImmutableList<Arg> ranlibFlags,
         ArchiveContents contents,
         String outputFileName,
-        ImmutableList<SourcePath> inputs) {
+        ImmutableList<SourcePath> inputs,
+        boolean inProcess) {
       this.archiver = archiver;
       this.archiverFlags = archiverFlags;
       this.ranlib = ranlib;
@@ -156,6 +202,7 @@ public class Archive extends ModernBuildRule<Archive.Impl> {
       this.contents = contents;
       this.output = new OutputPath(outputFileName);
       this.inputs = inputs;
+      this.inProcess = inProcess;
     }
 
     @Override
@@ -178,21 +225,35 @@ public class Archive extends ModernBuildRule<Archive.Impl> {
 
       ImmutableList.Builder<Step> builder = ImmutableList.builder();
       Path outputPath = outputPathResolver.resolvePath(output);
-      builder
-          .add(MkdirStep.of(buildCellPathFactory.from(outputPath.getParent())))
-          .add(
-              new ArchiveStep(
-                  filesystem,
-                  archiver.getEnvironment(resolver),
-                  archiver.getCommandPrefix(resolver),
-                  Arg.stringify(archiverFlags, resolver),
-                  archiver.getArchiveOptions(contents == ArchiveContents.THIN),
-                  outputPath,
-                  inputs.stream()
-                      .map(resolver::getRelativePath)
-                      .collect(ImmutableList.toImmutableList()),
-                  archiver,
-                  outputPathResolver.getTempPath()));
+      builder.add(MkdirStep.of(buildCellPathFactory.from(outputPath.getParent())));
+
+      // The in-process writer produces the same output as ar, ranlib and the GNU scrubber.
+      if (inProcess) {
+        return builder
+            .add(
+                new InProcessArchiveStep(
+                    filesystem,
+                    outputPath,
+                    inputs.stream()
+                        .map(resolver::getRelativePath)
+                        .collect(ImmutableList.toImmutableList()),
+                    contents == ArchiveContents.THIN))
+            .build();
+      }
+
+      builder.add(
+          new ArchiveStep(
+              filesystem,
+              archiver.getEnvironment(resolver),
+              archiver.getCommandPrefix(resolver),
+              Arg.stringify(archiverFlags, resolver),
+              archiver.getArchiveOptions(contents == ArchiveContents.THIN),
+              outputPath,
+              inputs.stream()
+                  .map(resolver::getRelativePath)
+                  .collect(ImmutableList.toImmutableList()),
+              archiver,
+              outputPathResolver.getTempPath()));
 
       if (archiver.isRanLibStepRequired()) {
         Tool tool = ranlib.get();
@@ -21,8 +21,10 @@ import com.facebook.buck.core.filesystems.RelPath;
 import com.facebook.buck.core.model.BuildTarget;
 import com.facebook.buck.core.rulekey.AddToRuleKey;
 import com.facebook.buck.core.rules.SourcePathRuleFinder;
+import com.facebook.buck.core.rules.schedule.OverrideResourceAmountsRule;
 import com.facebook.buck.core.sourcepath.SourcePath;
 import com.facebook.buck.core.sourcepath.resolver.SourcePathResolverAdapter;
+import com.facebook.buck.core.util.log.Logger;
 import com.facebook.buck.cxx.CxxSource.Type;
 import com.facebook.buck.cxx.toolchain.DebugPathSanitizer;
 import com.facebook.buck.cxx.toolchain.LinkerMapMode;
@@ -37,14 +39,30 @@ import com.facebook.buck.rules.modern.OutputPath;
 import com.facebook.buck.rules.modern.OutputPathResolver;
 import com.facebook.buck.step.Step;
 import com.facebook.buck.step.fs.MkdirStep;
+import com.facebook.buck.util.concurrent.ResourceAmounts;
+import com.facebook.buck.util.concurrent.ResourceAmountsEstimator;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
+import com.google.common.math.LongMath;
+import java.io.IOException;
+import java.math.RoundingMode;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Optional;
 
 /** A build rule which runs the opt phase of an incremental ThinLTO build */
 public class CxxThinLTOOpt extends ModernBuildRule<CxxThinLTOOpt.Impl>
-    implements CxxIntermediateBuildProduct {
+    implements CxxIntermediateBuildProduct, OverrideResourceAmountsRule {
+  private static final Logger LOG = Logger.get(CxxThinLTOOpt.class);
+
+  /**
+   * Rough ratio between the size of serialized bitcode and the memory the backend needs to hold it
+   * as IR and run the optimization pipeline over it. Chosen conservatively so that packing opt jobs
+   * by their estimates doesn't run the machine out of memory.
+   */
+  @VisibleForTesting static final int BITCODE_TO_MEMORY_FACTOR = 8;
+
   private CxxThinLTOOpt(
       BuildTarget buildTarget,
       ProjectFilesystem projectFilesystem,
@@ -121,6 +139,79 @@ public class CxxThinLTOOpt extends ModernBuildRule<CxxThinLTOOpt.Impl>
     return getBuildable().input;
   }
 
+  /**
+   * Scales the memory this rule is scheduled with by the size of the work the ThinLTO backend is
+   * going to do. The backend loads the module being optimized along with every module it imports
+   * functions from, which the indexing step lists in the module's imports file.
+   */
+  @Override
+  public ResourceAmounts getResourceAmounts(
+      SourcePathResolverAdapter pathResolver, ResourceAmounts configuredAmounts) {
+    Path inputPath = pathResolver.getRelativePath(getBuildable().input);
+    Path indexPrefix =
+        pathResolver.getRelativePath(getBuildable().thinIndicesRoot).resolve(inputPath);
+    long estimatedBytes;
+    try {
+      estimatedBytes = estimateMemoryBytes(getProjectFilesystem(), inputPath, indexPrefix);
+    } catch (IOException e) {
+      LOG.warn(e, "Unable to estimate memory usage of %s from its ThinLTO index", this);
+      return configuredAmounts;
+    }
+
+    int estimatedMemory =
+        (int)
+            Math.min(
+                Integer.MAX_VALUE,
+                LongMath.divide(
+                    estimatedBytes,
+                    ResourceAmountsEstimator.MEMORY_UNIT_BYTES,
+                    RoundingMode.CEILING));
+    LOG.debug(
+        "%s: estimated %d bytes (%d memory units) for ThinLTO backend",
+        this, estimatedBytes, estimatedMemory);
+    if (estimatedMemory <= configuredAmounts.getMemory()) {
+      return configuredAmounts;
+    }
+    return ResourceAmounts.of(
+        configuredAmounts.getCpu(),
+        estimatedMemory,
+        configuredAmounts.getDiskIO(),
+        configuredAmounts.getNetworkIO());
+  }
+
+  /**
+   * @param inputPath the bitcode module being optimized.
+   * @param indexPrefix the path the indexing step wrote this module's artifacts to, without the
+   *     {@code .thinlto.bc} and {@code .imports} extensions.
+   * @return an estimate of the peak memory used by the ThinLTO backend for the module.
+   */
+  @VisibleForTesting
+  static long estimateMemoryBytes(ProjectFilesystem filesystem, Path inputPath, Path indexPrefix)
+      throws IOException {
+    long bitcodeBytes = filesystem.getFileSize(inputPath);
+
+    Path indexFile = Paths.get(indexPrefix + ".thinlto.bc");
+    if (filesystem.isFile(indexFile)) {
+      bitcodeBytes += filesystem.getFileSize(indexFile);
+    }
+
+    // Modules are listed relative to the directory the linker ran in, which is the project root.
+    Path importsFile = Paths.get(indexPrefix + ".imports");
+    if (filesystem.isFile(importsFile)) {
+      for (String line : filesystem.readLines(importsFile)) {
+        if (line.isEmpty()) {
+          continue;
+        }
+        Path importedModule = Paths.get(line);
+        if (filesystem.isFile(importedModule)) {
+          bitcodeBytes += filesystem.getFileSize(importedModule);
+        }
+      }
+    }
+
+    return bitcodeBytes * BITCODE_TO_MEMORY_FACTOR;
+  }
+
   /** Buildable implementation for CxxThinLTOOpt. */
   public static class Impl implements Buildable {
     @AddToRuleKey private final BuildTarget targetName;
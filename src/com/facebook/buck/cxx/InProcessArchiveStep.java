@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.build.execution.context.ExecutionContext;
+import com.facebook.buck.cxx.toolchain.objectfile.GnuArchiveWriter;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.step.Step;
+import com.facebook.buck.step.StepExecutionResult;
+import com.facebook.buck.step.StepExecutionResults;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Create a GNU object archive without running ar or ranlib. The result is identical to running
+ * {@link ArchiveStep} and {@link RanlibStep} with a GNU archiver and then scrubbing the output.
+ */
+class InProcessArchiveStep implements Step {
+
+  private final ProjectFilesystem filesystem;
+  private final Path output;
+  private final ImmutableList<Path> inputs;
+  private final boolean thin;
+
+  public InProcessArchiveStep(
+      ProjectFilesystem filesystem, Path output, ImmutableList<Path> inputs, boolean thin) {
+    Preconditions.checkArgument(!output.isAbsolute());
+    // Thin archives embed paths relative to the output, so inputs must come from the same cell.
+    for (Path input : inputs) {
+      Preconditions.checkArgument(!input.isAbsolute());
+    }
+    this.filesystem = filesystem;
+    this.output = output;
+    this.inputs = inputs;
+    this.thin = thin;
+  }
+
+  private ImmutableList<Path> getAllInputs() throws IOException {
+    ImmutableList.Builder<Path> allInputs = ImmutableList.builder();
+
+    // Inputs can either be files or directories.  In the case of the latter, we add all files
+    // found from a recursive search, sorted in the same order ArchiveStep passes them to ar.
+    for (Path input : inputs) {
+      if (filesystem.isDirectory(input)) {
+        Set<String> dirFiles = new TreeSet<>();
+        filesystem.walkFileTree(
+            filesystem.resolve(input),
+            new SimpleFileVisitor<Path>() {
+              @Override
+              public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                dirFiles.add(file.toString());
+                return FileVisitResult.CONTINUE;
+              }
+            });
+        for (String file : dirFiles) {
+          allInputs.add(filesystem.resolve(file));
+        }
+      } else {
+        allInputs.add(filesystem.resolve(input));
+      }
+    }
+
+    return allInputs.build();
+  }
+
+  @Override
+  public StepExecutionResult execute(ExecutionContext context) throws IOException {
+    ImmutableList<Path> allInputs = getAllInputs();
+    if (allInputs.isEmpty()) {
+      filesystem.writeContentsToPath("!<arch>\n", output);
+    } else {
+      GnuArchiveWriter.write(filesystem.resolve(output), allInputs, thin);
+    }
+    return StepExecutionResults.SUCCESS;
+  }
+
+  @Override
+  public String getDescription(ExecutionContext context) {
+    return String.format("archive %s%s", thin ? "(thin) " : "", output);
+  }
+
+  @Override
+  public String getShortName() {
+    return "archive";
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.util.log.Logger;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The include tree of a single translation unit, as printed by {@code cl.exe /showIncludes} (one
+ * header per line, indented by one space per level of nesting).
+ *
+ * <p>The tree is parsed once, and each header remembers the header which first included it, so
+ * finding the include chain which reached a header is a hash lookup followed by a walk up the
+ * tree. Header paths are interned across every graph in the build, as the same system and
+ * third-party headers show up in most translation units.
+ */
+class IncludeGraph {
+
+  private static final Logger LOG = Logger.get(IncludeGraph.class);
+
+  private static final Interner<Path> PATH_INTERNER = Interners.newWeakInterner();
+  private static final int NO_PARENT = -1;
+
+  private final Path[] headers;
+  private final int[] parents;
+  private final Map<Path, Integer> firstOccurrences;
+
+  private IncludeGraph(Path[] headers, int[] parents, Map<Path, Integer> firstOccurrences) {
+    this.headers = headers;
+    this.parents = parents;
+    this.firstOccurrences = firstOccurrences;
+  }
+
+  /**
+   * @param includeLines the indented include lines, without the line for the source file itself.
+   * @param toHeaderPath converts a trimmed line to the path the header is reported as.
+   * @param description names the depfile when logging lines that aren't part of the tree.
+   */
+  static IncludeGraph parse(
+      List<String> includeLines, Function<String, Path> toHeaderPath, String description) {
+    Path[] headers = new Path[includeLines.size()];
+    int[] parents = new int[includeLines.size()];
+    Map<Path, Integer> firstOccurrences = new HashMap<>();
+
+    // We parse the tree structure linearly by maintaining a stack of the current active parents.
+    int[] activeParents = new int[16];
+    int depth = 0;
+    int i = 0;
+    for (String line : includeLines) {
+      int currentDepth = countCharAtTheBeginning(line, ' ') - 1;
+      if (currentDepth < 0 || currentDepth > depth || line.trim().isEmpty()) {
+        // Not part of the include tree, which is only used to explain where headers came from.
+        LOG.debug("Ignoring unexpected line in the dependency file for %s: %s", description, line);
+        continue;
+      }
+      depth = currentDepth;
+
+      Path header = PATH_INTERNER.intern(toHeaderPath.apply(line.trim()));
+      headers[i] = header;
+      parents[i] = depth == 0 ? NO_PARENT : activeParents[depth - 1];
+      firstOccurrences.putIfAbsent(header, i);
+
+      if (depth == activeParents.length) {
+        activeParents = Arrays.copyOf(activeParents, depth * 2);
+      }
+      activeParents[depth++] = i++;
+    }
+    return new IncludeGraph(Arrays.copyOf(headers, i), Arrays.copyOf(parents, i), firstOccurrences);
+  }
+
+  /**
+   * @return the chain of includes which first reached {@code header}, starting with {@code header}
+   *     itself and ending with a header included directly by the source file, or just {@code
+   *     header} if it was never included.
+   */
+  ImmutableList<Path> getIncludeChain(Path header) {
+    Integer index = firstOccurrences.get(header);
+    if (index == null) {
+      return ImmutableList.of(header);
+    }
+    List<Path> chain = new ArrayList<>();
+    for (int i = index; i != NO_PARENT; i = parents[i]) {
+      chain.add(headers[i]);
+    }
+    return ImmutableList.copyOf(chain);
+  }
+
+  private static int countCharAtTheBeginning(String str, char c) {
+    int i = 0;
+    while (i < str.length() && str.charAt(i) == c) {
+      i++;
+    }
+    return i;
+  }
+}
@@ -18,15 +18,10 @@ package com.facebook.buck.cxx;
 
 import com.facebook.buck.core.sourcepath.resolver.SourcePathResolverAdapter;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
-import com.google.common.base.Preconditions;
-import com.google.common.collect.ListMultimap;
-import com.google.common.collect.Lists;
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.Stack;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 
@@ -46,9 +41,9 @@ class UntrackedHeaderReporterWithShowIncludes implements UntrackedHeaderReporter
   private final ProjectFilesystem filesystem;
   private final HeaderPathNormalizer headerPathNormalizer;
   private final Path sourceDepFile;
-  // We parse the dependency tree by saving the parents for each header.
-  // We load the tree lazily on request.
-  @Nullable private ListMultimap<Path, Path> treeParents;
+  // We parse the dependency tree on the first request, and reuse it for every other untracked
+  // header of this compilation.
+  @Nullable private IncludeGraph includeGraph;
 
   public UntrackedHeaderReporterWithShowIncludes(
       ProjectFilesystem filesystem,
@@ -59,46 +54,29 @@ class UntrackedHeaderReporterWithShowIncludes implements UntrackedHeaderReporter
     this.inputPath = inputPath;
     this.sourceDepFile = sourceDepFile;
     this.headerPathNormalizer = headerPathNormalizer;
-    this.treeParents = null;
+    this.includeGraph = null;
   }
 
-  private List<Path> getPathToUntrackedHeader(SourcePathResolverAdapter pathResolver, Path header)
+  private IncludeGraph getIncludeGraph(SourcePathResolverAdapter pathResolver)
       throws IOException {
-    // An intermediate depfile in `show_include` mode contains a source file + used headers
-    // (see CxxPreprocessAndCompileStep for details).
-    // So, we "strip" the the source file first.
-    List<String> srcAndIncludes = filesystem.readLines(sourceDepFile);
-    List<String> includes = srcAndIncludes.subList(1, srcAndIncludes.size());
-    return getPathToUntrackedHeader(pathResolver, includes, header);
-  }
-
-  /**
-   * @return a list of headers that represents a chain of includes ending in a particular header.
-   */
-  private List<Path> getPathToUntrackedHeader(
-      SourcePathResolverAdapter pathResolver, List<String> includeLines, Path header) {
-    // We parse the tree structure linearly by maintaining a stack of the current active parents.
-    Stack<Path> active_parents = new Stack<Path>();
-    for (String line : includeLines) {
-      int currentDeepLevel = countCharAtTheBeginning(line, ' ') - 1;
-      Preconditions.checkState(
-          currentDeepLevel <= active_parents.size(),
-          "Error parsing dependency file for %s",
-          prettyPrintFileName(inputPath, true));
-      while (currentDeepLevel < active_parents.size()) {
-        active_parents.pop();
-      }
-      Path currentHeader = filesystem.resolve(line.trim()).normalize();
-      currentHeader =
-          headerPathNormalizer
-              .getAbsolutePathForUnnormalizedPath(pathResolver, currentHeader)
-              .orElse(currentHeader);
-      active_parents.push(currentHeader);
-      if (currentHeader.equals(header)) {
-        return Lists.reverse(active_parents);
-      }
+    if (includeGraph == null) {
+      // An intermediate depfile in `show_include` mode contains a source file + used headers
+      // (see CxxPreprocessAndCompileStep for details).
+      // So, we "strip" the the source file first.
+      List<String> srcAndIncludes = filesystem.readLines(sourceDepFile);
+      List<String> includes = srcAndIncludes.subList(1, srcAndIncludes.size());
+      includeGraph =
+          IncludeGraph.parse(
+              includes,
+              line -> {
+                Path header = filesystem.resolve(line).normalize();
+                return headerPathNormalizer
+                    .getAbsolutePathForUnnormalizedPath(pathResolver, header)
+                    .orElse(header);
+              },
+              prettyPrintFileName(inputPath, true));
     }
-    return Collections.singletonList(header);
+    return includeGraph;
   }
 
   @Override
@@ -113,7 +91,7 @@ class UntrackedHeaderReporterWithShowIncludes implements UntrackedHeaderReporter
         headerPathNormalizer
             .getAbsolutePathForUnnormalizedPath(pathResolver, header)
             .orElse(header);
-    List<Path> chain = getPathToUntrackedHeader(pathResolver, absolutePath);
+    List<Path> chain = getIncludeGraph(pathResolver).getIncludeChain(absolutePath);
     String errorMessage =
         String.format(
             "%s: included an untracked header: %n%s",
@@ -135,12 +113,4 @@ class UntrackedHeaderReporterWithShowIncludes implements UntrackedHeaderReporter
         .map((file) -> prettyPrintFileName(file, false))
         .collect(Collectors.joining(CHAIN_SEPARATOR));
   }
-
-  private static int countCharAtTheBeginning(String str, char c) {
-    int i = 0;
-    while (i < str.length() && str.charAt(i) == c) {
-      i++;
-    }
-    return i;
-  }
 }
@@ -116,6 +116,7 @@ public class CxxBuckConfig {
   private static final String USE_ARG_FILE = "use_arg_file";
   private static final String TOOLCHAIN_TARGET = "toolchain_target";
   private static final String FILEPATH_LENGTH_LIMITED = "filepath_length_limited";
+  private static final String IN_PROCESS_ARCHIVER = "in_process_archiver";
 
   private static final String CHECK_GTEST_TEST_LIST = "check_gtest_test_list";
 
@@ -611,6 +612,11 @@ public class CxxBuckConfig {
     return delegate.getBooleanValue(cxxSection, FILEPATH_LENGTH_LIMITED, false);
   }
 
+  /** @return whether GNU archives should be written in-process instead of with ar and ranlib. */
+  public Boolean getInProcessArchiver() {
+    return delegate.getBooleanValue(cxxSection, IN_PROCESS_ARCHIVER, false);
+  }
+
   public BuckConfig getDelegate() {
     return delegate;
   }
@@ -168,6 +168,15 @@ public interface CxxPlatform extends FlavorConvertible {
     return false;
   }
 
+  /**
+   * @return whether archives built with a GNU archiver should be written in-process, rather than by
+   *     running ar and ranlib.
+   */
+  @Value.Default
+  default boolean getInProcessArchiver() {
+    return false;
+  }
+
   static Builder builder() {
     return new Builder();
   }
@@ -46,6 +46,9 @@ public class ElfSymbolTable {
   /** Encapsulate the data in an ELF section header. */
   public static class Entry {
 
+    /** Section index of symbols which are referenced but not defined by this object. */
+    public static final int SHN_UNDEF = 0;
+
     // CHECKSTYLE.OFF: MemberName
     public final long st_name;
     public final Info st_info;
@@ -123,7 +126,7 @@ public class ElfSymbolTable {
       }
 
       public static Info parse(ByteBuffer buffer) {
-        int st_info = buffer.get();
+        int st_info = buffer.get() & 0xFF;
         return new Info(Bind.ofIntValue(st_info >> 4), Type.ofIntValue(st_info & 0xF));
       }
 
@@ -135,6 +138,7 @@ public class ElfSymbolTable {
         STB_LOCAL(0),
         STB_GLOBAL(1),
         STB_WEAK(2),
+        STB_GNU_UNIQUE(10),
         ;
 
         private int value;
@@ -161,6 +165,7 @@ public class ElfSymbolTable {
         STT_FILE(4),
         STT_COMMON(5),
         STT_TLS(6),
+        STT_GNU_IFUNC(10),
         ;
 
         private int value;
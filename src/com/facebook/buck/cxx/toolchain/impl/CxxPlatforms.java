@@ -194,7 +194,8 @@ public class CxxPlatforms {
         .setConflictingHeaderBasenameWhitelist(config.getConflictingHeaderBasenameWhitelist())
         .setHeaderMode(config.getHeaderMode())
         .setUseArgFile(config.getUseArgFile())
-        .setFilepathLengthLimited(config.getFilepathLengthLimited());
+        .setFilepathLengthLimited(config.getFilepathLengthLimited())
+        .setInProcessArchiver(config.getInProcessArchiver());
 
     builder.setSymbolNameTool(
         config.getNm().<SymbolNameTool>map(PosixNmSymbolNameTool::new).orElse(nm));
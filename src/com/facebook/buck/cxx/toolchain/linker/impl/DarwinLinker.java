@@ -29,6 +29,7 @@ import com.facebook.buck.cxx.toolchain.linker.HasLTO;
 import com.facebook.buck.cxx.toolchain.linker.HasLinkerMap;
 import com.facebook.buck.cxx.toolchain.linker.Linker;
 import com.facebook.buck.cxx.toolchain.objectfile.LcUuidContentsScrubber;
+import com.facebook.buck.cxx.toolchain.objectfile.MachoScrubberDriver;
 import com.facebook.buck.cxx.toolchain.objectfile.OsoSymbolsContentsScrubber;
 import com.facebook.buck.io.file.FileScrubber;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
@@ -66,9 +67,13 @@ public class DarwinLinker extends DelegatingTool
   @Override
   public ImmutableList<FileScrubber> getScrubbers(ImmutableMap<Path, Path> cellRootMap) {
     if (cacheLinks) {
+      // Run both scrubbers over a single mapping of the output. The UUID is a hash of the file
+      // contents, so it must be computed after the OSO entries have been rewritten.
       return ImmutableList.of(
-          new OsoSymbolsContentsScrubber(cellRootMap),
-          new LcUuidContentsScrubber(scrubConcurrently));
+          new MachoScrubberDriver(
+              ImmutableList.of(
+                  new OsoSymbolsContentsScrubber(cellRootMap),
+                  new LcUuidContentsScrubber(scrubConcurrently))));
     } else {
       // there's no point scrubbing the debug info if the linked objects are never getting cached
       return ImmutableList.of();
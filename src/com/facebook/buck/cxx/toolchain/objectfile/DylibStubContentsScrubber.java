@@ -44,22 +44,34 @@ import java.util.Optional;
  *         <li>Update the symbol table
  *       </ul>
  */
-public class DylibStubContentsScrubber implements FileContentsScrubber {
+public class DylibStubContentsScrubber implements FileContentsScrubber, MachoScrubber {
 
   @Override
   public void scrubFile(FileChannel file) throws IOException, ScrubException {
     MappedByteBuffer mappedFile = file.map(FileChannel.MapMode.READ_WRITE, 0, file.size());
-    LcUuidContentsScrubber.resetUuidIfPresent(mappedFile);
+    MachoLoadCommands loadCommands;
+    try {
+      loadCommands = MachoLoadCommands.read(mappedFile);
+    } catch (Machos.MachoException e) {
+      throw new ScrubException(e.getMessage());
+    }
+    scrubMacho(mappedFile, file.size(), loadCommands);
+  }
+
+  @Override
+  public long scrubMacho(MappedByteBuffer mappedFile, long size, MachoLoadCommands loadCommands) {
+    LcUuidContentsScrubber.resetUuidIfPresent(mappedFile, loadCommands);
 
-    Optional<MachoSymTabCommand> maybeCmd = MachoSymTabCommandReader.read(mappedFile);
+    Optional<MachoSymTabCommand> maybeCmd = loadCommands.getSymTabCommand(mappedFile);
     if (maybeCmd.isPresent()) {
       resetSymbolAddressesInSymbolTable(mappedFile, maybeCmd.get());
     }
 
-    Optional<MachoDyldInfoCommand> maybeDyldInfo = MachoDyldInfoCommandReader.read(mappedFile);
+    Optional<MachoDyldInfoCommand> maybeDyldInfo = loadCommands.getDyldInfoCommand(mappedFile);
     if (maybeDyldInfo.isPresent()) {
       resetSymbolAddressesInExportInfo(mappedFile, maybeDyldInfo.get());
     }
+    return size;
   }
 
   private static void resetSymbolAddressesInSymbolTable(
@@ -90,35 +102,27 @@ public class DylibStubContentsScrubber implements FileContentsScrubber {
     machoBuffer.limit(dyldInfoCommand.getExportInfoOffset() + dyldInfoCommand.getExportInfoSize());
 
     ByteBuffer exportInfoBuffer = machoBuffer.slice();
-    Optional<MachoExportTrieNode> tree = MachoExportTrieReader.read(exportInfoBuffer);
-    if (tree.isPresent()) {
-      resetSymbolAddressesInTree(tree.get());
-
-      // We want to reset all addresses to zero and write out a new tree rather than just setting
-      // all existing addresses to zero: that's because symbol offset sizes depends on the offsets
-      // themselves, so we want to make the scrubbed dylib stub be independent from those addresses.
-      // Otherwise, it's possible that the dylib stub will be logically the same (i.e., all
-      // addresses zero) but different on disk due to zero being expressed using different number
-      // of ULEB128 bytes.
-      exportInfoBuffer.rewind();
-      MachoExportTrieWriter.write(tree.get(), exportInfoBuffer);
-
-      // As we set all addresses to 0x0, that means the total size of the trie will _never_ be
-      // larger than the initial trie. Consequently, we do not need to adjust segment sizes and
-      // just need to zero out any remaining parts in the export section.
-      while (exportInfoBuffer.position() < exportInfoBuffer.limit()) {
-        exportInfoBuffer.put((byte) 0x00);
+    MachoExportTrie trie = MachoExportTrie.read(exportInfoBuffer);
+    for (int node = 0; node < trie.getNodeCount(); node++) {
+      if (!trie.hasReexportFlag(node) && !trie.hasStubAndResolverFlag(node)) {
+        trie.setAddress(node, 0x0);
       }
     }
-  }
 
-  private static void resetSymbolAddressesInTree(MachoExportTrieNode node) {
-    if (!node.hasReexportFlag() && !node.hasStubAndResolverFlag()) {
-      node.setAddress(0x0);
-    }
+    // We want to reset all addresses to zero and write out a new tree rather than just setting
+    // all existing addresses to zero: that's because symbol offset sizes depends on the offsets
+    // themselves, so we want to make the scrubbed dylib stub be independent from those addresses.
+    // Otherwise, it's possible that the dylib stub will be logically the same (i.e., all
+    // addresses zero) but different on disk due to zero being expressed using different number
+    // of ULEB128 bytes.
+    exportInfoBuffer.rewind();
+    trie.write(exportInfoBuffer);
 
-    for (MachoExportTrieEdge edge : node.getEdges()) {
-      resetSymbolAddressesInTree(edge.node);
+    // As we set all addresses to 0x0, that means the total size of the trie will _never_ be
+    // larger than the initial trie. Consequently, we do not need to adjust segment sizes and
+    // just need to zero out any remaining parts in the export section.
+    while (exportInfoBuffer.position() < exportInfoBuffer.limit()) {
+      exportInfoBuffer.put((byte) 0x00);
     }
   }
 }
@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.cxx.toolchain.objectfile;
+
+import com.facebook.buck.cxx.toolchain.elf.Elf;
+import com.facebook.buck.cxx.toolchain.elf.ElfSection;
+import com.facebook.buck.cxx.toolchain.elf.ElfSectionHeader;
+import com.facebook.buck.cxx.toolchain.elf.ElfSymbolTable;
+import com.facebook.buck.util.ObjectFileCommonModificationDate;
+import com.google.common.base.Charsets;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes GNU format "ar" archives in-process.
+ *
+ * <p>The output is laid out exactly like running {@code ar qc} (or {@code ar qcT} for thin
+ * archives), then {@code ranlib}, then the date/uid/gid scrubber from {@link ObjectFileScrubbers}
+ * with {@link ObjectFileScrubbers.PaddingStyle#LEFT} padding. Member data is copied to the output
+ * with {@link FileChannel#transferTo} and the symbol table is computed from the ELF symbol tables
+ * of the members, so no subprocess is needed.
+ *
+ * <p>Members which are not ELF objects (e.g. LLVM bitcode) are archived but contribute no symbols
+ * to the symbol table.
+ */
+public class GnuArchiveWriter {
+
+  static final int MEMBER_HEADER_SIZE = 60;
+  static final int MAX_SHORT_NAME_LENGTH = 15;
+  static final String SYMBOL_TABLE_NAME = "/";
+  static final String SYMBOL_TABLE_64_NAME = "/SYM64/";
+  static final String NAME_TABLE_NAME = "//";
+
+  @SuppressWarnings("PMD.AvoidUsingOctalValues")
+  private static final int MEMBER_MODE = 0100644;
+
+  private GnuArchiveWriter() {}
+
+  /**
+   * Writes an archive of {@code inputs} to {@code output}.
+   *
+   * @param output the absolute path of the archive to write.
+   * @param inputs the absolute paths of the files to archive, in archive order.
+   * @param thin whether to write a thin archive, which references its inputs by their path
+   *     relative to the archive instead of embedding them.
+   */
+  public static void write(Path output, ImmutableList<Path> inputs, boolean thin)
+      throws IOException {
+    Preconditions.checkArgument(output.isAbsolute());
+
+    ImmutableList.Builder<Member> membersBuilder = ImmutableList.builder();
+    ByteArrayOutputStream nameTable = new ByteArrayOutputStream();
+    boolean hasObjects = false;
+    for (Path input : inputs) {
+      Preconditions.checkArgument(input.isAbsolute());
+      String name =
+          thin ? output.getParent().relativize(input).toString() : input.getFileName().toString();
+      String headerName;
+      if (thin || name.length() > MAX_SHORT_NAME_LENGTH) {
+        headerName = "/" + nameTable.size();
+        byte[] entry = (name + "/\n").getBytes(Charsets.UTF_8);
+        nameTable.write(entry, 0, entry.length);
+      } else {
+        headerName = name + "/";
+      }
+      Member member = readMember(input, headerName);
+      hasObjects |= member.isObject;
+      membersBuilder.add(member);
+    }
+    ImmutableList<Member> members = membersBuilder.build();
+    if (nameTable.size() % 2 != 0) {
+      nameTable.write('\n');
+    }
+
+    // The symbol table refers to members by the offset of their header, so lay out the archive
+    // before writing anything.  GNU ar switches to 64-bit offsets only when it has to.
+    boolean use64BitSymbolTable = false;
+    long[] offsets = new long[members.size()];
+    int symbolTableSize = 0;
+    if (hasObjects) {
+      symbolTableSize = getSymbolTableSize(members, 4);
+      long end = layout(members, offsets, symbolTableSize, nameTable.size(), thin);
+      if (end > 0xFFFFFFFFL) {
+        use64BitSymbolTable = true;
+        symbolTableSize = getSymbolTableSize(members, 8);
+        layout(members, offsets, symbolTableSize, nameTable.size(), thin);
+      }
+    } else {
+      layout(members, offsets, symbolTableSize, nameTable.size(), thin);
+    }
+
+    try (FileChannel out =
+        FileChannel.open(
+            output,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE)) {
+      writeFully(
+          out,
+          ByteBuffer.wrap(
+              thin ? ObjectFileScrubbers.GLOBAL_THIN_HEADER : ObjectFileScrubbers.GLOBAL_HEADER));
+
+      if (hasObjects) {
+        writeSymbolTable(out, members, offsets, symbolTableSize, use64BitSymbolTable);
+      }
+
+      if (nameTable.size() > 0) {
+        writeFully(out, getMemberHeader(NAME_TABLE_NAME, nameTable.size()));
+        writeFully(out, ByteBuffer.wrap(nameTable.toByteArray()));
+      }
+
+      for (Member member : members) {
+        writeFully(out, getMemberHeader(member.headerName, member.size));
+        if (!thin) {
+          try (FileChannel in = FileChannel.open(member.path, StandardOpenOption.READ)) {
+            long transferred = 0;
+            while (transferred < member.size) {
+              transferred += in.transferTo(transferred, member.size - transferred, out);
+            }
+          }
+          if (member.size % 2 != 0) {
+            writeFully(out, ByteBuffer.wrap(new byte[] {'\n'}));
+          }
+        }
+      }
+    }
+  }
+
+  private static Member readMember(Path path, String headerName) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size == 0) {
+        return new Member(path, headerName, size, false, ImmutableList.of());
+      }
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      if (!Elf.isElf(buffer)) {
+        return new Member(path, headerName, size, false, ImmutableList.of());
+      }
+      return new Member(path, headerName, size, true, getExportedSymbols(new Elf(buffer)));
+    }
+  }
+
+  /**
+   * @return the names of the symbols ranlib would index for this object, in symbol table order:
+   *     every non-local symbol which the object defines, including common symbols.
+   */
+  static ImmutableList<String> getExportedSymbols(Elf elf) {
+    ImmutableList.Builder<String> symbols = ImmutableList.builder();
+    for (int index = 0; index < elf.getNumberOfSections(); index++) {
+      ElfSection section = elf.getSectionByIndex(index);
+      if (section.header.sh_type != ElfSectionHeader.SHType.SHT_SYMTAB) {
+        continue;
+      }
+      ElfSection stringTable = elf.getSectionByIndex((int) section.header.sh_link);
+      ElfSymbolTable table = ElfSymbolTable.parse(elf.header.ei_class, section.body);
+      for (ElfSymbolTable.Entry entry : table.entries) {
+        if (entry.st_info.st_bind == ElfSymbolTable.Entry.Info.Bind.STB_LOCAL
+            || entry.st_shndx == ElfSymbolTable.Entry.SHN_UNDEF) {
+          continue;
+        }
+        String name = stringTable.lookupString(entry.st_name);
+        if (!name.isEmpty()) {
+          symbols.add(name);
+        }
+      }
+    }
+    return symbols.build();
+  }
+
+  private static int getSymbolTableSize(ImmutableList<Member> members, int wordSize) {
+    long size = wordSize;
+    for (Member member : members) {
+      for (String symbol : member.symbols) {
+        size += wordSize + symbol.getBytes(Charsets.UTF_8).length + 1;
+      }
+    }
+    size += size % 2;
+    Preconditions.checkState(size <= Integer.MAX_VALUE, "archive symbol table too large");
+    return (int) size;
+  }
+
+  /** Fills in the header offset of every member and returns the size of the archive. */
+  private static long layout(
+      ImmutableList<Member> members,
+      long[] offsets,
+      int symbolTableSize,
+      int nameTableSize,
+      boolean thin) {
+    long position = ObjectFileScrubbers.GLOBAL_HEADER.length;
+    if (symbolTableSize > 0) {
+      position += MEMBER_HEADER_SIZE + symbolTableSize;
+    }
+    if (nameTableSize > 0) {
+      position += MEMBER_HEADER_SIZE + nameTableSize;
+    }
+    for (int i = 0; i < members.size(); i++) {
+      offsets[i] = position;
+      position += MEMBER_HEADER_SIZE;
+      if (!thin) {
+        long size = members.get(i).size;
+        position += size + size % 2;
+      }
+    }
+    return position;
+  }
+
+  private static void writeSymbolTable(
+      FileChannel out,
+      ImmutableList<Member> members,
+      long[] offsets,
+      int symbolTableSize,
+      boolean use64Bit)
+      throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(symbolTableSize).order(ByteOrder.BIG_ENDIAN);
+    int count = 0;
+    for (Member member : members) {
+      count += member.symbols.size();
+    }
+    putWord(buffer, count, use64Bit);
+    for (int i = 0; i < members.size(); i++) {
+      for (int j = 0; j < members.get(i).symbols.size(); j++) {
+        putWord(buffer, offsets[i], use64Bit);
+      }
+    }
+    for (Member member : members) {
+      for (String symbol : member.symbols) {
+        buffer.put(symbol.getBytes(Charsets.UTF_8));
+        buffer.put((byte) 0);
+      }
+    }
+    // Any remaining bytes are already zero, which is how ranlib pads the table.
+    buffer.rewind();
+
+    writeFully(
+        out,
+        getMemberHeader(use64Bit ? SYMBOL_TABLE_64_NAME : SYMBOL_TABLE_NAME, symbolTableSize));
+    writeFully(out, buffer);
+  }
+
+  private static void putWord(ByteBuffer buffer, long value, boolean use64Bit) {
+    if (use64Bit) {
+      buffer.putLong(value);
+    } else {
+      buffer.putInt((int) value);
+    }
+  }
+
+  /** @return a member header with the same contents the scrubber leaves behind. */
+  private static ByteBuffer getMemberHeader(String name, long size) {
+    ByteBuffer header = ByteBuffer.allocate(MEMBER_HEADER_SIZE);
+    header.put(Strings.padEnd(name, 16, ' ').getBytes(Charsets.US_ASCII));
+    ObjectFileScrubbers.putIntAsDecimalString(
+        header,
+        12,
+        ObjectFileCommonModificationDate.COMMON_MODIFICATION_TIME_STAMP,
+        ObjectFileScrubbers.PaddingStyle.LEFT);
+    ObjectFileScrubbers.putIntAsDecimalString(header, 6, 0, ObjectFileScrubbers.PaddingStyle.LEFT);
+    ObjectFileScrubbers.putIntAsDecimalString(header, 6, 0, ObjectFileScrubbers.PaddingStyle.LEFT);
+    ObjectFileScrubbers.putIntAsOctalString(
+        header, 8, MEMBER_MODE, ObjectFileScrubbers.PaddingStyle.LEFT);
+    header.put(Strings.padEnd(Long.toString(size), 10, ' ').getBytes(Charsets.US_ASCII));
+    header.put(ObjectFileScrubbers.END_OF_FILE_HEADER_MARKER);
+    header.rewind();
+    return header;
+  }
+
+  private static void writeFully(FileChannel out, ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      out.write(buffer);
+    }
+  }
+
+  private static class Member {
+    private final Path path;
+    private final String headerName;
+    private final long size;
+    private final boolean isObject;
+    private final ImmutableList<String> symbols;
+
+    Member(
+        Path path,
+        String headerName,
+        long size,
+        boolean isObject,
+        ImmutableList<String> symbols) {
+      this.path = path;
+      this.headerName = headerName;
+      this.size = size;
+      this.isObject = isObject;
+      this.symbols = symbols;
+    }
+  }
+}
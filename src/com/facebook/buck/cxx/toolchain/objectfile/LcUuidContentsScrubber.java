@@ -18,6 +18,7 @@ package com.facebook.buck.cxx.toolchain.objectfile;
 
 import com.facebook.buck.io.file.FileContentsScrubber;
 import com.facebook.buck.util.types.Pair;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Range;
 import com.google.common.hash.HashCode;
 import com.google.common.hash.HashFunction;
@@ -34,7 +35,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-public class LcUuidContentsScrubber implements FileContentsScrubber {
+public class LcUuidContentsScrubber implements FileContentsScrubber, MachoScrubber {
 
   private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
 
@@ -52,22 +53,16 @@ public class LcUuidContentsScrubber implements FileContentsScrubber {
 
   @Override
   public void scrubFile(FileChannel file) throws IOException, ScrubException {
-    if (!Machos.isMacho(file)) {
-      return;
-    }
-
-    long size = file.size();
-    MappedByteBuffer map = file.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    new MachoScrubberDriver(ImmutableList.of(this)).scrubFile(file);
+  }
 
-    resetUuidIfPresent(map);
+  @Override
+  public long scrubMacho(MappedByteBuffer map, long size, MachoLoadCommands loadCommands) {
+    resetUuidIfPresent(map, loadCommands);
     HashCode hashCode = computeHash(map, size);
 
-    map.rewind();
-    try {
-      Machos.setUuidIfPresent(map, Arrays.copyOf(hashCode.asBytes(), UUID_LENGTH));
-    } catch (Machos.MachoException e) {
-      throw new ScrubException(e.getMessage());
-    }
+    Machos.setUuidIfPresent(map, loadCommands, Arrays.copyOf(hashCode.asBytes(), UUID_LENGTH));
+    return size;
   }
 
   private HashCode computeHash(MappedByteBuffer map, long fileSize) {
@@ -122,11 +117,8 @@ public class LcUuidContentsScrubber implements FileContentsScrubber {
   }
 
   /** Sets the LC_UUID to all zeroes if it's part of the Mach-O file. */
-  protected static void resetUuidIfPresent(MappedByteBuffer map) throws ScrubException {
-    try {
-      Machos.setUuidIfPresent(map, ZERO_UUID);
-    } catch (Machos.MachoException e) {
-      throw new ScrubException(e.getMessage());
-    }
+  protected static void resetUuidIfPresent(
+      MappedByteBuffer map, MachoLoadCommands loadCommands) {
+    Machos.setUuidIfPresent(map, loadCommands, ZERO_UUID);
   }
 }
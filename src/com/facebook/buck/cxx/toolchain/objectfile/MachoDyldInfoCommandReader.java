@@ -16,6 +16,7 @@
 
 package com.facebook.buck.cxx.toolchain.objectfile;
 
+import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
 import java.util.Optional;
 
@@ -40,57 +41,7 @@ public class MachoDyldInfoCommandReader {
         int command = ObjectFileScrubbers.getLittleEndianInt(machoFileBuffer);
         int commandSize = ObjectFileScrubbers.getLittleEndianInt(machoFileBuffer);
         if (Machos.LC_DYLD_INFO == command || Machos.LC_DYLD_INFO_ONLY == command) {
-          // https://opensource.apple.com/source/xnu/xnu-1699.32.7/EXTERNAL_HEADERS/mach-o/loader.h
-          //
-          // struct dyld_info_command {
-          //     uint32_t   cmd;          // LC_DYLD_INFO or LC_DYLD_INFO_ONLY
-          //     uint32_t   cmdsize;      // sizeof(struct dyld_info_command)
-          //
-          //     uint32_t   rebase_off;  // file offset to rebase info
-          //     uint32_t   rebase_size; // size of rebase info
-          //
-          //     uint32_t   bind_off;    // file offset to binding info
-          //     uint32_t   bind_size;   // size of binding info
-          //
-          //     uint32_t   weak_bind_off;   // file offset to weak binding info
-          //     uint32_t   weak_bind_size;  // size of weak binding info
-          //
-          //     uint32_t   lazy_bind_off;   // file offset to lazy binding info
-          //     uint32_t   lazy_bind_size;  // size of lazy binding infs
-          //
-          //     uint32_t   export_off;  // file offset to lazy binding info
-          //     uint32_t   export_size; // size of lazy binding infs
-          // };
-
-          int rebase_off = ObjectFileScrubbers.getLittleEndianInt(machoFileBuffer);
-          int rebase_size = ObjectFileScrubbers.getLittleEndianInt(machoFileBuffer);
-
-          int bind_off = ObjectFileScrubbers.getLittleEndianInt(machoFileBuffer);
-          int bind_size = ObjectFileScrubbers.getLittleEndianInt(machoFileBuffer);
-
-          int weak_bind_off = ObjectFileScrubbers.getLittleEndianInt(machoFileBuffer);
-          int weak_bind_size = ObjectFileScrubbers.getLittleEndianInt(machoFileBuffer);
-
-          int lazy_bind_off = ObjectFileScrubbers.getLittleEndianInt(machoFileBuffer);
-          int lazy_bind_size = ObjectFileScrubbers.getLittleEndianInt(machoFileBuffer);
-
-          int export_off = ObjectFileScrubbers.getLittleEndianInt(machoFileBuffer);
-          int export_size = ObjectFileScrubbers.getLittleEndianInt(machoFileBuffer);
-
-          return Optional.of(
-              ImmutableMachoDyldInfoCommand.of(
-                  command,
-                  commandSize,
-                  rebase_off,
-                  rebase_size,
-                  bind_off,
-                  bind_size,
-                  weak_bind_off,
-                  weak_bind_size,
-                  lazy_bind_off,
-                  lazy_bind_size,
-                  export_off,
-                  export_size));
+          return Optional.of(readCommandBody(machoFileBuffer, command, commandSize));
         }
 
         // Skip over command body
@@ -102,4 +53,61 @@ public class MachoDyldInfoCommandReader {
 
     return Optional.empty();
   }
+
+  /**
+   * Reads the body of an LC_DYLD_INFO[_ONLY] command, starting just after its cmd and cmdsize
+   * fields.
+   */
+  static MachoDyldInfoCommand readCommandBody(ByteBuffer buffer, int command, int commandSize) {
+    // https://opensource.apple.com/source/xnu/xnu-1699.32.7/EXTERNAL_HEADERS/mach-o/loader.h
+    //
+    // struct dyld_info_command {
+    //     uint32_t   cmd;          // LC_DYLD_INFO or LC_DYLD_INFO_ONLY
+    //     uint32_t   cmdsize;      // sizeof(struct dyld_info_command)
+    //
+    //     uint32_t   rebase_off;  // file offset to rebase info
+    //     uint32_t   rebase_size; // size of rebase info
+    //
+    //     uint32_t   bind_off;    // file offset to binding info
+    //     uint32_t   bind_size;   // size of binding info
+    //
+    //     uint32_t   weak_bind_off;   // file offset to weak binding info
+    //     uint32_t   weak_bind_size;  // size of weak binding info
+    //
+    //     uint32_t   lazy_bind_off;   // file offset to lazy binding info
+    //     uint32_t   lazy_bind_size;  // size of lazy binding infs
+    //
+    //     uint32_t   export_off;  // file offset to lazy binding info
+    //     uint32_t   export_size; // size of lazy binding infs
+    // };
+
+    int rebase_off = ObjectFileScrubbers.getLittleEndianInt(buffer);
+    int rebase_size = ObjectFileScrubbers.getLittleEndianInt(buffer);
+
+    int bind_off = ObjectFileScrubbers.getLittleEndianInt(buffer);
+    int bind_size = ObjectFileScrubbers.getLittleEndianInt(buffer);
+
+    int weak_bind_off = ObjectFileScrubbers.getLittleEndianInt(buffer);
+    int weak_bind_size = ObjectFileScrubbers.getLittleEndianInt(buffer);
+
+    int lazy_bind_off = ObjectFileScrubbers.getLittleEndianInt(buffer);
+    int lazy_bind_size = ObjectFileScrubbers.getLittleEndianInt(buffer);
+
+    int export_off = ObjectFileScrubbers.getLittleEndianInt(buffer);
+    int export_size = ObjectFileScrubbers.getLittleEndianInt(buffer);
+
+    return ImmutableMachoDyldInfoCommand.of(
+        command,
+        commandSize,
+        rebase_off,
+        rebase_size,
+        bind_off,
+        bind_size,
+        weak_bind_off,
+        weak_bind_size,
+        lazy_bind_off,
+        lazy_bind_size,
+        export_off,
+        export_size);
+  }
 }
@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.cxx.toolchain.objectfile;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * An export trie held in flat arrays, indexed by node and edge number, instead of as a tree of
+ * {@link MachoExportTrieNode}s. Edge labels and re-exported names are not copied out: they are
+ * stored as ranges of a single copy of the serialized trie.
+ *
+ * <p>Reading and writing follows {@link MachoExportTrieReader} and {@link MachoExportTrieWriter}
+ * exactly, so a trie which is read and written back without modification is byte-identical to
+ * what those produce.
+ */
+public class MachoExportTrie {
+
+  private static final int INITIAL_CAPACITY = 64;
+  private static final int NO_IMPORTED_NAME = -1;
+
+  private final byte[] trie;
+
+  private int nodeCount;
+  private int[] nodeOffsets;
+  private boolean[] hasExportInfo;
+  private long[] flags;
+  private long[] addresses;
+  private long[] others;
+  // Includes terminating zero byte.
+  private int[] importedNameOffsets;
+  private int[] importedNameLengths;
+  private int[] firstEdges;
+  private int[] edgeCounts;
+
+  private int edgeCount;
+  // Includes terminating zero byte.
+  private int[] edgeLabelOffsets;
+  private int[] edgeLabelLengths;
+  private int[] edgeChildren;
+
+  private MachoExportTrie(byte[] trie) {
+    this.trie = trie;
+    this.nodeOffsets = new int[INITIAL_CAPACITY];
+    this.hasExportInfo = new boolean[INITIAL_CAPACITY];
+    this.flags = new long[INITIAL_CAPACITY];
+    this.addresses = new long[INITIAL_CAPACITY];
+    this.others = new long[INITIAL_CAPACITY];
+    this.importedNameOffsets = new int[INITIAL_CAPACITY];
+    this.importedNameLengths = new int[INITIAL_CAPACITY];
+    this.firstEdges = new int[INITIAL_CAPACITY];
+    this.edgeCounts = new int[INITIAL_CAPACITY];
+    this.edgeLabelOffsets = new int[INITIAL_CAPACITY];
+    this.edgeLabelLengths = new int[INITIAL_CAPACITY];
+    this.edgeChildren = new int[INITIAL_CAPACITY];
+  }
+
+  /** Reads the export trie which starts at the beginning of {@code byteBuffer}. */
+  public static MachoExportTrie read(ByteBuffer byteBuffer) {
+    byte[] bytes = new byte[byteBuffer.limit()];
+    byteBuffer.rewind();
+    byteBuffer.get(bytes);
+
+    MachoExportTrie exportTrie = new MachoExportTrie(bytes);
+    exportTrie.addNode(0);
+    // Children are appended as their parents are read, so this visits every node once.
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    for (int node = 0; node < exportTrie.nodeCount; node++) {
+      exportTrie.readNode(buffer, node);
+    }
+    return exportTrie;
+  }
+
+  private void readNode(ByteBuffer buffer, int node) {
+    buffer.position(nodeOffsets[node]);
+    long exportInfoSize = ULEB128.read(buffer);
+    if (exportInfoSize > 0) {
+      int startPosition = buffer.position();
+      hasExportInfo[node] = true;
+      flags[node] = ULEB128.read(buffer);
+      if ((flags[node] & MachoExportTrieNode.EXPORT_SYMBOL_FLAGS_REEXPORT) != 0) {
+        others[node] = ULEB128.read(buffer);
+        importedNameOffsets[node] = buffer.position();
+        importedNameLengths[node] = skipCString(buffer);
+      } else {
+        addresses[node] = ULEB128.read(buffer);
+        if ((flags[node] & MachoExportTrieNode.EXPORT_SYMBOL_FLAGS_STUB_AND_RESOLVER) != 0) {
+          others[node] = ULEB128.read(buffer);
+        }
+      }
+      int bytesRead = buffer.position() - startPosition;
+      if (bytesRead != exportInfoSize) {
+        throw new IllegalStateException(
+            "Mismatch between expected export info size and actual bytes read");
+      }
+    }
+
+    int numberOfChildren = buffer.get() & 0xFF;
+    firstEdges[node] = edgeCount;
+    edgeCounts[node] = numberOfChildren;
+    for (int i = 0; i < numberOfChildren; i++) {
+      ensureEdgeCapacity();
+      edgeLabelOffsets[edgeCount] = buffer.position();
+      edgeLabelLengths[edgeCount] = skipCString(buffer);
+      int childOffset = (int) ULEB128.read(buffer);
+      edgeChildren[edgeCount] = addNode(childOffset);
+      edgeCount++;
+    }
+  }
+
+  private int addNode(int offset) {
+    if (nodeCount == nodeOffsets.length) {
+      int capacity = nodeCount * 2;
+      nodeOffsets = Arrays.copyOf(nodeOffsets, capacity);
+      hasExportInfo = Arrays.copyOf(hasExportInfo, capacity);
+      flags = Arrays.copyOf(flags, capacity);
+      addresses = Arrays.copyOf(addresses, capacity);
+      others = Arrays.copyOf(others, capacity);
+      importedNameOffsets = Arrays.copyOf(importedNameOffsets, capacity);
+      importedNameLengths = Arrays.copyOf(importedNameLengths, capacity);
+      firstEdges = Arrays.copyOf(firstEdges, capacity);
+      edgeCounts = Arrays.copyOf(edgeCounts, capacity);
+    }
+    nodeOffsets[nodeCount] = offset;
+    importedNameOffsets[nodeCount] = NO_IMPORTED_NAME;
+    return nodeCount++;
+  }
+
+  private void ensureEdgeCapacity() {
+    if (edgeCount == edgeChildren.length) {
+      int capacity = edgeCount * 2;
+      edgeLabelOffsets = Arrays.copyOf(edgeLabelOffsets, capacity);
+      edgeLabelLengths = Arrays.copyOf(edgeLabelLengths, capacity);
+      edgeChildren = Arrays.copyOf(edgeChildren, capacity);
+    }
+  }
+
+  /** @return the length of the C string at the current position, including its zero byte. */
+  private static int skipCString(ByteBuffer buffer) {
+    int start = buffer.position();
+    while (buffer.get() != 0x0) {
+      // Keep scanning for the terminator.
+    }
+    return buffer.position() - start;
+  }
+
+  public int getNodeCount() {
+    return nodeCount;
+  }
+
+  public boolean hasExportInfo(int node) {
+    return hasExportInfo[node];
+  }
+
+  public long getAddress(int node) {
+    return addresses[node];
+  }
+
+  public void setAddress(int node, long address) {
+    if (hasExportInfo[node]) {
+      addresses[node] = address;
+    }
+  }
+
+  boolean hasReexportFlag(int node) {
+    return hasExportInfo[node]
+        && (flags[node] & MachoExportTrieNode.EXPORT_SYMBOL_FLAGS_REEXPORT) != 0;
+  }
+
+  boolean hasStubAndResolverFlag(int node) {
+    return hasExportInfo[node]
+        && (flags[node] & MachoExportTrieNode.EXPORT_SYMBOL_FLAGS_STUB_AND_RESOLVER) != 0;
+  }
+
+  /** Writes the export trie to a buffer, laying out nodes in the order they were read in. */
+  public void write(ByteBuffer byteBuffer) {
+    int[] orderedNodes = getNodesInFileOrder();
+    int[] trieOffsets = computeTrieOffsets(orderedNodes);
+
+    // NB: This follows MachoExportTrieWriter, which in turn follows Node::appendToStream() in
+    //     ld64's MachOTrie.hpp.
+    for (int node : orderedNodes) {
+      if (hasExportInfo[node]) {
+        ULEB128.write(byteBuffer, getExportInfoSize(node));
+        ULEB128.write(byteBuffer, flags[node]);
+        if (hasReexportFlag(node)) {
+          ULEB128.write(byteBuffer, others[node]);
+          if (importedNameOffsets[node] != NO_IMPORTED_NAME) {
+            byteBuffer.put(trie, importedNameOffsets[node], importedNameLengths[node]);
+          } else {
+            ULEB128.write(byteBuffer, 0x0); // empty C string
+          }
+        } else {
+          ULEB128.write(byteBuffer, addresses[node]);
+          if (hasStubAndResolverFlag(node)) {
+            ULEB128.write(byteBuffer, others[node]);
+          }
+        }
+      } else {
+        // The zero byte is used to signify no export info
+        ULEB128.write(byteBuffer, 0x0);
+      }
+
+      byteBuffer.put((byte) edgeCounts[node]);
+      int end = firstEdges[node] + edgeCounts[node];
+      for (int edge = firstEdges[node]; edge < end; edge++) {
+        byteBuffer.put(trie, edgeLabelOffsets[edge], edgeLabelLengths[edge]);
+        ULEB128.write(byteBuffer, trieOffsets[edgeChildren[edge]]);
+      }
+    }
+  }
+
+  private int[] getNodesInFileOrder() {
+    // Sort (offset, node) pairs packed into longs, which avoids boxing.
+    long[] keys = new long[nodeCount];
+    for (int node = 0; node < nodeCount; node++) {
+      keys[node] = ((long) nodeOffsets[node] << 32) | node;
+    }
+    Arrays.sort(keys);
+    int[] orderedNodes = new int[nodeCount];
+    for (int i = 0; i < nodeCount; i++) {
+      orderedNodes[i] = (int) keys[i];
+    }
+    return orderedNodes;
+  }
+
+  private int[] computeTrieOffsets(int[] orderedNodes) {
+    // Node sizes depend on the ULEB128 encoded offsets of their children, so iterate until the
+    // offsets stop changing. See MachoExportTrieWriter#computeTrieOffsets for the details.
+    int[] trieOffsets = new int[nodeCount];
+    boolean isStable = false;
+    while (!isStable) {
+      isStable = true;
+      int nextTrieOffset = 0;
+      for (int node : orderedNodes) {
+        if (trieOffsets[node] != nextTrieOffset) {
+          isStable = false;
+        }
+        trieOffsets[node] = nextTrieOffset;
+        nextTrieOffset += getNodeSize(node, trieOffsets);
+      }
+    }
+    return trieOffsets;
+  }
+
+  private int getExportInfoSize(int node) {
+    int size = ULEB128.size(flags[node]);
+    if (hasReexportFlag(node)) {
+      size += ULEB128.size(others[node]);
+      size += importedNameOffsets[node] != NO_IMPORTED_NAME ? importedNameLengths[node] : 1;
+    } else {
+      size += ULEB128.size(addresses[node]);
+      if (hasStubAndResolverFlag(node)) {
+        size += ULEB128.size(others[node]);
+      }
+    }
+    return size;
+  }
+
+  private int getNodeSize(int node, int[] trieOffsets) {
+    int nodeSize;
+    if (hasExportInfo[node]) {
+      int exportInfoSize = getExportInfoSize(node);
+      nodeSize = exportInfoSize + ULEB128.size(exportInfoSize);
+    } else {
+      // Size for the zero byte
+      nodeSize = 1;
+    }
+
+    ++nodeSize; // size for children
+
+    int end = firstEdges[node] + edgeCounts[node];
+    for (int edge = firstEdges[node]; edge < end; edge++) {
+      nodeSize += edgeLabelLengths[edge] + ULEB128.size(trieOffsets[edgeChildren[edge]]);
+    }
+    return nodeSize;
+  }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.cxx.toolchain.objectfile;
+
+import com.google.common.base.Charsets;
+import java.nio.MappedByteBuffer;
+import java.util.Optional;
+
+/**
+ * The file offsets of the load commands which the Mach-O scrubbers operate on, found with a single
+ * walk over the load commands.
+ *
+ * <p>Only offsets are recorded: the contents of the commands are read when they are needed, so
+ * scrubbers which run later in a {@link MachoScrubberDriver} observe the changes made by earlier
+ * ones.
+ */
+public class MachoLoadCommands {
+
+  static final int NO_COMMAND = -1;
+
+  private final boolean is64Bit;
+  private final int uuidCommandOffset;
+  private final int symTabCommandOffset;
+  private final int dyldInfoCommandOffset;
+  private final int linkEditSegmentCommandOffset;
+  private final int linkEditSegmentCount;
+
+  private MachoLoadCommands(
+      boolean is64Bit,
+      int uuidCommandOffset,
+      int symTabCommandOffset,
+      int dyldInfoCommandOffset,
+      int linkEditSegmentCommandOffset,
+      int linkEditSegmentCount) {
+    this.is64Bit = is64Bit;
+    this.uuidCommandOffset = uuidCommandOffset;
+    this.symTabCommandOffset = symTabCommandOffset;
+    this.dyldInfoCommandOffset = dyldInfoCommandOffset;
+    this.linkEditSegmentCommandOffset = linkEditSegmentCommandOffset;
+    this.linkEditSegmentCount = linkEditSegmentCount;
+  }
+
+  /**
+   * Walks the load commands of a Mach-O file. The buffer is rewound first.
+   *
+   * @throws Machos.MachoException if the buffer does not hold a Mach-O file.
+   */
+  public static MachoLoadCommands read(MappedByteBuffer map) throws Machos.MachoException {
+    map.rewind();
+    MachoHeader header = Machos.getHeader(map);
+
+    int uuidCommandOffset = NO_COMMAND;
+    int symTabCommandOffset = NO_COMMAND;
+    int dyldInfoCommandOffset = NO_COMMAND;
+    int linkEditSegmentCommandOffset = NO_COMMAND;
+    int linkEditSegmentCount = 0;
+
+    int commandsCount = header.getCommandsCount();
+    for (int i = 0; i < commandsCount; i++) {
+      int commandStart = map.position();
+      int command = ObjectFileScrubbers.getLittleEndianInt(map);
+      int commandSize = ObjectFileScrubbers.getLittleEndianInt(map);
+      switch (command) {
+        case Machos.LC_UUID:
+          if (uuidCommandOffset == NO_COMMAND) {
+            uuidCommandOffset = commandStart;
+          }
+          break;
+        case Machos.LC_SYMTAB:
+          if (symTabCommandOffset == NO_COMMAND) {
+            symTabCommandOffset = commandStart;
+          }
+          break;
+        case Machos.LC_DYLD_INFO:
+        case Machos.LC_DYLD_INFO_ONLY:
+          if (dyldInfoCommandOffset == NO_COMMAND) {
+            dyldInfoCommandOffset = commandStart;
+          }
+          break;
+        case Machos.LC_SEGMENT:
+        case Machos.LC_SEGMENT_64:
+          byte[] segmentNameBytes = ObjectFileScrubbers.getBytes(map, 16);
+          String segmentName = new String(segmentNameBytes, Charsets.US_ASCII);
+          if (segmentName.startsWith(Machos.LINKEDIT)) {
+            linkEditSegmentCommandOffset = commandStart;
+            linkEditSegmentCount++;
+          }
+          break;
+      }
+      map.position(commandStart + commandSize);
+    }
+
+    return new MachoLoadCommands(
+        header.getIs64Bit(),
+        uuidCommandOffset,
+        symTabCommandOffset,
+        dyldInfoCommandOffset,
+        linkEditSegmentCommandOffset,
+        linkEditSegmentCount);
+  }
+
+  public boolean is64Bit() {
+    return is64Bit;
+  }
+
+  /** @return the offset of the first LC_UUID command, or {@link #NO_COMMAND}. */
+  int getUuidCommandOffset() {
+    return uuidCommandOffset;
+  }
+
+  /** @return the offset of the first LC_SYMTAB command, or {@link #NO_COMMAND}. */
+  int getSymTabCommandOffset() {
+    return symTabCommandOffset;
+  }
+
+  /** @return the offset of the __LINKEDIT segment command, or {@link #NO_COMMAND}. */
+  int getLinkEditSegmentCommandOffset() {
+    return linkEditSegmentCommandOffset;
+  }
+
+  int getLinkEditSegmentCount() {
+    return linkEditSegmentCount;
+  }
+
+  /** Reads the current contents of the LC_SYMTAB command, if there is one. */
+  public Optional<MachoSymTabCommand> getSymTabCommand(MappedByteBuffer map) {
+    if (symTabCommandOffset == NO_COMMAND) {
+      return Optional.empty();
+    }
+    map.position(symTabCommandOffset);
+    int command = ObjectFileScrubbers.getLittleEndianInt(map);
+    int commandSize = ObjectFileScrubbers.getLittleEndianInt(map);
+    return Optional.of(MachoSymTabCommandReader.readCommandBody(map, command, commandSize));
+  }
+
+  /** Reads the current contents of the LC_DYLD_INFO[_ONLY] command, if there is one. */
+  public Optional<MachoDyldInfoCommand> getDyldInfoCommand(MappedByteBuffer map) {
+    if (dyldInfoCommandOffset == NO_COMMAND) {
+      return Optional.empty();
+    }
+    map.position(dyldInfoCommandOffset);
+    int command = ObjectFileScrubbers.getLittleEndianInt(map);
+    int commandSize = ObjectFileScrubbers.getLittleEndianInt(map);
+    return Optional.of(MachoDyldInfoCommandReader.readCommandBody(map, command, commandSize));
+  }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.cxx.toolchain.objectfile;
+
+import com.facebook.buck.io.file.FileScrubber;
+import java.nio.MappedByteBuffer;
+
+/** A scrubber which runs on a Mach-O file that has already been mapped and parsed. */
+public interface MachoScrubber {
+
+  /**
+   * Scrubs the mapped file.
+   *
+   * @param map the whole file, mapped for writing. Scrubbers may move its position and limit.
+   * @param size the size of the file contents. This is smaller than the mapping if an earlier
+   *     scrubber shrank the file, in which case anything past it must be ignored.
+   * @param loadCommands the load commands of the file.
+   * @return the size of the file contents after scrubbing.
+   */
+  long scrubMacho(MappedByteBuffer map, long size, MachoLoadCommands loadCommands)
+      throws FileScrubber.ScrubException;
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.cxx.toolchain.objectfile;
+
+import com.facebook.buck.io.file.FileContentsScrubber;
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Runs a sequence of {@link MachoScrubber}s over a Mach-O file in one pass: the file is mapped and
+ * its load commands are parsed once, and it is truncated at most once, after the last scrubber.
+ * Files which are not Mach-O are left untouched.
+ */
+public class MachoScrubberDriver implements FileContentsScrubber {
+
+  private final ImmutableList<MachoScrubber> scrubbers;
+
+  public MachoScrubberDriver(ImmutableList<MachoScrubber> scrubbers) {
+    this.scrubbers = scrubbers;
+  }
+
+  @Override
+  public void scrubFile(FileChannel file) throws IOException, ScrubException {
+    if (!Machos.isMacho(file)) {
+      return;
+    }
+
+    long size = file.size();
+    MappedByteBuffer map = file.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    MachoLoadCommands loadCommands;
+    try {
+      loadCommands = MachoLoadCommands.read(map);
+    } catch (Machos.MachoException e) {
+      throw new ScrubException(e.getMessage());
+    }
+
+    long scrubbedSize = size;
+    for (MachoScrubber scrubber : scrubbers) {
+      map.clear();
+      scrubbedSize = scrubber.scrubMacho(map, scrubbedSize, loadCommands);
+    }
+
+    if (scrubbedSize != size) {
+      file.truncate(scrubbedSize);
+    }
+  }
+}
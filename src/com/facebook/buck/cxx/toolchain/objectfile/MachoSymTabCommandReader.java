@@ -16,6 +16,7 @@
 
 package com.facebook.buck.cxx.toolchain.objectfile;
 
+import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
 import java.util.Optional;
 
@@ -40,22 +41,7 @@ public class MachoSymTabCommandReader {
         int command = ObjectFileScrubbers.getLittleEndianInt(machoFileBuffer);
         int commandSize = ObjectFileScrubbers.getLittleEndianInt(machoFileBuffer);
         if (Machos.LC_SYMTAB == command) {
-          // https://opensource.apple.com/source/xnu/xnu-1699.32.7/EXTERNAL_HEADERS/mach-o/loader.h
-          //
-          // struct symtab_command {
-          //   uint32_t  cmd;      // LC_SYMTAB
-          //   uint32_t  cmdsize;  // sizeof(struct symtab_command)
-          //   uint32_t  symoff;   // symbol table offset
-          //   uint32_t  nsyms;    // number of symbol table entries
-          //   uint32_t  stroff;   // string table offset
-          //   uint32_t  strsize;  // string table size in bytes
-          // };
-          int symoff = ObjectFileScrubbers.getLittleEndianInt(machoFileBuffer);
-          int nsyms = ObjectFileScrubbers.getLittleEndianInt(machoFileBuffer);
-          int stroff = ObjectFileScrubbers.getLittleEndianInt(machoFileBuffer);
-          int strsize = ObjectFileScrubbers.getLittleEndianInt(machoFileBuffer);
-          return Optional.of(
-              ImmutableMachoSymTabCommand.of(command, commandSize, symoff, nsyms, stroff, strsize));
+          return Optional.of(readCommandBody(machoFileBuffer, command, commandSize));
         }
 
         // Skip over command body
@@ -67,4 +53,23 @@ public class MachoSymTabCommandReader {
 
     return Optional.empty();
   }
+
+  /** Reads the body of an LC_SYMTAB command, starting just after its cmd and cmdsize fields. */
+  static MachoSymTabCommand readCommandBody(ByteBuffer buffer, int command, int commandSize) {
+    // https://opensource.apple.com/source/xnu/xnu-1699.32.7/EXTERNAL_HEADERS/mach-o/loader.h
+    //
+    // struct symtab_command {
+    //   uint32_t  cmd;      // LC_SYMTAB
+    //   uint32_t  cmdsize;  // sizeof(struct symtab_command)
+    //   uint32_t  symoff;   // symbol table offset
+    //   uint32_t  nsyms;    // number of symbol table entries
+    //   uint32_t  stroff;   // string table offset
+    //   uint32_t  strsize;  // string table size in bytes
+    // };
+    int symoff = ObjectFileScrubbers.getLittleEndianInt(buffer);
+    int nsyms = ObjectFileScrubbers.getLittleEndianInt(buffer);
+    int stroff = ObjectFileScrubbers.getLittleEndianInt(buffer);
+    int strsize = ObjectFileScrubbers.getLittleEndianInt(buffer);
+    return ImmutableMachoSymTabCommand.of(command, commandSize, symoff, nsyms, stroff, strsize);
+  }
 }
@@ -18,8 +18,6 @@ package com.facebook.buck.cxx.toolchain.objectfile;
 
 import com.facebook.buck.util.ObjectFileCommonModificationDate;
 import com.google.common.base.Charsets;
-import com.google.common.base.Preconditions;
-import com.google.common.collect.ImmutableMap;
 import com.google.common.primitives.Ints;
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -62,18 +60,12 @@ public class Machos {
 
   private Machos() {}
 
-  static void setUuidIfPresent(MappedByteBuffer map, byte[] uuid) throws MachoException {
-    int commandsCount = getHeader(map).getCommandsCount();
-
-    for (int i = 0; i < commandsCount; i++) {
-      int command = ObjectFileScrubbers.getLittleEndianInt(map);
-      int commandSize = ObjectFileScrubbers.getLittleEndianInt(map);
-      if (LC_UUID == command) {
-        ObjectFileScrubbers.putBytes(map, uuid);
-        return;
-      } else {
-        /* Command body */ ObjectFileScrubbers.getBytes(map, commandSize - 8);
-      }
+  /** Overwrites the contents of the LC_UUID command, if the file has one. */
+  static void setUuidIfPresent(MappedByteBuffer map, MachoLoadCommands loadCommands, byte[] uuid) {
+    int uuidCommandOffset = loadCommands.getUuidCommandOffset();
+    if (uuidCommandOffset != MachoLoadCommands.NO_COMMAND) {
+      map.position(uuidCommandOffset + 8);
+      ObjectFileScrubbers.putBytes(map, uuid);
     }
   }
 
@@ -92,19 +84,23 @@ public class Machos {
    *
    * <p>OSO entries point to other files containing debug information. These are generated by the
    * linker as absolute paths.
+   *
+   * @param map the whole file, mapped for writing.
+   * @param size the size of the file contents, which may be smaller than the mapping if an earlier
+   *     scrubber truncated the file.
+   * @param replacementPathMap the prefix replacements, from {@link #generateReplacementMap(Map)}.
+   * @return the size of the file contents after rewriting the string table. The caller must
+   *     truncate the file to this size.
    */
-  static void relativizeOsoSymbols(FileChannel file, ImmutableMap<Path, Path> cellRoots)
-      throws IOException, MachoException {
-    cellRoots.forEach(
-        (from, to) -> {
-          Preconditions.checkArgument(from.isAbsolute());
-          Preconditions.checkArgument(!to.isAbsolute());
-        });
-
-    long size = file.size();
-    MappedByteBuffer map = file.map(FileChannel.MapMode.READ_WRITE, 0, size);
-
-    MachoHeader header = getHeader(map);
+  static long relativizeOsoSymbols(
+      MappedByteBuffer map,
+      long size,
+      MachoLoadCommands loadCommands,
+      Map<byte[], byte[]> replacementPathMap)
+      throws MachoException {
+    if (loadCommands.getLinkEditSegmentCount() > 1) {
+      throw new MachoException("multiple map segment commands map string table");
+    }
 
     int symbolTableOffset = 0;
     int symbolTableCount = 0;
@@ -115,79 +111,51 @@ public class Machos {
     int segmentSizePosition = 0;
     long segmentSize = 0;
     boolean linkEditSegmentFound = false;
-    int segmentFileSizePosition = 0;
-    int segment64FileSizePosition = 0;
 
-    int commandsCount = header.getCommandsCount();
-    for (int i = 0; i < commandsCount; i++) {
-      int commandStart = map.position(); // NOPMD
+    int symTabCommandOffset = loadCommands.getSymTabCommandOffset();
+    if (symTabCommandOffset != MachoLoadCommands.NO_COMMAND) {
+      map.position(symTabCommandOffset + 8);
+      symbolTableOffset = ObjectFileScrubbers.getLittleEndianInt(map);
+      symbolTableCount = ObjectFileScrubbers.getLittleEndianInt(map);
+      stringTableOffset = ObjectFileScrubbers.getLittleEndianInt(map);
+      stringTableSizePosition = map.position();
+      stringTableSize = ObjectFileScrubbers.getLittleEndianInt(map);
+      symbolTableSegmentFound = true;
+    }
+
+    int linkEditSegmentCommandOffset = loadCommands.getLinkEditSegmentCommandOffset();
+    if (linkEditSegmentCommandOffset != MachoLoadCommands.NO_COMMAND) {
+      linkEditSegmentFound = true;
+      map.position(linkEditSegmentCommandOffset);
       int command = ObjectFileScrubbers.getLittleEndianInt(map);
-      int commandSize = ObjectFileScrubbers.getLittleEndianInt(map); // NOPMD
-      switch (command) {
-        case LC_SYMTAB:
-          symbolTableOffset = ObjectFileScrubbers.getLittleEndianInt(map);
-          symbolTableCount = ObjectFileScrubbers.getLittleEndianInt(map);
-          stringTableOffset = ObjectFileScrubbers.getLittleEndianInt(map);
-          stringTableSizePosition = map.position();
-          stringTableSize = ObjectFileScrubbers.getLittleEndianInt(map);
-          symbolTableSegmentFound = true;
-          break;
-        case LC_SEGMENT:
-          byte[] segmentNameBytes = ObjectFileScrubbers.getBytes(map, 16);
-          String segmentName = new String(segmentNameBytes, Charsets.US_ASCII);
-          if (segmentName.startsWith(LINKEDIT)) {
-            linkEditSegmentFound = true;
-            /* vm address */ ObjectFileScrubbers.getLittleEndianInt(map);
-            /* vm size */ ObjectFileScrubbers.getLittleEndianInt(map);
-            /* segment file offset */ ObjectFileScrubbers.getLittleEndianInt(map);
-            segmentFileSizePosition = map.position();
-            segmentSize = ObjectFileScrubbers.getLittleEndianInt(map);
-            /* maximum vm protection */ ObjectFileScrubbers.getLittleEndianInt(map);
-            /* initial vm protection */ ObjectFileScrubbers.getLittleEndianInt(map);
-            /* number of sections */ ObjectFileScrubbers.getLittleEndianInt(map);
-            /* flags */ ObjectFileScrubbers.getLittleEndianInt(map);
-
-            if (segmentSizePosition != 0) {
-              throw new MachoException("multiple map segment commands map string table");
-            }
-            segmentSizePosition = segmentFileSizePosition;
-          }
-          break;
-        case LC_SEGMENT_64:
-          byte[] segment64NameBytes = ObjectFileScrubbers.getBytes(map, 16);
-          String segment64Name = new String(segment64NameBytes, Charsets.US_ASCII);
-          if (segment64Name.startsWith(LINKEDIT)) {
-            linkEditSegmentFound = true;
-            /* vm address */ ObjectFileScrubbers.getLittleEndianLong(map);
-            /* vm size */ ObjectFileScrubbers.getLittleEndianLong(map);
-            /* segment file offset */ ObjectFileScrubbers.getLittleEndianLong(map);
-            segment64FileSizePosition = map.position();
-            segmentSize = ObjectFileScrubbers.getLittleEndianLong(map);
-            /* maximum vm protection */ ObjectFileScrubbers.getLittleEndianInt(map);
-            /* initial vm protection */ ObjectFileScrubbers.getLittleEndianInt(map);
-            /* number of sections */ ObjectFileScrubbers.getLittleEndianInt(map);
-            /* flags */ ObjectFileScrubbers.getLittleEndianInt(map);
-
-            if (segmentSizePosition != 0) {
-              throw new MachoException("multiple map segment commands map string table");
-            }
-            segmentSizePosition = segment64FileSizePosition;
-          }
-          break;
+      /* command size */ ObjectFileScrubbers.getLittleEndianInt(map);
+      /* segment name */ ObjectFileScrubbers.getBytes(map, 16);
+      if (command == LC_SEGMENT_64) {
+        /* vm address */ ObjectFileScrubbers.getLittleEndianLong(map);
+        /* vm size */ ObjectFileScrubbers.getLittleEndianLong(map);
+        /* segment file offset */ ObjectFileScrubbers.getLittleEndianLong(map);
+        segmentSizePosition = map.position();
+        segmentSize = ObjectFileScrubbers.getLittleEndianLong(map);
+      } else {
+        /* vm address */ ObjectFileScrubbers.getLittleEndianInt(map);
+        /* vm size */ ObjectFileScrubbers.getLittleEndianInt(map);
+        /* segment file offset */ ObjectFileScrubbers.getLittleEndianInt(map);
+        segmentSizePosition = map.position();
+        segmentSize = ObjectFileScrubbers.getLittleEndianInt(map);
       }
-      map.position(commandStart + commandSize);
     }
 
     if (!linkEditSegmentFound) {
       /*The OSO entries are identified in segments named __LINKEDIT. If no segment is found with
       that name, there is nothing to scrub.*/
-      return;
+      return size;
     }
     if (stringTableSize == 0) {
-      return;
+      return size;
     }
 
-    if (!isValidFilesize(header, segmentSize)) {
+    boolean is64bit = loadCommands.is64Bit();
+    if (!isValidFilesize(is64bit, segmentSize)) {
       throw new MachoException("32bit map segment file size too big");
     }
 
@@ -219,8 +187,6 @@ public class Machos {
     // NB: We need to rewrite the string table as it's not deterministic and it would break
     //     caching behavior. On the other hand, the symbol table order is deterministic.
 
-    boolean is64bit = header.getIs64Bit();
-    Map<byte[], byte[]> replacementPathMap = generateReplacementMap(cellRoots);
     IntIntMap strings = new IntIntMap4a(symbolTableCount, 0.75f, NO_VALUE_MARKER);
     for (int i = 0; i < symbolTableCount; i++) {
       // Each LC_SYMTAB entry consists of the following fields:
@@ -277,8 +243,8 @@ public class Machos {
 
     map.position(segmentSizePosition);
     long newSize = segmentSize + (newStringTableSize - stringTableSize);
-    if (isValidFilesize(header, newSize)) {
-      if (header.getIs64Bit()) {
+    if (isValidFilesize(is64bit, newSize)) {
+      if (is64bit) {
         ObjectFileScrubbers.putLittleEndianLong(map, newSize);
       } else {
         ObjectFileScrubbers.putLittleEndianInt(map, (int) newSize);
@@ -287,11 +253,11 @@ public class Machos {
       throw new MachoException("32bit scrubbed map segment file size too big");
     }
 
-    file.truncate(currentStringTableOffset);
+    return currentStringTableOffset;
   }
 
-  private static boolean isValidFilesize(MachoHeader header, long filesize) {
-    return (header.getIs64Bit() || filesize <= Integer.MAX_VALUE);
+  private static boolean isValidFilesize(boolean is64bit, long filesize) {
+    return (is64bit || filesize <= Integer.MAX_VALUE);
   }
 
   /** Returns the Mach-O header provided the file is Mach-O, otherwise throws an exception. */
@@ -17,26 +17,39 @@
 package com.facebook.buck.cxx.toolchain.objectfile;
 
 import com.facebook.buck.io.file.FileContentsScrubber;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Path;
+import java.util.Map;
 
-public class OsoSymbolsContentsScrubber implements FileContentsScrubber {
+/** Relativizes the paths in the OSO entries of a Mach-O file. See {@link Machos}. */
+public class OsoSymbolsContentsScrubber implements FileContentsScrubber, MachoScrubber {
 
-  private final ImmutableMap<Path, Path> cellRootMap;
+  private final Map<byte[], byte[]> replacementPathMap;
 
   public OsoSymbolsContentsScrubber(ImmutableMap<Path, Path> cellRootMap) {
-    this.cellRootMap = cellRootMap;
+    cellRootMap.forEach(
+        (from, to) -> {
+          Preconditions.checkArgument(from.isAbsolute());
+          Preconditions.checkArgument(!to.isAbsolute());
+        });
+    this.replacementPathMap = Machos.generateReplacementMap(cellRootMap);
   }
 
   @Override
   public void scrubFile(FileChannel file) throws IOException, ScrubException {
-    if (!Machos.isMacho(file)) {
-      return;
-    }
+    new MachoScrubberDriver(ImmutableList.of(this)).scrubFile(file);
+  }
+
+  @Override
+  public long scrubMacho(MappedByteBuffer map, long size, MachoLoadCommands loadCommands)
+      throws ScrubException {
     try {
-      Machos.relativizeOsoSymbols(file, cellRootMap);
+      return Machos.relativizeOsoSymbols(map, size, loadCommands, replacementPathMap);
     } catch (Machos.MachoException e) {
       throw new ScrubException(e.getMessage());
     }
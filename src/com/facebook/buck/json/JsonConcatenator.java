@@ -19,19 +19,27 @@ package com.facebook.buck.json;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableSortedSet;
-import java.io.BufferedWriter;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.OutputStreamWriter;
+import java.io.InputStream;
 import java.nio.file.Path;
-import java.util.Optional;
 
+/**
+ * Concatenates files containing JSON arrays into a single JSON array.
+ *
+ * <p>Inputs are streamed into the destination rather than loaded into memory, so merging large
+ * arrays (e.g. an uber compilation database built from per-target shards) only needs a small,
+ * constant amount of memory. The contents of each array are copied verbatim.
+ */
 @VisibleForTesting
 class JsonConcatenator {
 
   private final ProjectFilesystem filesystem;
   private ImmutableSortedSet<Path> inputs;
 
-  private BufferedWriter destinationBufferedWriter;
+  private BufferedOutputStream destinationStream;
   private boolean stillEmpty;
 
   @VisibleForTesting static final String JSON_ENCODING = "UTF-8";
@@ -42,9 +50,8 @@ class JsonConcatenator {
     this.inputs = inputs;
     this.stillEmpty = true;
     try {
-      this.destinationBufferedWriter =
-          new BufferedWriter(
-              new OutputStreamWriter(filesystem.newFileOutputStream(destination), JSON_ENCODING));
+      this.destinationStream =
+          new BufferedOutputStream(filesystem.newFileOutputStream(destination));
     } catch (IOException e) {
       closeAll();
       throw e;
@@ -53,8 +60,8 @@ class JsonConcatenator {
   }
 
   public void closeAll() throws IOException {
-    if (destinationBufferedWriter != null) {
-      destinationBufferedWriter.close();
+    if (destinationStream != null) {
+      destinationStream.close();
     }
   }
 
@@ -62,7 +69,10 @@ class JsonConcatenator {
     try {
       initializeArray();
       for (Path input : inputs) {
-        appendArray(loadJsonArrayFromFile(input));
+        try (InputStream inputStream =
+            new BufferedInputStream(filesystem.newFileInputStream(input))) {
+          appendArray(inputStream, input.toString());
+        }
       }
     } finally {
       finalizeArray();
@@ -71,7 +81,7 @@ class JsonConcatenator {
 
   @VisibleForTesting
   void initializeArray() throws IOException {
-    destinationBufferedWriter.write("[");
+    write("[");
   }
 
   @VisibleForTesting
@@ -79,29 +89,91 @@ class JsonConcatenator {
     if (isArrayEmpty(array)) {
       return;
     }
-    if (!stillEmpty) {
-      destinationBufferedWriter.write(",");
+    startElements();
+    write(stripArrayTokens(array));
+  }
+
+  /**
+   * Streams the JSON array read from {@code input} into the destination. This behaves exactly
+   * like {@link #appendArray(String)}, but never holds more than a run of whitespace in memory.
+   */
+  @VisibleForTesting
+  void appendArray(InputStream input, String description) throws IOException {
+    int b = skipWhitespace(input);
+    if (b != '[') {
+      throw new IOException("Expected a JSON array in " + description);
+    }
+
+    // Whitespace is held back until we know whether it is followed by more content, since the
+    // closing bracket and any whitespace after it must not be copied.  When a ']' is held back,
+    // `pending` holds everything up to it and `pendingAfterBracket` everything after it.
+    ByteArrayOutputStream pending = new ByteArrayOutputStream();
+    ByteArrayOutputStream pendingAfterBracket = new ByteArrayOutputStream();
+    boolean bracketHeld = false;
+    boolean started = false;
+    while ((b = input.read()) != -1) {
+      if (isWhitespace(b)) {
+        (bracketHeld ? pendingAfterBracket : pending).write(b);
+        continue;
+      }
+      if (bracketHeld) {
+        pending.write(']');
+        pendingAfterBracket.writeTo(pending);
+        pendingAfterBracket.reset();
+        bracketHeld = false;
+      }
+      if (b == ']') {
+        bracketHeld = true;
+        continue;
+      }
+      if (!started) {
+        startElements();
+        started = true;
+      }
+      pending.writeTo(destinationStream);
+      pending.reset();
+      destinationStream.write(b);
+    }
+
+    if (!bracketHeld) {
+      throw new IOException("Unterminated JSON array in " + description);
+    }
+    if (started) {
+      pending.writeTo(destinationStream);
     }
-    destinationBufferedWriter.write(stripArrayTokens(array));
-    stillEmpty = false;
   }
 
   @VisibleForTesting
   void finalizeArray() throws IOException {
     try {
-      destinationBufferedWriter.write("]");
+      write("]");
     } finally {
       closeAll();
     }
   }
 
-  private String loadJsonArrayFromFile(Path input) throws IOException {
-    Optional<String> result = filesystem.readFileIfItExists(input);
-    if (result.isPresent()) {
-      return result.get();
-    } else {
-      throw new IOException("Error loading " + input);
+  private void startElements() throws IOException {
+    if (!stillEmpty) {
+      write(",");
     }
+    stillEmpty = false;
+  }
+
+  private void write(String string) throws IOException {
+    destinationStream.write(string.getBytes(JSON_ENCODING));
+  }
+
+  private static int skipWhitespace(InputStream input) throws IOException {
+    int b;
+    do {
+      b = input.read();
+    } while (b != -1 && isWhitespace(b));
+    return b;
+  }
+
+  /** Matches the characters in the {@code \s} regular expression class. */
+  private static boolean isWhitespace(int b) {
+    return b == ' ' || b == '\t' || b == '\n' || b == 0x0B || b == '\f' || b == '\r';
   }
 
   @VisibleForTesting
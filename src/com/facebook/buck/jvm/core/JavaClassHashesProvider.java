@@ -21,6 +21,7 @@ import com.facebook.buck.core.sourcepath.resolver.SourcePathResolverAdapter;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.google.common.collect.ImmutableSortedMap;
 import com.google.common.hash.HashCode;
+import java.util.Optional;
 
 /** Provider that can load java class hashes from the filesystem. */
 public interface JavaClassHashesProvider extends AddsToRuleKey {
@@ -28,6 +29,18 @@ public interface JavaClassHashesProvider extends AddsToRuleKey {
   ImmutableSortedMap<String, HashCode> getClassNamesToHashes(
       ProjectFilesystem filesystem, SourcePathResolverAdapter sourcePathResolverAdapter);
 
+  /**
+   * @return the hash of a single class, for callers which only look at a few classes and so
+   *     needn't load all of them.
+   */
+  default Optional<HashCode> getClassHash(
+      String className,
+      ProjectFilesystem filesystem,
+      SourcePathResolverAdapter sourcePathResolverAdapter) {
+    return Optional.ofNullable(
+        getClassNamesToHashes(filesystem, sourcePathResolverAdapter).get(className));
+  }
+
   /** Invalidates a state */
   void invalidate();
 }
@@ -55,6 +55,7 @@ public class AccumulateClassNamesStep implements Step {
   private final ProjectFilesystem filesystem;
   private final Optional<Path> pathToJarOrClassesDirectory;
   private final Path whereClassNamesShouldBeWritten;
+  private final Optional<Path> whereClassHashesIndexShouldBeWritten;
 
   /**
    * @param pathToJarOrClassesDirectory Where to look for .class files. If absent, then an empty
@@ -66,9 +67,22 @@ public class AccumulateClassNamesStep implements Step {
       ProjectFilesystem filesystem,
       Optional<Path> pathToJarOrClassesDirectory,
       Path whereClassNamesShouldBeWritten) {
+    this(filesystem, pathToJarOrClassesDirectory, whereClassNamesShouldBeWritten, Optional.empty());
+  }
+
+  /**
+   * @param whereClassHashesIndexShouldBeWritten Path to a file where the same class names and
+   *     hashes will be written as a {@link ClassHashesIndex}, if present.
+   */
+  public AccumulateClassNamesStep(
+      ProjectFilesystem filesystem,
+      Optional<Path> pathToJarOrClassesDirectory,
+      Path whereClassNamesShouldBeWritten,
+      Optional<Path> whereClassHashesIndexShouldBeWritten) {
     this.filesystem = filesystem;
     this.pathToJarOrClassesDirectory = pathToJarOrClassesDirectory;
     this.whereClassNamesShouldBeWritten = whereClassNamesShouldBeWritten;
+    this.whereClassHashesIndexShouldBeWritten = whereClassHashesIndexShouldBeWritten;
   }
 
   @Override
@@ -92,6 +106,10 @@ public class AccumulateClassNamesStep implements Step {
             classNames.entrySet(),
             entry -> entry.getKey() + CLASS_NAME_HASH_CODE_SEPARATOR + entry.getValue()),
         whereClassNamesShouldBeWritten);
+    if (whereClassHashesIndexShouldBeWritten.isPresent()) {
+      ClassHashesIndex.write(
+          classNames, filesystem.resolve(whereClassHashesIndexShouldBeWritten.get()));
+    }
 
     return StepExecutionResults.SUCCESS;
   }
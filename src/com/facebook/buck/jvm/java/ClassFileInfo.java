@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.jvm.java;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import java.lang.reflect.Array;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.Nullable;
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.commons.ClassRemapper;
+import org.objectweb.asm.commons.Remapper;
+
+/**
+ * What incremental compilation needs to know about a compiled class: where it came from, what it
+ * refers to, and a hash of the parts of it other classes can be compiled against.
+ */
+final class ClassFileInfo {
+  private final String name;
+  @Nullable private final String superName;
+  private final ImmutableList<String> interfaces;
+  @Nullable private final String sourceFile;
+  private final ImmutableSortedSet<String> referencedClasses;
+  private final boolean declaresConstants;
+  private final String abiHash;
+
+  private ClassFileInfo(
+      String name,
+      @Nullable String superName,
+      ImmutableList<String> interfaces,
+      @Nullable String sourceFile,
+      ImmutableSortedSet<String> referencedClasses,
+      boolean declaresConstants,
+      String abiHash) {
+    this.name = name;
+    this.superName = superName;
+    this.interfaces = interfaces;
+    this.sourceFile = sourceFile;
+    this.referencedClasses = referencedClasses;
+    this.declaresConstants = declaresConstants;
+    this.abiHash = abiHash;
+  }
+
+  static ClassFileInfo read(byte[] classFile) {
+    ClassReader reader = new ClassReader(classFile);
+    ReferenceCollector references = new ReferenceCollector();
+    InfoVisitor info = new InfoVisitor();
+    reader.accept(new ClassRemapper(info, references), ClassReader.SKIP_FRAMES);
+    return new ClassFileInfo(
+        reader.getClassName(),
+        reader.getSuperName(),
+        ImmutableList.copyOf(reader.getInterfaces()),
+        info.sourceFile,
+        ImmutableSortedSet.copyOf(references.names),
+        info.declaresConstants,
+        info.hashAbi());
+  }
+
+  /** @return the internal name of the class. */
+  String getName() {
+    return name;
+  }
+
+  @Nullable
+  String getSuperName() {
+    return superName;
+  }
+
+  ImmutableList<String> getInterfaces() {
+    return interfaces;
+  }
+
+  /** @return the superclass, if any, followed by the interfaces. */
+  ImmutableList<String> getSupertypes() {
+    ImmutableList.Builder<String> supertypes = ImmutableList.builder();
+    if (superName != null) {
+      supertypes.add(superName);
+    }
+    return supertypes.addAll(interfaces).build();
+  }
+
+  /** @return the file name recorded in the SourceFile attribute, if javac emitted one. */
+  @Nullable
+  String getSourceFile() {
+    return sourceFile;
+  }
+
+  /**
+   * @return the internal names of every class mentioned anywhere in the class file: in its
+   *     declaration, member signatures, annotations and code.
+   */
+  ImmutableSortedSet<String> getReferencedClasses() {
+    return referencedClasses;
+  }
+
+  /**
+   * @return whether the class declares compile-time constants, which javac inlines into the classes
+   *     that use them without leaving a reference behind.
+   */
+  boolean declaresConstants() {
+    return declaresConstants;
+  }
+
+  /**
+   * @return a hash of the declaration of the class and of its non-private members, including
+   *     annotations and constant values. Method bodies, private members and debug information do
+   *     not contribute, so it only changes when classes compiled against this one might need to be
+   *     recompiled. Supertypes are only included by name.
+   */
+  String getAbiHash() {
+    return abiHash;
+  }
+
+  private static class ReferenceCollector extends Remapper {
+    private final Set<String> names = new TreeSet<>();
+
+    @Override
+    public String map(String internalName) {
+      names.add(internalName);
+      return internalName;
+    }
+  }
+
+  private static class InfoVisitor extends ClassVisitor {
+    private static final Joiner JOINER = Joiner.on(' ').useForNull("-");
+
+    /** The ABI of the class, one line per item so that member order does not matter. */
+    private final List<String> abi = new ArrayList<>();
+
+    @Nullable private String name;
+    @Nullable private String sourceFile;
+    private boolean declaresConstants;
+
+    private InfoVisitor() {
+      super(Opcodes.ASM7);
+    }
+
+    @Override
+    public void visit(
+        int version,
+        int access,
+        String name,
+        String signature,
+        String superName,
+        String[] interfaces) {
+      this.name = name;
+      abi.add(
+          JOINER.join(
+              "class",
+              access & ~Opcodes.ACC_SUPER,
+              name,
+              signature,
+              superName,
+              interfaces == null ? null : Joiner.on(',').join(interfaces)));
+    }
+
+    @Override
+    public void visitSource(String source, String debug) {
+      sourceFile = source;
+    }
+
+    @Override
+    public void visitInnerClass(String name, String outerName, String innerName, int access) {
+      if (name.equals(this.name) || (outerName != null && outerName.equals(this.name))) {
+        abi.add(JOINER.join("inner", access, name, outerName, innerName));
+      }
+    }
+
+    @Override
+    public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+      return new AbiAnnotationVisitor(abi, JOINER.join("annotation", descriptor, visible));
+    }
+
+    @Override
+    public FieldVisitor visitField(
+        int access, String name, String descriptor, String signature, Object value) {
+      if (value != null
+          && (access & Opcodes.ACC_STATIC) != 0
+          && (access & Opcodes.ACC_FINAL) != 0) {
+        declaresConstants = true;
+      }
+      if (!isAbi(access)) {
+        return null;
+      }
+      String member = JOINER.join("field", access, name, descriptor, signature, value);
+      abi.add(member);
+      return new FieldVisitor(Opcodes.ASM7) {
+        @Override
+        public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+          return new AbiAnnotationVisitor(abi, JOINER.join(member, descriptor, visible));
+        }
+      };
+    }
+
+    @Override
+    public MethodVisitor visitMethod(
+        int access, String name, String descriptor, String signature, String[] exceptions) {
+      if (!isAbi(access)) {
+        return null;
+      }
+      String member =
+          JOINER.join(
+              "method",
+              access,
+              name,
+              descriptor,
+              signature,
+              exceptions == null ? null : Joiner.on(',').join(exceptions));
+      abi.add(member);
+      return new MethodVisitor(Opcodes.ASM7) {
+        @Override
+        public AnnotationVisitor visitAnnotationDefault() {
+          return new AbiAnnotationVisitor(abi, JOINER.join(member, "default"));
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+          return new AbiAnnotationVisitor(abi, JOINER.join(member, descriptor, visible));
+        }
+
+        @Override
+        public AnnotationVisitor visitParameterAnnotation(
+            int parameter, String descriptor, boolean visible) {
+          return new AbiAnnotationVisitor(
+              abi, JOINER.join(member, "parameter", parameter, descriptor, visible));
+        }
+      };
+    }
+
+    private static boolean isAbi(int access) {
+      return (access & (Opcodes.ACC_PRIVATE | Opcodes.ACC_SYNTHETIC)) == 0;
+    }
+
+    private String hashAbi() {
+      Collections.sort(abi);
+      Hasher hasher = Hashing.murmur3_128().newHasher();
+      for (String line : abi) {
+        hasher.putString(line, StandardCharsets.UTF_8).putByte((byte) '\n');
+      }
+      return hasher.hash().toString();
+    }
+  }
+
+  /**
+   * Records every value of an annotation as a line of the ABI, prefixed with the path to it. Array
+   * elements are numbered, since their order is significant.
+   */
+  private static class AbiAnnotationVisitor extends AnnotationVisitor {
+    private final List<String> abi;
+    private final String prefix;
+    private int index;
+
+    private AbiAnnotationVisitor(List<String> abi, String prefix) {
+      super(Opcodes.ASM7);
+      this.abi = abi;
+      this.prefix = prefix;
+      abi.add(prefix);
+    }
+
+    private String path(@Nullable String name) {
+      return InfoVisitor.JOINER.join(prefix, name == null ? index++ : name);
+    }
+
+    @Override
+    public void visit(String name, Object value) {
+      abi.add(path(name) + "=" + toString(value));
+    }
+
+    @Override
+    public void visitEnum(String name, String descriptor, String value) {
+      abi.add(path(name) + "=" + descriptor + "." + value);
+    }
+
+    @Override
+    public AnnotationVisitor visitAnnotation(String name, String descriptor) {
+      return new AbiAnnotationVisitor(abi, path(name) + "=@" + descriptor);
+    }
+
+    @Override
+    public AnnotationVisitor visitArray(String name) {
+      return new AbiAnnotationVisitor(abi, path(name) + "[]");
+    }
+
+    private static String toString(Object value) {
+      if (!value.getClass().isArray()) {
+        return value.toString();
+      }
+      StringBuilder builder = new StringBuilder("{");
+      for (int i = 0; i < Array.getLength(value); i++) {
+        builder.append(i == 0 ? "" : ",").append(Array.get(value, i));
+      }
+      return builder.append('}').toString();
+    }
+  }
+}
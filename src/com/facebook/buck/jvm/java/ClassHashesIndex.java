@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.util.environment.Platform;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.hash.HashCode;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.SortedMap;
+import javax.annotation.Nullable;
+
+/**
+ * A binary, memory mapped form of the class name to hash map of a library, which {@link
+ * AccumulateClassNamesStep} writes along with its {@code classes.txt} file. Rules that write one
+ * declare it as an output, and the class hashes of a library are read from it rather than from the
+ * text file.
+ *
+ * <p>The text file has to be split into lines and have every hash parsed from hex each time it is
+ * read, and it is read by every rule that needs the class hashes of a library. The index is laid
+ * out so that the hash of a single class can be found without reading anything else, through an
+ * open addressing hash table over the class names, and so that the full map can be built without
+ * parsing or sorting. Indexes are shared between all readers in this process, along with the map
+ * built from them, for as long as the size, modification time and file key of the file stay the
+ * same.
+ *
+ * <p>The layout is a header of five ints (magic, version, entry count, hash length and slot
+ * count), followed by the slots of the hash table, each holding one plus the index of an entry or
+ * zero if it is empty, then the offset and length of the name of each entry, then the hash of each
+ * entry, and finally the UTF-8 encoded names. Entries are sorted by name.
+ */
+public final class ClassHashesIndex {
+
+  private static final int MAGIC = 0x42434849;
+  private static final int VERSION = 3;
+  private static final int HEADER_SIZE = 5 * Integer.BYTES;
+  private static final String EXTENSION = ".idx";
+
+  private static final Cache<Path, ClassHashesIndex> INDEXES =
+      CacheBuilder.newBuilder().softValues().build();
+
+  private final long size;
+  private final FileTime lastModifiedTime;
+  @Nullable private final Object fileKey;
+  private final ByteBuffer buffer;
+  private final int entryCount;
+  private final int hashLength;
+  private final int slotCount;
+  private final int entriesOffset;
+  private final int hashesOffset;
+  private final int namesOffset;
+
+  @Nullable private volatile ImmutableSortedMap<String, HashCode> classNamesToHashes;
+
+  private ClassHashesIndex(Path path, BasicFileAttributes attributes, ByteBuffer buffer)
+      throws IOException {
+    this.size = attributes.size();
+    this.lastModifiedTime = attributes.lastModifiedTime();
+    this.fileKey = attributes.fileKey();
+    this.buffer = buffer;
+    if (buffer.limit() < HEADER_SIZE
+        || buffer.getInt(0) != MAGIC
+        || buffer.getInt(Integer.BYTES) != VERSION) {
+      throw new IOException(String.format("%s is not a class hashes index", path));
+    }
+    this.entryCount = buffer.getInt(2 * Integer.BYTES);
+    this.hashLength = buffer.getInt(3 * Integer.BYTES);
+    this.slotCount = buffer.getInt(4 * Integer.BYTES);
+    this.entriesOffset = HEADER_SIZE + slotCount * Integer.BYTES;
+    this.hashesOffset = entriesOffset + entryCount * 2 * Integer.BYTES;
+    this.namesOffset = hashesOffset + entryCount * hashLength;
+  }
+
+  /** @return the path of the index which goes with the {@code classes.txt} file at the path. */
+  public static Path getIndexPath(Path classHashesPath) {
+    String fileName = classHashesPath.getFileName().toString();
+    int extension = fileName.lastIndexOf('.');
+    return classHashesPath.resolveSibling(
+        (extension == -1 ? fileName : fileName.substring(0, extension)) + EXTENSION);
+  }
+
+  /**
+   * Returns the index at {@code path}, reading it if it hasn't been read yet or has changed since
+   * it was.
+   */
+  public static ClassHashesIndex open(Path path) throws IOException {
+    BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+    ClassHashesIndex index = INDEXES.getIfPresent(path);
+    if (index == null || !index.isCurrent(attributes)) {
+      index = new ClassHashesIndex(path, attributes, read(path));
+      INDEXES.put(path, index);
+    }
+    return index;
+  }
+
+  private static ByteBuffer read(Path path) throws IOException {
+    // Windows won't let a mapped file be deleted, which the next build of the library would do.
+    if (Platform.detect() == Platform.WINDOWS) {
+      return ByteBuffer.wrap(Files.readAllBytes(path));
+    }
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      // The mapping stays valid after the channel is closed.
+      return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+  }
+
+  private boolean isCurrent(BasicFileAttributes attributes) {
+    return size == attributes.size()
+        && lastModifiedTime.equals(attributes.lastModifiedTime())
+        && Objects.equals(fileKey, attributes.fileKey());
+  }
+
+  /**
+   * Writes the index of {@code classNamesToHashes} to {@code path}. The index is written to a
+   * temporary file and moved into place, so that readers which have the previous index mapped are
+   * not affected.
+   */
+  public static void write(SortedMap<String, HashCode> classNamesToHashes, Path path)
+      throws IOException {
+    int entryCount = classNamesToHashes.size();
+    int hashLength = entryCount == 0 ? 0 : classNamesToHashes.values().iterator().next().bits() / 8;
+    // Keep the table at most half full, so that probe sequences stay short.
+    int slotCount = Integer.highestOneBit(Math.max(1, entryCount * 2 - 1)) << 1;
+
+    byte[][] names = new byte[entryCount][];
+    int namesLength = 0;
+    int[] slots = new int[slotCount];
+    int entry = 0;
+    for (Map.Entry<String, HashCode> classNameToHash : classNamesToHashes.entrySet()) {
+      Preconditions.checkArgument(
+          classNameToHash.getValue().bits() == hashLength * 8,
+          "All class hashes must have the same length");
+      names[entry] = classNameToHash.getKey().getBytes(StandardCharsets.UTF_8);
+      namesLength += names[entry].length;
+      int slot = getFirstSlot(classNameToHash.getKey(), slotCount);
+      while (slots[slot] != 0) {
+        slot = (slot + 1) & (slotCount - 1);
+      }
+      slots[slot] = entry + 1;
+      entry++;
+    }
+
+    ByteBuffer buffer =
+        ByteBuffer.allocate(
+            HEADER_SIZE
+                + slotCount * Integer.BYTES
+                + entryCount * (2 * Integer.BYTES + hashLength)
+                + namesLength);
+    buffer.putInt(MAGIC).putInt(VERSION).putInt(entryCount).putInt(hashLength).putInt(slotCount);
+    for (int slot : slots) {
+      buffer.putInt(slot);
+    }
+    int nameOffset = 0;
+    for (byte[] name : names) {
+      buffer.putInt(nameOffset).putInt(name.length);
+      nameOffset += name.length;
+    }
+    for (HashCode hash : classNamesToHashes.values()) {
+      buffer.put(hash.asBytes());
+    }
+    for (byte[] name : names) {
+      buffer.put(name);
+    }
+
+    Path temp = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+    try {
+      try (OutputStream output = Files.newOutputStream(temp)) {
+        output.write(buffer.array());
+      }
+      Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  /** @return the hash of the class with the given name, without its {@code .class} suffix. */
+  public Optional<HashCode> getHash(String className) {
+    if (entryCount == 0) {
+      return Optional.empty();
+    }
+    byte[] name = className.getBytes(StandardCharsets.UTF_8);
+    for (int slot = getFirstSlot(className, slotCount); ; slot = (slot + 1) & (slotCount - 1)) {
+      int entry = buffer.getInt(HEADER_SIZE + slot * Integer.BYTES) - 1;
+      if (entry == -1) {
+        return Optional.empty();
+      }
+      if (nameEquals(entry, name)) {
+        return Optional.of(getHashAt(entry));
+      }
+    }
+  }
+
+  /** @return every class in the index and its hash, as written by {@link #write}. */
+  public ImmutableSortedMap<String, HashCode> getClassNamesToHashes() {
+    ImmutableSortedMap<String, HashCode> result = classNamesToHashes;
+    if (result == null) {
+      ImmutableSortedMap.Builder<String, HashCode> builder = ImmutableSortedMap.naturalOrder();
+      for (int entry = 0; entry < entryCount; entry++) {
+        builder.put(getNameAt(entry), getHashAt(entry));
+      }
+      result = builder.build();
+      classNamesToHashes = result;
+    }
+    return result;
+  }
+
+  /** @return the number of classes in the index. */
+  public int size() {
+    return entryCount;
+  }
+
+  private static int getFirstSlot(String className, int slotCount) {
+    int hash = className.hashCode();
+    // Spread the high bits into the low ones, like HashMap does.
+    return (hash ^ (hash >>> 16)) & (slotCount - 1);
+  }
+
+  private boolean nameEquals(int entry, byte[] name) {
+    int entryOffset = entriesOffset + entry * 2 * Integer.BYTES;
+    if (buffer.getInt(entryOffset + Integer.BYTES) != name.length) {
+      return false;
+    }
+    int offset = namesOffset + buffer.getInt(entryOffset);
+    for (int i = 0; i < name.length; i++) {
+      if (buffer.get(offset + i) != name[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private String getNameAt(int entry) {
+    int entryOffset = entriesOffset + entry * 2 * Integer.BYTES;
+    byte[] name = new byte[buffer.getInt(entryOffset + Integer.BYTES)];
+    ByteBuffer duplicate = buffer.duplicate();
+    duplicate.position(namesOffset + buffer.getInt(entryOffset));
+    duplicate.get(name);
+    return new String(name, StandardCharsets.UTF_8);
+  }
+
+  private HashCode getHashAt(int entry) {
+    byte[] hash = new byte[hashLength];
+    ByteBuffer duplicate = buffer.duplicate();
+    duplicate.position(hashesOffset + entry * hashLength);
+    duplicate.get(hash);
+    return HashCode.fromBytes(hash);
+  }
+}
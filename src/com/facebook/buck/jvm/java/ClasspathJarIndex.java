@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.util.zip.MappedCentralDirectory;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.primitives.ImmutableIntArray;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.StringTokenizer;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import javax.annotation.Nullable;
+import javax.tools.JavaFileObject;
+
+/**
+ * The class files of a class path jar, grouped by package, along with the Class-Path of its
+ * manifest.
+ *
+ * <p>javac opens every jar on the class path to expand its manifest Class-Path, and lists every
+ * package it looks up against every one of them, so each compilation otherwise opens and indexes
+ * every jar on its class path even though most of them are outputs of other rules which haven't
+ * changed since the last compilation. Indexes are shared between all the compilations in this
+ * process, and are reused for as long as the size, modification time, status change time and file
+ * key of the jar stay the same.
+ *
+ * <p>Indexes aren't keyed by the contents of the jar: javac steps don't have the file hash cache,
+ * and hashing every jar on the class path for every compilation would read each of them in full.
+ * The status change time can't be set by anything writing the jar, so it catches rewrites that
+ * restore the size and modification time, such as fetching a scrubbed jar from the cache into a
+ * reused inode. Where it isn't available (outside of the unix attribute view), a rewrite that keeps
+ * the size, modification time and file key of a jar goes unnoticed.
+ *
+ * <p>The jar is memory mapped and classes are identified by their index in its central directory,
+ * so neither building the index nor reading classes through it creates zip entry objects.
+ */
+final class ClasspathJarIndex {
+
+  private static final String CLASS_EXTENSION = JavaFileObject.Kind.CLASS.extension;
+  private static final String SOURCE_EXTENSION = JavaFileObject.Kind.SOURCE.extension;
+
+  private static final Cache<Path, ClasspathJarIndex> INDEXES =
+      CacheBuilder.newBuilder().softValues().build();
+
+  private final long size;
+  private final FileTime lastModifiedTime;
+  @Nullable private final Object changeTime;
+  @Nullable private final Object fileKey;
+  private final MappedCentralDirectory centralDirectory;
+  private final boolean hasSources;
+  private final ImmutableList<String> manifestClassPath;
+  private final ImmutableMap<String, ImmutableIntArray> classesByPackage;
+
+  private ClasspathJarIndex(
+      BasicFileAttributes attributes,
+      @Nullable Object changeTime,
+      MappedCentralDirectory centralDirectory,
+      boolean hasSources,
+      ImmutableList<String> manifestClassPath,
+      ImmutableMap<String, ImmutableIntArray> classesByPackage) {
+    this.size = attributes.size();
+    this.lastModifiedTime = attributes.lastModifiedTime();
+    this.changeTime = changeTime;
+    this.fileKey = attributes.fileKey();
+    this.centralDirectory = centralDirectory;
+    this.hasSources = hasSources;
+    this.manifestClassPath = manifestClassPath;
+    this.classesByPackage = classesByPackage;
+  }
+
+  /**
+   * Returns the index of the jar at {@code jarPath}, reading it if it hasn't been indexed yet or
+   * has changed since it was.
+   *
+   * @param attributes the current attributes of the jar
+   */
+  static ClasspathJarIndex get(Path jarPath, BasicFileAttributes attributes) throws IOException {
+    Object changeTime = readChangeTime(jarPath);
+    ClasspathJarIndex index = INDEXES.getIfPresent(jarPath);
+    if (index == null || !index.isCurrent(attributes, changeTime)) {
+      index = read(jarPath, attributes, changeTime);
+      INDEXES.put(jarPath, index);
+    }
+    return index;
+  }
+
+  /** @return the time the jar's inode last changed, or null if the file system doesn't say. */
+  @Nullable
+  private static Object readChangeTime(Path jarPath) throws IOException {
+    try {
+      return Files.getAttribute(jarPath, "unix:ctime");
+    } catch (UnsupportedOperationException | IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  private static ClasspathJarIndex read(
+      Path jarPath, BasicFileAttributes attributes, @Nullable Object changeTime)
+      throws IOException {
+    MappedCentralDirectory centralDirectory = MappedCentralDirectory.map(jarPath);
+    boolean hasSources = false;
+    int manifestEntry = -1;
+    Map<String, ImmutableIntArray.Builder> classesByPackage = new LinkedHashMap<>();
+    for (int entry = 0; entry < centralDirectory.getEntryCount(); entry++) {
+      if (centralDirectory.nameEndsWith(entry, CLASS_EXTENSION)) {
+        String name = centralDirectory.getName(entry);
+        int lastSlash = name.lastIndexOf('/');
+        String packagePath = lastSlash == -1 ? "" : name.substring(0, lastSlash);
+        classesByPackage
+            .computeIfAbsent(packagePath, key -> ImmutableIntArray.builder())
+            .add(entry);
+      } else if (centralDirectory.nameEndsWith(entry, SOURCE_EXTENSION)) {
+        hasSources = true;
+      } else if (manifestEntry == -1
+          && centralDirectory.nameEndsWith(entry, JarFile.MANIFEST_NAME)
+          && centralDirectory.getName(entry).equals(JarFile.MANIFEST_NAME)) {
+        manifestEntry = entry;
+      }
+    }
+
+    ImmutableList<String> manifestClassPath =
+        manifestEntry == -1
+            ? ImmutableList.of()
+            : readManifestClassPath(centralDirectory, manifestEntry);
+    ImmutableMap.Builder<String, ImmutableIntArray> builder =
+        ImmutableMap.builderWithExpectedSize(classesByPackage.size());
+    for (Map.Entry<String, ImmutableIntArray.Builder> entry : classesByPackage.entrySet()) {
+      builder.put(entry.getKey(), entry.getValue().build());
+    }
+    return new ClasspathJarIndex(
+        attributes, changeTime, centralDirectory, hasSources, manifestClassPath, builder.build());
+  }
+
+  private static ImmutableList<String> readManifestClassPath(
+      MappedCentralDirectory centralDirectory, int entry) throws IOException {
+    Manifest manifest;
+    try (InputStream inputStream = centralDirectory.openInputStream(entry)) {
+      manifest = new Manifest(inputStream);
+    }
+    String classPath = manifest.getMainAttributes().getValue(Attributes.Name.CLASS_PATH);
+    if (classPath == null) {
+      return ImmutableList.of();
+    }
+    // Split the same way javac does when it expands the class path.
+    ImmutableList.Builder<String> elements = ImmutableList.builder();
+    for (StringTokenizer tokenizer = new StringTokenizer(classPath); tokenizer.hasMoreTokens(); ) {
+      elements.add(tokenizer.nextToken());
+    }
+    return elements.build();
+  }
+
+  private boolean isCurrent(BasicFileAttributes attributes, @Nullable Object changeTime) {
+    return size == attributes.size()
+        && lastModifiedTime.equals(attributes.lastModifiedTime())
+        && Objects.equals(this.changeTime, changeTime)
+        && Objects.equals(fileKey, attributes.fileKey());
+  }
+
+  /** Whether the jar contains .java files, which javac may look up on the classpath. */
+  boolean hasSources() {
+    return hasSources;
+  }
+
+  /** @return the entries of the Class-Path attribute of the jar's manifest. */
+  ImmutableList<String> getManifestClassPath() {
+    return manifestClassPath;
+  }
+
+  /** @return the class files directly within a package. */
+  ImmutableIntArray getClasses(String packagePath) {
+    ImmutableIntArray classes = classesByPackage.get(packagePath);
+    return classes == null ? ImmutableIntArray.of() : classes;
+  }
+
+  /** @return the class files within a package and all of its subpackages. */
+  ImmutableIntArray getClassesRecursively(String packagePath) {
+    String prefix = packagePath + "/";
+    ImmutableIntArray.Builder classes = ImmutableIntArray.builder();
+    for (Map.Entry<String, ImmutableIntArray> entry : classesByPackage.entrySet()) {
+      String key = entry.getKey();
+      if (packagePath.isEmpty() || key.equals(packagePath) || key.startsWith(prefix)) {
+        classes.addAll(entry.getValue());
+      }
+    }
+    return classes.build();
+  }
+
+  /** @return the name of a class file, such as {@code com/example/Foo.class}. */
+  String getName(int classEntry) {
+    return centralDirectory.getName(classEntry);
+  }
+
+  long getLastModified(int classEntry) {
+    return centralDirectory.getTime(classEntry);
+  }
+
+  InputStream openInputStream(int classEntry) throws IOException {
+    return centralDirectory.openInputStream(classEntry);
+  }
+}
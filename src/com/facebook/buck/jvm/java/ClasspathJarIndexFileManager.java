@@ -0,0 +1,355 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.core.util.log.Logger;
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterators;
+import com.google.common.primitives.ImmutableIntArray;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.Nullable;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+
+/**
+ * A {@link StandardJavaFileManager} which answers javac's class path lookups from the shared
+ * {@link ClasspathJarIndex}es instead of letting the wrapped file manager open and index every jar
+ * on the class path. Classes are read straight from the indexes' mappings of the jars, so
+ * concurrent compilations against the same jar share a single mapping.
+ *
+ * <p>Lookups go to the wrapped file manager whenever the class path contains something other than
+ * jars, or javac asks for files which aren't indexed.
+ */
+class ClasspathJarIndexFileManager extends ForwardingStandardJavaFileManager {
+  private static final Logger LOG = Logger.get(ClasspathJarIndexFileManager.class);
+
+  private static final Set<JavaFileObject.Kind> INDEXED_KINDS =
+      EnumSet.of(JavaFileObject.Kind.CLASS, JavaFileObject.Kind.SOURCE);
+
+  private static final ImmutableSet<String> CLASSPATH_OPTIONS =
+      ImmutableSet.of("-classpath", "-cp", "--class-path");
+
+  /** The class path passed to javac as an option, before javac expands it. */
+  @Nullable private String classpathOption;
+
+  /** The indexes of the class path jars, or null if the class path can't be served from them. */
+  @Nullable private ImmutableList<ClasspathJar> classpathJars;
+
+  private boolean isClasspathResolved = false;
+  private boolean classpathHasSources = false;
+
+  public ClasspathJarIndexFileManager(StandardJavaFileManager fileManager) {
+    super(fileManager);
+  }
+
+  @Override
+  public Iterable<JavaFileObject> list(
+      Location location, String packageName, Set<JavaFileObject.Kind> kinds, boolean recurse)
+      throws IOException {
+    if (location != StandardLocation.CLASS_PATH || !INDEXED_KINDS.containsAll(kinds)) {
+      return super.list(location, packageName, kinds, recurse);
+    }
+    ImmutableList<ClasspathJar> jars = getClasspathJars();
+    if (jars == null || (classpathHasSources && kinds.contains(JavaFileObject.Kind.SOURCE))) {
+      return super.list(location, packageName, kinds, recurse);
+    }
+    if (!kinds.contains(JavaFileObject.Kind.CLASS)) {
+      return ImmutableList.of();
+    }
+
+    String packagePath = packageName.replace('.', '/');
+    List<JavaFileObject> results = new ArrayList<>();
+    for (ClasspathJar jar : jars) {
+      ImmutableIntArray classes =
+          recurse
+              ? jar.index.getClassesRecursively(packagePath)
+              : jar.index.getClasses(packagePath);
+      for (int i = 0; i < classes.length(); i++) {
+        results.add(new ClasspathJarEntryFileObject(jar, classes.get(i)));
+      }
+    }
+    return results;
+  }
+
+  @Override
+  public String inferBinaryName(Location location, JavaFileObject file) {
+    if (file instanceof ClasspathJarEntryFileObject) {
+      return ((ClasspathJarEntryFileObject) file).getBinaryName();
+    }
+    return super.inferBinaryName(location, file);
+  }
+
+  @Override
+  public boolean isSameFile(FileObject a, FileObject b) {
+    if (a instanceof ClasspathJarEntryFileObject || b instanceof ClasspathJarEntryFileObject) {
+      return a.toUri().equals(b.toUri());
+    }
+    return super.isSameFile(a, b);
+  }
+
+  @Override
+  public boolean handleOption(String current, Iterator<String> remaining) {
+    if (CLASSPATH_OPTIONS.contains(current) && remaining.hasNext()) {
+      String classpath = remaining.next();
+      classpathOption = classpath;
+      isClasspathResolved = false;
+      return super.handleOption(current, Iterators.singletonIterator(classpath));
+    }
+    return super.handleOption(current, remaining);
+  }
+
+  @Override
+  public void setLocation(Location location, Iterable<? extends File> path) throws IOException {
+    super.setLocation(location, path);
+    if (location == StandardLocation.CLASS_PATH) {
+      classpathOption = null;
+      isClasspathResolved = false;
+    }
+  }
+
+  @Nullable
+  private ImmutableList<ClasspathJar> getClasspathJars() {
+    if (!isClasspathResolved) {
+      classpathJars = resolveClasspathJars();
+      classpathHasSources =
+          classpathJars != null && classpathJars.stream().anyMatch(jar -> jar.index.hasSources());
+      isClasspathResolved = true;
+    }
+    return classpathJars;
+  }
+
+  @Nullable
+  private ImmutableList<ClasspathJar> resolveClasspathJars() {
+    Set<File> visited = new HashSet<>();
+    ImmutableList.Builder<ClasspathJar> jars = ImmutableList.builder();
+    if (classpathOption != null) {
+      // Expand the class path the way javac does, without asking the wrapped file manager to open
+      // every jar for its manifest.
+      for (String element : Splitter.on(File.pathSeparatorChar).split(classpathOption)) {
+        File file = new File(element.isEmpty() ? "." : element);
+        if (!addClasspathEntry(file, true, visited, jars)) {
+          return null;
+        }
+      }
+    } else {
+      Iterable<? extends File> classpath = getLocation(StandardLocation.CLASS_PATH);
+      if (classpath != null) {
+        for (File file : classpath) {
+          if (!addClasspathEntry(file, false, visited, jars)) {
+            return null;
+          }
+        }
+      }
+    }
+    return jars.build();
+  }
+
+  /** @return false if the class path entry can't be served from an index. */
+  private boolean addClasspathEntry(
+      File file,
+      boolean expandManifestClassPath,
+      Set<File> visited,
+      ImmutableList.Builder<ClasspathJar> jars) {
+    if (!visited.add(file)) {
+      return true;
+    }
+    ClasspathJarIndex index;
+    try {
+      Path path = file.toPath();
+      BasicFileAttributes attributes;
+      try {
+        attributes = Files.readAttributes(path, BasicFileAttributes.class);
+      } catch (NoSuchFileException e) {
+        // javac ignores missing class path entries.
+        return true;
+      }
+      if (!attributes.isRegularFile()) {
+        return false;
+      }
+      index = ClasspathJarIndex.get(path, attributes);
+    } catch (IOException | InvalidPathException e) {
+      // Let javac report whatever is wrong with this entry.
+      LOG.debug(e, "Unable to index %s.", file);
+      return false;
+    }
+    jars.add(new ClasspathJar(file, index));
+
+    if (expandManifestClassPath) {
+      String parent = file.getParent();
+      for (String element : index.getManifestClassPath()) {
+        File manifestFile = parent == null ? new File(element) : new File(parent, element);
+        if (!addClasspathEntry(manifestFile, true, visited, jars)) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /** A jar on the class path of this compilation, along with its index. */
+  private static class ClasspathJar {
+    private final Path path;
+    private final ClasspathJarIndex index;
+    private final String uriPrefix;
+
+    private ClasspathJar(File file, ClasspathJarIndex index) {
+      this.path = file.toPath();
+      this.index = index;
+      // Matches the URIs of javac's own file objects, which ClassUsageTracker relies on.
+      this.uriPrefix = "jar:" + file.toURI().normalize() + "!/";
+    }
+  }
+
+  /** A class file in a class path jar, read through its shared index. */
+  private static class ClasspathJarEntryFileObject implements JavaFileObject {
+    private final ClasspathJar jar;
+    private final int classEntry;
+    @Nullable private String entryName;
+    @Nullable private URI uri;
+
+    private ClasspathJarEntryFileObject(ClasspathJar jar, int classEntry) {
+      this.jar = jar;
+      this.classEntry = classEntry;
+    }
+
+    private String getEntryName() {
+      if (entryName == null) {
+        entryName = jar.index.getName(classEntry);
+      }
+      return entryName;
+    }
+
+    private String getBinaryName() {
+      String name = getEntryName();
+      return name.substring(0, name.length() - Kind.CLASS.extension.length()).replace('/', '.');
+    }
+
+    @Override
+    public URI toUri() {
+      if (uri == null) {
+        uri = URI.create(jar.uriPrefix + getEntryName());
+      }
+      return uri;
+    }
+
+    @Override
+    public String getName() {
+      return jar.path + "(" + getEntryName() + ")";
+    }
+
+    @Override
+    public InputStream openInputStream() throws IOException {
+      return jar.index.openInputStream(classEntry);
+    }
+
+    @Override
+    public OutputStream openOutputStream() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Reader openReader(boolean ignoreEncodingErrors) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Writer openWriter() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public long getLastModified() {
+      return jar.index.getLastModified(classEntry);
+    }
+
+    @Override
+    public boolean delete() {
+      return false;
+    }
+
+    @Override
+    public Kind getKind() {
+      return Kind.CLASS;
+    }
+
+    @Override
+    public boolean isNameCompatible(String simpleName, Kind kind) {
+      if (kind != Kind.CLASS) {
+        return false;
+      }
+      String name = getEntryName();
+      String baseName = simpleName + kind.extension;
+      return name.equals(baseName) || name.endsWith("/" + baseName);
+    }
+
+    @Override
+    @Nullable
+    public NestingKind getNestingKind() {
+      return null;
+    }
+
+    @Override
+    @Nullable
+    public Modifier getAccessLevel() {
+      return null;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof ClasspathJarEntryFileObject
+          && toUri().equals(((ClasspathJarEntryFileObject) other).toUri());
+    }
+
+    @Override
+    public int hashCode() {
+      return toUri().hashCode();
+    }
+
+    @Override
+    public String toString() {
+      return getClass().getName() + "[" + toUri() + "]";
+    }
+  }
+}
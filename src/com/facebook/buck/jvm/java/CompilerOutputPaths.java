@@ -71,6 +71,14 @@ public abstract class CompilerOutputPaths {
         .resolve("used-classes.json");
   }
 
+  /**
+   * @return where incremental compilation keeps what it knows about the previous compilation. It
+   *     is a scratch directory that outlives the build, unlike the classes directory.
+   */
+  public static Path getIncrementalStateDir(BuildTarget target, ProjectFilesystem filesystem) {
+    return BuildTargetPaths.getScratchPath(filesystem, target, "lib__%s__incremental");
+  }
+
   public static Path getClassesDir(BuildTarget target, ProjectFilesystem filesystem) {
     return CompilerOutputPaths.of(target, filesystem).getClassesDir();
   }
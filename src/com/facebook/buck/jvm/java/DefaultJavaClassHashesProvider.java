@@ -29,18 +29,21 @@ import com.google.common.collect.ImmutableSortedMap;
 import com.google.common.hash.HashCode;
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.List;
+import java.util.Optional;
 
-/** Default implementation of {@link JavaClassHashesProvider} interface */
+/**
+ * Default implementation of {@link JavaClassHashesProvider} interface, which reads the {@link
+ * ClassHashesIndex} a rule declares as an output.
+ */
 public class DefaultJavaClassHashesProvider implements JavaClassHashesProvider {
 
-  @AddToRuleKey private final SourcePath classNamesToHashesSourcePath;
+  @AddToRuleKey private final SourcePath classHashesIndexSourcePath;
 
   @CustomFieldBehavior(EmptyMemoizerDeserialization.class)
   private Memoizer<ImmutableSortedMap<String, HashCode>> classNamesToHashesSupplier;
 
-  public DefaultJavaClassHashesProvider(SourcePath classNamesToHashesSourcePath) {
-    this.classNamesToHashesSourcePath = classNamesToHashesSourcePath;
+  public DefaultJavaClassHashesProvider(SourcePath classHashesIndexSourcePath) {
+    this.classHashesIndexSourcePath = classHashesIndexSourcePath;
     this.classNamesToHashesSupplier = new Memoizer<>();
   }
 
@@ -49,22 +52,33 @@ public class DefaultJavaClassHashesProvider implements JavaClassHashesProvider {
       ProjectFilesystem filesystem, SourcePathResolverAdapter sourcePathResolverAdapter) {
     return classNamesToHashesSupplier.get(
         () -> {
-          Path absolutePath =
-              sourcePathResolverAdapter.getAbsolutePath(classNamesToHashesSourcePath);
-          return readClassNamesToHashes(filesystem, absolutePath);
+          Path absolutePath = sourcePathResolverAdapter.getAbsolutePath(classHashesIndexSourcePath);
+          return readClassNamesToHashes(absolutePath);
         });
   }
 
+  @Override
+  public Optional<HashCode> getClassHash(
+      String className,
+      ProjectFilesystem filesystem,
+      SourcePathResolverAdapter sourcePathResolverAdapter) {
+    Path absolutePath = sourcePathResolverAdapter.getAbsolutePath(classHashesIndexSourcePath);
+    try {
+      return ClassHashesIndex.open(absolutePath).getHash(className);
+    } catch (IOException e) {
+      throw new BuckUncheckedExecutionException(
+          e, "I/O exception during reading from the path: %s", absolutePath);
+    }
+  }
+
   private ImmutableSortedMap<String, HashCode> readClassNamesToHashes(
-      ProjectFilesystem filesystem, Path classHashesAbsolutePath) {
-    List<String> lines;
+      Path classHashesIndexAbsolutePath) {
     try {
-      lines = filesystem.readLines(classHashesAbsolutePath);
+      return ClassHashesIndex.open(classHashesIndexAbsolutePath).getClassNamesToHashes();
     } catch (IOException e) {
       throw new BuckUncheckedExecutionException(
-          e, "I/O exception during reading from the path: %s", classHashesAbsolutePath);
+          e, "I/O exception during reading from the path: %s", classHashesIndexAbsolutePath);
     }
-    return AccumulateClassNamesStep.parseClassHashes(lines);
   }
 
   @Override
@@ -244,7 +244,8 @@ public class DefaultJavaLibrary
     this.javaClassHashesProvider =
         new DefaultJavaClassHashesProvider(
             ExplicitBuildTargetSourcePath.of(
-                buildTarget, getBuildable().getPathToClassHashes(projectFilesystem)));
+                buildTarget,
+                JavaLibraryRules.getPathToClassHashesIndex(buildTarget, projectFilesystem)));
   }
 
   private static void validateExportedDepsType(
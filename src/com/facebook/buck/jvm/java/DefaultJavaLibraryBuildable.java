@@ -41,6 +41,7 @@ import com.facebook.buck.step.Step;
 import com.facebook.buck.step.StepExecutionResult;
 import com.facebook.buck.step.StepExecutionResults;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedMap;
 import com.google.common.collect.ImmutableSortedSet;
 import java.io.IOException;
 import java.nio.file.Path;
@@ -58,6 +59,7 @@ class DefaultJavaLibraryBuildable implements PipelinedBuildable<JavacPipelineSta
 
   @AddToRuleKey private final OutputPath rootOutputPath;
   @AddToRuleKey private final OutputPath pathToClassHashesOutputPath;
+  @AddToRuleKey private final OutputPath pathToClassHashesIndexOutputPath;
   @AddToRuleKey private final OutputPath annotationsOutputPath;
 
   @AddToRuleKey(stringify = true)
@@ -89,6 +91,8 @@ class DefaultJavaLibraryBuildable implements PipelinedBuildable<JavacPipelineSta
 
     Path pathToClassHashes = getPathToClassHashes(filesystem);
     this.pathToClassHashesOutputPath = new PublicOutputPath(pathToClassHashes);
+    this.pathToClassHashesIndexOutputPath =
+        new PublicOutputPath(JavaLibraryRules.getPathToClassHashesIndex(buildTarget, filesystem));
 
     this.rootOutputPath = new PublicOutputPath(outputPaths.getOutputJarDirPath());
     this.annotationsOutputPath = new PublicOutputPath(outputPaths.getAnnotationPath());
@@ -181,6 +185,12 @@ class DefaultJavaLibraryBuildable implements PipelinedBuildable<JavacPipelineSta
               filesystem.createParentDirs(pathToClassHashes);
               filesystem.touch(pathToClassHashes);
             }
+            Path pathToClassHashesIndex =
+                outputPathResolver.resolvePath(pathToClassHashesIndexOutputPath);
+            if (!filesystem.exists(pathToClassHashesIndex)) {
+              ClassHashesIndex.write(
+                  ImmutableSortedMap.of(), filesystem.resolve(pathToClassHashesIndex));
+            }
             Path annotationsPath = outputPathResolver.resolvePath(annotationsOutputPath);
             if (!filesystem.exists(annotationsPath)) {
               filesystem.mkdirs(annotationsPath);
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.jvm.java;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+
+/**
+ * What {@link IncrementalJavacStep} remembers about the last compilation of a library: the hash of
+ * every source, the classes compiled from it and the classes those refer to, the ABI of every
+ * compiled class, a hash of every class the library referred to on its class path, and a hash of
+ * the names of all the classes on its class path.
+ */
+final class IncrementalCompilationState {
+  /** Bump whenever the format or the meaning of the hashes changes. */
+  static final int CURRENT_VERSION = 2;
+
+  /** The hash recorded for classes which are not on the class path, such as those in the JDK. */
+  static final String NOT_ON_CLASSPATH = "";
+
+  private final int version;
+  private final String configuration;
+  private final String classpathClassNames;
+  private final ImmutableSortedMap<String, SourceState> sources;
+  private final ImmutableSortedMap<String, ClassState> classes;
+  private final ImmutableSortedMap<String, String> classpath;
+  private final ImmutableSortedSet<String> classpathConstants;
+
+  @JsonCreator
+  IncrementalCompilationState(
+      @JsonProperty("version") int version,
+      @JsonProperty("configuration") String configuration,
+      @JsonProperty("classpathClassNames") String classpathClassNames,
+      @JsonProperty("sources") ImmutableSortedMap<String, SourceState> sources,
+      @JsonProperty("classes") ImmutableSortedMap<String, ClassState> classes,
+      @JsonProperty("classpath") ImmutableSortedMap<String, String> classpath,
+      @JsonProperty("classpathConstants") ImmutableSortedSet<String> classpathConstants) {
+    this.version = version;
+    this.configuration = configuration;
+    this.classpathClassNames = classpathClassNames;
+    this.sources = sources;
+    this.classes = classes;
+    this.classpath = classpath;
+    this.classpathConstants = classpathConstants;
+  }
+
+  @JsonProperty("version")
+  int getVersion() {
+    return version;
+  }
+
+  /** @return a hash of everything besides sources and class path contents that affects output. */
+  @JsonProperty("configuration")
+  String getConfiguration() {
+    return configuration;
+  }
+
+  /** @return a hash of the names of the classes in each class path entry, in class path order. */
+  @JsonProperty("classpathClassNames")
+  String getClasspathClassNames() {
+    return classpathClassNames;
+  }
+
+  /** @return the state of each source, keyed by its path relative to the project root. */
+  @JsonProperty("sources")
+  ImmutableSortedMap<String, SourceState> getSources() {
+    return sources;
+  }
+
+  /** @return the state of each compiled class, keyed by its internal name. */
+  @JsonProperty("classes")
+  ImmutableSortedMap<String, ClassState> getClasses() {
+    return classes;
+  }
+
+  /**
+   * @return a hash of the ABI of each class the library referred to outside of itself, and of its
+   *     supertypes, keyed by internal name.
+   */
+  @JsonProperty("classpath")
+  ImmutableSortedMap<String, String> getClasspath() {
+    return classpath;
+  }
+
+  /** @return the class path classes from {@link #getClasspath()} which declare constants. */
+  @JsonProperty("classpathConstants")
+  ImmutableSortedSet<String> getClasspathConstants() {
+    return classpathConstants;
+  }
+
+  /** The state of a single source file. */
+  static final class SourceState {
+    private final String hash;
+    private final ImmutableSortedSet<String> classes;
+    private final ImmutableSortedSet<String> references;
+
+    @JsonCreator
+    SourceState(
+        @JsonProperty("hash") String hash,
+        @JsonProperty("classes") ImmutableSortedSet<String> classes,
+        @JsonProperty("references") ImmutableSortedSet<String> references) {
+      this.hash = hash;
+      this.classes = classes;
+      this.references = references;
+    }
+
+    @JsonProperty("hash")
+    String getHash() {
+      return hash;
+    }
+
+    /** @return the internal names of the classes compiled from the source. */
+    @JsonProperty("classes")
+    ImmutableSortedSet<String> getClasses() {
+      return classes;
+    }
+
+    /** @return the internal names of the classes referred to by any of {@link #getClasses()}. */
+    @JsonProperty("references")
+    ImmutableSortedSet<String> getReferences() {
+      return references;
+    }
+  }
+
+  /** The state of a single compiled class. */
+  static final class ClassState {
+    private final String abiHash;
+    private final ImmutableList<String> supertypes;
+    private final boolean declaresConstants;
+
+    @JsonCreator
+    ClassState(
+        @JsonProperty("abiHash") String abiHash,
+        @JsonProperty("supertypes") ImmutableList<String> supertypes,
+        @JsonProperty("declaresConstants") boolean declaresConstants) {
+      this.abiHash = abiHash;
+      this.supertypes = supertypes;
+      this.declaresConstants = declaresConstants;
+    }
+
+    @JsonProperty("abiHash")
+    String getAbiHash() {
+      return abiHash;
+    }
+
+    @JsonProperty("supertypes")
+    ImmutableList<String> getSupertypes() {
+      return supertypes;
+    }
+
+    @JsonProperty("declaresConstants")
+    boolean declaresConstants() {
+      return declaresConstants;
+    }
+  }
+}
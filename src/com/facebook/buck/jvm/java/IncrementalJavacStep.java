@@ -0,0 +1,721 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.core.build.execution.context.ExecutionContext;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.sourcepath.resolver.SourcePathResolverAdapter;
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.io.file.MostFiles;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.pathformat.PathFormatter;
+import com.facebook.buck.jvm.java.IncrementalCompilationState.ClassState;
+import com.facebook.buck.jvm.java.IncrementalCompilationState.SourceState;
+import com.facebook.buck.step.Step;
+import com.facebook.buck.step.StepExecutionResult;
+import com.facebook.buck.step.StepExecutionResults;
+import com.facebook.buck.util.json.ObjectMappers;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import javax.annotation.Nullable;
+
+/**
+ * Compiles the sources of a java library, recompiling only the sources affected by what changed
+ * since the previous compilation when it can.
+ *
+ * <p>javac has no way of reusing the symbols of an earlier compilation, so this works at the level
+ * of class files: a snapshot of the classes compiled last time is kept in {@link
+ * CompilerOutputPaths#getIncrementalStateDir}, along with an {@link IncrementalCompilationState}
+ * recording which source each class came from, which classes each source refers to, and a hash of
+ * the ABI of each class. The first round recompiles the sources that changed and those that refer
+ * to a class path class whose ABI changed or to a class of a removed source, against the snapshot
+ * classes of everything else. Each further round recompiles the sources that refer to a class whose
+ * ABI changed in the round before, until no ABI changes.
+ *
+ * <p>Anything the state can't account for results in a full compilation, which also records the
+ * state for the next build: a changed compiler configuration or class path, added sources, a class
+ * added to or removed from the class path, or a changed class which declares compile-time
+ * constants, since javac inlines those without leaving a reference behind. A class appearing on
+ * the class path can change what a name in any source resolves to, such as a class in the same
+ * package shadowing one imported on demand, without anything the sources referred to changing.
+ * The class usage file written by javac only covers the sources compiled in the last round, so it
+ * is merged with the one from the previous compilation.
+ */
+class IncrementalJavacStep implements Step {
+  private static final Logger LOG = Logger.get(IncrementalJavacStep.class);
+
+  /** Past this many rounds, a full compilation is likely to be faster. */
+  private static final int MAX_ROUNDS = 10;
+
+  private static final String STATE_FILE = "state.json";
+  private static final String CLASSES_SNAPSHOT = "classes";
+  private static final String USED_CLASSES = "used-classes.json";
+  private static final String CLASS_FILE_EXTENSION = ".class";
+
+  private static final TypeReference<TreeMap<String, TreeSet<String>>> USED_CLASSES_TYPE =
+      new TypeReference<TreeMap<String, TreeSet<String>>>() {};
+
+  private final Javac javac;
+  private final JavacOptions javacOptions;
+  private final BuildTarget invokingRule;
+  private final SourcePathResolverAdapter resolver;
+  private final ProjectFilesystem filesystem;
+  private final ClasspathChecker classpathChecker;
+  private final CompilerParameters parameters;
+
+  public IncrementalJavacStep(
+      Javac javac,
+      JavacOptions javacOptions,
+      BuildTarget invokingRule,
+      SourcePathResolverAdapter resolver,
+      ProjectFilesystem filesystem,
+      ClasspathChecker classpathChecker,
+      CompilerParameters parameters) {
+    this.javac = javac;
+    this.javacOptions = javacOptions;
+    this.invokingRule = invokingRule;
+    this.resolver = resolver;
+    this.filesystem = filesystem;
+    this.classpathChecker = classpathChecker;
+    this.parameters = parameters;
+  }
+
+  @Override
+  public StepExecutionResult execute(ExecutionContext context)
+      throws IOException, InterruptedException {
+    Path stateDir =
+        filesystem.resolve(CompilerOutputPaths.getIncrementalStateDir(invokingRule, filesystem));
+    Path stateFile = stateDir.resolve(STATE_FILE);
+    Optional<IncrementalCompilationState> previous = Optional.empty();
+    if (Files.isRegularFile(stateFile)) {
+      try {
+        previous =
+            Optional.of(ObjectMappers.readValue(stateFile, IncrementalCompilationState.class));
+      } catch (IOException e) {
+        LOG.warn(e, "Unable to read the incremental compilation state of %s", invokingRule);
+      }
+    }
+    // The snapshot is about to go out of sync with the state, which is only written back once
+    // everything has compiled.
+    Files.deleteIfExists(stateFile);
+
+    try (ClasspathHasher classpath = new ClasspathHasher(parameters.getClasspathEntries())) {
+      return new Compilation(context, stateDir, classpath).run(previous);
+    }
+  }
+
+  @Override
+  public String getShortName() {
+    return createJavacStep(parameters).getShortName();
+  }
+
+  @Override
+  public String getDescription(ExecutionContext context) {
+    return createJavacStep(parameters).getDescription(context);
+  }
+
+  private JavacStep createJavacStep(CompilerParameters compilerParameters) {
+    return new JavacStep(
+        javac,
+        javacOptions,
+        invokingRule,
+        resolver,
+        filesystem,
+        classpathChecker,
+        compilerParameters,
+        null,
+        null);
+  }
+
+  /** @return a hash of everything besides sources and class path contents that affects output. */
+  private String getConfiguration() {
+    Hasher hasher = Hashing.sha1().newHasher();
+    hasher.putString(javac.getClass().getName(), StandardCharsets.UTF_8).putByte((byte) 0);
+    hasher.putString(javacOptions.toString(), StandardCharsets.UTF_8).putByte((byte) 0);
+    for (Path entry : parameters.getClasspathEntries()) {
+      hasher.putString(entry.toString(), StandardCharsets.UTF_8).putByte((byte) 0);
+    }
+    return hasher.hash().toString();
+  }
+
+  /** A single run of the step. */
+  private class Compilation {
+    private final ExecutionContext context;
+    private final Path stateDir;
+    private final Path snapshotDir;
+    private final Path classesDir;
+    private final ClasspathHasher classpath;
+    private final String configuration;
+
+    /** Files placed in the classes directory before compilation, such as resources. */
+    private final ImmutableSet<Path> resources;
+
+    /** The sources to compile, keyed by the string form of their path. */
+    private final ImmutableSortedMap<String, Path> sourcePaths;
+
+    /** The current state of each source and class, updated as rounds complete. */
+    private final Map<String, SourceState> sources = new TreeMap<>();
+
+    private final Map<String, ClassState> classes = new TreeMap<>();
+    private final TreeMap<String, TreeSet<String>> usedClasses = new TreeMap<>();
+
+    private Compilation(ExecutionContext context, Path stateDir, ClasspathHasher classpath)
+        throws IOException {
+      this.context = context;
+      this.stateDir = stateDir;
+      this.snapshotDir = stateDir.resolve(CLASSES_SNAPSHOT);
+      this.classesDir = filesystem.resolve(parameters.getOutputPaths().getClassesDir());
+      this.classpath = classpath;
+      this.configuration = getConfiguration();
+      this.resources = ImmutableSet.copyOf(listFiles(classesDir));
+      this.sourcePaths =
+          parameters.getSourceFilePaths().stream()
+              .collect(
+                  ImmutableSortedMap.toImmutableSortedMap(
+                      String::compareTo, Path::toString, path -> path));
+    }
+
+    private StepExecutionResult run(Optional<IncrementalCompilationState> previous)
+        throws IOException, InterruptedException {
+      if (!previous.isPresent()) {
+        return compileAll("there is no state from a previous compilation");
+      }
+      IncrementalCompilationState state = previous.get();
+      if (state.getVersion() != IncrementalCompilationState.CURRENT_VERSION
+          || !state.getConfiguration().equals(configuration)) {
+        return compileAll("the compiler configuration or class path changed");
+      }
+      if (!state.getClasspathClassNames().equals(classpath.hashClassNames())) {
+        return compileAll("a class was added to or removed from the class path");
+      }
+      for (String source : sourcePaths.keySet()) {
+        if (!source.endsWith(".java")) {
+          return compileAll(source + " is not a java source file");
+        }
+        if (!state.getSources().containsKey(source)) {
+          return compileAll(source + " was added");
+        }
+      }
+      if (parameters.shouldTrackClassUsage()) {
+        Path savedUsedClasses = stateDir.resolve(USED_CLASSES);
+        if (!Files.isRegularFile(savedUsedClasses)) {
+          return compileAll("the class usage file of the previous compilation is missing");
+        }
+        mergeUsedClasses(savedUsedClasses);
+      }
+
+      Set<String> changedClasses = new HashSet<>();
+      for (Map.Entry<String, SourceState> entry : state.getSources().entrySet()) {
+        if (!sourcePaths.containsKey(entry.getKey())) {
+          for (String name : entry.getValue().getClasses()) {
+            if (state.getClasses().get(name).declaresConstants()) {
+              return compileAll(name + " was removed and declared constants");
+            }
+            changedClasses.add(name);
+          }
+        }
+      }
+      for (Map.Entry<String, String> entry : state.getClasspath().entrySet()) {
+        String name = entry.getKey();
+        if (!classpath.getHash(name).equals(entry.getValue())) {
+          if (state.getClasspathConstants().contains(name) || classpath.declaresConstants(name)) {
+            return compileAll(name + " changed and declares constants");
+          }
+          changedClasses.add(name);
+        }
+      }
+
+      Set<String> round = new TreeSet<>();
+      for (Map.Entry<String, Path> entry : sourcePaths.entrySet()) {
+        SourceState source = state.getSources().get(entry.getKey());
+        if (!source.getHash().equals(hashSource(entry.getValue()))
+            || refersToAny(source, changedClasses)) {
+          round.add(entry.getKey());
+        }
+      }
+      if (round.size() * 2 > sourcePaths.size()) {
+        return compileAll("most sources need to be recompiled");
+      }
+
+      for (String source : sourcePaths.keySet()) {
+        SourceState sourceState = state.getSources().get(source);
+        sources.put(source, sourceState);
+        for (String name : sourceState.getClasses()) {
+          classes.put(name, state.getClasses().get(name));
+          if (!round.contains(source)) {
+            Path snapshot = getClassFile(snapshotDir, name);
+            if (!Files.isRegularFile(snapshot)) {
+              return compileAll("the snapshot of " + name + " is missing");
+            }
+            Path classFile = getClassFile(classesDir, name);
+            Files.createDirectories(classFile.getParent());
+            Files.copy(snapshot, classFile, StandardCopyOption.REPLACE_EXISTING);
+          }
+        }
+      }
+
+      Set<String> recompiled = new HashSet<>();
+      for (int rounds = 0; !round.isEmpty(); rounds++) {
+        if (rounds == MAX_ROUNDS) {
+          return compileAll("changes were still propagating after " + MAX_ROUNDS + " rounds");
+        }
+        LOG.debug("Recompiling %d sources of %s: %s", round.size(), invokingRule, round);
+
+        Set<String> changed = new HashSet<>();
+        Map<String, ClassState> replaced = new HashMap<>();
+        for (String source : round) {
+          for (String name : sources.get(source).getClasses()) {
+            Files.deleteIfExists(getClassFile(classesDir, name));
+            replaced.put(name, classes.remove(name));
+          }
+        }
+        Set<Path> existing = ImmutableSet.copyOf(listFiles(classesDir));
+        CompilerParameters roundParameters =
+            CompilerParameters.builder()
+                .from(parameters)
+                .setSourceFilePaths(
+                    round.stream()
+                        .map(sourcePaths::get)
+                        .collect(ImmutableSortedSet.toImmutableSortedSet(Path::compareTo)))
+                .setClasspathEntries(
+                    ImmutableSortedSet.<Path>naturalOrder()
+                        .addAll(parameters.getClasspathEntries())
+                        .add(classesDir)
+                        .build())
+                .build();
+        StepExecutionResult result = createJavacStep(roundParameters).execute(context);
+        if (!result.isSuccess()) {
+          return result;
+        }
+        if (parameters.shouldTrackClassUsage()) {
+          mergeUsedClasses(getDepFile());
+        }
+
+        List<Path> compiled =
+            listFiles(classesDir).stream()
+                .filter(path -> !existing.contains(path))
+                .collect(Collectors.toList());
+        if (!record(round, compiled)) {
+          return compileAll("not every class could be traced back to its source");
+        }
+        for (String source : round) {
+          for (String name : sources.get(source).getClasses()) {
+            ClassState before = replaced.remove(name);
+            ClassState after = classes.get(name);
+            if (before == null || !before.getAbiHash().equals(after.getAbiHash())) {
+              if (after.declaresConstants() || (before != null && before.declaresConstants())) {
+                return compileAll(name + " changed and declares constants");
+              }
+              changed.add(name);
+            }
+          }
+        }
+        for (Map.Entry<String, ClassState> removed : replaced.entrySet()) {
+          if (removed.getValue().declaresConstants()) {
+            return compileAll(removed.getKey() + " was removed and declared constants");
+          }
+          changed.add(removed.getKey());
+        }
+
+        recompiled.addAll(round);
+        Set<String> nextRound = new TreeSet<>();
+        for (Map.Entry<String, SourceState> entry : sources.entrySet()) {
+          if (!round.contains(entry.getKey()) && refersToAny(entry.getValue(), changed)) {
+            nextRound.add(entry.getKey());
+          }
+        }
+        round = nextRound;
+      }
+
+      for (Map.Entry<String, SourceState> entry : state.getSources().entrySet()) {
+        if (!sources.containsKey(entry.getKey()) || recompiled.contains(entry.getKey())) {
+          for (String name : entry.getValue().getClasses()) {
+            Files.deleteIfExists(getClassFile(snapshotDir, name));
+          }
+        }
+      }
+      for (String source : recompiled) {
+        for (String name : sources.get(source).getClasses()) {
+          Path snapshot = getClassFile(snapshotDir, name);
+          Files.createDirectories(snapshot.getParent());
+          Files.copy(
+              getClassFile(classesDir, name), snapshot, StandardCopyOption.REPLACE_EXISTING);
+        }
+      }
+      writeState();
+      return StepExecutionResults.SUCCESS;
+    }
+
+    /** Throws away the results of any rounds run so far and compiles everything. */
+    private StepExecutionResult compileAll(String reason)
+        throws IOException, InterruptedException {
+      LOG.debug("Compiling all sources of %s, as %s", invokingRule, reason);
+      for (Path path : listFiles(classesDir)) {
+        if (!resources.contains(path)) {
+          Files.delete(path);
+        }
+      }
+      sources.clear();
+      classes.clear();
+      usedClasses.clear();
+      MostFiles.deleteRecursivelyIfExists(stateDir);
+
+      StepExecutionResult result = createJavacStep(parameters).execute(context);
+      if (!result.isSuccess()) {
+        return result;
+      }
+      if (parameters.shouldTrackClassUsage()) {
+        mergeUsedClasses(getDepFile());
+      }
+
+      List<Path> compiled =
+          listFiles(classesDir).stream()
+              .filter(path -> !resources.contains(path))
+              .collect(Collectors.toList());
+      if (sourcePaths.keySet().stream().anyMatch(source -> !source.endsWith(".java"))
+          || !record(sourcePaths.keySet(), compiled)) {
+        LOG.debug("Not recording incremental compilation state for %s", invokingRule);
+        return result;
+      }
+      for (String name : classes.keySet()) {
+        Path snapshot = getClassFile(snapshotDir, name);
+        Files.createDirectories(snapshot.getParent());
+        Files.copy(getClassFile(classesDir, name), snapshot);
+      }
+      writeState();
+      return result;
+    }
+
+    /**
+     * Updates the state of {@code compiledSources} from the class files just compiled from them.
+     *
+     * @return false if some class could not be traced back to exactly one of the sources.
+     */
+    private boolean record(Collection<String> compiledSources, List<Path> classFiles)
+        throws IOException {
+      Map<String, ClassFileInfo> compiled = new HashMap<>();
+      Map<String, List<ClassFileInfo>> bySource = new HashMap<>();
+      for (Path classFile : classFiles) {
+        if (!classFile.getFileName().toString().endsWith(CLASS_FILE_EXTENSION)) {
+          return false;
+        }
+        ClassFileInfo info = ClassFileInfo.read(Files.readAllBytes(classFile));
+        Optional<String> source = findSource(info, compiledSources);
+        if (!source.isPresent() || !classFile.equals(getClassFile(classesDir, info.getName()))) {
+          return false;
+        }
+        compiled.put(info.getName(), info);
+        bySource.computeIfAbsent(source.get(), unused -> new ArrayList<>()).add(info);
+      }
+
+      Map<String, String> hashes = new HashMap<>();
+      for (ClassFileInfo info : compiled.values()) {
+        classes.put(
+            info.getName(),
+            new ClassState(
+                getEffectiveHash(info.getName(), compiled, hashes),
+                info.getSupertypes(),
+                info.declaresConstants()));
+      }
+      for (String source : compiledSources) {
+        List<ClassFileInfo> infos = bySource.getOrDefault(source, ImmutableList.of());
+        sources.put(
+            source,
+            new SourceState(
+                hashSource(sourcePaths.get(source)),
+                infos.stream()
+                    .map(ClassFileInfo::getName)
+                    .collect(ImmutableSortedSet.toImmutableSortedSet(String::compareTo)),
+                infos.stream()
+                    .flatMap(info -> info.getReferencedClasses().stream())
+                    .collect(ImmutableSortedSet.toImmutableSortedSet(String::compareTo))));
+      }
+      return true;
+    }
+
+    /**
+     * javac records the file name of the source of each class, so the source is the one with that
+     * name in the directory matching the package of the class, or failing that the only one with
+     * that name.
+     */
+    private Optional<String> findSource(ClassFileInfo info, Collection<String> compiledSources) {
+      String sourceFile = info.getSourceFile();
+      if (sourceFile == null) {
+        return Optional.empty();
+      }
+      String name = info.getName();
+      String packagePath = name.substring(0, name.lastIndexOf('/') + 1) + sourceFile;
+      List<String> sameName = new ArrayList<>();
+      List<String> samePackage = new ArrayList<>();
+      for (String source : compiledSources) {
+        String path = source.replace('\\', '/');
+        if (path.equals(sourceFile) || path.endsWith("/" + sourceFile)) {
+          sameName.add(source);
+          if (path.equals(packagePath) || path.endsWith("/" + packagePath)) {
+            samePackage.add(source);
+          }
+        }
+      }
+      if (samePackage.size() == 1) {
+        return Optional.of(samePackage.get(0));
+      }
+      return sameName.size() == 1 ? Optional.of(sameName.get(0)) : Optional.empty();
+    }
+
+    /**
+     * @return the hash of the ABI of the class, combined with those of its supertypes, since a
+     *     change to a supertype can change which members of the class can be used and how.
+     */
+    private String getEffectiveHash(
+        String name, Map<String, ClassFileInfo> compiled, Map<String, String> hashes)
+        throws IOException {
+      ClassFileInfo info = compiled.get(name);
+      if (info == null) {
+        ClassState state = classes.get(name);
+        return state != null ? state.getAbiHash() : classpath.getHash(name);
+      }
+      String hash = hashes.get(name);
+      if (hash == null) {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        hasher.putString(info.getAbiHash(), StandardCharsets.UTF_8);
+        for (String supertype : info.getSupertypes()) {
+          hasher.putString(getEffectiveHash(supertype, compiled, hashes), StandardCharsets.UTF_8);
+        }
+        hash = hasher.hash().toString();
+        hashes.put(name, hash);
+      }
+      return hash;
+    }
+
+    private void writeState() throws IOException {
+      Map<String, String> classpathHashes = new TreeMap<>();
+      Set<String> classpathConstants = new TreeSet<>();
+      for (SourceState source : sources.values()) {
+        for (String name : source.getReferences()) {
+          if (!classes.containsKey(name) && !classpathHashes.containsKey(name)) {
+            classpathHashes.put(name, classpath.getHash(name));
+            if (classpath.declaresConstants(name)) {
+              classpathConstants.add(name);
+            }
+          }
+        }
+      }
+
+      Files.createDirectories(stateDir);
+      if (parameters.shouldTrackClassUsage()) {
+        ObjectMappers.WRITER.writeValue(filesystem.resolve(getDepFile()).toFile(), usedClasses);
+        ObjectMappers.WRITER.writeValue(stateDir.resolve(USED_CLASSES).toFile(), usedClasses);
+      }
+      ObjectMappers.WRITER.writeValue(
+          stateDir.resolve(STATE_FILE).toFile(),
+          new IncrementalCompilationState(
+              IncrementalCompilationState.CURRENT_VERSION,
+              configuration,
+              classpath.hashClassNames(),
+              ImmutableSortedMap.copyOf(sources),
+              ImmutableSortedMap.copyOf(classes),
+              ImmutableSortedMap.copyOf(classpathHashes),
+              ImmutableSortedSet.copyOf(classpathConstants)));
+    }
+
+    private void mergeUsedClasses(Path file) throws IOException {
+      TreeMap<String, TreeSet<String>> used =
+          ObjectMappers.readValue(filesystem.resolve(file), USED_CLASSES_TYPE);
+      for (Map.Entry<String, TreeSet<String>> entry : used.entrySet()) {
+        usedClasses
+            .computeIfAbsent(entry.getKey(), unused -> new TreeSet<>())
+            .addAll(entry.getValue());
+      }
+    }
+
+    private Path getDepFile() {
+      return CompilerOutputPaths.getDepFilePath(invokingRule, filesystem);
+    }
+
+    private String hashSource(Path source) throws IOException {
+      return filesystem.computeSha1(source).getHash();
+    }
+  }
+
+  private static boolean refersToAny(SourceState source, Set<String> names) {
+    for (String name : source.getReferences()) {
+      if (names.contains(name)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static Path getClassFile(Path root, String name) {
+    return root.resolve(name + CLASS_FILE_EXTENSION);
+  }
+
+  private static List<Path> listFiles(Path dir) throws IOException {
+    if (!Files.isDirectory(dir)) {
+      return ImmutableList.of();
+    }
+    try (Stream<Path> paths = Files.walk(dir)) {
+      return paths
+          .filter(path -> !Files.isDirectory(path))
+          .collect(ImmutableList.toImmutableList());
+    }
+  }
+
+  /**
+   * Looks up classes on the class path the way javac would, in class path order, and hashes their
+   * ABI together with that of their supertypes. Classes which are not on the class path, such as
+   * those of the JDK, hash to {@link IncrementalCompilationState#NOT_ON_CLASSPATH}.
+   */
+  private static class ClasspathHasher implements Closeable {
+    private final ImmutableList<Path> entries;
+    private final Map<Path, ZipFile> jars = new HashMap<>();
+    private final Map<String, Optional<ClassFileInfo>> infos = new HashMap<>();
+    private final Map<String, String> hashes = new HashMap<>();
+    @Nullable private String classNamesHash;
+
+    private ClasspathHasher(Collection<Path> entries) {
+      this.entries = ImmutableList.copyOf(entries);
+    }
+
+    String getHash(String name) throws IOException {
+      String hash = hashes.get(name);
+      if (hash == null) {
+        Optional<ClassFileInfo> info = getInfo(name);
+        if (info.isPresent()) {
+          Hasher hasher = Hashing.murmur3_128().newHasher();
+          hasher.putString(info.get().getAbiHash(), StandardCharsets.UTF_8);
+          for (String supertype : info.get().getSupertypes()) {
+            hasher.putString(getHash(supertype), StandardCharsets.UTF_8);
+          }
+          hash = hasher.hash().toString();
+        } else {
+          hash = IncrementalCompilationState.NOT_ON_CLASSPATH;
+        }
+        hashes.put(name, hash);
+      }
+      return hash;
+    }
+
+    /**
+     * @return a hash of the names of the classes in each class path entry, in class path order,
+     *     which changes whenever a class is added to the class path, removed from it, or shadowed
+     *     by a class of the same name in an earlier entry.
+     */
+    String hashClassNames() throws IOException {
+      if (classNamesHash == null) {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        for (Path entry : entries) {
+          List<String> names = new ArrayList<>();
+          if (Files.isDirectory(entry)) {
+            for (Path path : listFiles(entry)) {
+              names.add(PathFormatter.pathWithUnixSeparators(entry.relativize(path)));
+            }
+          } else if (Files.isRegularFile(entry)) {
+            for (ZipEntry zipEntry : Collections.list(getJar(entry).entries())) {
+              names.add(zipEntry.getName());
+            }
+          }
+          names.removeIf(name -> !name.endsWith(CLASS_FILE_EXTENSION));
+          names.sort(String::compareTo);
+          hasher.putString(entry.toString(), StandardCharsets.UTF_8).putByte((byte) 0);
+          for (String name : names) {
+            hasher.putString(name, StandardCharsets.UTF_8).putByte((byte) 0);
+          }
+          hasher.putByte((byte) 1);
+        }
+        classNamesHash = hasher.hash().toString();
+      }
+      return classNamesHash;
+    }
+
+    boolean declaresConstants(String name) throws IOException {
+      return getInfo(name).map(ClassFileInfo::declaresConstants).orElse(false);
+    }
+
+    private Optional<ClassFileInfo> getInfo(String name) throws IOException {
+      Optional<ClassFileInfo> info = infos.get(name);
+      if (info == null) {
+        info = Optional.empty();
+        String entryName = name + CLASS_FILE_EXTENSION;
+        for (Path entry : entries) {
+          if (Files.isDirectory(entry)) {
+            Path classFile = entry.resolve(entryName);
+            if (Files.isRegularFile(classFile)) {
+              info = Optional.of(ClassFileInfo.read(Files.readAllBytes(classFile)));
+              break;
+            }
+          } else if (Files.isRegularFile(entry)) {
+            ZipFile jar = getJar(entry);
+            ZipEntry zipEntry = jar.getEntry(entryName);
+            if (zipEntry != null) {
+              try (InputStream stream = jar.getInputStream(zipEntry)) {
+                info = Optional.of(ClassFileInfo.read(ByteStreams.toByteArray(stream)));
+              }
+              break;
+            }
+          }
+        }
+        infos.put(name, info);
+      }
+      return info;
+    }
+
+    private ZipFile getJar(Path entry) throws IOException {
+      ZipFile jar = jars.get(entry);
+      if (jar == null) {
+        jar = new ZipFile(entry.toFile());
+        jars.put(entry, jar);
+      }
+      return jar;
+    }
+
+    @Override
+    public void close() throws IOException {
+      for (ZipFile jar : jars.values()) {
+        jar.close();
+      }
+    }
+  }
+}
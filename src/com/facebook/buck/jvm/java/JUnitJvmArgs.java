@@ -20,9 +20,11 @@ import com.facebook.buck.core.model.BuildId;
 import com.facebook.buck.core.util.immutables.BuckStyleValueWithBuilder;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.jvm.java.runner.FileClassPathRunner;
+import com.facebook.buck.jvm.java.runner.TestRunnerWorker;
 import com.facebook.buck.test.selectors.TestSelectorList;
 import com.facebook.buck.util.Verbosity;
 import com.facebook.buck.util.env.BuckClasspath;
+import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.io.File;
@@ -162,6 +164,81 @@ abstract class JUnitJvmArgs {
       args.add(String.format("-agentpath:%s", getPathToJavaAgent().get()));
     }
 
+    addSystemPropertiesToList(args);
+
+    if (isDebugEnabled()) {
+      // This is the default config used by IntelliJ. By doing this, all a user
+      // needs to do is create a new "Remote" debug config. Note that we start
+      // suspended, so tests will not run until the user connects.
+      args.add("-agentlib:jdwp=transport=dt_socket,server=y,suspend=y,address=5005");
+    }
+
+    addExtraJvmArgsToList(args, verbosity);
+
+    if (shouldUseClasspathArgfile()) {
+      // Java 9+ supports argfiles for commandline arguments. We leverage this when we know we're
+      // launching a version of Java that supports this, as classloader changes in Java 9 preclude
+      // use from using the approach we use for Java 8-.
+      args.add("@" + filesystem.resolve(classpathArgfile.get()));
+    } else {
+      args.add("-classpath", getTestRunnerClasspath().toString());
+    }
+
+    args.add(FileClassPathRunner.class.getName());
+
+    // Specify the Java class whose main() method should be run. This is the class that is
+    // responsible for running the tests.
+    args.add(getTestType().getDefaultTestRunner());
+
+    addTestRunnerArgsToList(args, defaultTestTimeoutMillis);
+  }
+
+  /**
+   * Formats the command which starts a {@link TestRunnerWorker}, which runs the tests of many
+   * invocations, each described by {@link #formatWorkerJobArgsToList}. Everything which has to be
+   * known when the JVM starts goes here, so it can be part of the key workers are shared by.
+   */
+  public void formatWorkerStartupArgsToList(
+      ImmutableList.Builder<String> args, Verbosity verbosity) {
+    Preconditions.checkState(
+        !isCodeCoverageEnabled() && !isDebugEnabled(),
+        "Test runner workers can neither collect coverage nor wait for a debugger.");
+    args.add(
+        String.format(
+            "-D%s=%s", FileClassPathRunner.TESTRUNNER_CLASSES_PROPERTY, getTestRunnerClasspath()));
+
+    if (getPathToJavaAgent().isPresent()) {
+      args.add(String.format("-agentpath:%s", getPathToJavaAgent().get()));
+    }
+
+    addExtraJvmArgsToList(args, verbosity);
+
+    args.add("-classpath", getTestRunnerClasspath().toString());
+    args.add(TestRunnerWorker.class.getName());
+  }
+
+  /**
+   * Formats the arguments of one invocation of a {@link TestRunnerWorker}.
+   *
+   * @param sharedClasspathEntries the entries of the classpath that the worker may keep loaded
+   *     from one invocation to the next.
+   */
+  public void formatWorkerJobArgsToList(
+      ImmutableList.Builder<String> args,
+      ProjectFilesystem filesystem,
+      ImmutableList<Path> sharedClasspathEntries,
+      long defaultTestTimeoutMillis) {
+    args.add(
+        TestRunnerWorker.CLASSPATH_FILE_ARG, filesystem.resolve(getClasspathFile()).toString());
+    for (Path entry : sharedClasspathEntries) {
+      args.add(TestRunnerWorker.SHARED_CLASSPATH_ENTRY_ARG, entry.toString());
+    }
+    addSystemPropertiesToList(args);
+    args.add(getTestType().getDefaultTestRunner());
+    addTestRunnerArgsToList(args, defaultTestTimeoutMillis);
+  }
+
+  private void addSystemPropertiesToList(ImmutableList.Builder<String> args) {
     // Include the buildId
     args.add(String.format("-D%s=%s", BUILD_ID_PROPERTY, getBuildId()));
 
@@ -183,14 +260,9 @@ abstract class JUnitJvmArgs {
     if (getRobolectricLogPath().isPresent()) {
       args.add(String.format("-Drobolectric.logging=%s", getRobolectricLogPath().get()));
     }
+  }
 
-    if (isDebugEnabled()) {
-      // This is the default config used by IntelliJ. By doing this, all a user
-      // needs to do is create a new "Remote" debug config. Note that we start
-      // suspended, so tests will not run until the user connects.
-      args.add("-agentlib:jdwp=transport=dt_socket,server=y,suspend=y,address=5005");
-    }
-
+  private void addExtraJvmArgsToList(ImmutableList.Builder<String> args, Verbosity verbosity) {
     // User-defined VM arguments, such as -D or -X.
     if (getExtraJvmArgs().isPresent()) {
       args.addAll(getExtraJvmArgs().get());
@@ -200,22 +272,10 @@ abstract class JUnitJvmArgs {
     if (verbosity.shouldUseVerbosityFlagIfAvailable()) {
       args.add("-verbose");
     }
+  }
 
-    if (shouldUseClasspathArgfile()) {
-      // Java 9+ supports argfiles for commandline arguments. We leverage this when we know we're
-      // launching a version of Java that supports this, as classloader changes in Java 9 preclude
-      // use from using the approach we use for Java 8-.
-      args.add("@" + filesystem.resolve(classpathArgfile.get()));
-    } else {
-      args.add("-classpath", getTestRunnerClasspath().toString());
-    }
-
-    args.add(FileClassPathRunner.class.getName());
-
-    // Specify the Java class whose main() method should be run. This is the class that is
-    // responsible for running the tests.
-    args.add(getTestType().getDefaultTestRunner());
-
+  private void addTestRunnerArgsToList(
+      ImmutableList.Builder<String> args, long defaultTestTimeoutMillis) {
     // The first argument to the test runner is where the test results should be written. It is not
     // reliable to write test results to stdout or stderr because there may be output from the unit
     // tests written to those file descriptors, as well.
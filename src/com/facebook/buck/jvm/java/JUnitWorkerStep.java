@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.core.build.execution.context.ExecutionContext;
+import com.facebook.buck.core.exceptions.HumanReadableException;
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.event.ConsoleEvent;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.jvm.java.runner.TestRunnerWorker;
+import com.facebook.buck.step.StepExecutionResult;
+import com.facebook.buck.step.StepExecutionResults;
+import com.facebook.buck.worker.WorkerJobResult;
+import com.facebook.buck.worker.WorkerProcessIdentity;
+import com.facebook.buck.worker.WorkerProcessParams;
+import com.facebook.buck.worker.WorkerProcessPool;
+import com.facebook.buck.worker.WorkerProcessPool.BorrowedWorkerProcess;
+import com.facebook.buck.worker.WorkerProcessPoolFactory;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterables;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Optional;
+import javax.annotation.Nullable;
+
+/**
+ * Runs the tests of a {@link JUnitStep} in a warm {@link TestRunnerWorker} instead of in a JVM of
+ * their own. Workers are pooled by their startup command, that is the java launcher and the JVM
+ * arguments, and by the classpath entries they keep loaded, so tests of different rules share them,
+ * and a worker is stopped once it reports that the tests left something behind. Tests which the
+ * worker can't run, or which take it down, are run in a JVM of their own after all.
+ */
+class JUnitWorkerStep extends JUnitStep {
+  private static final Logger LOG = Logger.get(JUnitWorkerStep.class);
+
+  private final ProjectFilesystem filesystem;
+  private final ImmutableList<String> javaRuntimeLauncher;
+  private final Optional<Long> testCaseTimeoutMs;
+  private final JUnitJvmArgs junitJvmArgs;
+  private final ImmutableList<Path> sharedClasspathEntries;
+  private final int maxWorkers;
+  private final WorkerProcessPoolFactory factory;
+
+  /**
+   * @param sharedClasspathEntries the entries of the classpath that don't change from one build to
+   *     the next, which the worker keeps loaded.
+   * @param maxWorkers the number of workers the pool that this step runs in may start.
+   */
+  JUnitWorkerStep(
+      ProjectFilesystem filesystem,
+      Optional<Long> testCaseTimeoutMs,
+      ImmutableList<String> javaRuntimeLauncher,
+      JUnitJvmArgs junitJvmArgs,
+      ImmutableList<Path> sharedClasspathEntries,
+      int maxWorkers) {
+    super(
+        filesystem,
+        ImmutableMap.of(),
+        Optional.empty(),
+        testCaseTimeoutMs,
+        ImmutableMap.of(),
+        javaRuntimeLauncher,
+        junitJvmArgs);
+    this.filesystem = filesystem;
+    this.javaRuntimeLauncher = javaRuntimeLauncher;
+    this.testCaseTimeoutMs = testCaseTimeoutMs;
+    this.junitJvmArgs = junitJvmArgs;
+    this.sharedClasspathEntries = sharedClasspathEntries;
+    this.maxWorkers = maxWorkers;
+    this.factory = new WorkerProcessPoolFactory(filesystem);
+  }
+
+  @Override
+  public StepExecutionResult execute(ExecutionContext context)
+      throws InterruptedException, IOException {
+    WorkerProcessPool pool = factory.getWorkerProcessPool(context, getWorkerProcessParams(context));
+
+    @Nullable WorkerJobResult result;
+    try (BorrowedWorkerProcess worker = pool.borrowWorkerProcess()) {
+      try {
+        result = worker.submitAndWaitForJob(getJobArgs(context));
+      } catch (IOException | HumanReadableException e) {
+        // Most likely the tests called System.exit(), and took the worker down with them. They are
+        // run again below, where the exit ends their own JVM and is reported as it would be
+        // without workers.
+        LOG.warn(e, "Test runner worker failed running %s.", junitJvmArgs.getTestClasses());
+        worker.closeWorkerProcess();
+        result = null;
+      }
+      if (result != null
+          && result.getExitCode() != 0
+          && result.getExitCode() != TestRunnerWorker.NEEDS_OWN_JVM_EXIT_CODE) {
+        worker.closeWorkerProcess();
+      }
+    }
+
+    if (result == null) {
+      LOG.info(
+          "Running %s in a JVM of their own after the worker failed.",
+          junitJvmArgs.getTestClasses());
+      return super.execute(context);
+    }
+    if (result.getExitCode() == TestRunnerWorker.NEEDS_OWN_JVM_EXIT_CODE) {
+      LOG.info(
+          "Running %s in a JVM of their own: %s",
+          junitJvmArgs.getTestClasses(), result.getStderr().orElse(""));
+      return super.execute(context);
+    }
+
+    if (result.getExitCode() == TestRunnerWorker.RECYCLE_EXIT_CODE) {
+      LOG.info(
+          "Stopped test runner worker after %s: %s",
+          junitJvmArgs.getTestClasses(), result.getStderr().orElse(""));
+      return StepExecutionResults.SUCCESS;
+    }
+    if (result.getExitCode() != 0 && result.getStderr().isPresent()) {
+      context.postEvent(ConsoleEvent.severe("%s", result.getStderr().get()));
+    }
+    return StepExecutionResult.of(result.getExitCode());
+  }
+
+  @VisibleForTesting
+  WorkerProcessParams getWorkerProcessParams(ExecutionContext context) {
+    ImmutableList.Builder<String> startupCommand = ImmutableList.builder();
+    startupCommand.addAll(javaRuntimeLauncher);
+    junitJvmArgs.formatWorkerStartupArgsToList(startupCommand, context.getVerbosity());
+
+    // Workers keep the shared entries loaded, so tests which share other entries get workers of
+    // their own instead of replacing the shared class loader of each other's workers.
+    String key =
+        Joiner.on(' ').join(Iterables.concat(startupCommand.build(), sharedClasspathEntries));
+    HashCode hash = Hashing.sha1().hashString(key, StandardCharsets.UTF_8);
+    Path tempDir =
+        filesystem
+            .getBuckPaths()
+            .getScratchDir()
+            .resolve("java_test_workers")
+            .resolve(hash.toString());
+    return WorkerProcessParams.of(
+        tempDir,
+        startupCommand.build(),
+        ImmutableMap.of(),
+        maxWorkers,
+        Optional.of(WorkerProcessIdentity.of(key, hash)));
+  }
+
+  @VisibleForTesting
+  String getJobArgs(ExecutionContext context) {
+    ImmutableList.Builder<String> args = ImmutableList.builder();
+    junitJvmArgs.formatWorkerJobArgsToList(
+        args,
+        filesystem,
+        sharedClasspathEntries,
+        testCaseTimeoutMs.orElse(context.getDefaultTestTimeoutMillis()));
+    return Joiner.on(TestRunnerWorker.ARG_SEPARATOR).join(args.build());
+  }
+}
@@ -20,10 +20,12 @@ import com.facebook.buck.core.build.execution.context.ExecutionContext;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.step.Step;
 import com.facebook.buck.step.StepExecutionResult;
+import com.facebook.buck.util.concurrent.ExecutorPool;
 import com.facebook.buck.util.zip.JarBuilder;
 import com.google.common.base.Joiner;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
 
 /** Creates a JAR file from a collection of directories/ZIP/JAR files. */
 public class JarDirectoryStep implements Step {
@@ -76,8 +78,13 @@ public class JarDirectoryStep implements Step {
         new JavacEventSinkToBuckEventBusBridge(context.getBuckEventBus());
     LoggingJarBuilderObserver loggingObserver =
         new LoggingJarBuilderObserver(eventSink, parameters.getDuplicatesLogLevel());
+    JarBuilder jarBuilder = new JarBuilder();
+    ExecutorService executor = context.getExecutors().get(ExecutorPool.CPU);
+    if (executor != null) {
+      jarBuilder.setParallelism(executor, context.getConcurrencyLimit().threadLimit);
+    }
     return StepExecutionResult.of(
-        new JarBuilder()
+        jarBuilder
             .setObserver(loggingObserver)
             .setEntriesToJar(parameters.getEntriesToJar().stream().map(filesystem::resolve))
             .setMainClass(parameters.getMainClass().orElse(null))
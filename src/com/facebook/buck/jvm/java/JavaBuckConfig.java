@@ -119,6 +119,9 @@ public class JavaBuckConfig implements ConfigView<BuckConfig> {
       builder.setSpoolMode(spoolMode.get());
     }
 
+    builder.setIncrementalCompilation(
+        delegate.getBooleanValue(SECTION, "incremental_compilation", false));
+
     ImmutableMap<String, String> allEntries = delegate.getEntriesForSection(SECTION);
     ImmutableMap.Builder<String, ImmutableList<PathSourcePath>> bootclasspaths =
         ImmutableMap.builder();
@@ -269,6 +272,16 @@ public class JavaBuckConfig implements ConfigView<BuckConfig> {
     return delegate.getValue("java", "test_temp_dir");
   }
 
+  /** @return the number of JVMs the test classes of a sharded java_test are split across. */
+  public OptionalInt getTestShards() {
+    return delegate.getInteger(SECTION, "test_shards");
+  }
+
+  /** @return how many warm JVMs java tests may run in, instead of starting a JVM of their own. */
+  public OptionalInt getTestWorkers() {
+    return delegate.getInteger(SECTION, "test_workers");
+  }
+
   public Level getDuplicatesLogLevel() {
     return delegate
         .getEnum(SECTION, "duplicates_log_level", DuplicatesLogLevel.class)
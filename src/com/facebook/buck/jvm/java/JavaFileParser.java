@@ -69,6 +69,10 @@ import org.eclipse.jdt.core.dom.TypeDeclarationStatement;
 /**
  * Extracts the set of exported symbols (class and enum names) from a Java code file, using the
  * ASTParser from Eclipse.
+ *
+ * <p>Queries which only need the package or the declared types are answered by {@link
+ * JavaSourceScanner} without building an AST, falling back to the ASTParser for sources the scanner
+ * does not understand.
  */
 public class JavaFileParser {
 
@@ -464,10 +468,21 @@ public class JavaFileParser {
   }
 
   public ImmutableSortedSet<String> getExportedSymbolsFromString(String code) {
+    try {
+      return JavaSourceScanner.scanTypeNames(code);
+    } catch (JavaSourceScanner.UnsupportedSourceException e) {
+      LOG.verbose(e, "Falling back to the ASTParser to find the types declared in a source file.");
+    }
     return extractFeaturesFromJavaCode(code).providedSymbols;
   }
 
   public Optional<String> getPackageNameFromSource(String code) {
+    try {
+      return JavaSourceScanner.scanPackageName(code);
+    } catch (JavaSourceScanner.UnsupportedSourceException e) {
+      LOG.verbose(e, "Falling back to the ASTParser to find the package of a source file.");
+    }
+
     CompilationUnit compilationUnit = makeCompilationUnitFromSource(code);
 
     // A Java file might not have a package. Hopefully all of ours do though...
@@ -38,7 +38,6 @@ import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.collect.Iterables;
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.List;
 import java.util.Optional;
 
 /** Common utilities for working with {@link JavaLibrary} objects. */
@@ -54,19 +53,30 @@ public class JavaLibraryRules {
       Optional<Path> pathToClasses,
       Path pathToClassHashes) {
     steps.add(MkdirStep.of(cellRelativePathFactory.from(pathToClassHashes.getParent())));
-    steps.add(new AccumulateClassNamesStep(filesystem, pathToClasses, pathToClassHashes));
+    steps.add(
+        new AccumulateClassNamesStep(
+            filesystem,
+            pathToClasses,
+            pathToClassHashes,
+            Optional.of(ClassHashesIndex.getIndexPath(pathToClassHashes))));
   }
 
   static JavaLibrary.Data initializeFromDisk(BuildTarget buildTarget, ProjectFilesystem filesystem)
       throws IOException {
-    List<String> lines = filesystem.readLines(getPathToClassHashes(buildTarget, filesystem));
-    return new JavaLibrary.Data(AccumulateClassNamesStep.parseClassHashes(lines));
+    Path pathToClassHashesIndex =
+        filesystem.resolve(getPathToClassHashesIndex(buildTarget, filesystem));
+    return new JavaLibrary.Data(
+        ClassHashesIndex.open(pathToClassHashesIndex).getClassNamesToHashes());
   }
 
   static Path getPathToClassHashes(BuildTarget buildTarget, ProjectFilesystem filesystem) {
     return BuildTargetPaths.getGenPath(filesystem, buildTarget, "%s.classes.txt");
   }
 
+  static Path getPathToClassHashesIndex(BuildTarget buildTarget, ProjectFilesystem filesystem) {
+    return ClassHashesIndex.getIndexPath(getPathToClassHashes(buildTarget, filesystem));
+  }
+
   /**
    * @return all the transitive native libraries a rule depends on, represented as a map from their
    *     system-specific library names to their {@link SourcePath} objects.
@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.jvm.java;
+
+import com.google.common.collect.ImmutableSortedSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import javax.annotation.Nullable;
+
+/**
+ * Finds the package and the named types declared by a Java source file with a hand-written token
+ * scanner. This is much faster than building an AST the way {@link JavaFileParser} does, and it
+ * does not allocate anything proportional to the size of the file.
+ *
+ * <p>The scanner only understands as much of the language as it needs to: comments, literals,
+ * annotations and the nesting of parentheses and braces. Whenever it sees something it cannot
+ * account for, such as unbalanced braces or a unicode escape outside of a literal, it throws {@link
+ * UnsupportedSourceException} so that callers can fall back to a real parser.
+ */
+final class JavaSourceScanner {
+
+  private static final int EOF = -1;
+  private static final int IDENTIFIER = -2;
+  private static final int LITERAL = -3;
+
+  private final String code;
+  private int pos;
+  private int tokenStart;
+  private int tokenEnd;
+
+  private JavaSourceScanner(String code) {
+    this.code = code;
+  }
+
+  /** @return the package declared by {@code code}, or empty if it is in the default package. */
+  static Optional<String> scanPackageName(String code) throws UnsupportedSourceException {
+    return new JavaSourceScanner(code).readPackageDeclaration();
+  }
+
+  /**
+   * @return the fully qualified names of the top-level types declared by {@code code} and of the
+   *     types nested in them. Local and anonymous classes, and anything declared inside them, have
+   *     no meaningful fully qualified name and are left out.
+   */
+  static ImmutableSortedSet<String> scanTypeNames(String code) throws UnsupportedSourceException {
+    JavaSourceScanner scanner = new JavaSourceScanner(code);
+    return scanner.readTypeNames(scanner.readPackageDeclaration());
+  }
+
+  private Optional<String> readPackageDeclaration() throws UnsupportedSourceException {
+    int start = pos;
+    int kind = next();
+    // Package annotations are only allowed in package-info.java, but an annotated type can start
+    // the same way.
+    while (kind == '@') {
+      expect(IDENTIFIER, "an annotation name");
+      if (isToken("interface")) {
+        pos = start;
+        return Optional.empty();
+      }
+      kind = skipRestOfAnnotation();
+    }
+
+    if (kind == IDENTIFIER && isToken("package")) {
+      return Optional.of(readQualifiedName());
+    } else if (kind == IDENTIFIER || kind == EOF) {
+      pos = start;
+      return Optional.empty();
+    }
+    throw unsupported("Unexpected token before the first declaration");
+  }
+
+  private ImmutableSortedSet<String> readTypeNames(Optional<String> packageName)
+      throws UnsupportedSourceException {
+    ImmutableSortedSet.Builder<String> typeNames = ImmutableSortedSet.naturalOrder();
+
+    // One entry per open brace: the name of the type whose body it opens, or null for any other
+    // block, such as a method body or an array initializer.
+    List<String> blocks = new ArrayList<>();
+    // The number of open parentheses outside each open brace.
+    int[] outerParenDepths = new int[16];
+    int parenDepth = 0;
+    @Nullable String declaredType = null;
+
+    int previous = EOF;
+    for (int kind = next(); kind != EOF; previous = kind, kind = next()) {
+      switch (kind) {
+        case IDENTIFIER:
+          if (declaredType == null
+              && parenDepth == 0
+              && previous != '.'
+              && isTypeKeyword()
+              && (blocks.isEmpty() || blocks.get(blocks.size() - 1) != null)) {
+            expect(IDENTIFIER, "a type name");
+            String name = code.substring(tokenStart, tokenEnd);
+            String outer =
+                blocks.isEmpty() ? packageName.orElse(null) : blocks.get(blocks.size() - 1);
+            declaredType = outer == null ? name : outer + "." + name;
+            typeNames.add(declaredType);
+          }
+          break;
+        case '(':
+          parenDepth++;
+          break;
+        case ')':
+          if (--parenDepth < 0) {
+            throw unsupported("Unbalanced parentheses");
+          }
+          break;
+        case '{':
+          if (blocks.size() == outerParenDepths.length) {
+            outerParenDepths = Arrays.copyOf(outerParenDepths, blocks.size() * 2);
+          }
+          outerParenDepths[blocks.size()] = parenDepth;
+          if (declaredType != null && parenDepth == 0) {
+            blocks.add(declaredType);
+            declaredType = null;
+          } else {
+            blocks.add(null);
+          }
+          parenDepth = 0;
+          break;
+        case '}':
+          if (blocks.isEmpty() || parenDepth != 0) {
+            throw unsupported("Unbalanced braces");
+          }
+          blocks.remove(blocks.size() - 1);
+          parenDepth = outerParenDepths[blocks.size()];
+          break;
+        default:
+          break;
+      }
+    }
+
+    if (!blocks.isEmpty() || parenDepth != 0 || declaredType != null) {
+      throw unsupported("Unexpected end of source");
+    }
+    return typeNames.build();
+  }
+
+  private boolean isTypeKeyword() {
+    return isToken("class") || isToken("interface") || isToken("enum");
+  }
+
+  /** Reads the rest of an annotation whose name starts at the current token. */
+  private int skipRestOfAnnotation() throws UnsupportedSourceException {
+    int kind = next();
+    while (kind == '.') {
+      expect(IDENTIFIER, "an annotation name");
+      kind = next();
+    }
+    if (kind == '(') {
+      for (int depth = 1; depth > 0; ) {
+        kind = next();
+        if (kind == '(') {
+          depth++;
+        } else if (kind == ')') {
+          depth--;
+        } else if (kind == EOF) {
+          throw unsupported("Unexpected end of source");
+        }
+      }
+      kind = next();
+    }
+    return kind;
+  }
+
+  /** Reads a dot-separated name up to and including the semicolon that ends it. */
+  private String readQualifiedName() throws UnsupportedSourceException {
+    StringBuilder name = new StringBuilder();
+    expect(IDENTIFIER, "a name");
+    name.append(code, tokenStart, tokenEnd);
+    for (int kind = next(); kind != ';'; kind = next()) {
+      if (kind != '.') {
+        throw unsupported("Expected '.' or ';'");
+      }
+      expect(IDENTIFIER, "a name");
+      name.append('.').append(code, tokenStart, tokenEnd);
+    }
+    return name.toString();
+  }
+
+  private void expect(int expectedKind, String description) throws UnsupportedSourceException {
+    if (next() != expectedKind) {
+      throw unsupported("Expected " + description);
+    }
+  }
+
+  private boolean isToken(String identifier) {
+    return tokenEnd - tokenStart == identifier.length()
+        && code.startsWith(identifier, tokenStart);
+  }
+
+  /**
+   * Moves past the next token, skipping any whitespace and comments before it.
+   *
+   * @return {@link #IDENTIFIER} for identifiers and keywords, {@link #LITERAL} for string,
+   *     character and number literals, {@link #EOF} at the end of the source, and the character
+   *     itself for anything else.
+   */
+  private int next() throws UnsupportedSourceException {
+    int length = code.length();
+    while (pos < length) {
+      int c = code.codePointAt(pos);
+      tokenStart = pos;
+      if (Character.isWhitespace(c)) {
+        pos++;
+      } else if (c == '/' && code.startsWith("//", pos)) {
+        int end = code.indexOf('\n', pos);
+        pos = end < 0 ? length : end + 1;
+      } else if (c == '/' && code.startsWith("/*", pos)) {
+        int end = code.indexOf("*/", pos + 2);
+        if (end < 0) {
+          throw unsupported("Unterminated comment");
+        }
+        pos = end + 2;
+      } else if (Character.isJavaIdentifierStart(c)) {
+        do {
+          pos += Character.charCount(c);
+        } while (pos < length && Character.isJavaIdentifierPart(c = code.codePointAt(pos)));
+        tokenEnd = pos;
+        return IDENTIFIER;
+      } else if (isDigit(c) || (c == '.' && pos + 1 < length && isDigit(code.charAt(pos + 1)))) {
+        skipNumber();
+        return LITERAL;
+      } else if (c == '"' && code.startsWith("\"\"\"", pos)) {
+        skipTextBlock();
+        return LITERAL;
+      } else if (c == '"' || c == '\'') {
+        skipQuoted((char) c);
+        return LITERAL;
+      } else if (c == '\\') {
+        throw unsupported("Unicode escapes are only supported in literals");
+      } else {
+        pos += Character.charCount(c);
+        tokenEnd = pos;
+        return c;
+      }
+    }
+    tokenStart = tokenEnd = pos;
+    return EOF;
+  }
+
+  private static boolean isDigit(int c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private void skipNumber() {
+    pos++;
+    while (pos < code.length()) {
+      char c = code.charAt(pos);
+      if (Character.isLetterOrDigit(c) || c == '_' || c == '.') {
+        pos++;
+      } else if ((c == '+' || c == '-') && "eEpP".indexOf(code.charAt(pos - 1)) >= 0) {
+        pos++;
+      } else {
+        break;
+      }
+    }
+    tokenEnd = pos;
+  }
+
+  private void skipQuoted(char quote) throws UnsupportedSourceException {
+    for (int i = pos + 1; i < code.length(); i++) {
+      char c = code.charAt(i);
+      if (c == '\\') {
+        i++;
+      } else if (c == quote) {
+        pos = tokenEnd = i + 1;
+        return;
+      } else if (c == '\n') {
+        break;
+      }
+    }
+    throw unsupported("Unterminated literal");
+  }
+
+  private void skipTextBlock() throws UnsupportedSourceException {
+    for (int i = pos + 3; i < code.length(); i++) {
+      char c = code.charAt(i);
+      if (c == '\\') {
+        i++;
+      } else if (code.startsWith("\"\"\"", i)) {
+        pos = tokenEnd = i + 3;
+        return;
+      }
+    }
+    throw unsupported("Unterminated text block");
+  }
+
+  private UnsupportedSourceException unsupported(String message) {
+    return new UnsupportedSourceException(message + " at offset " + tokenStart);
+  }
+
+  /** Thrown when the scanner cannot make sense of a source file, which might still be valid. */
+  static class UnsupportedSourceException extends Exception {
+    UnsupportedSourceException(String message) {
+      super(message);
+    }
+  }
+}
@@ -78,6 +78,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.Random;
 import java.util.Set;
 import java.util.SortedSet;
@@ -139,7 +140,10 @@ public class JavaTest extends AbstractBuildRuleWithDeclaredAndExtraDeps
 
   private static final Logger LOG = Logger.get(JavaTest.class);
 
-  @Nullable private ImmutableList<JUnitStep> junits;
+  /** The JVM each test class was run in by {@link #runTests}. */
+  @Nullable private ImmutableMap<String, JUnitStep> junitsByTestClass;
+
+  private ImmutableList<Path> testLogPaths;
 
   @Nullable private JUnitStep externalJunitStep;
 
@@ -189,6 +193,7 @@ public class JavaTest extends AbstractBuildRuleWithDeclaredAndExtraDeps
     this.stdErrLogLevel = stdErrLogLevel;
     this.unbundledResourcesRoot = unbundledResourcesRoot;
     this.pathToTestLogs = getPathToTestOutputDirectory().resolve("logs.txt");
+    this.testLogPaths = ImmutableList.of(pathToTestLogs);
   }
 
   @Override
@@ -211,13 +216,19 @@ public class JavaTest extends AbstractBuildRuleWithDeclaredAndExtraDeps
         getProjectFilesystem(), getBuildTarget(), "%s/classpath-file");
   }
 
+  private Path getTestClassDurationsFile() {
+    return BuildTargetPaths.getGenPath(
+        getProjectFilesystem(), getBuildTarget(), "%s/test-class-durations.json");
+  }
+
   private JUnitStep getJUnitStep(
       ExecutionContext executionContext,
       SourcePathResolverAdapter pathResolver,
       TestRunningOptions options,
       Optional<Path> outDir,
       Optional<Path> robolectricLogPath,
-      Set<String> testClassNames) {
+      Set<String> testClassNames,
+      boolean mayUseWorker) {
 
     Iterable<String> reorderedTestClasses =
         reorderClasses(testClassNames, options.isShufflingTests());
@@ -258,6 +269,17 @@ public class JavaTest extends AbstractBuildRuleWithDeclaredAndExtraDeps
             .setTestSelectorList(testSelectorList)
             .build();
 
+    OptionalInt testWorkers = getTestWorkers(executionContext, options);
+    if (mayUseWorker && testWorkers.isPresent()) {
+      return new JUnitWorkerStep(
+          getProjectFilesystem(),
+          testCaseTimeoutMs,
+          javaRuntimeLauncher.getCommandPrefix(pathResolver),
+          args,
+          getSharedClasspathEntries(pathResolver),
+          testWorkers.getAsInt());
+    }
+
     return new JUnitStep(
         getProjectFilesystem(),
         nativeLibsEnvironment,
@@ -268,6 +290,44 @@ public class JavaTest extends AbstractBuildRuleWithDeclaredAndExtraDeps
         args);
   }
 
+  /**
+   * Returns how many warm test runner JVMs the tests may share, if they can run in one at all.
+   * Tests which need a JVM of their own, because it is started with environment variables, killed
+   * when the rule times out, collects coverage or waits for a debugger, are run as usual.
+   */
+  private OptionalInt getTestWorkers(
+      ExecutionContext executionContext, TestRunningOptions options) {
+    OptionalInt testWorkers = options.getJavaTestWorkers();
+    if (!testWorkers.isPresent()
+        || testWorkers.getAsInt() <= 0
+        || !env.isEmpty()
+        || !nativeLibsEnvironment.isEmpty()
+        || testRuleTimeoutMs.isPresent()
+        || executionContext.isCodeCoverageEnabled()
+        || executionContext.isDebugEnabled()) {
+      return OptionalInt.empty();
+    }
+    return testWorkers;
+  }
+
+  /**
+   * Returns the classpath entries of the prebuilt jars the tests depend on, which a test runner
+   * worker keeps loaded for as long as they don't change. Their class loader can't see the rest of
+   * the classpath, so only jars which depend on nothing but other prebuilt jars are shared.
+   */
+  private ImmutableList<Path> getSharedClasspathEntries(SourcePathResolverAdapter pathResolver) {
+    return compiledTestsLibrary.getTransitiveClasspathDeps().stream()
+        .filter(PrebuiltJar.class::isInstance)
+        .filter(
+            jar ->
+                ((PrebuiltJar) jar)
+                    .getTransitiveClasspathDeps().stream().allMatch(PrebuiltJar.class::isInstance))
+        .map(JavaLibrary::getSourcePathToOutput)
+        .filter(Objects::nonNull)
+        .map(pathResolver::getAbsolutePath)
+        .collect(ImmutableList.toImmutableList());
+  }
+
   /** Returns the underlying java library containing the compiled tests. */
   public JavaLibrary getCompiledTestsLibrary() {
     return compiledTestsLibrary;
@@ -305,31 +365,69 @@ public class JavaTest extends AbstractBuildRuleWithDeclaredAndExtraDeps
             BuildCellRelativePath.fromCellRelativePath(
                 buildContext.getBuildCellRootPath(), getProjectFilesystem(), pathToTestOutput)));
     addPreTestSteps(buildContext, steps);
+    ImmutableMap.Builder<String, JUnitStep> junitsByTestClassBuilder = ImmutableMap.builder();
+    testLogPaths = ImmutableList.of(pathToTestLogs);
     if (forkMode() == ForkMode.PER_TEST) {
-      ImmutableList.Builder<JUnitStep> junitsBuilder = ImmutableList.builder();
       for (String testClass : testClassNames) {
-        junitsBuilder.add(
+        JUnitStep junit =
             getJUnitStep(
                 executionContext,
                 buildContext.getSourcePathResolver(),
                 options,
                 Optional.of(pathToTestOutput),
                 Optional.of(pathToTestLogs),
-                Collections.singleton(testClass)));
+                Collections.singleton(testClass),
+                /* mayUseWorker */ true);
+        junitsByTestClassBuilder.put(testClass, junit);
+        steps.add(junit);
       }
-      junits = junitsBuilder.build();
+    } else if (forkMode() == ForkMode.SHARDED) {
+      int shardCount =
+          options.getJavaTestShards().orElse(executionContext.getConcurrencyLimit().threadLimit);
+      ImmutableList<ImmutableSortedSet<String>> shards =
+          TestClassDurations.assignShards(
+              testClassNames,
+              TestClassDurations.read(getProjectFilesystem(), getTestClassDurationsFile()),
+              Math.max(shardCount, 1));
+      ImmutableList.Builder<JUnitStep> shardSteps = ImmutableList.builder();
+      ImmutableList.Builder<Path> shardLogPaths = ImmutableList.builder();
+      for (int i = 0; i < shards.size(); i++) {
+        // Every JVM needs a log of its own, as they all run at once.
+        Path shardLogPath =
+            i == 0 ? pathToTestLogs : pathToTestOutput.resolve(String.format("logs-%d.txt", i));
+        JUnitStep junit =
+            getJUnitStep(
+                executionContext,
+                buildContext.getSourcePathResolver(),
+                options,
+                Optional.of(pathToTestOutput),
+                Optional.of(shardLogPath),
+                shards.get(i),
+                /* mayUseWorker */ true);
+        for (String testClass : shards.get(i)) {
+          junitsByTestClassBuilder.put(testClass, junit);
+        }
+        shardSteps.add(junit);
+        shardLogPaths.add(shardLogPath);
+      }
+      testLogPaths = shardLogPaths.build();
+      steps.add(new ShardedJUnitStep(shardSteps.build()));
     } else {
-      junits =
-          ImmutableList.of(
-              getJUnitStep(
-                  executionContext,
-                  buildContext.getSourcePathResolver(),
-                  options,
-                  Optional.of(pathToTestOutput),
-                  Optional.of(pathToTestLogs),
-                  testClassNames));
+      JUnitStep junit =
+          getJUnitStep(
+              executionContext,
+              buildContext.getSourcePathResolver(),
+              options,
+              Optional.of(pathToTestOutput),
+              Optional.of(pathToTestLogs),
+              testClassNames,
+              /* mayUseWorker */ true);
+      for (String testClass : testClassNames) {
+        junitsByTestClassBuilder.put(testClass, junit);
+      }
+      steps.add(junit);
     }
-    steps.addAll(junits);
+    junitsByTestClass = junitsByTestClassBuilder.build();
     return steps.build();
   }
 
@@ -428,16 +526,15 @@ public class JavaTest extends AbstractBuildRuleWithDeclaredAndExtraDeps
             getProjectFilesystem()
                 .getPathForRelativePath(getPathToTestOutputDirectory().resolve(path));
         if (!isUsingTestSelectors && !Files.isRegularFile(testResultFile)) {
+          JUnitStep junit = Objects.requireNonNull(junitsByTestClass).get(testClass);
           String message;
-          for (JUnitStep junit : Objects.requireNonNull(junits)) {
-            if (junit.hasTimedOut()) {
-              message = "test timed out before generating results file";
-            } else {
-              message = "test exited before generating results file";
-            }
-            summaries.add(
-                getTestClassFailedSummary(testClass, message, testRuleTimeoutMs.orElse(0L)));
+          if (junit != null && junit.hasTimedOut()) {
+            message = "test timed out before generating results file";
+          } else {
+            message = "test exited before generating results file";
           }
+          summaries.add(
+              getTestClassFailedSummary(testClass, message, testRuleTimeoutMs.orElse(0L)));
           // Not having a test result file at all (which only happens when we are using test
           // selectors) is interpreted as meaning a test didn't run at all, so we'll completely
           // ignore it.  This is another result of the fact that JUnit is the only thing that can
@@ -448,12 +545,20 @@ public class JavaTest extends AbstractBuildRuleWithDeclaredAndExtraDeps
         }
       }
 
+      // Durations are only worth keeping when every class ran in full.
+      if (forkMode() == ForkMode.SHARDED && !isUsingTestSelectors) {
+        TestClassDurations.update(getProjectFilesystem(), getTestClassDurationsFile(), summaries);
+      }
+
       return TestResults.builder()
           .setBuildTarget(getBuildTarget())
           .setTestCases(summaries)
           .setContacts(contacts)
           .setLabels(labels.stream().map(Object::toString).collect(ImmutableSet.toImmutableSet()))
-          .addTestLogPaths(getProjectFilesystem().resolve(pathToTestLogs))
+          .addAllTestLogPaths(
+              testLogPaths.stream()
+                  .map(getProjectFilesystem()::resolve)
+                  .collect(ImmutableList.toImmutableList()))
           .build();
     };
   }
@@ -550,7 +655,8 @@ public class JavaTest extends AbstractBuildRuleWithDeclaredAndExtraDeps
             options,
             Optional.empty(),
             Optional.empty(),
-            getClassNamesForSources(buildContext.getSourcePathResolver()));
+            getClassNamesForSources(buildContext.getSourcePathResolver()),
+            /* mayUseWorker */ false);
     return ExternalTestRunnerTestSpec.builder()
         .setCwd(getProjectFilesystem().getRootPath().getPath())
         .setTarget(getBuildTarget())
@@ -131,6 +131,16 @@ public abstract class JavacOptions implements AddsToRuleKey {
     return false;
   }
 
+  /**
+   * Whether to recompile only the sources affected by changes since the previous build of a
+   * library, see {@link IncrementalJavacStep}.
+   */
+  @Value.Default
+  @AddToRuleKey
+  public boolean isIncrementalCompilation() {
+    return false;
+  }
+
   public void validateOptions(Function<String, Boolean> classpathChecker) throws IOException {
     if (getBootclasspath().isPresent()) {
       String bootclasspath = getBootclasspath().get();
@@ -99,6 +99,24 @@ public class JavacToJarStepFactory extends CompileToJarStepFactory implements Ad
 
     addAnnotationGenFolderStep(invokingRule, projectFilesystem, steps, buildableContext, context);
 
+    // Annotation processors and plugins can generate or change classes in ways that class files
+    // don't record, so only plain compilations can be incremental.
+    if (buildTimeOptions.isIncrementalCompilation()
+        && JavaAbis.isLibraryTarget(invokingRule)
+        && buildTimeOptions.getJavaAnnotationProcessorParams().isEmpty()
+        && buildTimeOptions.getStandardJavacPluginParams().isEmpty()) {
+      steps.add(
+          new IncrementalJavacStep(
+              javac,
+              buildTimeOptions,
+              invokingRule,
+              context.getSourcePathResolver(),
+              projectFilesystem,
+              new ClasspathChecker(),
+              parameters));
+      return;
+    }
+
     steps.add(
         new JavacStep(
             javac,
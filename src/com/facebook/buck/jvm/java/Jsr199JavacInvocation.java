@@ -38,6 +38,7 @@ import com.facebook.buck.jvm.java.tracing.JavacPhaseEventLogger;
 import com.facebook.buck.jvm.java.tracing.TracingTaskListener;
 import com.facebook.buck.jvm.java.tracing.TranslatingJavacPhaseTracer;
 import com.facebook.buck.util.concurrent.MostExecutors.NamedThreadFactory;
+import com.facebook.buck.util.environment.Platform;
 import com.facebook.buck.util.zip.JarBuilder;
 import com.google.common.base.Throwables;
 import com.google.common.collect.FluentIterable;
@@ -505,6 +506,11 @@ class Jsr199JavacInvocation implements Javac.Invocation {
 
           StandardJavaFileManager standardFileManager =
               compiler.getStandardFileManager(null, null, null);
+          // Windows doesn't allow mapped files to be replaced, and class path indexes keep jars
+          // mapped for as long as they are cached.
+          if (Platform.detect() != Platform.WINDOWS) {
+            standardFileManager = new ClasspathJarIndexFileManager(standardFileManager);
+          }
           addCloseable(standardFileManager);
 
           // Ensure plugins are loaded from their own classloader.
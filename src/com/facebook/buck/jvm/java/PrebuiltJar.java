@@ -149,7 +149,9 @@ public class PrebuiltJar extends AbstractBuildRuleWithDeclaredAndExtraDeps
 
     this.javaClassHashesProvider =
         new DefaultJavaClassHashesProvider(
-            ExplicitBuildTargetSourcePath.of(buildTarget, getPathToClassHashes()));
+            ExplicitBuildTargetSourcePath.of(
+                buildTarget,
+                JavaLibraryRules.getPathToClassHashesIndex(buildTarget, getProjectFilesystem())));
   }
 
   @Override
@@ -332,6 +334,7 @@ public class PrebuiltJar extends AbstractBuildRuleWithDeclaredAndExtraDeps
 
     Path pathToClassHashes = getPathToClassHashes();
     buildableContext.recordArtifact(pathToClassHashes);
+    buildableContext.recordArtifact(ClassHashesIndex.getIndexPath(pathToClassHashes));
 
     JavaLibraryRules.addAccumulateClassNamesStep(
         ModernBuildableSupport.newCellRelativePathFactory(
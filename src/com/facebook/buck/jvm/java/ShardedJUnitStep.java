@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.core.build.execution.context.ExecutionContext;
+import com.facebook.buck.step.Step;
+import com.facebook.buck.step.StepExecutionResult;
+import com.facebook.buck.step.StepExecutionResults;
+import com.facebook.buck.util.concurrent.ExecutorPool;
+import com.facebook.buck.util.concurrent.IndexedTasks;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.util.stream.Collectors;
+
+/** Runs the JVMs of a sharded java test at the same time, each with its share of the classes. */
+class ShardedJUnitStep implements Step {
+
+  private final ImmutableList<JUnitStep> shards;
+
+  ShardedJUnitStep(ImmutableList<JUnitStep> shards) {
+    Preconditions.checkArgument(!shards.isEmpty());
+    this.shards = shards;
+  }
+
+  @Override
+  public StepExecutionResult execute(ExecutionContext context)
+      throws IOException, InterruptedException {
+    StepExecutionResult[] results = new StepExecutionResult[shards.size()];
+    // Interrupting a helper which is still running a shard kills its JVM.
+    IndexedTasks.run(
+        context.getExecutors().get(ExecutorPool.CPU),
+        shards.size(),
+        results.length,
+        i -> results[i] = shards.get(i).execute(context),
+        true);
+    for (StepExecutionResult result : results) {
+      if (!result.isSuccess()) {
+        return result;
+      }
+    }
+    return StepExecutionResults.SUCCESS;
+  }
+
+  @Override
+  public String getShortName() {
+    return "junit";
+  }
+
+  @Override
+  public String getDescription(ExecutionContext context) {
+    return shards.stream()
+        .map(shard -> shard.getDescription(context))
+        .collect(Collectors.joining("\n"));
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.test.TestCaseSummary;
+import com.facebook.buck.util.json.ObjectMappers;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedSet;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * How long each class of a java test took the last time it ran, kept in a file in the test's gen
+ * directory so that sharded runs can spread the classes evenly over their JVMs.
+ */
+final class TestClassDurations {
+
+  private static final Logger LOG = Logger.get(TestClassDurations.class);
+
+  private TestClassDurations() {}
+
+  /** @return the recorded durations in milliseconds, or none if they cannot be read. */
+  static ImmutableMap<String, Long> read(ProjectFilesystem filesystem, Path path) {
+    if (!filesystem.isFile(path)) {
+      return ImmutableMap.of();
+    }
+    try (InputStream input = filesystem.newFileInputStream(path)) {
+      Map<String, Long> durations =
+          ObjectMappers.READER
+              .forType(new TypeReference<Map<String, Long>>() {})
+              .readValue(input);
+      return ImmutableMap.copyOf(durations);
+    } catch (IOException e) {
+      LOG.warn(e, "Ignoring unreadable test durations in %s", path);
+      return ImmutableMap.of();
+    }
+  }
+
+  /**
+   * Records how long the classes in {@code summaries} took, keeping the durations of classes which
+   * didn't run.
+   */
+  static void update(ProjectFilesystem filesystem, Path path, List<TestCaseSummary> summaries)
+      throws IOException {
+    SortedMap<String, Long> durations = new TreeMap<>(read(filesystem, path));
+    for (TestCaseSummary summary : summaries) {
+      durations.put(summary.getTestCaseName(), summary.getTotalTime());
+    }
+    filesystem.mkdirs(path.getParent());
+    try (OutputStream output = filesystem.newFileOutputStream(path)) {
+      ObjectMappers.WRITER.writeValue(output, durations);
+    }
+  }
+
+  /**
+   * Splits {@code testClasses} into at most {@code shardCount} shards which should take about as
+   * long as each other to run. The longest classes are placed first, each in the shard with the
+   * least work so far. Classes which never ran are assumed to take the average of those which did.
+   */
+  static ImmutableList<ImmutableSortedSet<String>> assignShards(
+      Set<String> testClasses, Map<String, Long> durations, int shardCount) {
+    Preconditions.checkArgument(shardCount > 0, "There must be at least one shard.");
+
+    long knownTotal = 0;
+    int knownCount = 0;
+    for (String testClass : testClasses) {
+      Long duration = durations.get(testClass);
+      if (duration != null) {
+        knownTotal += duration;
+        knownCount++;
+      }
+    }
+    long defaultDuration = knownCount == 0 ? 1 : Math.max(knownTotal / knownCount, 1);
+
+    List<String> longestFirst = new ArrayList<>(testClasses);
+    longestFirst.sort(
+        Comparator.<String>comparingLong(
+                testClass -> -durations.getOrDefault(testClass, defaultDuration))
+            .thenComparing(Comparator.naturalOrder()));
+
+    int usedShards = Math.min(shardCount, longestFirst.size());
+    long[] loads = new long[usedShards];
+    List<ImmutableSortedSet.Builder<String>> shards = new ArrayList<>(usedShards);
+    for (int i = 0; i < usedShards; i++) {
+      shards.add(ImmutableSortedSet.naturalOrder());
+    }
+    for (String testClass : longestFirst) {
+      int lightest = 0;
+      for (int i = 1; i < usedShards; i++) {
+        if (loads[i] < loads[lightest]) {
+          lightest = i;
+        }
+      }
+      loads[lightest] += durations.getOrDefault(testClass, defaultDuration);
+      shards.get(lightest).add(testClass);
+    }
+
+    ImmutableList.Builder<ImmutableSortedSet<String>> result = ImmutableList.builder();
+    for (ImmutableSortedSet.Builder<String> shard : shards) {
+      result.add(shard.build());
+    }
+    return result.build();
+  }
+}
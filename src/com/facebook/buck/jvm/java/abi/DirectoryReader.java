@@ -67,6 +67,11 @@ class DirectoryReader implements LibraryReader {
     }
   }
 
+  @Override
+  public boolean canVisitConcurrently() {
+    return true;
+  }
+
   @Override
   public void close() {
     // Nothing in particular needed
@@ -53,6 +53,11 @@ class JarReader implements LibraryReader {
     getInner().visitClass(relativePath, cv, skipCode);
   }
 
+  @Override
+  public boolean canVisitConcurrently() {
+    return true;
+  }
+
   @Override
   public void close() throws IOException {
     if (fileSystem != null) {
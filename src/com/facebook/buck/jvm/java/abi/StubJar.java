@@ -18,13 +18,23 @@ package com.facebook.buck.jvm.java.abi;
 
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.jvm.java.lang.model.ElementsExtended;
+import com.facebook.buck.util.concurrent.IndexedTasks;
+import com.facebook.buck.util.function.ThrowingSupplier;
 import com.facebook.buck.util.zip.JarBuilder;
+import com.google.common.base.Preconditions;
+import com.google.common.io.ByteStreams;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
@@ -36,6 +46,8 @@ import javax.lang.model.util.Types;
 public class StubJar {
   private final Supplier<LibraryReader> libraryReaderSupplier;
   @Nullable private AbiGenerationMode compatibilityMode = null;
+  @Nullable private ExecutorService executor = null;
+  private int parallelism = 1;
 
   public StubJar(Path toMirror) {
     libraryReaderSupplier = () -> LibraryReader.of(toMirror);
@@ -76,6 +88,23 @@ public class StubJar {
     return this;
   }
 
+  /**
+   * Stubs classes on up to {@code parallelism} threads: the calling thread, and helpers submitted
+   * to {@code executor}. The calling thread never waits for a helper to be scheduled, so this is
+   * safe to use from a thread of {@code executor} itself. The stub jar is identical to the one
+   * generated on a single thread.
+   *
+   * <p>Only stubs of jars and directories of classes are generated in parallel. Stubs generated
+   * from {@link Element}s must be generated on the compiler's thread, and those of Kotlin modules
+   * depend on the stubs of the classes visited before them.
+   */
+  public StubJar setParallelism(ExecutorService executor, int parallelism) {
+    Preconditions.checkArgument(parallelism > 0);
+    this.executor = executor;
+    this.parallelism = parallelism;
+    return this;
+  }
+
   public void writeTo(ProjectFilesystem filesystem, Path path) throws IOException {
     // The order of these declarations is important -- FilesystemStubJarWriter actually uses
     // the LibraryReader in its close method, and try-with-resources closes the items in the
@@ -99,9 +128,13 @@ public class StubJar {
     List<Path> paths =
         relativePaths.stream().sorted(visitOuterClassesFirst).collect(Collectors.toList());
 
-    Map<String, List<String>> inlineFunctions = new HashMap<>();
-
     boolean isKotlinModule = isKotlinModule(relativePaths);
+    if (executor != null && parallelism > 1 && input.canVisitConcurrently() && !isKotlinModule) {
+      writeInParallel(input, writer, paths, executor);
+      return;
+    }
+
+    Map<String, List<String>> inlineFunctions = new HashMap<>();
     for (Path path : paths) {
       StubJarEntry entry =
           StubJarEntry.of(input, path, compatibilityMode, isKotlinModule, inlineFunctions);
@@ -113,6 +146,39 @@ public class StubJar {
     }
   }
 
+  private void writeInParallel(
+      LibraryReader input, StubJarWriter writer, List<Path> paths, ExecutorService executor)
+      throws IOException {
+    BufferingStubJarWriter[] stubs = new BufferingStubJarWriter[paths.size()];
+    try {
+      IndexedTasks.run(
+          executor, parallelism, stubs.length, i -> stubs[i] = stub(input, paths.get(i)), false);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while generating stubs");
+    }
+
+    for (BufferingStubJarWriter stub : stubs) {
+      if (stub != null) {
+        stub.replayTo(writer);
+      }
+    }
+  }
+
+  @Nullable
+  private BufferingStubJarWriter stub(LibraryReader input, Path path) throws IOException {
+    // Inline functions are only tracked for Kotlin modules, which are never stubbed in parallel.
+    StubJarEntry entry =
+        StubJarEntry.of(input, path, compatibilityMode, false, Collections.emptyMap());
+    if (entry == null) {
+      return null;
+    }
+    BufferingStubJarWriter stub = new BufferingStubJarWriter();
+    entry.write(stub);
+    stub.readEntries();
+    return stub;
+  }
+
   private boolean isKotlinModule(List<Path> relativePaths) {
     return relativePaths.stream().anyMatch(path -> path.toString().endsWith(".kotlin_module"));
   }
@@ -123,4 +189,40 @@ public class StubJar {
         ? pathString.substring(0, pathString.length() - ".class".length())
         : pathString;
   }
+
+  /**
+   * Collects the entries of a single stub and reads their contents, so that classes are rewritten
+   * on the thread which visited them rather than on the thread which writes the jar.
+   */
+  private static class BufferingStubJarWriter implements StubJarWriter {
+    private final Map<Path, ThrowingSupplier<InputStream, IOException>> suppliers =
+        new LinkedHashMap<>();
+    private final Map<Path, byte[]> contents = new LinkedHashMap<>();
+
+    @Override
+    public void writeEntry(
+        Path relativePath, ThrowingSupplier<InputStream, IOException> streamSupplier) {
+      suppliers.put(relativePath, streamSupplier);
+    }
+
+    void readEntries() throws IOException {
+      for (Map.Entry<Path, ThrowingSupplier<InputStream, IOException>> entry :
+          suppliers.entrySet()) {
+        try (InputStream stream = entry.getValue().get()) {
+          contents.put(entry.getKey(), ByteStreams.toByteArray(stream));
+        }
+      }
+      suppliers.clear();
+    }
+
+    void replayTo(StubJarWriter writer) {
+      for (Map.Entry<Path, byte[]> entry : contents.entrySet()) {
+        byte[] bytes = entry.getValue();
+        writer.writeEntry(entry.getKey(), () -> new ByteArrayInputStream(bytes));
+      }
+    }
+
+    @Override
+    public void close() {}
+  }
 }
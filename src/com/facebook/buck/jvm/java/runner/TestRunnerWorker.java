@@ -0,0 +1,680 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.jvm.java.runner;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * A test runner JVM that stays alive to run the tests of many invocations, one after another, so
+ * that they don't each pay for starting a JVM, loading the classes they share and warming up the
+ * JIT.
+ *
+ * <p>It speaks version 0 of Buck's worker protocol on stdin and stdout, that is a JSON array of
+ * messages each way, starting with a handshake. The args file of each command holds the arguments
+ * of one invocation, separated by {@link #ARG_SEPARATOR}:
+ *
+ * <ul>
+ *   <li>{@code --classpath-file} and the file listing the classpath of the tests, one per line
+ *   <li>{@code --shared-classpath-entry} and an entry of that classpath which may stay loaded from
+ *       one invocation to the next, for each such entry
+ *   <li>{@code -D<name>=<value>} for each system property to set
+ *   <li>the test runner main class, which must have a {@code public static int run(String[])}
+ *   <li>(string...) the arguments of the test runner
+ * </ul>
+ *
+ * <p>The shared entries are loaded by a class loader which is kept for as long as they stay the
+ * same, and everything else by a class loader of its own for every invocation. A shared entry
+ * which would shadow a file of an entry in front of it is loaded with everything else, so that
+ * every name resolves as it would in a JVM of its own. System properties, standard streams and the
+ * context class loader are restored after each invocation. If the tests leave threads running, or
+ * the heap stays mostly full, the worker answers with {@link #RECYCLE_EXIT_CODE} so that Buck
+ * replaces it with a fresh one. Invocations setting a property which only takes effect when a JVM
+ * starts are answered with {@link #NEEDS_OWN_JVM_EXIT_CODE} without running them.
+ *
+ * <p>Note: like {@link FileClassPathRunner}, this class only depends on classes present in the JRE.
+ */
+public class TestRunnerWorker {
+  public static final String CLASSPATH_FILE_ARG = "--classpath-file";
+  public static final String SHARED_CLASSPATH_ENTRY_ARG = "--shared-classpath-entry";
+  public static final char ARG_SEPARATOR = '\0';
+
+  /** Exit code of an invocation whose tests ran fine, but after which the worker is unusable. */
+  public static final int RECYCLE_EXIT_CODE = 100;
+
+  /**
+   * Exit code of an invocation which the worker didn't run, because it sets a system property
+   * which only takes effect when a JVM starts. Such tests must be run in a JVM of their own.
+   */
+  public static final int NEEDS_OWN_JVM_EXIT_CODE = 101;
+
+  /** System properties which the JDK reads once, when the JVM starts or a class is initialized. */
+  private static final Set<String> STARTUP_PROPERTIES =
+      new HashSet<>(
+          Arrays.asList(
+              "file.encoding",
+              "file.separator",
+              "java.ext.dirs",
+              "java.home",
+              "java.io.tmpdir",
+              "java.library.path",
+              "java.security.manager",
+              "java.system.class.loader",
+              "java.util.logging.config.class",
+              "java.util.logging.config.file",
+              "line.separator",
+              "path.separator",
+              "sun.jnu.encoding",
+              "user.country",
+              "user.dir",
+              "user.home",
+              "user.language",
+              "user.name",
+              "user.region",
+              "user.timezone",
+              "user.variant"));
+
+  /** How many jars the worker remembers the files of. */
+  private static final int MAX_CACHED_JAR_LISTINGS = 1000;
+
+  /** How long threads started by the tests get to finish before they count as leaked. */
+  private static final long LEAKED_THREAD_GRACE_MILLIS = 1000;
+
+  /** The part of the maximum heap that may still be in use after the tests and a gc. */
+  private static final double MAX_RETAINED_HEAP_FRACTION = 0.75;
+
+  private final Path testRunnerClasses;
+  private List<String> sharedClassPathFingerprint = Collections.emptyList();
+  private URLClassLoader sharedClassLoader; // Null until the first invocation.
+  private Set<String> testRunnerFiles; // Null until an invocation shares entries.
+  private final Map<String, Set<String>> jarFiles =
+      new LinkedHashMap<String, Set<String>>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Set<String>> eldest) {
+          return size() > MAX_CACHED_JAR_LISTINGS;
+        }
+      };
+
+  TestRunnerWorker(Path testRunnerClasses) {
+    this.testRunnerClasses = testRunnerClasses;
+  }
+
+  public static void main(String[] args) throws IOException {
+    // Stdout carries the protocol, so nothing else may write to it.
+    PrintStream protocolOut = System.out;
+    System.setOut(System.err);
+
+    TestRunnerWorker worker = new TestRunnerWorker(FileClassPathRunner.getTestRunnerClassPath());
+    int exitCode = 0;
+    try {
+      worker.serve(
+          new BufferedReader(new InputStreamReader(System.in)),
+          new BufferedWriter(new OutputStreamWriter(protocolOut)));
+    } catch (IOException e) {
+      e.printStackTrace();
+      exitCode = 1;
+    }
+
+    // Threads left behind by the tests must not keep the JVM alive once Buck is done with it.
+    System.exit(exitCode);
+  }
+
+  /** Answers the messages read from {@code in} until the array of messages ends. */
+  void serve(Reader in, Writer out) throws IOException {
+    MessageReader reader = new MessageReader(in);
+    reader.beginArray();
+    Map<String, Object> handshake = reader.nextMessage();
+    if (handshake == null) {
+      out.write("[]");
+      out.flush();
+      return;
+    }
+
+    out.write('[');
+    Object id = handshake.get("id");
+    if (!"handshake".equals(handshake.get("type"))
+        || !"0".equals(handshake.get("protocol_version"))) {
+      writeResponse(out, id, "error", 1);
+    } else {
+      String format =
+          "{\"id\":%s,\"type\":\"handshake\",\"protocol_version\":\"0\",\"capabilities\":[]}";
+      out.write(String.format(format, id));
+      out.flush();
+    }
+
+    Map<String, Object> message;
+    while ((message = reader.nextMessage()) != null) {
+      out.write(',');
+      id = message.get("id");
+      Object argsPath = message.get("args_path");
+      Object stdoutPath = message.get("stdout_path");
+      Object stderrPath = message.get("stderr_path");
+      if (!"command".equals(message.get("type"))) {
+        writeResponse(out, id, "error", 1);
+      } else if (!(argsPath instanceof String
+          && stdoutPath instanceof String
+          && stderrPath instanceof String)) {
+        writeResponse(out, id, "error", 2);
+      } else {
+        int exitCode;
+        try {
+          exitCode =
+              runCommand(
+                  Paths.get((String) argsPath),
+                  Paths.get((String) stdoutPath),
+                  Paths.get((String) stderrPath));
+        } catch (IOException e) {
+          e.printStackTrace();
+          exitCode = 1;
+        }
+        writeResponse(out, id, "result", exitCode);
+      }
+    }
+    out.write(']');
+    out.flush();
+  }
+
+  private static void writeResponse(Writer out, Object id, String type, int exitCode)
+      throws IOException {
+    out.write(String.format("{\"id\":%s,\"type\":\"%s\",\"exit_code\":%d}", id, type, exitCode));
+    out.flush();
+  }
+
+  /** Runs one invocation, and returns its exit code. */
+  int runCommand(Path argsPath, Path stdoutPath, Path stderrPath) throws IOException {
+    String[] args =
+        new String(Files.readAllBytes(argsPath), StandardCharsets.UTF_8)
+            .split(String.valueOf(ARG_SEPARATOR), -1);
+
+    Path classPathFile = null;
+    List<Path> sharedEntries = new ArrayList<>();
+    Map<String, String> properties = new LinkedHashMap<>();
+    int i = 0;
+    for (; i < args.length; i++) {
+      if (args[i].equals(CLASSPATH_FILE_ARG) && i + 1 < args.length) {
+        classPathFile = Paths.get(args[++i]);
+      } else if (args[i].equals(SHARED_CLASSPATH_ENTRY_ARG) && i + 1 < args.length) {
+        sharedEntries.add(Paths.get(args[++i]));
+      } else if (args[i].startsWith("-D")) {
+        String property = args[i].substring(2);
+        int equals = property.indexOf('=');
+        if (equals < 0) {
+          properties.put(property, "");
+        } else {
+          properties.put(property.substring(0, equals), property.substring(equals + 1));
+        }
+      } else {
+        break;
+      }
+    }
+
+    try (PrintStream out = new PrintStream(new FileOutputStream(stdoutPath.toFile()), true);
+        PrintStream err = new PrintStream(new FileOutputStream(stderrPath.toFile()), true)) {
+      if (classPathFile == null || i == args.length) {
+        err.printf("Expected a classpath file and a main class in %s%n", argsPath);
+        return 1;
+      }
+      String mainClassName = args[i];
+      String[] mainArgs = Arrays.copyOfRange(args, i + 1, args.length);
+
+      for (Map.Entry<String, String> property : properties.entrySet()) {
+        if (STARTUP_PROPERTIES.contains(property.getKey())
+            && !property.getValue().equals(System.getProperty(property.getKey()))) {
+          err.printf(
+              "%s only takes effect when a JVM starts, so the tests need a JVM of their own.%n",
+              property.getKey());
+          return NEEDS_OWN_JVM_EXIT_CODE;
+        }
+      }
+
+      List<Path> classPath = FileClassPathRunner.getTestClassPath(classPathFile);
+      List<Path> sharedClassPath = getShareableEntries(classPath, new HashSet<>(sharedEntries));
+      Set<Path> sharedEntrySet = new HashSet<>(sharedClassPath);
+      List<URL> urls = new ArrayList<>();
+      urls.add(testRunnerClasses.toUri().toURL());
+      StringBuilder classPathProperty = new StringBuilder(testRunnerClasses.toString());
+      for (Path entry : classPath) {
+        if (!sharedEntrySet.contains(entry)) {
+          urls.add(entry.toUri().toURL());
+        }
+        classPathProperty.append(File.pathSeparatorChar).append(entry);
+      }
+      properties.put("java.class.path", classPathProperty.toString());
+
+      ClassLoader parent = getSharedClassLoader(sharedClassPath);
+      Set<Thread> threadsBefore = getLiveThreads();
+      PrintStream originalOut = System.out;
+      PrintStream originalErr = System.err;
+      Properties originalProperties = (Properties) System.getProperties().clone();
+      Thread currentThread = Thread.currentThread();
+      ClassLoader originalContextClassLoader = currentThread.getContextClassLoader();
+      try (URLClassLoader classLoader = new URLClassLoader(urls.toArray(new URL[0]), parent)) {
+        int exitCode;
+        try {
+          System.setOut(out);
+          System.setErr(err);
+          properties.forEach(System::setProperty);
+          currentThread.setContextClassLoader(classLoader);
+          Method run = classLoader.loadClass(mainClassName).getMethod("run", String[].class);
+          exitCode = (Integer) run.invoke(null, new Object[] {mainArgs});
+        } catch (InvocationTargetException e) {
+          e.getCause().printStackTrace();
+          exitCode = 1;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+          e.printStackTrace();
+          exitCode = 1;
+        } finally {
+          currentThread.setContextClassLoader(originalContextClassLoader);
+          System.setProperties(originalProperties);
+          System.setOut(originalOut);
+          System.setErr(originalErr);
+        }
+
+        if (exitCode == 0) {
+          String leak = findLeak(threadsBefore);
+          if (leak != null) {
+            err.println(leak);
+            exitCode = RECYCLE_EXIT_CODE;
+          }
+        }
+        return exitCode;
+      }
+    }
+  }
+
+  /**
+   * Returns the shared entries of {@code classPath} which can be loaded ahead of the others without
+   * changing what any class or resource resolves to. The shared class loader is the parent of the
+   * one of the invocation, so its entries win over every other entry, including those in front of
+   * them. An entry is therefore only shared if none of its files is also in an entry in front of it
+   * which isn't shared, counting the test runner classes, which come first.
+   */
+  private List<Path> getShareableEntries(List<Path> classPath, Set<Path> sharedEntries)
+      throws IOException {
+    List<Path> shareable = new ArrayList<>();
+    if (sharedEntries.isEmpty()) {
+      return shareable;
+    }
+    if (testRunnerFiles == null) {
+      testRunnerFiles = listFiles(testRunnerClasses);
+    }
+    Set<String> filesInFront = new HashSet<>(testRunnerFiles);
+    int remaining = sharedEntries.size();
+    for (Path entry : classPath) {
+      if (remaining == 0) {
+        break;
+      }
+      Set<String> files = listFiles(entry);
+      if (sharedEntries.contains(entry)) {
+        remaining--;
+        if (Collections.disjoint(files, filesInFront)) {
+          shareable.add(entry);
+          continue;
+        }
+      }
+      filesInFront.addAll(files);
+    }
+    return shareable;
+  }
+
+  /** Returns the names of the files in a classpath entry, as a class loader would look them up. */
+  private Set<String> listFiles(Path entry) throws IOException {
+    File file = entry.toFile();
+    if (file.isDirectory()) {
+      Set<String> files = new HashSet<>();
+      try (Stream<Path> paths = Files.walk(entry)) {
+        paths
+            .filter(Files::isRegularFile)
+            .forEach(path -> files.add(entry.relativize(path).toString().replace('\\', '/')));
+      }
+      return files;
+    }
+    if (!file.isFile()) {
+      return Collections.emptySet();
+    }
+
+    String key = entry + ":" + file.length() + ":" + file.lastModified();
+    Set<String> files = jarFiles.get(key);
+    if (files == null) {
+      files = new HashSet<>();
+      try (ZipFile zip = new ZipFile(file)) {
+        Enumeration<? extends ZipEntry> entries = zip.entries();
+        while (entries.hasMoreElements()) {
+          String name = entries.nextElement().getName();
+          // Every jar has a manifest, but nothing looks it up through the class loader.
+          if (!name.endsWith("/") && !name.equals(JarFile.MANIFEST_NAME)) {
+            files.add(name);
+          }
+        }
+      }
+      jarFiles.put(key, files);
+    }
+    return files;
+  }
+
+  /**
+   * Returns the class loader of the shared classpath entries, which is only replaced when they
+   * change, either because another set of entries is asked for or because they changed on disk.
+   */
+  private ClassLoader getSharedClassLoader(List<Path> entries) throws IOException {
+    List<String> fingerprint = new ArrayList<>(entries.size());
+    for (Path entry : entries) {
+      File file = entry.toFile();
+      fingerprint.add(entry + ":" + file.length() + ":" + file.lastModified());
+    }
+
+    if (sharedClassLoader == null || !fingerprint.equals(sharedClassPathFingerprint)) {
+      if (sharedClassLoader != null) {
+        sharedClassLoader.close();
+      }
+      URL[] urls = new URL[entries.size()];
+      for (int i = 0; i < urls.length; i++) {
+        urls[i] = entries.get(i).toUri().toURL();
+      }
+      // The parent of the system class loader is the ext class loader on java 8 and the platform
+      // class loader on java 9+, so this works with either.
+      sharedClassLoader = new URLClassLoader(urls, ClassLoader.getSystemClassLoader().getParent());
+      sharedClassPathFingerprint = fingerprint;
+    }
+    return sharedClassLoader;
+  }
+
+  /**
+   * Returns why the worker should not run more tests, or null if it can. Threads that the tests
+   * started and are still running hold on to their classes and may interfere with later tests, and
+   * a heap which is still mostly full after a gc will soon make the tests slow or fail.
+   */
+  private static String findLeak(Set<Thread> threadsBefore) {
+    ThreadGroup systemThreadGroup = getSystemThreadGroup();
+    long deadline = System.currentTimeMillis() + LEAKED_THREAD_GRACE_MILLIS;
+    for (Thread thread : getLiveThreads()) {
+      // Threads in the system group, such as the process reaper, belong to the JDK, and so do the
+      // threads of the common fork join pool, which it keeps around for a while after they're used.
+      if (threadsBefore.contains(thread)
+          || thread.getThreadGroup() == systemThreadGroup
+          || isCommonPoolThread(thread)) {
+        continue;
+      }
+      try {
+        thread.join(Math.max(1, deadline - System.currentTimeMillis()));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      if (thread.isAlive()) {
+        return String.format("The tests left thread \"%s\" running.", thread.getName());
+      }
+    }
+
+    Runtime runtime = Runtime.getRuntime();
+    long maxRetainedHeap = (long) (runtime.maxMemory() * MAX_RETAINED_HEAP_FRACTION);
+    if (runtime.totalMemory() - runtime.freeMemory() > maxRetainedHeap) {
+      System.gc();
+      long usedHeap = runtime.totalMemory() - runtime.freeMemory();
+      if (usedHeap > maxRetainedHeap) {
+        return String.format(
+            "%d of %d bytes of heap are still in use after the tests.",
+            usedHeap, runtime.maxMemory());
+      }
+    }
+    return null;
+  }
+
+  private static boolean isCommonPoolThread(Thread thread) {
+    return thread instanceof ForkJoinWorkerThread
+        && ((ForkJoinWorkerThread) thread).getPool() == ForkJoinPool.commonPool();
+  }
+
+  private static ThreadGroup getSystemThreadGroup() {
+    ThreadGroup group = Thread.currentThread().getThreadGroup();
+    while (group.getParent() != null) {
+      group = group.getParent();
+    }
+    return group;
+  }
+
+  private static Set<Thread> getLiveThreads() {
+    ThreadGroup systemThreadGroup = getSystemThreadGroup();
+    Thread[] threads;
+    int count;
+    do {
+      threads = new Thread[systemThreadGroup.activeCount() * 2 + 1];
+      count = systemThreadGroup.enumerate(threads, true);
+    } while (count == threads.length);
+    return new HashSet<>(Arrays.asList(threads).subList(0, count));
+  }
+
+  /** Just enough of a JSON reader for the messages Buck sends to workers. */
+  static class MessageReader {
+    private final PushbackReader in;
+
+    MessageReader(Reader in) {
+      this.in = new PushbackReader(in);
+    }
+
+    void beginArray() throws IOException {
+      expect('[');
+    }
+
+    /** Returns the next message of the array, or null once the array has ended. */
+    Map<String, Object> nextMessage() throws IOException {
+      int c = peek();
+      if (c == ']') {
+        read();
+        return null;
+      }
+      if (c == ',') {
+        read();
+      }
+      if (peek() != '{') {
+        throw new IOException(String.format("Expected a message, got '%c'", (char) peek()));
+      }
+      return readObject();
+    }
+
+    private Object readValue() throws IOException {
+      int c = peek();
+      switch (c) {
+        case '{':
+          return readObject();
+        case '[':
+          return readArray();
+        case '"':
+          return readString();
+        case 't':
+          readLiteral("true");
+          return Boolean.TRUE;
+        case 'f':
+          readLiteral("false");
+          return Boolean.FALSE;
+        case 'n':
+          readLiteral("null");
+          return null;
+        default:
+          return readNumber();
+      }
+    }
+
+    private Map<String, Object> readObject() throws IOException {
+      expect('{');
+      Map<String, Object> object = new LinkedHashMap<>();
+      if (peek() == '}') {
+        read();
+        return object;
+      }
+      do {
+        String name = readString();
+        expect(':');
+        object.put(name, readValue());
+      } while (readSeparator('}'));
+      return object;
+    }
+
+    private List<Object> readArray() throws IOException {
+      expect('[');
+      List<Object> array = new ArrayList<>();
+      if (peek() == ']') {
+        read();
+        return array;
+      }
+      do {
+        array.add(readValue());
+      } while (readSeparator(']'));
+      return array;
+    }
+
+    /** Reads a comma, returning true, or {@code end}, returning false. */
+    private boolean readSeparator(char end) throws IOException {
+      peek();
+      int c = read();
+      if (c == ',') {
+        return true;
+      }
+      if (c == end) {
+        return false;
+      }
+      throw new IOException(String.format("Expected ',' or '%c', got '%c'", end, (char) c));
+    }
+
+    private String readString() throws IOException {
+      expect('"');
+      StringBuilder string = new StringBuilder();
+      for (int c = read(); c != '"'; c = read()) {
+        if (c != '\\') {
+          string.append((char) c);
+          continue;
+        }
+        c = read();
+        switch (c) {
+          case 'b':
+            string.append('\b');
+            break;
+          case 'f':
+            string.append('\f');
+            break;
+          case 'n':
+            string.append('\n');
+            break;
+          case 'r':
+            string.append('\r');
+            break;
+          case 't':
+            string.append('\t');
+            break;
+          case 'u':
+            char[] hex = new char[4];
+            for (int i = 0; i < hex.length; i++) {
+              hex[i] = (char) read();
+            }
+            string.append((char) Integer.parseInt(new String(hex), 16));
+            break;
+          default:
+            // '"', '\\' and '/' stand for themselves.
+            string.append((char) c);
+        }
+      }
+      return string.toString();
+    }
+
+    private Number readNumber() throws IOException {
+      StringBuilder number = new StringBuilder();
+      int c;
+      while ((c = in.read()) != -1 && "+-0123456789.eE".indexOf(c) >= 0) {
+        number.append((char) c);
+      }
+      if (c != -1) {
+        in.unread(c);
+      }
+      try {
+        String text = number.toString();
+        if (text.indexOf('.') >= 0 || text.indexOf('e') >= 0 || text.indexOf('E') >= 0) {
+          return Double.parseDouble(text);
+        }
+        return Long.parseLong(text);
+      } catch (NumberFormatException e) {
+        throw new IOException(String.format("Expected a value, got \"%s\"", number), e);
+      }
+    }
+
+    private void readLiteral(String literal) throws IOException {
+      for (int i = 0; i < literal.length(); i++) {
+        if (read() != literal.charAt(i)) {
+          throw new IOException("Expected " + literal);
+        }
+      }
+    }
+
+    private void expect(char expected) throws IOException {
+      peek();
+      int c = read();
+      if (c != expected) {
+        throw new IOException(String.format("Expected '%c', got '%c'", expected, (char) c));
+      }
+    }
+
+    /** Skips whitespace, and returns the next character without consuming it. */
+    private int peek() throws IOException {
+      int c;
+      do {
+        c = read();
+      } while (Character.isWhitespace(c));
+      in.unread(c);
+      return c;
+    }
+
+    private int read() throws IOException {
+      int c = in.read();
+      if (c == -1) {
+        throw new EOFException("The worker protocol stream ended unexpectedly");
+      }
+      return c;
+    }
+  }
+}
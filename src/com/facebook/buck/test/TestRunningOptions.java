@@ -21,6 +21,7 @@ import com.facebook.buck.test.selectors.TestSelectorList;
 import com.google.common.collect.ImmutableMap;
 import java.util.EnumSet;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.Set;
 import org.immutables.value.Value;
 
@@ -74,6 +75,12 @@ public abstract class TestRunningOptions {
 
   public abstract Optional<String> getJavaTempDir();
 
+  /** The number of JVMs the test classes of a sharded java_test are split across. */
+  public abstract OptionalInt getJavaTestShards();
+
+  /** The number of warm test runner JVMs that java tests may share, if they are to be used. */
+  public abstract OptionalInt getJavaTestWorkers();
+
   public static Builder builder() {
     return new Builder();
   }
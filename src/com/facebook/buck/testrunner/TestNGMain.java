@@ -47,4 +47,17 @@ public class TestNGMain {
     runner.parseArgs(args);
     runner.runAndExit();
   }
+
+  /**
+   * Runs the tests like {@link #main(String[])}, but returns the exit code instead of exiting, so
+   * that a test runner worker can go on to run more tests in the same JVM.
+   */
+  public static int run(String[] args) {
+    CheckDependency.isPresent("testng", "org.testng.TestNG");
+    CheckDependency.isPresent("hamcrest", "org.hamcrest.Description");
+
+    TestNGRunner runner = new TestNGRunner();
+    runner.parseArgs(args);
+    return runner.runAndGetExitCode();
+  }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.util.concurrent;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs a fixed number of indexed tasks on the calling thread and on helpers submitted to an
+ * executor. Threads claim indices in order until none remain, so every task runs exactly once
+ * however many helpers actually get to run, and the calling thread never waits for a helper to be
+ * scheduled. This makes it safe to use from a thread of the executor itself.
+ */
+public class IndexedTasks {
+
+  /** A task which is run once for each index. */
+  @FunctionalInterface
+  public interface IndexedTask {
+    void run(int index) throws IOException, InterruptedException;
+  }
+
+  /** Utility class: do not instantiate. */
+  private IndexedTasks() {}
+
+  /**
+   * Runs {@code task} for every index from 0 to {@code count - 1} on up to {@code parallelism}
+   * threads: the calling thread, and helpers submitted to {@code executor}. Once a task fails, the
+   * remaining indices are skipped and the first failure is rethrown.
+   *
+   * @param mayInterruptIfRunning whether helpers still running a task when this returns are
+   *     interrupted. Helpers only run past this call if it is itself interrupted.
+   */
+  public static void run(
+      ExecutorService executor,
+      int parallelism,
+      int count,
+      IndexedTask task,
+      boolean mayInterruptIfRunning)
+      throws IOException, InterruptedException {
+    Preconditions.checkArgument(parallelism > 0);
+    AtomicInteger next = new AtomicInteger();
+    CountDownLatch done = new CountDownLatch(count);
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    Runnable runRemainingTasks =
+        () -> {
+          int i;
+          while ((i = next.getAndIncrement()) < count) {
+            try {
+              if (failure.get() == null) {
+                task.run(i);
+              }
+            } catch (Throwable t) {
+              failure.compareAndSet(null, t);
+            } finally {
+              done.countDown();
+            }
+          }
+        };
+
+    int helperCount = Math.min(parallelism, count) - 1;
+    List<Future<?>> helpers = new ArrayList<>(Math.max(helperCount, 0));
+    try {
+      for (int i = 0; i < helperCount; i++) {
+        helpers.add(executor.submit(runRemainingTasks));
+      }
+      runRemainingTasks.run();
+      // Only waits for tasks which helpers have already claimed.
+      done.await();
+    } catch (InterruptedException e) {
+      failure.compareAndSet(null, e);
+      throw e;
+    } finally {
+      for (Future<?> helper : helpers) {
+        helper.cancel(mayInterruptIfRunning);
+      }
+    }
+
+    Throwable t = failure.get();
+    if (t != null) {
+      Throwables.throwIfInstanceOf(t, IOException.class);
+      Throwables.throwIfInstanceOf(t, InterruptedException.class);
+      Throwables.throwIfUnchecked(t);
+      throw new IllegalStateException(t);
+    }
+  }
+}
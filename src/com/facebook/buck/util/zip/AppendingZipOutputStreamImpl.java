@@ -19,6 +19,8 @@ package com.facebook.buck.util.zip;
 import com.facebook.buck.util.timing.Clock;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -40,6 +42,7 @@ import javax.annotation.Nullable;
 class AppendingZipOutputStreamImpl implements CustomZipOutputStream.Impl {
 
   private final OutputStream delegate;
+  @Nullable private final WritableByteChannel channel;
   private final boolean throwExceptionsOnDuplicate;
   private final Clock clock;
   private long currentOffset = 0;
@@ -50,7 +53,20 @@ class AppendingZipOutputStreamImpl implements CustomZipOutputStream.Impl {
 
   public AppendingZipOutputStreamImpl(
       Clock clock, OutputStream stream, boolean throwExceptionsOnDuplicate) {
+    this(clock, stream, null, throwExceptionsOnDuplicate);
+  }
+
+  /**
+   * @param channel the channel {@code stream} writes to, if any, so that copied entries can be
+   *     written to it directly.
+   */
+  public AppendingZipOutputStreamImpl(
+      Clock clock,
+      OutputStream stream,
+      @Nullable WritableByteChannel channel,
+      boolean throwExceptionsOnDuplicate) {
     this.delegate = stream;
+    this.channel = channel;
     this.clock = clock;
     this.throwExceptionsOnDuplicate = throwExceptionsOnDuplicate;
   }
@@ -61,14 +77,28 @@ class AppendingZipOutputStreamImpl implements CustomZipOutputStream.Impl {
     currentEntry.write(delegate, b, off, len);
   }
 
+  @Override
+  public void actuallyWrite(ByteBuffer data) throws IOException {
+    Objects.requireNonNull(currentEntry).writeRaw(delegate, channel, data);
+  }
+
   @Override
   public void actuallyPutNextEntry(ZipEntry entry) throws IOException {
+    putNextEntry(entry, false);
+  }
+
+  @Override
+  public void actuallyPutNextRawEntry(ZipEntry entry) throws IOException {
+    putNextEntry(entry, true);
+  }
+
+  private void putNextEntry(ZipEntry entry, boolean isRaw) throws IOException {
     if (throwExceptionsOnDuplicate && !seenNames.add(entry.getName())) {
       // Same exception as ZipOutputStream.
       throw new ZipException("duplicate entry: " + entry.getName());
     }
 
-    currentEntry = new EntryAccounting(clock, entry, currentOffset);
+    currentEntry = new EntryAccounting(clock, entry, currentOffset, isRaw);
     entries.add(currentEntry);
 
     currentOffset += currentEntry.writeLocalFileHeader(delegate);
@@ -19,7 +19,10 @@ package com.facebook.buck.util.zip;
 import com.google.common.base.Charsets;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
 
 /**
  * Each zip file has a "central directory" at the end of the archive, which provides the indexes
@@ -30,6 +33,8 @@ import java.util.zip.ZipEntry;
  */
 class CentralDirectory {
 
+  private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+
   /**
    * Write the entire central directory, including the file headers and the end of central directory
    * signature.
@@ -183,4 +188,62 @@ class CentralDirectory {
 
     return size;
   }
+
+  /**
+   * Finds the file headers in the central directory of a zip file, as written by {@link
+   * #writeCentralDirectory}, zip64 records included.
+   *
+   * @param path names the zip file in errors.
+   * @param zip the whole zip file, in little endian order.
+   * @return the offset of each file header in {@code zip}, in the order of the central directory.
+   * @throws ZipException if {@code zip} isn't a zip file, or its central directory is corrupt.
+   */
+  static int[] readFileHeaderOffsets(Path path, ByteBuffer zip) throws ZipException {
+    int end = findEndOfCentralDirectory(path, zip);
+    long entryCount = zip.getShort(end + 10) & 0xFFFF;
+    long offset = zip.getInt(end + 16) & 0xFFFFFFFFL;
+
+    int zip64Locator = end - ZipConstants.ZIP64_LOCHDR;
+    if ((entryCount == ZipConstants.ZIP64_MAGICCOUNT || offset == ZipConstants.ZIP64_MAGICVAL)
+        && zip64Locator >= 0
+        && zip.getInt(zip64Locator) == (int) ZipConstants.ZIP64_LOCSIG) {
+      long zip64End = zip.getLong(zip64Locator + 8);
+      if (zip64End < 0
+          || zip64End > zip.limit() - ZipConstants.ZIP64_ENDHDR
+          || zip.getInt((int) zip64End) != (int) ZipConstants.ZIP64_ENDSIG) {
+        throw new ZipException(String.format("%s has a corrupt zip64 central directory", path));
+      }
+      entryCount = zip.getLong((int) zip64End + 32);
+      offset = zip.getLong((int) zip64End + 48);
+    }
+
+    if (entryCount > Integer.MAX_VALUE || offset > end) {
+      throw new ZipException(String.format("%s has a corrupt central directory", path));
+    }
+    int[] headerOffsets = new int[(int) entryCount];
+    int position = (int) offset;
+    for (int i = 0; i < headerOffsets.length; i++) {
+      if (position > end - ZipEntry.CENHDR || zip.getInt(position) != (int) ZipEntry.CENSIG) {
+        throw new ZipException(String.format("%s has a corrupt central directory", path));
+      }
+      headerOffsets[i] = position;
+      position +=
+          ZipEntry.CENHDR
+              + (zip.getShort(position + ZipEntry.CENNAM) & 0xFFFF)
+              + (zip.getShort(position + ZipEntry.CENEXT) & 0xFFFF)
+              + (zip.getShort(position + ZipEntry.CENCOM) & 0xFFFF);
+    }
+    return headerOffsets;
+  }
+
+  private static int findEndOfCentralDirectory(Path path, ByteBuffer zip) throws ZipException {
+    int last = zip.limit() - ZipEntry.ENDHDR;
+    int first = Math.max(0, last - MAX_COMMENT_LENGTH);
+    for (int position = last; position >= first; position--) {
+      if (zip.getInt(position) == (int) ZipEntry.ENDSIG) {
+        return position;
+      }
+    }
+    throw new ZipException(String.format("%s is not a zip file", path));
+  }
 }
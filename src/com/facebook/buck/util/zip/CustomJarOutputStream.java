@@ -21,6 +21,7 @@ import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.jar.JarFile;
 import java.util.zip.ZipEntry;
 import javax.annotation.Nullable;
@@ -85,6 +86,17 @@ public class CustomJarOutputStream extends CustomZipOutputStream {
       currentEntry = entry;
     }
 
+    @Override
+    public void actuallyPutNextRawEntry(ZipEntry entry) throws IOException {
+      if (shouldHashEntries && !entry.isDirectory()) {
+        throw new IllegalStateException(
+            "Attempted to write an entry which is already compressed with hashing enabled.");
+      }
+      inner.actuallyPutNextRawEntry(entry);
+
+      currentEntry = entry;
+    }
+
     @Override
     public void actuallyWrite(byte[] b, int off, int len) throws IOException {
       inner.actuallyWrite(b, off, len);
@@ -94,6 +106,12 @@ public class CustomJarOutputStream extends CustomZipOutputStream {
       }
     }
 
+    @Override
+    public void actuallyWrite(ByteBuffer data) throws IOException {
+      // Only raw entries are written from buffers, and those are never hashed.
+      inner.actuallyWrite(data);
+    }
+
     @Override
     public void actuallyCloseEntry() throws IOException {
       inner.actuallyCloseEntry();
@@ -21,6 +21,7 @@ import com.google.common.io.ByteStreams;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipException;
 
@@ -40,6 +41,15 @@ public class CustomZipOutputStream extends OutputStream {
      */
     void actuallyPutNextEntry(ZipEntry entry) throws IOException;
 
+    /**
+     * Called by {@link CustomZipOutputStream#putNextRawEntry(ZipEntry)}, with the same guarantees
+     * as {@link #actuallyPutNextEntry(ZipEntry)}. The bytes written to the entry are already
+     * compressed, and the CRC and sizes of {@code entry} are set.
+     *
+     * @param entry The {@link ZipEntry} to write.
+     */
+    void actuallyPutNextRawEntry(ZipEntry entry) throws IOException;
+
     /**
      * Called by {@link CustomZipOutputStream#close()} and used by impls to close the delegate
      * stream. This method will be called at most once in the lifecycle of the
@@ -54,6 +64,12 @@ public class CustomZipOutputStream extends OutputStream {
      */
     void actuallyWrite(byte b[], int off, int len) throws IOException;
 
+    /**
+     * Called by {@link CustomZipOutputStream#copyEntry} once it has put a raw entry, to write the
+     * already compressed {@code data} of that entry.
+     */
+    void actuallyWrite(ByteBuffer data) throws IOException;
+
     void actuallyClose() throws IOException;
   }
 
@@ -77,6 +93,53 @@ public class CustomZipOutputStream extends OutputStream {
     entryOpen = true;
   }
 
+  /**
+   * Begins an entry whose data has already been compressed with the entry's method, for example on
+   * another thread. The bytes written to it are copied into the zip as they are. The CRC, size and
+   * compressed size of {@code entry} must be set, and exactly compressed size bytes must be written
+   * before the entry is closed.
+   */
+  public final void putNextRawEntry(ZipEntry entry) throws IOException {
+    Preconditions.checkState(state != State.CLOSED, "Stream has been closed.");
+
+    state = State.OPEN;
+    closeEntry();
+    validateEntry(entry);
+    impl.actuallyPutNextRawEntry(entry);
+    entryOpen = true;
+  }
+
+  /**
+   * Copies an entry of another zip into this one without inflating and deflating it again. The
+   * method, CRC and sizes of the entry written are those of the source entry, while everything
+   * else, such as its name and time, comes from {@code entry}, so headers can still be scrubbed.
+   * When this stream writes to a file channel, large entries go from the mapping of {@code source}
+   * straight to the channel, without being copied onto the heap.
+   *
+   * @param source the zip to copy the compressed data from.
+   * @param sourceEntry the index of the entry in {@code source}.
+   * @param entry the entry to write, which is updated to describe the copied data.
+   */
+  public final void copyEntry(MappedCentralDirectory source, int sourceEntry, ZipEntry entry)
+      throws IOException {
+    int method = source.getMethod(sourceEntry);
+    if (method != ZipEntry.STORED && method != ZipEntry.DEFLATED) {
+      throw new ZipException(
+          String.format(
+              "%s uses unsupported compression method %d for %s",
+              source.getPath(), method, source.getName(sourceEntry)));
+    }
+    ByteBuffer data = source.getRawData(sourceEntry);
+    entry.setMethod(method);
+    entry.setCrc(source.getCrc(sourceEntry));
+    entry.setSize(source.getSize(sourceEntry));
+    entry.setCompressedSize(source.getCompressedSize(sourceEntry));
+
+    putNextRawEntry(entry);
+    impl.actuallyWrite(data);
+    closeEntry();
+  }
+
   private void validateEntry(ZipEntry entry) {
     if (entry.getMethod() == ZipEntry.STORED) {
       Preconditions.checkState(
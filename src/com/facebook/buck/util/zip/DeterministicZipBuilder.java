@@ -20,13 +20,17 @@ import com.google.common.io.ByteStreams;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.zip.CRC32;
 
 public class DeterministicZipBuilder implements Closeable {
   // TODO(cjhopman): Should this buffer the entries and then sort them by name? We may have to
   // buffer them on disk to keep memory use sensible.
+  private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
   private final CustomZipOutputStream output;
 
   public DeterministicZipBuilder(Path path) throws IOException {
@@ -68,6 +72,47 @@ public class DeterministicZipBuilder implements Closeable {
     output.closeEntry();
   }
 
+  /**
+   * Adds an entry with the remaining contents of each of {@code data} in turn. The buffers are left
+   * untouched.
+   */
+  public void addEntry(List<ByteBuffer> data, String name, int compressionLevel)
+      throws IOException {
+    CustomZipEntry outputEntry = new CustomZipEntry(Paths.get(name));
+    outputEntry.setCompressionLevel(compressionLevel);
+    CRC32 crc = new CRC32();
+    long size = 0;
+    for (ByteBuffer buf : data) {
+      crc.update(buf.duplicate());
+      size += buf.remaining();
+    }
+    outputEntry.setCrc(crc.getValue());
+    if (compressionLevel == 0) {
+      outputEntry.setCompressedSize(size);
+    }
+    outputEntry.setSize(size);
+    output.putNextEntry(outputEntry);
+    byte[] buffer = new byte[(int) Math.min(size, COPY_BUFFER_SIZE)];
+    for (ByteBuffer buf : data) {
+      ByteBuffer remaining = buf.duplicate();
+      while (remaining.hasRemaining()) {
+        int length = Math.min(remaining.remaining(), buffer.length);
+        remaining.get(buffer, 0, length);
+        output.write(buffer, 0, length);
+      }
+    }
+    output.closeEntry();
+  }
+
+  /**
+   * Copies an entry of another zip as it is stored there, without inflating and deflating it
+   * again.
+   */
+  public void copyEntry(MappedCentralDirectory source, int sourceEntry, String name)
+      throws IOException {
+    output.copyEntry(source, sourceEntry, new CustomZipEntry(Paths.get(name), false));
+  }
+
   @Override
   public void close() throws IOException {
     output.close();
@@ -70,15 +70,20 @@ class DirectoryJarEntryContainer implements JarEntryContainer {
               }
 
               ThrowingSupplier<InputStream, IOException> inputStreamSupplier;
+              long size;
               if (Files.isDirectory(path)) {
                 relativePath += '/';
                 inputStreamSupplier = () -> null;
+                size = 0;
               } else {
                 inputStreamSupplier = () -> Files.newInputStream(path);
+                // Entries don't record a size until they are written, but JarBuilder needs one to
+                // bound how much it compresses ahead of time.
+                size = path.toFile().length();
               }
 
               return new JarEntrySupplier(
-                  new CustomZipEntry(relativePath), owner, inputStreamSupplier);
+                  new CustomZipEntry(relativePath), owner, inputStreamSupplier, size);
             })
         .filter(Objects::nonNull)
         .sorted(Comparator.comparing(entrySupplier -> entrySupplier.getEntry().getName()));
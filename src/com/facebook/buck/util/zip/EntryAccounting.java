@@ -24,6 +24,8 @@ import com.google.common.hash.Hashing;
 import com.google.common.io.CountingOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.util.Calendar;
 import java.util.Locale;
 import java.util.zip.Deflater;
@@ -49,9 +51,12 @@ class EntryAccounting {
   private static final int DATA_DESCRIPTOR_FLAG = 1 << 3;
   private static final int UTF8_NAMES_FLAG = 1 << 11;
   private static final int ARBITRARY_SIZE = 8192;
+  /** Raw data at least this large is written straight to the channel, when there is one. */
+  private static final int DIRECT_WRITE_SIZE = 64 * 1024;
 
   private final ZipEntry entry;
   private final Method method;
+  private final boolean isRaw;
   private Hasher crc = Hashing.crc32().newHasher();
   private long offset;
   private long length = 0;
@@ -68,20 +73,41 @@ class EntryAccounting {
    */
   private int flags = UTF8_NAMES_FLAG;
 
-  @Nullable private Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
-  @Nullable private byte[] buffer = new byte[ARBITRARY_SIZE];
+  @Nullable private Deflater deflater;
+  @Nullable private byte[] buffer;
 
   public EntryAccounting(Clock clock, ZipEntry entry, long currentOffset) {
+    this(clock, entry, currentOffset, false);
+  }
+
+  /**
+   * @param isRaw whether the data of the entry will be written already compressed, in which case
+   *     it is copied as is and the CRC and sizes are taken from {@code entry}.
+   */
+  public EntryAccounting(Clock clock, ZipEntry entry, long currentOffset, boolean isRaw) {
     this.entry = entry;
     this.method = Method.detect(entry.getMethod());
     this.offset = currentOffset;
+    this.isRaw = isRaw;
+
+    if (isRaw) {
+      Preconditions.checkArgument(
+          entry.getCrc() != -1 && entry.getSize() != -1 && entry.getCompressedSize() != -1,
+          "The CRC and sizes of %s must be known to write it already compressed.",
+          entry.getName());
+    } else {
+      deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+      buffer = new byte[ARBITRARY_SIZE];
+    }
 
     if (entry.getTime() == -1) {
       entry.setTime(clock.currentTimeMillis());
     }
 
     if (entry instanceof CustomZipEntry) {
-      deflater.setLevel(((CustomZipEntry) entry).getCompressionLevel());
+      if (deflater != null) {
+        deflater.setLevel(((CustomZipEntry) entry).getCompressionLevel());
+      }
       externalAttributes = ((CustomZipEntry) entry).getExternalAttributes();
     }
   }
@@ -269,6 +295,11 @@ class EntryAccounting {
     if (len == 0) {
       return;
     }
+    if (isRaw) {
+      out.write(b, off, len);
+      length += len;
+      return;
+    }
     updateCrc(b, off, len);
 
     if (method == Method.STORE) {
@@ -284,11 +315,43 @@ class EntryAccounting {
     }
   }
 
+  /**
+   * Writes already compressed data to a raw entry. If {@code channel} is the channel {@code out}
+   * writes to, large data is written straight to it after flushing {@code out}, rather than copied
+   * through a byte array, which matters for data which is memory mapped.
+   */
+  public void writeRaw(OutputStream out, @Nullable WritableByteChannel channel, ByteBuffer data)
+      throws IOException {
+    Preconditions.checkState(isRaw, "Only raw entries can be written from a buffer.");
+    int len = data.remaining();
+    if (channel != null && len >= DIRECT_WRITE_SIZE) {
+      out.flush();
+      while (data.hasRemaining()) {
+        channel.write(data);
+      }
+    } else {
+      byte[] bytes = new byte[Math.min(len, DIRECT_WRITE_SIZE)];
+      while (data.hasRemaining()) {
+        int chunk = Math.min(data.remaining(), bytes.length);
+        data.get(bytes, 0, chunk);
+        out.write(bytes, 0, chunk);
+      }
+    }
+    length += len;
+  }
+
   /**
    * Finish the entry and return the total number of compressed bytes written (not counting the
    * local file header, but counting the data descriptor if present). Must be called exactly once.
    */
   public long finish(OutputStream out) throws IOException {
+    if (isRaw) {
+      Preconditions.checkState(
+          entry.getCompressedSize() == length,
+          "Number of bytes written differs from the compressed size specified in the entry.");
+      return length + writeDataDescriptor(out);
+    }
+
     Preconditions.checkState(deflater != null);
     if (method == Method.STORE) {
       Preconditions.checkState(
@@ -17,18 +17,22 @@
 package com.facebook.buck.util.zip;
 
 import com.facebook.buck.core.exceptions.HumanReadableException;
+import com.facebook.buck.util.concurrent.IndexedTasks;
 import com.facebook.buck.util.stream.RichStream;
 import com.google.common.base.Charsets;
 import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
 import com.google.common.io.ByteStreams;
 import com.google.common.io.CharStreams;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -37,14 +41,24 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Predicate;
 import java.util.jar.Attributes;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
 import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.ZipEntry;
 import javax.annotation.Nullable;
 
 public class JarBuilder {
+  /** Bounds the number of entries compressed ahead of the one being written. */
+  private static final int MAX_BATCH_ENTRIES = 512;
+  /** Bounds the uncompressed size of the entries compressed ahead of the one being written. */
+  private static final long MAX_BATCH_BYTES = 64 * 1024 * 1024;
+
   public interface Observer {
     Observer IGNORING =
         new Observer() {
@@ -71,6 +85,8 @@ public class JarBuilder {
   private List<JarEntryContainer> sourceContainers = new ArrayList<>();
   private Set<String> alreadyAddedEntries = new HashSet<>();
   private Map<String, Set<String>> services = new HashMap<>();
+  @Nullable private ExecutorService executor = null;
+  private int parallelism = 1;
 
   public JarBuilder setObserver(Observer observer) {
     this.observer = observer;
@@ -132,6 +148,23 @@ public class JarBuilder {
     return this;
   }
 
+  /**
+   * Compresses entries on up to {@code parallelism} threads: the calling thread, and helpers
+   * submitted to {@code executor}. The calling thread never waits for a helper to be scheduled, so
+   * this is safe to use from a thread of {@code executor} itself. Entries are still written in the
+   * same order, with the same contents, so the jar is identical to the one built on a single
+   * thread.
+   *
+   * <p>Entries are compressed into memory in batches ahead of being written, so this is not used
+   * when entries are hashed, as their hashes are computed from their uncompressed contents.
+   */
+  public JarBuilder setParallelism(ExecutorService executor, int parallelism) {
+    Preconditions.checkArgument(parallelism > 0);
+    this.executor = executor;
+    this.parallelism = parallelism;
+    return this;
+  }
+
   public int createJarFile(Path outputFile) throws IOException {
     Preconditions.checkArgument(outputFile.isAbsolute());
     try (CustomJarOutputStream jar =
@@ -226,14 +259,92 @@ public class JarBuilder {
     return entry;
   }
 
-  private void addEntriesToJar(Iterable<JarEntrySupplier> entries, CustomJarOutputStream jar)
+  private void addEntriesToJar(List<JarEntrySupplier> entries, CustomJarOutputStream jar)
       throws IOException {
+    if (executor != null && parallelism > 1 && !shouldHashEntries) {
+      addEntriesToJarInParallel(entries, jar, executor);
+      return;
+    }
+
     for (JarEntrySupplier entrySupplier : entries) {
-      addEntryToJar(entrySupplier, jar);
+      addEntryToJar(entrySupplier, jar, null);
     }
   }
 
-  private void addEntryToJar(JarEntrySupplier entrySupplier, CustomJarOutputStream jar)
+  /**
+   * Compresses batches of entries in parallel, and then adds them to the jar one at a time as
+   * usual. Only the contents of entries are compressed ahead of time; everything which depends on
+   * the entries added before them, such as skipping duplicates, still happens in order.
+   */
+  private void addEntriesToJarInParallel(
+      List<JarEntrySupplier> entries, CustomJarOutputStream jar, ExecutorService executor)
+      throws IOException {
+    int start = 0;
+    while (start < entries.size()) {
+      List<JarEntrySupplier> batch = new ArrayList<>();
+      // Decided on this thread, as the predicate removing entries need not be thread-safe.
+      BitSet toCompress = new BitSet();
+      long batchBytes = 0;
+      for (int i = start;
+          i < entries.size() && batch.size() < MAX_BATCH_ENTRIES && batchBytes < MAX_BATCH_BYTES;
+          i++) {
+        JarEntrySupplier entrySupplier = entries.get(i);
+        if (shouldCompressAhead(entrySupplier)) {
+          toCompress.set(batch.size());
+          batchBytes += Math.max(entrySupplier.getSize(), 0);
+        }
+        batch.add(entries.get(i));
+      }
+
+      CompressedEntry[] compressed = compressInParallel(batch, toCompress, executor);
+      for (int i = 0; i < batch.size(); i++) {
+        addEntryToJar(batch.get(i), jar, compressed[i]);
+      }
+      start += batch.size();
+    }
+  }
+
+  private boolean shouldCompressAhead(JarEntrySupplier entrySupplier) {
+    CustomZipEntry entry = entrySupplier.getEntry();
+    String name = entry.getName();
+    return entry.getMethod() == ZipEntry.DEFLATED
+        && !entrySupplier.canCopyCompressed()
+        && !name.endsWith("/")
+        && !JarFile.MANIFEST_NAME.equals(name)
+        && !isService(name)
+        && !removeEntryPredicate.test(entry);
+  }
+
+  /**
+   * @return the compressed contents of each entry of {@code batch} whose index is set in {@code
+   *     toCompress}, or null for the others.
+   */
+  private CompressedEntry[] compressInParallel(
+      List<JarEntrySupplier> batch, BitSet toCompress, ExecutorService executor)
+      throws IOException {
+    CompressedEntry[] compressed = new CompressedEntry[batch.size()];
+    try {
+      IndexedTasks.run(
+          executor,
+          parallelism,
+          compressed.length,
+          i -> {
+            if (toCompress.get(i)) {
+              compressed[i] = CompressedEntry.compress(batch.get(i));
+            }
+          },
+          false);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while compressing jar entries");
+    }
+    return compressed;
+  }
+
+  private void addEntryToJar(
+      JarEntrySupplier entrySupplier,
+      CustomJarOutputStream jar,
+      @Nullable CompressedEntry compressed)
       throws IOException {
     CustomZipEntry entry = entrySupplier.getEntry();
     String entryName = entry.getName();
@@ -275,6 +386,18 @@ public class JarBuilder {
       return;
     }
 
+    if (compressed != null) {
+      compressed.writeTo(jar);
+      return;
+    }
+
+    // Entries from other archives can skip being inflated and deflated again, unless their
+    // uncompressed contents have to be hashed.
+    if (!shouldHashEntries && entrySupplier.canCopyCompressed()) {
+      entrySupplier.copyCompressedTo(jar);
+      return;
+    }
+
     jar.putNextEntry(entry);
     try (InputStream entryInputStream = entrySupplier.getInputStreamSupplier().get()) {
       if (entryInputStream != null) {
@@ -348,6 +471,53 @@ public class JarBuilder {
         || (!shouldDisallowAllDuplicates && !name.endsWith(".class") && !name.endsWith("/"));
   }
 
+  /** The contents of an entry, deflated the same way {@link CustomZipOutputStream} would. */
+  private static class CompressedEntry {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final CustomZipEntry entry;
+    private final ByteArrayOutputStream data;
+
+    private CompressedEntry(CustomZipEntry entry, ByteArrayOutputStream data) {
+      this.entry = entry;
+      this.data = data;
+    }
+
+    static CompressedEntry compress(JarEntrySupplier entrySupplier) throws IOException {
+      CustomZipEntry entry = entrySupplier.getEntry();
+      int expectedSize =
+          (int) Math.min(Math.max(entrySupplier.getSize() / 2, 32), MAX_BATCH_BYTES);
+      ByteArrayOutputStream data = new ByteArrayOutputStream(expectedSize);
+      CRC32 crc = new CRC32();
+      Deflater deflater = new Deflater(entry.getCompressionLevel(), true);
+      try {
+        try (InputStream entryInputStream = entrySupplier.getInputStreamSupplier().get();
+            DeflaterOutputStream out = new DeflaterOutputStream(data, deflater, BUFFER_SIZE)) {
+          if (entryInputStream != null) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = entryInputStream.read(buffer)) != -1) {
+              crc.update(buffer, 0, read);
+              out.write(buffer, 0, read);
+            }
+          }
+        }
+        entry.setCrc(crc.getValue());
+        entry.setSize(deflater.getBytesRead());
+        entry.setCompressedSize(deflater.getBytesWritten());
+      } finally {
+        deflater.end();
+      }
+      return new CompressedEntry(entry, data);
+    }
+
+    void writeTo(CustomJarOutputStream jar) throws IOException {
+      jar.putNextRawEntry(entry);
+      data.writeTo(jar);
+      jar.closeEntry();
+    }
+  }
+
   private static class SingletonJarEntryContainer implements JarEntryContainer {
     private final JarEntrySupplier supplier;
 
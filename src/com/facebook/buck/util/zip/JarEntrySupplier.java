@@ -17,8 +17,10 @@
 package com.facebook.buck.util.zip;
 
 import com.facebook.buck.util.function.ThrowingSupplier;
+import com.google.common.base.Preconditions;
 import java.io.IOException;
 import java.io.InputStream;
+import javax.annotation.Nullable;
 
 /**
  * Encapsulates a file or directory to be added as a single entry to a jar by {@link JarBuilder}.
@@ -27,14 +29,62 @@ public class JarEntrySupplier {
   private final CustomZipEntry entry;
   private final String owner;
   private final ThrowingSupplier<InputStream, IOException> inputStreamSupplier;
+  private final long size;
+  @Nullable private final MappedCentralDirectory compressedSource;
+  private final int compressedSourceEntry;
 
   public JarEntrySupplier(
       CustomZipEntry entry,
       String owner,
       ThrowingSupplier<InputStream, IOException> inputStreamSupplier) {
+    this(entry, owner, inputStreamSupplier, entry.getSize(), null, -1);
+  }
+
+  /**
+   * @param size the uncompressed size of the entry, for entries which don't record it yet, such as
+   *     those of files which are only read once the entry is written.
+   */
+  JarEntrySupplier(
+      CustomZipEntry entry,
+      String owner,
+      ThrowingSupplier<InputStream, IOException> inputStreamSupplier,
+      long size) {
+    this(entry, owner, inputStreamSupplier, size, null, -1);
+  }
+
+  /**
+   * @param compressedSource the archive the entry comes from, if its compressed data can be copied
+   *     from there as is.
+   * @param compressedSourceEntry the index of the entry in {@code compressedSource}.
+   */
+  JarEntrySupplier(
+      CustomZipEntry entry,
+      String owner,
+      ThrowingSupplier<InputStream, IOException> inputStreamSupplier,
+      @Nullable MappedCentralDirectory compressedSource,
+      int compressedSourceEntry) {
+    this(
+        entry,
+        owner,
+        inputStreamSupplier,
+        entry.getSize(),
+        compressedSource,
+        compressedSourceEntry);
+  }
+
+  private JarEntrySupplier(
+      CustomZipEntry entry,
+      String owner,
+      ThrowingSupplier<InputStream, IOException> inputStreamSupplier,
+      long size,
+      @Nullable MappedCentralDirectory compressedSource,
+      int compressedSourceEntry) {
     this.entry = entry;
     this.owner = owner;
     this.inputStreamSupplier = inputStreamSupplier;
+    this.size = size;
+    this.compressedSource = compressedSource;
+    this.compressedSourceEntry = compressedSourceEntry;
   }
 
   public CustomZipEntry getEntry() {
@@ -48,4 +98,20 @@ public class JarEntrySupplier {
   public ThrowingSupplier<InputStream, IOException> getInputStreamSupplier() {
     return inputStreamSupplier;
   }
+
+  /** @return the uncompressed size of the entry, or -1 if it isn't known until it is read. */
+  long getSize() {
+    return size;
+  }
+
+  /** Whether {@link #copyCompressedTo} can be used instead of compressing the entry again. */
+  boolean canCopyCompressed() {
+    return compressedSource != null;
+  }
+
+  /** Writes the entry to {@code out}, copying its compressed data from the archive it is in. */
+  void copyCompressedTo(CustomZipOutputStream out) throws IOException {
+    Preconditions.checkState(compressedSource != null);
+    out.copyEntry(compressedSource, compressedSourceEntry, entry);
+  }
 }
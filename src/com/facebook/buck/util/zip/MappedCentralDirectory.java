@@ -0,0 +1,348 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.util.zip;
+
+import com.facebook.buck.util.environment.Platform;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Calendar;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import javax.annotation.Nullable;
+
+/**
+ * A memory mapped zip file, whose entries are found with {@link
+ * CentralDirectory#readFileHeaderOffsets}.
+ *
+ * <p>Unlike {@link java.util.zip.ZipFile}, no {@link ZipEntry} objects are created: entries are
+ * addressed by their index in the central directory, and their fields are read from the mapping
+ * when they are asked for. Reads never move the position of the mapping, so a single instance can
+ * be shared by any number of threads.
+ */
+public final class MappedCentralDirectory {
+
+  private final Path path;
+  private final MappedByteBuffer map;
+  private final int[] headerOffsets;
+
+  private MappedCentralDirectory(Path path, MappedByteBuffer map, int[] headerOffsets) {
+    this.path = path;
+    this.map = map;
+    this.headerOffsets = headerOffsets;
+  }
+
+  /**
+   * Maps the zip file at {@code path} and finds the file headers in its central directory.
+   *
+   * @throws ZipException if the file is not a zip file, or is too large to map.
+   */
+  public static MappedCentralDirectory map(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size > Integer.MAX_VALUE) {
+        throw new ZipException(String.format("%s is too large to map", path));
+      }
+      // The mapping stays valid after the channel is closed.
+      MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      map.order(ByteOrder.LITTLE_ENDIAN);
+      return new MappedCentralDirectory(
+          path, map, CentralDirectory.readFileHeaderOffsets(path, map));
+    }
+  }
+
+  /**
+   * Maps the zip file at {@code path} for callers which can also read it as a stream.
+   *
+   * @return null if the file is too large to map or its central directory can't be read, and on
+   *     Windows, which won't let a mapped file be deleted or replaced until the mapping is garbage
+   *     collected.
+   */
+  @Nullable
+  public static MappedCentralDirectory tryMap(Path path) throws IOException {
+    if (Platform.detect() == Platform.WINDOWS) {
+      return null;
+    }
+    try {
+      return map(path);
+    } catch (ZipException e) {
+      return null;
+    }
+  }
+
+  public Path getPath() {
+    return path;
+  }
+
+  public int getEntryCount() {
+    return headerOffsets.length;
+  }
+
+  public String getName(int entry) {
+    int header = headerOffsets[entry];
+    int length = map.getShort(header + ZipEntry.CENNAM) & 0xFFFF;
+    byte[] bytes = new byte[length];
+    ByteBuffer name = map.duplicate();
+    name.position(header + ZipEntry.CENHDR);
+    name.get(bytes);
+    // Like ZipFile, treat names as UTF-8 whether or not the entry is flagged as such.
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /** Whether the name of an entry ends with {@code suffix}, which must be ASCII. */
+  public boolean nameEndsWith(int entry, String suffix) {
+    int header = headerOffsets[entry];
+    int length = map.getShort(header + ZipEntry.CENNAM) & 0xFFFF;
+    if (length < suffix.length()) {
+      return false;
+    }
+    int start = header + ZipEntry.CENHDR + length - suffix.length();
+    for (int i = 0; i < suffix.length(); i++) {
+      if (map.get(start + i) != suffix.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public int getMethod(int entry) {
+    return map.getShort(headerOffsets[entry] + ZipEntry.CENHOW) & 0xFFFF;
+  }
+
+  /** @return the modification time of an entry, interpreted in the local time zone. */
+  public long getTime(int entry) {
+    int dosTime = map.getInt(headerOffsets[entry] + ZipEntry.CENTIM);
+    Calendar calendar = Calendar.getInstance();
+    calendar.clear();
+    calendar.set(
+        ((dosTime >> 25) & 0x7F) + 1980,
+        ((dosTime >> 21) & 0x0F) - 1,
+        (dosTime >> 16) & 0x1F,
+        (dosTime >> 11) & 0x1F,
+        (dosTime >> 5) & 0x3F,
+        (dosTime << 1) & 0x3E);
+    return calendar.getTimeInMillis();
+  }
+
+  /** @return the extra field of an entry in the central directory, or null if it has none. */
+  @Nullable
+  public byte[] getExtra(int entry) {
+    int header = headerOffsets[entry];
+    int length = map.getShort(header + ZipEntry.CENEXT) & 0xFFFF;
+    if (length == 0) {
+      return null;
+    }
+    byte[] extra = new byte[length];
+    ByteBuffer buffer = map.duplicate();
+    buffer.position(header + ZipEntry.CENHDR + (map.getShort(header + ZipEntry.CENNAM) & 0xFFFF));
+    buffer.get(extra);
+    return extra;
+  }
+
+  /** @return the comment of an entry, or null if it has none. */
+  @Nullable
+  public String getComment(int entry) {
+    int header = headerOffsets[entry];
+    int length = map.getShort(header + ZipEntry.CENCOM) & 0xFFFF;
+    if (length == 0) {
+      return null;
+    }
+    byte[] bytes = new byte[length];
+    ByteBuffer comment = map.duplicate();
+    comment.position(
+        header
+            + ZipEntry.CENHDR
+            + (map.getShort(header + ZipEntry.CENNAM) & 0xFFFF)
+            + (map.getShort(header + ZipEntry.CENEXT) & 0xFFFF));
+    comment.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /** @return the external file attributes of an entry, such as its Unix file mode. */
+  public long getExternalAttributes(int entry) {
+    return map.getInt(headerOffsets[entry] + ZipEntry.CENATX) & 0xFFFFFFFFL;
+  }
+
+  public long getCrc(int entry) {
+    return map.getInt(headerOffsets[entry] + ZipEntry.CENCRC) & 0xFFFFFFFFL;
+  }
+
+  public long getSize(int entry) {
+    return getZip64Field(entry, ZipEntry.CENLEN, 0);
+  }
+
+  public long getCompressedSize(int entry) {
+    return getZip64Field(entry, ZipEntry.CENSIZ, 1);
+  }
+
+  private long getLocalHeaderOffset(int entry) {
+    return getZip64Field(entry, ZipEntry.CENOFF, 2);
+  }
+
+  /**
+   * Reads a field which is replaced by a value in the zip64 extra field when it doesn't fit.
+   *
+   * @param fieldIndex the index of the field in the order the zip64 extra field stores them in.
+   */
+  private long getZip64Field(int entry, int offset, int fieldIndex) {
+    int header = headerOffsets[entry];
+    long value = map.getInt(header + offset) & 0xFFFFFFFFL;
+    if (value != ZipConstants.ZIP64_MAGICVAL) {
+      return value;
+    }
+    // Fields only appear in the zip64 extra field if they overflowed, so count the ones before
+    // this one which did.
+    int[] fieldOffsets = {ZipEntry.CENLEN, ZipEntry.CENSIZ, ZipEntry.CENOFF};
+    int skipped = 0;
+    for (int i = 0; i < fieldIndex; i++) {
+      if ((map.getInt(header + fieldOffsets[i]) & 0xFFFFFFFFL) == ZipConstants.ZIP64_MAGICVAL) {
+        skipped++;
+      }
+    }
+    int extra =
+        header + ZipEntry.CENHDR + (map.getShort(header + ZipEntry.CENNAM) & 0xFFFF);
+    int extraEnd = extra + (map.getShort(header + ZipEntry.CENEXT) & 0xFFFF);
+    while (extra + 4 <= extraEnd) {
+      int id = map.getShort(extra) & 0xFFFF;
+      int size = map.getShort(extra + 2) & 0xFFFF;
+      if (id == ZipConstants.ZIP64_EXTID && (skipped + 1) * 8 <= size) {
+        return map.getLong(extra + 4 + skipped * 8);
+      }
+      extra += 4 + size;
+    }
+    return value;
+  }
+
+  /**
+   * @return the contents of an entry as they are stored in the zip, compressed with {@link
+   *     #getMethod(int)}. The buffer is a view of the mapping, so nothing is copied or inflated.
+   */
+  public ByteBuffer getRawData(int entry) throws ZipException {
+    long dataStart = getDataOffset(entry);
+    long dataEnd = dataStart + getCompressedSize(entry);
+    if (dataEnd > map.limit()) {
+      throw new ZipException(String.format("%s is truncated at %s", path, getName(entry)));
+    }
+    ByteBuffer data = map.duplicate();
+    data.position((int) dataStart);
+    data.limit((int) dataEnd);
+    return data.slice();
+  }
+
+  /** @return the offset in the file of the contents of an entry, as they are stored in the zip. */
+  public long getDataOffset(int entry) throws ZipException {
+    long localHeader = getLocalHeaderOffset(entry);
+    if (localHeader > map.limit() - ZipEntry.LOCHDR
+        || map.getInt((int) localHeader) != (int) ZipEntry.LOCSIG) {
+      throw new ZipException(
+          String.format("%s has a corrupt local header for %s", path, getName(entry)));
+    }
+    return localHeader
+        + ZipEntry.LOCHDR
+        + (map.getShort((int) localHeader + ZipEntry.LOCNAM) & 0xFFFF)
+        + (map.getShort((int) localHeader + ZipEntry.LOCEXT) & 0xFFFF);
+  }
+
+  /** Opens the uncompressed contents of an entry. */
+  public InputStream openInputStream(int entry) throws IOException {
+    ByteBuffer data = getRawData(entry);
+    int method = getMethod(entry);
+    switch (method) {
+      case ZipEntry.STORED:
+        return new ByteBufferInputStream(data, false);
+      case ZipEntry.DEFLATED:
+        // The inflater needs an extra dummy byte when it doesn't expect a zlib header.
+        return new InflaterInputStream(
+            new ByteBufferInputStream(data, true), new Inflater(true)) {
+          private boolean isClosed = false;
+
+          @Override
+          public void close() throws IOException {
+            if (!isClosed) {
+              isClosed = true;
+              inf.end();
+              super.close();
+            }
+          }
+        };
+      default:
+        throw new ZipException(
+            String.format(
+                "%s uses unsupported compression method %d for %s", path, method, getName(entry)));
+    }
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%s[%s, %d entries]", getClass().getSimpleName(), path, headerOffsets.length);
+  }
+
+  /** Reads a buffer without copying it, optionally followed by a single zero byte. */
+  private static class ByteBufferInputStream extends InputStream {
+    private final ByteBuffer buffer;
+    private boolean hasPadding;
+
+    private ByteBufferInputStream(ByteBuffer buffer, boolean hasPadding) {
+      this.buffer = buffer;
+      this.hasPadding = hasPadding;
+    }
+
+    @Override
+    public int read() {
+      if (buffer.hasRemaining()) {
+        return buffer.get() & 0xFF;
+      }
+      if (hasPadding) {
+        hasPadding = false;
+        return 0;
+      }
+      return -1;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+      if (length == 0) {
+        return 0;
+      }
+      if (!buffer.hasRemaining()) {
+        if (!hasPadding) {
+          return -1;
+        }
+        hasPadding = false;
+        bytes[offset] = 0;
+        return 1;
+      }
+      int count = Math.min(length, buffer.remaining());
+      buffer.get(bytes, offset, count);
+      return count;
+    }
+
+    @Override
+    public int available() {
+      return buffer.remaining() + (hasPadding ? 1 : 0);
+    }
+  }
+}
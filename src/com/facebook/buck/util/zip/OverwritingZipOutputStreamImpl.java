@@ -23,6 +23,7 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -70,8 +71,17 @@ public class OverwritingZipOutputStreamImpl implements CustomZipOutputStream.Imp
 
   @Override
   public void actuallyPutNextEntry(ZipEntry entry) throws IOException {
+    putNextEntry(entry, false);
+  }
+
+  @Override
+  public void actuallyPutNextRawEntry(ZipEntry entry) throws IOException {
+    putNextEntry(entry, true);
+  }
+
+  private void putNextEntry(ZipEntry entry, boolean isRaw) throws IOException {
     // We calculate the actual offset when closing the stream, so 0 is fine.
-    currentEntry = new EntryAccounting(clock, entry, /* currentOffset */ 0);
+    currentEntry = new EntryAccounting(clock, entry, /* currentOffset */ 0, isRaw);
 
     long md5 = Hashing.md5().hashUnencodedChars(entry.getName()).asLong();
     String name = String.valueOf(md5);
@@ -102,6 +112,13 @@ public class OverwritingZipOutputStreamImpl implements CustomZipOutputStream.Imp
     currentEntry.write(currentOutput, b, off, len);
   }
 
+  @Override
+  public void actuallyWrite(ByteBuffer data) throws IOException {
+    Objects.requireNonNull(currentEntry);
+    Objects.requireNonNull(currentOutput);
+    currentEntry.writeRaw(currentOutput, null, data);
+  }
+
   @Override
   public void actuallyClose() throws IOException {
     long currentOffset = 0;
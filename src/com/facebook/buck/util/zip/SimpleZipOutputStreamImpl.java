@@ -19,6 +19,8 @@ package com.facebook.buck.util.zip;
 import com.facebook.buck.util.timing.Clock;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
@@ -32,13 +34,24 @@ import javax.annotation.Nullable;
 class SimpleZipOutputStreamImpl implements CustomZipOutputStream.Impl {
 
   private final OutputStream delegate;
+  @Nullable private final WritableByteChannel channel;
   private final Clock clock;
   private long currentOffset = 0;
   private List<EntryAccounting> entries = new LinkedList<>();
   @Nullable private EntryAccounting currentEntry = null;
 
   public SimpleZipOutputStreamImpl(Clock clock, OutputStream stream) {
+    this(clock, stream, null);
+  }
+
+  /**
+   * @param channel the channel {@code stream} writes to, if any, so that copied entries can be
+   *     written to it directly.
+   */
+  public SimpleZipOutputStreamImpl(
+      Clock clock, OutputStream stream, @Nullable WritableByteChannel channel) {
     this.delegate = stream;
+    this.channel = channel;
     this.clock = clock;
   }
 
@@ -47,9 +60,23 @@ class SimpleZipOutputStreamImpl implements CustomZipOutputStream.Impl {
     Objects.requireNonNull(currentEntry).write(delegate, b, off, len);
   }
 
+  @Override
+  public void actuallyWrite(ByteBuffer data) throws IOException {
+    Objects.requireNonNull(currentEntry).writeRaw(delegate, channel, data);
+  }
+
   @Override
   public void actuallyPutNextEntry(ZipEntry entry) throws IOException {
-    currentEntry = new EntryAccounting(clock, entry, currentOffset);
+    putNextEntry(entry, false);
+  }
+
+  @Override
+  public void actuallyPutNextRawEntry(ZipEntry entry) throws IOException {
+    putNextEntry(entry, true);
+  }
+
+  private void putNextEntry(ZipEntry entry, boolean isRaw) throws IOException {
+    currentEntry = new EntryAccounting(clock, entry, currentOffset, isRaw);
     entries.add(currentEntry);
     currentOffset += currentEntry.writeLocalFileHeader(delegate);
   }
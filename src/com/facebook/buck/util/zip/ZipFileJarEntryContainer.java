@@ -19,8 +19,12 @@ package com.facebook.buck.util.zip;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import javax.annotation.Nullable;
@@ -30,6 +34,7 @@ class ZipFileJarEntryContainer implements JarEntryContainer {
   private final String owner;
   private final Path jarFilePath;
   @Nullable private JarFile jar;
+  @Nullable private MappedCentralDirectory centralDirectory;
 
   public ZipFileJarEntryContainer(Path jarFilePath) {
     this.jarFilePath = jarFilePath;
@@ -44,11 +49,25 @@ class ZipFileJarEntryContainer implements JarEntryContainer {
 
   @Override
   public Stream<JarEntrySupplier> stream() throws IOException {
-    return getJarFile().stream()
-        .map(
-            entry ->
-                new JarEntrySupplier(
-                    makeCustomEntry(entry), owner, () -> getJarFile().getInputStream(entry)));
+    List<JarEntry> entries = Collections.list(getJarFile().entries());
+    MappedCentralDirectory centralDirectory = getCentralDirectory();
+    return IntStream.range(0, entries.size())
+        .mapToObj(
+            i -> {
+              JarEntry entry = entries.get(i);
+              // Both list entries in central directory order, but only copy the compressed data
+              // of an entry when they agree on its name.
+              boolean canCopyCompressed =
+                  centralDirectory != null
+                      && i < centralDirectory.getEntryCount()
+                      && entry.getName().equals(centralDirectory.getName(i));
+              return new JarEntrySupplier(
+                  makeCustomEntry(entry),
+                  owner,
+                  () -> getJarFile().getInputStream(entry),
+                  canCopyCompressed ? centralDirectory : null,
+                  i);
+            });
   }
 
   @Override
@@ -57,6 +76,7 @@ class ZipFileJarEntryContainer implements JarEntryContainer {
       jar.close();
       jar = null;
     }
+    centralDirectory = null;
   }
 
   private JarFile getJarFile() throws IOException {
@@ -72,6 +92,15 @@ class ZipFileJarEntryContainer implements JarEntryContainer {
     return jar;
   }
 
+  @Nullable
+  private MappedCentralDirectory getCentralDirectory() throws IOException {
+    if (centralDirectory == null) {
+      // When the jar can't be mapped, entries are copied by inflating and deflating them again.
+      centralDirectory = MappedCentralDirectory.tryMap(jarFilePath);
+    }
+    return centralDirectory;
+  }
+
   private static CustomZipEntry makeCustomEntry(ZipEntry entry) {
     CustomZipEntry wrappedEntry = new CustomZipEntry(entry);
 
@@ -22,8 +22,12 @@ import com.facebook.buck.util.timing.DefaultClock;
 import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.nio.file.Files;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import javax.annotation.Nullable;
 
 public class ZipOutputStreams {
 
@@ -42,8 +46,7 @@ public class ZipOutputStreams {
    * @param zipFile The file to write to.
    */
   public static CustomZipOutputStream newOutputStream(Path zipFile) throws IOException {
-    return newOutputStream(
-        new BufferedOutputStream(Files.newOutputStream(zipFile), FILE_BUFFER_SIZE));
+    return newOutputStream(zipFile, HandleDuplicates.THROW_EXCEPTION);
   }
 
   /**
@@ -70,16 +73,16 @@ public class ZipOutputStreams {
    */
   public static CustomZipOutputStream newOutputStream(Path zipFile, HandleDuplicates mode)
       throws IOException {
-
-    return newOutputStream(
-        new BufferedOutputStream(Files.newOutputStream(zipFile), FILE_BUFFER_SIZE), mode);
+    FileChannel channel = openForWriting(zipFile);
+    return new CustomZipOutputStream(
+        newImpl(newBufferedOutputStream(channel), channel, mode, new DefaultClock()));
   }
 
   public static CustomJarOutputStream newJarOutputStream(Path jarFile, HandleDuplicates mode)
       throws IOException {
-
-    return newJarOutputStream(
-        new BufferedOutputStream(Files.newOutputStream(jarFile), FILE_BUFFER_SIZE), mode);
+    FileChannel channel = openForWriting(jarFile);
+    return new CustomJarOutputStream(
+        newImpl(newBufferedOutputStream(channel), channel, mode, new DefaultClock()));
   }
 
   /**
@@ -106,6 +109,19 @@ public class ZipOutputStreams {
     return new CustomZipOutputStream(new SimpleZipOutputStreamImpl(new DefaultClock(), out));
   }
 
+  /**
+   * Create a new {@link CustomZipOutputStream} that outputs to the given {@code zipFile} without
+   * any checks around duplicate entries.
+   *
+   * @param zipFile The file to write to.
+   */
+  public static CustomZipOutputStream newSimpleOutputStream(Path zipFile) throws IOException {
+    FileChannel channel = openForWriting(zipFile);
+    return new CustomZipOutputStream(
+        new SimpleZipOutputStreamImpl(
+            new DefaultClock(), newBufferedOutputStream(channel), channel));
+  }
+
   public static CustomJarOutputStream newJarOutputStream(
       OutputStream out, HandleDuplicates mode, Clock clock) {
     return new CustomJarOutputStream(newImpl(out, mode, clock));
@@ -113,12 +129,37 @@ public class ZipOutputStreams {
 
   protected static CustomZipOutputStream.Impl newImpl(
       OutputStream out, HandleDuplicates mode, Clock clock) {
+    return newImpl(out, null, mode, clock);
+  }
+
+  /**
+   * Files are written through channels, so that entries copied from mapped zips can be written to
+   * the channel directly rather than through the buffered stream.
+   */
+  private static FileChannel openForWriting(Path file) throws IOException {
+    return FileChannel.open(
+        file,
+        StandardOpenOption.CREATE,
+        StandardOpenOption.TRUNCATE_EXISTING,
+        StandardOpenOption.WRITE);
+  }
+
+  private static OutputStream newBufferedOutputStream(WritableByteChannel channel) {
+    return new BufferedOutputStream(Channels.newOutputStream(channel), FILE_BUFFER_SIZE);
+  }
+
+  private static CustomZipOutputStream.Impl newImpl(
+      OutputStream out,
+      @Nullable WritableByteChannel channel,
+      HandleDuplicates mode,
+      Clock clock) {
     CustomZipOutputStream.Impl impl;
     switch (mode) {
       case APPEND_TO_ZIP:
       case THROW_EXCEPTION:
         impl =
-            new AppendingZipOutputStreamImpl(clock, out, mode == HandleDuplicates.THROW_EXCEPTION);
+            new AppendingZipOutputStreamImpl(
+                clock, out, channel, mode == HandleDuplicates.THROW_EXCEPTION);
         break;
       case OVERWRITE_EXISTING:
         impl = new OverwritingZipOutputStreamImpl(clock, out);
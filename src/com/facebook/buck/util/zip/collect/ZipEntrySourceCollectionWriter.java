@@ -20,6 +20,7 @@ import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.io.pathformat.PathFormatter;
 import com.facebook.buck.util.zip.CustomZipEntry;
 import com.facebook.buck.util.zip.CustomZipOutputStream;
+import com.facebook.buck.util.zip.MappedCentralDirectory;
 import com.facebook.buck.util.zip.ZipOutputStreams;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
@@ -27,7 +28,6 @@ import com.google.common.io.ByteStreams;
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -66,8 +66,8 @@ public class ZipEntrySourceCollectionWriter {
                     .put(entry.getEntryName(), entry.getEntryPosition()));
 
     Set<Path> seenFiles = new HashSet<>();
-    try (OutputStream baseOut = projectFilesystem.newFileOutputStream(outputFile);
-        CustomZipOutputStream zip = ZipOutputStreams.newSimpleOutputStream(baseOut)) {
+    try (CustomZipOutputStream zip =
+        ZipOutputStreams.newSimpleOutputStream(projectFilesystem.resolve(outputFile))) {
       for (ZipEntrySource entrySource : collection.getSources()) {
         if (!seenFiles.add(entrySource.getSourceFilePath())) {
           continue;
@@ -124,22 +124,57 @@ public class ZipEntrySourceCollectionWriter {
     out.closeEntry();
   }
 
+  /**
+   * Copies the allowed entries of a zip without recompressing them. Positions are indices in the
+   * central directory, like the ones {@link ZipEntrySourceCollectionBuilder} records.
+   */
   private static void copyZip(
       CustomZipOutputStream out,
       Path from,
       Set<Path> seenFiles,
       Multimap<String, Integer> allowedEntries)
       throws IOException {
+    MappedCentralDirectory source = MappedCentralDirectory.tryMap(from);
+    if (source == null) {
+      streamZip(out, from, seenFiles, allowedEntries);
+      return;
+    }
+    for (int position = 0; position < source.getEntryCount(); position++) {
+      String name = source.getName(position);
+      if (!allowedEntries.containsEntry(name, position)) {
+        continue;
+      }
+      if (name.endsWith("/")) {
+        seenFiles.add(Paths.get(name));
+      }
+      CustomZipEntry entry = new CustomZipEntry(name);
+      // The extra field may hold a timestamp, so set it before scrubbing the time.
+      entry.setExtra(source.getExtra(position));
+      entry.setFakeTime();
+      entry.setComment(source.getComment(position));
+      entry.setExternalAttributes(source.getExternalAttributes(position));
+      out.copyEntry(source, position, entry);
+    }
+  }
+
+  /**
+   * Copies the allowed entries of a zip which can't be mapped by inflating and deflating them
+   * again. Positions are counted in the order entries are stored, which is the central directory
+   * order for any zip written front to back.
+   */
+  private static void streamZip(
+      CustomZipOutputStream out,
+      Path from,
+      Set<Path> seenFiles,
+      Multimap<String, Integer> allowedEntries)
+      throws IOException {
     try (ZipInputStream in =
         new ZipInputStream(new BufferedInputStream(Files.newInputStream(from)))) {
       int position = 0;
       for (ZipEntry entry = in.getNextEntry();
           entry != null;
           entry = in.getNextEntry(), position++) {
-        if (!allowedEntries.containsKey(entry.getName())) {
-          continue;
-        }
-        if (!allowedEntries.get(entry.getName()).contains(position)) {
+        if (!allowedEntries.containsEntry(entry.getName(), position)) {
           continue;
         }
         if (entry.isDirectory()) {
@@ -163,6 +163,19 @@ public class WorkerProcessPool implements Closeable {
       onWorkerProcessReturn.accept(this);
     }
 
+    /** Stops the wrapped worker process, so that the next call to {@link #get()} starts anew. */
+    public synchronized void closeWorkerProcess() {
+      if (workerProcess != null) {
+        try {
+          workerProcess.close();
+        } catch (Exception ex) {
+          LOG.error(ex, "Failed to close worker process; ignoring.");
+        } finally {
+          workerProcess = null;
+        }
+      }
+    }
+
     @Override
     public synchronized void close() {
       isClosed = true;
@@ -211,6 +224,15 @@ public class WorkerProcessPool implements Closeable {
       return get().submitAndWaitForJob(expandedJobArgs);
     }
 
+    /**
+     * Stops the borrowed worker process, for example because the job left it in a state in which
+     * it shouldn't run more jobs. A fresh one is started the next time a job is submitted to it.
+     */
+    public void closeWorkerProcess() {
+      Preconditions.checkState(lifecycle != null, "BorrowedWorker has already been closed.");
+      lifecycle.closeWorkerProcess();
+    }
+
     @VisibleForTesting
     WorkerProcess get() throws IOException {
       Preconditions.checkState(lifecycle != null, "BorrowedWorker has already been closed.");
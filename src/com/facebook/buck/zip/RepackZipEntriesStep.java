@@ -23,6 +23,7 @@ import com.facebook.buck.step.StepExecutionResult;
 import com.facebook.buck.step.StepExecutionResults;
 import com.facebook.buck.util.zip.CustomZipEntry;
 import com.facebook.buck.util.zip.CustomZipOutputStream;
+import com.facebook.buck.util.zip.MappedCentralDirectory;
 import com.facebook.buck.util.zip.ZipCompressionLevel;
 import com.facebook.buck.util.zip.ZipOutputStreams;
 import com.google.common.collect.ImmutableSet;
@@ -91,37 +92,73 @@ public class RepackZipEntriesStep implements Step {
   public StepExecutionResult execute(ExecutionContext context) throws IOException {
     Path inputFile = filesystem.getPathForRelativePath(inputPath);
     Path outputFile = filesystem.getPathForRelativePath(outputPath);
+    MappedCentralDirectory in = MappedCentralDirectory.tryMap(inputFile);
+    try (CustomZipOutputStream out = ZipOutputStreams.newOutputStream(outputFile)) {
+      if (in == null) {
+        streamEntries(inputFile, out);
+      } else {
+        copyEntries(in, out);
+      }
+      return StepExecutionResults.SUCCESS;
+    }
+  }
+
+  private void copyEntries(MappedCentralDirectory in, CustomZipOutputStream out)
+      throws IOException {
+    for (int i = 0; i < in.getEntryCount(); i++) {
+      CustomZipEntry customEntry = new CustomZipEntry(in.getName(i));
+      // The extra field may hold a timestamp, so set it first to keep the time of the header.
+      customEntry.setExtra(in.getExtra(i));
+      customEntry.setTime(in.getTime(i));
+      customEntry.setComment(in.getComment(i));
+      customEntry.setExternalAttributes(in.getExternalAttributes(i));
+      if (!entries.contains(customEntry.getName())) {
+        // Entries which keep their compression are copied without inflating them.
+        out.copyEntry(in, i, customEntry);
+        continue;
+      }
+      customEntry.setCompressionLevel(compressionLevel.getValue());
+      try (InputStream entryIn = in.openInputStream(i)) {
+        writeEntry(out, customEntry, entryIn);
+      }
+    }
+  }
+
+  /** Repacks a zip which can't be mapped by inflating and deflating every entry again. */
+  private void streamEntries(Path inputFile, CustomZipOutputStream out) throws IOException {
     try (ZipInputStream in =
-            new ZipInputStream(new BufferedInputStream(Files.newInputStream(inputFile)));
-        CustomZipOutputStream out = ZipOutputStreams.newOutputStream(outputFile)) {
+        new ZipInputStream(new BufferedInputStream(Files.newInputStream(inputFile)))) {
       for (ZipEntry entry = in.getNextEntry(); entry != null; entry = in.getNextEntry()) {
         CustomZipEntry customEntry = new CustomZipEntry(entry);
         if (entries.contains(customEntry.getName())) {
           customEntry.setCompressionLevel(compressionLevel.getValue());
         }
-
-        InputStream toUse;
-        // If we're using STORED files, we must pre-calculate the CRC.
-        if (customEntry.getMethod() == ZipEntry.STORED) {
-          try (ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
-            ByteStreams.copy(in, bos);
-            byte[] bytes = bos.toByteArray();
-            customEntry.setCrc(Hashing.crc32().hashBytes(bytes).padToLong());
-            customEntry.setSize(bytes.length);
-            customEntry.setCompressedSize(bytes.length);
-            toUse = new ByteArrayInputStream(bytes);
-          }
-        } else {
-          toUse = in;
-        }
-
-        out.putNextEntry(customEntry);
-        ByteStreams.copy(toUse, out);
-        out.closeEntry();
+        writeEntry(out, customEntry, in);
       }
+    }
+  }
 
-      return StepExecutionResults.SUCCESS;
+  private static void writeEntry(
+      CustomZipOutputStream out, CustomZipEntry customEntry, InputStream entryIn)
+      throws IOException {
+    InputStream toUse;
+    // If we're using STORED files, we must pre-calculate the CRC.
+    if (customEntry.getMethod() == ZipEntry.STORED) {
+      try (ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
+        ByteStreams.copy(entryIn, bos);
+        byte[] bytes = bos.toByteArray();
+        customEntry.setCrc(Hashing.crc32().hashBytes(bytes).padToLong());
+        customEntry.setSize(bytes.length);
+        customEntry.setCompressedSize(bytes.length);
+        toUse = new ByteArrayInputStream(bytes);
+      }
+    } else {
+      toUse = entryIn;
     }
+
+    out.putNextEntry(customEntry);
+    ByteStreams.copy(toUse, out);
+    out.closeEntry();
   }
 
   @Override
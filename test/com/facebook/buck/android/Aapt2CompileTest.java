@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import com.facebook.buck.step.TestExecutionContext;
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.facebook.buck.util.environment.Platform;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.io.ByteStreams;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class Aapt2CompileTest {
+  /** Compiles files by copying them to where aapt2 would write them, and logs its arguments. */
+  private static final String FAKE_AAPT2 =
+      "#!/bin/sh\n"
+          + "echo \"$@\" >> aapt2.log\n"
+          + "while [ \"$1\" != \"-o\" ]; do shift; done\n"
+          + "out=$2\n"
+          + "shift 2\n"
+          + "for f in \"$@\"; do\n"
+          + "  dir=$(basename $(dirname $f))\n"
+          + "  name=$(basename $f)\n"
+          + "  case $dir in values*) case $name in *.xml) name=${name%%.*}.arsc;; esac;; esac\n"
+          + "  cp $f $out/${dir}_${name}.flat\n"
+          + "done\n";
+
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
+  private ProjectFilesystem filesystem;
+  private Path aapt2;
+
+  @Before
+  public void setUp() throws IOException {
+    assumeTrue(Platform.detect() != Platform.WINDOWS);
+    filesystem = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
+    aapt2 = tmp.getRoot().resolve("aapt2");
+    Files.write(aapt2, FAKE_AAPT2.getBytes(StandardCharsets.UTF_8));
+    assertTrue(aapt2.toFile().setExecutable(true));
+
+    writeResource("res/drawable-hdpi/icon.png", "icon");
+    writeResource("res/layout/main.xml", "main");
+    writeResource("res/values-en/strings.xml", "strings");
+    writeResource("res/values/.hidden.xml", "hidden");
+    writeResource("res/_ignored/file.xml", "ignored");
+  }
+
+  @Test
+  public void resourceFilesAndOutputNamesMatchAapt2() throws IOException {
+    assertEquals(
+        ImmutableSortedSet.of(
+            Paths.get("drawable-hdpi/icon.png"),
+            Paths.get("layout/main.xml"),
+            Paths.get("values-en/strings.xml")),
+        Aapt2Compile.CachingAapt2CompileStep.listResourceFiles(filesystem.resolve("res")));
+    assertEquals(
+        "drawable-hdpi_icon.9.png.flat",
+        Aapt2Compile.CachingAapt2CompileStep.getOutputName(Paths.get("drawable-hdpi/icon.9.png")));
+    assertEquals(
+        "values-en_strings.arsc.flat",
+        Aapt2Compile.CachingAapt2CompileStep.getOutputName(Paths.get("values-en/strings.xml")));
+  }
+
+  @Test
+  public void onlyChangedFilesAreCompiledAgain() throws Exception {
+    compile("first.flata");
+    assertEquals(
+        ImmutableMap.of(
+            "drawable-hdpi_icon.png.flat", "icon",
+            "layout_main.xml.flat", "main",
+            "values-en_strings.arsc.flat", "strings"),
+        readArchive("first.flata"));
+    assertEquals(
+        ImmutableList.of(
+            "compile -o OUT res/drawable-hdpi/icon.png res/layout/main.xml"
+                + " res/values-en/strings.xml"),
+        readLog());
+
+    writeResource("res/layout/main.xml", "changed");
+    compile("second.flata");
+    assertEquals(
+        ImmutableMap.of(
+            "drawable-hdpi_icon.png.flat", "icon",
+            "layout_main.xml.flat", "changed",
+            "values-en_strings.arsc.flat", "strings"),
+        readArchive("second.flata"));
+    assertEquals("compile -o OUT res/layout/main.xml", readLog().get(1));
+
+    compile("third.flata");
+    assertEquals(2, readLog().size());
+  }
+
+  @Test
+  public void outputsOfChangedFilesAreRemovedFromTheCache() throws Exception {
+    compile("first.flata");
+    writeResource("res/layout/main.xml", "changed");
+    Files.delete(filesystem.resolve("res/values-en/strings.xml"));
+    compile("second.flata");
+
+    ImmutableSortedSet.Builder<String> cached = ImmutableSortedSet.naturalOrder();
+    Path cacheDir = Aapt2Compile.CachingAapt2CompileStep.getCacheDir(filesystem);
+    try (Stream<Path> files = Files.walk(filesystem.resolve(cacheDir))) {
+      for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+        cached.add(new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+      }
+    }
+    assertEquals(ImmutableSortedSet.of("changed", "icon"), cached.build());
+  }
+
+  @Test
+  public void eachToolHasItsOwnCache() throws Exception {
+    Path otherAapt2 = tmp.getRoot().resolve("other-aapt2");
+    Files.write(otherAapt2, (FAKE_AAPT2 + "# other\n").getBytes(StandardCharsets.UTF_8));
+    assertTrue(otherAapt2.toFile().setExecutable(true));
+
+    compile("first.flata");
+    compile("second.flata", otherAapt2);
+    assertEquals(2, readLog().size());
+
+    // Compiling with the other aapt2 left the outputs of the first one alone.
+    compile("third.flata");
+    assertEquals(2, readLog().size());
+    assertEquals(readArchive("first.flata"), readArchive("third.flata"));
+  }
+
+  private void compile(String output) throws Exception {
+    compile(output, aapt2);
+  }
+
+  private void compile(String output, Path tool) throws Exception {
+    assertTrue(
+        new Aapt2Compile.CachingAapt2CompileStep(
+                filesystem,
+                ImmutableList.of(tool.toString()),
+                Paths.get("res"),
+                Paths.get(output),
+                false,
+                true)
+            .execute(TestExecutionContext.newInstanceWithRealProcessExecutor())
+            .isSuccess());
+  }
+
+  private void writeResource(String path, String contents) throws IOException {
+    filesystem.mkdirs(Paths.get(path).getParent());
+    filesystem.writeContentsToPath(contents, Paths.get(path));
+  }
+
+  /** The temporary directories aapt2 writes to differ, so they are masked in the log. */
+  private ImmutableList<String> readLog() throws IOException {
+    return filesystem.readLines(Paths.get("aapt2.log")).stream()
+        .map(line -> line.replaceAll("-o \\S+", "-o OUT"))
+        .collect(ImmutableList.toImmutableList());
+  }
+
+  private ImmutableMap<String, String> readArchive(String archive) throws IOException {
+    ImmutableMap.Builder<String, String> entries = ImmutableMap.builder();
+    try (ZipFile zip = new ZipFile(filesystem.resolve(archive).toFile())) {
+      for (ZipEntry entry : Collections.list(zip.entries())) {
+        entries.put(
+            entry.getName(),
+            new String(ByteStreams.toByteArray(zip.getInputStream(entry)), StandardCharsets.UTF_8));
+      }
+    }
+    return entries.build();
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.android.toolchain.AndroidSdkLocation;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import com.facebook.buck.step.TestExecutionContext;
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.facebook.buck.testutil.integration.TestDataHelper;
+import com.facebook.buck.util.zip.MappedCentralDirectory;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class ApkBuilderStepTest {
+  private static final ImmutableMap<String, Integer> STORED_ENTRIES =
+      ImmutableMap.of("a", 1, "assets/bc", 3, "lib/x86/libd.so", 7, "resources.arsc", 10);
+
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
+  private ProjectFilesystem filesystem;
+  private Supplier<KeystoreProperties> keystoreProperties;
+
+  @Before
+  public void setUp() throws IOException {
+    filesystem = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
+    Files.copy(
+        TestDataHelper.getTestDataDirectory(this).resolve("ndk_toolchain/debug.keystore"),
+        tmp.getRoot().resolve("debug.keystore"));
+    keystoreProperties =
+        () -> new KeystoreProperties(Paths.get("debug.keystore"), "android", "android", "my_alias");
+    filesystem.writeContentsToPath("dex", Paths.get("classes.dex"));
+
+    // Write the uncompressed entries of the resource APK without aligning them.
+    try (OutputStream stream = filesystem.newFileOutputStream(Paths.get("resources.apk"));
+        ZipOutputStream zip = new ZipOutputStream(stream)) {
+      zip.putNextEntry(new ZipEntry("AndroidManifest.xml"));
+      zip.write(new byte[] {1, 2, 3});
+      for (Map.Entry<String, Integer> entry : STORED_ENTRIES.entrySet()) {
+        byte[] data = new byte[entry.getValue()];
+        ZipEntry zipEntry = new ZipEntry(entry.getKey());
+        zipEntry.setMethod(ZipEntry.STORED);
+        zipEntry.setSize(data.length);
+        zipEntry.setCrc(Hashing.crc32().hashBytes(data).padToLong());
+        zip.putNextEntry(zipEntry);
+        zip.write(data);
+      }
+    }
+  }
+
+  @Test
+  public void signedApkIsAlignedWithoutZipaligningIt() throws Exception {
+    buildApk(ImmutableSet.of());
+    assertTrue(
+        new ApkSignerStep(
+                filesystem,
+                Paths.get("unsigned.apk"),
+                Paths.get("signed.apk"),
+                keystoreProperties,
+                // The manifest isn't real, so apksigner can't read the minimum SDK version from it.
+                true)
+            .execute(TestExecutionContext.newInstance())
+            .isSuccess());
+
+    for (String apk : ImmutableList.of("unsigned.apk", "signed.apk")) {
+      MappedCentralDirectory directory = MappedCentralDirectory.map(filesystem.resolve(apk));
+      Map<String, Long> misalignments = new HashMap<>();
+      for (int i = 0; i < directory.getEntryCount(); i++) {
+        if (STORED_ENTRIES.containsKey(directory.getName(i))) {
+          misalignments.put(directory.getName(i), directory.getDataOffset(i) % 4);
+        }
+      }
+      assertEquals(
+          ImmutableMap.of("a", 0L, "assets/bc", 0L, "lib/x86/libd.so", 0L, "resources.arsc", 0L),
+          misalignments);
+    }
+  }
+
+  @Test
+  public void entriesToCompressAreCompressed() throws Exception {
+    buildApk(ImmutableSet.of("resources.arsc"));
+    try (ZipFile zip = new ZipFile(filesystem.resolve("unsigned.apk").toFile())) {
+      assertEquals(ZipEntry.DEFLATED, zip.getEntry("resources.arsc").getMethod());
+      assertEquals(ZipEntry.STORED, zip.getEntry("assets/bc").getMethod());
+    }
+  }
+
+  private void buildApk(ImmutableSet<String> entriesToCompress) throws Exception {
+    Path sdk = tmp.newFolder("sdk");
+    assertTrue(
+        new ApkBuilderStep(
+                filesystem,
+                Paths.get("resources.apk"),
+                Paths.get("unsigned.apk"),
+                Paths.get("classes.dex"),
+                ImmutableSet.of(),
+                ImmutableSet.of(),
+                ImmutableSet.of(),
+                ImmutableSet.of(),
+                Paths.get("debug.keystore"),
+                keystoreProperties,
+                false,
+                entriesToCompress,
+                ImmutableList.of("java"),
+                AndroidSdkLocation.of(sdk))
+            .execute(TestExecutionContext.newInstance())
+            .isSuccess());
+  }
+}
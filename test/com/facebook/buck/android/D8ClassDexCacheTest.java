@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import com.android.tools.r8.ByteDataView;
+import com.android.tools.r8.CompilationFailedException;
+import com.android.tools.r8.DexFilePerClassFileConsumer;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+
+public class D8ClassDexCacheTest {
+  private static final HashCode OPTIONS = Hashing.sha1().hashInt(1);
+
+  private D8ClassDexCache cache;
+  private List<String> converted;
+
+  @Before
+  public void setUp() {
+    cache = new D8ClassDexCache(CacheBuilder.newBuilder().build());
+    converted = new ArrayList<>();
+  }
+
+  @Test
+  public void onlyClassesWhichChangedAreConvertedAgain() throws CompilationFailedException {
+    byte[] a = classFile("A", "java/lang/Object", 1);
+    byte[] b = classFile("B", "java/lang/Object", 1);
+    byte[] changedB = classFile("B", "java/lang/Object", 2);
+
+    ImmutableList<byte[]> dex = cache.getDex(ImmutableList.of(b, a), OPTIONS, false, this::fake);
+    assertEquals(ImmutableList.of("A", "B"), converted);
+    assertEquals(2, dex.size());
+    assertArrayEquals(a, dex.get(0));
+
+    converted.clear();
+    dex = cache.getDex(ImmutableList.of(a, changedB), OPTIONS, false, this::fake);
+    assertEquals(ImmutableList.of("B"), converted);
+    assertArrayEquals(changedB, dex.get(1));
+
+    converted.clear();
+    cache.getDex(ImmutableList.of(a, changedB), Hashing.sha1().hashInt(2), false, this::fake);
+    assertEquals(ImmutableList.of("A", "B"), converted);
+  }
+
+  @Test
+  public void desugaredClassesAreConvertedAgainWhenTheirHierarchyChanges()
+      throws CompilationFailedException {
+    byte[] base = classFile("Base", "java/lang/Object", 1);
+    byte[] derived = classFile("Derived", "Base", 1);
+    byte[] other = classFile("Other", "java/lang/Object", 1);
+    byte[] changedBase = classFile("Base", "java/lang/Object", 2);
+
+    cache.getDex(ImmutableList.of(base, derived, other), OPTIONS, true, this::fake);
+    converted.clear();
+    cache.getDex(ImmutableList.of(changedBase, derived, other), OPTIONS, true, this::fake);
+    assertEquals(ImmutableList.of("Base", "Derived"), converted);
+
+    byte[] iface = interfaceFile("I");
+    converted.clear();
+    cache.getDex(ImmutableList.of(changedBase, derived, other, iface), OPTIONS, true, this::fake);
+    assertEquals(ImmutableList.of("Base", "Derived", "I", "Other"), converted);
+  }
+
+  /** "Converts" classes by writing their class file as their dex. */
+  private void fake(List<byte[]> classFiles, DexFilePerClassFileConsumer consumer) {
+    for (byte[] classFile : classFiles) {
+      String name = new ClassReader(classFile).getClassName();
+      converted.add(name);
+      consumer.accept("L" + name + ";", ByteDataView.of(classFile), null, null);
+    }
+    converted.sort(String::compareTo);
+  }
+
+  private static byte[] classFile(String name, String superName, int version) {
+    ClassWriter writer = new ClassWriter(0);
+    writer.visit(Opcodes.V1_7, Opcodes.ACC_PUBLIC, name, null, superName, null);
+    writer.visitField(Opcodes.ACC_PUBLIC, "field" + version, "I", null, null).visitEnd();
+    writer.visitEnd();
+    return writer.toByteArray();
+  }
+
+  private static byte[] interfaceFile(String name) {
+    ClassWriter writer = new ClassWriter(0);
+    writer.visit(
+        Opcodes.V1_7,
+        Opcodes.ACC_PUBLIC | Opcodes.ACC_INTERFACE | Opcodes.ACC_ABSTRACT,
+        name,
+        null,
+        "java/lang/Object",
+        null);
+    writer.visitEnd();
+    return writer.toByteArray();
+  }
+}
@@ -19,12 +19,14 @@ package com.facebook.buck.android;
 import com.android.ddmlib.InstallException;
 import com.facebook.buck.android.exopackage.AndroidDevice;
 import com.facebook.buck.android.exopackage.PackageInfo;
+import com.facebook.buck.util.types.Pair;
 import com.google.common.collect.ImmutableSortedSet;
 import java.io.File;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
 
 public class DelegatingAndroidDevice implements AndroidDevice {
   private final AndroidDevice delegate;
@@ -84,6 +86,22 @@ public class DelegatingAndroidDevice implements AndroidDevice {
     delegate.mkDirP(dirpath);
   }
 
+  @Override
+  public Optional<String> readFile(Path path) throws Exception {
+    return delegate.readFile(path);
+  }
+
+  @Override
+  public Pair<Optional<String>, OptionalInt> readFileAndCountFiles(Path path, Path dirPath)
+      throws Exception {
+    return delegate.readFileAndCountFiles(path, dirPath);
+  }
+
+  @Override
+  public void writeFile(Path path, String line) throws Exception {
+    delegate.writeFile(path, line);
+  }
+
   @Override
   public String getProperty(String name) throws Exception {
     return delegate.getProperty(name);
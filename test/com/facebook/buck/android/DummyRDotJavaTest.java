@@ -92,7 +92,8 @@ public class DummyRDotJavaTest {
             Optional.empty(),
             Optional.of("R2"),
             /* useOldStyleableFormat */ false,
-            /* skipNonUnionRDotJava */ false);
+            /* skipNonUnionRDotJava */ false,
+            /* assignResourceIdsIncrementally */ false);
 
     FakeBuildableContext buildableContext = new FakeBuildableContext();
     List<Step> steps = dummyRDotJava.getBuildSteps(FakeBuildContext.NOOP_CONTEXT, buildableContext);
@@ -183,7 +184,8 @@ public class DummyRDotJavaTest {
             Optional.empty(),
             Optional.empty(),
             /* useOldStyleableFormat */ false,
-            /* skipNonUnionRDotJava */ false);
+            /* skipNonUnionRDotJava */ false,
+            /* assignResourceIdsIncrementally */ false);
     assertEquals(
         BuildTargetPaths.getScratchPath(
             dummyRDotJava.getProjectFilesystem(),
@@ -192,6 +194,29 @@ public class DummyRDotJavaTest {
         dummyRDotJava.getRDotJavaBinFolder());
   }
 
+  @Test
+  public void rulesAssigningResourceIdsIncrementallyAreNotCached() {
+    SourcePathRuleFinder ruleFinder = new TestActionGraphBuilder();
+    BuildTarget buildTarget = BuildTargetFactory.newInstance("//java/com/example:library");
+    for (boolean assignResourceIdsIncrementally : new boolean[] {false, true}) {
+      DummyRDotJava dummyRDotJava =
+          new DummyRDotJava(
+              buildTarget,
+              new FakeProjectFilesystem(),
+              ruleFinder,
+              ImmutableSet.of(),
+              new JavacToJarStepFactory(
+                  DEFAULT_JAVAC, ANDROID_JAVAC_OPTIONS, ExtraClasspathProvider.EMPTY),
+              /* forceFinalResourceIds */ false,
+              Optional.empty(),
+              Optional.empty(),
+              /* useOldStyleableFormat */ false,
+              /* skipNonUnionRDotJava */ false,
+              assignResourceIdsIncrementally);
+      assertEquals(!assignResourceIdsIncrementally, dummyRDotJava.isCacheable());
+    }
+  }
+
   private static ImmutableList<String> makeCleanDirDescription(Path dirname) {
     return ImmutableList.of(
         String.format("rm -f -r %s", dirname), String.format("mkdir -p %s", dirname));
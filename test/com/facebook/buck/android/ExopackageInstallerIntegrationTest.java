@@ -22,6 +22,7 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assume.assumeTrue;
 
 import com.android.common.SdkConstants;
+import com.facebook.buck.android.exopackage.ExopackageDeviceManifest;
 import com.facebook.buck.android.exopackage.ExopackageInfo;
 import com.facebook.buck.android.exopackage.ExopackageInfo.DexInfo;
 import com.facebook.buck.android.exopackage.ExopackageInstaller;
@@ -222,6 +223,33 @@ public class ExopackageInstallerIntegrationTest {
     checkExoInstall(0, 0, 0, 0, 0);
   }
 
+  @Test
+  public void testExoNoopReinstallDoesNotListTheDevice() throws Exception {
+    setDefaultFullBuildState();
+
+    checkExoInstall(1, 2, 2, 3, 2);
+    assertEquals(1, device.getDirectoryListings());
+    checkExoInstall(0, 0, 0, 0, 0);
+    assertEquals(0, device.getDirectoryListings());
+  }
+
+  @Test
+  public void testExoReinstallAfterTheDeviceChangedListsItAgain() throws Exception {
+    setDefaultFullBuildState();
+
+    checkExoInstall(1, 2, 2, 3, 2);
+    // Something else installs to the device, which replaces the token.
+    testDevice.writeFile(ExopackageDeviceManifest.TOKEN_PATH, "other");
+    testDevice.rmFiles(
+        INSTALL_ROOT.resolve("secondary-dex").toString(),
+        testDevice.listDirRecursive(INSTALL_ROOT.resolve("secondary-dex")).stream()
+            .map(Path::toString)
+            .collect(ImmutableList.toImmutableList()));
+
+    checkExoInstall(0, 2, 0, 0, 0);
+    assertEquals(1, device.getDirectoryListings());
+  }
+
   private void setDefaultFullBuildState() {
     currentBuildState =
         new ExoState(
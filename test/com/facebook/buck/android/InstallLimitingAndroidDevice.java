@@ -26,6 +26,7 @@ import com.facebook.buck.android.exopackage.NativeExoHelper;
 import com.facebook.buck.android.exopackage.ResourcesExoHelper;
 import com.facebook.buck.android.exopackage.TestAndroidDevice;
 import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableSortedSet;
 import java.io.File;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -47,6 +48,7 @@ class InstallLimitingAndroidDevice extends DelegatingAndroidDevice {
   private List<Path> installedLibs;
   private List<Path> installedResources;
   private List<Path> installedModules;
+  private int directoryListings;
 
   private final Path apkPath;
   private final Path agentApkPath;
@@ -137,6 +139,17 @@ class InstallLimitingAndroidDevice extends DelegatingAndroidDevice {
     }
   }
 
+  @Override
+  public ImmutableSortedSet<Path> listDirRecursive(Path dirPath) throws Exception {
+    directoryListings++;
+    return super.listDirRecursive(dirPath);
+  }
+
+  /** @return how many times directories were listed since the install counts were set. */
+  public int getDirectoryListings() {
+    return directoryListings;
+  }
+
   @Override
   public void installFiles(String filesType, Map<Path, Path> installPaths) throws Exception {
     for (Map.Entry<Path, Path> entry : installPaths.entrySet()) {
@@ -162,6 +175,7 @@ class InstallLimitingAndroidDevice extends DelegatingAndroidDevice {
     installedLibs.clear();
     installedResources.clear();
     installedModules.clear();
+    directoryListings = 0;
   }
 
   public void assertExpectedInstallsAreConsumed() {
@@ -52,6 +52,7 @@ import com.google.common.collect.SortedSetMultimap;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.HashSet;
@@ -328,7 +329,8 @@ public class MergeAndroidResourcesStepTest {
             /* unionPackage */ Optional.empty(),
             /* rName */ Optional.empty(),
             /* useOldStyleableFormat */ false,
-            /* skipNonUnionRDotJava */ false);
+            /* skipNonUnionRDotJava */ false,
+            /* resourceIdsPath */ Optional.empty());
 
     ExecutionContext executionContext = TestExecutionContext.newInstance();
 
@@ -340,6 +342,120 @@ public class MergeAndroidResourcesStepTest {
         CoreMatchers.containsString("{\n    public static int id1=0x07f01001;"));
   }
 
+  @Test
+  public void testIncrementalMergeKeepsResourceIdsAndOnlyChangesAffectedRDotJava()
+      throws Exception {
+    FakeProjectFilesystem filesystem = new FakeProjectFilesystem();
+    ActionGraphBuilder graphBuilder = new TestActionGraphBuilder();
+    BuildTarget res1Target = BuildTargetFactory.newInstance("//:res1");
+    BuildTarget res2Target = BuildTargetFactory.newInstance("//:res2");
+    Path res1Symbols =
+        BuildTargetPaths.getGenPath(filesystem, res1Target, "__%s_text_symbols__/R.txt");
+    Path res2Symbols =
+        BuildTargetPaths.getGenPath(filesystem, res2Target, "__%s_text_symbols__/R.txt");
+    filesystem.writeLinesToPath(
+        ImmutableList.of("int id id1 0x7f020000", "int id id2 0x7f020001"), res1Symbols);
+    filesystem.writeLinesToPath(ImmutableList.of("int string string1 0x7f030000"), res2Symbols);
+
+    ImmutableList.Builder<HasAndroidResourceDeps> resources = ImmutableList.builder();
+    for (BuildTarget target : ImmutableList.of(res1Target, res2Target)) {
+      AndroidResource resource =
+          AndroidResourceRuleBuilder.newBuilder()
+              .setRuleFinder(graphBuilder)
+              .setBuildTarget(target)
+              .setRes(FakeSourcePath.of("res"))
+              .setRDotJavaPackage("com." + target.getShortName())
+              .build();
+      graphBuilder.addToIndex(resource);
+      resources.add(resource);
+    }
+
+    MergeAndroidResourcesStep mergeStep =
+        MergeAndroidResourcesStep.createStepForDummyRDotJava(
+            filesystem,
+            graphBuilder.getSourcePathResolver(),
+            resources.build(),
+            Paths.get("output"),
+            /* forceFinalResourceIds */ false,
+            /* unionPackage */ Optional.empty(),
+            /* rName */ Optional.empty(),
+            /* useOldStyleableFormat */ false,
+            /* skipNonUnionRDotJava */ false,
+            /* resourceIdsPath */ Optional.of(Paths.get("ids/R.txt")));
+    ExecutionContext executionContext = TestExecutionContext.newInstance();
+
+    assertEquals(0, mergeStep.execute(executionContext).getExitCode());
+    Path res2RDotJava = Paths.get("output/com/res2/R.java");
+    String res2Contents = filesystem.readFileIfItExists(res2RDotJava).get();
+    assertThat(res2Contents, CoreMatchers.containsString("public static int string1=0x07f01003;"));
+    filesystem.setLastModifiedTime(res2RDotJava, FileTime.fromMillis(1234567));
+
+    // A new resource in the first library would shift the IDs of all resources after it.
+    filesystem.writeLinesToPath(
+        ImmutableList.of(
+            "int id id0 0x7f020000", "int id id1 0x7f020001", "int id id2 0x7f020002"),
+        res1Symbols);
+    assertEquals(0, mergeStep.execute(executionContext).getExitCode());
+
+    String res1Contents = filesystem.readFileIfItExists(Paths.get("output/com/res1/R.java")).get();
+    assertThat(res1Contents, CoreMatchers.containsString("public static int id0=0x07f01004;"));
+    assertThat(res1Contents, CoreMatchers.containsString("public static int id1=0x07f01001;"));
+    assertThat(res1Contents, CoreMatchers.containsString("public static int id2=0x07f01002;"));
+    assertEquals(res2Contents, filesystem.readFileIfItExists(res2RDotJava).get());
+    assertEquals(FileTime.fromMillis(1234567), filesystem.getLastModifiedTime(res2RDotJava));
+  }
+
+  @Test
+  public void testDamagedResourceIdsAreDiscarded() throws Exception {
+    FakeProjectFilesystem filesystem = new FakeProjectFilesystem();
+    ActionGraphBuilder graphBuilder = new TestActionGraphBuilder();
+    BuildTarget target = BuildTargetFactory.newInstance("//:res");
+    filesystem.writeLinesToPath(
+        ImmutableList.of("int id id1 0x7f020000", "int id id2 0x7f020001"),
+        BuildTargetPaths.getGenPath(filesystem, target, "__%s_text_symbols__/R.txt"));
+    AndroidResource resource =
+        AndroidResourceRuleBuilder.newBuilder()
+            .setRuleFinder(graphBuilder)
+            .setBuildTarget(target)
+            .setRes(FakeSourcePath.of("res"))
+            .setRDotJavaPackage("com.res")
+            .build();
+    graphBuilder.addToIndex(resource);
+
+    Path resourceIds = Paths.get("ids/R.txt");
+    MergeAndroidResourcesStep mergeStep =
+        MergeAndroidResourcesStep.createStepForDummyRDotJava(
+            filesystem,
+            graphBuilder.getSourcePathResolver(),
+            ImmutableList.of(resource),
+            Paths.get("output"),
+            /* forceFinalResourceIds */ false,
+            /* unionPackage */ Optional.empty(),
+            /* rName */ Optional.empty(),
+            /* useOldStyleableFormat */ false,
+            /* skipNonUnionRDotJava */ false,
+            /* resourceIdsPath */ Optional.of(resourceIds));
+    ExecutionContext executionContext = TestExecutionContext.newInstance();
+    Path rDotJava = Paths.get("output/com/res/R.java");
+
+    for (String damaged :
+        ImmutableList.of(
+            "int id id1 0x7f011000\nint id id2 0x7f01",
+            "int id id1 0x7f011000\nint id id2 0x7f011000\n",
+            "int id id1 0x7f011000\nnot a resource\n")) {
+      filesystem.writeContentsToPath(damaged, resourceIds);
+
+      assertEquals(0, mergeStep.execute(executionContext).getExitCode());
+
+      String contents = filesystem.readFileIfItExists(rDotJava).get();
+      assertThat(contents, CoreMatchers.containsString("public static int id1=0x07f01001;"));
+      assertThat(contents, CoreMatchers.containsString("public static int id2=0x07f01002;"));
+      assertEquals(
+          Optional.of("int id id1 0x07f01001\nint id id2 0x07f01002\n"),
+          filesystem.readFileIfItExists(resourceIds));
+    }
+  }
+
   @Test
   public void testGenerateRDotJavaForOneSymbolsFile() throws Exception {
     BuildTarget target = BuildTargetFactory.newInstance("//android_res/com/facebook/http:res");
@@ -395,7 +511,8 @@ public class MergeAndroidResourcesStepTest {
             /* unionPackage */ Optional.empty(),
             /* rName */ Optional.empty(),
             /* useOldStyleableFormat */ false,
-            /* skipNonUnionRDotJava */ false);
+            /* skipNonUnionRDotJava */ false,
+            /* resourceIdsPath */ Optional.empty());
 
     ExecutionContext executionContext = TestExecutionContext.newInstance();
 
@@ -478,7 +595,8 @@ public class MergeAndroidResourcesStepTest {
             /* unionPackage */ Optional.empty(),
             /* rName */ Optional.empty(),
             /* useOldStyleableFormat */ false,
-            /* skipNonUnionRDotJava */ false);
+            /* skipNonUnionRDotJava */ false,
+            /* resourceIdsPath */ Optional.empty());
 
     ExecutionContext executionContext = TestExecutionContext.newInstance();
 
@@ -541,7 +659,8 @@ public class MergeAndroidResourcesStepTest {
             Optional.of("com.package"),
             /* rName */ Optional.empty(),
             /* useOldStyleableFormat */ false,
-            /* skipNonUnionRDotJava */ true);
+            /* skipNonUnionRDotJava */ true,
+            /* resourceIdsPath */ Optional.empty());
 
     ImmutableSortedSet<Path> rDotJavaFiles = mergeStep.getRDotJavaFiles();
     assertEquals(rDotJavaFiles.size(), 1);
@@ -592,7 +711,8 @@ public class MergeAndroidResourcesStepTest {
             Optional.of("com.package"),
             /* rName */ Optional.empty(),
             /* useOldStyleableFormat */ false,
-            /* skipNonUnionRDotJava */ false);
+            /* skipNonUnionRDotJava */ false,
+            /* resourceIdsPath */ Optional.empty());
 
     ImmutableSortedSet<Path> rDotJavaFiles = mergeStep.getRDotJavaFiles();
     assertEquals(rDotJavaFiles.size(), 3);
@@ -660,7 +780,8 @@ public class MergeAndroidResourcesStepTest {
             Optional.of("res"),
             /* rName */ Optional.empty(),
             /* useOldStyleableFormat */ false,
-            /* skipNonUnionRDotJava */ true);
+            /* skipNonUnionRDotJava */ true,
+            /* resourceIdsPath */ Optional.empty());
 
     ExecutionContext executionContext = TestExecutionContext.newInstance();
 
@@ -728,7 +849,8 @@ public class MergeAndroidResourcesStepTest {
             Optional.of("res1"),
             /* rName */ Optional.empty(),
             /* useOldStyleableFormat */ false,
-            /* skipNonUnionRDotJava */ false);
+            /* skipNonUnionRDotJava */ false,
+            /* resourceIdsPath */ Optional.empty());
 
     ExecutionContext executionContext = TestExecutionContext.newInstance();
 
@@ -775,7 +897,8 @@ public class MergeAndroidResourcesStepTest {
             Optional.of("resM"),
             /* rName */ Optional.empty(),
             /* useOldStyleableFormat */ false,
-            /* skipNonUnionRDotJava */ false);
+            /* skipNonUnionRDotJava */ false,
+            /* resourceIdsPath */ Optional.empty());
 
     ExecutionContext executionContext = TestExecutionContext.newInstance();
 
@@ -822,7 +945,8 @@ public class MergeAndroidResourcesStepTest {
             Optional.of("res1"),
             Optional.of("R2"),
             /* useOldStyleableFormat */ false,
-            /* skipNonUnionRDotJava */ false);
+            /* skipNonUnionRDotJava */ false,
+            /* resourceIdsPath */ Optional.empty());
 
     ExecutionContext executionContext = TestExecutionContext.newInstance();
 
@@ -946,7 +1070,8 @@ public class MergeAndroidResourcesStepTest {
             Optional.empty(),
             Optional.empty(),
             /* useOldStyleableFormat */ false,
-            false);
+            false,
+            /* resourceIdsPath */ Optional.empty());
 
     StepExecutionResult result = mergeStep.execute(TestExecutionContext.newInstance());
     String message = result.getStderr().orElse("");
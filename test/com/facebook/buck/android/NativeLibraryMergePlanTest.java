@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.BuildTargetFactory;
+import com.facebook.buck.core.model.targetgraph.TargetGraph;
+import com.facebook.buck.core.model.targetgraph.TargetGraphFactory;
+import com.facebook.buck.core.rules.ActionGraphBuilder;
+import com.facebook.buck.core.rules.resolver.impl.TestActionGraphBuilder;
+import com.facebook.buck.cxx.CxxLibraryBuilder;
+import com.facebook.buck.cxx.toolchain.CxxPlatformUtils;
+import com.facebook.buck.cxx.toolchain.nativelink.NativeLinkable;
+import com.facebook.buck.cxx.toolchain.nativelink.NativeLinkableGroup;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import org.junit.Test;
+
+public class NativeLibraryMergePlanTest {
+  private static final BuildTarget A = BuildTargetFactory.newInstance("//native:a");
+  private static final BuildTarget B = BuildTargetFactory.newInstance("//native:b");
+  private static final BuildTarget C = BuildTargetFactory.newInstance("//native:c");
+
+  private static final TargetGraph TARGET_GRAPH =
+      TargetGraphFactory.newInstance(
+          new CxxLibraryBuilder(A).setDeps(ImmutableSortedSet.of(B)).build(),
+          new CxxLibraryBuilder(B).setDeps(ImmutableSortedSet.of(C)).build(),
+          new CxxLibraryBuilder(C).build());
+
+  @Test
+  public void mergedLibrariesAreOrderedAfterTheirDeps() {
+    ActionGraphBuilder graphBuilder = new TestActionGraphBuilder(TARGET_GRAPH);
+    ImmutableList<NativeLinkable> linkables = getLinkables(graphBuilder);
+
+    NativeLibraryMergePlan plan =
+        NativeLibraryMergePlan.get(
+            BuildTargetFactory.newInstance("//app:app"),
+            graphBuilder,
+            mergeMap(),
+            linkables,
+            ImmutableSet.of());
+
+    assertEquals(
+        ImmutableList.of("no-merge://native:c", "merge:libab.so"),
+        plan.getOrderedConstituents().stream()
+            .map(Object::toString)
+            .collect(ImmutableList.toImmutableList()));
+    assertEquals(
+        ImmutableSet.of(linkables.get(0), linkables.get(1)),
+        plan.getOrderedConstituents().get(1).getLinkables());
+  }
+
+  @Test
+  public void plansAreSharedBetweenBinariesWithTheSameNativeInputs() {
+    ActionGraphBuilder graphBuilder = new TestActionGraphBuilder(TARGET_GRAPH);
+    ImmutableList<NativeLinkable> linkables = getLinkables(graphBuilder);
+    NativeLibraryMergePlan plan =
+        NativeLibraryMergePlan.get(
+            BuildTargetFactory.newInstance("//app:app"),
+            graphBuilder,
+            mergeMap(),
+            linkables,
+            ImmutableSet.of());
+
+    assertSame(
+        plan,
+        NativeLibraryMergePlan.get(
+            BuildTargetFactory.newInstance("//app:other_app"),
+            graphBuilder,
+            mergeMap(),
+            getLinkables(graphBuilder),
+            ImmutableSet.of()));
+    assertNotSame(
+        plan,
+        NativeLibraryMergePlan.get(
+            BuildTargetFactory.newInstance("//app:app"),
+            graphBuilder,
+            ImmutableMap.of("libab.so", ImmutableList.of(Pattern.compile("//native:b"))),
+            linkables,
+            ImmutableSet.of()));
+
+    ActionGraphBuilder otherGraphBuilder = new TestActionGraphBuilder(TARGET_GRAPH);
+    assertNotSame(
+        plan,
+        NativeLibraryMergePlan.get(
+            BuildTargetFactory.newInstance("//app:app"),
+            otherGraphBuilder,
+            mergeMap(),
+            getLinkables(otherGraphBuilder),
+            ImmutableSet.of()));
+  }
+
+  /** Patterns are compiled again for each binary, as they are for each android_binary. */
+  private static Map<String, List<Pattern>> mergeMap() {
+    return ImmutableMap.of(
+        "libab.so", ImmutableList.of(Pattern.compile("//native:a"), Pattern.compile(":b$")));
+  }
+
+  private static ImmutableList<NativeLinkable> getLinkables(ActionGraphBuilder graphBuilder) {
+    return ImmutableList.of(A, B, C).stream()
+        .map(
+            target ->
+                ((NativeLinkableGroup) graphBuilder.requireRule(target))
+                    .getNativeLinkable(CxxPlatformUtils.DEFAULT_PLATFORM, graphBuilder))
+        .collect(ImmutableList.toImmutableList());
+  }
+}
@@ -16,10 +16,12 @@
 
 package com.facebook.buck.android.apkmodule;
 
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.in;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.oneOf;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 import com.facebook.buck.android.AndroidBinaryBuilder;
@@ -957,4 +959,59 @@ public class APKModuleTest {
       }
     }
   }
+
+  @Test
+  public void testMembershipIndexIsSharedBetweenGraphsWithTheSameAppNodes() {
+    BuildTarget sharedTarget = BuildTargetFactory.newInstance("//:shared");
+    BuildTarget firstTarget = BuildTargetFactory.newInstance("//:first");
+    BuildTarget secondTarget = BuildTargetFactory.newInstance("//:second");
+    BuildTarget keystoreTarget = BuildTargetFactory.newInstance("//:keystore");
+    BuildTarget binaryTarget = BuildTargetFactory.newInstance("//:binary");
+    ImmutableSet<TargetNode<?>> appNodes =
+        ImmutableSet.of(
+            AndroidLibraryBuilder.createBuilder(sharedTarget).build(),
+            AndroidLibraryBuilder.createBuilder(firstTarget).addDep(sharedTarget).build(),
+            AndroidLibraryBuilder.createBuilder(secondTarget).addDep(sharedTarget).build(),
+            KeystoreBuilder.createBuilder(keystoreTarget)
+                .setStore(FakeSourcePath.of("debug.keystore"))
+                .setProperties(FakeSourcePath.of("keystore.properties"))
+                .build(),
+            AndroidBinaryBuilder.createBuilder(binaryTarget)
+                .setManifest(FakeSourcePath.of("AndroidManifest.xml"))
+                .setKeystore(keystoreTarget)
+                .setOriginalDeps(ImmutableSortedSet.of(firstTarget, secondTarget))
+                .build());
+    TargetNode<?> unrelatedNode =
+        AndroidLibraryBuilder.createBuilder(BuildTargetFactory.newInstance("//:unrelated")).build();
+    Optional<ImmutableMap<String, ImmutableList<BuildTarget>>> seedConfigMap =
+        Optional.of(
+            ImmutableMap.of(
+                "first", ImmutableList.of(firstTarget), "second", ImmutableList.of(secondTarget)));
+
+    APKModuleGraph dag =
+        new APKModuleGraph(
+            seedConfigMap,
+            Optional.empty(),
+            Optional.empty(),
+            ImmutableSet.of(),
+            TargetGraphFactory.newInstance(appNodes),
+            binaryTarget);
+    APKModuleGraph dagWithUnrelatedChange =
+        new APKModuleGraph(
+            seedConfigMap,
+            Optional.empty(),
+            Optional.empty(),
+            ImmutableSet.of(),
+            TargetGraphFactory.newInstance(
+                ImmutableSet.<TargetNode<?>>builder().addAll(appNodes).add(unrelatedNode).build()),
+            binaryTarget);
+
+    assertThat(dag.findModuleForTarget(sharedTarget).getName(), is("shared0"));
+    assertThat(dag.findModuleForTarget(firstTarget).getName(), is("first"));
+    assertThat(dag.findModuleForTarget(keystoreTarget).getName(), is("dex"));
+    assertThat(dagWithUnrelatedChange.getMembershipIndex(), sameInstance(dag.getMembershipIndex()));
+    assertThat(
+        dag.getMembershipIndex().getModulesContaining(sharedTarget),
+        contains("first", "second"));
+  }
 }
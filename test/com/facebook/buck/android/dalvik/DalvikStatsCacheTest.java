@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android.dalvik;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import com.facebook.buck.jvm.java.classes.AbstractFileLike;
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.HashCode;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+
+public class DalvikStatsCacheTest {
+  private static final int CLASS_COUNT = 100;
+
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
+  private ProjectFilesystem filesystem;
+  private Path jar;
+  private ExecutorService executor;
+
+  @Before
+  public void setUp() throws IOException {
+    filesystem = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
+    jar = tmp.getRoot().resolve("classes.jar");
+    try (OutputStream stream = Files.newOutputStream(jar);
+        ZipOutputStream zip = new ZipOutputStream(stream)) {
+      for (int i = 0; i < CLASS_COUNT; i++) {
+        zip.putNextEntry(new ZipEntry("Class" + i + ".class"));
+        zip.write(classFile("Class" + i, i));
+      }
+      zip.putNextEntry(new ZipEntry("META-INF/MANIFEST.MF"));
+    }
+    executor = Executors.newFixedThreadPool(3);
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void statsComputedInParallelMatchTheToolsAndAreFoundWithoutReading() throws IOException {
+    DalvikStatsCache cache = new DalvikStatsCache(CacheBuilder.newBuilder().build());
+    cache.computeStats(ImmutableSet.of(jar), filesystem, executor, 4);
+
+    for (int i = 0; i < CLASS_COUNT; i++) {
+      DalvikStatsTool.Stats stats = cache.getStats(new UnreadableEntry("Class" + i + ".class"));
+      DalvikStatsTool.Stats expected =
+          DalvikStatsTool.getEstimate(new ByteArrayInputStream(classFile("Class" + i, i)));
+      assertEquals(expected.estimatedLinearAllocSize, stats.estimatedLinearAllocSize);
+      assertEquals(expected.methodReferences, stats.methodReferences);
+      assertEquals(expected.fieldReferences, stats.fieldReferences);
+    }
+  }
+
+  @Test
+  public void statsAreSharedByClassHashAcrossSplits() throws IOException {
+    Cache<HashCode, DalvikStatsTool.Stats> statsByClass = CacheBuilder.newBuilder().build();
+    DalvikStatsCache first = new DalvikStatsCache(statsByClass);
+    first.computeStats(
+        ImmutableSet.of(jar), filesystem, MoreExecutors.newDirectExecutorService(), 1);
+    assertEquals(CLASS_COUNT, statsByClass.size());
+
+    DalvikStatsCache second = new DalvikStatsCache(statsByClass);
+    second.computeStats(ImmutableSet.of(jar), filesystem, executor, 2);
+    assertEquals(CLASS_COUNT, statsByClass.size());
+    assertSame(
+        first.getStats(new UnreadableEntry("Class1.class")),
+        second.getStats(new UnreadableEntry("Class1.class")));
+  }
+
+  private static byte[] classFile(String name, int methodCount) {
+    ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+    writer.visit(Opcodes.V1_7, Opcodes.ACC_PUBLIC, name, null, "java/lang/Object", null);
+    for (int i = 0; i < methodCount; i++) {
+      writer.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_ABSTRACT, "m" + i, "()V", null, null);
+    }
+    writer.visitEnd();
+    return writer.toByteArray();
+  }
+
+  /** An entry of the jar, which fails the test if it has to be read. */
+  private class UnreadableEntry extends AbstractFileLike {
+    private final String relativePath;
+
+    UnreadableEntry(String relativePath) {
+      this.relativePath = relativePath;
+    }
+
+    @Override
+    public Path getContainer() {
+      return jar;
+    }
+
+    @Override
+    public String getRelativePath() {
+      return relativePath;
+    }
+
+    @Override
+    public long getSize() {
+      return 0;
+    }
+
+    @Override
+    public InputStream getInput() {
+      throw new AssertionError("The stats of " + relativePath + " should have been computed");
+    }
+  }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android.exopackage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.facebook.buck.util.types.Pair;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedSet;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.OptionalInt;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class ExopackageDeviceManifestTest {
+  private static final String PACKAGE = "com.example";
+  private static final String OTHER_PACKAGE = "com.example.other";
+  private static final Path METADATA = Paths.get("secondary-dex/metadata.txt");
+
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+  @Rule public TemporaryPaths deviceState = new TemporaryPaths();
+
+  private ProjectFilesystem filesystem;
+  private TestAndroidDevice device;
+
+  @Before
+  public void setUp() throws Exception {
+    filesystem = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
+    device = new TestAndroidDevice(null, deviceState.getRoot(), "fake.serial", "x86");
+    device.mkDirP(ExopackageInstaller.EXOPACKAGE_INSTALL_ROOT.toString());
+  }
+
+  @Test
+  public void readListsTheDeviceWhenNothingWasRecorded() throws Exception {
+    pushFile(PACKAGE, "secondary-dex/secondary-1.dex.jar");
+
+    ExopackageDeviceManifest manifest = ExopackageDeviceManifest.read(filesystem, device);
+
+    assertFalse(manifest.isRecorded());
+    assertEquals(
+        ImmutableSortedSet.of(Paths.get(PACKAGE, "secondary-dex/secondary-1.dex.jar")),
+        manifest.getFiles());
+  }
+
+  @Test
+  public void recordedManifestIsTrustedWhileTheDeviceMatchesIt() throws Exception {
+    ExopackageDeviceManifest recorded = recordPackage(PACKAGE);
+
+    assertTrue(recorded.isRecorded());
+    assertTrue(device.readFile(ExopackageDeviceManifest.TOKEN_PATH).isPresent());
+    ExopackageDeviceManifest read = ExopackageDeviceManifest.read(filesystem, device);
+    assertTrue(read.isRecorded());
+    assertEquals(recorded.getFiles(), read.getFiles());
+    assertTrue(read.hasContents(PACKAGE, METADATA, "metadata"));
+    assertFalse(read.hasContents(PACKAGE, METADATA, "changed metadata"));
+  }
+
+  @Test
+  public void invalidateRemovesTheTokenButKeepsTheFiles() throws Exception {
+    ExopackageDeviceManifest recorded = recordPackage(PACKAGE);
+
+    ExopackageDeviceManifest invalidated = recorded.invalidate(filesystem, device);
+
+    assertFalse(invalidated.isRecorded());
+    assertEquals(recorded.getFiles(), invalidated.getFiles());
+    assertEquals(Optional.empty(), device.readFile(ExopackageDeviceManifest.TOKEN_PATH));
+    assertFalse(ExopackageDeviceManifest.load(filesystem, "fake.serial").get().isRecorded());
+    assertFalse(ExopackageDeviceManifest.read(filesystem, device).isRecorded());
+  }
+
+  @Test
+  public void invalidatingAnUnrecordedManifestDoesNothing() throws Exception {
+    ExopackageDeviceManifest listed = ExopackageDeviceManifest.read(filesystem, device);
+
+    assertSame(listed, listed.invalidate(filesystem, device));
+  }
+
+  @Test
+  public void recordKeepsTheFilesOtherInstallsRecorded() throws Exception {
+    ExopackageDeviceManifest listed = ExopackageDeviceManifest.read(filesystem, device);
+    recordPackage(PACKAGE);
+
+    // Recording from the stale manifest must not drop what was recorded for the first package.
+    pushFile(OTHER_PACKAGE, "lib.so");
+    ExopackageDeviceManifest recorded =
+        listed.record(
+            filesystem,
+            device,
+            OTHER_PACKAGE,
+            ImmutableList.of(Paths.get("lib.so")),
+            ImmutableMap.of());
+
+    assertEquals(
+        ImmutableSortedSet.of(
+            Paths.get(PACKAGE, "secondary-dex/secondary-1.dex.jar"),
+            Paths.get(PACKAGE).resolve(METADATA),
+            Paths.get(OTHER_PACKAGE, "lib.so")),
+        recorded.getFiles());
+    assertTrue(recorded.hasContents(PACKAGE, METADATA, "metadata"));
+    assertTrue(ExopackageDeviceManifest.read(filesystem, device).isRecorded());
+  }
+
+  @Test
+  public void readListsTheDeviceAgainWhenItsFilesNoLongerMatch() throws Exception {
+    recordPackage(PACKAGE);
+    pushFile(PACKAGE, "secondary-dex/secondary-2.dex.jar");
+
+    ExopackageDeviceManifest read = ExopackageDeviceManifest.read(filesystem, device);
+
+    assertFalse(read.isRecorded());
+    assertEquals(
+        ImmutableSortedSet.of(
+            Paths.get(PACKAGE, "secondary-dex/secondary-1.dex.jar"),
+            Paths.get(PACKAGE, "secondary-dex/secondary-2.dex.jar"),
+            Paths.get(PACKAGE).resolve(METADATA)),
+        read.getFiles());
+    assertFalse(read.hasContents(PACKAGE, METADATA, "metadata"));
+  }
+
+  @Test
+  public void readListsDevicesThatCantCountTheirFiles() throws Exception {
+    recordPackage(PACKAGE);
+    AndroidDevice toolboxDevice =
+        new TestAndroidDevice(null, deviceState.getRoot(), "fake.serial", "x86") {
+          @Override
+          public Pair<Optional<String>, OptionalInt> readFileAndCountFiles(
+              Path path, Path dirPath) throws Exception {
+            return new Pair<>(
+                super.readFileAndCountFiles(path, dirPath).getFirst(), OptionalInt.empty());
+          }
+        };
+
+    ExopackageDeviceManifest read = ExopackageDeviceManifest.read(filesystem, toolboxDevice);
+
+    assertFalse(read.isRecorded());
+    assertEquals(
+        ImmutableSortedSet.of(
+            Paths.get(PACKAGE, "secondary-dex/secondary-1.dex.jar"),
+            Paths.get(PACKAGE).resolve(METADATA)),
+        read.getFiles());
+  }
+
+  private ExopackageDeviceManifest recordPackage(String packageName) throws Exception {
+    pushFile(packageName, "secondary-dex/secondary-1.dex.jar");
+    pushFile(packageName, METADATA.toString());
+    return ExopackageDeviceManifest.read(filesystem, device)
+        .record(
+            filesystem,
+            device,
+            packageName,
+            ImmutableList.of(Paths.get("secondary-dex/secondary-1.dex.jar")),
+            ImmutableMap.of(METADATA, "metadata"));
+  }
+
+  private void pushFile(String packageName, String path) throws IOException {
+    Path devicePath =
+        deviceState
+            .getRoot()
+            .resolve("data/local/tmp/exopackage")
+            .resolve(packageName)
+            .resolve(path);
+    Files.createDirectories(devicePath.getParent());
+    Files.write(devicePath, path.getBytes());
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android.exopackage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import com.facebook.buck.core.rules.resolver.impl.TestActionGraphBuilder;
+import com.facebook.buck.core.sourcepath.FakeSourcePath;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class ExopackageInstallContentsTest {
+  private static final String DEX_HASH = "0123456789012345678901234567890123456789";
+
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
+  private ProjectFilesystem filesystem;
+  private ExopackageInstallContents installContents;
+  private ExopackageInfo exoInfo;
+
+  @Before
+  public void setUp() throws IOException {
+    filesystem = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
+    filesystem.mkdirs(Paths.get("dex-dir"));
+    filesystem.writeContentsToPath(
+        "secondary-1.dex.jar " + DEX_HASH + " Lsecondary/dex01/Canary;\n",
+        Paths.get("dex.manifest"));
+    installContents =
+        new ExopackageInstallContents(
+            new TestActionGraphBuilder().getSourcePathResolver(), filesystem);
+    exoInfo =
+        ExopackageInfo.builder()
+            .setDexInfo(
+                ExopackageInfo.DexInfo.of(
+                    FakeSourcePath.of(filesystem, "dex.manifest"),
+                    FakeSourcePath.of(filesystem, "dex-dir")))
+            .setNativeLibsInfo(Optional.empty())
+            .setResourcesInfo(Optional.empty())
+            .setModuleInfo(Optional.empty())
+            .build();
+  }
+
+  @Test
+  public void contentsAreComputedOnceForAllDevices() throws IOException {
+    ExopackageInstallContents.Contents contents =
+        installContents.getContents(
+            exoInfo,
+            () -> {
+              throw new AssertionError("The ABIs only matter for native libraries");
+            });
+    assertEquals(
+        ImmutableMap.of(
+            DexExoHelper.SECONDARY_DEX_DIR.resolve("secondary-" + DEX_HASH + ".dex.jar"),
+            filesystem.resolve("dex-dir").resolve("secondary-1.dex.jar")),
+        contents.filesByType.get(ExopackageInstaller.SECONDARY_DEX_TYPE));
+
+    // Later devices get the same contents, even once the metadata is gone.
+    filesystem.deleteFileAtPath(Paths.get("dex.manifest"));
+    assertSame(contents, installContents.getContents(exoInfo, () -> null));
+  }
+
+  @Test
+  public void apkSignatureIsComputedOnce() throws IOException {
+    Path apk = tmp.getRoot().resolve("fake.apk");
+    try (OutputStream stream = Files.newOutputStream(apk);
+        ZipOutputStream zip = new ZipOutputStream(stream)) {
+      zip.putNextEntry(new ZipEntry("META-INF/SIG.SF"));
+      zip.write("SHA1-Digest-Manifest: signature\n".getBytes(StandardCharsets.UTF_8));
+    }
+    assertEquals("signature", installContents.getApkSignature(apk));
+
+    Files.delete(apk);
+    assertEquals("signature", installContents.getApkSignature(apk));
+  }
+}
@@ -28,10 +28,13 @@ import com.android.ddmlib.InstallException;
 import com.facebook.buck.android.TestDevice;
 import com.facebook.buck.event.BuckEventBusForTests;
 import com.facebook.buck.testutil.TestConsole;
+import com.facebook.buck.util.types.Pair;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.io.File;
 import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.Test;
@@ -215,4 +218,40 @@ public class RealAndroidDeviceTest {
     assertTrue(command.contains("--es extra1"));
     assertTrue(command.contains("value1"));
   }
+
+  @Test
+  public void testReadFileAndCountFiles() throws Exception {
+    assertEquals(
+        new Pair<>(Optional.of("token\n"), OptionalInt.of(3)),
+        readFileAndCountFiles(createDeviceWithShellOutput("3\r\n#+token\n:0")));
+    assertEquals(
+        new Pair<>(Optional.empty(), OptionalInt.of(0)),
+        readFileAndCountFiles(createDeviceWithShellOutput("0\n#:0")));
+  }
+
+  @Test
+  public void testReadFileAndCountFilesWithoutFind() throws Exception {
+    // Devices with only toolbox have no `find`.
+    assertEquals(
+        new Pair<>(Optional.of("token\n"), OptionalInt.empty()),
+        readFileAndCountFiles(
+            createDeviceWithShellOutput("/system/bin/sh: find: not found\n0\n#+token\n:0")));
+  }
+
+  private static TestDevice createDeviceWithShellOutput(String output) {
+    return new TestDevice() {
+      @Override
+      public void executeShellCommand(String command, IShellOutputReceiver receiver) {
+        byte[] outputBytes = output.getBytes(StandardCharsets.UTF_8);
+        receiver.addOutput(outputBytes, 0, outputBytes.length);
+      }
+    };
+  }
+
+  private static Pair<Optional<String>, OptionalInt> readFileAndCountFiles(IDevice device)
+      throws Exception {
+    return createAndroidDevice(device)
+        .readFileAndCountFiles(
+            ExopackageDeviceManifest.TOKEN_PATH, ExopackageInstaller.EXOPACKAGE_INSTALL_ROOT);
+  }
 }
@@ -21,6 +21,7 @@ import static org.junit.Assert.assertTrue;
 import com.facebook.buck.android.agent.util.AgentUtil;
 import com.facebook.buck.core.exceptions.BuckUncheckedExecutionException;
 import com.facebook.buck.io.file.MostFiles;
+import com.facebook.buck.util.types.Pair;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -28,6 +29,7 @@ import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.collect.Ordering;
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -35,6 +37,7 @@ import java.nio.file.StandardCopyOption;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
 
 /**
  * This simulates the state of a real device enough that we can verify that exo installation happens
@@ -64,6 +67,7 @@ public class TestAndroidDevice implements AndroidDevice {
     return Files.walk(stateDirectory)
         .filter(s -> s.toFile().isFile())
         .filter(p -> !p.startsWith(resolve(APK_INSTALL_DIR)))
+        .filter(p -> !p.equals(resolve(ExopackageDeviceManifest.TOKEN_PATH)))
         .collect(ImmutableMap.toImmutableMap(this::toDevicePath, p -> p));
   }
 
@@ -217,6 +221,32 @@ public class TestAndroidDevice implements AndroidDevice {
     Files.createDirectories(resolve(dir));
   }
 
+  @Override
+  public Optional<String> readFile(Path path) throws IOException {
+    Path devicePath = resolve(path);
+    if (!devicePath.toFile().isFile()) {
+      return Optional.empty();
+    }
+    return Optional.of(new String(Files.readAllBytes(devicePath), StandardCharsets.UTF_8));
+  }
+
+  @Override
+  public Pair<Optional<String>, OptionalInt> readFileAndCountFiles(Path path, Path dirPath)
+      throws Exception {
+    return new Pair<>(
+        readFile(path),
+        OptionalInt.of(
+            (int)
+                listDirRecursive(dirPath).stream()
+                    .filter(p -> !p.getFileName().toString().startsWith("."))
+                    .count()));
+  }
+
+  @Override
+  public void writeFile(Path path, String line) throws IOException {
+    Files.write(resolve(path), ImmutableList.of(line));
+  }
+
   @Override
   public String getProperty(String name) {
     switch (name) {
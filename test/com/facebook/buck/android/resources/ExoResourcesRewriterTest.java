@@ -143,6 +143,11 @@ public class ExoResourcesRewriterTest {
             return id;
           }
 
+          @Override
+          public boolean rewrites(int type) {
+            throw new UnsupportedOperationException();
+          }
+
           @Override
           public void rewrite(int type, IntBuffer buf) {
             throw new UnsupportedOperationException();
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android.resources;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import com.google.common.io.MoreFiles;
+import com.google.common.io.RecursiveDeleteOption;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Reads a large resources.arsc into memory or maps it read-only, brings a tenth of its resources to
+ * the front the way {@link ExoResourcesRewriter} does, and checksums the rewritten table as writing
+ * it to a zip would.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ResourceTableBenchmark {
+  private static final int CONFIG_SIZE = 64;
+  private static final int ENTRY_SIZE = 16;
+  private static final byte TYPE_REFERENCE = 0x01;
+  private static final byte TYPE_STRING = 0x03;
+
+  @Param("8")
+  private int types;
+
+  @Param("20000")
+  private int entriesPerType;
+
+  @Param("2")
+  private int configsPerType;
+
+  private Path root;
+  private Path arsc;
+  private Map<Integer, SortedSet<Integer>> idsByType;
+
+  @Setup
+  public void setUp() throws IOException {
+    root = Files.createTempDirectory("resource-table-benchmark");
+    arsc = root.resolve("resources.arsc");
+    Files.write(arsc, createResourceTable());
+
+    idsByType = new HashMap<>();
+    for (int type = 1; type <= types; type++) {
+      SortedSet<Integer> ids = new TreeSet<>();
+      for (int entry = 0; entry < entriesPerType; entry += 10) {
+        ids.add(entry);
+      }
+      idsByType.put(type, ids);
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    MoreFiles.deleteRecursively(root, RecursiveDeleteOption.ALLOW_INSECURE);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public long heap() throws IOException {
+    return rewrite(ResChunk.wrap(Files.readAllBytes(arsc)));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public long mapped() throws IOException {
+    try (FileChannel channel = FileChannel.open(arsc, StandardOpenOption.READ)) {
+      return rewrite(
+          ResChunk.slice(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), 0));
+    }
+  }
+
+  private long rewrite(ByteBuffer buf) {
+    ResourceTable table = ResourceTable.get(buf);
+    table.reassignIds(BringToFrontMapper.construct(ResTablePackage.APP_PACKAGE_ID, idsByType));
+    List<ByteBuffer> buffers = new ArrayList<>();
+    table.putBuffers(buffers);
+    CRC32 crc = new CRC32();
+    buffers.forEach(crc::update);
+    ResourceTable primary =
+        ResourceTable.slice(
+            table, ImmutableMap.copyOf(Maps.transformValues(idsByType, Set::size)));
+    return crc.getValue() + primary.getChunkSize();
+  }
+
+  /**
+   * Builds a table of simple entries, half of them strings and half of them references to other
+   * entries of the same type.
+   */
+  private byte[] createResourceTable() {
+    List<String> typeNames = new ArrayList<>();
+    for (int type = 0; type < types; type++) {
+      typeNames.add("type" + type);
+    }
+    List<String> keyNames = new ArrayList<>();
+    List<String> values = new ArrayList<>();
+    for (int entry = 0; entry < entriesPerType; entry++) {
+      keyNames.add("key" + entry);
+      values.add("value" + entry);
+    }
+    byte[] valueStrings = StringPool.create(values).serialize();
+    byte[] typeStrings = StringPool.create(typeNames).serialize();
+    byte[] keyStrings = StringPool.create(keyNames).serialize();
+
+    int typeHeaderSize = 20 + CONFIG_SIZE;
+    int specSize = 16 + 4 * entriesPerType;
+    int typeSize = typeHeaderSize + (4 + ENTRY_SIZE) * entriesPerType;
+    int packageSize =
+        ResTablePackage.HEADER_SIZE
+            + typeStrings.length
+            + keyStrings.length
+            + types * (specSize + configsPerType * typeSize);
+    int tableSize = ResourceTable.HEADER_SIZE + valueStrings.length + packageSize;
+
+    ByteBuffer buf = ResChunk.wrap(new byte[tableSize]);
+    buf.putShort(ResChunk.CHUNK_RESOURCE_TABLE);
+    buf.putShort((short) ResourceTable.HEADER_SIZE);
+    buf.putInt(tableSize);
+    buf.putInt(1);
+    buf.put(valueStrings);
+
+    buf.putShort(ResChunk.CHUNK_RES_TABLE_PACKAGE);
+    buf.putShort((short) ResTablePackage.HEADER_SIZE);
+    buf.putInt(packageSize);
+    buf.putInt(ResTablePackage.APP_PACKAGE_ID);
+    buf.put(new byte[ResTablePackage.NAME_DATA_LENGTH]);
+    buf.putInt(ResTablePackage.HEADER_SIZE);
+    buf.putInt(0);
+    buf.putInt(ResTablePackage.HEADER_SIZE + typeStrings.length);
+    buf.putInt(0);
+    buf.putInt(0);
+    buf.put(typeStrings);
+    buf.put(keyStrings);
+
+    for (int type = 0; type < types; type++) {
+      buf.putShort(ResChunk.CHUNK_RES_TABLE_TYPE_SPEC);
+      buf.putShort((short) 16);
+      buf.putInt(specSize);
+      buf.put((byte) (type + 1));
+      buf.put((byte) 0);
+      buf.putShort((short) 0);
+      buf.putInt(entriesPerType);
+      buf.put(new byte[4 * entriesPerType]);
+
+      for (int config = 0; config < configsPerType; config++) {
+        buf.putShort(ResChunk.CHUNK_RES_TABLE_TYPE);
+        buf.putShort((short) typeHeaderSize);
+        buf.putInt(typeSize);
+        buf.put((byte) (type + 1));
+        buf.put((byte) 0);
+        buf.putShort((short) 0);
+        buf.putInt(entriesPerType);
+        buf.putInt(typeHeaderSize + 4 * entriesPerType);
+        buf.putInt(CONFIG_SIZE);
+        buf.put(new byte[CONFIG_SIZE - 4]);
+        for (int entry = 0; entry < entriesPerType; entry++) {
+          buf.putInt(entry * ENTRY_SIZE);
+        }
+        for (int entry = 0; entry < entriesPerType; entry++) {
+          buf.putShort((short) 8);
+          buf.putShort((short) 0);
+          buf.putInt(entry);
+          buf.putShort((short) 8);
+          buf.put((byte) 0);
+          if (entry % 2 == 0) {
+            buf.put(TYPE_STRING);
+            buf.putInt(entry);
+          } else {
+            buf.put(TYPE_REFERENCE);
+            int target = (entry * 7 + config) % entriesPerType;
+            buf.putInt((ResTablePackage.APP_PACKAGE_ID << 24) | ((type + 1) << 16) | target);
+          }
+        }
+      }
+    }
+    return buf.array();
+  }
+
+  public static void main(String[] args) throws IOException, RunnerException {
+    Main.main(new String[] {ResourceTableBenchmark.class.getName()});
+  }
+}
@@ -18,6 +18,8 @@ package com.facebook.buck.android.resources;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.io.filesystem.TestProjectFilesystems;
@@ -27,13 +29,20 @@ import com.facebook.buck.testutil.integration.TestDataHelper;
 import com.google.common.base.Charsets;
 import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.io.ByteStreams;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -136,6 +145,53 @@ public class ResourceTableTest {
     }
   }
 
+  @Test
+  public void testRewriteMappedResourcesCopiesOnlyWhatChanges() throws Exception {
+    Path arscPath = tmpFolder.getRoot().resolve("resources.arsc");
+    try (ZipFile apkZip = new ZipFile(apkPath.toFile())) {
+      Files.write(
+          arscPath,
+          ByteStreams.toByteArray(apkZip.getInputStream(apkZip.getEntry("resources.arsc"))));
+    }
+    byte[] original = Files.readAllBytes(arscPath);
+    ByteBuffer map;
+    try (FileChannel channel = FileChannel.open(arscPath, StandardOpenOption.READ)) {
+      map = ResChunk.slice(channel.map(FileChannel.MapMode.READ_ONLY, 0, original.length), 0);
+    }
+    ResourceTable mapped = ResourceTable.get(map);
+    ResourceTable heap = ResourceTable.get(ResChunk.wrap(original.clone()));
+
+    // Bring the last resource of the largest type to the front, and leave the other types alone.
+    ResTableTypeSpec spec =
+        Collections.max(
+            heap.getPackage().getTypeSpecs(),
+            Comparator.comparingInt(ResTableTypeSpec::getEntryCount));
+    BringToFrontMapper mapper =
+        BringToFrontMapper.construct(
+            ResTablePackage.APP_PACKAGE_ID,
+            ImmutableMap.of(
+                spec.getResourceType(), ImmutableSortedSet.of(spec.getEntryCount() - 1)));
+    mapped.reassignIds(mapper);
+    heap.reassignIds(mapper);
+
+    List<ByteBuffer> buffers = new ArrayList<>();
+    mapped.putBuffers(buffers);
+    ByteArrayOutputStream written = new ByteArrayOutputStream();
+    for (ByteBuffer buf : buffers) {
+      byte[] data = new byte[buf.remaining()];
+      buf.duplicate().get(data);
+      written.write(data);
+    }
+    byte[] expected = heap.serialize();
+    assertFalse(Arrays.equals(original, expected));
+    assertArrayEquals(expected, written.toByteArray());
+    // The string pools and the types that weren't rewritten are written from the mapping.
+    long mappedSize =
+        buffers.stream().filter(ByteBuffer::isReadOnly).mapToLong(ByteBuffer::remaining).sum();
+    assertTrue(mappedSize > original.length - mappedSize);
+    assertArrayEquals(original, Files.readAllBytes(arscPath));
+  }
+
   @Test
   public void testDoubleReverseResources() throws Exception {
     try (ZipFile apkZip = new ZipFile(apkPath.toFile())) {
@@ -41,6 +41,11 @@ class ReversingMapper implements ReferenceMapper {
     return (id & 0xFFFF0000) | (entryCount - resId - 1);
   }
 
+  @Override
+  public boolean rewrites(int type) {
+    return resourceTable.getPackage().getTypeSpec(type).getEntryCount() > 1;
+  }
+
   @Override
   public void rewrite(int type, IntBuffer buf) {
     for (int i = 0; i < buf.limit() / 2; i++) {
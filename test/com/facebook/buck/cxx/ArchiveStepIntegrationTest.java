@@ -16,6 +16,7 @@
 
 package com.facebook.buck.cxx;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assume.assumeTrue;
@@ -25,17 +26,21 @@ import com.facebook.buck.core.config.FakeBuckConfig;
 import com.facebook.buck.core.model.UnconfiguredTargetConfiguration;
 import com.facebook.buck.core.rules.BuildRuleResolver;
 import com.facebook.buck.core.rules.resolver.impl.TestActionGraphBuilder;
+import com.facebook.buck.core.toolchain.tool.Tool;
 import com.facebook.buck.cxx.config.CxxBuckConfig;
 import com.facebook.buck.cxx.toolchain.Archiver;
 import com.facebook.buck.cxx.toolchain.CxxPlatform;
 import com.facebook.buck.cxx.toolchain.CxxPlatformUtils;
+import com.facebook.buck.cxx.toolchain.GnuArchiver;
 import com.facebook.buck.cxx.toolchain.objectfile.ObjectFileScrubbers;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import com.facebook.buck.step.Step;
 import com.facebook.buck.step.TestExecutionContext;
 import com.facebook.buck.step.fs.FileScrubberStep;
 import com.facebook.buck.testutil.TemporaryPaths;
 import com.facebook.buck.testutil.TestConsole;
+import com.facebook.buck.testutil.integration.TestDataHelper;
 import com.facebook.buck.util.ObjectFileCommonModificationDate;
 import com.facebook.buck.util.environment.Platform;
 import com.google.common.base.Preconditions;
@@ -276,6 +281,76 @@ public class ArchiveStepIntegrationTest {
     }
   }
 
+  @Test
+  public void inProcessArchivesMatchArchiverOutput() throws IOException, InterruptedException {
+    assumeTrue(Platform.detect() == Platform.LINUX);
+    ProjectFilesystem filesystem = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
+    CxxPlatform platform =
+        CxxPlatformUtils.build(new CxxBuckConfig(FakeBuckConfig.builder().build()));
+
+    BuildRuleResolver ruleResolver = new TestActionGraphBuilder();
+    Archiver archiver =
+        platform.getAr().resolve(ruleResolver, UnconfiguredTargetConfiguration.INSTANCE);
+    assumeTrue(archiver instanceof GnuArchiver);
+    Tool ranlib =
+        platform.getRanlib().get().resolve(ruleResolver, UnconfiguredTargetConfiguration.INSTANCE);
+
+    // Copy in ELF objects with global, weak, common and undefined symbols, one with a long name,
+    // and a non-object member with an odd size.
+    Path inputDir = filesystem.getPath("objs");
+    filesystem.mkdirs(inputDir);
+    ImmutableList.Builder<Path> inputsBuilder = ImmutableList.builder();
+    for (String name :
+        ImmutableList.of("main.o", "symbols.o", "a_long_object_file_name.o", "data.txt")) {
+      Path input = inputDir.resolve(name);
+      Files.copy(
+          TestDataHelper.getTestDataScenario(this, "in_process_archive").resolve(input),
+          filesystem.resolve(input));
+      inputsBuilder.add(input);
+    }
+    ImmutableList<Path> inputs = inputsBuilder.build();
+
+    ExecutionContext executionContext = TestExecutionContext.newInstanceWithRealProcessExecutor();
+    TestConsole console = (TestConsole) executionContext.getConsole();
+    for (boolean thin : ImmutableList.of(false, true)) {
+      Path expected = filesystem.getPath("out/expected.a");
+      Path actual = filesystem.getPath("out/actual.a");
+      filesystem.mkdirs(expected.getParent());
+      filesystem.deleteFileAtPathIfExists(expected);
+
+      ImmutableList<Step> steps =
+          ImmutableList.of(
+              new ArchiveStep(
+                  filesystem,
+                  archiver.getEnvironment(ruleResolver.getSourcePathResolver()),
+                  archiver.getCommandPrefix(ruleResolver.getSourcePathResolver()),
+                  ImmutableList.of(),
+                  getArchiveOptions(thin),
+                  expected,
+                  inputs,
+                  archiver,
+                  filesystem.getPath("scratchDir")),
+              new RanlibStep(
+                  filesystem,
+                  ranlib.getEnvironment(ruleResolver.getSourcePathResolver()),
+                  ranlib.getCommandPrefix(ruleResolver.getSourcePathResolver()),
+                  ImmutableList.of(),
+                  expected),
+              new FileScrubberStep(filesystem, expected, archiver.getScrubbers()),
+              new InProcessArchiveStep(filesystem, actual, inputs, thin));
+      for (Step step : steps) {
+        int exitCode = step.execute(executionContext).getExitCode();
+        assertEquals(
+            step.getShortName() + " failed: " + console.getTextWrittenToStdErr(), 0, exitCode);
+      }
+
+      assertArrayEquals(
+          "in-process archive (thin = " + thin + ") differs from ar output",
+          Files.readAllBytes(filesystem.resolve(expected)),
+          Files.readAllBytes(filesystem.resolve(actual)));
+    }
+  }
+
   private static ImmutableList<String> getArchiveOptions(boolean isThinArchive) {
     String options = isThinArchive ? "qcT" : "qc";
     return ImmutableList.of(options);
@@ -43,6 +43,7 @@ import com.facebook.buck.cxx.toolchain.BsdArchiver;
 import com.facebook.buck.cxx.toolchain.GnuArchiver;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.io.filesystem.impl.FakeProjectFilesystem;
+import com.facebook.buck.rules.args.Arg;
 import com.facebook.buck.rules.args.StringArg;
 import com.facebook.buck.rules.keys.TestDefaultRuleKeyFactory;
 import com.facebook.buck.shell.Genrule;
@@ -213,6 +214,60 @@ public class ArchiveTest {
         ranlibStep.getDescription(TestExecutionContext.newInstance()), containsString("-bar"));
   }
 
+  @Test
+  public void inProcessArchiverIsOnlyUsedWithoutFlags() {
+    BuildRuleResolver resolver = new TestActionGraphBuilder();
+    BuildContext buildContext =
+        FakeBuildContext.NOOP_CONTEXT.withSourcePathResolver(resolver.getSourcePathResolver());
+
+    ImmutableList<Step> withoutFlags =
+        createInProcessArchive(resolver, ImmutableList.of(), ImmutableList.of())
+            .getBuildSteps(buildContext, new FakeBuildableContext());
+    assertEquals(1, FluentIterable.from(withoutFlags).filter(InProcessArchiveStep.class).size());
+    assertEquals(0, FluentIterable.from(withoutFlags).filter(ArchiveStep.class).size());
+
+    ImmutableList<Step> withArchiverFlags =
+        createInProcessArchive(
+                resolver, ImmutableList.of(StringArg.of("-foo")), ImmutableList.of())
+            .getBuildSteps(buildContext, new FakeBuildableContext());
+    assertEquals(
+        0, FluentIterable.from(withArchiverFlags).filter(InProcessArchiveStep.class).size());
+    assertThat(
+        FluentIterable.from(withArchiverFlags)
+            .filter(ArchiveStep.class)
+            .first()
+            .get()
+            .getDescription(TestExecutionContext.newInstance()),
+        containsString("-foo"));
+
+    ImmutableList<Step> withRanlibFlags =
+        createInProcessArchive(
+                resolver, ImmutableList.of(), ImmutableList.of(StringArg.of("-bar")))
+            .getBuildSteps(buildContext, new FakeBuildableContext());
+    assertEquals(
+        0, FluentIterable.from(withRanlibFlags).filter(InProcessArchiveStep.class).size());
+    assertEquals(1, FluentIterable.from(withRanlibFlags).filter(RanlibStep.class).size());
+  }
+
+  private Archive createInProcessArchive(
+      BuildRuleResolver resolver,
+      ImmutableList<Arg> archiverFlags,
+      ImmutableList<Arg> ranlibFlags) {
+    return new Archive(
+        BuildTargetFactory.newInstance("//foo:bar"),
+        projectFilesystem,
+        resolver,
+        DEFAULT_ARCHIVER,
+        archiverFlags,
+        DEFAULT_RANLIB,
+        ranlibFlags,
+        ArchiveContents.NORMAL,
+        DEFAULT_OUTPUT_FILE_NAME,
+        ImmutableList.of(FakeSourcePath.of("simple.o")),
+        /* cacheable */ true,
+        /* inProcess */ true);
+  }
+
   @Test
   public void testThatBuildTargetSourcePathDepsAndPathsArePropagated() {
     ActionGraphBuilder graphBuilder = new TestActionGraphBuilder();
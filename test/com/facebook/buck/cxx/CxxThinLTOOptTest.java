@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.cxx;
+
+import static org.junit.Assert.assertEquals;
+
+import com.facebook.buck.io.filesystem.impl.FakeProjectFilesystem;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CxxThinLTOOptTest {
+
+  private FakeProjectFilesystem filesystem;
+  private final Path input = Paths.get("buck-out/gen/foo/a.o");
+  private final Path indexPrefix = Paths.get("buck-out/gen/foo/thinlto/buck-out/gen/foo/a.o");
+
+  @Before
+  public void setUp() throws IOException {
+    filesystem = new FakeProjectFilesystem();
+    filesystem.writeContentsToPath(Strings.repeat("a", 100), input);
+  }
+
+  @Test
+  public void estimateWithoutIndexArtifactsUsesOnlyTheModule() throws IOException {
+    assertEquals(
+        100 * CxxThinLTOOpt.BITCODE_TO_MEMORY_FACTOR,
+        CxxThinLTOOpt.estimateMemoryBytes(filesystem, input, indexPrefix));
+  }
+
+  @Test
+  public void estimateIncludesIndexAndImportedModules() throws IOException {
+    filesystem.writeContentsToPath(Strings.repeat("i", 10), Paths.get(indexPrefix + ".thinlto.bc"));
+    filesystem.writeContentsToPath(Strings.repeat("b", 30), Paths.get("buck-out/gen/foo/b.o"));
+    filesystem.writeContentsToPath(Strings.repeat("c", 60), Paths.get("buck-out/gen/foo/c.o"));
+    filesystem.writeLinesToPath(
+        ImmutableList.of("buck-out/gen/foo/b.o", "", "buck-out/gen/foo/c.o"),
+        Paths.get(indexPrefix + ".imports"));
+
+    assertEquals(
+        (100 + 10 + 30 + 60) * CxxThinLTOOpt.BITCODE_TO_MEMORY_FACTOR,
+        CxxThinLTOOpt.estimateMemoryBytes(filesystem, input, indexPrefix));
+  }
+
+  @Test
+  public void estimateIgnoresMissingImportedModules() throws IOException {
+    filesystem.writeContentsToPath(
+        "buck-out/gen/foo/missing.o\n", Paths.get(indexPrefix + ".imports"));
+
+    assertEquals(
+        100 * CxxThinLTOOpt.BITCODE_TO_MEMORY_FACTOR,
+        CxxThinLTOOpt.estimateMemoryBytes(filesystem, input, indexPrefix));
+  }
+}
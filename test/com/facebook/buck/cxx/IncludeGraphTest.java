@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.cxx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import com.google.common.collect.ImmutableList;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import org.junit.Test;
+
+public class IncludeGraphTest {
+
+  private static final ImmutableList<String> INCLUDES =
+      ImmutableList.of(
+          " a.h",
+          "  b.h",
+          "   c.h",
+          "  d.h",
+          " e.h",
+          "  c.h",
+          "   f.h");
+
+  private static IncludeGraph parse(ImmutableList<String> lines) {
+    return IncludeGraph.parse(lines, Paths::get, "test.cpp");
+  }
+
+  @Test
+  public void chainFollowsFirstInclusion() {
+    IncludeGraph graph = parse(INCLUDES);
+    assertEquals(
+        ImmutableList.of(Paths.get("c.h"), Paths.get("b.h"), Paths.get("a.h")),
+        graph.getIncludeChain(Paths.get("c.h")));
+    assertEquals(
+        ImmutableList.of(Paths.get("d.h"), Paths.get("a.h")),
+        graph.getIncludeChain(Paths.get("d.h")));
+    assertEquals(
+        ImmutableList.of(Paths.get("f.h"), Paths.get("c.h"), Paths.get("e.h")),
+        graph.getIncludeChain(Paths.get("f.h")));
+    assertEquals(ImmutableList.of(Paths.get("e.h")), graph.getIncludeChain(Paths.get("e.h")));
+  }
+
+  @Test
+  public void unknownHeaderIsItsOwnChain() {
+    assertEquals(
+        ImmutableList.of(Paths.get("g.h")), parse(INCLUDES).getIncludeChain(Paths.get("g.h")));
+  }
+
+  @Test
+  public void headersAreInternedAcrossGraphs() {
+    Path first = parse(INCLUDES).getIncludeChain(Paths.get("c.h")).get(0);
+    Path second = parse(INCLUDES).getIncludeChain(Paths.get("c.h")).get(0);
+    assertSame(first, second);
+  }
+
+  @Test
+  public void deepNestingIsSupported() {
+    ImmutableList.Builder<String> lines = ImmutableList.builder();
+    StringBuilder indent = new StringBuilder();
+    for (int i = 0; i < 100; i++) {
+      indent.append(' ');
+      lines.add(indent + "h" + i + ".h");
+    }
+    assertEquals(100, parse(lines.build()).getIncludeChain(Paths.get("h99.h")).size());
+  }
+
+  @Test
+  public void linesOutsideTheTreeAreSkipped() {
+    IncludeGraph graph =
+        parse(ImmutableList.of(" a.h", "no-indent.h", "   too-deep.h", "", "  b.h", " c.h"));
+    assertEquals(
+        ImmutableList.of(Paths.get("b.h"), Paths.get("a.h")),
+        graph.getIncludeChain(Paths.get("b.h")));
+    assertEquals(ImmutableList.of(Paths.get("c.h")), graph.getIncludeChain(Paths.get("c.h")));
+    assertEquals(
+        ImmutableList.of(Paths.get("too-deep.h")),
+        graph.getIncludeChain(Paths.get("too-deep.h")));
+  }
+}
@@ -17,32 +17,48 @@
 package com.facebook.buck.cxx.toolchain.macho;
 
 import static junit.framework.TestCase.assertTrue;
+import static org.junit.Assert.assertArrayEquals;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.assertThat;
 
 import com.facebook.buck.cxx.toolchain.objectfile.MachoDyldInfoCommand;
 import com.facebook.buck.cxx.toolchain.objectfile.MachoDyldInfoCommandReader;
+import com.facebook.buck.cxx.toolchain.objectfile.MachoExportTrie;
 import com.facebook.buck.cxx.toolchain.objectfile.MachoExportTrieNode;
 import com.facebook.buck.cxx.toolchain.objectfile.MachoExportTrieReader;
 import com.facebook.buck.cxx.toolchain.objectfile.MachoExportTrieWriter;
 import com.facebook.buck.cxx.toolchain.objectfile.MachoSymTabCommand;
 import com.facebook.buck.cxx.toolchain.objectfile.MachoSymTabCommandReader;
+import com.facebook.buck.cxx.toolchain.objectfile.LcUuidContentsScrubber;
+import com.facebook.buck.cxx.toolchain.objectfile.MachoScrubberDriver;
 import com.facebook.buck.cxx.toolchain.objectfile.Machos;
+import com.facebook.buck.cxx.toolchain.objectfile.OsoSymbolsContentsScrubber;
+import com.facebook.buck.io.file.FileContentsScrubber;
+import com.facebook.buck.io.file.FileScrubber;
+import com.facebook.buck.testutil.TemporaryPaths;
 import com.facebook.buck.testutil.integration.TestDataHelper;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import javax.annotation.Nonnull;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
 
 public class MachoFormatTest {
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
   private Path testDataDir;
 
   @Before
@@ -191,4 +207,75 @@ public class MachoFormatTest {
     assertTrue(secondExportedSymbol.getExportInfo().isPresent());
     assertThat(secondExportedSymbol.getExportInfo().get().address, equalTo(0xFEEDFACEL));
   }
+
+  @Test
+  public void testFlatExportTrieWriterMatchesTreeWriter() throws IOException {
+    for (MappedByteBuffer dylibBuffer :
+        ImmutableList.of(helloLibDylibByteBufferReadOnly(), glogDylibByteBufferReadOnly())) {
+      MachoDyldInfoCommand dyldInfoCommand = MachoDyldInfoCommandReader.read(dylibBuffer).get();
+      dylibBuffer.position(dyldInfoCommand.getExportInfoOffset());
+      ByteBuffer exportTrieByteBuffer = dylibBuffer.slice();
+      exportTrieByteBuffer.limit(dyldInfoCommand.getExportInfoSize());
+
+      MachoExportTrieNode root = MachoExportTrieReader.read(exportTrieByteBuffer).get();
+      for (MachoExportTrieNode node : root.collectNodesWithExportInfo()) {
+        node.getExportInfo().get().address = 0;
+      }
+      ByteBuffer treeOutput = ByteBuffer.allocate(dyldInfoCommand.getExportInfoSize());
+      MachoExportTrieWriter.write(root, treeOutput);
+
+      MachoExportTrie trie = MachoExportTrie.read(exportTrieByteBuffer);
+      int exportCount = 0;
+      for (int node = 0; node < trie.getNodeCount(); node++) {
+        if (trie.hasExportInfo(node)) {
+          exportCount++;
+          trie.setAddress(node, 0);
+        }
+      }
+      assertThat(exportCount, equalTo(root.collectNodesWithExportInfo().size()));
+      ByteBuffer flatOutput = ByteBuffer.allocate(dyldInfoCommand.getExportInfoSize());
+      trie.write(flatOutput);
+
+      assertThat(flatOutput.position(), equalTo(treeOutput.position()));
+      assertArrayEquals(treeOutput.array(), flatOutput.array());
+    }
+  }
+
+  @Test
+  public void testScrubberDriverMatchesSeparateScrubbers()
+      throws IOException, FileScrubber.ScrubException {
+    // The OSO scrubber needs the string table to end the file, so drop everything after it.
+    byte[] helloLib = Files.readAllBytes(getHelloLibDylibPath());
+    MachoSymTabCommand symTabCommand =
+        MachoSymTabCommandReader.read(helloLibDylibByteBufferReadOnly()).get();
+    byte[] input =
+        Arrays.copyOf(
+            helloLib, symTabCommand.getStringTableOffset() + symTabCommand.getStringTableSize());
+
+    ImmutableMap<Path, Path> cellRoots =
+        ImmutableMap.of(Paths.get("/Users/user/repo"), Paths.get(""));
+    Path separate = tmp.getRoot().resolve("separate.dylib");
+    Path driven = tmp.getRoot().resolve("driven.dylib");
+    Files.write(separate, input);
+    Files.write(driven, input);
+
+    scrub(separate, new OsoSymbolsContentsScrubber(cellRoots));
+    scrub(separate, new LcUuidContentsScrubber(false));
+    scrub(
+        driven,
+        new MachoScrubberDriver(
+            ImmutableList.of(
+                new OsoSymbolsContentsScrubber(cellRoots), new LcUuidContentsScrubber(false))));
+
+    assertArrayEquals(Files.readAllBytes(separate), Files.readAllBytes(driven));
+    assertThat(Files.readAllBytes(driven), not(equalTo(input)));
+  }
+
+  private static void scrub(Path path, FileContentsScrubber scrubber)
+      throws IOException, FileScrubber.ScrubException {
+    try (FileChannel file =
+        FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      scrubber.scrubFile(file);
+    }
+  }
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.cxx.toolchain.macho;
+
+import com.facebook.buck.cxx.toolchain.objectfile.LcUuidContentsScrubber;
+import com.facebook.buck.cxx.toolchain.objectfile.MachoDyldInfoCommand;
+import com.facebook.buck.cxx.toolchain.objectfile.MachoDyldInfoCommandReader;
+import com.facebook.buck.cxx.toolchain.objectfile.MachoExportTrie;
+import com.facebook.buck.cxx.toolchain.objectfile.MachoExportTrieNode;
+import com.facebook.buck.cxx.toolchain.objectfile.MachoExportTrieReader;
+import com.facebook.buck.cxx.toolchain.objectfile.MachoExportTrieWriter;
+import com.facebook.buck.cxx.toolchain.objectfile.MachoScrubberDriver;
+import com.facebook.buck.cxx.toolchain.objectfile.MachoSymTabCommand;
+import com.facebook.buck.cxx.toolchain.objectfile.MachoSymTabCommandReader;
+import com.facebook.buck.cxx.toolchain.objectfile.OsoSymbolsContentsScrubber;
+import com.facebook.buck.io.file.FileContentsScrubber;
+import com.facebook.buck.io.file.FileScrubber;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Compares running the Mach-O link scrubbers one after the other against running them through
+ * {@link MachoScrubberDriver}, and the tree and flat export trie representations. Pass {@code -p
+ * dylib=<path>} to measure a large dylib instead of the checked in sample.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MachoScrubberBenchmark {
+
+  @Param("test/com/facebook/buck/cxx/toolchain/macho/testdata/samples/libHelloLib.dylib")
+  private String dylib;
+
+  private final ImmutableMap<Path, Path> cellRoots =
+      ImmutableMap.of(Paths.get("/Users/user/repo"), Paths.get(""));
+
+  private byte[] contents;
+  private ByteBuffer exportTrie;
+  private Path scratch;
+
+  @Setup(Level.Trial)
+  public void setUpTrial() throws IOException {
+    byte[] bytes = Files.readAllBytes(Paths.get(dylib));
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+
+    // The OSO scrubber requires the string table to end the file.
+    try (FileChannel channel = FileChannel.open(Paths.get(dylib), StandardOpenOption.READ)) {
+      MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      MachoSymTabCommand symTab = MachoSymTabCommandReader.read(map).get();
+      contents =
+          Arrays.copyOf(bytes, symTab.getStringTableOffset() + symTab.getStringTableSize());
+      MachoDyldInfoCommand dyldInfo = MachoDyldInfoCommandReader.read(map).get();
+      buffer.position(dyldInfo.getExportInfoOffset());
+      exportTrie = buffer.slice();
+      exportTrie.limit(dyldInfo.getExportInfoSize());
+    }
+
+    scratch = Files.createTempFile("macho-scrubber-benchmark", ".dylib");
+  }
+
+  @Setup(Level.Invocation)
+  public void resetScratchFile() throws IOException {
+    Files.write(scratch, contents);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDownTrial() throws IOException {
+    Files.deleteIfExists(scratch);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void separateScrubbers() throws IOException, FileScrubber.ScrubException {
+    scrub(new OsoSymbolsContentsScrubber(cellRoots));
+    scrub(new LcUuidContentsScrubber(false));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void scrubberDriver() throws IOException, FileScrubber.ScrubException {
+    scrub(
+        new MachoScrubberDriver(
+            ImmutableList.of(
+                new OsoSymbolsContentsScrubber(cellRoots), new LcUuidContentsScrubber(false))));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public ByteBuffer exportTrieNodes() {
+    exportTrie.rewind();
+    MachoExportTrieNode root = MachoExportTrieReader.read(exportTrie).get();
+    for (MachoExportTrieNode node : root.collectNodesWithExportInfo()) {
+      node.getExportInfo().get().address = 0;
+    }
+    ByteBuffer output = ByteBuffer.allocate(exportTrie.limit());
+    MachoExportTrieWriter.write(root, output);
+    return output;
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public ByteBuffer flatExportTrie() {
+    MachoExportTrie trie = MachoExportTrie.read(exportTrie);
+    for (int node = 0; node < trie.getNodeCount(); node++) {
+      trie.setAddress(node, 0);
+    }
+    ByteBuffer output = ByteBuffer.allocate(exportTrie.limit());
+    trie.write(output);
+    return output;
+  }
+
+  private void scrub(FileContentsScrubber scrubber)
+      throws IOException, FileScrubber.ScrubException {
+    try (FileChannel file =
+        FileChannel.open(scratch, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      scrubber.scrubFile(file);
+    }
+  }
+
+  public static void main(String[] args) throws IOException, RunnerException {
+    Main.main(new String[] {MachoScrubberBenchmark.class.getName()});
+  }
+}
@@ -16,6 +16,7 @@
 
 package com.facebook.buck.json;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -24,7 +25,9 @@ import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.io.filesystem.impl.FakeProjectFilesystem;
 import com.facebook.buck.util.json.ObjectMappers;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.base.Charsets;
 import com.google.common.collect.ImmutableSortedSet;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -178,4 +181,50 @@ public class JsonConcatenateStepTest {
     assertThat(
         "3 bugs expected in " + mergedReport + " not found", bugs.size(), Matchers.equalTo(3));
   }
+
+  @Test
+  public void testMergeCopiesArrayContentsVerbatim() throws IOException {
+    jsonConcatenator.concatenate();
+    assertEquals(
+        "[{\"field_one\":1, \"field_two\":\"value\"},"
+            + "{\"field_one\":1, \"field_two\":\"value\"}, "
+            + "{\"field_one\":7, \"field_two\":\"wow\"}]",
+        filesystem.readFileIfItExists(mergedReport).get());
+  }
+
+  @Test
+  public void testStreamingAppendMatchesStringAppend() throws IOException {
+    String[] arrays = {
+      "\n[ ] \n\n",
+      "\n [{ \"file\":\"a]File.c\", \"line\":123} ]\n ",
+      "[]",
+      "  \n[[{\"a\":2,\"b\":\"aaa\nbbb\"}] ]  \n",
+      "[{ \"file\":\"aFile.c\", \"line\":456}] ",
+    };
+
+    jsonConcatenator.initializeArray();
+    for (String array : arrays) {
+      jsonConcatenator.appendArray(array);
+    }
+    jsonConcatenator.finalizeArray();
+    String expected = filesystem.readFileIfItExists(mergedReport).get();
+
+    JsonConcatenator streamingConcatenator =
+        new JsonConcatenator(ImmutableSortedSet.of(), mergedReport, filesystem);
+    streamingConcatenator.initializeArray();
+    for (String array : arrays) {
+      streamingConcatenator.appendArray(
+          new ByteArrayInputStream(array.getBytes(Charsets.UTF_8)), "array");
+    }
+    streamingConcatenator.finalizeArray();
+
+    assertEquals(expected, filesystem.readFileIfItExists(mergedReport).get());
+  }
+
+  @Test(expected = IOException.class)
+  public void testStreamingAppendRejectsUnterminatedArray() throws IOException {
+    jsonConcatenator.initializeArray();
+    jsonConcatenator.appendArray(
+        new ByteArrayInputStream("[{\"a\":1}".getBytes(Charsets.UTF_8)), "array");
+  }
 }
@@ -163,4 +163,33 @@ public class AccumulateClassNamesStepTest {
         SHA1_HASHCODE_FOR_EMPTY_STRING,
         parsedClassHashes.get("com/example/Foo$something with spaces$1"));
   }
+
+  @Test
+  public void testIndexMatchesClassNamesFile() throws IOException {
+    String name = "example.jar";
+    File jarFile = tmp.newFile(name);
+    try (JarOutputStream out =
+        new JarOutputStream(new BufferedOutputStream(new FileOutputStream(jarFile)))) {
+      out.putNextEntry(new ZipEntry("com/example/Foo.class"));
+      out.closeEntry();
+      out.putNextEntry(new ZipEntry("com/example/Bar.class"));
+      out.write(1);
+      out.closeEntry();
+    }
+
+    ProjectFilesystem filesystem =
+        TestProjectFilesystems.createProjectFilesystem(tmp.getRoot().toPath());
+    AccumulateClassNamesStep accumulateClassNamesStep =
+        new AccumulateClassNamesStep(
+            filesystem,
+            Optional.of(Paths.get(name)),
+            Paths.get("output.txt"),
+            Optional.of(Paths.get("output.idx")));
+    ExecutionContext context = TestExecutionContext.newInstance();
+    accumulateClassNamesStep.execute(context);
+
+    assertEquals(
+        AccumulateClassNamesStep.parseClassHashes(filesystem.readLines(Paths.get("output.txt"))),
+        ClassHashesIndex.open(filesystem.resolve("output.idx")).getClassNamesToHashes());
+  }
 }
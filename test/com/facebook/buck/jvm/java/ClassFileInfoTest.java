@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.jvm.java;
+
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.tools.ToolProvider;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class ClassFileInfoTest {
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
+  @Test
+  public void readsDeclarationAndSource() throws IOException {
+    ClassFileInfo info =
+        compile(
+            "public class Example extends java.util.AbstractList<String> implements Runnable {"
+                + "  public String get(int i) { return null; }"
+                + "  public int size() { return 0; }"
+                + "  public void run() {}"
+                + "}");
+    assertEquals("foo/Example", info.getName());
+    assertEquals("Example.java", info.getSourceFile());
+    assertEquals(
+        ImmutableList.of("java/util/AbstractList", "java/lang/Runnable"), info.getSupertypes());
+  }
+
+  @Test
+  public void collectsReferencesFromCode() throws IOException {
+    ClassFileInfo info =
+        compile(
+            "public class Example {"
+                + "  Object make() { return new java.util.ArrayList<java.io.File>(); }"
+                + "}");
+    assertThat(
+        info.getReferencedClasses(),
+        hasItems("foo/Example", "java/lang/Object", "java/util/ArrayList"));
+    // Type arguments are erased from code.
+    assertThat(info.getReferencedClasses(), not(hasItems("java/io/File")));
+  }
+
+  @Test
+  public void detectsConstants() throws IOException {
+    assertTrue(compile("public class Example { static final int VALUE = 1; }").declaresConstants());
+    assertFalse(
+        compile("public class Example { static final Object VALUE = new Object(); }")
+            .declaresConstants());
+  }
+
+  @Test
+  public void abiHashIgnoresImplementationDetails() throws IOException {
+    String abiHash =
+        compile("public class Example { public int value() { return 1; } }").getAbiHash();
+    assertEquals(
+        abiHash,
+        compile(
+                "public class Example {"
+                    + "  private int field;"
+                    + "  public int value() { return helper(); }"
+                    + "  private int helper() { return field; }"
+                    + "}")
+            .getAbiHash());
+  }
+
+  @Test
+  public void abiHashCoversSignaturesConstantsAndAnnotations() throws IOException {
+    String abiHash =
+        compile("public class Example { public static final int VALUE = 1; }").getAbiHash();
+    assertNotEquals(
+        abiHash,
+        compile("public class Example { public static final int VALUE = 2; }").getAbiHash());
+    assertNotEquals(
+        abiHash,
+        compile("public class Example { public static final long VALUE = 1; }").getAbiHash());
+    assertNotEquals(
+        abiHash,
+        compile("@Deprecated public class Example { public static final int VALUE = 1; }")
+            .getAbiHash());
+    assertNotEquals(
+        abiHash,
+        compile("public class Example { public static final int VALUE = 1; void added() {} }")
+            .getAbiHash());
+  }
+
+  private ClassFileInfo compile(String contents) throws IOException {
+    Path source = tmp.getRoot().resolve("Example.java");
+    Files.write(source, ("package foo;\n" + contents).getBytes(StandardCharsets.UTF_8));
+    Path output = tmp.newFolder();
+    assertEquals(
+        0,
+        ToolProvider.getSystemJavaCompiler()
+            .run(null, null, null, "-d", output.toString(), source.toString()));
+    return ClassFileInfo.read(Files.readAllBytes(output.resolve("foo/Example.class")));
+  }
+}
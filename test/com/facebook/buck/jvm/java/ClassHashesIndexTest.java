@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.jvm.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import com.facebook.buck.core.exceptions.BuckUncheckedExecutionException;
+import com.facebook.buck.core.rules.resolver.impl.TestActionGraphBuilder;
+import com.facebook.buck.core.sourcepath.FakeSourcePath;
+import com.facebook.buck.core.sourcepath.resolver.SourcePathResolverAdapter;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class ClassHashesIndexTest {
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+  @Rule public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void roundTripsClassNamesToHashes() throws IOException {
+    ImmutableSortedMap.Builder<String, HashCode> builder = ImmutableSortedMap.naturalOrder();
+    for (int i = 0; i < 1000; i++) {
+      String name = "com/example/Class" + i + (i % 7 == 0 ? "$Inner\u00e9" : "");
+      builder.put(name, Hashing.sha1().hashString(name, StandardCharsets.UTF_8));
+    }
+    ImmutableSortedMap<String, HashCode> classNamesToHashes = builder.build();
+    Path path = tmp.getRoot().resolve("classes.idx");
+    ClassHashesIndex.write(classNamesToHashes, path);
+
+    ClassHashesIndex index = ClassHashesIndex.open(path);
+    assertEquals(classNamesToHashes.size(), index.size());
+    assertEquals(classNamesToHashes, index.getClassNamesToHashes());
+    for (String name : classNamesToHashes.keySet()) {
+      assertEquals(Optional.of(classNamesToHashes.get(name)), index.getHash(name));
+    }
+    assertEquals(Optional.empty(), index.getHash("com/example/Missing"));
+    assertEquals(Optional.empty(), index.getHash("com/example/Class1$Inner"));
+  }
+
+  @Test
+  public void emptyIndex() throws IOException {
+    Path path = tmp.getRoot().resolve("classes.idx");
+    ClassHashesIndex.write(ImmutableSortedMap.of(), path);
+
+    ClassHashesIndex index = ClassHashesIndex.open(path);
+    assertEquals(0, index.size());
+    assertEquals(ImmutableSortedMap.of(), index.getClassNamesToHashes());
+    assertEquals(Optional.empty(), index.getHash("com/example/Foo"));
+  }
+
+  @Test
+  public void indexesAreSharedUntilRewritten() throws IOException {
+    Path path = tmp.getRoot().resolve("classes.idx");
+    HashCode hash = HashCode.fromString("da39a3ee5e6b4b0d3255bfef95601890afd80709");
+    ClassHashesIndex.write(ImmutableSortedMap.of("com/example/Foo", hash), path);
+
+    ClassHashesIndex index = ClassHashesIndex.open(path);
+    assertSame(index, ClassHashesIndex.open(path));
+
+    ClassHashesIndex.write(ImmutableSortedMap.of("com/example/Bar", hash), path);
+    ClassHashesIndex rewritten = ClassHashesIndex.open(path);
+    assertNotSame(index, rewritten);
+    assertEquals(ImmutableSortedMap.of("com/example/Bar", hash), rewritten.getClassNamesToHashes());
+    assertSame(
+        rewritten.getClassNamesToHashes(), ClassHashesIndex.open(path).getClassNamesToHashes());
+    // The previous index is still readable.
+    assertEquals(ImmutableSortedMap.of("com/example/Foo", hash), index.getClassNamesToHashes());
+    assertEquals(Optional.of(hash), index.getHash("com/example/Foo"));
+  }
+
+  @Test
+  public void providerReadsOnlyTheDeclaredIndex() throws IOException {
+    ProjectFilesystem filesystem = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
+    HashCode hash = HashCode.fromString("da39a3ee5e6b4b0d3255bfef95601890afd80709");
+    filesystem.writeContentsToPath("com/example/Stale " + hash, Paths.get("lib.classes.txt"));
+    ClassHashesIndex.write(
+        ImmutableSortedMap.of("com/example/Foo", hash), filesystem.resolve("lib.classes.idx"));
+
+    SourcePathResolverAdapter resolver = new TestActionGraphBuilder().getSourcePathResolver();
+    DefaultJavaClassHashesProvider provider =
+        new DefaultJavaClassHashesProvider(FakeSourcePath.of(filesystem, "lib.classes.idx"));
+    assertEquals(Optional.of(hash), provider.getClassHash("com/example/Foo", filesystem, resolver));
+    assertEquals(
+        Optional.empty(), provider.getClassHash("com/example/Stale", filesystem, resolver));
+    assertEquals(
+        ImmutableSortedMap.of("com/example/Foo", hash),
+        provider.getClassNamesToHashes(filesystem, resolver));
+
+    thrown.expect(BuckUncheckedExecutionException.class);
+    new DefaultJavaClassHashesProvider(FakeSourcePath.of(filesystem, "missing.classes.idx"))
+        .getClassNamesToHashes(filesystem, resolver);
+  }
+
+  @Test
+  public void indexPathReplacesExtension() {
+    assertEquals(
+        Paths.get("buck-out/gen/foo/bar.classes.idx"),
+        ClassHashesIndex.getIndexPath(Paths.get("buck-out/gen/foo/bar.classes.txt")));
+  }
+}
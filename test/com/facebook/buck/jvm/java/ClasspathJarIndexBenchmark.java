@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.jvm.java;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.MoreFiles;
+import com.google.common.io.RecursiveDeleteOption;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Compiles a small library against a class path of synthetic library jars, with and without the
+ * shared {@link ClasspathJarIndex}es. Pass {@code -p libraries=5000} to model a large build graph.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ClasspathJarIndexBenchmark {
+
+  @Param("500")
+  private int libraries;
+
+  @Param("20")
+  private int classesPerLibrary;
+
+  private JavaCompiler compiler;
+  private Path root;
+  private String classpath;
+  private Path source;
+  private Path output;
+
+  @Setup
+  public void setUp() throws IOException {
+    compiler = ToolProvider.getSystemJavaCompiler();
+    root = Files.createTempDirectory("classpath-jar-index-benchmark");
+    List<String> jars = new ArrayList<>();
+    for (int library = 0; library < libraries; library++) {
+      Path jar = root.resolve("lib" + library + ".jar");
+      writeLibraryJar(jar, library);
+      jars.add(jar.toString());
+    }
+    classpath = String.join(File.pathSeparator, jars);
+
+    source = root.resolve("User.java");
+    String lastLibrary = "com.example.lib" + (libraries - 1);
+    Files.write(
+        source,
+        ("package com.example.user;\n"
+                + "class User {\n"
+                + "  com.example.lib0.Class0 first;\n"
+                + "  "
+                + lastLibrary
+                + ".Class0 last;\n"
+                + "  String name;\n"
+                + "}\n")
+            .getBytes(StandardCharsets.UTF_8));
+    output = Files.createDirectories(root.resolve("out"));
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    MoreFiles.deleteRecursively(root, RecursiveDeleteOption.ALLOW_INSECURE);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public boolean standardFileManager() throws IOException {
+    return compile(compiler.getStandardFileManager(null, null, null));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public boolean classpathJarIndexFileManager() throws IOException {
+    return compile(
+        new ClasspathJarIndexFileManager(compiler.getStandardFileManager(null, null, null)));
+  }
+
+  private boolean compile(StandardJavaFileManager fileManager) throws IOException {
+    try (StandardJavaFileManager closer = fileManager) {
+      fileManager.setLocation(StandardLocation.CLASS_OUTPUT, ImmutableList.of(output.toFile()));
+      return compiler
+          .getTask(
+              null,
+              fileManager,
+              null,
+              ImmutableList.of("-proc:none", "-classpath", classpath),
+              null,
+              fileManager.getJavaFileObjects(source.toFile()))
+          .call();
+    }
+  }
+
+  private void writeLibraryJar(Path jar, int library) throws IOException {
+    String packagePath = "com/example/lib" + library;
+    try (OutputStream out = Files.newOutputStream(jar);
+        JarOutputStream jarOut = new JarOutputStream(out)) {
+      for (int i = 0; i < classesPerLibrary; i++) {
+        String className = packagePath + "/Class" + i;
+        ClassWriter writer = new ClassWriter(0);
+        writer.visit(
+            Opcodes.V1_8,
+            Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER,
+            className,
+            null,
+            "java/lang/Object",
+            null);
+        writer.visitEnd();
+        jarOut.putNextEntry(new JarEntry(className + ".class"));
+        jarOut.write(writer.toByteArray());
+        jarOut.closeEntry();
+      }
+    }
+  }
+
+  public static void main(String[] args) throws IOException, RunnerException {
+    Main.main(new String[] {ClasspathJarIndexBenchmark.class.getName()});
+  }
+}
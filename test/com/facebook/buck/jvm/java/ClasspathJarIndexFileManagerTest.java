@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.jvm.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.Iterators;
+import com.google.common.io.ByteStreams;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class ClasspathJarIndexFileManagerTest {
+
+  private static final StandardLocation CLASS_PATH = StandardLocation.CLASS_PATH;
+  private static final Set<JavaFileObject.Kind> CLASSES = EnumSet.of(JavaFileObject.Kind.CLASS);
+
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
+  private JavaCompiler compiler;
+  private Path jar;
+
+  @Before
+  public void setUp() throws IOException {
+    compiler = ToolProvider.getSystemJavaCompiler();
+    jar =
+        writeJar(
+            "lib.jar",
+            ImmutableMap.of(
+                "Foo.java",
+                "package com.example; public class Foo { public static class Inner {} }",
+                "Bar.java",
+                "package com.example.sub; public class Bar {}"));
+  }
+
+  @Test
+  public void listingMatchesTheStandardFileManager() throws IOException {
+    for (boolean recurse : new boolean[] {false, true}) {
+      assertEquals(
+          describeListing(newStandardFileManager(), "com.example", recurse),
+          describeListing(
+              new ClasspathJarIndexFileManager(newStandardFileManager()), "com.example", recurse));
+    }
+  }
+
+  @Test
+  public void classContentsAreReadFromTheJar() throws IOException {
+    try (StandardJavaFileManager standard = newStandardFileManager();
+        ClasspathJarIndexFileManager indexed =
+            new ClasspathJarIndexFileManager(newStandardFileManager())) {
+      for (JavaFileObject file : indexed.list(CLASS_PATH, "com.example", CLASSES, false)) {
+        JavaFileObject expected =
+            standard.getJavaFileForInput(
+                CLASS_PATH, indexed.inferBinaryName(CLASS_PATH, file), JavaFileObject.Kind.CLASS);
+        try (InputStream actualStream = file.openInputStream();
+            InputStream expectedStream = expected.openInputStream()) {
+          assertTrue(
+              Arrays.equals(
+                  ByteStreams.toByteArray(expectedStream), ByteStreams.toByteArray(actualStream)));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void classUsageIsTrackedAsWithTheStandardFileManager() throws IOException {
+    String source = "package com.user; class User { com.example.Foo foo; }";
+    assertEquals(
+        compileAndTrackClassUsage(newStandardFileManager(), source),
+        compileAndTrackClassUsage(
+            new ClasspathJarIndexFileManager(newStandardFileManager()), source));
+  }
+
+  @Test
+  public void indexesAreSharedUntilTheJarChanges() throws IOException {
+    ClasspathJarIndex index = ClasspathJarIndex.get(jar, readAttributes(jar));
+    assertSame(index, ClasspathJarIndex.get(jar, readAttributes(jar)));
+
+    Files.setLastModifiedTime(
+        jar, FileTime.fromMillis(Files.getLastModifiedTime(jar).toMillis() + 10000));
+    ClasspathJarIndex reindexed = ClasspathJarIndex.get(jar, readAttributes(jar));
+    assertNotSame(index, reindexed);
+    assertEquals(
+        ImmutableSet.of("com/example/Foo$Inner.class", "com/example/Foo.class"),
+        reindexed.getClasses("com/example").stream()
+            .mapToObj(reindexed::getName)
+            .collect(ImmutableSet.toImmutableSet()));
+  }
+
+  @Test
+  public void jarsRewrittenWithTheSameSizeAndModificationTimeAreReindexed() throws Exception {
+    assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("unix"));
+    // Use a time that setting the modification time restores exactly.
+    Files.setLastModifiedTime(jar, FileTime.fromMillis(1000000000000L));
+    ClasspathJarIndex index = ClasspathJarIndex.get(jar, readAttributes(jar));
+    BasicFileAttributes attributes = readAttributes(jar);
+
+    // Rename a class in place, the way a scrubbed jar of the same size would replace it.
+    byte[] contents = Files.readAllBytes(jar);
+    String latin1 = new String(contents, StandardCharsets.ISO_8859_1);
+    contents =
+        latin1
+            .replace("com/example/Foo.class", "com/example/Goo.class")
+            .getBytes(StandardCharsets.ISO_8859_1);
+    // Let the coarse clock the file system takes change times from tick past the first write.
+    Thread.sleep(20);
+    Files.write(jar, contents);
+    Files.setLastModifiedTime(jar, attributes.lastModifiedTime());
+    assertEquals(attributes.size(), readAttributes(jar).size());
+    assertEquals(attributes.fileKey(), readAttributes(jar).fileKey());
+
+    ClasspathJarIndex reindexed = ClasspathJarIndex.get(jar, readAttributes(jar));
+    assertNotSame(index, reindexed);
+    assertEquals(
+        ImmutableSet.of("com/example/Foo$Inner.class", "com/example/Goo.class"),
+        reindexed.getClasses("com/example").stream()
+            .mapToObj(reindexed::getName)
+            .collect(ImmutableSet.toImmutableSet()));
+  }
+
+  @Test
+  public void manifestClassPathIsExpandedFromClasspathOption() throws IOException {
+    Manifest manifest = new Manifest();
+    manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+    manifest.getMainAttributes().put(Attributes.Name.CLASS_PATH, jar.getFileName().toString());
+    Path manifestJar = tmp.getRoot().resolve("manifest.jar");
+    try (OutputStream out = Files.newOutputStream(manifestJar);
+        JarOutputStream jarOut = new JarOutputStream(out, manifest)) {
+      jarOut.putNextEntry(new JarEntry("com/example/Other.class"));
+      jarOut.write(new byte[] {0});
+      jarOut.closeEntry();
+    }
+
+    String classpath = manifestJar + File.pathSeparator + tmp.getRoot().resolve("missing.jar");
+    StandardJavaFileManager standard = compiler.getStandardFileManager(null, null, null);
+    standard.handleOption("-classpath", Iterators.singletonIterator(classpath));
+    ClasspathJarIndexFileManager indexed =
+        new ClasspathJarIndexFileManager(compiler.getStandardFileManager(null, null, null));
+    indexed.handleOption("-classpath", Iterators.singletonIterator(classpath));
+
+    List<String> listing = describeListing(indexed, "com.example", false);
+    assertEquals(describeListing(standard, "com.example", false), listing);
+    assertEquals(3, listing.size());
+  }
+
+  @Test
+  public void directoriesOnTheClasspathAreListedByTheWrappedFileManager() throws IOException {
+    Path classesDir = tmp.newFolder("classes");
+    Files.createDirectories(classesDir.resolve("com/example"));
+    Files.write(classesDir.resolve("com/example/Baz.class"), new byte[] {0});
+
+    try (ClasspathJarIndexFileManager indexed =
+        new ClasspathJarIndexFileManager(newStandardFileManager())) {
+      indexed.setLocation(CLASS_PATH, ImmutableList.of(classesDir.toFile(), jar.toFile()));
+      Set<String> binaryNames = new TreeSet<>();
+      for (JavaFileObject file : indexed.list(CLASS_PATH, "com.example", CLASSES, false)) {
+        binaryNames.add(indexed.inferBinaryName(CLASS_PATH, file));
+      }
+      assertEquals(
+          ImmutableSet.of("com.example.Baz", "com.example.Foo", "com.example.Foo$Inner"),
+          binaryNames);
+    }
+  }
+
+  private StandardJavaFileManager newStandardFileManager() throws IOException {
+    StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null);
+    fileManager.setLocation(CLASS_PATH, ImmutableList.of(jar.toFile()));
+    return fileManager;
+  }
+
+  private static BasicFileAttributes readAttributes(Path path) throws IOException {
+    return Files.readAttributes(path, BasicFileAttributes.class);
+  }
+
+  private static List<String> describeListing(
+      StandardJavaFileManager fileManager, String packageName, boolean recurse)
+      throws IOException {
+    List<String> descriptions = new ArrayList<>();
+    try (StandardJavaFileManager closer = fileManager) {
+      for (JavaFileObject file : fileManager.list(CLASS_PATH, packageName, CLASSES, recurse)) {
+        descriptions.add(
+            fileManager.inferBinaryName(CLASS_PATH, file)
+                + " "
+                + file.toUri()
+                + " "
+                + file.getKind()
+                + " "
+                + file.isNameCompatible("Foo", JavaFileObject.Kind.CLASS));
+      }
+    }
+    descriptions.sort(String::compareTo);
+    return descriptions;
+  }
+
+  private ImmutableSetMultimap<Path, Path> compileAndTrackClassUsage(
+      StandardJavaFileManager fileManager, String source) throws IOException {
+    Path sourceFile = tmp.getRoot().resolve("User.java");
+    Files.write(sourceFile, source.getBytes(StandardCharsets.UTF_8));
+    Path outputDir = Files.createTempDirectory(tmp.getRoot(), "out");
+
+    ClassUsageTracker tracker = new ClassUsageTracker();
+    try (ListenableFileManager listenableFileManager = new ListenableFileManager(fileManager)) {
+      listenableFileManager.addListener(tracker);
+      listenableFileManager.setLocation(
+          StandardLocation.CLASS_OUTPUT, ImmutableList.of(outputDir.toFile()));
+      assertTrue(
+          compiler
+              .getTask(
+                  null,
+                  listenableFileManager,
+                  null,
+                  null,
+                  null,
+                  fileManager.getJavaFileObjects(sourceFile.toFile()))
+              .call());
+    }
+    return tracker.getClassUsageMap();
+  }
+
+  private Path writeJar(String name, ImmutableMap<String, String> sources) throws IOException {
+    Path sourceDir = tmp.newFolder(name + "-src");
+    Path classesDir = tmp.newFolder(name + "-classes");
+    List<File> sourceFiles = new ArrayList<>();
+    for (Map.Entry<String, String> source : sources.entrySet()) {
+      Path sourceFile = sourceDir.resolve(source.getKey());
+      Files.write(sourceFile, source.getValue().getBytes(StandardCharsets.UTF_8));
+      sourceFiles.add(sourceFile.toFile());
+    }
+    try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+      fileManager.setLocation(StandardLocation.CLASS_OUTPUT, ImmutableList.of(classesDir.toFile()));
+      assertTrue(
+          compiler
+              .getTask(
+                  null,
+                  fileManager,
+                  null,
+                  null,
+                  null,
+                  fileManager.getJavaFileObjectsFromFiles(sourceFiles))
+              .call());
+    }
+
+    Path jarPath = tmp.getRoot().resolve(name);
+    try (OutputStream out = Files.newOutputStream(jarPath);
+        JarOutputStream jarOut = new JarOutputStream(out)) {
+      List<Path> classFiles = new ArrayList<>();
+      Files.walk(classesDir).filter(Files::isRegularFile).forEach(classFiles::add);
+      classFiles.sort(Path::compareTo);
+      for (Path classFile : classFiles) {
+        String entryName = classesDir.relativize(classFile).toString();
+        jarOut.putNextEntry(new JarEntry(entryName.replace(File.separatorChar, '/')));
+        jarOut.write(Files.readAllBytes(classFile));
+        jarOut.closeEntry();
+      }
+    }
+    return jarPath;
+  }
+}
@@ -0,0 +1,337 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.jvm.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.core.build.execution.context.ExecutionContext;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.BuildTargetFactory;
+import com.facebook.buck.core.rules.resolver.impl.TestActionGraphBuilder;
+import com.facebook.buck.core.sourcepath.resolver.SourcePathResolverAdapter;
+import com.facebook.buck.io.file.MostFiles;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import com.facebook.buck.jvm.java.abi.AbiGenerationMode;
+import com.facebook.buck.jvm.java.abi.source.api.SourceOnlyAbiRuleInfoFactory;
+import com.facebook.buck.step.StepExecutionResult;
+import com.facebook.buck.step.TestExecutionContext;
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.annotation.Nullable;
+import javax.tools.ToolProvider;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class IncrementalJavacStepTest {
+  private static final ImmutableSet<String> ALL_SOURCES =
+      ImmutableSet.of("A.java", "B.java", "C.java", "D.java");
+
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
+  private ProjectFilesystem filesystem;
+  private BuildTarget target;
+  private Path classesDir;
+  private RecordingJavac javac;
+  private ImmutableSortedSet<Path> classpath = ImmutableSortedSet.of();
+
+  @Before
+  public void setUp() throws IOException {
+    filesystem = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
+    target = BuildTargetFactory.newInstance("//foo:bar");
+    classesDir = filesystem.resolve(CompilerOutputPaths.getClassesDir(target, filesystem));
+    javac = new RecordingJavac();
+
+    writeSource("A.java", "public class A { public int value() { return 1; } }");
+    writeSource("B.java", "public class B { int value() { return new A().value(); } }");
+    writeSource("C.java", "public class C {}");
+    writeSource("D.java", "public class D { private static class Inner {} }");
+  }
+
+  @Test
+  public void firstCompilationCompilesEverything() throws Exception {
+    assertEquals(ImmutableList.of(ALL_SOURCES), compile());
+    assertTrue(Files.exists(classesDir.resolve("foo/D$Inner.class")));
+  }
+
+  @Test
+  public void unchangedSourcesAreNotRecompiled() throws Exception {
+    compile();
+    assertEquals(ImmutableList.of(), compile());
+    for (String name : ImmutableList.of("A", "B", "C", "D", "D$Inner")) {
+      assertTrue(Files.exists(classesDir.resolve("foo/" + name + ".class")));
+    }
+  }
+
+  @Test
+  public void bodyChangeRecompilesOnlyTheChangedSource() throws Exception {
+    compile();
+    writeSource("A.java", "public class A { public int value() { return 2; } }");
+    assertEquals(ImmutableList.of(ImmutableSet.of("A.java")), compile());
+  }
+
+  @Test
+  public void abiChangeRecompilesDependentSources() throws Exception {
+    compile();
+    writeSource(
+        "A.java", "public class A { public int value() { return 1; } public void added() {} }");
+    assertEquals(
+        ImmutableList.of(ImmutableSet.of("A.java"), ImmutableSet.of("B.java")), compile());
+    assertEquals(ImmutableList.of(), compile());
+  }
+
+  @Test
+  public void constantChangeRecompilesEverything() throws Exception {
+    writeSource("A.java", "public class A { public static final int VALUE = 1; }");
+    writeSource("B.java", "public class B { int value() { return A.VALUE; } }");
+    compile();
+    writeSource("A.java", "public class A { public static final int VALUE = 2; }");
+    assertEquals(ImmutableList.of(ImmutableSet.of("A.java"), ALL_SOURCES), compile());
+  }
+
+  @Test
+  public void removedSourceRemovesItsClasses() throws Exception {
+    compile();
+    Files.delete(filesystem.resolve("foo/D.java"));
+    assertEquals(ImmutableList.of(), compile());
+    assertFalse(Files.exists(classesDir.resolve("foo/D.class")));
+    assertFalse(Files.exists(classesDir.resolve("foo/D$Inner.class")));
+    assertTrue(Files.exists(classesDir.resolve("foo/C.class")));
+  }
+
+  @Test
+  public void addedSourceRecompilesEverything() throws Exception {
+    compile();
+    writeSource("E.java", "public class E {}");
+    assertEquals(
+        ImmutableList.of(
+            ImmutableSet.<String>builder().addAll(ALL_SOURCES).add("E.java").build()),
+        compile());
+  }
+
+  @Test
+  public void compileErrorIsReportedAndRecoveredFrom() throws Exception {
+    compile();
+    writeSource("A.java", "public class A { public int value() { return \"\"; } }");
+    assertFalse(execute().isSuccess());
+    writeSource("A.java", "public class A { public int value() { return 2; } }");
+    assertEquals(ImmutableList.of(ALL_SOURCES), compile());
+  }
+
+  @Test
+  public void classpathAbiChangeRecompilesDependentSources() throws Exception {
+    Path dependency = tmp.newFolder("dependency");
+    classpath = ImmutableSortedSet.of(dependency);
+    compileDependency(dependency, "public class Dep { public void method() {} }");
+    writeSource("C.java", "public class C { void call() { new dep.Dep().method(); } }");
+    compile();
+
+    compileDependency(dependency, "public class Dep { public void method() { method(); } }");
+    assertEquals(ImmutableList.of(), compile());
+
+    compileDependency(
+        dependency, "public class Dep { public void method() {} public void added() {} }");
+    assertEquals(ImmutableList.of(ImmutableSet.of("C.java")), compile());
+  }
+
+  @Test
+  public void incrementalOutputMatchesACleanCompile() throws Exception {
+    writeSource(
+        "C.java",
+        "public class C { Runnable task() { return new Runnable() {"
+            + " public void run() { new B().value(); } }; } class Inner {} }");
+    compile();
+
+    writeSource("A.java", "public class A { public int value() { return 2; } }");
+    assertEquals(ImmutableList.of(ImmutableSet.of("A.java")), compile());
+    assertMatchesCleanCompile();
+
+    writeSource("B.java", "public class B { public long value() { return new A().value(); } }");
+    assertEquals(
+        ImmutableList.of(ImmutableSet.of("B.java"), ImmutableSet.of("C.java")), compile());
+    assertMatchesCleanCompile();
+
+    Files.delete(filesystem.resolve("foo/D.java"));
+    assertEquals(ImmutableList.of(), compile());
+    assertMatchesCleanCompile();
+  }
+
+  @Test
+  public void classShadowingAnImportOnTheClasspathRecompilesEverything() throws Exception {
+    Path dependency = tmp.newFolder("dependency");
+    classpath = ImmutableSortedSet.of(dependency);
+    compileDependency(dependency, "dep", "Util", "public class Util {}");
+    writeSource("C.java", "import dep.*; public class C { Object util() { return new Util(); } }");
+    compile();
+
+    // A class in the package of C takes precedence over the one it imports on demand, although
+    // nothing C referred to before changed.
+    compileDependency(dependency, "foo", "Util", "public class Util {}");
+    assertEquals(ImmutableList.of(ALL_SOURCES), compile());
+    assertMatchesCleanCompile();
+  }
+
+  private void compileDependency(Path output, String contents) throws IOException {
+    compileDependency(output, "dep", "Dep", contents);
+  }
+
+  private void compileDependency(Path output, String packageName, String name, String contents)
+      throws IOException {
+    Path source = tmp.getRoot().resolve(name + ".java");
+    Files.write(
+        source,
+        ("package " + packageName + ";\n" + contents).getBytes(StandardCharsets.UTF_8));
+    assertEquals(
+        0,
+        ToolProvider.getSystemJavaCompiler()
+            .run(null, null, null, "-d", output.toString(), source.toString()));
+  }
+
+  private void writeSource(String name, String contents) throws IOException {
+    Path path = filesystem.resolve("foo").resolve(name);
+    Files.createDirectories(path.getParent());
+    Files.write(path, ("package foo;\n" + contents).getBytes(StandardCharsets.UTF_8));
+  }
+
+  /** Checks that compiling every source from scratch produces exactly the same class files. */
+  private void assertMatchesCleanCompile() throws Exception {
+    ImmutableSortedMap<String, String> incremental = hashClasses();
+    MostFiles.deleteRecursivelyIfExists(
+        filesystem.resolve(CompilerOutputPaths.getIncrementalStateDir(target, filesystem)));
+    compile();
+    assertEquals(incremental, hashClasses());
+  }
+
+  private ImmutableSortedMap<String, String> hashClasses() throws IOException {
+    ImmutableSortedMap.Builder<String, String> hashes = ImmutableSortedMap.naturalOrder();
+    try (Stream<Path> paths = Files.walk(classesDir)) {
+      for (Path path : paths.filter(Files::isRegularFile).collect(Collectors.toList())) {
+        hashes.put(
+            classesDir.relativize(path).toString(),
+            Hashing.sha1().hashBytes(Files.readAllBytes(path)).toString());
+      }
+    }
+    return hashes.build();
+  }
+
+  /** @return the file names of the sources given to javac in each round. */
+  private List<ImmutableSet<String>> compile() throws Exception {
+    javac.rounds.clear();
+    StepExecutionResult result = execute();
+    assertTrue(result.getStderr().orElse(""), result.isSuccess());
+    return javac.rounds.stream()
+        .map(
+            round ->
+                round.stream()
+                    .map(path -> path.getFileName().toString())
+                    .collect(ImmutableSet.toImmutableSet()))
+        .collect(Collectors.toList());
+  }
+
+  private StepExecutionResult execute() throws Exception {
+    // As the steps before javac would.
+    MostFiles.deleteRecursivelyIfExists(classesDir);
+    Files.createDirectories(classesDir);
+    ImmutableSortedSet<Path> sources;
+    try (Stream<Path> paths = Files.list(filesystem.resolve("foo"))) {
+      sources =
+          paths
+              .map(path -> filesystem.relativize(path).getPath())
+              .collect(ImmutableSortedSet.toImmutableSortedSet(Path::compareTo));
+    }
+    CompilerParameters parameters =
+        CompilerParameters.builder()
+            .setScratchPaths(target, filesystem)
+            .setSourceFilePaths(sources)
+            .setClasspathEntries(classpath)
+            .build();
+    Files.createDirectories(
+        filesystem.resolve(parameters.getOutputPaths().getPathToSourcesList().getParent()));
+    Files.createDirectories(filesystem.resolve(parameters.getOutputPaths().getWorkingDirectory()));
+
+    ExecutionContext context = TestExecutionContext.newInstance();
+    return new IncrementalJavacStep(
+            javac,
+            JavacOptions.builder()
+                .setLanguageLevelOptions(JavacLanguageLevelOptions.DEFAULT)
+                .setIncrementalCompilation(true)
+                .build(),
+            target,
+            new TestActionGraphBuilder().getSourcePathResolver(),
+            filesystem,
+            new ClasspathChecker(),
+            parameters)
+        .execute(context);
+  }
+
+  private static class RecordingJavac extends JdkProvidedInMemoryJavac {
+    private final List<ImmutableSortedSet<Path>> rounds = new ArrayList<>();
+
+    @Override
+    public Invocation newBuildInvocation(
+        JavacExecutionContext context,
+        SourcePathResolverAdapter resolver,
+        BuildTarget invokingRule,
+        ImmutableList<String> options,
+        ImmutableList<JavacPluginJsr199Fields> annotationProcessors,
+        ImmutableList<JavacPluginJsr199Fields> javacPlugins,
+        ImmutableSortedSet<Path> javaSourceFilePaths,
+        Path pathToSrcsList,
+        Path workingDirectory,
+        boolean trackClassUsage,
+        boolean trackJavacPhaseEvents,
+        @Nullable JarParameters abiJarParameters,
+        @Nullable JarParameters libraryJarParameters,
+        AbiGenerationMode abiGenerationMode,
+        AbiGenerationMode abiCompatibilityMode,
+        @Nullable SourceOnlyAbiRuleInfoFactory ruleInfoFactory) {
+      rounds.add(javaSourceFilePaths);
+      return super.newBuildInvocation(
+          context,
+          resolver,
+          invokingRule,
+          options,
+          annotationProcessors,
+          javacPlugins,
+          javaSourceFilePaths,
+          pathToSrcsList,
+          workingDirectory,
+          trackClassUsage,
+          trackJavacPhaseEvents,
+          abiJarParameters,
+          libraryJarParameters,
+          abiGenerationMode,
+          abiCompatibilityMode,
+          ruleInfoFactory);
+    }
+  }
+}
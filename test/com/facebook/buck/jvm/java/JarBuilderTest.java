@@ -16,6 +16,7 @@
 
 package com.facebook.buck.jvm.java;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -26,7 +27,9 @@ import com.facebook.buck.util.zip.JarEntryContainer;
 import com.facebook.buck.util.zip.JarEntrySupplier;
 import com.facebook.buck.util.zip.ZipConstants;
 import com.google.common.base.Charsets;
+import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
+import com.google.common.hash.Hashing;
 import com.google.common.io.CharStreams;
 import java.io.ByteArrayInputStream;
 import java.io.File;
@@ -39,12 +42,15 @@ import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.jar.Attributes;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.Deflater;
 import javax.annotation.Nullable;
 import org.hamcrest.Matchers;
 import org.junit.Rule;
@@ -286,6 +292,56 @@ public class JarBuilderTest {
     assertThat(entries.keySet(), Matchers.contains("After"));
   }
 
+  @Test
+  public void testParallelJarIsIdenticalToSequentialJar() throws Exception {
+    File inputJar = temporaryFolder.newFile();
+    JarBuilder inputJarBuilder = new JarBuilder();
+    for (int i = 0; i < 1000; i++) {
+      addEntry(
+          inputJarBuilder,
+          String.format("com/example/p%d/Class%d.class", i % 7, i),
+          Strings.repeat("Class" + i, i % 50));
+    }
+    inputJarBuilder.createJarFile(inputJar.toPath());
+
+    File sequentialJar = temporaryFolder.newFile();
+    newMergingJarBuilder(inputJar).createJarFile(sequentialJar.toPath());
+
+    File parallelJar = temporaryFolder.newFile();
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      newMergingJarBuilder(inputJar)
+          .setParallelism(executor, 4)
+          .createJarFile(parallelJar.toPath());
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertArrayEquals(
+        Files.readAllBytes(sequentialJar.toPath()), Files.readAllBytes(parallelJar.toPath()));
+  }
+
+  private JarBuilder newMergingJarBuilder(File inputJar) {
+    JarBuilder jarBuilder =
+        new JarBuilder()
+            .setEntriesToJar(ImmutableList.of(inputJar.toPath()))
+            .setRemoveEntryPredicate(entry -> entry.getName().endsWith("3.class"));
+    addEntry(jarBuilder, "com/example/p1/Class1.class", "Duplicate");
+    addEntry(jarBuilder, "META-INF/services/com.example.Service", "com.example.Implementation");
+    addEntry(jarBuilder, "com/example/large.txt", Strings.repeat("Large", 100000));
+    CustomZipEntry stored = new CustomZipEntry("com/example/stored.txt");
+    stored.setCompressionLevel(Deflater.NO_COMPRESSION);
+    stored.setSize(6);
+    stored.setCompressedSize(6);
+    stored.setCrc(Hashing.crc32().hashString("Stored", StandardCharsets.UTF_8).padToLong());
+    jarBuilder.addEntry(
+        new JarEntrySupplier(
+            stored,
+            "owner",
+            () -> new ByteArrayInputStream("Stored".getBytes(StandardCharsets.UTF_8))));
+    return jarBuilder;
+  }
+
   private static class TestJarEntryContainer implements JarEntryContainer {
     @Nullable private Manifest manifest;
     private final List<JarEntrySupplier> suppliers = new ArrayList<>();
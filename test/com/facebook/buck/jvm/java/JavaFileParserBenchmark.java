@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.jvm.java;
+
+import static com.facebook.buck.jvm.java.JavaCompilationConstants.DEFAULT_JAVAC_OPTIONS;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Finds the types declared by every Java source file under a directory, with the {@link
+ * JavaSourceScanner} and with the Eclipse ASTParser. Run it from the root of the repository, or
+ * pass {@code -p sources=<dir>} to use another corpus.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JavaFileParserBenchmark {
+
+  @Param("src/com/facebook/buck/jvm/java")
+  private String sources;
+
+  private JavaFileParser parser;
+  private List<String> files;
+
+  @Setup
+  public void setUp() throws IOException {
+    parser = JavaFileParser.createJavaFileParser(DEFAULT_JAVAC_OPTIONS.getLanguageLevelOptions());
+    List<Path> paths;
+    try (Stream<Path> walk = Files.walk(Paths.get(sources))) {
+      paths = walk.filter(path -> path.toString().endsWith(".java")).collect(Collectors.toList());
+    }
+    files = new ArrayList<>();
+    for (Path path : paths) {
+      files.add(new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void scanner(Blackhole blackhole) {
+    for (String code : files) {
+      blackhole.consume(parser.getExportedSymbolsFromString(code));
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void astParser(Blackhole blackhole) {
+    for (String code : files) {
+      blackhole.consume(parser.extractFeaturesFromJavaCode(code).providedSymbols);
+    }
+  }
+
+  public static void main(String[] args) throws IOException, RunnerException {
+    Main.main(new String[] {JavaFileParserBenchmark.class.getName()});
+  }
+}
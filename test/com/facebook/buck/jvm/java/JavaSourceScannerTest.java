@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.jvm.java;
+
+import static org.junit.Assert.assertEquals;
+
+import com.facebook.buck.jvm.java.JavaSourceScanner.UnsupportedSourceException;
+import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableSortedSet;
+import java.util.Optional;
+import org.junit.Test;
+
+public class JavaSourceScannerTest {
+
+  @Test
+  public void findsPackageAfterCommentsAndAnnotations() throws UnsupportedSourceException {
+    assertEquals(
+        Optional.of("com.example.sub"),
+        JavaSourceScanner.scanPackageName(
+            Joiner.on('\n')
+                .join(
+                    "/* package misleading; */",
+                    "// package alsoMisleading;",
+                    "@ParametersAreNonnullByDefault",
+                    "@javax.annotation.Generated(value = {\"x)\"}, date = \"(\")",
+                    "package com . example",
+                    "    .sub;")));
+  }
+
+  @Test
+  public void findsNoPackageInTheDefaultPackage() throws UnsupportedSourceException {
+    assertEquals(Optional.empty(), JavaSourceScanner.scanPackageName(""));
+    assertEquals(Optional.empty(), JavaSourceScanner.scanPackageName("import java.util.List;"));
+    assertEquals(Optional.empty(), JavaSourceScanner.scanPackageName("@interface Annotation {}"));
+    assertEquals(
+        Optional.empty(), JavaSourceScanner.scanPackageName("@Deprecated public class Foo {}"));
+  }
+
+  @Test
+  public void findsTopLevelAndNestedTypes() throws UnsupportedSourceException {
+    String code =
+        Joiner.on('\n')
+            .join(
+                "package com.example;",
+                "import java.util.List;",
+                "public class Example<T extends List<?>> extends Base implements Runnable {",
+                "  private static final int[] VALUES = {1, 2, 3};",
+                "  static { Object o = Example.class; }",
+                "  public enum InnerEnum {",
+                "    FOO { void run() {} },",
+                "    BAR;",
+                "    public class InnerClass {}",
+                "  }",
+                "  @interface InnerAnnotation { String[] value() default {\"}\"}; }",
+                "  interface InnerInterface {}",
+                "}",
+                "class AnotherOuterClass {}");
+
+    assertEquals(
+        ImmutableSortedSet.of(
+            "com.example.AnotherOuterClass",
+            "com.example.Example",
+            "com.example.Example.InnerAnnotation",
+            "com.example.Example.InnerEnum",
+            "com.example.Example.InnerEnum.InnerClass",
+            "com.example.Example.InnerInterface"),
+        JavaSourceScanner.scanTypeNames(code));
+  }
+
+  @Test
+  public void skipsLocalAndAnonymousClasses() throws UnsupportedSourceException {
+    String code =
+        Joiner.on('\n')
+            .join(
+                "class Outer {",
+                "  Runnable field = new Runnable() {",
+                "    class InAnonymous {}",
+                "    public void run() {}",
+                "  };",
+                "  void method() {",
+                "    class Local { class NestedInLocal {} }",
+                "    call(() -> { class InLambda {} });",
+                "  }",
+                "}");
+
+    assertEquals(ImmutableSortedSet.of("Outer"), JavaSourceScanner.scanTypeNames(code));
+  }
+
+  @Test
+  public void ignoresKeywordsAndBracesInLiterals() throws UnsupportedSourceException {
+    String code =
+        Joiner.on('\n')
+            .join(
+                "package com.example;",
+                "class Literals {",
+                "  String s = \"class Fake { \\\" }\";",
+                "  char open = '{';",
+                "  char quote = '\\'';",
+                "  String block = \"\"\"",
+                "      interface Fake {\"\"",
+                "      \"\"\";",
+                "  double d = 1.5e-3 + .5f + 0x1F;",
+                "}");
+
+    assertEquals(
+        ImmutableSortedSet.of("com.example.Literals"), JavaSourceScanner.scanTypeNames(code));
+  }
+
+  @Test(expected = UnsupportedSourceException.class)
+  public void rejectsUnbalancedBraces() throws UnsupportedSourceException {
+    JavaSourceScanner.scanTypeNames("class Foo { void bar() { }");
+  }
+
+  @Test(expected = UnsupportedSourceException.class)
+  public void rejectsUnterminatedComments() throws UnsupportedSourceException {
+    JavaSourceScanner.scanPackageName("/* package com.example;");
+  }
+
+  @Test(expected = UnsupportedSourceException.class)
+  public void rejectsUnicodeEscapesOutsideOfLiterals() throws UnsupportedSourceException {
+    JavaSourceScanner.scanTypeNames("class \\u0046oo {}");
+  }
+
+  @Test(expected = UnsupportedSourceException.class)
+  public void rejectsPackageWithoutSemicolon() throws UnsupportedSourceException {
+    JavaSourceScanner.scanPackageName("package com.example class Foo {}");
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.jvm.java;
+
+import static org.junit.Assert.assertEquals;
+
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.impl.FakeProjectFilesystem;
+import com.facebook.buck.test.TestCaseSummary;
+import com.facebook.buck.test.TestResultSummary;
+import com.facebook.buck.test.result.type.ResultType;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import org.junit.Test;
+
+public class TestClassDurationsTest {
+
+  @Test
+  public void longClassesAreSpreadAcrossShards() {
+    ImmutableList<ImmutableSortedSet<String>> shards =
+        TestClassDurations.assignShards(
+            ImmutableSet.of("A", "B", "C", "D", "E"),
+            ImmutableMap.of("A", 100L, "B", 60L, "C", 50L, "D", 40L, "E", 10L),
+            2);
+
+    assertEquals(
+        ImmutableList.of(ImmutableSortedSet.of("A", "D"), ImmutableSortedSet.of("B", "C", "E")),
+        shards);
+  }
+
+  @Test
+  public void classesWhichNeverRanAreAssumedToTakeTheAverageTime() {
+    ImmutableList<ImmutableSortedSet<String>> shards =
+        TestClassDurations.assignShards(
+            ImmutableSet.of("A", "B", "New"), ImmutableMap.of("A", 10L, "B", 30L), 2);
+
+    assertEquals(
+        ImmutableList.of(ImmutableSortedSet.of("B"), ImmutableSortedSet.of("A", "New")), shards);
+  }
+
+  @Test
+  public void noMoreShardsThanClassesAreCreated() {
+    ImmutableList<ImmutableSortedSet<String>> shards =
+        TestClassDurations.assignShards(ImmutableSet.of("A", "B"), ImmutableMap.of(), 8);
+
+    assertEquals(
+        ImmutableList.of(ImmutableSortedSet.of("A"), ImmutableSortedSet.of("B")), shards);
+  }
+
+  @Test
+  public void updateKeepsDurationsOfClassesWhichDidNotRun() throws IOException {
+    ProjectFilesystem filesystem = new FakeProjectFilesystem();
+    Path path = Paths.get("buck-out/gen/foo/test-class-durations.json");
+
+    TestClassDurations.update(
+        filesystem, path, ImmutableList.of(summary("A", 10), summary("B", 20)));
+    TestClassDurations.update(filesystem, path, ImmutableList.of(summary("B", 5)));
+
+    assertEquals(ImmutableMap.of("A", 10L, "B", 5L), TestClassDurations.read(filesystem, path));
+  }
+
+  @Test
+  public void unreadableDurationsAreIgnored() throws IOException {
+    ProjectFilesystem filesystem = new FakeProjectFilesystem();
+    Path path = Paths.get("test-class-durations.json");
+    filesystem.writeContentsToPath("not json", path);
+
+    assertEquals(ImmutableMap.of(), TestClassDurations.read(filesystem, path));
+  }
+
+  private static TestCaseSummary summary(String testClass, long time) {
+    return new TestCaseSummary(
+        testClass,
+        ImmutableList.of(
+            new TestResultSummary(
+                testClass, "test", ResultType.SUCCESS, time, null, null, null, null)));
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.jvm.java.abi;
+
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Measures generating the stub jar of a large prebuilt jar on one thread and in parallel. Pass
+ * {@code -p jar=<path>} to stub a different jar.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StubJarBenchmark {
+
+  @Param("third-party/java/guava/guava-23.3-jre.jar")
+  private String jar;
+
+  @Param({"1", "4"})
+  private int parallelism;
+
+  private final Path output = Paths.get("stub.jar");
+
+  private ExecutorService executor;
+  private Path scratch;
+  private ProjectFilesystem filesystem;
+
+  @Setup(Level.Trial)
+  public void setUpTrial() throws IOException {
+    executor = Executors.newFixedThreadPool(parallelism);
+    scratch = Files.createTempDirectory("stub-jar-benchmark");
+    filesystem = TestProjectFilesystems.createProjectFilesystem(scratch);
+  }
+
+  @Setup(Level.Invocation)
+  public void deleteOutput() throws IOException {
+    Files.deleteIfExists(scratch.resolve(output));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDownTrial() throws IOException {
+    executor.shutdownNow();
+    Files.deleteIfExists(scratch.resolve(output));
+    Files.deleteIfExists(scratch);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void stubJar() throws IOException {
+    new StubJar(Paths.get(jar).toAbsolutePath())
+        .setParallelism(executor, parallelism)
+        .writeTo(filesystem, output);
+  }
+
+  public static void main(String[] args) throws IOException, RunnerException {
+    Main.main(new String[] {StubJarBenchmark.class.getName()});
+  }
+}
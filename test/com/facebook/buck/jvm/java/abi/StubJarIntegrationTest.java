@@ -16,6 +16,7 @@
 
 package com.facebook.buck.jvm.java.abi;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
@@ -28,9 +29,13 @@ import com.google.common.io.ByteSource;
 import com.google.common.io.ByteStreams;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Enumeration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
@@ -98,6 +103,52 @@ public class StubJarIntegrationTest {
     assertTrue(filesystem.getFileSize(out) < filesystem.getFileSize(source));
   }
 
+  @Test
+  public void parallelStubbingShouldBuildTheSameAbiJar() throws IOException {
+    Path source = testDataDir.resolve("android.jar");
+    Path serial = Paths.get("android-abi-serial.jar");
+    new StubJar(source).writeTo(filesystem, serial);
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      Path parallel = Paths.get("android-abi-parallel.jar");
+      new StubJar(source).setParallelism(executor, 4).writeTo(filesystem, parallel);
+
+      assertArrayEquals(
+          Files.readAllBytes(filesystem.resolve(serial)),
+          Files.readAllBytes(filesystem.resolve(parallel)));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void parallelStubbingShouldNotWaitForHelpersToBeScheduled() throws Exception {
+    Path source = testDataDir.resolve("junit.jar");
+    Path serial = Paths.get("junit-abi-serial.jar");
+    new StubJar(source).writeTo(filesystem, serial);
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    CountDownLatch blockExecutor = new CountDownLatch(1);
+    try {
+      executor.submit(
+          () -> {
+            blockExecutor.await();
+            return null;
+          });
+
+      Path parallel = Paths.get("junit-abi-parallel.jar");
+      new StubJar(source).setParallelism(executor, 2).writeTo(filesystem, parallel);
+
+      assertArrayEquals(
+          Files.readAllBytes(filesystem.resolve(serial)),
+          Files.readAllBytes(filesystem.resolve(parallel)));
+    } finally {
+      blockExecutor.countDown();
+      executor.shutdownNow();
+    }
+  }
+
   @Test
   public void abiJarManifestShouldContainHashesOfItsFiles() throws IOException {
     Path out = Paths.get("junit-abi.jar");
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.jvm.java.runner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import com.facebook.buck.testutil.TemporaryPaths;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class TestRunnerWorkerTest {
+  private static final String PROPERTY = "com.facebook.buck.testRunnerWorkerTest";
+  private static final String HANDSHAKE =
+      "{\"id\":0,\"type\":\"handshake\",\"protocol_version\":\"0\",\"capabilities\":[]}";
+
+  @Rule public TemporaryPaths temporaryPaths = new TemporaryPaths();
+
+  private TestRunnerWorker worker;
+  private Path classPathFile;
+
+  @Before
+  public void setUp() throws Exception {
+    // The fake runner is loaded from wherever this test was, by a class loader of its own.
+    worker =
+        new TestRunnerWorker(
+            Paths.get(
+                TestRunnerWorkerTest.class
+                    .getProtectionDomain()
+                    .getCodeSource()
+                    .getLocation()
+                    .toURI()));
+    classPathFile = temporaryPaths.newFile("classpath");
+    Files.write(classPathFile, Collections.emptyList());
+  }
+
+  @Test
+  public void answersTheHandshakeAndEndsWithTheInput() throws IOException {
+    assertEquals("[" + HANDSHAKE + "]", serve("[" + HANDSHAKE + "]"));
+  }
+
+  @Test
+  public void runsTheTestRunnerWithTheArgumentsAndPropertiesOfTheCommand() throws IOException {
+    String command = command(1, "-D" + PROPERTY + "=value", "first", "sec\nond");
+    String output = serve("[" + HANDSHAKE + "," + command + "]");
+
+    assertEquals("[" + HANDSHAKE + ",{\"id\":1,\"type\":\"result\",\"exit_code\":0}]", output);
+    assertEquals("value [first, sec\nond]" + System.lineSeparator(), read("1.out"));
+    assertNull(System.getProperty(PROPERTY));
+  }
+
+  @Test
+  public void asksToBeRecycledWhenTheTestsLeaveThreadsRunning() throws IOException {
+    String output = serve("[" + HANDSHAKE + "," + command(1, "leak") + "]");
+
+    assertEquals(
+        "["
+            + HANDSHAKE
+            + ",{\"id\":1,\"type\":\"result\",\"exit_code\":"
+            + TestRunnerWorker.RECYCLE_EXIT_CODE
+            + "}]",
+        output);
+  }
+
+  @Test
+  public void doesntMistakeTheCommonPoolForLeakedThreads() throws IOException {
+    String output = serve("[" + HANDSHAKE + "," + command(1, "common-pool") + "]");
+
+    assertEquals("[" + HANDSHAKE + ",{\"id\":1,\"type\":\"result\",\"exit_code\":0}]", output);
+  }
+
+  @Test
+  public void sharedEntriesShadowingEarlierEntriesAreLoadedInClassPathOrder() throws IOException {
+    Path unshared = temporaryPaths.newFolder("unshared");
+    Path shadowing = temporaryPaths.newFolder("shadowing");
+    Path shared = temporaryPaths.newFolder("shared");
+    Files.write(unshared.resolve("shadowed.txt"), "unshared".getBytes(StandardCharsets.UTF_8));
+    Files.write(shadowing.resolve("shadowed.txt"), "shadowing".getBytes(StandardCharsets.UTF_8));
+    Files.write(shared.resolve("other.txt"), "shared".getBytes(StandardCharsets.UTF_8));
+    Files.write(
+        classPathFile,
+        Arrays.asList(unshared.toString(), shadowing.toString(), shared.toString()));
+
+    List<Path> sharedEntries = Arrays.asList(shadowing, shared);
+    String output =
+        serve(
+            "["
+                + HANDSHAKE
+                + ","
+                + command(1, sharedEntries, "resource", "shadowed.txt")
+                + ","
+                + command(2, sharedEntries, "resource", "other.txt")
+                + "]");
+
+    assertEquals(
+        "["
+            + HANDSHAKE
+            + ",{\"id\":1,\"type\":\"result\",\"exit_code\":0}"
+            + ",{\"id\":2,\"type\":\"result\",\"exit_code\":0}]",
+        output);
+    assertEquals("unshared, shared: false" + System.lineSeparator(), read("1.out"));
+    assertEquals("shared, shared: true" + System.lineSeparator(), read("2.out"));
+  }
+
+  @Test
+  public void refusesPropertiesWhichOnlyTakeEffectWhenTheJvmStarts() throws IOException {
+    String tmpdir = temporaryPaths.getRoot().resolve("tmp").toString();
+    String output = serve("[" + HANDSHAKE + "," + command(1, "-Djava.io.tmpdir=" + tmpdir) + "]");
+
+    assertEquals(
+        "["
+            + HANDSHAKE
+            + ",{\"id\":1,\"type\":\"result\",\"exit_code\":"
+            + TestRunnerWorker.NEEDS_OWN_JVM_EXIT_CODE
+            + "}]",
+        output);
+    assertEquals("", read("1.out"));
+  }
+
+  @Test
+  public void rejectsUnknownMessages() throws IOException {
+    String output = serve("[" + HANDSHAKE + ",\n {\"id\": 1, \"type\": \"unknown\"}\n]");
+
+    assertEquals("[" + HANDSHAKE + ",{\"id\":1,\"type\":\"error\",\"exit_code\":1}]", output);
+  }
+
+  private String serve(String input) throws IOException {
+    StringWriter output = new StringWriter();
+    worker.serve(new StringReader(input), output);
+    return output.toString();
+  }
+
+  private String command(int id, String... runnerArgs) throws IOException {
+    return command(id, Collections.emptyList(), runnerArgs);
+  }
+
+  private String command(int id, List<Path> sharedEntries, String... runnerArgs)
+      throws IOException {
+    Path root = temporaryPaths.getRoot();
+    StringBuilder args = new StringBuilder();
+    args.append(TestRunnerWorker.CLASSPATH_FILE_ARG).append(TestRunnerWorker.ARG_SEPARATOR);
+    args.append(classPathFile).append(TestRunnerWorker.ARG_SEPARATOR);
+    for (Path entry : sharedEntries) {
+      args.append(TestRunnerWorker.SHARED_CLASSPATH_ENTRY_ARG)
+          .append(TestRunnerWorker.ARG_SEPARATOR);
+      args.append(entry).append(TestRunnerWorker.ARG_SEPARATOR);
+    }
+    int i = 0;
+    for (; i < runnerArgs.length && runnerArgs[i].startsWith("-D"); i++) {
+      args.append(runnerArgs[i]).append(TestRunnerWorker.ARG_SEPARATOR);
+    }
+    args.append(FakeRunner.class.getName());
+    for (; i < runnerArgs.length; i++) {
+      args.append(TestRunnerWorker.ARG_SEPARATOR).append(runnerArgs[i]);
+    }
+    Path argsPath = root.resolve(id + ".args");
+    Files.write(argsPath, args.toString().getBytes(StandardCharsets.UTF_8));
+
+    return String.format(
+        "{\"id\":%d,\"type\":\"command\",\"args_path\":\"%s\",\"stdout_path\":\"%s\","
+            + "\"stderr_path\":\"%s\"}",
+        id, argsPath, root.resolve(id + ".out"), root.resolve(id + ".err"));
+  }
+
+  private String read(String name) throws IOException {
+    return new String(
+        Files.readAllBytes(temporaryPaths.getRoot().resolve(name)), StandardCharsets.UTF_8);
+  }
+
+  /** Stands in for the test runners, which the worker loads by name. */
+  public static class FakeRunner {
+    public static int run(String[] args) throws IOException {
+      if (args.length == 1 && args[0].equals("common-pool")) {
+        ForkJoinPool.commonPool().submit(() -> {}).join();
+        return 0;
+      }
+      if (args.length == 2 && args[0].equals("resource")) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        // The worker loads this class without the rest of the classpath, so only the JRE is visible.
+        try (BufferedReader resource =
+            new BufferedReader(
+                new InputStreamReader(
+                    classLoader.getResourceAsStream(args[1]), StandardCharsets.UTF_8))) {
+          System.out.printf(
+              "%s, shared: %s%n",
+              resource.readLine(), classLoader.getParent().getResource(args[1]) != null);
+        }
+        return 0;
+      }
+      if (args.length == 1 && args[0].equals("leak")) {
+        Thread thread =
+            new Thread(
+                () -> {
+                  try {
+                    Thread.sleep(10_000);
+                  } catch (InterruptedException e) {
+                    // Just let the thread end.
+                  }
+                });
+        thread.setDaemon(true);
+        thread.start();
+        return 0;
+      }
+      System.out.println(System.getProperty(PROPERTY) + " " + Arrays.toString(args));
+      return 0;
+    }
+  }
+}
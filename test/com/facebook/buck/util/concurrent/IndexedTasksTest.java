@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.util.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.junit.Test;
+
+public class IndexedTasksTest {
+
+  @Test
+  public void everyIndexRunsOnce() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      AtomicIntegerArray runs = new AtomicIntegerArray(1000);
+      IndexedTasks.run(executor, 4, runs.length(), runs::incrementAndGet, false);
+      for (int i = 0; i < runs.length(); i++) {
+        assertEquals(1, runs.get(i));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void callerRunsEveryIndexWhenHelpersAreNeverScheduled() throws Exception {
+    ExplicitRunExecutorService executor = new ExplicitRunExecutorService();
+    AtomicIntegerArray runs = new AtomicIntegerArray(10);
+    IndexedTasks.run(executor, 4, runs.length(), runs::incrementAndGet, false);
+    for (int i = 0; i < runs.length(); i++) {
+      assertEquals(1, runs.get(i));
+    }
+    // Helpers which get to run after all indices were claimed do nothing.
+    executor.run();
+    assertEquals(1, runs.get(0));
+  }
+
+  @Test
+  public void firstFailureIsRethrownAndLaterIndicesAreSkipped() throws Exception {
+    IOException failure = new IOException("boom");
+    AtomicIntegerArray runs = new AtomicIntegerArray(10);
+    try {
+      IndexedTasks.run(
+          new ExplicitRunExecutorService(),
+          2,
+          runs.length(),
+          i -> {
+            runs.incrementAndGet(i);
+            if (i == 3) {
+              throw failure;
+            }
+          },
+          false);
+      fail("Expected the failure to be rethrown");
+    } catch (IOException e) {
+      assertSame(failure, e);
+    }
+    assertEquals(1, runs.get(3));
+    assertEquals(0, runs.get(4));
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.util.zip;
+
+import static org.junit.Assert.assertEquals;
+
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class DirectoryJarEntryContainerTest {
+
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
+  @Test
+  public void entriesKnowTheSizeOfTheirFiles() throws IOException {
+    Path classes = tmp.newFolder("classes");
+    Files.createDirectories(classes.resolve("com/example"));
+    Files.write(classes.resolve("com/example/Foo.class"), new byte[1234]);
+    Files.write(classes.resolve("com/example/Bar.class"), new byte[0]);
+
+    ImmutableMap<String, Long> sizes;
+    try (DirectoryJarEntryContainer container = new DirectoryJarEntryContainer(classes);
+        Stream<JarEntrySupplier> entries = container.stream()) {
+      sizes =
+          entries.collect(
+              ImmutableMap.toImmutableMap(
+                  entry -> entry.getEntry().getName(), JarEntrySupplier::getSize));
+    }
+    assertEquals(
+        ImmutableMap.of(
+            "com/",
+            0L,
+            "com/example/",
+            0L,
+            "com/example/Bar.class",
+            0L,
+            "com/example/Foo.class",
+            1234L),
+        sizes);
+  }
+}
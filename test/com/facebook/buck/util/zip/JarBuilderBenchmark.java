@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.util.zip;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.MoreFiles;
+import com.google.common.io.RecursiveDeleteOption;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Merges a jar of compressible entries into a new jar with {@link JarBuilder}, on one thread and
+ * with {@link JarBuilder#setParallelism}.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JarBuilderBenchmark {
+
+  @Param("4000")
+  private int entries;
+
+  @Param("16384")
+  private int entrySize;
+
+  @Param("4")
+  private int parallelism;
+
+  private Path root;
+  private Path input;
+  private Path output;
+  private ExecutorService executor;
+
+  @Setup
+  public void setUp() throws IOException {
+    root = Files.createTempDirectory("jar-builder-benchmark");
+    input = root.resolve("input.jar");
+    output = root.resolve("output.jar");
+    executor = Executors.newFixedThreadPool(parallelism);
+
+    // Text made of a small vocabulary compresses about as well as class files do.
+    String[] words = {"java", "lang", "Object", "String", "invoke", "<init>", "()V", "Code"};
+    Random random = new Random(0);
+    JarBuilder builder = new JarBuilder();
+    for (int i = 0; i < entries; i++) {
+      StringBuilder contents = new StringBuilder();
+      while (contents.length() < entrySize) {
+        contents.append(words[random.nextInt(words.length)]).append(random.nextInt(100));
+      }
+      byte[] bytes = contents.toString().getBytes(StandardCharsets.UTF_8);
+      builder.addEntry(
+          new JarEntrySupplier(
+              new CustomZipEntry(String.format("com/example/p%d/Class%d.class", i % 20, i)),
+              "benchmark",
+              () -> new ByteArrayInputStream(bytes)));
+    }
+    builder.createJarFile(input);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    executor.shutdownNow();
+    MoreFiles.deleteRecursively(root, RecursiveDeleteOption.ALLOW_INSECURE);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public int sequential() throws IOException {
+    return new JarBuilder().setEntriesToJar(ImmutableList.of(input)).createJarFile(output);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public int parallel() throws IOException {
+    return new JarBuilder()
+        .setEntriesToJar(ImmutableList.of(input))
+        .setParallelism(executor, parallelism)
+        .createJarFile(output);
+  }
+
+  public static void main(String[] args) throws IOException, RunnerException {
+    Main.main(new String[] {JarBuilderBenchmark.class.getName()});
+  }
+}
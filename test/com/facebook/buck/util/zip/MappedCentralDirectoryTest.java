@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.util.zip;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.google.common.io.ByteStreams;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Enumeration;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class MappedCentralDirectoryTest {
+
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
+  @Test
+  public void entriesMatchZipFile() throws IOException {
+    Path zip = tmp.getRoot().resolve("sample.zip");
+    byte[] text = "All the world's a stage".getBytes(StandardCharsets.UTF_8);
+    try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(zip))) {
+      ZipEntry stored = new ZipEntry("stored/Entry.class");
+      stored.setMethod(ZipEntry.STORED);
+      stored.setSize(text.length);
+      CRC32 crc = new CRC32();
+      crc.update(text);
+      stored.setCrc(crc.getValue());
+      out.putNextEntry(stored);
+      out.write(text);
+      out.closeEntry();
+
+      ZipEntry deflated = new ZipEntry("deflated/été.txt");
+      deflated.setExtra(new byte[] {(byte) 0xFE, (byte) 0xCA, 2, 0, 4, 2});
+      deflated.setComment("Exit, pursued by a bear");
+      out.putNextEntry(deflated);
+      for (int i = 0; i < 1000; i++) {
+        out.write(text);
+      }
+      out.closeEntry();
+
+      out.putNextEntry(new ZipEntry("empty/"));
+      out.closeEntry();
+    }
+
+    MappedCentralDirectory directory = MappedCentralDirectory.map(zip);
+    try (ZipFile zipFile = new ZipFile(zip.toFile())) {
+      assertEquals(zipFile.size(), directory.getEntryCount());
+      Enumeration<? extends ZipEntry> entries = zipFile.entries();
+      for (int i = 0; i < directory.getEntryCount(); i++) {
+        ZipEntry expected = entries.nextElement();
+        assertEquals(expected.getName(), directory.getName(i));
+        assertEquals(expected.getMethod(), directory.getMethod(i));
+        assertEquals(expected.getTime(), directory.getTime(i));
+        assertEquals(expected.getCrc(), directory.getCrc(i));
+        assertEquals(expected.getSize(), directory.getSize(i));
+        assertEquals(expected.getCompressedSize(), directory.getCompressedSize(i));
+        assertArrayEquals(expected.getExtra(), directory.getExtra(i));
+        assertEquals(expected.getComment(), directory.getComment(i));
+        try (InputStream expectedStream = zipFile.getInputStream(expected);
+            InputStream actualStream = directory.openInputStream(i)) {
+          assertArrayEquals(
+              ByteStreams.toByteArray(expectedStream), ByteStreams.toByteArray(actualStream));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void nameEndsWithComparesTheRawName() throws IOException {
+    Path zip = tmp.getRoot().resolve("names.zip");
+    try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(zip))) {
+      out.putNextEntry(new ZipEntry("com/example/Foo.class"));
+      out.closeEntry();
+    }
+
+    MappedCentralDirectory directory = MappedCentralDirectory.map(zip);
+    assertTrue(directory.nameEndsWith(0, ".class"));
+    assertTrue(directory.nameEndsWith(0, "com/example/Foo.class"));
+    assertFalse(directory.nameEndsWith(0, ".java"));
+    assertFalse(directory.nameEndsWith(0, "/com/example/Foo.class"));
+  }
+
+  @Test(expected = ZipException.class)
+  public void rejectsFilesWhichAreNotZips() throws IOException {
+    Path notZip = tmp.getRoot().resolve("not.zip");
+    try (OutputStream out = Files.newOutputStream(notZip)) {
+      out.write("not a zip file".getBytes(StandardCharsets.UTF_8));
+    }
+    MappedCentralDirectory.map(notZip);
+  }
+
+  @Test
+  public void tryMapReturnsNullForFilesWhichAreNotZips() throws IOException {
+    Path notZip = tmp.getRoot().resolve("not.zip");
+    try (OutputStream out = Files.newOutputStream(notZip)) {
+      out.write("not a zip file".getBytes(StandardCharsets.UTF_8));
+    }
+    assertNull(MappedCentralDirectory.tryMap(notZip));
+  }
+}
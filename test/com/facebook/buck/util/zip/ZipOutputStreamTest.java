@@ -39,6 +39,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.hash.Hashing;
 import com.google.common.io.ByteStreams;
 import com.google.common.io.Resources;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -53,6 +54,8 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipException;
 import java.util.zip.ZipInputStream;
@@ -263,6 +266,98 @@ public class ZipOutputStreamTest {
       }
     }
 
+    @Test
+    public void rawEntriesShouldGenerateTheSameOutputAsCompressingInTheStream() throws IOException {
+      String packageName = getClass().getPackage().getName().replace('.', '/');
+      URL sample = Resources.getResource(packageName + "/macbeth.dat");
+      byte[] input = Resources.toByteArray(sample);
+
+      Path reference = Files.createTempFile("reference", ".zip");
+      try (CustomZipOutputStream out = ZipOutputStreams.newOutputStream(reference, mode)) {
+        out.putNextEntry(new CustomZipEntry("macbeth.dat"));
+        out.write(input);
+      }
+
+      ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+      Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+      try (DeflaterOutputStream deflaterOut = new DeflaterOutputStream(compressed, deflater)) {
+        deflaterOut.write(input);
+      } finally {
+        deflater.end();
+      }
+      CustomZipEntry entry = new CustomZipEntry("macbeth.dat");
+      entry.setCrc(Hashing.crc32().hashBytes(input).padToLong());
+      entry.setSize(input.length);
+      entry.setCompressedSize(compressed.size());
+      try (CustomZipOutputStream out = ZipOutputStreams.newOutputStream(output, mode)) {
+        out.putNextRawEntry(entry);
+        compressed.writeTo(out);
+      }
+
+      assertArrayEquals(Files.readAllBytes(reference), Files.readAllBytes(output));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rawEntriesMustBeAsLongAsTheirCompressedSize() throws IOException {
+      CustomZipEntry entry = new CustomZipEntry("raw");
+      entry.setCrc(0);
+      entry.setSize(10);
+      entry.setCompressedSize(10);
+      try (CustomZipOutputStream out = ZipOutputStreams.newOutputStream(output, mode)) {
+        out.putNextRawEntry(entry);
+        out.write(new byte[5]);
+      }
+    }
+
+    @Test
+    public void copiedEntriesShouldKeepTheirCompressedDataAndTakeHeadersFromTheNewEntry()
+        throws IOException {
+      String packageName = getClass().getPackage().getName().replace('.', '/');
+      URL sample = Resources.getResource(packageName + "/macbeth.dat");
+      byte[] input = Resources.toByteArray(sample);
+
+      // Compressed at a level we'd never pick, so recompressing would change the data.
+      Path source = Files.createTempFile("source", ".zip");
+      try (ZipOutputStream sourceOut = new ZipOutputStream(Files.newOutputStream(source))) {
+        sourceOut.setLevel(Deflater.BEST_SPEED);
+        ZipEntry deflated = new ZipEntry("macbeth.dat");
+        deflated.setTime(System.currentTimeMillis());
+        sourceOut.putNextEntry(deflated);
+        sourceOut.write(input);
+        ZipEntry stored = new ZipEntry("stored.dat");
+        stored.setMethod(ZipEntry.STORED);
+        stored.setSize(input.length);
+        stored.setCrc(Hashing.crc32().hashBytes(input).padToLong());
+        sourceOut.putNextEntry(stored);
+        sourceOut.write(input);
+      }
+
+      MappedCentralDirectory centralDirectory = MappedCentralDirectory.map(source);
+      try (CustomZipOutputStream out = ZipOutputStreams.newOutputStream(output, mode)) {
+        for (int i = 0; i < centralDirectory.getEntryCount(); i++) {
+          CustomZipEntry entry = new CustomZipEntry(centralDirectory.getName(i));
+          entry.setFakeTime();
+          out.copyEntry(centralDirectory, i, entry);
+        }
+      }
+
+      try (ZipFile sourceZip = new ZipFile(source.toFile());
+          ZipFile zip = new ZipFile(output.toFile())) {
+        for (String name : ImmutableList.of("macbeth.dat", "stored.dat")) {
+          ZipArchiveEntry sourceEntry = sourceZip.getEntry(name);
+          ZipArchiveEntry entry = zip.getEntry(name);
+          assertEquals(sourceEntry.getMethod(), entry.getMethod());
+          assertEquals(sourceEntry.getCrc(), entry.getCrc());
+          assertEquals(sourceEntry.getCompressedSize(), entry.getCompressedSize());
+          assertEquals(ZipConstants.getFakeTime() / 1000 * 1000, entry.getTime());
+          assertArrayEquals(
+              ByteStreams.toByteArray(sourceZip.getRawInputStream(sourceEntry)),
+              ByteStreams.toByteArray(zip.getRawInputStream(entry)));
+          assertArrayEquals(input, ByteStreams.toByteArray(zip.getInputStream(entry)));
+        }
+      }
+    }
+
     @Test
     public void packingALargeFileShouldGenerateTheSameOutputAsReferenceImpl() throws IOException {
       File reference = File.createTempFile("reference", ".zip");
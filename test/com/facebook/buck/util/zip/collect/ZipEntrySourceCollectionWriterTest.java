@@ -22,6 +22,10 @@ import com.facebook.buck.io.filesystem.TestProjectFilesystems;
 import com.facebook.buck.testutil.TemporaryPaths;
 import com.facebook.buck.testutil.integration.ProjectWorkspace;
 import com.facebook.buck.testutil.integration.TestDataHelper;
+import com.facebook.buck.util.zip.CustomZipEntry;
+import com.facebook.buck.util.zip.CustomZipOutputStream;
+import com.facebook.buck.util.zip.MappedCentralDirectory;
+import com.facebook.buck.util.zip.ZipOutputStreams;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.ImmutableSet;
@@ -125,6 +129,30 @@ public class ZipEntrySourceCollectionWriterTest {
         entries);
   }
 
+  @Test
+  public void copiedEntriesKeepTheirAttributes() throws IOException {
+    Path source = tmp.getRoot().resolve("source.zip");
+    try (CustomZipOutputStream out = ZipOutputStreams.newOutputStream(source)) {
+      CustomZipEntry entry = new CustomZipEntry("bin/tool");
+      entry.setExternalAttributes(0100755L << 16);
+      out.putNextEntry(entry);
+      out.write("#!/bin/sh".getBytes(StandardCharsets.UTF_8));
+    }
+
+    ZipEntrySourceCollectionBuilder builder =
+        new ZipEntrySourceCollectionBuilder(ImmutableSet.of(), OnDuplicateEntry.OVERWRITE);
+    builder.addZipFile(source);
+    Path output = tmp.newFolder("output").resolve("output.zip");
+    new ZipEntrySourceCollectionWriter(
+            TestProjectFilesystems.createProjectFilesystem(tmp.getRoot()))
+        .copyToZip(builder.build(), output);
+
+    MappedCentralDirectory copied = MappedCentralDirectory.map(output);
+    assertEquals(1, copied.getEntryCount());
+    assertEquals("bin/tool", copied.getName(0));
+    assertEquals(0100755L << 16, copied.getExternalAttributes(0));
+  }
+
   private ImmutableMultimap<String, String> readZipEntryContent(Path output) throws IOException {
     ImmutableMultimap.Builder<String, String> entryToContent = ImmutableMultimap.builder();
 
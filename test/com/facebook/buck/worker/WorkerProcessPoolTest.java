@@ -20,7 +20,9 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 import com.facebook.buck.util.Threads;
 import com.facebook.buck.util.function.ThrowingSupplier;
@@ -195,6 +197,27 @@ public class WorkerProcessPoolTest {
     assertThat(process2, is(not(process)));
   }
 
+  @Test
+  public void closedWorkerProcessesAreReplacedByFreshOnes()
+      throws InterruptedException, IOException {
+    WorkerProcessPool pool = createPool(1);
+
+    WorkerProcess process;
+    try (BorrowedWorkerProcess worker = pool.borrowWorkerProcess()) {
+      process = worker.get();
+      worker.closeWorkerProcess();
+    }
+    assertFalse(process.isAlive());
+
+    WorkerProcess process2;
+    try (BorrowedWorkerProcess worker = pool.borrowWorkerProcess()) {
+      process2 = worker.get();
+    }
+
+    assertThat(process2, is(not(process)));
+    assertTrue(process2.isAlive());
+  }
+
   @Test(timeout = WAIT_FOR_TEST_THREADS_TIMEOUT)
   public void notifiesWaitingThreadsWhenCleaningDeadProcesses() throws Exception {
     int maxWorkers = 2;
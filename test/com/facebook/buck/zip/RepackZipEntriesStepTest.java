@@ -17,20 +17,32 @@
 package com.facebook.buck.zip;
 
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.io.filesystem.TestProjectFilesystems;
 import com.facebook.buck.step.TestExecutionContext;
 import com.facebook.buck.testutil.TemporaryPaths;
+import com.facebook.buck.util.zip.CustomZipEntry;
+import com.facebook.buck.util.zip.CustomZipOutputStream;
+import com.facebook.buck.util.zip.MappedCentralDirectory;
 import com.facebook.buck.util.zip.ZipCompressionLevel;
+import com.facebook.buck.util.zip.ZipOutputStreams;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.io.ByteStreams;
 import com.google.common.io.Resources;
+import com.google.common.primitives.Bytes;
 import java.io.IOException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.Deflater;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipOutputStream;
 import org.junit.Before;
 import org.junit.Rule;
@@ -72,6 +84,30 @@ public class RepackZipEntriesStepTest {
     assertArrayEquals(expected, actual);
   }
 
+  @Test
+  public void entriesNotBeingRepackedAreCopiedWithoutRecompressingThem() throws Exception {
+    Path fastZipFile = parent.resolve("fast.zip");
+    try (ZipOutputStream stream = new ZipOutputStream(Files.newOutputStream(fastZipFile))) {
+      stream.setLevel(Deflater.BEST_SPEED);
+      stream.putNextEntry(new ZipEntry("file"));
+      String packageName = getClass().getPackage().getName().replace('.', '/');
+      URL sample = Resources.getResource(packageName + "/sample-bytes.dat");
+      stream.write(Resources.toByteArray(sample));
+    }
+
+    Path out = parent.resolve("output.zip");
+    RepackZipEntriesStep step =
+        new RepackZipEntriesStep(filesystem, fastZipFile, out, ImmutableSet.of("other"));
+    step.execute(TestExecutionContext.newInstance());
+
+    try (ZipFile expected = new ZipFile(fastZipFile.toFile());
+        ZipFile actual = new ZipFile(out.toFile())) {
+      assertEquals(
+          expected.getEntry("file").getCompressedSize(),
+          actual.getEntry("file").getCompressedSize());
+    }
+  }
+
   @Test
   public void repackWithHigherCompressionResultsInFewerBytes() throws Exception {
     Path out = parent.resolve("output.zip");
@@ -95,4 +131,54 @@ public class RepackZipEntriesStepTest {
 
     assertTrue(expected.length < actual.length);
   }
+
+  @Test
+  public void externalAttributesAreKept() throws Exception {
+    Path executableZipFile = parent.resolve("executable.zip");
+    long executable = 0100755L << 16;
+    try (CustomZipOutputStream stream = ZipOutputStreams.newOutputStream(executableZipFile)) {
+      for (String name : ImmutableList.of("copied", "repacked")) {
+        CustomZipEntry entry = new CustomZipEntry(name);
+        entry.setExternalAttributes(executable);
+        stream.putNextEntry(entry);
+        stream.write(name.getBytes(StandardCharsets.UTF_8));
+        stream.closeEntry();
+      }
+    }
+
+    Path out = parent.resolve("output.zip");
+    RepackZipEntriesStep step =
+        new RepackZipEntriesStep(filesystem, executableZipFile, out, ImmutableSet.of("repacked"));
+    step.execute(TestExecutionContext.newInstance());
+
+    MappedCentralDirectory actual = MappedCentralDirectory.map(out);
+    assertEquals(2, actual.getEntryCount());
+    assertEquals(executable, actual.getExternalAttributes(0));
+    assertEquals(executable, actual.getExternalAttributes(1));
+  }
+
+  @Test
+  public void zipsWhichCantBeMappedAreRepackedByStreamingThem() throws Exception {
+    // Without its central directory, the zip can only be read front to back.
+    byte[] bytes = Files.readAllBytes(zipFile);
+    byte[] centralDirectorySignature = {'P', 'K', 1, 2};
+    int centralDirectory = Bytes.indexOf(bytes, centralDirectorySignature);
+    Path truncatedZipFile = parent.resolve("truncated.zip");
+    Files.write(truncatedZipFile, Arrays.copyOf(bytes, centralDirectory));
+
+    Path out = parent.resolve("output.zip");
+    RepackZipEntriesStep step =
+        new RepackZipEntriesStep(
+            filesystem, truncatedZipFile, out, ImmutableSet.of("file"), ZipCompressionLevel.NONE);
+    step.execute(TestExecutionContext.newInstance());
+
+    try (ZipFile expected = new ZipFile(zipFile.toFile());
+        ZipFile actual = new ZipFile(out.toFile())) {
+      ZipEntry entry = actual.getEntry("file");
+      assertEquals(ZipEntry.STORED, entry.getMethod());
+      assertArrayEquals(
+          ByteStreams.toByteArray(expected.getInputStream(expected.getEntry("file"))),
+          ByteStreams.toByteArray(actual.getInputStream(entry)));
+    }
+  }
 }
@@ -34,8 +34,10 @@ import java.io.PrintStream;
 import java.security.PrivateKey;
 import java.security.cert.X509Certificate;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 /**
@@ -212,7 +214,21 @@ public final class ApkBuilder implements IArchiveBuilder {
    */
   public ApkBuilder(File apkFile, File resFile, File dexFile, PrivateKey key,
       X509Certificate certificate, PrintStream verboseStream) throws ApkCreationException {
-    init(apkFile, resFile, dexFile, key, certificate, verboseStream);
+    init(apkFile, resFile, dexFile, key, certificate, verboseStream, 1, Collections.emptySet());
+  }
+
+  /**
+   * Creates a new instance that aligns the data of uncompressed entries while it writes them.
+   *
+   * @param alignment the alignment in bytes of the data of uncompressed entries.
+   * @param entriesToCompress the names of the entries to compress at the highest level, even if
+   *                          they are uncompressed in the archives they are copied from.
+   * @see #ApkBuilder(File, File, File, PrivateKey, X509Certificate, PrintStream)
+   */
+  public ApkBuilder(File apkFile, File resFile, File dexFile, PrivateKey key,
+      X509Certificate certificate, PrintStream verboseStream, int alignment,
+      Set<String> entriesToCompress) throws ApkCreationException {
+    init(apkFile, resFile, dexFile, key, certificate, verboseStream, alignment, entriesToCompress);
   }
 
 
@@ -222,7 +238,8 @@ public final class ApkBuilder implements IArchiveBuilder {
    * @see #ApkBuilder(File, File, File, PrivateKey, X509Certificate, PrintStream)
    */
   private void init(File apkFile, File resFile, File dexFile, PrivateKey key,
-      X509Certificate certificate, PrintStream verboseStream) throws ApkCreationException {
+      X509Certificate certificate, PrintStream verboseStream, int alignment,
+      Set<String> entriesToCompress) throws ApkCreationException {
 
     try {
       checkOutputFile(mApkFile = apkFile);
@@ -236,7 +253,7 @@ public final class ApkBuilder implements IArchiveBuilder {
 
       mBuilder = new SignedJarBuilder(
           new FileOutputStream(mApkFile, false /* append */), key,
-          certificate);
+          certificate, alignment, entriesToCompress);
 
       verbosePrintln("Packaging %s", mApkFile.getName());
 
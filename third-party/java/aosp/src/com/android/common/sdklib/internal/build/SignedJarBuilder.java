@@ -35,6 +35,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
 import java.security.DigestOutputStream;
 import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
@@ -44,12 +47,17 @@ import java.security.Signature;
 import java.security.SignatureException;
 import java.security.cert.X509Certificate;
 import java.util.Base64;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.GregorianCalendar;
 import java.util.Map;
+import java.util.Set;
 import java.util.jar.Attributes;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.jar.JarOutputStream;
 import java.util.jar.Manifest;
+import java.util.zip.Deflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
@@ -63,6 +71,15 @@ public class SignedJarBuilder {
   private static final String DIGEST_ALGORITHM = "SHA1";
   private static final String DIGEST_ATTR = "SHA1-Digest";
   private static final String DIGEST_MANIFEST_ATTR = "SHA1-Digest-Manifest";
+  private static final int COMPRESSION_LEVEL = 4;
+
+  /** The id of the extra field that pads local headers, as written by apksigner. */
+  private static final short ALIGNMENT_EXTRA_ID = (short) 0xd935;
+  /** The id of the extra field that {@link JarOutputStream} adds to the first entry. */
+  private static final short JAR_MAGIC_ID = (short) 0xcafe;
+  /** Entries from before this time would get an extended timestamp field when written. */
+  private static final long MIN_DOS_TIME =
+      new GregorianCalendar(1980, Calendar.JANUARY, 2).getTimeInMillis();
 
   /** Write to another stream and also feed it to the Signature object. */
   private static class SignatureOutputStream extends FilterOutputStream {
@@ -101,7 +118,35 @@ public class SignedJarBuilder {
     }
   }
 
+  /** Counts the bytes written to another stream, to find where the next entry starts. */
+  private static class CountingOutputStream extends FilterOutputStream {
+    private long mCount = 0;
+
+    public CountingOutputStream(OutputStream out) {
+      super(out);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      out.write(b);
+      mCount++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      out.write(b, off, len);
+      mCount += len;
+    }
+
+    public long getCount() {
+      return mCount;
+    }
+  }
+
   private JarOutputStream mOutputJar;
+  private CountingOutputStream mOutputCounter;
+  private int mAlignment;
+  private Set<String> mEntriesToCompress;
   private PrivateKey mKey;
   private X509Certificate mCertificate;
   private Manifest mManifest;
@@ -123,8 +168,30 @@ public class SignedJarBuilder {
    */
   public SignedJarBuilder(OutputStream out, PrivateKey key, X509Certificate certificate)
       throws IOException, NoSuchAlgorithmException {
-    mOutputJar = new JarOutputStream(new BufferedOutputStream(out));
-    mOutputJar.setLevel(4);
+    this(out, key, certificate, 1, Collections.emptySet());
+  }
+
+  /**
+   * Creates a {@link SignedJarBuilder} that also aligns the data of uncompressed entries as it
+   * writes them, so that the archive doesn't need to be zipaligned, and compresses some entries
+   * even if they are uncompressed in the archives they are copied from.
+   * @param out the {@link OutputStream} where to write the Jar archive.
+   * @param key the {@link PrivateKey} used to sign the archive, or <code>null</code>.
+   * @param certificate the {@link X509Certificate} used to sign the archive, or
+   * <code>null</code>.
+   * @param alignment the alignment in bytes of the data of uncompressed entries.
+   * @param entriesToCompress the names of the entries to compress at the highest level.
+   * @throws IOException
+   * @throws NoSuchAlgorithmException
+   */
+  public SignedJarBuilder(OutputStream out, PrivateKey key, X509Certificate certificate,
+      int alignment, Set<String> entriesToCompress)
+      throws IOException, NoSuchAlgorithmException {
+    mOutputCounter = new CountingOutputStream(new BufferedOutputStream(out));
+    mOutputJar = new JarOutputStream(mOutputCounter);
+    mOutputJar.setLevel(COMPRESSION_LEVEL);
+    mAlignment = alignment;
+    mEntriesToCompress = entriesToCompress;
     mKey = key;
     mCertificate = certificate;
 
@@ -192,16 +259,29 @@ public class SignedJarBuilder {
         }
 
         JarEntry newEntry;
+        boolean compress = mEntriesToCompress.contains(name);
 
         // Preserve the STORED method of the input entry.
-        if (entry.getMethod() == JarEntry.STORED) {
-          newEntry = new JarEntry(entry);
+        if (entry.getMethod() == JarEntry.STORED && !compress) {
+          // Only keep what the local header needs, so that its length is known when aligning.
+          newEntry = new JarEntry(name);
+          newEntry.setMethod(JarEntry.STORED);
+          newEntry.setSize(entry.getSize());
+          newEntry.setCompressedSize(entry.getCompressedSize());
+          newEntry.setCrc(entry.getCrc());
+          newEntry.setTime(Math.max(entry.getTime(), MIN_DOS_TIME));
         } else {
           // Create a new entry so that the compressed len is recomputed.
           newEntry = new JarEntry(name);
         }
 
+        if (compress) {
+          mOutputJar.setLevel(Deflater.BEST_COMPRESSION);
+        }
         writeEntry(zis, newEntry);
+        if (compress) {
+          mOutputJar.setLevel(COMPRESSION_LEVEL);
+        }
 
         zis.closeEntry();
       }
@@ -263,6 +343,10 @@ public class SignedJarBuilder {
    * @throws IOException
    */
   private void writeEntry(InputStream input, JarEntry entry) throws IOException {
+    if (entry.getMethod() == JarEntry.STORED && mAlignment > 1) {
+      entry.setExtra(getAlignmentExtra(entry.getName()));
+    }
+
     // add the entry to the jar archive
     mOutputJar.putNextEntry(entry);
 
@@ -291,6 +375,28 @@ public class SignedJarBuilder {
     }
   }
 
+  /**
+   * Returns the extra field that pads the local header of the next entry, so that its data starts
+   * at a multiple of the alignment. This is the field apksigner writes, so it keeps the alignment
+   * when it signs the archive.
+   */
+  private byte[] getAlignmentExtra(String name) {
+    long offset = mOutputCounter.getCount();
+    // The first entry also needs the field JarOutputStream would add, which is added here so that
+    // it is accounted for.
+    int magicLength = offset == 0 ? 4 : 0;
+    long fieldEnd =
+        offset + ZipEntry.LOCHDR + name.getBytes(StandardCharsets.UTF_8).length + magicLength + 6;
+    int padding = (int) ((mAlignment - fieldEnd % mAlignment) % mAlignment);
+    ByteBuffer extra =
+        ByteBuffer.allocate(magicLength + 6 + padding).order(ByteOrder.LITTLE_ENDIAN);
+    if (magicLength != 0) {
+      extra.putShort(JAR_MAGIC_ID).putShort((short) 0);
+    }
+    extra.putShort(ALIGNMENT_EXTRA_ID).putShort((short) (2 + padding)).putShort((short) mAlignment);
+    return extra.array();
+  }
+
   /** Writes a .SF file with a digest to the manifest. */
   private void writeSignatureFile(SignatureOutputStream out)
       throws IOException, GeneralSecurityException {